@@ -26,6 +26,8 @@ package com.kamikaze.pfordelta;
 import java.nio.IntBuffer;
 import java.util.Arrays;
 
+import me.lemire.integercompression.BitUnpacker;
+
 /**
  * Implementation of the optimized PForDelta algorithm for sorted integer
  * arrays. The basic ideas are based on
@@ -81,8 +83,19 @@ public class LCPForDelta {
                 0x0fffffff, 0x1fffffff, 0x3fffffff, 0x7fffffff, 0xffffffff };
 
         private int[] compBuffer; // buffer to hold the compressed data
+        // working areas for the exceptions (reused from one block to the
+        // next)
+        private int[] expPosBuffer = new int[0];
+        private int[] expHighBitsBuffer = new int[0];
 
-        protected int[] getCompBuffer() {
+        /**
+         * Buffer holding the block compressed by the last call to compress
+         * (or compressOneBlockCore). The buffer is reused: its content is
+         * overwritten by the next call.
+         * 
+         * @return the compressed block
+         */
+        public int[] getCompBuffer() {
                 return compBuffer;
         }
 
@@ -98,36 +111,82 @@ public class LCPForDelta {
          *                the block to be compressed
          * @param blockSize
          *                the block size
-         * @return the compressed block
+         * @return the size of the compressed block (the number of ints), the
+         *         compressed block being available through getCompBuffer
          */
         public int compress(int[] inBlock, int blockSize) {
-                // find the best b that can lead to the smallest overall
-                // compressed size
+                // compress the block using the best b
+                return compressOneBlockCore(inBlock, blockSize,
+                        findBestB(inBlock, 0, blockSize));
+        }
+
+        /**
+         * Compress one block of blockSize integers using PForDelta with the
+         * optimal parameter b. The compressed block is written to a
+         * caller-supplied array: neither the block nor the working areas are
+         * allocated (after the first call).
+         * 
+         * @param in
+         *                the input array
+         * @param inOffset
+         *                where the block starts in the input array
+         * @param blockSize
+         *                the block size
+         * @param out
+         *                the output array, with room for
+         *                maxCompressedSize(blockSize) ints
+         * @param outOffset
+         *                where the compressed block starts in the output
+         *                array
+         * @return the size of the compressed block (the number of ints)
+         */
+        public int compress(int[] in, int inOffset, int blockSize, int[] out,
+                int outOffset) {
+                return compressOneBlockCore(in, inOffset, blockSize,
+                        findBestB(in, inOffset, blockSize), out, outOffset);
+        }
+
+        /**
+         * Upper bound on the size of a compressed block
+         * 
+         * @param blockSize
+         *                the block size
+         * @return the maximal compressed size in ints
+         */
+        public static int maxCompressedSize(int blockSize) {
+                return (HEADER_SIZE + blockSize
+                        * (MAX_BITS + MAX_BITS + MAX_BITS) + 32) >>> 5;
+        }
+
+        // find the b that can lead to the smallest overall compressed size
+        private static int findBestB(int[] in, int inOffset, int blockSize) {
                 int currentB = POSSIBLE_B[0];
                 int tmpB = currentB;
-                boolean hasBigNum = checkBigNumbers(inBlock, blockSize,
+                boolean hasBigNum = checkBigNumbers(in, inOffset, blockSize,
                         POSSIBLE_B[POSSIBLE_B.length - 1]);
                 if (hasBigNum) {
                         currentB = 4;
                 } else {
-                        int optSize = estimateCompressedSize(inBlock,
+                        int optSize = estimateCompressedSize(in, inOffset,
                                 blockSize, tmpB);
                         for (int i = 1; i < POSSIBLE_B.length; ++i) {
                                 tmpB = POSSIBLE_B[i];
-                                int curSize = estimateCompressedSize(inBlock,
-                                        blockSize, tmpB);
+                                int curSize = estimateCompressedSize(in,
+                                        inOffset, blockSize, tmpB);
                                 if (curSize < optSize) {
                                         currentB = tmpB;
                                         optSize = curSize;
                                 }
                         }
                 }
+                return currentB;
+        }
 
-                // compress the block using the above best b
-                int compressedSizeInInts = compressOneBlockCore(inBlock,
-                        blockSize, currentB);
-
-                return compressedSizeInInts;
+        // compBuffer if it has the requested size, a new buffer otherwise
+        private int[] reuseCompBuffer(int sizeInInts) {
+                if (compBuffer == null || compBuffer.length < sizeInInts)
+                        return new int[sizeInInts];
+                return compBuffer;
         }
 
         /**
@@ -144,26 +203,36 @@ public class LCPForDelta {
          */
         public int compressOneBlockCore(int[] inputBlock, int blockSize,
                 int bits)  {
+                int[] tmpCompBuffer = reuseCompBuffer(maxCompressedSize(blockSize));
+                int compressedSizeInInts = compressOneBlockCore(inputBlock, 0,
+                        blockSize, bits, tmpCompBuffer, 0);
+                compBuffer = tmpCompBuffer;
+                return compressedSizeInInts;
+        }
+
+        private int compressOneBlockCore(int[] in, int inOffset,
+                int blockSize, int bits, int[] out, int outIndex) {
                 int outputOffset = HEADER_SIZE;
                 int expUpperBound = 1 << bits;
                 int expNum = 0;
-                int maxCompBitSize = HEADER_SIZE + blockSize
-                        * (MAX_BITS + MAX_BITS + MAX_BITS) + 32;
-                int[] tmpCompBuffer = new int[(maxCompBitSize >>> 5)];
-
-                int[] expPosBuffer = new int[blockSize];
-                int[] expHighBitsBuffer = new int[blockSize];
+                if (expPosBuffer.length < blockSize) {
+                        expPosBuffer = new int[blockSize];
+                        expHighBitsBuffer = new int[blockSize];
+                }
 
+                // the b-bit slots are written with bitwise ORs
+                Arrays.fill(out, outIndex, outIndex
+                        + ((HEADER_SIZE + bits * blockSize + 31) >>> 5), 0);
                 // compress the b-bit slots
                 for (int i = 0; i < blockSize; ++i) {
-                        int value = inputBlock[i];
+                        int value = in[inOffset + i];
                         if (value < expUpperBound) {
-                                writeBits(tmpCompBuffer, value, outputOffset,
+                                writeBits(out, outIndex, value, outputOffset,
                                         bits);
                         } else // exp
                         {
                                 // store the lower bits-bits of the exception
-                                writeBits(tmpCompBuffer, value & MASK[bits],
+                                writeBits(out, outIndex, value & MASK[bits],
                                         outputOffset, bits);
                                 // write the position of exception
                                 expPosBuffer[expNum] = i;
@@ -176,29 +245,24 @@ public class LCPForDelta {
                         outputOffset += bits;
                 }
 
-                tmpCompBuffer[0] = ((bits & MASK[POSSIBLE_B_BITS]) << (31 - POSSIBLE_B_BITS))
+                out[outIndex] = ((bits & MASK[POSSIBLE_B_BITS]) << (31 - POSSIBLE_B_BITS))
                         | (expNum & MASK[31 - POSSIBLE_B_BITS]);
 
                 // compress exceptions
                 if (expNum > 0) {
                         int compressedBitSize;
 
-                        compressedBitSize = compressBlockByS16(tmpCompBuffer,
-                                outputOffset, expPosBuffer, expNum, blockSize,
-                                inputBlock);
+                        compressedBitSize = compressBlockByS16(out, outIndex,
+                                outputOffset, expPosBuffer, expNum);
                         outputOffset += compressedBitSize;
 
-                        compressedBitSize = compressBlockByS16(tmpCompBuffer,
-                                outputOffset, expHighBitsBuffer, expNum,
-                                blockSize, inputBlock);
+                        compressedBitSize = compressBlockByS16(out, outIndex,
+                                outputOffset, expHighBitsBuffer, expNum);
                         outputOffset += compressedBitSize;
                 }
 
                 // discard the redundant parts in the tmpCompressedBlock
-                int compressedSizeInInts = (outputOffset + 31) >>> 5;
-
-                compBuffer = tmpCompBuffer;
-                return compressedSizeInInts;
+                return (outputOffset + 31) >>> 5;
         }
 
         protected int compressOneBlockCore2(int[] inputBlock, int blockSize,
@@ -208,7 +272,10 @@ public class LCPForDelta {
                 int expNum = 0;
                 int maxCompBitSize = HEADER_SIZE + blockSize
                         * (MAX_BITS + MAX_BITS + MAX_BITS) + 32;
-                int[] tmpCompBuffer = new int[(maxCompBitSize >>> 5)];
+                int[] tmpCompBuffer = reuseCompBuffer(maxCompBitSize >>> 5);
+                // the b-bit slots are written with bitwise ORs
+                Arrays.fill(tmpCompBuffer, 0,
+                        (outputOffset + blockSize * bits + 31) >>> 5, 0);
 
                 int[] expPosBuffer = new int[blockSize];
                 int[] expHighBitsBuffer = new int[blockSize];
@@ -310,6 +377,70 @@ public class LCPForDelta {
                 }
         }
 
+        /**
+         * Decompress one block using PForDelta, reading from and writing to
+         * caller-supplied arrays. The working areas are reused from one call
+         * to the next.
+         * 
+         * @param in
+         *                the input array
+         * @param inOffset
+         *                where the compressed block starts in the input
+         *                array
+         * @param out
+         *                the output array
+         * @param outOffset
+         *                where the decompressed block starts in the output
+         *                array
+         * @param blockSize
+         *                the number of elements in the decompressed block
+         * @return the compressed size in ints
+         */
+        public int decompress(int[] in, int inOffset, int[] out,
+                int outOffset, int blockSize) {
+                int expNum = in[inOffset] & MASK[31 - POSSIBLE_B_BITS];
+                int bits = (in[inOffset] >>> (31 - POSSIBLE_B_BITS)) & (0x1f);
+                if (expPosBuffer.length < blockSize) {
+                        expPosBuffer = new int[blockSize];
+                        expHighBitsBuffer = new int[blockSize];
+                }
+
+                // decompress the b-bit slots
+                int offset = HEADER_SIZE;
+                if (bits == 0) {
+                        Arrays.fill(out, outOffset, outOffset + blockSize, 0);
+                } else if ((blockSize & 31) == 0) {
+                        for (int i = 0; i < blockSize; i += 32) {
+                                BitUnpacker.unpack(in, inOffset
+                                        + (offset >>> 5), out, outOffset + i,
+                                        bits);
+                                offset += bits << 5;
+                        }
+                } else {
+                        for (int i = 0; i < blockSize; i++) {
+                                out[outOffset + i] = readBits(in, inOffset,
+                                        offset, bits);
+                                offset += bits;
+                        }
+                }
+
+                // decompress exceptions
+                if (expNum > 0) {
+                        offset += decompressBlockByS16(expPosBuffer, in,
+                                inOffset, offset, expNum);
+                        offset += decompressBlockByS16(expHighBitsBuffer, in,
+                                inOffset, offset, expNum);
+
+                        for (int i = 0; i < expNum; i++) {
+                                int curExpPos = outOffset + expPosBuffer[i];
+                                int curHighBits = expHighBitsBuffer[i];
+                                out[curExpPos] = (out[curExpPos] & MASK[bits])
+                                        | ((curHighBits & MASK[32 - bits]) << bits);
+                        }
+                }
+                return (offset + 31) >>> 5;
+        }
+
         protected static void decompressOneBlockWithSize(int[] decompBlock,
                 int[] inBlock, int blockSize, int[] expPosBuffer,
                 int[] expHighBitsBuffer, int inBlockLen) {
@@ -358,8 +489,10 @@ public class LCPForDelta {
                 if (bits == 0) {
                         Arrays.fill(decompBlock, 0, inBlockLen, 0);
                 } else {
-                        PForDeltaUnpack128WIthIntBuffer.unpack(decompBlock,
-                                inBlock, bits);
+                        // expPosBuffer is not filled yet: it serves as the
+                        // working area of the unpacking
+                        BitUnpacker.unpack128(inBlock, decompBlock, 0, bits,
+                                expPosBuffer);
                 }
 
                 if (expNum > 0) {
@@ -399,13 +532,18 @@ public class LCPForDelta {
          */
         public static int estimateCompressedSize(int[] inputBlock,
                 int blockSize, int bits)  {
+                return estimateCompressedSize(inputBlock, 0, blockSize, bits);
+        }
+
+        private static int estimateCompressedSize(int[] in, int inOffset,
+                int blockSize, int bits) {
                 int maxNoExp = (1 << bits) - 1;
                 // Size of the header and the bits-bit slots
                 int outputOffset = HEADER_SIZE + bits * blockSize;
                 int expNum = 0;
 
-                for (int i = 0; i < blockSize; ++i) {
-                        if (inputBlock[i] > maxNoExp) {
+                for (int i = inOffset; i < inOffset + blockSize; ++i) {
+                        if (in[i] > maxNoExp) {
                                 expNum++;
                         }
                 }
@@ -429,9 +567,14 @@ public class LCPForDelta {
          */
         public static boolean checkBigNumbers(int[] inputBlock, int blockSize,
                 int bits)  {
+                return checkBigNumbers(inputBlock, 0, blockSize, bits);
+        }
+
+        private static boolean checkBigNumbers(int[] in, int inOffset,
+                int blockSize, int bits) {
                 int maxNoExp = (1 << bits) - 1;
-                for (int i = 0; i < blockSize; ++i) {
-                        if (inputBlock[i] > maxNoExp)
+                for (int i = inOffset; i < inOffset + blockSize; ++i) {
+                        if (in[i] > maxNoExp)
                                 return true;
                 }
                 return false;
@@ -468,16 +611,19 @@ public class LCPForDelta {
                 final int[] outDecompSlots, final int[] inCompBlock,
                 final int blockSize, final int bits) {
                 int compressedBitSize = 0;
-                PForDeltaUnpack128.unpack(outDecompSlots, inCompBlock, bits);
+                for (int i = 0; i < blockSize; i += 32)
+                        BitUnpacker.unpack(inCompBlock, (HEADER_SIZE >>> 5)
+                                + (i >>> 5) * bits, outDecompSlots, i, bits);
                 compressedBitSize = bits * blockSize;
                 return compressedBitSize;
         }
 
         protected static int decompressBBitSlotsWithHardCodesWithIntBuffer(
                 final int[] outDecompSlots, final IntBuffer inCompBlock,
-                final int blockSize, final int bits) {
-                PForDeltaUnpack128WIthIntBuffer.unpack(outDecompSlots,
-                        inCompBlock, bits);
+                final int blockSize, final int bits, final int[] buffer) {
+                for (int i = 0; i < blockSize; i += 32)
+                        BitUnpacker.unpack(inCompBlock, outDecompSlots, i,
+                                bits, buffer);
                 return bits * blockSize;
         }
 
@@ -510,6 +656,21 @@ public class LCPForDelta {
                 return compressedBitSize;
         }
 
+        // Simple16 compression of the exceptions starting at out[base]
+        private static int compressBlockByS16(int[] outCompBlock, int base,
+                int outStartOffsetInBits, int[] inBlock, int blockSize) {
+                int outOffset = (outStartOffsetInBits + 31) >>> 5;
+                int num, inOffset = 0, numLeft;
+                for (numLeft = blockSize; numLeft > 0; numLeft -= num) {
+                        num = Simple16WithHardCodes.s16Compress(outCompBlock,
+                                base + outOffset, inBlock, inOffset, numLeft,
+                                blockSize, blockSize, null);
+                        outOffset++;
+                        inOffset += num;
+                }
+                return (outOffset << 5) - outStartOffsetInBits;
+        }
+
         /**
          * Decompress a block of blockSize integers using Simple16 algorithm
          * 
@@ -538,6 +699,21 @@ public class LCPForDelta {
                 return compressedBitSize;
         }
 
+        // Simple16 decompression with the input starting at in[base]
+        private static int decompressBlockByS16(int[] outDecompBlock,
+                int[] inCompBlock, int base, int inStartOffsetInBits,
+                int blockSize) {
+                int inOffset = (inStartOffsetInBits + 31) >>> 5;
+                int num, outOffset = 0, numLeft;
+                for (numLeft = blockSize; numLeft > 0; numLeft -= num) {
+                        num = Simple16.s16Decompress(outDecompBlock, outOffset,
+                                inCompBlock, base + inOffset, numLeft);
+                        outOffset += num;
+                        inOffset++;
+                }
+                return (inOffset << 5) - inStartOffsetInBits;
+        }
+
         protected static void decompressBlockByS16WithIntBuffer(
                 final int[] outDecompBlock, final IntBuffer inCompBlock,
                 final int blockSize) {
@@ -590,6 +766,20 @@ public class LCPForDelta {
                 }
         }
 
+        // same as writeBits with the output starting at out[base]
+        private static final void writeBits(int[] out, int base, int val,
+                int outOffset, int bits) {
+                if (bits == 0)
+                        return;
+                final int index = base + (outOffset >>> 5);
+                final int skip = outOffset & 0x1f;
+                val &= (0xffffffff >>> (32 - bits));
+                out[index] |= (val << skip);
+                if (32 - skip < bits) {
+                        out[index + 1] |= (val >>> (32 - skip));
+                }
+        }
+
         /**
          * Read a certain number of bits of an integer into an integer array
          * starting from the given start offset
@@ -617,6 +807,18 @@ public class LCPForDelta {
                 return val & (0xffffffff >>> (32 - bits));
         }
 
+        // same as readBits with the input starting at in[base]
+        private static final int readBits(int[] in, final int base,
+                final int inOffset, final int bits) {
+                final int index = base + (inOffset >>> 5);
+                final int skip = inOffset & 0x1f;
+                int val = in[index] >>> skip;
+                if (32 - skip < bits) {
+                        val |= (in[index + 1] << (32 - skip));
+                }
+                return val & (0xffffffff >>> (32 - bits));
+        }
+
         protected static final int readBitsWithBuffer(int[] in,
                 final int inOffset, final int bits) {
                 final int index = inOffset >>> 5;
@@ -2,6 +2,8 @@ package com.kamikaze.pfordelta;
 
 import java.util.Arrays;
 
+import me.lemire.integercompression.BitUnpacker;
+
 /**
  * This is a version of the  kamikaze PForDelta library that
  * was slightly cleaned up by D. Lemire. It is included in the
@@ -69,25 +71,51 @@ public class PForDelta {
          */
         public static int[] compressOneBlockOpt(final int[] inBlock,
                 int blockSize) {
+                final int[] outBlock = new int[maxCompressedSize(blockSize)];
+                final int compressedSizeInInts = compressOneBlockOpt(inBlock,
+                        0, blockSize, outBlock, 0, new int[blockSize * 2]);
+                return Arrays.copyOf(outBlock, compressedSizeInInts);
+        }
+
+        /**
+         * Compress one block of blockSize integers using PForDelta with the
+         * optimal parameter b. The compressed block is written to a
+         * caller-supplied array and nothing is allocated.
+         * 
+         * @param in
+         *                the input array
+         * @param inOffset
+         *                where the block starts in the input array
+         * @param blockSize
+         *                the block size
+         * @param out
+         *                the output array, with room for
+         *                maxCompressedSize(blockSize) ints
+         * @param outOffset
+         *                where the compressed block starts in the output
+         *                array
+         * @param expAux
+         *                working area of at least 2 * blockSize ints
+         * @return the compressed size in ints
+         */
+        public static int compressOneBlockOpt(final int[] in, int inOffset,
+                int blockSize, int[] out, int outOffset, int[] expAux) {
                 // find the best b that may lead to the smallest overall
                 // compressed size
                 int currentB = POSSIBLE_B[0];
-                int[] outBlock = null;
                 int tmpB = currentB;
                 // deal with the large exception cases
-                boolean hasBigNum = checkBigNumbers(inBlock,
+                boolean hasBigNum = checkBigNumbers(in, inOffset,
                         POSSIBLE_B[POSSIBLE_B.length - 1], blockSize);
                 if (hasBigNum) {
                         currentB = 4;
-                        System.out.println("has big num and the currentB is: "
-                                + currentB);
                 } else {
-                        int optSize = estimateCompressedSize(inBlock, tmpB,
-                                blockSize);
+                        int optSize = estimateCompressedSize(in, inOffset,
+                                tmpB, blockSize);
                         for (int i = 1; i < POSSIBLE_B.length; ++i) {
                                 tmpB = POSSIBLE_B[i];
-                                int curSize = estimateCompressedSize(inBlock,
-                                        tmpB, blockSize);
+                                int curSize = estimateCompressedSize(in,
+                                        inOffset, tmpB, blockSize);
                                 if (curSize < optSize) {
                                         currentB = tmpB;
                                         optSize = curSize;
@@ -96,9 +124,20 @@ public class PForDelta {
                 }
 
                 // compress the block using the above best b
-                outBlock = compressOneBlock(inBlock, currentB, blockSize);
+                return compressOneBlock(in, inOffset, currentB, blockSize,
+                        out, outOffset, expAux);
+        }
 
-                return outBlock;
+        /**
+         * Upper bound on the size of a compressed block
+         * 
+         * @param blockSize
+         *                the block size
+         * @return the maximal compressed size in ints
+         */
+        public static int maxCompressedSize(int blockSize) {
+                return (HEADER_SIZE + blockSize
+                        * (MAX_BITS + MAX_BITS + MAX_BITS) + 32) >>> 5;
         }
 
         /**
@@ -151,6 +190,65 @@ public class PForDelta {
                 return offset;
         }
 
+        /**
+         * Decompress one block using PForDelta, reading from and writing to
+         * caller-supplied arrays. Nothing is allocated.
+         * 
+         * @param out
+         *                the output array
+         * @param outOffset
+         *                where the decompressed block starts in the output
+         *                array
+         * @param in
+         *                the input array
+         * @param inOffset
+         *                where the compressed block starts in the input
+         *                array
+         * @param blockSize
+         *                the number of elements in the decompressed block
+         * @param expAux
+         *                working area of at least 2 * blockSize ints
+         * @return the compressed size in ints
+         */
+        public static int decompressOneBlock(int[] out, int outOffset,
+                int[] in, int inOffset, int blockSize, int[] expAux) {
+                int expNum = in[inOffset] & 0x3ff;
+                int bits = (in[inOffset] >>> 10) & (0x1f);
+
+                // decompress the b-bit slots
+                int offset = HEADER_SIZE;
+                if (bits == 0) {
+                        Arrays.fill(out, outOffset, outOffset + blockSize, 0);
+                } else if ((blockSize & 31) == 0) {
+                        for (int i = 0; i < blockSize; i += 32) {
+                                BitUnpacker.unpack(in, inOffset
+                                        + (offset >>> 5), out, outOffset + i,
+                                        bits);
+                                offset += bits << 5;
+                        }
+                } else {
+                        for (int i = 0; i < blockSize; i++) {
+                                out[outOffset + i] = readBits(in, inOffset,
+                                        offset, bits);
+                                offset += bits;
+                        }
+                }
+
+                // decompress exceptions
+                if (expNum > 0) {
+                        offset += decompressBlockByS16(expAux, in, inOffset,
+                                offset, expNum * 2);
+
+                        for (int i = 0; i < expNum; i++) {
+                                int curExpPos = outOffset + expAux[i];
+                                int curHighBits = expAux[i + expNum];
+                                out[curExpPos] = (out[curExpPos] & MASK[bits])
+                                        | ((curHighBits & MASK[32 - bits]) << bits);
+                        }
+                }
+                return (offset + 31) >>> 5;
+        }
+
         /**
          * Estimate the compressed size in ints of a block
          * 
@@ -164,13 +262,18 @@ public class PForDelta {
          */
         public static int estimateCompressedSize(int[] inputBlock, int bits,
                 int blockSize)  {
+                return estimateCompressedSize(inputBlock, 0, bits, blockSize);
+        }
+
+        private static int estimateCompressedSize(int[] in, int inOffset,
+                int bits, int blockSize) {
                 int maxNoExp = (1 << bits) - 1;
                 // Size of the header and the bits-bit slots
                 int outputOffset = HEADER_SIZE + bits * blockSize;
                 int expNum = 0;
 
-                for (int i = 0; i < blockSize; ++i) {
-                        if (inputBlock[i] > maxNoExp) {
+                for (int i = inOffset; i < inOffset + blockSize; ++i) {
+                        if (in[i] > maxNoExp) {
                                 expNum++;
                         }
                 }
@@ -194,9 +297,14 @@ public class PForDelta {
          */
         public static boolean checkBigNumbers(int[] inputBlock, int bits,
                 int blockSize) {
+                return checkBigNumbers(inputBlock, 0, bits, blockSize);
+        }
+
+        private static boolean checkBigNumbers(int[] in, int inOffset,
+                int bits, int blockSize) {
                 int maxNoExp = (1 << bits) - 1;
-                for (int i = 0; i < blockSize; ++i) {
-                        if (inputBlock[i] > maxNoExp)
+                for (int i = inOffset; i < inOffset + blockSize; ++i) {
+                        if (in[i] > maxNoExp)
                                 return true;
                 }
                 return false;
@@ -216,39 +324,46 @@ public class PForDelta {
          */
         public static int[] compressOneBlock(int[] inputBlock, int bits,
                 int blockSize)  {
+                final int[] compBlock = new int[maxCompressedSize(blockSize)];
+                final int compressedSizeInInts = compressOneBlock(inputBlock,
+                        0, bits, blockSize, compBlock, 0,
+                        new int[blockSize * 2]);
+                return Arrays.copyOf(compBlock, compressedSizeInInts);
+        }
 
-                int[] expAux = new int[blockSize * 2];
-
-                int maxCompBitSize = HEADER_SIZE + blockSize
-                        * (MAX_BITS + MAX_BITS + MAX_BITS) + 32;
-                int[] tmpCompressedBlock = new int[(maxCompBitSize >>> 5)];
-
+        private static int compressOneBlock(int[] in, int inOffset,
+                int bits, int blockSize, int[] out, int outOffset,
+                int[] expAux) {
                 int outputOffset = HEADER_SIZE;
                 int expUpperBound = 1 << bits;
                 int expNum = 0;
 
-                for (int elem : inputBlock) {
-                        if (elem >= expUpperBound) {
+                for (int i = inOffset; i < inOffset + blockSize; ++i) {
+                        if (in[i] >= expUpperBound) {
                                 expNum++;
                         }
                 }
 
+                // the b-bit slots are written with bitwise ORs
+                Arrays.fill(out, outOffset, outOffset
+                        + ((HEADER_SIZE + bits * blockSize + 31) >>> 5), 0);
                 int expIndex = 0;
                 // compress the b-bit slots
                 for (int i = 0; i < blockSize; ++i) {
-                        if (inputBlock[i] < expUpperBound) {
-                                writeBits(tmpCompressedBlock, inputBlock[i],
-                                        outputOffset, bits);
+                        final int value = in[inOffset + i];
+                        if (value < expUpperBound) {
+                                writeBits(out, outOffset, value, outputOffset,
+                                        bits);
                         } else // exp
                         {
                                 // store the lower bits-bits of the exception
-                                writeBits(tmpCompressedBlock, inputBlock[i]
-                                        & MASK[bits], outputOffset, bits);
+                                writeBits(out, outOffset, value & MASK[bits],
+                                        outputOffset, bits);
                                 // write the position of exception
                                 expAux[expIndex] = i;
                                 // write the higher 32-bits bits of the
                                 // exception
-                                expAux[expIndex + expNum] = (inputBlock[i] >>> bits)
+                                expAux[expIndex + expNum] = (value >>> bits)
                                         & MASK[32 - bits];
                                 expIndex++;
                         }
@@ -257,28 +372,18 @@ public class PForDelta {
 
                 // the first int in the compressed block stores the value of b
                 // and the number of exceptions
-                // tmpCompressedBlock[0] = ((bits & MASK[POSSIBLE_B_BITS]) <<
-                // (31-POSSIBLE_B_BITS)) | (expNum & MASK[31-POSSIBLE_B_BITS]);
-                tmpCompressedBlock[0] = ((bits & MASK[10]) << 10)
+                out[outOffset] = ((bits & MASK[10]) << 10)
                         | (expNum & 0x3ff);
-                tmpCompressedBlock[1] = inputBlock[blockSize - 1];
+                out[outOffset + 1] = in[inOffset + blockSize - 1];
 
                 // compress exceptions
                 if (expNum > 0) {
-                        int compressedBitSize = compressBlockByS16(
-                                tmpCompressedBlock, outputOffset, expAux,
-                                expNum * 2);
+                        int compressedBitSize = compressBlockByS16(out,
+                                outOffset, outputOffset, expAux, expNum * 2);
                         outputOffset += compressedBitSize;
                 }
 
-                // discard the redundant parts in the tmpCompressedBlock
-                int compressedSizeInInts = (outputOffset + 31) >>> 5;
-                int[] compBlock;
-                compBlock = new int[compressedSizeInInts];
-                System.arraycopy(tmpCompressedBlock, 0, compBlock, 0,
-                        compressedSizeInInts);
-
-                return compBlock;
+                return (outputOffset + 31) >>> 5;
         }
 
         /**
@@ -322,12 +427,19 @@ public class PForDelta {
          * @return the compressed size in bits
          */
         private static int compressBlockByS16(int[] outCompBlock,
+                int outStartOffsetInBits, int[] inBlock, int blockSize) {
+                return compressBlockByS16(outCompBlock, 0,
+                        outStartOffsetInBits, inBlock, blockSize);
+        }
+
+        private static int compressBlockByS16(int[] outCompBlock, int base,
                 int outStartOffsetInBits, int[] inBlock, int blockSize) {
                 int outOffset = (outStartOffsetInBits + 31) >>> 5;
                 int num, inOffset = 0, numLeft;
                 for (numLeft = blockSize; numLeft > 0; numLeft -= num) {
-                        num = Simple16.s16Compress(outCompBlock, outOffset,
-                                inBlock, inOffset, numLeft, blockSize);
+                        num = Simple16.s16Compress(outCompBlock, base
+                                + outOffset, inBlock, inOffset, numLeft,
+                                blockSize);
                         outOffset++;
                         inOffset += num;
                 }
@@ -351,11 +463,18 @@ public class PForDelta {
          */
         public static int decompressBlockByS16(int[] outDecompBlock,
                 int[] inCompBlock, int inStartOffsetInBits, int blockSize) {
+                return decompressBlockByS16(outDecompBlock, inCompBlock, 0,
+                        inStartOffsetInBits, blockSize);
+        }
+
+        private static int decompressBlockByS16(int[] outDecompBlock,
+                int[] inCompBlock, int base, int inStartOffsetInBits,
+                int blockSize) {
                 int inOffset = (inStartOffsetInBits + 31) >>> 5;
                 int num, outOffset = 0, numLeft;
                 for (numLeft = blockSize; numLeft > 0; numLeft -= num) {
                         num = Simple16.s16Decompress(outDecompBlock, outOffset,
-                                inCompBlock, inOffset, numLeft);
+                                inCompBlock, base + inOffset, numLeft);
                         outOffset += num;
                         inOffset++;
                 }
@@ -389,6 +508,20 @@ public class PForDelta {
                 }
         }
 
+        // same as writeBits with the output starting at out[base]
+        private static final void writeBits(int[] out, int base, int val,
+                int outOffset, int bits) {
+                if (bits == 0)
+                        return;
+                final int index = base + (outOffset >>> 5);
+                final int skip = outOffset & 0x1f;
+                val &= (0xffffffff >>> (32 - bits));
+                out[index] |= (val << skip);
+                if (32 - skip < bits) {
+                        out[index + 1] |= (val >>> (32 - skip));
+                }
+        }
+
         /**
          * Decompress the b-bit slots using hardcoded unpack methods
          * 
@@ -397,7 +530,7 @@ public class PForDelta {
          * @param compBlock
          *                the compressed input block
          * @param blockSize
-         *                the block size which is 256 by default
+         *                the block size (a multiple of 32)
          * @param bits
          *                the value of b
          * @return the processed data size (the number of bits in the compressed
@@ -406,7 +539,9 @@ public class PForDelta {
         static int decompressBBitSlotsWithHardCodes(int[] decompressedSlots,
                 int[] compBlock, int blockSize, int bits) {
                 int compressedBitSize = 0;
-                PForDeltaUnpack128.unpack(decompressedSlots, compBlock, bits);
+                for (int i = 0; i < blockSize; i += 32)
+                        BitUnpacker.unpack(compBlock, (HEADER_SIZE >>> 5)
+                                + (i >>> 5) * bits, decompressedSlots, i, bits);
                 compressedBitSize = bits * blockSize;
 
                 return compressedBitSize;
@@ -439,4 +574,16 @@ public class PForDelta {
                 return val & (0xffffffff >>> (32 - bits));
         }
 
+        // same as readBits with the input starting at in[base]
+        private static final int readBits(int[] in, final int base,
+                final int inOffset, final int bits) {
+                final int index = base + (inOffset >>> 5);
+                final int skip = inOffset & 0x1f;
+                int val = in[index] >>> skip;
+                if (32 - skip < bits) {
+                        val |= (in[index + 1] << (32 - skip));
+                }
+                return val & (0xffffffff >>> (32 - bits));
+        }
+
 }
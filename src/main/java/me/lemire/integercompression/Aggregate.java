@@ -0,0 +1,142 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ *
+ * (c) Daniel Lemire, http://lemire.me/en/
+ */
+package me.lemire.integercompression;
+
+/**
+ * Aggregates computed directly over compressed data, without materializing
+ * the uncompressed array (see BinaryPacking#aggregate, FastPFOR#aggregate and
+ * IntegratedBinaryPacking#aggregate). The integers are aggregated as signed
+ * integers into a long.
+ *
+ * A group of integers packed with b &lt; 32 bits only holds values in [0,
+ * 2^b): groups that cannot change the result (e.g., a group whose bound does
+ * not exceed the current maximum, or a group using 0 bits for a sum) are
+ * skipped without being unpacked. Other groups are unpacked, 32 or 128
+ * integers at a time, to a small buffer and accumulated right away.
+ *
+ * @author Daniel Lemire
+ */
+public final class Aggregate {
+        /**
+         * Sum of the integers (0 if there is none).
+         */
+        public final static int SUM = 0;
+
+        /**
+         * Smallest integer (Long.MAX_VALUE if there is none).
+         */
+        public final static int MIN = 1;
+
+        /**
+         * Largest integer (Long.MIN_VALUE if there is none).
+         */
+        public final static int MAX = 2;
+
+        /**
+         * Number of integers.
+         */
+        public final static int COUNT = 3;
+
+        private Aggregate() {
+        }
+
+        /**
+         * @param op
+         *                SUM, MIN, MAX or COUNT
+         * @return the aggregate of no integer
+         */
+        public static long initial(int op) {
+                switch (op) {
+                case SUM:
+                case COUNT:
+                        return 0;
+                case MIN:
+                        return Long.MAX_VALUE;
+                case MAX:
+                        return Long.MIN_VALUE;
+                default:
+                        throw new IllegalArgumentException("unknown aggregate: "
+                                + op);
+                }
+        }
+
+        /**
+         * Whether a group of integers may be skipped without being unpacked
+         * (see skipped for its contribution).
+         *
+         * @param op
+         *                SUM, MIN, MAX or COUNT
+         * @param bit
+         *                number of bits per integer (all integers are smaller
+         *                than 2^bit)
+         * @param acc
+         *                current aggregate
+         * @return whether the group may be skipped
+         */
+        public static boolean canSkip(int op, int bit, long acc) {
+                switch (op) {
+                case SUM:
+                        return bit == 0;
+                case MIN:
+                        return bit < 32 && acc <= 0;
+                case MAX:
+                        return bit < 32 && (1L << bit) - 1 <= acc;
+                default:
+                        return true;
+                }
+        }
+
+        /**
+         * Account for a skipped group of integers.
+         *
+         * @param op
+         *                SUM, MIN, MAX or COUNT
+         * @param acc
+         *                current aggregate
+         * @param n
+         *                number of integers in the group
+         * @return the new aggregate
+         */
+        public static long skipped(int op, long acc, int n) {
+                return op == COUNT ? acc + n : acc;
+        }
+
+        /**
+         * Accumulate unpacked integers.
+         *
+         * @param op
+         *                SUM, MIN, MAX or COUNT
+         * @param acc
+         *                current aggregate
+         * @param in
+         *                source array
+         * @param inpos
+         *                position of the first integer
+         * @param n
+         *                number of integers
+         * @return the new aggregate
+         */
+        public static long accumulate(int op, long acc, int[] in, int inpos,
+                int n) {
+                switch (op) {
+                case SUM:
+                        for (int k = inpos; k < inpos + n; ++k)
+                                acc += in[k];
+                        return acc;
+                case MIN:
+                        for (int k = inpos; k < inpos + n; ++k)
+                                acc = Math.min(acc, in[k]);
+                        return acc;
+                case MAX:
+                        for (int k = inpos; k < inpos + n; ++k)
+                                acc = Math.max(acc, in[k]);
+                        return acc;
+                default:
+                        return acc + n;
+                }
+        }
+}
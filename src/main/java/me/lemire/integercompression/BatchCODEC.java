@@ -0,0 +1,220 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ *
+ * (c) Daniel Lemire, http://lemire.me/en/
+ */
+package me.lemire.integercompression;
+
+/**
+ * Compresses many (typically short) arrays in one call. The arrays are
+ * concatenated and compressed together by a single CODEC, so that blocks and
+ * pages are shared across arrays and the per-call overhead (header words,
+ * Composition dispatch, IntWrapper bookkeeping) is paid once per batch instead
+ * of once per array. The lengths of the arrays are stored in a compact
+ * directory (variable byte).
+ *
+ * <pre>
+ * BatchCODEC bc = new BatchCODEC();
+ * int[] compressed = new int[...];
+ * IntWrapper outpos = new IntWrapper(0);
+ * bc.compress(arrays, compressed, outpos);
+ * int[] flat = new int[bc.uncompressedLength(compressed, 0)];
+ * int[] offsets = new int[BatchCODEC.count(compressed, 0) + 1];
+ * bc.uncompress(compressed, new IntWrapper(0), flat, new IntWrapper(0), offsets);
+ * // array i is now in flat[offsets[i]], ..., flat[offsets[i + 1] - 1]
+ * </pre>
+ *
+ * The format is: the number of arrays, the size (in 32-bit words) of the
+ * directory, the size (in 32-bit words) of the payload, the directory and the
+ * payload.
+ *
+ * Note that this does not use differential coding: if you are working on
+ * sorted lists, you must compute the deltas separately or provide an
+ * integrated CODEC.
+ *
+ * For multi-threaded applications, each thread should use its own BatchCODEC
+ * object.
+ *
+ * @author Daniel Lemire
+ */
+public final class BatchCODEC {
+        private final IntegerCODEC codec;
+        private final VariableByte directory = new VariableByte();
+        private int[] flat = new int[0];
+
+        /**
+         * Construct a BatchCODEC using FastPFOR (with VariableByte for the
+         * remaining integers).
+         */
+        public BatchCODEC() {
+                this(new Composition(new FastPFOR(), new VariableByte()));
+        }
+
+        /**
+         * Construct a BatchCODEC using the provided CODEC. The CODEC must
+         * support arbitrary lengths (e.g., a Composition).
+         *
+         * @param codec
+         *                CODEC used to compress the concatenated arrays
+         */
+        public BatchCODEC(IntegerCODEC codec) {
+                this.codec = codec;
+        }
+
+        /**
+         * Compress several arrays.
+         *
+         * @param in
+         *                arrays to compress
+         * @param out
+         *                output array
+         * @param outpos
+         *                where to write in the output array
+         */
+        public void compress(int[][] in, int[] out, IntWrapper outpos) {
+                int total = 0;
+                for (int[] a : in)
+                        total += a.length;
+                if (flat.length < total)
+                        flat = new int[total];
+                int[] offsets = new int[in.length + 1];
+                for (int k = 0; k < in.length; ++k) {
+                        System.arraycopy(in[k], 0, flat, offsets[k],
+                                in[k].length);
+                        offsets[k + 1] = offsets[k] + in[k].length;
+                }
+                compress(flat, offsets, in.length, out, outpos);
+        }
+
+        /**
+         * Compress several arrays stored contiguously in a flat array: array
+         * k is made of in[offsets[k]], ..., in[offsets[k + 1] - 1].
+         *
+         * @param in
+         *                flat input array
+         * @param offsets
+         *                offsets of the arrays (howmany + 1 values, in
+         *                increasing order)
+         * @param howmany
+         *                number of arrays
+         * @param out
+         *                output array
+         * @param outpos
+         *                where to write in the output array
+         */
+        public void compress(int[] in, int[] offsets, int howmany, int[] out,
+                IntWrapper outpos) {
+                final int headerpos = outpos.get();
+                out[headerpos] = howmany;
+                int[] lengths = new int[howmany];
+                for (int k = 0; k < howmany; ++k)
+                        lengths[k] = offsets[k + 1] - offsets[k];
+                IntWrapper tmpoutpos = new IntWrapper(headerpos + 3);
+                directory.compress(lengths, new IntWrapper(0), howmany, out,
+                        tmpoutpos);
+                out[headerpos + 1] = tmpoutpos.get() - headerpos - 3;
+                final int payloadpos = tmpoutpos.get();
+                codec.compress(in, new IntWrapper(offsets[0]), offsets[howmany]
+                        - offsets[0], out, tmpoutpos);
+                out[headerpos + 2] = tmpoutpos.get() - payloadpos;
+                outpos.set(tmpoutpos.get());
+        }
+
+        /**
+         * Number of arrays in a compressed batch.
+         *
+         * @param in
+         *                compressed data
+         * @param inpos
+         *                where the compressed batch starts
+         * @return number of arrays
+         */
+        public static int count(int[] in, int inpos) {
+                return in[inpos];
+        }
+
+        /**
+         * Total number of integers in a compressed batch.
+         *
+         * @param in
+         *                compressed data
+         * @param inpos
+         *                where the compressed batch starts
+         * @return sum of the lengths of the arrays
+         */
+        public int uncompressedLength(int[] in, int inpos) {
+                final int howmany = in[inpos];
+                int[] lengths = new int[howmany];
+                directory.uncompress(in, new IntWrapper(inpos + 3),
+                        in[inpos + 1], lengths, new IntWrapper(0));
+                int total = 0;
+                for (int l : lengths)
+                        total += l;
+                return total;
+        }
+
+        /**
+         * Uncompress a batch into a flat array. After the call, array k is
+         * stored in out[offsets[k]], ..., out[offsets[k + 1] - 1].
+         *
+         * @param in
+         *                compressed data
+         * @param inpos
+         *                where the compressed batch starts (modified)
+         * @param out
+         *                flat output array
+         * @param outpos
+         *                where to write in the output array (modified)
+         * @param offsets
+         *                array receiving the offsets of the arrays (must have
+         *                at least count(in, inpos) + 1 entries)
+         * @return number of arrays
+         */
+        public int uncompress(int[] in, IntWrapper inpos, int[] out,
+                IntWrapper outpos, int[] offsets) {
+                final int headerpos = inpos.get();
+                final int howmany = in[headerpos];
+                final int dirsize = in[headerpos + 1];
+                final int payloadsize = in[headerpos + 2];
+                directory.uncompress(in, new IntWrapper(headerpos + 3),
+                        dirsize, offsets, new IntWrapper(1));
+                offsets[0] = outpos.get();
+                for (int k = 1; k <= howmany; ++k)
+                        offsets[k] += offsets[k - 1];
+                inpos.set(headerpos + 3 + dirsize);
+                codec.uncompress(in, inpos, payloadsize, out, outpos);
+                return howmany;
+        }
+
+        /**
+         * Uncompress a batch into separate arrays (convenience method: this
+         * allocates the arrays).
+         *
+         * @param in
+         *                compressed data
+         * @param inpos
+         *                where the compressed batch starts (modified)
+         * @return the uncompressed arrays
+         */
+        public int[][] uncompress(int[] in, IntWrapper inpos) {
+                final int howmany = count(in, inpos.get());
+                int[] offsets = new int[howmany + 1];
+                int total = uncompressedLength(in, inpos.get());
+                if (flat.length < total)
+                        flat = new int[total];
+                uncompress(in, inpos, flat, new IntWrapper(0), offsets);
+                int[][] answer = new int[howmany][];
+                for (int k = 0; k < howmany; ++k) {
+                        answer[k] = new int[offsets[k + 1] - offsets[k]];
+                        System.arraycopy(flat, offsets[k], answer[k], 0,
+                                answer[k].length);
+                }
+                return answer;
+        }
+
+        @Override
+        public String toString() {
+                return this.getClass().getSimpleName() + "(" + codec + ")";
+        }
+}
@@ -6,6 +6,8 @@
  */
 package me.lemire.integercompression;
 
+import java.nio.IntBuffer;
+
 /**
  * Scheme  based on a commonly used idea: can be extremely fast.
  * It encodes integers in blocks of 128 integers. For arrays containing
@@ -15,10 +17,25 @@ package me.lemire.integercompression;
  *  <pre>IntegerCODEC ic = 
  *  new Composition(new BinaryPacking(), new VariableByte()).</pre>
  * 
+ * Alternatively, construct it with new BinaryPacking(true): the last block may
+ * then contain fewer than 128 integers and arrays of any length are
+ * compressed without a second CODEC. Both formats are uncompressed by any
+ * BinaryPacking instance.
+ * 
  * Note that this does not use differential coding: if you are working on sorted
  * lists, use IntegratedBinaryPacking instead.
  *
  * <p>
+ * Data produced by BinaryPacking (alone, not within a Composition) can be
+ * uncompressed in place, using a single array: see uncompressInPlace.
+ * </p>
+ *
+ * <p>
+ * The compressed data may also be written to or read from an IntBuffer (e.g.,
+ * a direct or memory-mapped buffer) through the BufferIntegerCODEC interface.
+ * </p>
+ *
+ * <p>
  * For details, please see
  * </p>
  * <p>
@@ -35,25 +52,79 @@ package me.lemire.integercompression;
  * 
  * @author Daniel Lemire
  */
-public final class BinaryPacking implements IntegerCODEC {
+public final class BinaryPacking implements IntegerCODEC,
+        BufferIntegerCODEC {
+
+        final boolean partialBlocks;
+
+        // Optional statistics (null when disabled).
+        CodecStats stats;
+
+        /**
+         * Construct a BinaryPacking CODEC that only compresses blocks of 128
+         * integers (the remaining integers are left to another CODEC).
+         */
+        public BinaryPacking() {
+                this(false);
+        }
+
+        /**
+         * Construct a BinaryPacking CODEC.
+         * 
+         * @param partialBlocks
+         *                whether the last block may contain fewer than 128
+         *                integers (if false, the number of integers is
+         *                floored to a multiple of 128)
+         */
+        public BinaryPacking(boolean partialBlocks) {
+                this.partialBlocks = partialBlocks;
+        }
+
+        /**
+         * Attach a statistics collector to this CODEC. The bit width of each
+         * block of 32 integers is recorded.
+         * 
+         * @param stats
+         *                statistics collector (null to disable statistics)
+         */
+        public void setStats(CodecStats stats) {
+                this.stats = stats;
+        }
+
+        /**
+         * @return the statistics collector (null if disabled)
+         */
+        public CodecStats getStats() {
+                return stats;
+        }
 
         @Override
         public void compress(int[] in, IntWrapper inpos, int inlength,
                 int[] out, IntWrapper outpos) {
-                inlength = inlength / 128 * 128;
+                if (!partialBlocks)
+                        inlength = inlength / 128 * 128;
                 if (inlength == 0)
                         return;
+                final long start = stats == null ? 0 : System.nanoTime();
+                final int initoutpos = outpos.get();
 
                 out[outpos.get()] = inlength;
                 outpos.increment();
                 int tmpoutpos = outpos.get();
-                for (int s = inpos.get(); s < inpos.get() + inlength; s += 32 * 4) {
+                final int fullend = inpos.get() + inlength / 128 * 128;
+                for (int s = inpos.get(); s < fullend; s += 32 * 4) {
                         final int mbits1 = Util.maxbits(in, s, 32);
                         final int mbits2 = Util.maxbits(in, s + 32, 32);
                         final int mbits3 = Util.maxbits(in, s + 2 * 32, 32);
                         final int mbits4 = Util.maxbits(in, s + 3 * 32, 32);
                         out[tmpoutpos++] = (mbits1 << 24) | (mbits2 << 16)
                                 | (mbits3 << 8) | (mbits4);
+                        if (stats != null) {
+                                stats.recordBlock(mbits1, 0);
+                                stats.recordBlock(mbits2, 0);
+                                stats.recordBlock(mbits3, 0);
+                                stats.recordBlock(mbits4, 0);
+                        }
                         BitPacking.fastpackwithoutmask(in, s, out, tmpoutpos,
                                 mbits1);
                         tmpoutpos += mbits1;
@@ -67,8 +138,14 @@ public final class BinaryPacking implements IntegerCODEC {
                                 tmpoutpos, mbits4);
                         tmpoutpos += mbits4;
                 }
+                if (fullend != inpos.get() + inlength)
+                        tmpoutpos = packPartialBlock(in, fullend, inpos.get()
+                                + inlength - fullend, out, tmpoutpos);
                 inpos.add(inlength);
                 outpos.set(tmpoutpos);
+                if (stats != null)
+                        stats.recordCompress(inlength, tmpoutpos - initoutpos,
+                                System.nanoTime() - start);
         }
 
         @Override
@@ -76,10 +153,13 @@ public final class BinaryPacking implements IntegerCODEC {
                 int[] out, IntWrapper outpos) {
                 if (inlength == 0)
                         return;
+                final long start = stats == null ? 0 : System.nanoTime();
+                final int initinpos = inpos.get();
                 final int outlength = in[inpos.get()];
                 inpos.increment();
                 int tmpinpos = inpos.get();
-                for (int s = outpos.get(); s < outpos.get() + outlength; s += 32 * 4) {
+                final int fullend = outpos.get() + outlength / 128 * 128;
+                for (int s = outpos.get(); s < fullend; s += 32 * 4) {
                         final int mbits1 = (in[tmpinpos] >>> 24);
                         final int mbits2 = (in[tmpinpos] >>> 16) & 0xFF;
                         final int mbits3 = (in[tmpinpos] >>> 8) & 0xFF;
@@ -97,8 +177,419 @@ public final class BinaryPacking implements IntegerCODEC {
                                 mbits4);
                         tmpinpos += mbits4;
                 }
+                if (fullend != outpos.get() + outlength)
+                        tmpinpos = unpackPartialBlock(in, tmpinpos, out,
+                                fullend, outpos.get() + outlength - fullend);
+                outpos.add(outlength);
+                inpos.set(tmpinpos);
+                if (stats != null)
+                        stats.recordUncompress(tmpinpos - initinpos,
+                                outlength, System.nanoTime() - start);
+        }
+
+        @Override
+        public void compress(int[] in, IntWrapper inpos, int inlength,
+                IntBuffer out) {
+                if (!partialBlocks)
+                        inlength = inlength / 128 * 128;
+                if (inlength == 0)
+                        return;
+                final long start = stats == null ? 0 : System.nanoTime();
+                final int initoutpos = out.position();
+                // one block at a time: header and 4 miniblocks of 32 integers
+                final int[] buffer = new int[1 + 128];
+                out.put(inlength);
+                final int fullend = inpos.get() + inlength / 128 * 128;
+                for (int s = inpos.get(); s < fullend; s += 32 * 4) {
+                        final int mbits1 = Util.maxbits(in, s, 32);
+                        final int mbits2 = Util.maxbits(in, s + 32, 32);
+                        final int mbits3 = Util.maxbits(in, s + 2 * 32, 32);
+                        final int mbits4 = Util.maxbits(in, s + 3 * 32, 32);
+                        buffer[0] = (mbits1 << 24) | (mbits2 << 16)
+                                | (mbits3 << 8) | (mbits4);
+                        if (stats != null) {
+                                stats.recordBlock(mbits1, 0);
+                                stats.recordBlock(mbits2, 0);
+                                stats.recordBlock(mbits3, 0);
+                                stats.recordBlock(mbits4, 0);
+                        }
+                        int tmpoutpos = 1;
+                        BitPacking.fastpackwithoutmask(in, s, buffer,
+                                tmpoutpos, mbits1);
+                        tmpoutpos += mbits1;
+                        BitPacking.fastpackwithoutmask(in, s + 32, buffer,
+                                tmpoutpos, mbits2);
+                        tmpoutpos += mbits2;
+                        BitPacking.fastpackwithoutmask(in, s + 2 * 32, buffer,
+                                tmpoutpos, mbits3);
+                        tmpoutpos += mbits3;
+                        BitPacking.fastpackwithoutmask(in, s + 3 * 32, buffer,
+                                tmpoutpos, mbits4);
+                        tmpoutpos += mbits4;
+                        out.put(buffer, 0, tmpoutpos);
+                }
+                if (fullend != inpos.get() + inlength)
+                        out.put(buffer, 0, packPartialBlock(in, fullend,
+                                inpos.get() + inlength - fullend, buffer, 0));
+                inpos.add(inlength);
+                if (stats != null)
+                        stats.recordCompress(inlength, out.position()
+                                - initoutpos, System.nanoTime() - start);
+        }
+
+        @Override
+        public void uncompress(IntBuffer in, int inlength, int[] out,
+                IntWrapper outpos) {
+                if (inlength == 0)
+                        return;
+                final long start = stats == null ? 0 : System.nanoTime();
+                final int initinpos = in.position();
+                // only used when the buffer is not backed by an array
+                final int[] buffer = in.hasArray() ? null : new int[32];
+                final int outlength = in.get();
+                final int fullend = outpos.get() + outlength / 128 * 128;
+                for (int s = outpos.get(); s < fullend; s += 32 * 4) {
+                        final int header = in.get();
+                        BitUnpacker.unpack(in, out, s, header >>> 24, buffer);
+                        BitUnpacker.unpack(in, out, s + 32,
+                                (header >>> 16) & 0xFF, buffer);
+                        BitUnpacker.unpack(in, out, s + 2 * 32,
+                                (header >>> 8) & 0xFF, buffer);
+                        BitUnpacker.unpack(in, out, s + 3 * 32,
+                                header & 0xFF, buffer);
+                }
+                if (fullend != outpos.get() + outlength)
+                        unpackPartialBlock(in, out, fullend, outpos.get()
+                                + outlength - fullend);
                 outpos.add(outlength);
+                if (stats != null)
+                        stats.recordUncompress(in.position() - initinpos,
+                                outlength, System.nanoTime() - start);
+        }
+
+        // Same layout as a full block, except that the last miniblocks
+        // contain fewer than 32 integers (possibly none).
+        private int packPartialBlock(int[] in, int s, int length, int[] out,
+                int tmpoutpos) {
+                final int headerpos = tmpoutpos++;
+                int header = 0;
+                for (int k = 0; k < 4; ++k) {
+                        final int howmany = Math.max(0,
+                                Math.min(32, length - 32 * k));
+                        final int mbits = Util.maxbits(in, s + 32 * k, howmany);
+                        header |= mbits << (24 - 8 * k);
+                        if (stats != null && howmany > 0)
+                                stats.recordBlock(mbits, 0);
+                        tmpoutpos += BitPacking.pack(in, s + 32 * k, out,
+                                tmpoutpos, howmany, mbits);
+                }
+                out[headerpos] = header;
+                return tmpoutpos;
+        }
+
+        private static int unpackPartialBlock(int[] in, int tmpinpos,
+                int[] out, int s, int length) {
+                final int header = in[tmpinpos++];
+                for (int k = 0; k < 4; ++k) {
+                        final int howmany = Math.max(0,
+                                Math.min(32, length - 32 * k));
+                        final int mbits = (header >>> (24 - 8 * k)) & 0xFF;
+                        tmpinpos += BitPacking.unpack(in, tmpinpos, out, s
+                                + 32 * k, howmany, mbits);
+                }
+                return tmpinpos;
+        }
+
+        private static void unpackPartialBlock(IntBuffer in, int[] out,
+                int s, int length) {
+                final int[] buffer = new int[32];
+                final int header = in.get();
+                for (int k = 0; k < 4; ++k) {
+                        final int howmany = Math.max(0,
+                                Math.min(32, length - 32 * k));
+                        final int mbits = (header >>> (24 - 8 * k)) & 0xFF;
+                        final int words = (howmany * mbits + 31) / 32;
+                        in.get(buffer, 0, words);
+                        BitPacking.unpack(buffer, 0, out, s + 32 * k, howmany,
+                                mbits);
+                }
+        }
+
+        /**
+         * Evaluate the range predicate lo &lt;= v &lt; hi (signed comparisons)
+         * over compressed data. Each miniblock of 32 integers is unpacked to
+         * a small buffer and compared right away, unless its bit width proves
+         * that none (or all) of its integers can match. See RangeScan.
+         * 
+         * @param in
+         *                array containing data in compressed form
+         * @param inpos
+         *                where the compressed data starts (modified)
+         * @param inlength
+         *                length of the compressed data
+         * @param lo
+         *                smallest value in the range
+         * @param hi
+         *                value following the largest value in the range
+         * @param bitmap
+         *                receives the selection bitmap (one word per 32
+         *                integers)
+         * @param bitmappos
+         *                where to write the selection bitmap
+         * @return number of integers satisfying the predicate
+         */
+        public int scan(int[] in, IntWrapper inpos, int inlength, int lo,
+                int hi, int[] bitmap, int bitmappos) {
+                if (inlength == 0)
+                        return 0;
+                final int[] buffer = new int[32];
+                final int outlength = in[inpos.get()];
+                int tmpinpos = inpos.get() + 1;
+                int count = 0;
+                for (int s = 0; s < outlength; s += 128) {
+                        final int header = in[tmpinpos++];
+                        for (int k = 0; k < 4; ++k) {
+                                final int howmany = Math.max(0,
+                                        Math.min(32, outlength - s - 32 * k));
+                                if (howmany == 0)
+                                        break;
+                                final int mbits = (header >>> (24 - 8 * k)) & 0xFF;
+                                final int words = (howmany * mbits + 31) / 32;
+                                int word;
+                                switch (RangeScan.classify(mbits, lo, hi)) {
+                                case RangeScan.NONE:
+                                        word = 0;
+                                        break;
+                                case RangeScan.ALL:
+                                        word = RangeScan.all(howmany);
+                                        break;
+                                default:
+                                        if (howmany == 32)
+                                                BitPacking.fastunpack(in,
+                                                        tmpinpos, buffer, 0,
+                                                        mbits);
+                                        else
+                                                BitPacking.unpack(in, tmpinpos,
+                                                        buffer, 0, howmany,
+                                                        mbits);
+                                        word = RangeScan.select(buffer, 0,
+                                                howmany, lo, hi);
+                                }
+                                bitmap[bitmappos + s / 32 + k] = word;
+                                count += Integer.bitCount(word);
+                                tmpinpos += words;
+                        }
+                }
                 inpos.set(tmpinpos);
+                return count;
+        }
+
+        /**
+         * Aggregate compressed data without uncompressing it to an array.
+         * Each miniblock of 32 integers is skipped when its bit width proves
+         * that it cannot change the result; otherwise it is unpacked to a
+         * small buffer and accumulated right away. See Aggregate.
+         * 
+         * @param in
+         *                array containing data in compressed form
+         * @param inpos
+         *                where the compressed data starts (modified)
+         * @param inlength
+         *                length of the compressed data
+         * @param op
+         *                Aggregate.SUM, MIN, MAX or COUNT
+         * @return the aggregate
+         */
+        public long aggregate(int[] in, IntWrapper inpos, int inlength, int op) {
+                long acc = Aggregate.initial(op);
+                if (inlength == 0)
+                        return acc;
+                final int[] buffer = new int[32];
+                final int outlength = in[inpos.get()];
+                int tmpinpos = inpos.get() + 1;
+                for (int s = 0; s < outlength; s += 128) {
+                        final int header = in[tmpinpos++];
+                        for (int k = 0; k < 4; ++k) {
+                                final int howmany = Math.max(0,
+                                        Math.min(32, outlength - s - 32 * k));
+                                if (howmany == 0)
+                                        break;
+                                final int mbits = (header >>> (24 - 8 * k)) & 0xFF;
+                                if (Aggregate.canSkip(op, mbits, acc)) {
+                                        acc = Aggregate.skipped(op, acc,
+                                                howmany);
+                                } else {
+                                        if (howmany == 32)
+                                                BitPacking.fastunpack(in,
+                                                        tmpinpos, buffer, 0,
+                                                        mbits);
+                                        else
+                                                BitPacking.unpack(in, tmpinpos,
+                                                        buffer, 0, howmany,
+                                                        mbits);
+                                        acc = Aggregate.accumulate(op, acc,
+                                                buffer, 0, howmany);
+                                }
+                                tmpinpos += (howmany * mbits + 31) / 32;
+                        }
+                }
+                inpos.set(tmpinpos);
+                return acc;
+        }
+
+        /**
+         * Iterate over compressed data, uncompressing one block of 128
+         * integers at a time. The iterator can be split at block boundaries.
+         * 
+         * @param in
+         *                array containing data in compressed form
+         * @param inpos
+         *                where the compressed data starts
+         * @param inlength
+         *                length of the compressed data
+         * @return an iterator over the uncompressed integers
+         */
+        public BlockIterator iterator(int[] in, int inpos, int inlength) {
+                return new Iterator(in, inpos + 1, inlength == 0 ? 0
+                        : in[inpos]);
+        }
+
+        private static final class Iterator extends BlockIterator {
+                final int[] in;
+                int tmpinpos;
+                int left;
+
+                Iterator(int[] in, int tmpinpos, int left) {
+                        super(left);
+                        this.in = in;
+                        this.tmpinpos = tmpinpos;
+                        this.left = left;
+                }
+
+                // Blocks are located from their headers (bit widths).
+                @Override
+                protected BlockIterator split() {
+                        final int blocks = (left + 127) / 128;
+                        if (blocks < 2)
+                                return null;
+                        int splitpos = tmpinpos;
+                        for (int k = 0; k < blocks / 2; ++k) {
+                                final int header = in[splitpos];
+                                splitpos += 1 + (header >>> 24)
+                                        + ((header >>> 16) & 0xFF)
+                                        + ((header >>> 8) & 0xFF)
+                                        + (header & 0xFF);
+                        }
+                        final int splitleft = left - blocks / 2 * 128;
+                        left -= splitleft;
+                        return new Iterator(in, splitpos, splitleft);
+                }
+
+                @Override
+                protected int decodeBlock(int[] out) {
+                        if (left < 128) {
+                                tmpinpos = unpackPartialBlock(in, tmpinpos, out,
+                                        0, left);
+                                final int howmany = left;
+                                left = 0;
+                                return howmany;
+                        }
+                        final int header = in[tmpinpos++];
+                        final int mbits1 = (header >>> 24);
+                        final int mbits2 = (header >>> 16) & 0xFF;
+                        final int mbits3 = (header >>> 8) & 0xFF;
+                        final int mbits4 = (header) & 0xFF;
+                        BitPacking.fastunpack(in, tmpinpos, out, 0, mbits1);
+                        tmpinpos += mbits1;
+                        BitPacking.fastunpack(in, tmpinpos, out, 32, mbits2);
+                        tmpinpos += mbits2;
+                        BitPacking.fastunpack(in, tmpinpos, out, 64, mbits3);
+                        tmpinpos += mbits3;
+                        BitPacking.fastunpack(in, tmpinpos, out, 96, mbits4);
+                        tmpinpos += mbits4;
+                        left -= 128;
+                        return 128;
+                }
+        }
+
+        /**
+         * Minimal length of a buffer in which outlength integers can be
+         * uncompressed in place. The compressed data should be stored at the
+         * end of the buffer and uncompressed to the beginning of the buffer.
+         * The compressed data never uses more space than this, so such a
+         * buffer can always hold it.
+         * 
+         * @param outlength
+         *                number of uncompressed integers
+         * @return minimal buffer length
+         */
+        public static int inPlaceBufferLength(int outlength) {
+                return outlength + (outlength + 127) / 128 + 32;
+        }
+
+        /**
+         * Uncompress data in place: the compressed data and the uncompressed
+         * output share the same array. This is safe when the compressed data
+         * starts at or after the output position and ends at least
+         * inPlaceBufferLength(n) integers after it, where n is the number of
+         * uncompressed integers, e.g.,
+         * when the compressed data is stored at the end of a buffer of length
+         * inPlaceBufferLength(n) and uncompressed at its beginning: the output
+         * never catches up with the data that remains to be read. Disjoint
+         * ranges are also accepted.
+         * 
+         * @param buffer
+         *                array containing the compressed data, receives the
+         *                uncompressed data
+         * @param inpos
+         *                where the compressed data starts (modified)
+         * @param inlength
+         *                length of the compressed data (the end of the data
+         *                used by the safety check is read from its headers)
+         * @param outpos
+         *                where to write the uncompressed data (modified)
+         * @throws IllegalArgumentException
+         *                 if the layout is not safe
+         */
+        public void uncompressInPlace(int[] buffer, IntWrapper inpos,
+                int inlength, IntWrapper outpos) {
+                if (inlength == 0)
+                        return;
+                final int outlength = buffer[inpos.get()];
+                // the caller may pass the rest of the buffer as inlength
+                final int end = compressedEnd(buffer, inpos.get());
+                final boolean overlap = inpos.get() < outpos.get() + outlength
+                        && outpos.get() < end;
+                if (overlap
+                        && (outpos.get() > inpos.get() || end
+                                - outpos.get() < inPlaceBufferLength(outlength)))
+                        throw new IllegalArgumentException(
+                                "compressed data must start at or after the output position and end at least "
+                                        + inPlaceBufferLength(outlength)
+                                        + " integers after it");
+                uncompress(buffer, inpos, inlength, buffer, outpos);
+        }
+
+        // Position following the compressed data starting at inpos, located
+        // from the block headers.
+        private static int compressedEnd(int[] in, int inpos) {
+                final int outlength = in[inpos++];
+                for (int s = 0; s + 128 <= outlength; s += 128) {
+                        final int header = in[inpos++];
+                        inpos += (header >>> 24) + ((header >>> 16) & 0xFF)
+                                + ((header >>> 8) & 0xFF) + (header & 0xFF);
+                }
+                final int length = outlength % 128;
+                if (length != 0) {
+                        final int header = in[inpos++];
+                        for (int k = 0; k < 4; ++k) {
+                                final int howmany = Math.max(0,
+                                        Math.min(32, length - 32 * k));
+                                final int mbits = (header >>> (24 - 8 * k)) & 0xFF;
+                                inpos += (howmany * mbits + 31) / 32;
+                        }
+                }
+                return inpos;
         }
 
         @Override
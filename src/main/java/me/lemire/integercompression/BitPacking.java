@@ -4675,4 +4675,89 @@ public final class BitPacking {
                 out[31 + outpos] = (in[8 + inpos] >>> 23);
         }
 
+        /**
+         * Pack an arbitrary number of integers. Groups of 32 integers are
+         * packed with fastpack; the remaining integers (if any) are packed
+         * with the same layout, using only ceil(r * bit / 32) words where r is
+         * the number of remaining integers. Integers are masked.
+         * 
+         * @param in
+         *                source array
+         * @param inpos
+         *                position in source array
+         * @param out
+         *                output array
+         * @param outpos
+         *                position in output array
+         * @param n
+         *                number of integers to pack
+         * @param bit
+         *                number of bits to use per integer
+         * @return number of 32-bit words written
+         */
+        public static int pack(final int[] in, int inpos, final int[] out,
+                int outpos, final int n, final int bit) {
+                final int initoutpos = outpos;
+                for (final int fullend = inpos + (n & ~31); inpos < fullend; inpos += 32, outpos += bit)
+                        fastpack(in, inpos, out, outpos, bit);
+                final int r = n & 31;
+                if (r == 0 || bit == 0)
+                        return outpos - initoutpos;
+                final int words = (r * bit + 31) >>> 5;
+                Arrays.fill(out, outpos, outpos + words, 0);
+                final int mask = bit == 32 ? 0xFFFFFFFF : (1 << bit) - 1;
+                for (int k = 0, bitpos = 0; k < r; ++k, bitpos += bit) {
+                        final int v = in[inpos + k] & mask;
+                        final int w = outpos + (bitpos >>> 5);
+                        final int shift = bitpos & 31;
+                        out[w] |= v << shift;
+                        if (shift + bit > 32)
+                                out[w + 1] |= v >>> (32 - shift);
+                }
+                return outpos + words - initoutpos;
+        }
+
+        /**
+         * Unpack an arbitrary number of integers packed with pack. Groups of
+         * 32 integers are unpacked with fastunpack; exactly n integers are
+         * written.
+         * 
+         * @param in
+         *                source array
+         * @param inpos
+         *                position in source array
+         * @param out
+         *                output array
+         * @param outpos
+         *                position in output array
+         * @param n
+         *                number of integers to unpack
+         * @param bit
+         *                number of bits used per integer
+         * @return number of 32-bit words read
+         */
+        public static int unpack(final int[] in, int inpos, final int[] out,
+                int outpos, final int n, final int bit) {
+                final int initinpos = inpos;
+                for (final int fullend = outpos + (n & ~31); outpos < fullend; outpos += 32, inpos += bit)
+                        fastunpack(in, inpos, out, outpos, bit);
+                final int r = n & 31;
+                if (r == 0)
+                        return inpos - initinpos;
+                if (bit == 0) {
+                        Arrays.fill(out, outpos, outpos + r, 0);
+                        return inpos - initinpos;
+                }
+                final int mask = bit == 32 ? 0xFFFFFFFF : (1 << bit) - 1;
+                for (int k = 0, bitpos = 0; k < r; ++k, bitpos += bit) {
+                        final int w = inpos + (bitpos >>> 5);
+                        final int shift = bitpos & 31;
+                        int v = in[w] >>> shift;
+                        if (shift + bit > 32)
+                                v |= in[w + 1] << (32 - shift);
+                        out[outpos + k] = v & mask;
+                }
+                return inpos + ((r * bit + 31) >>> 5) - initinpos;
+        }
+
 }
@@ -0,0 +1,136 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ *
+ * (c) Daniel Lemire, http://lemire.me/en/
+ */
+
+package me.lemire.integercompression;
+
+import java.nio.IntBuffer;
+
+/**
+ * Bit unpacking from int arrays and from IntBuffers. All sources share the
+ * kernels of BitPacking (fastunpack), so that there is a single unrolled
+ * routine per bit width.
+ *
+ * An IntBuffer backed by an accessible array is unpacked in place. Other
+ * buffers (direct buffers, i.e., off-heap memory, read-only or memory-mapped
+ * buffers) are first copied, one group of 32 integers at a time, to a small
+ * working area with a bulk get.
+ *
+ * The packed format is the one of BitPacking: 32 integers using bit bits
+ * each are stored in bit consecutive words. Blocks of 128 integers (e.g.,
+ * the b-bit slots of the kamikaze PForDelta) are 4 such groups stored one
+ * after the other.
+ *
+ * @author Daniel Lemire
+ */
+public final class BitUnpacker {
+        private BitUnpacker() {
+        }
+
+        /**
+         * Unpack 32 integers
+         *
+         * @param in
+         *                source array
+         * @param inpos
+         *                position in source array
+         * @param out
+         *                output array
+         * @param outpos
+         *                position in output array
+         * @param bit
+         *                number of bits used per integer
+         */
+        public static void unpack(final int[] in, final int inpos,
+                final int[] out, final int outpos, final int bit) {
+                BitPacking.fastunpack(in, inpos, out, outpos, bit);
+        }
+
+        /**
+         * Unpack 32 integers starting at the position of the buffer, which is
+         * then advanced by bit words.
+         *
+         * @param in
+         *                source buffer
+         * @param out
+         *                output array
+         * @param outpos
+         *                position in output array
+         * @param bit
+         *                number of bits used per integer
+         * @param buffer
+         *                working area of at least 32 ints (only used when the
+         *                source buffer is not backed by an accessible array)
+         */
+        public static void unpack(final IntBuffer in, final int[] out,
+                final int outpos, final int bit, final int[] buffer) {
+                if (in.hasArray()) {
+                        final int position = in.position();
+                        BitPacking.fastunpack(in.array(), in.arrayOffset()
+                                + position, out, outpos, bit);
+                        in.position(position + bit);
+                } else {
+                        in.get(buffer, 0, bit);
+                        BitPacking.fastunpack(buffer, 0, out, outpos, bit);
+                }
+        }
+
+        /**
+         * Unpack 128 integers
+         *
+         * @param in
+         *                source array
+         * @param inpos
+         *                position in source array
+         * @param out
+         *                output array
+         * @param outpos
+         *                position in output array
+         * @param bit
+         *                number of bits used per integer
+         */
+        public static void unpack128(final int[] in, final int inpos,
+                final int[] out, final int outpos, final int bit) {
+                BitPacking.fastunpack(in, inpos, out, outpos, bit);
+                BitPacking.fastunpack(in, inpos + bit, out, outpos + 32, bit);
+                BitPacking.fastunpack(in, inpos + 2 * bit, out, outpos + 64,
+                        bit);
+                BitPacking.fastunpack(in, inpos + 3 * bit, out, outpos + 96,
+                        bit);
+        }
+
+        /**
+         * Unpack 128 integers starting at the position of the buffer, which is
+         * then advanced by 4 * bit words.
+         *
+         * @param in
+         *                source buffer
+         * @param out
+         *                output array
+         * @param outpos
+         *                position in output array
+         * @param bit
+         *                number of bits used per integer
+         * @param buffer
+         *                working area of at least 32 ints (only used when the
+         *                source buffer is not backed by an accessible array)
+         */
+        public static void unpack128(final IntBuffer in, final int[] out,
+                final int outpos, final int bit, final int[] buffer) {
+                if (in.hasArray()) {
+                        final int position = in.position();
+                        unpack128(in.array(), in.arrayOffset() + position,
+                                out, outpos, bit);
+                        in.position(position + 4 * bit);
+                } else {
+                        for (int k = 0; k < 128; k += 32) {
+                                in.get(buffer, 0, bit);
+                                BitPacking.fastunpack(buffer, 0, out, outpos
+                                        + k, bit);
+                        }
+                }
+        }
+}
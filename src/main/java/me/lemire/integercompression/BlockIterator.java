@@ -0,0 +1,128 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ *
+ * (c) Daniel Lemire, http://lemire.me/en/
+ */
+package me.lemire.integercompression;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Iterator over compressed data that uncompresses one block of (at most) 128
+ * integers at a time into a small buffer, instead of materializing the whole
+ * output array: the working set stays in the L1 cache and a consumer that
+ * only streams through the integers once (aggregations, filters) never
+ * allocates the output. Subclasses decode the blocks of a given CODEC (see,
+ * e.g., BinaryPacking#iterator).
+ * 
+ * Iterators over CODECs whose blocks or pages can be uncompressed
+ * independently can be split (see trySplit), e.g., to aggregate the integers
+ * in parallel (see ParallelAggregation).
+ * 
+ * The compressed data must not be modified while it is iterated over.
+ * 
+ * @author Daniel Lemire
+ */
+public abstract class BlockIterator implements IntIterator {
+        private final int[] buffer = new int[128];
+        private int pos = 0;
+        private int length = 0;
+        private int remaining;
+
+        /**
+         * @param length
+         *                number of integers to iterate over
+         */
+        protected BlockIterator(int length) {
+                this.remaining = length;
+        }
+
+        /**
+         * Uncompress the next block.
+         * 
+         * @param out
+         *                buffer of 128 integers receiving the block
+         * @return number of integers written to out (positive)
+         */
+        protected abstract int decodeBlock(int[] out);
+
+        /**
+         * Split the integers that have not been uncompressed yet at a block or
+         * page boundary. By default, the iterator cannot be split.
+         * 
+         * @return an iterator over the last of these integers (which this
+         *         iterator no longer covers), or null if they cannot be split
+         */
+        protected BlockIterator split() {
+                return null;
+        }
+
+        /**
+         * Split this iterator in two halves (or nearly so) without
+         * uncompressing any data: this iterator keeps the first integers, the
+         * returned iterator covers the others.
+         * 
+         * @return an iterator over the last integers, or null if this
+         *         iterator cannot be split
+         */
+        public BlockIterator trySplit() {
+                final BlockIterator answer = split();
+                if (answer != null)
+                        remaining -= answer.remaining;
+                return answer;
+        }
+
+        /**
+         * @return number of integers left to iterate over
+         */
+        public int size() {
+                return length - pos + remaining;
+        }
+
+        @Override
+        public boolean hasNext() {
+                return pos < length || remaining > 0;
+        }
+
+        @Override
+        public int next() {
+                if (pos == length) {
+                        if (remaining == 0)
+                                throw new NoSuchElementException();
+                        length = decodeBlock(buffer);
+                        remaining -= length;
+                        pos = 0;
+                }
+                return buffer[pos++];
+        }
+
+        /**
+         * Copy the next integers to an array, a block at a time.
+         * 
+         * @param out
+         *                output array
+         * @param outpos
+         *                where to write in the output array
+         * @param max
+         *                maximal number of integers to copy
+         * @return number of integers copied (0 if there is no more integer)
+         */
+        public int next(int[] out, int outpos, int max) {
+                int copied = 0;
+                while (copied < max && hasNext()) {
+                        if (pos == length) {
+                                length = decodeBlock(buffer);
+                                remaining -= length;
+                                pos = 0;
+                        }
+                        final int howmany = Math.min(max - copied, length
+                                - pos);
+                        System.arraycopy(buffer, pos, out, outpos + copied,
+                                howmany);
+                        pos += howmany;
+                        copied += howmany;
+                }
+                return copied;
+        }
+}
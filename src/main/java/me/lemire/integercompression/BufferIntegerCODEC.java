@@ -0,0 +1,63 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ *
+ * (c) Daniel Lemire, http://lemire.me/en/
+ */
+package me.lemire.integercompression;
+
+import java.nio.IntBuffer;
+
+/**
+ * Interface describing a CODEC whose compressed data lives in an IntBuffer
+ * instead of an array: the buffer may be a direct buffer (off-heap memory), a
+ * memory-mapped file or a view over a shared ByteBuffer. The compressed format
+ * is the same as the one produced through the IntegerCODEC interface, so that
+ * data compressed to an array and saved to a file can be uncompressed straight
+ * from the mapped file, and vice versa.
+ *
+ * The position of the buffer plays the role of the IntWrapper: it is advanced
+ * by the number of integers written or read. The byte order of the buffer is
+ * the one of the underlying ByteBuffer (see ByteBuffer#order).
+ *
+ * @author Daniel Lemire
+ */
+public interface BufferIntegerCODEC {
+        /**
+         * Compress data from an array to a buffer.
+         *
+         * The inpos parameter and the position of the buffer are modified to
+         * represent how much data was read and written.
+         *
+         * @param in
+         *                input array
+         * @param inpos
+         *                location in the input array
+         * @param inlength
+         *                how many integers to compress
+         * @param out
+         *                output buffer, written from its position
+         */
+        public void compress(int[] in, IntWrapper inpos, int inlength,
+                IntBuffer out);
+
+        /**
+         * Uncompress data from a buffer to an array.
+         *
+         * The position of the buffer and the outpos parameter are modified to
+         * indicate new positions after read/write.
+         *
+         * @param in
+         *                buffer containing data in compressed form, read from
+         *                its position
+         * @param inlength
+         *                length of the compressed data (ignored by some
+         *                schemes)
+         * @param out
+         *                array where to write the uncompressed output
+         * @param outpos
+         *                where to write the uncompressed output in out
+         */
+        public void uncompress(IntBuffer in, int inlength, int[] out,
+                IntWrapper outpos);
+}
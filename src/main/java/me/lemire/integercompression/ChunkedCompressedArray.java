@@ -0,0 +1,309 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ *
+ * (c) Daniel Lemire, http://lemire.me/en/
+ */
+package me.lemire.integercompression;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * A compressed array whose length may exceed Integer.MAX_VALUE. The integers
+ * are appended in any number of calls and cut into chunks of a fixed size;
+ * each chunk is compressed independently into its own int[] segment, so that
+ * no array ever holds more than one chunk and the chunks can be uncompressed
+ * in parallel. Positions are longs (see LongWrapper).
+ *
+ * <pre>
+ * ChunkedCompressedArray a = new ChunkedCompressedArray(factory);
+ * for (int[] segment : segments)
+ *         a.append(segment, new IntWrapper(0), segment.length);
+ * int[][] chunks = a.uncompress(executor); // one array per chunk
+ * </pre>
+ *
+ * The CODEC must accept any number of integers (e.g., a Composition): the
+ * last chunk is usually shorter than the others. The integers of a partial
+ * last chunk are kept uncompressed until the chunk is full. An integrated
+ * CODEC restarts its differential coding at each chunk.
+ *
+ * For multi-threaded applications, each thread should use its own
+ * ChunkedCompressedArray object, except for uncompress(ExecutorService) which
+ * uses one CODEC per thread of the executor.
+ *
+ * @author Daniel Lemire
+ */
+public final class ChunkedCompressedArray {
+        /**
+         * Default number of integers per chunk.
+         */
+        public final static int DEFAULT_CHUNK_SIZE = 1 << 20;
+
+        /**
+         * Largest number of integers per chunk: the working area of a chunk
+         * holds 2 * chunkSize + 1024 integers.
+         */
+        public final static int MAX_CHUNK_SIZE = (Integer.MAX_VALUE - 1024) / 2;
+
+        final IntegerCODECFactory factory;
+        final IntegerCODEC codec;
+        final int chunkSize;
+        final ArrayList<int[]> chunks = new ArrayList<int[]>();
+        // integers of the last chunk, not compressed yet
+        final int[] tail;
+        int tailLength = 0;
+        // working area of compressChunk (allocated on first use)
+        int[] compressed;
+        // last chunk uncompressed by uncompress, for sequential reads
+        int[] decoded;
+        int decodedChunk = -1;
+
+        /**
+         * Construct an empty array using chunks of DEFAULT_CHUNK_SIZE
+         * integers.
+         *
+         * @param factory
+         *                creates the CODECs compressing the chunks
+         */
+        public ChunkedCompressedArray(IntegerCODECFactory factory) {
+                this(factory, DEFAULT_CHUNK_SIZE);
+        }
+
+        /**
+         * Construct an empty array.
+         *
+         * @param factory
+         *                creates the CODECs compressing the chunks
+         * @param chunkSize
+         *                number of integers per chunk (at most
+         *                MAX_CHUNK_SIZE)
+         */
+        public ChunkedCompressedArray(IntegerCODECFactory factory,
+                int chunkSize) {
+                if (chunkSize <= 0)
+                        throw new IllegalArgumentException(
+                                "chunk size must be positive: " + chunkSize);
+                if (chunkSize > MAX_CHUNK_SIZE)
+                        throw new IllegalArgumentException(
+                                "chunk size must be at most " + MAX_CHUNK_SIZE
+                                        + ": " + chunkSize);
+                this.factory = factory;
+                this.codec = factory.newCodec();
+                this.chunkSize = chunkSize;
+                this.tail = new int[chunkSize];
+        }
+
+        /**
+         * @return number of integers in the array
+         */
+        public long length() {
+                return (long) chunks.size() * chunkSize + tailLength;
+        }
+
+        /**
+         * @return number of integers per chunk
+         */
+        public int getChunkSize() {
+                return chunkSize;
+        }
+
+        /**
+         * @return number of chunks (including a partial last chunk)
+         */
+        public int chunkCount() {
+                return chunks.size() + (tailLength > 0 ? 1 : 0);
+        }
+
+        /**
+         * @return number of 32-bit words used by the compressed chunks and
+         *         the uncompressed partial last chunk
+         */
+        public long sizeInInts() {
+                long answer = tailLength;
+                for (int[] chunk : chunks)
+                        answer += chunk.length;
+                return answer;
+        }
+
+        /**
+         * Append integers at the end of the array. Full chunks are compressed
+         * as soon as they are formed.
+         *
+         * @param in
+         *                input array
+         * @param inpos
+         *                location in the input array (modified)
+         * @param inlength
+         *                how many integers to append
+         */
+        public void append(int[] in, IntWrapper inpos, int inlength) {
+                int tmpinpos = inpos.get();
+                final int finalinpos = tmpinpos + inlength;
+                while (tmpinpos < finalinpos) {
+                        if (tailLength == 0
+                                && finalinpos - tmpinpos >= chunkSize) {
+                                // a whole chunk, straight from the input
+                                chunks.add(compressChunk(in, tmpinpos));
+                                tmpinpos += chunkSize;
+                                continue;
+                        }
+                        final int howmany = Math.min(chunkSize - tailLength,
+                                finalinpos - tmpinpos);
+                        System.arraycopy(in, tmpinpos, tail, tailLength,
+                                howmany);
+                        tailLength += howmany;
+                        tmpinpos += howmany;
+                        if (tailLength == chunkSize) {
+                                chunks.add(compressChunk(tail, 0));
+                                tailLength = 0;
+                        }
+                }
+                inpos.set(tmpinpos);
+        }
+
+        private int[] compressChunk(int[] in, int inpos) {
+                if (compressed == null)
+                        compressed = new int[2 * chunkSize + 1024];
+                IntWrapper outpos = new IntWrapper();
+                codec.compress(in, new IntWrapper(inpos), chunkSize,
+                        compressed, outpos);
+                return Arrays.copyOf(compressed, outpos.get());
+        }
+
+        private void uncompressChunk(IntegerCODEC c, int chunk, int[] out,
+                int outpos) {
+                final int[] in = chunks.get(chunk);
+                IntWrapper tmpoutpos = new IntWrapper(outpos);
+                c.uncompress(in, new IntWrapper(), in.length, out, tmpoutpos);
+                if (tmpoutpos.get() != outpos + chunkSize)
+                        throw new RuntimeException("chunk " + chunk
+                                + " uncompressed to "
+                                + (tmpoutpos.get() - outpos)
+                                + " integers instead of " + chunkSize
+                                + " (" + c + ")");
+        }
+
+        /**
+         * Uncompress consecutive integers. Whole chunks are uncompressed
+         * directly to the output; otherwise, the last chunk read is kept so
+         * that sequential reads uncompress each chunk once.
+         *
+         * @param inpos
+         *                position of the first integer in the array
+         *                (modified)
+         * @param out
+         *                output array
+         * @param outpos
+         *                where to write in the output array (modified)
+         * @param length
+         *                how many integers to uncompress
+         */
+        public void uncompress(LongWrapper inpos, int[] out,
+                IntWrapper outpos, int length) {
+                long position = inpos.get();
+                if (position < 0 || length < 0
+                        || position + length > length())
+                        throw new IllegalArgumentException("range ["
+                                + position + ", " + (position + length)
+                                + ") out of bounds, length is " + length());
+                int tmpoutpos = outpos.get();
+                for (int remaining = length; remaining > 0;) {
+                        final int chunk = (int) (position / chunkSize);
+                        final int offset = (int) (position % chunkSize);
+                        final int howmany = Math.min(remaining, chunkSize
+                                - offset);
+                        if (chunk == chunks.size()) {
+                                System.arraycopy(tail, offset, out,
+                                        tmpoutpos, howmany);
+                        } else if (howmany == chunkSize) {
+                                uncompressChunk(codec, chunk, out, tmpoutpos);
+                        } else {
+                                if (decodedChunk != chunk) {
+                                        if (decoded == null)
+                                                decoded = new int[chunkSize];
+                                        uncompressChunk(codec, chunk,
+                                                decoded, 0);
+                                        decodedChunk = chunk;
+                                }
+                                System.arraycopy(decoded, offset, out,
+                                        tmpoutpos, howmany);
+                        }
+                        position += howmany;
+                        tmpoutpos += howmany;
+                        remaining -= howmany;
+                }
+                inpos.set(position);
+                outpos.set(tmpoutpos);
+        }
+
+        /**
+         * Uncompress a single integer.
+         *
+         * @param index
+         *                position of the integer in the array
+         * @return the integer
+         */
+        public int get(long index) {
+                final int[] answer = new int[1];
+                uncompress(new LongWrapper(index), answer, new IntWrapper(),
+                        1);
+                return answer[0];
+        }
+
+        /**
+         * Uncompress all chunks in parallel, one task per chunk. Each thread
+         * of the executor uses its own CODEC.
+         *
+         * @param executor
+         *                runs the tasks
+         * @return one array per chunk: chunk i holds the integers at
+         *         positions i * getChunkSize(), ..., in order
+         * @throws InterruptedException
+         *                 if interrupted while waiting for the tasks
+         */
+        public int[][] uncompress(ExecutorService executor)
+                throws InterruptedException {
+                final int[][] answer = new int[chunkCount()][];
+                final ThreadLocal<IntegerCODEC> codecs = new ThreadLocal<IntegerCODEC>() {
+                        @Override
+                        protected IntegerCODEC initialValue() {
+                                return factory.newCodec();
+                        }
+                };
+                ArrayList<Future<?>> futures = new ArrayList<Future<?>>();
+                for (int k = 0; k < chunks.size(); ++k) {
+                        final int chunk = k;
+                        futures.add(executor.submit(new Runnable() {
+                                @Override
+                                public void run() {
+                                        int[] out = new int[chunkSize];
+                                        uncompressChunk(codecs.get(), chunk,
+                                                out, 0);
+                                        answer[chunk] = out;
+                                }
+                        }));
+                }
+                if (tailLength > 0)
+                        answer[chunks.size()] = Arrays.copyOf(tail,
+                                tailLength);
+                for (Future<?> f : futures) {
+                        try {
+                                f.get();
+                        } catch (ExecutionException e) {
+                                if (e.getCause() instanceof RuntimeException)
+                                        throw (RuntimeException) e.getCause();
+                                throw new RuntimeException(e.getCause());
+                        }
+                }
+                return answer;
+        }
+
+        @Override
+        public String toString() {
+                return this.getClass().getSimpleName() + "(" + codec + ")";
+        }
+}
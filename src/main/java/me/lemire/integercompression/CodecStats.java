@@ -0,0 +1,350 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ *
+ * (c) Daniel Lemire, http://lemire.me/en/
+ */
+package me.lemire.integercompression;
+
+import java.util.Arrays;
+
+/**
+ * Optional statistics collector for CODECs. It records, for each packed
+ * block, the bit width that was selected and the number of exceptions, as well
+ * as the number of integers and 32-bit words going in and out of the CODEC and
+ * the time spent compressing and uncompressing.
+ *
+ * Instrumented CODECs (FastPFOR, NewPFD, OptPFD and BinaryPacking) hold a
+ * reference to a CodecStats object which is null by default: when no
+ * statistics are requested, nothing is recorded and no time is measured.
+ *
+ * <pre>
+ * CodecStats stats = new CodecStats();
+ * FastPFOR codec = new FastPFOR();
+ * codec.setStats(stats);
+ * // ... use codec ...
+ * CodecStats.Snapshot s = stats.snapshot();
+ * </pre>
+ *
+ * This class is not thread-safe: each thread should use its own CodecStats
+ * object (just like each thread should use its own CODEC). Snapshots from
+ * different threads can be combined with Snapshot.merge.
+ *
+ * @author Daniel Lemire
+ */
+public final class CodecStats {
+        final long[] bitWidthHistogram = new long[33];
+        final long[] exceptionHistogram = new long[129];
+        long blocks;
+        long exceptions;
+        long bufferGrowths;
+        long compressCalls;
+        long integersCompressed;
+        long wordsCompressed;
+        long compressNanos;
+        long uncompressCalls;
+        long integersUncompressed;
+        long wordsUncompressed;
+        long uncompressNanos;
+
+        /**
+         * Record a packed block.
+         *
+         * @param bitwidth
+         *                number of bits used per integer (0 to 32)
+         * @param nbrexcept
+         *                number of exceptions in the block (0 to 128)
+         */
+        public void recordBlock(int bitwidth, int nbrexcept) {
+                ++blocks;
+                ++bitWidthHistogram[bitwidth];
+                ++exceptionHistogram[nbrexcept];
+                exceptions += nbrexcept;
+        }
+
+        /**
+         * Record that an internal buffer had to be grown (reallocated) during
+         * compression.
+         */
+        public void recordBufferGrowth() {
+                ++bufferGrowths;
+        }
+
+        /**
+         * Record a call to compress.
+         *
+         * @param integers
+         *                how many integers were consumed
+         * @param words
+         *                how many 32-bit words were written
+         * @param nanos
+         *                elapsed time in nanoseconds
+         */
+        public void recordCompress(int integers, int words, long nanos) {
+                ++compressCalls;
+                integersCompressed += integers;
+                wordsCompressed += words;
+                compressNanos += nanos;
+        }
+
+        /**
+         * Record a call to uncompress.
+         *
+         * @param words
+         *                how many 32-bit words were consumed
+         * @param integers
+         *                how many integers were written
+         * @param nanos
+         *                elapsed time in nanoseconds
+         */
+        public void recordUncompress(int words, int integers, long nanos) {
+                ++uncompressCalls;
+                wordsUncompressed += words;
+                integersUncompressed += integers;
+                uncompressNanos += nanos;
+        }
+
+        /**
+         * Reset all counters to zero.
+         */
+        public void reset() {
+                Arrays.fill(bitWidthHistogram, 0);
+                Arrays.fill(exceptionHistogram, 0);
+                blocks = 0;
+                exceptions = 0;
+                bufferGrowths = 0;
+                compressCalls = 0;
+                integersCompressed = 0;
+                wordsCompressed = 0;
+                compressNanos = 0;
+                uncompressCalls = 0;
+                integersUncompressed = 0;
+                wordsUncompressed = 0;
+                uncompressNanos = 0;
+        }
+
+        /**
+         * @return an immutable copy of the current counters
+         */
+        public Snapshot snapshot() {
+                return new Snapshot(bitWidthHistogram.clone(),
+                        exceptionHistogram.clone(), blocks, exceptions,
+                        bufferGrowths, compressCalls, integersCompressed,
+                        wordsCompressed, compressNanos, uncompressCalls,
+                        integersUncompressed, wordsUncompressed,
+                        uncompressNanos);
+        }
+
+        @Override
+        public String toString() {
+                return snapshot().toString();
+        }
+
+        /**
+         * Immutable copy of the counters of a CodecStats object, suitable for
+         * export to a metrics system.
+         */
+        public static final class Snapshot {
+                private final long[] bitWidthHistogram;
+                private final long[] exceptionHistogram;
+                private final long blocks;
+                private final long exceptions;
+                private final long bufferGrowths;
+                private final long compressCalls;
+                private final long integersCompressed;
+                private final long wordsCompressed;
+                private final long compressNanos;
+                private final long uncompressCalls;
+                private final long integersUncompressed;
+                private final long wordsUncompressed;
+                private final long uncompressNanos;
+
+                Snapshot(long[] bitWidthHistogram, long[] exceptionHistogram,
+                        long blocks, long exceptions, long bufferGrowths,
+                        long compressCalls, long integersCompressed,
+                        long wordsCompressed, long compressNanos,
+                        long uncompressCalls, long integersUncompressed,
+                        long wordsUncompressed, long uncompressNanos) {
+                        this.bitWidthHistogram = bitWidthHistogram;
+                        this.exceptionHistogram = exceptionHistogram;
+                        this.blocks = blocks;
+                        this.exceptions = exceptions;
+                        this.bufferGrowths = bufferGrowths;
+                        this.compressCalls = compressCalls;
+                        this.integersCompressed = integersCompressed;
+                        this.wordsCompressed = wordsCompressed;
+                        this.compressNanos = compressNanos;
+                        this.uncompressCalls = uncompressCalls;
+                        this.integersUncompressed = integersUncompressed;
+                        this.wordsUncompressed = wordsUncompressed;
+                        this.uncompressNanos = uncompressNanos;
+                }
+
+                /**
+                 * Combine two snapshots (e.g., from different threads).
+                 *
+                 * @param other
+                 *                another snapshot
+                 * @return a new snapshot holding the sums of the counters
+                 */
+                public Snapshot merge(Snapshot other) {
+                        long[] bw = bitWidthHistogram.clone();
+                        for (int k = 0; k < bw.length; ++k)
+                                bw[k] += other.bitWidthHistogram[k];
+                        long[] eh = exceptionHistogram.clone();
+                        for (int k = 0; k < eh.length; ++k)
+                                eh[k] += other.exceptionHistogram[k];
+                        return new Snapshot(bw, eh, blocks + other.blocks,
+                                exceptions + other.exceptions, bufferGrowths
+                                        + other.bufferGrowths, compressCalls
+                                        + other.compressCalls,
+                                integersCompressed + other.integersCompressed,
+                                wordsCompressed + other.wordsCompressed,
+                                compressNanos + other.compressNanos,
+                                uncompressCalls + other.uncompressCalls,
+                                integersUncompressed
+                                        + other.integersUncompressed,
+                                wordsUncompressed + other.wordsUncompressed,
+                                uncompressNanos + other.uncompressNanos);
+                }
+
+                /**
+                 * @param bitwidth
+                 *                a bit width (0 to 32)
+                 * @return how many blocks were packed using this bit width
+                 */
+                public long getBitWidthCount(int bitwidth) {
+                        return bitWidthHistogram[bitwidth];
+                }
+
+                /**
+                 * @return histogram of the bit widths (index is the bit
+                 *         width)
+                 */
+                public long[] getBitWidthHistogram() {
+                        return bitWidthHistogram.clone();
+                }
+
+                /**
+                 * @return histogram of the number of exceptions per block
+                 *         (index is the number of exceptions)
+                 */
+                public long[] getExceptionHistogram() {
+                        return exceptionHistogram.clone();
+                }
+
+                /**
+                 * @return number of packed blocks
+                 */
+                public long getBlocks() {
+                        return blocks;
+                }
+
+                /**
+                 * @return total number of exceptions
+                 */
+                public long getExceptions() {
+                        return exceptions;
+                }
+
+                /**
+                 * @return how many times an internal buffer was grown
+                 */
+                public long getBufferGrowths() {
+                        return bufferGrowths;
+                }
+
+                /**
+                 * @return number of calls to compress
+                 */
+                public long getCompressCalls() {
+                        return compressCalls;
+                }
+
+                /**
+                 * @return number of integers consumed by compress
+                 */
+                public long getIntegersCompressed() {
+                        return integersCompressed;
+                }
+
+                /**
+                 * @return number of 32-bit words written by compress
+                 */
+                public long getWordsCompressed() {
+                        return wordsCompressed;
+                }
+
+                /**
+                 * @return time spent in compress (nanoseconds)
+                 */
+                public long getCompressNanos() {
+                        return compressNanos;
+                }
+
+                /**
+                 * @return number of calls to uncompress
+                 */
+                public long getUncompressCalls() {
+                        return uncompressCalls;
+                }
+
+                /**
+                 * @return number of integers written by uncompress
+                 */
+                public long getIntegersUncompressed() {
+                        return integersUncompressed;
+                }
+
+                /**
+                 * @return number of 32-bit words consumed by uncompress
+                 */
+                public long getWordsUncompressed() {
+                        return wordsUncompressed;
+                }
+
+                /**
+                 * @return time spent in uncompress (nanoseconds)
+                 */
+                public long getUncompressNanos() {
+                        return uncompressNanos;
+                }
+
+                /**
+                 * @return average number of bits per compressed integer
+                 */
+                public double getBitsPerInt() {
+                        return integersCompressed == 0 ? 0 : wordsCompressed
+                                * 32.0 / integersCompressed;
+                }
+
+                @Override
+                public String toString() {
+                        StringBuilder sb = new StringBuilder();
+                        sb.append("blocks=").append(blocks);
+                        sb.append(" exceptions=").append(exceptions);
+                        sb.append(" bufferGrowths=").append(bufferGrowths);
+                        sb.append(" compressed=").append(integersCompressed)
+                                .append("->").append(wordsCompressed)
+                                .append(" words in ").append(compressNanos)
+                                .append(" ns");
+                        sb.append(" uncompressed=").append(wordsUncompressed)
+                                .append("->").append(integersUncompressed)
+                                .append(" ints in ").append(uncompressNanos)
+                                .append(" ns");
+                        sb.append(" bitwidths={");
+                        boolean first = true;
+                        for (int k = 0; k < bitWidthHistogram.length; ++k) {
+                                if (bitWidthHistogram[k] == 0)
+                                        continue;
+                                if (!first)
+                                        sb.append(", ");
+                                sb.append(k).append(':')
+                                        .append(bitWidthHistogram[k]);
+                                first = false;
+                        }
+                        sb.append('}');
+                        return sb.toString();
+                }
+        }
+}
@@ -67,18 +67,21 @@ public final class DeltaZigzagBinaryPacking implements IntegerCODEC {
                 inPos.increment();
 
                 DeltaZigzagEncoding.Decoder ctx = new DeltaZigzagEncoding.Decoder(0);
-                int[] work = new int[BLOCK_LENGTH];
 
                 int ip = inPos.get();
                 int op = outPos.get();
                 final int outPosLast = op + outLen;
                 for (; op < outPosLast; op += BLOCK_LENGTH) {
                         int n = inBuf[ip++];
-                        ip += unpack(inBuf, ip, work, 0, (n >> 24) & 0x3F);
-                        ip += unpack(inBuf, ip, work, 32, (n >> 16) & 0x3F);
-                        ip += unpack(inBuf, ip, work, 64, (n >> 8) & 0x3F);
-                        ip += unpack(inBuf, ip, work, 96, (n >> 0) & 0x3F);
-                        ctx.decodeArray(work, 0, BLOCK_LENGTH, outBuf, op);
+                        ip += unpack(inBuf, ip, outBuf, op, (n >> 24) & 0x3F);
+                        ip += unpack(inBuf, ip, outBuf, op + 32,
+                                (n >> 16) & 0x3F);
+                        ip += unpack(inBuf, ip, outBuf, op + 64,
+                                (n >> 8) & 0x3F);
+                        ip += unpack(inBuf, ip, outBuf, op + 96,
+                                (n >> 0) & 0x3F);
+                        // decoded in place, while the block is in cache
+                        ctx.decodeArray(outBuf, op, BLOCK_LENGTH, outBuf, op);
                 }
 
                 outPos.add(outLen);
@@ -4,6 +4,8 @@
  */
 package me.lemire.integercompression;
 
+import me.lemire.integercompression.differential.Delta;
+
 /**
  * Delta+Zigzag Encoding.
  * 
@@ -38,11 +40,24 @@ public final class DeltaZigzagEncoding {
                         return (n << 1) ^ (n >> 31);
                 }
 
+                // The differences are computed backward with independent
+                // iterations (no dependency on the context) so that the JIT
+                // compiler can vectorize the loop; src and dst may be the
+                // same array at the same offset.
                 int[] encodeArray(int[] src, int srcoff, int length,
                         int[] dst, int dstoff) {
-                        for (int i = 0; i < length; ++i) {
-                                dst[dstoff + i] = encodeInt(src[srcoff + i]);
+                        if (length == 0)
+                                return dst;
+                        final int first = src[srcoff];
+                        final int last = src[srcoff + length - 1];
+                        for (int i = length - 1; i > 0; --i) {
+                                final int n = src[srcoff + i]
+                                        - src[srcoff + i - 1];
+                                dst[dstoff + i] = (n << 1) ^ (n >> 31);
                         }
+                        final int n = first - this.contextValue;
+                        dst[dstoff] = (n << 1) ^ (n >> 31);
+                        this.contextValue = last;
                         return dst;
                 }
 
@@ -74,11 +89,20 @@ public final class DeltaZigzagEncoding {
                         return n;
                 }
 
+                // Zigzag decoding is a vectorizable loop; only the prefix sum
+                // that follows is serial. src and dst may be the same array
+                // at the same offset.
                 int[] decodeArray(int[] src, int srcoff, int length,
                         int[] dst, int dstoff) {
+                        if (length == 0)
+                                return dst;
                         for (int i = 0; i < length; ++i) {
-                                dst[dstoff + i] = decodeInt(src[srcoff + i]);
+                                final int value = src[srcoff + i];
+                                dst[dstoff + i] = (value >>> 1)
+                                        ^ -(value & 1);
                         }
+                        this.contextValue = Delta.fastinverseDelta(dst,
+                                dstoff, length, this.contextValue);
                         return dst;
                 }
 
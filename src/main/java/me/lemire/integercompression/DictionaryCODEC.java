@@ -0,0 +1,183 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ *
+ * (c) Daniel Lemire, http://lemire.me/en/
+ */
+package me.lemire.integercompression;
+
+import java.util.Arrays;
+
+/**
+ * Dictionary encoding for columns with few distinct values (status codes,
+ * country identifiers...) which may nevertheless be large integers. The input
+ * is divided into pages; for each page, the distinct values are stored in a
+ * sorted dictionary and each integer is replaced by its index in the
+ * dictionary, bit-packed using ceil(log2(dictionary size)) bits. Pages with
+ * more distinct values than a threshold are compressed with another CODEC
+ * instead (FastPFOR and VariableByte by default).
+ * 
+ * The format is the number of integers followed by the pages. A page is
+ * either the dictionary size, the dictionary and the packed indexes, or 0,
+ * the length of the compressed data and the data compressed by the other
+ * CODEC.
+ * 
+ * This CODEC accepts arrays of any length.
+ * 
+ * For multi-threaded applications, each thread should use its own
+ * DictionaryCODEC object.
+ * 
+ * @author Daniel Lemire
+ */
+public final class DictionaryCODEC implements IntegerCODEC {
+        final static int DEFAULT_PAGE_SIZE = 65536;
+        final static int DEFAULT_MAX_CARDINALITY = 256;
+
+        final int pageSize;
+        final int maxCardinality;
+        final IntegerCODEC fallback;
+        final IntIntHistogram histogram;
+        final IntIntHashMap map;
+        final int[] dictionary;
+        final int[] indexes;
+
+        /**
+         * Construct a CODEC with default parameters: pages of 65536 integers,
+         * at most 256 distinct values per page (8-bit indexes), FastPFOR and
+         * VariableByte otherwise.
+         */
+        public DictionaryCODEC() {
+                this(DEFAULT_PAGE_SIZE, DEFAULT_MAX_CARDINALITY, new Composition(
+                        new FastPFOR(), new VariableByte()));
+        }
+
+        /**
+         * Construct a CODEC.
+         * 
+         * @param pagesize
+         *                number of integers per page
+         * @param maxcardinality
+         *                maximum number of distinct values in a page for the
+         *                page to be dictionary encoded
+         * @param fallback
+         *                CODEC used for the other pages (must support arrays
+         *                of any length)
+         */
+        public DictionaryCODEC(int pagesize, int maxcardinality,
+                IntegerCODEC fallback) {
+                if (pagesize <= 0 || maxcardinality <= 0)
+                        throw new IllegalArgumentException(
+                                "page size and cardinality must be positive");
+                this.pageSize = pagesize;
+                this.maxCardinality = Math.min(maxcardinality, pagesize);
+                this.fallback = fallback;
+                this.histogram = new IntIntHistogram(this.maxCardinality + 1);
+                this.map = new IntIntHashMap(this.maxCardinality + 1);
+                this.dictionary = new int[this.maxCardinality + 1];
+                this.indexes = new int[pagesize];
+        }
+
+        @Override
+        public void compress(int[] in, IntWrapper inpos, int inlength,
+                int[] out, IntWrapper outpos) {
+                if (inlength == 0)
+                        return;
+                out[outpos.get()] = inlength;
+                outpos.increment();
+                final int finalinpos = inpos.get() + inlength;
+                while (inpos.get() != finalinpos) {
+                        final int thissize = Math.min(pageSize, finalinpos
+                                - inpos.get());
+                        encodePage(in, inpos, thissize, out, outpos);
+                }
+        }
+
+        /**
+         * Collect the distinct values of a page in the dictionary (sorted).
+         * 
+         * @return size of the dictionary, or -1 if there are more than
+         *         maxCardinality distinct values
+         */
+        private int buildDictionary(int[] in, int pos, int length) {
+                // one probe per integer; the indexes are only mapped once
+                // the page is known to be dictionary encoded
+                histogram.reset();
+                for (int k = pos; k < pos + length; ++k)
+                        if (histogram.increment(in[k]) == 1
+                                && histogram.size() > maxCardinality)
+                                return -1;
+                final int size = histogram.size();
+                for (int k = 0; k < size; ++k)
+                        dictionary[k] = histogram.value(k);
+                Arrays.sort(dictionary, 0, size);
+                map.clear();
+                for (int k = 0; k < size; ++k)
+                        map.put(dictionary[k], k);
+                return size;
+        }
+
+        private void encodePage(int[] in, IntWrapper inpos, int thissize,
+                int[] out, IntWrapper outpos) {
+                final int tmpinpos = inpos.get();
+                int tmpoutpos = outpos.get();
+                final int size = buildDictionary(in, tmpinpos, thissize);
+                if (size < 0) {
+                        out[tmpoutpos++] = 0;
+                        final int sizepos = tmpoutpos++;
+                        outpos.set(tmpoutpos);
+                        fallback.compress(in, inpos, thissize, out, outpos);
+                        out[sizepos] = outpos.get() - tmpoutpos;
+                        return;
+                }
+                out[tmpoutpos++] = size;
+                System.arraycopy(dictionary, 0, out, tmpoutpos, size);
+                tmpoutpos += size;
+                for (int k = 0; k < thissize; ++k)
+                        indexes[k] = map.get(in[tmpinpos + k], 0);
+                tmpoutpos += BitPacking.pack(indexes, 0, out, tmpoutpos,
+                        thissize, Util.bits(size - 1));
+                inpos.add(thissize);
+                outpos.set(tmpoutpos);
+        }
+
+        @Override
+        public void uncompress(int[] in, IntWrapper inpos, int inlength,
+                int[] out, IntWrapper outpos) {
+                if (inlength == 0)
+                        return;
+                final int outlength = in[inpos.get()];
+                inpos.increment();
+                final int finaloutpos = outpos.get() + outlength;
+                while (outpos.get() != finaloutpos) {
+                        final int thissize = Math.min(pageSize, finaloutpos
+                                - outpos.get());
+                        decodePage(in, inpos, out, outpos, thissize);
+                }
+        }
+
+        private void decodePage(int[] in, IntWrapper inpos, int[] out,
+                IntWrapper outpos, int thissize) {
+                int tmpinpos = inpos.get();
+                final int size = in[tmpinpos++];
+                if (size == 0) {
+                        final int length = in[tmpinpos++];
+                        inpos.set(tmpinpos);
+                        fallback.uncompress(in, inpos, length, out, outpos);
+                        return;
+                }
+                final int dictpos = tmpinpos;
+                tmpinpos += size;
+                final int tmpoutpos = outpos.get();
+                tmpinpos += BitPacking.unpack(in, tmpinpos, out, tmpoutpos,
+                        thissize, Util.bits(size - 1));
+                for (int k = tmpoutpos; k < tmpoutpos + thissize; ++k)
+                        out[k] = in[dictpos + out[k]];
+                inpos.set(tmpinpos);
+                outpos.add(thissize);
+        }
+
+        @Override
+        public String toString() {
+                return this.getClass().getSimpleName();
+        }
+}
@@ -0,0 +1,56 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ * (c) Daniel Lemire, http://lemire.me/en/
+ */
+
+package me.lemire.integercompression;
+
+/**
+ * Interface describing a CODEC to compress doubles to integers.
+ * 
+ * @author Daniel Lemire
+ */
+public interface DoubleCODEC {
+        /**
+         * Compress data from an array to another array.
+         * 
+         * Both inpos and outpos are modified to represent how much data was
+         * read and written to.
+         * 
+         * @param in
+         *                input array
+         * @param inpos
+         *                location in the input array
+         * @param inlength
+         *                how many doubles to compress
+         * @param out
+         *                output array
+         * @param outpos
+         *                where to write in the output array
+         */
+        public void compress(double[] in, IntWrapper inpos, int inlength,
+                int[] out, IntWrapper outpos);
+
+        /**
+         * Uncompress data from an array to another array.
+         * 
+         * Both inpos and outpos parameters are modified to indicate new
+         * positions after read/write.
+         * 
+         * @param in
+         *                array containing data in compressed form
+         * @param inpos
+         *                where to start reading in the array
+         * @param inlength
+         *                length of the compressed data (ignored by some
+         *                schemes)
+         * @param out
+         *                array where to write the compressed output
+         * @param outpos
+         *                where to write the compressed output in out
+         */
+        public void uncompress(int[] in, IntWrapper inpos, int inlength,
+                double[] out, IntWrapper outpos);
+
+}
@@ -7,6 +7,8 @@
 package me.lemire.integercompression;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
 import java.util.Arrays;
 
 /**
@@ -18,6 +20,10 @@ import java.util.Arrays;
  * it in conjunction with another CODEC: 
  * 
  *  IntegerCODEC ic = new Composition(new FastPFOR(), new VariableByte()).
+ *  
+ *  Alternatively, construct it with new FastPFOR(pagesize, true): the last block
+ *  may then contain fewer than 128 integers and arrays of any length are
+ *  compressed without a second CODEC.
  * <p>
  * For details, please see
  * </p><p>
@@ -32,17 +38,29 @@ import java.util.Arrays;
  * Note that this does not use differential coding: if you are working on sorted
  * lists, use IntegratedFastPFOR instead.
  * 
+ * The compressed data may also be written to or read from an IntBuffer (e.g.,
+ * a direct or memory-mapped buffer) through the BufferIntegerCODEC interface:
+ * pages are then encoded and decoded through a working area of about two
+ * pages.
+ * 
  * For multi-threaded applications, each thread should use its own FastPFOR
  * object.
  * 
  * @author Daniel Lemire
  */
-public final class FastPFOR implements IntegerCODEC {
+public final class FastPFOR implements IntegerCODEC, BufferIntegerCODEC {
         final static int BLOCK_SIZE = 128;
         final static int OVERHEAD_OF_EACH_EXCEPT = 8;
         final static int DEFAULT_PAGE_SIZE = 65536;
 
         int pageSize;
+        final boolean partialBlocks;
+        // whether the integers are zigzag encoded while packed (compress
+        // and uncompress only, see ZigzagFastPFOR)
+        final boolean zigzag;
+        // the zigzag encoding of the last block of the array (null unless
+        // zigzag)
+        final int[] zigzagBuffer;
         final int[][] dataTobePacked = new int[33][];
         final ByteBuffer byteContainer;
 
@@ -50,6 +68,11 @@ public final class FastPFOR implements IntegerCODEC {
         int[] dataPointers;
         int[] freqs;
         byte[] bestbbestcexceptmaxb;
+        // Working area of the buffer methods (allocated on first use).
+        int[] pageBuffer;
+
+        // Optional statistics (null when disabled).
+        CodecStats stats;
 
         /**
          * Construct the FastPFOR CODEC.
@@ -58,7 +81,28 @@ public final class FastPFOR implements IntegerCODEC {
          *                the desired page size (for expert use)
          */
         public FastPFOR(int pagesize) {
+                this(pagesize, false);
+        }
+
+        /**
+         * Construct the FastPFOR CODEC.
+         * 
+         * @param pagesize
+         *                the desired page size (for expert use)
+         * @param partialBlocks
+         *                whether the last block may contain fewer than 128
+         *                integers (if false, the number of integers is
+         *                floored to a multiple of 128)
+         */
+        public FastPFOR(int pagesize, boolean partialBlocks) {
+                this(pagesize, partialBlocks, false);
+        }
+
+        FastPFOR(int pagesize, boolean partialBlocks, boolean zigzag) {
                 pageSize = pagesize;
+                this.partialBlocks = partialBlocks;
+                this.zigzag = zigzag;
+                zigzagBuffer = zigzag ? new int[BLOCK_SIZE] : null;
                 // Initiate arrrays.
                 byteContainer = ByteBuffer.allocateDirect(3 * pageSize
                         / BLOCK_SIZE + pageSize);
@@ -75,17 +119,38 @@ public final class FastPFOR implements IntegerCODEC {
         }
 
         /**
-         * Compress data in blocks of 128 integers (if fewer than 128 integers
-         * are provided, nothing is done).
+         * Attach a statistics collector to this CODEC. Bit widths and
+         * exceptions are recorded for each block of 128 integers.
+         * 
+         * @param stats
+         *                statistics collector (null to disable statistics)
+         */
+        public void setStats(CodecStats stats) {
+                this.stats = stats;
+        }
+
+        /**
+         * @return the statistics collector (null if disabled)
+         */
+        public CodecStats getStats() {
+                return stats;
+        }
+
+        /**
+         * Compress data in blocks of 128 integers (unless partial blocks are
+         * enabled, if fewer than 128 integers are provided, nothing is done).
          * 
          * @see IntegerCODEC#compress(int[], IntWrapper, int, int[], IntWrapper)
          */
         @Override
         public void compress(int[] in, IntWrapper inpos, int inlength,
                 int[] out, IntWrapper outpos) {
-                inlength = Util.floorBy(inlength, 128);
+                if (!partialBlocks)
+                        inlength = Util.floorBy(inlength, 128);
                 if (inlength == 0)
                         return;
+                final long start = stats == null ? 0 : System.nanoTime();
+                final int initoutpos = outpos.get();
 
                 out[outpos.get()] = inlength;
                 outpos.increment();
@@ -105,18 +170,74 @@ public final class FastPFOR implements IntegerCODEC {
                 dataPointers = null;
                 freqs = null;
                 bestbbestcexceptmaxb = null;
+                if (stats != null)
+                        stats.recordCompress(inlength, outpos.get()
+                                - initoutpos, System.nanoTime() - start);
         }
 
-        private void getBestBFromData(int[] in, int pos) {
-                Arrays.fill(freqs, 0);
-                for (int k = pos, k_end = pos + BLOCK_SIZE; k < k_end; ++k) {
-                        freqs[Util.bits(in[k])]++;
+        /**
+         * Compress data in blocks of 128 integers to a buffer. Each page is
+         * encoded in a working area, then copied to the buffer.
+         * 
+         * @see BufferIntegerCODEC#compress(int[], IntWrapper, int, IntBuffer)
+         */
+        @Override
+        public void compress(int[] in, IntWrapper inpos, int inlength,
+                IntBuffer out) {
+                if (!partialBlocks)
+                        inlength = Util.floorBy(inlength, 128);
+                if (inlength == 0)
+                        return;
+                final long start = stats == null ? 0 : System.nanoTime();
+                final int initoutpos = out.position();
+
+                out.put(inlength);
+
+                dataPointers = new int[33];
+                freqs = new int[33];
+                bestbbestcexceptmaxb = new byte[3];
+                final int[] page = pageBuffer();
+                final IntWrapper pagepos = new IntWrapper();
+
+                final int finalinpos = inpos.get() + inlength;
+                while (inpos.get() != finalinpos) {
+                        int thissize = Math.min(pageSize,
+                                finalinpos - inpos.get());
+                        pagepos.set(0);
+                        encodePage(in, inpos, thissize, page, pagepos);
+                        out.put(page, 0, pagepos.get());
                 }
+
+                dataPointers = null;
+                freqs = null;
+                bestbbestcexceptmaxb = null;
+                if (stats != null)
+                        stats.recordCompress(inlength, out.position()
+                                - initoutpos, System.nanoTime() - start);
+        }
+
+        // An encoded page never uses more than this: the packed blocks take
+        // at most one word per integer (exceptions included), plus the
+        // metadata bytes and the padding of the 32 exception arrays.
+        private int[] pageBuffer() {
+                if (pageBuffer == null)
+                        pageBuffer = new int[2 * pageSize + 2048];
+                return pageBuffer;
+        }
+
+        private void getBestBFromData(int[] in, int pos, int length) {
+                Arrays.fill(freqs, 0);
+                if (zigzag)
+                        for (int k = pos, k_end = pos + length; k < k_end; ++k)
+                                freqs[Util.bits((in[k] << 1) ^ (in[k] >> 31))]++;
+                else
+                        for (int k = pos, k_end = pos + length; k < k_end; ++k)
+                                freqs[Util.bits(in[k])]++;
                 bestbbestcexceptmaxb[0] = 32;
                 while (freqs[bestbbestcexceptmaxb[0]] == 0)
                         bestbbestcexceptmaxb[0]--;
                 bestbbestcexceptmaxb[2] = bestbbestcexceptmaxb[0];
-                int bestcost = bestbbestcexceptmaxb[0] * BLOCK_SIZE;
+                int bestcost = bestbbestcexceptmaxb[0] * length;
                 byte cexcept = 0;
                 bestbbestcexceptmaxb[1] = cexcept;
                 for (int b = bestbbestcexceptmaxb[0] - 1; b >= 0; --b) {
@@ -126,7 +247,7 @@ public final class FastPFOR implements IntegerCODEC {
                         // the extra 8 is the cost of storing maxbits
                         int thiscost = cexcept * OVERHEAD_OF_EACH_EXCEPT
                                 + cexcept * (bestbbestcexceptmaxb[2] - b) + b
-                                * BLOCK_SIZE + 8;
+                                * length + 8;
                         if (thiscost < bestcost) {
                                 bestcost = thiscost;
                                 bestbbestcexceptmaxb[0] = (byte) b;
@@ -147,11 +268,17 @@ public final class FastPFOR implements IntegerCODEC {
                 byteContainer.clear();
 
                 int tmpinpos = inpos.get();
-                for (final int finalinpos = tmpinpos + thissize - BLOCK_SIZE; tmpinpos <= finalinpos; tmpinpos += BLOCK_SIZE) {
-                        getBestBFromData(in, tmpinpos);
+                int blocklength = BLOCK_SIZE;
+                for (final int finalinpos = tmpinpos + thissize; tmpinpos < finalinpos; tmpinpos += blocklength) {
+                        blocklength = Math.min(BLOCK_SIZE, finalinpos
+                                - tmpinpos);
+                        getBestBFromData(in, tmpinpos, blocklength);
                         final int tmpbestb = bestbbestcexceptmaxb[0];
                         byteContainer.put(bestbbestcexceptmaxb[0]);
                         byteContainer.put(bestbbestcexceptmaxb[1]);
+                        if (stats != null)
+                                stats.recordBlock(tmpbestb,
+                                        bestbbestcexceptmaxb[1]);
                         if (bestbbestcexceptmaxb[1] > 0) {
                                 byteContainer.put(bestbbestcexceptmaxb[2]);
                                 final int index = bestbbestcexceptmaxb[2]
@@ -164,22 +291,42 @@ public final class FastPFOR implements IntegerCODEC {
                                                 .floorBy(newsize + 31, 32);
                                         dataTobePacked[index] = Arrays.copyOf(
                                                 dataTobePacked[index], newsize);
+                                        if (stats != null)
+                                                stats.recordBufferGrowth();
                                 }
-                                for (int k = 0; k < BLOCK_SIZE; ++k) {
-                                        if ((in[k + tmpinpos] >>> bestbbestcexceptmaxb[0]) != 0) {
+                                for (int k = 0; k < blocklength; ++k) {
+                                        int v = in[k + tmpinpos];
+                                        if (zigzag)
+                                                v = (v << 1) ^ (v >> 31);
+                                        if ((v >>> bestbbestcexceptmaxb[0]) != 0) {
                                                 // we have an exception
                                                 byteContainer.put((byte) k);
-                                                dataTobePacked[index][dataPointers[index]++] = in[k
-                                                        + tmpinpos] >>> tmpbestb;
+                                                dataTobePacked[index][dataPointers[index]++] = v >>> tmpbestb;
                                         }
                                 }
 
                         }
-                        for (int k = 0; k < 128; k += 32) {
-                                BitPacking.fastpack(in, tmpinpos + k, out,
-                                        tmpoutpos, tmpbestb);
-                                tmpoutpos += tmpbestb;
-                        }
+                        if (blocklength == BLOCK_SIZE) {
+                                for (int k = 0; k < 128; k += 32) {
+                                        if (zigzag)
+                                                ZigzagBitPacking.fastpack(in,
+                                                        tmpinpos + k, out,
+                                                        tmpoutpos, tmpbestb);
+                                        else
+                                                BitPacking.fastpack(in,
+                                                        tmpinpos + k, out,
+                                                        tmpoutpos, tmpbestb);
+                                        tmpoutpos += tmpbestb;
+                                }
+                        } else if (zigzag) {
+                                // the last block of the array
+                                Util.zigzagEncode(in, tmpinpos, blocklength,
+                                        zigzagBuffer, 0);
+                                tmpoutpos += BitPacking.pack(zigzagBuffer, 0,
+                                        out, tmpoutpos, blocklength, tmpbestb);
+                        } else
+                                tmpoutpos += BitPacking.pack(in, tmpinpos, out,
+                                        tmpoutpos, blocklength, tmpbestb);
                 }
                 inpos.set(tmpinpos);
                 out[headerpos] = tmpoutpos - headerpos;
@@ -222,6 +369,8 @@ public final class FastPFOR implements IntegerCODEC {
                 int[] out, IntWrapper outpos) {
                 if (inlength == 0)
                         return;
+                final long start = stats == null ? 0 : System.nanoTime();
+                final int initinpos = inpos.get();
 
                 int mynvalue = in[inpos.get()];
                 inpos.increment();
@@ -236,13 +385,95 @@ public final class FastPFOR implements IntegerCODEC {
                 }
 
                 dataPointers = null;
+                if (stats != null)
+                        stats.recordUncompress(inpos.get() - initinpos,
+                                mynvalue, System.nanoTime() - start);
+        }
+
+        /**
+         * Uncompress data in blocks of 128 integers from a buffer. In this
+         * particular case, the inlength parameter is ignored: it is deduced
+         * from the compressed data. Buffers backed by an array are
+         * uncompressed in place; otherwise the packed blocks of each page are
+         * first copied to a working area.
+         * 
+         * @see BufferIntegerCODEC#uncompress(IntBuffer, int, int[], IntWrapper)
+         */
+        @Override
+        public void uncompress(IntBuffer in, int inlength, int[] out,
+                IntWrapper outpos) {
+                if (inlength == 0)
+                        return;
+                if (in.hasArray()) {
+                        final IntWrapper inpos = new IntWrapper(in.arrayOffset()
+                                + in.position());
+                        final int initinpos = inpos.get();
+                        uncompress(in.array(), inpos, inlength, out, outpos);
+                        in.position(in.position() + inpos.get() - initinpos);
+                        return;
+                }
+                final long start = stats == null ? 0 : System.nanoTime();
+                final int initinpos = in.position();
+
+                int mynvalue = in.get();
+
+                dataPointers = new int[33];
+                final int[] page = pageBuffer();
+                final int[] buffer = new int[32];
+
+                int finalout = outpos.get() + mynvalue;
+                while (outpos.get() != finalout) {
+                        int thissize = Math.min(pageSize,
+                                finalout - outpos.get());
+                        decodePage(in, page, buffer, out, outpos, thissize);
+                }
+
+                dataPointers = null;
+                if (stats != null)
+                        stats.recordUncompress(in.position() - initinpos,
+                                mynvalue, System.nanoTime() - start);
+        }
+
+        private void decodePage(IntBuffer in, int[] page, int[] buffer,
+                int[] out, IntWrapper outpos, int thissize) {
+                final int wheremeta = in.get();
+                in.get(page, 0, wheremeta - 1);
+                final int bytesize = in.get();
+                byteContainer.clear();
+                final IntBuffer bytes = in.slice();
+                bytes.limit((bytesize + 3) / 4);
+                byteContainer.asIntBuffer().put(bytes);
+                in.position(in.position() + (bytesize + 3) / 4);
+
+                final int bitmap = in.get();
+                for (int k = 1; k <= 32; ++k) {
+                        if ((bitmap & (1 << (k - 1))) != 0) {
+                                int size = in.get();
+                                if (dataTobePacked[k].length < size)
+                                        dataTobePacked[k] = new int[Util
+                                                .floorBy(size + 31, 32)];
+                                for (int j = 0; j < size; j += 32)
+                                        BitUnpacker.unpack(in,
+                                                dataTobePacked[k], j, k,
+                                                buffer);
+                        }
+                }
+                outpos.set(decodeBlocks(page, 0, out, outpos.get(), thissize));
         }
 
         private void decodePage(int[] in, IntWrapper inpos, int[] out,
                 IntWrapper outpos, int thissize) {
                 final int initpos = inpos.get();
-                final int wheremeta = in[inpos.get()];
-                inpos.increment();
+                final int inexcept = loadPage(in, initpos);
+                outpos.set(decodeBlocks(in, initpos + 1, out, outpos.get(),
+                        thissize));
+                inpos.set(inexcept);
+        }
+
+        // Loads the metadata bytes and unpacks the exceptions of the page
+        // starting at initpos; returns the position following the page.
+        private int loadPage(int[] in, int initpos) {
+                final int wheremeta = in[initpos];
                 int inexcept = initpos + wheremeta;
                 final int bytesize = in[inexcept++];
                 byteContainer.clear();
@@ -263,31 +494,362 @@ public final class FastPFOR implements IntegerCODEC {
                                 }
                         }
                 }
-                Arrays.fill(dataPointers, 0);
-                int tmpoutpos = outpos.get();
-                int tmpinpos = inpos.get();
+                return inexcept;
+        }
 
-                for (int run = 0, run_end = thissize / BLOCK_SIZE; run < run_end; ++run, tmpoutpos += BLOCK_SIZE) {
+        // Unpacks and patches the blocks of a page whose metadata bytes and
+        // exceptions have been loaded; returns the new output position.
+        private int decodeBlocks(int[] in, int tmpinpos, int[] out,
+                int tmpoutpos, int thissize) {
+                Arrays.fill(dataPointers, 0);
+                int blocklength = BLOCK_SIZE;
+                for (final int finaloutpos = tmpoutpos + thissize; tmpoutpos < finaloutpos; tmpoutpos += blocklength) {
+                        blocklength = Math.min(BLOCK_SIZE, finaloutpos
+                                - tmpoutpos);
                         final byte b = byteContainer.get();
                         final byte cexcept = byteContainer.get();
-                        for (int k = 0; k < 128; k += 32) {
-                                BitPacking.fastunpack(in, tmpinpos, out,
-                                        tmpoutpos + k, b);
-                                tmpinpos += b;
-                        }
+                        // full blocks are zigzag decoded while unpacked
+                        final boolean fused = zigzag
+                                && blocklength == BLOCK_SIZE;
+                        if (blocklength == BLOCK_SIZE) {
+                                for (int k = 0; k < 128; k += 32) {
+                                        if (fused)
+                                                ZigzagBitPacking.fastunpack(in,
+                                                        tmpinpos, out,
+                                                        tmpoutpos + k, b);
+                                        else
+                                                BitPacking.fastunpack(in,
+                                                        tmpinpos, out,
+                                                        tmpoutpos + k, b);
+                                        tmpinpos += b;
+                                }
+                        } else
+                                tmpinpos += BitPacking.unpack(in, tmpinpos,
+                                        out, tmpoutpos, blocklength, b);
                         if (cexcept > 0) {
                                 final byte maxbits = byteContainer.get();
                                 final int index = maxbits - b;
                                 for (int k = 0; k < cexcept; ++k) {
                                         final byte pos = byteContainer.get();
                                         final int exceptvalue = dataTobePacked[index][dataPointers[index]++];
-                                        out[pos + tmpoutpos] |= exceptvalue << b;
+                                        if (fused)
+                                                out[pos + tmpoutpos] = Util
+                                                        .zigzagPatch(out[pos
+                                                                + tmpoutpos],
+                                                                exceptvalue, b);
+                                        else
+                                                out[pos + tmpoutpos] |= exceptvalue << b;
                                 }
 
                         }
+                        if (zigzag && !fused)
+                                Util.zigzagDecode(out, tmpoutpos, blocklength);
+                }
+                return tmpoutpos;
+        }
+
+        /**
+         * Evaluate the range predicate lo &lt;= v &lt; hi (signed comparisons)
+         * over compressed data. Each block of 128 integers is unpacked and
+         * patched to a small buffer and compared right away, unless the
+         * largest bit width of the block (exceptions included) proves that
+         * none (or all) of its integers can match. See RangeScan.
+         * 
+         * @param in
+         *                array containing data in compressed form
+         * @param inpos
+         *                where the compressed data starts (modified)
+         * @param inlength
+         *                length of the compressed data
+         * @param lo
+         *                smallest value in the range
+         * @param hi
+         *                value following the largest value in the range
+         * @param bitmap
+         *                receives the selection bitmap (one word per 32
+         *                integers)
+         * @param bitmappos
+         *                where to write the selection bitmap
+         * @return number of integers satisfying the predicate
+         */
+        public int scan(int[] in, IntWrapper inpos, int inlength, int lo,
+                int hi, int[] bitmap, int bitmappos) {
+                if (inlength == 0)
+                        return 0;
+                final int mynvalue = in[inpos.get()];
+                inpos.increment();
+                dataPointers = new int[33];
+                final int[] buffer = new int[BLOCK_SIZE];
+                int count = 0;
+                for (int s = 0; s < mynvalue; s += pageSize) {
+                        final int initpos = inpos.get();
+                        inpos.set(loadPage(in, initpos));
+                        count += scanBlocks(in, initpos + 1,
+                                Math.min(pageSize, mynvalue - s), lo, hi,
+                                buffer, bitmap, bitmappos + s / 32);
+                }
+                dataPointers = null;
+                return count;
+        }
+
+        private int scanBlocks(int[] in, int tmpinpos, int thissize, int lo,
+                int hi, int[] buffer, int[] bitmap, int bitmappos) {
+                Arrays.fill(dataPointers, 0);
+                int count = 0;
+                int blocklength = BLOCK_SIZE;
+                for (int s = 0; s < thissize; s += blocklength) {
+                        blocklength = Math.min(BLOCK_SIZE, thissize - s);
+                        final byte b = byteContainer.get();
+                        final byte cexcept = byteContainer.get();
+                        final byte maxbits = cexcept > 0 ? byteContainer.get()
+                                : b;
+                        final int kind = RangeScan.classify(maxbits, lo, hi);
+                        if (kind == RangeScan.SOME)
+                                unpackBlock(in, tmpinpos, blocklength, b,
+                                        cexcept, maxbits, buffer);
+                        else
+                                skipExceptions(b, cexcept, maxbits);
+                        for (int k = 0; k < blocklength; k += 32) {
+                                final int howmany = Math.min(32, blocklength
+                                        - k);
+                                int word = 0;
+                                if (kind == RangeScan.SOME)
+                                        word = RangeScan.select(buffer, k,
+                                                howmany, lo, hi);
+                                else if (kind == RangeScan.ALL)
+                                        word = RangeScan.all(howmany);
+                                bitmap[bitmappos + (s + k) / 32] = word;
+                                count += Integer.bitCount(word);
+                        }
+                        tmpinpos += blocklength / 32 * b
+                                + ((blocklength & 31) * b + 31) / 32;
+                }
+                return count;
+        }
+
+        // Unpacks and patches a block of the current page (see loadPage).
+        private void unpackBlock(int[] in, int tmpinpos, int blocklength,
+                byte b, byte cexcept, byte maxbits, int[] buffer) {
+                if (blocklength == BLOCK_SIZE)
+                        BitUnpacker.unpack128(in, tmpinpos, buffer, 0, b);
+                else
+                        BitPacking.unpack(in, tmpinpos, buffer, 0, blocklength,
+                                b);
+                final int index = maxbits - b;
+                for (int k = 0; k < cexcept; ++k) {
+                        final byte pos = byteContainer.get();
+                        buffer[pos] |= dataTobePacked[index][dataPointers[index]++] << b;
+                }
+        }
+
+        // Moves past the exceptions of a block that is not unpacked.
+        private void skipExceptions(byte b, byte cexcept, byte maxbits) {
+                if (cexcept > 0) {
+                        byteContainer.position(byteContainer.position()
+                                + cexcept);
+                        dataPointers[maxbits - b] += cexcept;
+                }
+        }
+
+        /**
+         * Aggregate compressed data without uncompressing it to an array.
+         * Each block of 128 integers is skipped when its largest bit width
+         * (exceptions included) proves that it cannot change the result;
+         * otherwise it is unpacked and patched to a small buffer and
+         * accumulated right away. COUNT only reads the number of integers
+         * and walks over the page headers. See Aggregate.
+         * 
+         * @param in
+         *                array containing data in compressed form
+         * @param inpos
+         *                where the compressed data starts (modified)
+         * @param inlength
+         *                length of the compressed data
+         * @param op
+         *                Aggregate.SUM, MIN, MAX or COUNT
+         * @return the aggregate
+         */
+        public long aggregate(int[] in, IntWrapper inpos, int inlength, int op) {
+                long acc = Aggregate.initial(op);
+                if (inlength == 0)
+                        return acc;
+                final int mynvalue = in[inpos.get()];
+                inpos.increment();
+                if (op == Aggregate.COUNT) {
+                        for (int s = 0; s < mynvalue; s += pageSize)
+                                inpos.add(pageLength(in, inpos.get()));
+                        return mynvalue;
+                }
+                dataPointers = new int[33];
+                final int[] buffer = new int[BLOCK_SIZE];
+                for (int s = 0; s < mynvalue; s += pageSize) {
+                        final int initpos = inpos.get();
+                        inpos.set(loadPage(in, initpos));
+                        acc = aggregateBlocks(in, initpos + 1,
+                                Math.min(pageSize, mynvalue - s), op, acc,
+                                buffer);
+                }
+                dataPointers = null;
+                return acc;
+        }
+
+        // Pages are located from their headers, the size of their metadata
+        // and the sizes of their exceptions.
+        private static int pageLength(int[] in, int pagepos) {
+                int p = pagepos + in[pagepos];
+                final int bytesize = in[p++];
+                p += (bytesize + 3) / 4;
+                final int bitmap = in[p++];
+                for (int k = 1; k <= 32; ++k) {
+                        if ((bitmap & (1 << (k - 1))) != 0) {
+                                final int size = in[p++];
+                                p += (size + 31) / 32 * k;
+                        }
+                }
+                return p - pagepos;
+        }
+
+        private long aggregateBlocks(int[] in, int tmpinpos, int thissize,
+                int op, long acc, int[] buffer) {
+                Arrays.fill(dataPointers, 0);
+                int blocklength = BLOCK_SIZE;
+                for (int s = 0; s < thissize; s += blocklength) {
+                        blocklength = Math.min(BLOCK_SIZE, thissize - s);
+                        final byte b = byteContainer.get();
+                        final byte cexcept = byteContainer.get();
+                        final byte maxbits = cexcept > 0 ? byteContainer.get()
+                                : b;
+                        if (Aggregate.canSkip(op, maxbits, acc)) {
+                                skipExceptions(b, cexcept, maxbits);
+                                acc = Aggregate.skipped(op, acc, blocklength);
+                        } else {
+                                unpackBlock(in, tmpinpos, blocklength, b,
+                                        cexcept, maxbits, buffer);
+                                acc = Aggregate.accumulate(op, acc, buffer, 0,
+                                        blocklength);
+                        }
+                        tmpinpos += blocklength / 32 * b
+                                + ((blocklength & 31) * b + 31) / 32;
+                }
+                return acc;
+        }
+
+        /**
+         * Iterate over compressed data, uncompressing one block of 128
+         * integers at a time. The exceptions of a page are unpacked when the
+         * iterator enters the page. The iterator has its own working area:
+         * it does not share the state of this CODEC. It can be split at page
+         * boundaries.
+         * 
+         * @param in
+         *                array containing data in compressed form
+         * @param inpos
+         *                where the compressed data starts
+         * @param inlength
+         *                length of the compressed data
+         * @return an iterator over the uncompressed integers
+         */
+        public BlockIterator iterator(int[] in, int inpos, int inlength) {
+                return new Iterator(in, inpos + 1, inlength == 0 ? 0
+                        : in[inpos], pageSize);
+        }
+
+        private static final class Iterator extends BlockIterator {
+                final int[] in;
+                final int pageSize;
+                final int[][] exceptions = new int[33][];
+                final int[] exceptionPointers = new int[33];
+                // where the next page starts
+                int inpos;
+                int left;
+                int pageLeft = 0;
+                int tmpinpos;
+                // metadata bytes of the current page (little endian)
+                int metapos;
+                int bytepos;
+
+                Iterator(int[] in, int inpos, int left, int pageSize) {
+                        super(left);
+                        this.in = in;
+                        this.inpos = inpos;
+                        this.left = left;
+                        this.pageSize = pageSize;
+                }
+
+                @Override
+                protected BlockIterator split() {
+                        final int current = pageLeft > 0 ? 1 : 0;
+                        final int pages = current
+                                + (left - pageLeft + pageSize - 1) / pageSize;
+                        if (pages < 2)
+                                return null;
+                        int splitpos = inpos;
+                        for (int k = current; k < pages / 2; ++k)
+                                splitpos += pageLength(in, splitpos);
+                        final int splitleft = left - pageLeft
+                                - (pages / 2 - current) * pageSize;
+                        left -= splitleft;
+                        return new Iterator(in, splitpos, splitleft, pageSize);
+                }
+
+                private int nextByte() {
+                        final int word = in[metapos + (bytepos >>> 2)];
+                        final int answer = (word >>> ((bytepos & 3) << 3)) & 0xFF;
+                        ++bytepos;
+                        return answer;
+                }
+
+                private void loadPage() {
+                        pageLeft = Math.min(pageSize, left);
+                        tmpinpos = inpos + 1;
+                        int inexcept = inpos + in[inpos];
+                        final int bytesize = in[inexcept++];
+                        metapos = inexcept;
+                        bytepos = 0;
+                        inexcept += (bytesize + 3) / 4;
+                        final int bitmap = in[inexcept++];
+                        for (int k = 1; k <= 32; ++k) {
+                                exceptionPointers[k] = 0;
+                                if ((bitmap & (1 << (k - 1))) != 0) {
+                                        int size = in[inexcept++];
+                                        if (exceptions[k] == null
+                                                || exceptions[k].length < size)
+                                                exceptions[k] = new int[Util
+                                                        .floorBy(size + 31, 32)];
+                                        for (int j = 0; j < size; j += 32) {
+                                                BitPacking.fastunpack(in,
+                                                        inexcept,
+                                                        exceptions[k], j, k);
+                                                inexcept += k;
+                                        }
+                                }
+                        }
+                        inpos = inexcept;
+                }
+
+                @Override
+                protected int decodeBlock(int[] out) {
+                        if (pageLeft == 0)
+                                loadPage();
+                        final int blocklength = Math.min(BLOCK_SIZE, pageLeft);
+                        final int b = nextByte();
+                        final int cexcept = nextByte();
+                        if (blocklength == BLOCK_SIZE) {
+                                BitUnpacker.unpack128(in, tmpinpos, out, 0, b);
+                                tmpinpos += 4 * b;
+                        } else
+                                tmpinpos += BitPacking.unpack(in, tmpinpos,
+                                        out, 0, blocklength, b);
+                        if (cexcept > 0) {
+                                final int index = nextByte() - b;
+                                final int[] values = exceptions[index];
+                                for (int k = 0; k < cexcept; ++k)
+                                        out[nextByte()] |= values[exceptionPointers[index]++] << b;
+                        }
+                        pageLeft -= blocklength;
+                        left -= blocklength;
+                        return blocklength;
                 }
-                outpos.set(tmpoutpos);
-                inpos.set(inexcept);
         }
 
         @Override
@@ -0,0 +1,145 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ *
+ * (c) Daniel Lemire, http://lemire.me/en/
+ */
+package me.lemire.integercompression;
+
+import java.util.Arrays;
+
+/**
+ * A hash map from int to int with open addressing and linear probing: keys
+ * and values are stored in arrays so that no object is allocated per entry.
+ * The capacity is a power of two and doubles when the map is half full.
+ * 
+ * It is meant for the internals of the CODECs (e.g., DictionaryCODEC), where
+ * a java.util.HashMap would box every key and value.
+ * 
+ * @author Daniel Lemire
+ */
+public final class IntIntHashMap {
+        int[] keys;
+        int[] values;
+        boolean[] used;
+        int size;
+        int shift;
+
+        /**
+         * Construct an empty map.
+         * 
+         * @param expectedsize
+         *                number of entries that can be stored without
+         *                resizing
+         */
+        public IntIntHashMap(int expectedsize) {
+                int capacity = 16;
+                while (capacity < 2 * expectedsize)
+                        capacity *= 2;
+                allocate(capacity);
+        }
+
+        private void allocate(int capacity) {
+                keys = new int[capacity];
+                values = new int[capacity];
+                used = new boolean[capacity];
+                shift = Integer.numberOfLeadingZeros(capacity) + 1;
+        }
+
+        private int slot(int key) {
+                // Fibonacci hashing: the high bits of the product are well
+                // mixed
+                int k = (key * 0x9E3779B9) >>> shift;
+                final int mask = keys.length - 1;
+                while (used[k] && keys[k] != key)
+                        k = (k + 1) & mask;
+                return k;
+        }
+
+        /**
+         * @param key
+         *                key to look up
+         * @return whether the map contains this key
+         */
+        public boolean containsKey(int key) {
+                return used[slot(key)];
+        }
+
+        /**
+         * @param key
+         *                key to look up
+         * @param missing
+         *                value returned if the key is not present
+         * @return the value associated with the key, or missing
+         */
+        public int get(int key, int missing) {
+                final int k = slot(key);
+                return used[k] ? values[k] : missing;
+        }
+
+        /**
+         * Associate a value with a key, replacing any previous value.
+         * 
+         * @param key
+         *                key
+         * @param value
+         *                value
+         */
+        public void put(int key, int value) {
+                final int k = slot(key);
+                values[k] = value;
+                if (used[k])
+                        return;
+                used[k] = true;
+                keys[k] = key;
+                if (++size * 2 > keys.length)
+                        rehash();
+        }
+
+        /**
+         * Add a value to the value associated with a key (a missing key is
+         * associated with zero).
+         * 
+         * @param key
+         *                key
+         * @param delta
+         *                value to add
+         * @return the new value associated with the key
+         */
+        public int addTo(int key, int delta) {
+                final int k = slot(key);
+                if (used[k])
+                        return values[k] += delta;
+                put(key, delta);
+                return delta;
+        }
+
+        private void rehash() {
+                final int[] oldkeys = keys;
+                final int[] oldvalues = values;
+                final boolean[] oldused = used;
+                allocate(2 * oldkeys.length);
+                for (int k = 0; k < oldkeys.length; ++k)
+                        if (oldused[k]) {
+                                final int s = slot(oldkeys[k]);
+                                used[s] = true;
+                                keys[s] = oldkeys[k];
+                                values[s] = oldvalues[k];
+                        }
+        }
+
+        /**
+         * @return number of keys in the map
+         */
+        public int size() {
+                return size;
+        }
+
+        /**
+         * Remove all entries (the capacity is kept).
+         */
+        public void clear() {
+                Arrays.fill(used, false);
+                size = 0;
+        }
+}
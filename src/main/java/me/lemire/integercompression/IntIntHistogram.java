@@ -0,0 +1,157 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ *
+ * (c) Daniel Lemire, http://lemire.me/en/
+ */
+package me.lemire.integercompression;
+
+import java.util.Arrays;
+
+/**
+ * Counts the occurrences of int values without boxing (open addressing and
+ * linear probing over primitive arrays). The distinct values are also kept
+ * in order of first occurrence, so that they can be enumerated, and so that
+ * reset only touches the slots that were used: a histogram can be reset and
+ * reused for each page or block without reallocation (see DictionaryCODEC).
+ * 
+ * @author Daniel Lemire
+ */
+public final class IntIntHistogram {
+        int[] keys;
+        int[] counts;
+        boolean[] used;
+        int[] distinct;
+        int size;
+        int shift;
+
+        /**
+         * Construct an empty histogram.
+         * 
+         * @param expecteddistinct
+         *                number of distinct values that can be counted
+         *                without resizing
+         */
+        public IntIntHistogram(int expecteddistinct) {
+                int capacity = 16;
+                while (capacity < 2 * expecteddistinct)
+                        capacity *= 2;
+                allocate(capacity);
+                distinct = new int[capacity / 2];
+        }
+
+        private void allocate(int capacity) {
+                keys = new int[capacity];
+                counts = new int[capacity];
+                used = new boolean[capacity];
+                shift = Integer.numberOfLeadingZeros(capacity) + 1;
+        }
+
+        private int slot(int key) {
+                return slot(keys, used, shift, key);
+        }
+
+        private static int slot(int[] keys, boolean[] used, int shift, int key) {
+                int k = (key * 0x9E3779B9) >>> shift;
+                final int mask = keys.length - 1;
+                while (used[k] && keys[k] != key)
+                        k = (k + 1) & mask;
+                return k;
+        }
+
+        /**
+         * Count one occurrence of a value.
+         * 
+         * @param value
+         *                value
+         * @return number of occurrences of the value so far
+         */
+        public int increment(int value) {
+                final int k = slot(value);
+                if (used[k])
+                        return ++counts[k];
+                used[k] = true;
+                keys[k] = value;
+                counts[k] = 1;
+                if (size == distinct.length)
+                        distinct = Arrays.copyOf(distinct, 2 * size);
+                distinct[size++] = value;
+                if (size * 2 > keys.length)
+                        rehash();
+                return 1;
+        }
+
+        /**
+         * Count the occurrences of a range of values.
+         * 
+         * @param in
+         *                source array
+         * @param pos
+         *                starting position
+         * @param length
+         *                number of values
+         */
+        public void increment(int[] in, int pos, int length) {
+                for (int k = pos; k < pos + length; ++k)
+                        increment(in[k]);
+        }
+
+        // values are reinserted in order of first occurrence (see reset)
+        private void rehash() {
+                final int[] oldcounts = counts;
+                final int[] oldkeys = keys;
+                final boolean[] oldused = used;
+                final int oldshift = shift;
+                allocate(2 * oldkeys.length);
+                for (int k = 0; k < size; ++k) {
+                        final int value = distinct[k];
+                        final int s = slot(value);
+                        used[s] = true;
+                        keys[s] = value;
+                        counts[s] = oldcounts[slot(oldkeys, oldused,
+                                oldshift, value)];
+                }
+        }
+
+        /**
+         * @param value
+         *                value
+         * @return number of occurrences of the value
+         */
+        public int count(int value) {
+                final int k = slot(value);
+                return used[k] ? counts[k] : 0;
+        }
+
+        /**
+         * @return number of distinct values
+         */
+        public int size() {
+                return size;
+        }
+
+        /**
+         * @param index
+         *                index between 0 and size() - 1
+         * @return the index-th distinct value, in order of first occurrence
+         */
+        public int value(int index) {
+                return distinct[index];
+        }
+
+        /**
+         * Forget all values. The cost is proportional to the number of
+         * distinct values and no memory is allocated.
+         */
+        public void reset() {
+                if (size * 8 < keys.length) {
+                        // In reverse order of insertion: the probe sequence of
+                        // a value only goes through slots of values inserted
+                        // before it, which are still marked as used.
+                        for (int k = size - 1; k >= 0; --k)
+                                used[slot(distinct[k])] = false;
+                } else
+                        Arrays.fill(used, false);
+                size = 0;
+        }
+}
@@ -0,0 +1,26 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ *
+ * (c) Daniel Lemire, http://lemire.me/en/
+ */
+package me.lemire.integercompression;
+
+/**
+ * Iterator over primitive integers (no boxing).
+ * 
+ * @author Daniel Lemire
+ */
+public interface IntIterator {
+        /**
+         * @return whether there is at least one more integer
+         */
+        public boolean hasNext();
+
+        /**
+         * @return the next integer
+         * @throws java.util.NoSuchElementException
+         *                 if there is no more integer
+         */
+        public int next();
+}
@@ -0,0 +1,21 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ *
+ * (c) Daniel Lemire, http://lemire.me/en/
+ */
+package me.lemire.integercompression;
+
+/**
+ * Predicate over primitive integers (no boxing).
+ * 
+ * @author Daniel Lemire
+ */
+public interface IntPredicate {
+        /**
+         * @param value
+         *                integer to test
+         * @return whether the integer satisfies the predicate
+         */
+        public boolean test(int value);
+}
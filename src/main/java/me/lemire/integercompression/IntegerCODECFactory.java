@@ -0,0 +1,29 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ *
+ * (c) Daniel Lemire, http://lemire.me/en/
+ */
+package me.lemire.integercompression;
+
+/**
+ * Creates new CODEC instances. CODECs are not thread-safe: code that
+ * compresses or uncompresses from several threads uses a factory to give each
+ * thread its own instance.
+ * 
+ * <pre>
+ * IntegerCODECFactory f = new IntegerCODECFactory() {
+ *         public IntegerCODEC newCodec() {
+ *                 return new Composition(new FastPFOR(), new VariableByte());
+ *         }
+ * };
+ * </pre>
+ * 
+ * @author Daniel Lemire
+ */
+public interface IntegerCODECFactory {
+        /**
+         * @return a new CODEC instance
+         */
+        public IntegerCODEC newCodec();
+}
@@ -0,0 +1,75 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ *
+ * (c) Daniel Lemire, http://lemire.me/en/
+ */
+package me.lemire.integercompression;
+
+import com.kamikaze.pfordelta.LCPForDelta;
+
+/**
+ * The Lucene-tuned PForDelta from the kamikaze library
+ * (com.kamikaze.pfordelta.LCPForDelta) wrapped as an IntegerCODEC so that it
+ * can be benchmarked and composed like the other schemes. The blocks are
+ * compressed directly into the output array and decompressed directly from
+ * the input array; the working areas of the LCPForDelta object are reused from
+ * one block to the next.
+ *
+ * It encodes integers in blocks of 128 integers, the kamikaze blocks being
+ * written one after the other. For arrays containing an arbitrary number of
+ * integers, you should use it in conjunction with another CODEC:
+ *
+ * <pre>
+ * IntegerCODEC ic = new Composition(new KamikazeLCPForDelta(), new VariableByte()).
+ * </pre>
+ *
+ * The integers must be smaller than 2^31 (kamikaze relies on signed
+ * comparisons).
+ *
+ * For multi-threaded applications, each thread should use its own
+ * KamikazeLCPForDelta object.
+ *
+ * @author Daniel Lemire
+ */
+public final class KamikazeLCPForDelta implements IntegerCODEC {
+        final static int BlockSize = 128;
+        final LCPForDelta codec = new LCPForDelta();
+
+        @Override
+        public void compress(int[] in, IntWrapper inpos, int inlength,
+                int[] out, IntWrapper outpos) {
+                inlength = inlength / BlockSize * BlockSize;
+                if (inlength == 0)
+                        return;
+                int tmpinpos = inpos.get();
+                int tmpoutpos = outpos.get();
+                out[tmpoutpos++] = inlength;
+                for (final int finalinpos = tmpinpos + inlength; tmpinpos < finalinpos; tmpinpos += BlockSize) {
+                        tmpoutpos += codec.compress(in, tmpinpos, BlockSize,
+                                out, tmpoutpos);
+                }
+                inpos.set(tmpinpos);
+                outpos.set(tmpoutpos);
+        }
+
+        @Override
+        public void uncompress(int[] in, IntWrapper inpos, int inlength,
+                int[] out, IntWrapper outpos) {
+                if (inlength == 0)
+                        return;
+                int tmpinpos = inpos.get();
+                int tmpoutpos = outpos.get();
+                for (final int finaloutpos = tmpoutpos + in[tmpinpos++]; tmpoutpos < finaloutpos; tmpoutpos += BlockSize) {
+                        tmpinpos += codec.decompress(in, tmpinpos, out,
+                                tmpoutpos, BlockSize);
+                }
+                inpos.set(tmpinpos);
+                outpos.set(tmpoutpos);
+        }
+
+        @Override
+        public String toString() {
+                return this.getClass().getSimpleName();
+        }
+}
@@ -0,0 +1,74 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ *
+ * (c) Daniel Lemire, http://lemire.me/en/
+ */
+package me.lemire.integercompression;
+
+import com.kamikaze.pfordelta.PForDelta;
+
+/**
+ * PForDelta from the kamikaze library (com.kamikaze.pfordelta.PForDelta)
+ * wrapped as an IntegerCODEC so that it can be benchmarked and composed like
+ * the other schemes. The blocks are compressed directly into the output array
+ * and decompressed directly from the input array.
+ *
+ * It encodes integers in blocks of 128 integers, the kamikaze blocks being
+ * written one after the other. For arrays containing an arbitrary number of
+ * integers, you should use it in conjunction with another CODEC:
+ *
+ * <pre>
+ * IntegerCODEC ic = new Composition(new KamikazePForDelta(), new VariableByte()).
+ * </pre>
+ *
+ * The integers must be smaller than 2^31 (kamikaze relies on signed
+ * comparisons).
+ *
+ * For multi-threaded applications, each thread should use its own
+ * KamikazePForDelta object.
+ *
+ * @author Daniel Lemire
+ */
+public final class KamikazePForDelta implements IntegerCODEC {
+        final static int BlockSize = 128;
+        // working area of the exceptions
+        final int[] expAux = new int[2 * BlockSize];
+
+        @Override
+        public void compress(int[] in, IntWrapper inpos, int inlength,
+                int[] out, IntWrapper outpos) {
+                inlength = inlength / BlockSize * BlockSize;
+                if (inlength == 0)
+                        return;
+                int tmpinpos = inpos.get();
+                int tmpoutpos = outpos.get();
+                out[tmpoutpos++] = inlength;
+                for (final int finalinpos = tmpinpos + inlength; tmpinpos < finalinpos; tmpinpos += BlockSize) {
+                        tmpoutpos += PForDelta.compressOneBlockOpt(in,
+                                tmpinpos, BlockSize, out, tmpoutpos, expAux);
+                }
+                inpos.set(tmpinpos);
+                outpos.set(tmpoutpos);
+        }
+
+        @Override
+        public void uncompress(int[] in, IntWrapper inpos, int inlength,
+                int[] out, IntWrapper outpos) {
+                if (inlength == 0)
+                        return;
+                int tmpinpos = inpos.get();
+                int tmpoutpos = outpos.get();
+                for (final int finaloutpos = tmpoutpos + in[tmpinpos++]; tmpoutpos < finaloutpos; tmpoutpos += BlockSize) {
+                        tmpinpos += PForDelta.decompressOneBlock(out,
+                                tmpoutpos, in, tmpinpos, BlockSize, expAux);
+                }
+                inpos.set(tmpinpos);
+                outpos.set(tmpoutpos);
+        }
+
+        @Override
+        public String toString() {
+                return this.getClass().getSimpleName();
+        }
+}
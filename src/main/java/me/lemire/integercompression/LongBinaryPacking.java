@@ -0,0 +1,138 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ *
+ * (c) Daniel Lemire, http://lemire.me/en/
+ */
+package me.lemire.integercompression;
+
+import java.util.Arrays;
+
+/**
+ * BinaryPacking for longs: the longs are compressed to an array of integers in
+ * blocks of 128 longs, each block being made of 4 groups of 32 longs packed
+ * with their own bit width (0 to 64, see LongBitPacking). The bit widths of a
+ * block are stored in a header integer, one byte per group, as in
+ * BinaryPacking.
+ *
+ * Arrays of any length are compressed: the last groups of 32 longs are padded
+ * with zeros.
+ *
+ * Note that this does not use differential coding: if you are working on
+ * sorted lists, you must compute the deltas separately.
+ *
+ * For multi-threaded applications, each thread should use its own
+ * LongBinaryPacking object.
+ *
+ * @author Daniel Lemire
+ */
+public final class LongBinaryPacking {
+        // working area for the last groups of 32 longs
+        final long[] buffer = new long[32];
+
+        /**
+         * Compress longs.
+         *
+         * @param in
+         *                input array
+         * @param inpos
+         *                where to start reading in the array (modified)
+         * @param inlength
+         *                how many longs to compress
+         * @param out
+         *                output array
+         * @param outpos
+         *                where to write in the output array (modified)
+         */
+        public void compress(long[] in, IntWrapper inpos, int inlength,
+                int[] out, IntWrapper outpos) {
+                if (inlength == 0)
+                        return;
+                out[outpos.get()] = inlength;
+                outpos.increment();
+                int tmpoutpos = outpos.get();
+                final int finalinpos = inpos.get() + inlength;
+                for (int s = inpos.get(); s < finalinpos; s += 32 * 4) {
+                        final int headerpos = tmpoutpos++;
+                        int header = 0;
+                        for (int k = 0; k < 4; ++k) {
+                                final int n = finalinpos - s - 32 * k;
+                                long[] src = in;
+                                int srcpos = s + 32 * k;
+                                if (n < 32) {
+                                        Arrays.fill(buffer, 0);
+                                        if (n > 0)
+                                                System.arraycopy(in, srcpos,
+                                                        buffer, 0, n);
+                                        src = buffer;
+                                        srcpos = 0;
+                                }
+                                final int mbits = maxbits(src, srcpos);
+                                header |= mbits << (24 - 8 * k);
+                                LongBitPacking.fastpack(src, srcpos, out,
+                                        tmpoutpos, mbits);
+                                tmpoutpos += mbits;
+                        }
+                        out[headerpos] = header;
+                }
+                inpos.set(finalinpos);
+                outpos.set(tmpoutpos);
+        }
+
+        /**
+         * Uncompress longs. The inlength parameter is only checked against 0:
+         * the number of longs is deduced from the compressed data.
+         *
+         * @param in
+         *                array containing data in compressed form
+         * @param inpos
+         *                where to start reading in the array (modified)
+         * @param inlength
+         *                length of the compressed data
+         * @param out
+         *                array where to write the uncompressed longs
+         * @param outpos
+         *                where to write in the output array (modified)
+         */
+        public void uncompress(int[] in, IntWrapper inpos, int inlength,
+                long[] out, IntWrapper outpos) {
+                if (inlength == 0)
+                        return;
+                final int outlength = in[inpos.get()];
+                inpos.increment();
+                int tmpinpos = inpos.get();
+                final int finaloutpos = outpos.get() + outlength;
+                for (int s = outpos.get(); s < finaloutpos; s += 32 * 4) {
+                        final int header = in[tmpinpos++];
+                        for (int k = 0; k < 4; ++k) {
+                                final int mbits = (header >>> (24 - 8 * k)) & 0xFF;
+                                final int n = finaloutpos - s - 32 * k;
+                                if (n >= 32) {
+                                        LongBitPacking.fastunpack(in, tmpinpos,
+                                                out, s + 32 * k, mbits);
+                                } else if (n > 0) {
+                                        LongBitPacking.fastunpack(in, tmpinpos,
+                                                buffer, 0, mbits);
+                                        System.arraycopy(buffer, 0, out, s + 32
+                                                * k, n);
+                                }
+                                tmpinpos += mbits;
+                        }
+                }
+                outpos.set(finaloutpos);
+                inpos.set(tmpinpos);
+        }
+
+        // Number of bits used by the largest of 32 longs (as unsigned).
+        private static int maxbits(long[] in, int pos) {
+                long mask = 0;
+                for (int k = pos; k < pos + 32; ++k)
+                        mask |= in[k];
+                return 64 - Long.numberOfLeadingZeros(mask);
+        }
+
+        @Override
+        public String toString() {
+                return this.getClass().getSimpleName();
+        }
+}
@@ -0,0 +1,8789 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ *
+ * (c) Daniel Lemire, http://lemire.me/en/
+ */
+
+package me.lemire.integercompression;
+
+import java.util.Arrays;
+
+/**
+ * Bitpacking routines for longs: 32 longs using bit bits each (0 to 64)
+ * are packed into bit 32-bit words, with the same layout as BitPacking.
+ * They are used by LongBinaryPacking.
+ * 
+ * This class is generated by BitPackingGenerator: do not edit it.
+ * 
+ * @author Daniel Lemire
+ */
+public final class LongBitPacking {
+
+        /**
+         * Pack 32 longs into bit 32-bit words
+         * 
+         * @param in
+         *                source array
+         * @param inpos
+         *                position in source array
+         * @param out
+         *                output array
+         * @param outpos
+         *                position in output array
+         * @param bit
+         *                number of bits to use per long (0 to 64)
+         */
+        public static void fastpack(final long[] in, final int inpos,
+                final int[] out, final int outpos, final int bit) {
+                switch (bit) {
+                case 0:
+                        fastpack0(in, inpos, out, outpos);
+                        break;
+                case 1:
+                        fastpack1(in, inpos, out, outpos);
+                        break;
+                case 2:
+                        fastpack2(in, inpos, out, outpos);
+                        break;
+                case 3:
+                        fastpack3(in, inpos, out, outpos);
+                        break;
+                case 4:
+                        fastpack4(in, inpos, out, outpos);
+                        break;
+                case 5:
+                        fastpack5(in, inpos, out, outpos);
+                        break;
+                case 6:
+                        fastpack6(in, inpos, out, outpos);
+                        break;
+                case 7:
+                        fastpack7(in, inpos, out, outpos);
+                        break;
+                case 8:
+                        fastpack8(in, inpos, out, outpos);
+                        break;
+                case 9:
+                        fastpack9(in, inpos, out, outpos);
+                        break;
+                case 10:
+                        fastpack10(in, inpos, out, outpos);
+                        break;
+                case 11:
+                        fastpack11(in, inpos, out, outpos);
+                        break;
+                case 12:
+                        fastpack12(in, inpos, out, outpos);
+                        break;
+                case 13:
+                        fastpack13(in, inpos, out, outpos);
+                        break;
+                case 14:
+                        fastpack14(in, inpos, out, outpos);
+                        break;
+                case 15:
+                        fastpack15(in, inpos, out, outpos);
+                        break;
+                case 16:
+                        fastpack16(in, inpos, out, outpos);
+                        break;
+                case 17:
+                        fastpack17(in, inpos, out, outpos);
+                        break;
+                case 18:
+                        fastpack18(in, inpos, out, outpos);
+                        break;
+                case 19:
+                        fastpack19(in, inpos, out, outpos);
+                        break;
+                case 20:
+                        fastpack20(in, inpos, out, outpos);
+                        break;
+                case 21:
+                        fastpack21(in, inpos, out, outpos);
+                        break;
+                case 22:
+                        fastpack22(in, inpos, out, outpos);
+                        break;
+                case 23:
+                        fastpack23(in, inpos, out, outpos);
+                        break;
+                case 24:
+                        fastpack24(in, inpos, out, outpos);
+                        break;
+                case 25:
+                        fastpack25(in, inpos, out, outpos);
+                        break;
+                case 26:
+                        fastpack26(in, inpos, out, outpos);
+                        break;
+                case 27:
+                        fastpack27(in, inpos, out, outpos);
+                        break;
+                case 28:
+                        fastpack28(in, inpos, out, outpos);
+                        break;
+                case 29:
+                        fastpack29(in, inpos, out, outpos);
+                        break;
+                case 30:
+                        fastpack30(in, inpos, out, outpos);
+                        break;
+                case 31:
+                        fastpack31(in, inpos, out, outpos);
+                        break;
+                case 32:
+                        fastpack32(in, inpos, out, outpos);
+                        break;
+                case 33:
+                        fastpack33(in, inpos, out, outpos);
+                        break;
+                case 34:
+                        fastpack34(in, inpos, out, outpos);
+                        break;
+                case 35:
+                        fastpack35(in, inpos, out, outpos);
+                        break;
+                case 36:
+                        fastpack36(in, inpos, out, outpos);
+                        break;
+                case 37:
+                        fastpack37(in, inpos, out, outpos);
+                        break;
+                case 38:
+                        fastpack38(in, inpos, out, outpos);
+                        break;
+                case 39:
+                        fastpack39(in, inpos, out, outpos);
+                        break;
+                case 40:
+                        fastpack40(in, inpos, out, outpos);
+                        break;
+                case 41:
+                        fastpack41(in, inpos, out, outpos);
+                        break;
+                case 42:
+                        fastpack42(in, inpos, out, outpos);
+                        break;
+                case 43:
+                        fastpack43(in, inpos, out, outpos);
+                        break;
+                case 44:
+                        fastpack44(in, inpos, out, outpos);
+                        break;
+                case 45:
+                        fastpack45(in, inpos, out, outpos);
+                        break;
+                case 46:
+                        fastpack46(in, inpos, out, outpos);
+                        break;
+                case 47:
+                        fastpack47(in, inpos, out, outpos);
+                        break;
+                case 48:
+                        fastpack48(in, inpos, out, outpos);
+                        break;
+                case 49:
+                        fastpack49(in, inpos, out, outpos);
+                        break;
+                case 50:
+                        fastpack50(in, inpos, out, outpos);
+                        break;
+                case 51:
+                        fastpack51(in, inpos, out, outpos);
+                        break;
+                case 52:
+                        fastpack52(in, inpos, out, outpos);
+                        break;
+                case 53:
+                        fastpack53(in, inpos, out, outpos);
+                        break;
+                case 54:
+                        fastpack54(in, inpos, out, outpos);
+                        break;
+                case 55:
+                        fastpack55(in, inpos, out, outpos);
+                        break;
+                case 56:
+                        fastpack56(in, inpos, out, outpos);
+                        break;
+                case 57:
+                        fastpack57(in, inpos, out, outpos);
+                        break;
+                case 58:
+                        fastpack58(in, inpos, out, outpos);
+                        break;
+                case 59:
+                        fastpack59(in, inpos, out, outpos);
+                        break;
+                case 60:
+                        fastpack60(in, inpos, out, outpos);
+                        break;
+                case 61:
+                        fastpack61(in, inpos, out, outpos);
+                        break;
+                case 62:
+                        fastpack62(in, inpos, out, outpos);
+                        break;
+                case 63:
+                        fastpack63(in, inpos, out, outpos);
+                        break;
+                case 64:
+                        fastpack64(in, inpos, out, outpos);
+                        break;
+                default:
+                        throw new IllegalArgumentException(
+                                "Unsupported bit width.");
+                }
+        }
+
+        protected static void fastpack0(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                // nothing
+        }
+
+        protected static void fastpack1(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) (in[0 + inpos] & 1L)
+                        | (int) ((in[1 + inpos] & 1L) << 1)
+                        | (int) ((in[2 + inpos] & 1L) << 2)
+                        | (int) ((in[3 + inpos] & 1L) << 3)
+                        | (int) ((in[4 + inpos] & 1L) << 4)
+                        | (int) ((in[5 + inpos] & 1L) << 5)
+                        | (int) ((in[6 + inpos] & 1L) << 6)
+                        | (int) ((in[7 + inpos] & 1L) << 7)
+                        | (int) ((in[8 + inpos] & 1L) << 8)
+                        | (int) ((in[9 + inpos] & 1L) << 9)
+                        | (int) ((in[10 + inpos] & 1L) << 10)
+                        | (int) ((in[11 + inpos] & 1L) << 11)
+                        | (int) ((in[12 + inpos] & 1L) << 12)
+                        | (int) ((in[13 + inpos] & 1L) << 13)
+                        | (int) ((in[14 + inpos] & 1L) << 14)
+                        | (int) ((in[15 + inpos] & 1L) << 15)
+                        | (int) ((in[16 + inpos] & 1L) << 16)
+                        | (int) ((in[17 + inpos] & 1L) << 17)
+                        | (int) ((in[18 + inpos] & 1L) << 18)
+                        | (int) ((in[19 + inpos] & 1L) << 19)
+                        | (int) ((in[20 + inpos] & 1L) << 20)
+                        | (int) ((in[21 + inpos] & 1L) << 21)
+                        | (int) ((in[22 + inpos] & 1L) << 22)
+                        | (int) ((in[23 + inpos] & 1L) << 23)
+                        | (int) ((in[24 + inpos] & 1L) << 24)
+                        | (int) ((in[25 + inpos] & 1L) << 25)
+                        | (int) ((in[26 + inpos] & 1L) << 26)
+                        | (int) ((in[27 + inpos] & 1L) << 27)
+                        | (int) ((in[28 + inpos] & 1L) << 28)
+                        | (int) ((in[29 + inpos] & 1L) << 29)
+                        | (int) ((in[30 + inpos] & 1L) << 30)
+                        | (int) (in[31 + inpos] << 31);
+        }
+
+        protected static void fastpack10(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) (in[0 + inpos] & 1023L)
+                        | (int) ((in[1 + inpos] & 1023L) << 10)
+                        | (int) ((in[2 + inpos] & 1023L) << 20)
+                        | (int) (in[3 + inpos] << 30);
+                out[1 + outpos] = (int) ((in[3 + inpos] & 1023L) >>> 2)
+                        | (int) ((in[4 + inpos] & 1023L) << 8)
+                        | (int) ((in[5 + inpos] & 1023L) << 18)
+                        | (int) (in[6 + inpos] << 28);
+                out[2 + outpos] = (int) ((in[6 + inpos] & 1023L) >>> 4)
+                        | (int) ((in[7 + inpos] & 1023L) << 6)
+                        | (int) ((in[8 + inpos] & 1023L) << 16)
+                        | (int) (in[9 + inpos] << 26);
+                out[3 + outpos] = (int) ((in[9 + inpos] & 1023L) >>> 6)
+                        | (int) ((in[10 + inpos] & 1023L) << 4)
+                        | (int) ((in[11 + inpos] & 1023L) << 14)
+                        | (int) (in[12 + inpos] << 24);
+                out[4 + outpos] = (int) ((in[12 + inpos] & 1023L) >>> 8)
+                        | (int) ((in[13 + inpos] & 1023L) << 2)
+                        | (int) ((in[14 + inpos] & 1023L) << 12)
+                        | (int) (in[15 + inpos] << 22);
+                out[5 + outpos] = (int) (in[16 + inpos] & 1023L)
+                        | (int) ((in[17 + inpos] & 1023L) << 10)
+                        | (int) ((in[18 + inpos] & 1023L) << 20)
+                        | (int) (in[19 + inpos] << 30);
+                out[6 + outpos] = (int) ((in[19 + inpos] & 1023L) >>> 2)
+                        | (int) ((in[20 + inpos] & 1023L) << 8)
+                        | (int) ((in[21 + inpos] & 1023L) << 18)
+                        | (int) (in[22 + inpos] << 28);
+                out[7 + outpos] = (int) ((in[22 + inpos] & 1023L) >>> 4)
+                        | (int) ((in[23 + inpos] & 1023L) << 6)
+                        | (int) ((in[24 + inpos] & 1023L) << 16)
+                        | (int) (in[25 + inpos] << 26);
+                out[8 + outpos] = (int) ((in[25 + inpos] & 1023L) >>> 6)
+                        | (int) ((in[26 + inpos] & 1023L) << 4)
+                        | (int) ((in[27 + inpos] & 1023L) << 14)
+                        | (int) (in[28 + inpos] << 24);
+                out[9 + outpos] = (int) ((in[28 + inpos] & 1023L) >>> 8)
+                        | (int) ((in[29 + inpos] & 1023L) << 2)
+                        | (int) ((in[30 + inpos] & 1023L) << 12)
+                        | (int) (in[31 + inpos] << 22);
+        }
+
+        protected static void fastpack11(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) (in[0 + inpos] & 2047L)
+                        | (int) ((in[1 + inpos] & 2047L) << 11)
+                        | (int) (in[2 + inpos] << 22);
+                out[1 + outpos] = (int) ((in[2 + inpos] & 2047L) >>> 10)
+                        | (int) ((in[3 + inpos] & 2047L) << 1)
+                        | (int) ((in[4 + inpos] & 2047L) << 12)
+                        | (int) (in[5 + inpos] << 23);
+                out[2 + outpos] = (int) ((in[5 + inpos] & 2047L) >>> 9)
+                        | (int) ((in[6 + inpos] & 2047L) << 2)
+                        | (int) ((in[7 + inpos] & 2047L) << 13)
+                        | (int) (in[8 + inpos] << 24);
+                out[3 + outpos] = (int) ((in[8 + inpos] & 2047L) >>> 8)
+                        | (int) ((in[9 + inpos] & 2047L) << 3)
+                        | (int) ((in[10 + inpos] & 2047L) << 14)
+                        | (int) (in[11 + inpos] << 25);
+                out[4 + outpos] = (int) ((in[11 + inpos] & 2047L) >>> 7)
+                        | (int) ((in[12 + inpos] & 2047L) << 4)
+                        | (int) ((in[13 + inpos] & 2047L) << 15)
+                        | (int) (in[14 + inpos] << 26);
+                out[5 + outpos] = (int) ((in[14 + inpos] & 2047L) >>> 6)
+                        | (int) ((in[15 + inpos] & 2047L) << 5)
+                        | (int) ((in[16 + inpos] & 2047L) << 16)
+                        | (int) (in[17 + inpos] << 27);
+                out[6 + outpos] = (int) ((in[17 + inpos] & 2047L) >>> 5)
+                        | (int) ((in[18 + inpos] & 2047L) << 6)
+                        | (int) ((in[19 + inpos] & 2047L) << 17)
+                        | (int) (in[20 + inpos] << 28);
+                out[7 + outpos] = (int) ((in[20 + inpos] & 2047L) >>> 4)
+                        | (int) ((in[21 + inpos] & 2047L) << 7)
+                        | (int) ((in[22 + inpos] & 2047L) << 18)
+                        | (int) (in[23 + inpos] << 29);
+                out[8 + outpos] = (int) ((in[23 + inpos] & 2047L) >>> 3)
+                        | (int) ((in[24 + inpos] & 2047L) << 8)
+                        | (int) ((in[25 + inpos] & 2047L) << 19)
+                        | (int) (in[26 + inpos] << 30);
+                out[9 + outpos] = (int) ((in[26 + inpos] & 2047L) >>> 2)
+                        | (int) ((in[27 + inpos] & 2047L) << 9)
+                        | (int) ((in[28 + inpos] & 2047L) << 20)
+                        | (int) (in[29 + inpos] << 31);
+                out[10 + outpos] = (int) ((in[29 + inpos] & 2047L) >>> 1)
+                        | (int) ((in[30 + inpos] & 2047L) << 10)
+                        | (int) (in[31 + inpos] << 21);
+        }
+
+        protected static void fastpack12(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) (in[0 + inpos] & 4095L)
+                        | (int) ((in[1 + inpos] & 4095L) << 12)
+                        | (int) (in[2 + inpos] << 24);
+                out[1 + outpos] = (int) ((in[2 + inpos] & 4095L) >>> 8)
+                        | (int) ((in[3 + inpos] & 4095L) << 4)
+                        | (int) ((in[4 + inpos] & 4095L) << 16)
+                        | (int) (in[5 + inpos] << 28);
+                out[2 + outpos] = (int) ((in[5 + inpos] & 4095L) >>> 4)
+                        | (int) ((in[6 + inpos] & 4095L) << 8)
+                        | (int) (in[7 + inpos] << 20);
+                out[3 + outpos] = (int) (in[8 + inpos] & 4095L)
+                        | (int) ((in[9 + inpos] & 4095L) << 12)
+                        | (int) (in[10 + inpos] << 24);
+                out[4 + outpos] = (int) ((in[10 + inpos] & 4095L) >>> 8)
+                        | (int) ((in[11 + inpos] & 4095L) << 4)
+                        | (int) ((in[12 + inpos] & 4095L) << 16)
+                        | (int) (in[13 + inpos] << 28);
+                out[5 + outpos] = (int) ((in[13 + inpos] & 4095L) >>> 4)
+                        | (int) ((in[14 + inpos] & 4095L) << 8)
+                        | (int) (in[15 + inpos] << 20);
+                out[6 + outpos] = (int) (in[16 + inpos] & 4095L)
+                        | (int) ((in[17 + inpos] & 4095L) << 12)
+                        | (int) (in[18 + inpos] << 24);
+                out[7 + outpos] = (int) ((in[18 + inpos] & 4095L) >>> 8)
+                        | (int) ((in[19 + inpos] & 4095L) << 4)
+                        | (int) ((in[20 + inpos] & 4095L) << 16)
+                        | (int) (in[21 + inpos] << 28);
+                out[8 + outpos] = (int) ((in[21 + inpos] & 4095L) >>> 4)
+                        | (int) ((in[22 + inpos] & 4095L) << 8)
+                        | (int) (in[23 + inpos] << 20);
+                out[9 + outpos] = (int) (in[24 + inpos] & 4095L)
+                        | (int) ((in[25 + inpos] & 4095L) << 12)
+                        | (int) (in[26 + inpos] << 24);
+                out[10 + outpos] = (int) ((in[26 + inpos] & 4095L) >>> 8)
+                        | (int) ((in[27 + inpos] & 4095L) << 4)
+                        | (int) ((in[28 + inpos] & 4095L) << 16)
+                        | (int) (in[29 + inpos] << 28);
+                out[11 + outpos] = (int) ((in[29 + inpos] & 4095L) >>> 4)
+                        | (int) ((in[30 + inpos] & 4095L) << 8)
+                        | (int) (in[31 + inpos] << 20);
+        }
+
+        protected static void fastpack13(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) (in[0 + inpos] & 8191L)
+                        | (int) ((in[1 + inpos] & 8191L) << 13)
+                        | (int) (in[2 + inpos] << 26);
+                out[1 + outpos] = (int) ((in[2 + inpos] & 8191L) >>> 6)
+                        | (int) ((in[3 + inpos] & 8191L) << 7)
+                        | (int) (in[4 + inpos] << 20);
+                out[2 + outpos] = (int) ((in[4 + inpos] & 8191L) >>> 12)
+                        | (int) ((in[5 + inpos] & 8191L) << 1)
+                        | (int) ((in[6 + inpos] & 8191L) << 14)
+                        | (int) (in[7 + inpos] << 27);
+                out[3 + outpos] = (int) ((in[7 + inpos] & 8191L) >>> 5)
+                        | (int) ((in[8 + inpos] & 8191L) << 8)
+                        | (int) (in[9 + inpos] << 21);
+                out[4 + outpos] = (int) ((in[9 + inpos] & 8191L) >>> 11)
+                        | (int) ((in[10 + inpos] & 8191L) << 2)
+                        | (int) ((in[11 + inpos] & 8191L) << 15)
+                        | (int) (in[12 + inpos] << 28);
+                out[5 + outpos] = (int) ((in[12 + inpos] & 8191L) >>> 4)
+                        | (int) ((in[13 + inpos] & 8191L) << 9)
+                        | (int) (in[14 + inpos] << 22);
+                out[6 + outpos] = (int) ((in[14 + inpos] & 8191L) >>> 10)
+                        | (int) ((in[15 + inpos] & 8191L) << 3)
+                        | (int) ((in[16 + inpos] & 8191L) << 16)
+                        | (int) (in[17 + inpos] << 29);
+                out[7 + outpos] = (int) ((in[17 + inpos] & 8191L) >>> 3)
+                        | (int) ((in[18 + inpos] & 8191L) << 10)
+                        | (int) (in[19 + inpos] << 23);
+                out[8 + outpos] = (int) ((in[19 + inpos] & 8191L) >>> 9)
+                        | (int) ((in[20 + inpos] & 8191L) << 4)
+                        | (int) ((in[21 + inpos] & 8191L) << 17)
+                        | (int) (in[22 + inpos] << 30);
+                out[9 + outpos] = (int) ((in[22 + inpos] & 8191L) >>> 2)
+                        | (int) ((in[23 + inpos] & 8191L) << 11)
+                        | (int) (in[24 + inpos] << 24);
+                out[10 + outpos] = (int) ((in[24 + inpos] & 8191L) >>> 8)
+                        | (int) ((in[25 + inpos] & 8191L) << 5)
+                        | (int) ((in[26 + inpos] & 8191L) << 18)
+                        | (int) (in[27 + inpos] << 31);
+                out[11 + outpos] = (int) ((in[27 + inpos] & 8191L) >>> 1)
+                        | (int) ((in[28 + inpos] & 8191L) << 12)
+                        | (int) (in[29 + inpos] << 25);
+                out[12 + outpos] = (int) ((in[29 + inpos] & 8191L) >>> 7)
+                        | (int) ((in[30 + inpos] & 8191L) << 6)
+                        | (int) (in[31 + inpos] << 19);
+        }
+
+        protected static void fastpack14(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) (in[0 + inpos] & 16383L)
+                        | (int) ((in[1 + inpos] & 16383L) << 14)
+                        | (int) (in[2 + inpos] << 28);
+                out[1 + outpos] = (int) ((in[2 + inpos] & 16383L) >>> 4)
+                        | (int) ((in[3 + inpos] & 16383L) << 10)
+                        | (int) (in[4 + inpos] << 24);
+                out[2 + outpos] = (int) ((in[4 + inpos] & 16383L) >>> 8)
+                        | (int) ((in[5 + inpos] & 16383L) << 6)
+                        | (int) (in[6 + inpos] << 20);
+                out[3 + outpos] = (int) ((in[6 + inpos] & 16383L) >>> 12)
+                        | (int) ((in[7 + inpos] & 16383L) << 2)
+                        | (int) ((in[8 + inpos] & 16383L) << 16)
+                        | (int) (in[9 + inpos] << 30);
+                out[4 + outpos] = (int) ((in[9 + inpos] & 16383L) >>> 2)
+                        | (int) ((in[10 + inpos] & 16383L) << 12)
+                        | (int) (in[11 + inpos] << 26);
+                out[5 + outpos] = (int) ((in[11 + inpos] & 16383L) >>> 6)
+                        | (int) ((in[12 + inpos] & 16383L) << 8)
+                        | (int) (in[13 + inpos] << 22);
+                out[6 + outpos] = (int) ((in[13 + inpos] & 16383L) >>> 10)
+                        | (int) ((in[14 + inpos] & 16383L) << 4)
+                        | (int) (in[15 + inpos] << 18);
+                out[7 + outpos] = (int) (in[16 + inpos] & 16383L)
+                        | (int) ((in[17 + inpos] & 16383L) << 14)
+                        | (int) (in[18 + inpos] << 28);
+                out[8 + outpos] = (int) ((in[18 + inpos] & 16383L) >>> 4)
+                        | (int) ((in[19 + inpos] & 16383L) << 10)
+                        | (int) (in[20 + inpos] << 24);
+                out[9 + outpos] = (int) ((in[20 + inpos] & 16383L) >>> 8)
+                        | (int) ((in[21 + inpos] & 16383L) << 6)
+                        | (int) (in[22 + inpos] << 20);
+                out[10 + outpos] = (int) ((in[22 + inpos] & 16383L) >>> 12)
+                        | (int) ((in[23 + inpos] & 16383L) << 2)
+                        | (int) ((in[24 + inpos] & 16383L) << 16)
+                        | (int) (in[25 + inpos] << 30);
+                out[11 + outpos] = (int) ((in[25 + inpos] & 16383L) >>> 2)
+                        | (int) ((in[26 + inpos] & 16383L) << 12)
+                        | (int) (in[27 + inpos] << 26);
+                out[12 + outpos] = (int) ((in[27 + inpos] & 16383L) >>> 6)
+                        | (int) ((in[28 + inpos] & 16383L) << 8)
+                        | (int) (in[29 + inpos] << 22);
+                out[13 + outpos] = (int) ((in[29 + inpos] & 16383L) >>> 10)
+                        | (int) ((in[30 + inpos] & 16383L) << 4)
+                        | (int) (in[31 + inpos] << 18);
+        }
+
+        protected static void fastpack15(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) (in[0 + inpos] & 32767L)
+                        | (int) ((in[1 + inpos] & 32767L) << 15)
+                        | (int) (in[2 + inpos] << 30);
+                out[1 + outpos] = (int) ((in[2 + inpos] & 32767L) >>> 2)
+                        | (int) ((in[3 + inpos] & 32767L) << 13)
+                        | (int) (in[4 + inpos] << 28);
+                out[2 + outpos] = (int) ((in[4 + inpos] & 32767L) >>> 4)
+                        | (int) ((in[5 + inpos] & 32767L) << 11)
+                        | (int) (in[6 + inpos] << 26);
+                out[3 + outpos] = (int) ((in[6 + inpos] & 32767L) >>> 6)
+                        | (int) ((in[7 + inpos] & 32767L) << 9)
+                        | (int) (in[8 + inpos] << 24);
+                out[4 + outpos] = (int) ((in[8 + inpos] & 32767L) >>> 8)
+                        | (int) ((in[9 + inpos] & 32767L) << 7)
+                        | (int) (in[10 + inpos] << 22);
+                out[5 + outpos] = (int) ((in[10 + inpos] & 32767L) >>> 10)
+                        | (int) ((in[11 + inpos] & 32767L) << 5)
+                        | (int) (in[12 + inpos] << 20);
+                out[6 + outpos] = (int) ((in[12 + inpos] & 32767L) >>> 12)
+                        | (int) ((in[13 + inpos] & 32767L) << 3)
+                        | (int) (in[14 + inpos] << 18);
+                out[7 + outpos] = (int) ((in[14 + inpos] & 32767L) >>> 14)
+                        | (int) ((in[15 + inpos] & 32767L) << 1)
+                        | (int) ((in[16 + inpos] & 32767L) << 16)
+                        | (int) (in[17 + inpos] << 31);
+                out[8 + outpos] = (int) ((in[17 + inpos] & 32767L) >>> 1)
+                        | (int) ((in[18 + inpos] & 32767L) << 14)
+                        | (int) (in[19 + inpos] << 29);
+                out[9 + outpos] = (int) ((in[19 + inpos] & 32767L) >>> 3)
+                        | (int) ((in[20 + inpos] & 32767L) << 12)
+                        | (int) (in[21 + inpos] << 27);
+                out[10 + outpos] = (int) ((in[21 + inpos] & 32767L) >>> 5)
+                        | (int) ((in[22 + inpos] & 32767L) << 10)
+                        | (int) (in[23 + inpos] << 25);
+                out[11 + outpos] = (int) ((in[23 + inpos] & 32767L) >>> 7)
+                        | (int) ((in[24 + inpos] & 32767L) << 8)
+                        | (int) (in[25 + inpos] << 23);
+                out[12 + outpos] = (int) ((in[25 + inpos] & 32767L) >>> 9)
+                        | (int) ((in[26 + inpos] & 32767L) << 6)
+                        | (int) (in[27 + inpos] << 21);
+                out[13 + outpos] = (int) ((in[27 + inpos] & 32767L) >>> 11)
+                        | (int) ((in[28 + inpos] & 32767L) << 4)
+                        | (int) (in[29 + inpos] << 19);
+                out[14 + outpos] = (int) ((in[29 + inpos] & 32767L) >>> 13)
+                        | (int) ((in[30 + inpos] & 32767L) << 2)
+                        | (int) (in[31 + inpos] << 17);
+        }
+
+        protected static void fastpack16(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) (in[0 + inpos] & 65535L)
+                        | (int) (in[1 + inpos] << 16);
+                out[1 + outpos] = (int) (in[2 + inpos] & 65535L)
+                        | (int) (in[3 + inpos] << 16);
+                out[2 + outpos] = (int) (in[4 + inpos] & 65535L)
+                        | (int) (in[5 + inpos] << 16);
+                out[3 + outpos] = (int) (in[6 + inpos] & 65535L)
+                        | (int) (in[7 + inpos] << 16);
+                out[4 + outpos] = (int) (in[8 + inpos] & 65535L)
+                        | (int) (in[9 + inpos] << 16);
+                out[5 + outpos] = (int) (in[10 + inpos] & 65535L)
+                        | (int) (in[11 + inpos] << 16);
+                out[6 + outpos] = (int) (in[12 + inpos] & 65535L)
+                        | (int) (in[13 + inpos] << 16);
+                out[7 + outpos] = (int) (in[14 + inpos] & 65535L)
+                        | (int) (in[15 + inpos] << 16);
+                out[8 + outpos] = (int) (in[16 + inpos] & 65535L)
+                        | (int) (in[17 + inpos] << 16);
+                out[9 + outpos] = (int) (in[18 + inpos] & 65535L)
+                        | (int) (in[19 + inpos] << 16);
+                out[10 + outpos] = (int) (in[20 + inpos] & 65535L)
+                        | (int) (in[21 + inpos] << 16);
+                out[11 + outpos] = (int) (in[22 + inpos] & 65535L)
+                        | (int) (in[23 + inpos] << 16);
+                out[12 + outpos] = (int) (in[24 + inpos] & 65535L)
+                        | (int) (in[25 + inpos] << 16);
+                out[13 + outpos] = (int) (in[26 + inpos] & 65535L)
+                        | (int) (in[27 + inpos] << 16);
+                out[14 + outpos] = (int) (in[28 + inpos] & 65535L)
+                        | (int) (in[29 + inpos] << 16);
+                out[15 + outpos] = (int) (in[30 + inpos] & 65535L)
+                        | (int) (in[31 + inpos] << 16);
+        }
+
+        protected static void fastpack17(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) (in[0 + inpos] & 131071L)
+                        | (int) (in[1 + inpos] << 17);
+                out[1 + outpos] = (int) ((in[1 + inpos] & 131071L) >>> 15)
+                        | (int) ((in[2 + inpos] & 131071L) << 2)
+                        | (int) (in[3 + inpos] << 19);
+                out[2 + outpos] = (int) ((in[3 + inpos] & 131071L) >>> 13)
+                        | (int) ((in[4 + inpos] & 131071L) << 4)
+                        | (int) (in[5 + inpos] << 21);
+                out[3 + outpos] = (int) ((in[5 + inpos] & 131071L) >>> 11)
+                        | (int) ((in[6 + inpos] & 131071L) << 6)
+                        | (int) (in[7 + inpos] << 23);
+                out[4 + outpos] = (int) ((in[7 + inpos] & 131071L) >>> 9)
+                        | (int) ((in[8 + inpos] & 131071L) << 8)
+                        | (int) (in[9 + inpos] << 25);
+                out[5 + outpos] = (int) ((in[9 + inpos] & 131071L) >>> 7)
+                        | (int) ((in[10 + inpos] & 131071L) << 10)
+                        | (int) (in[11 + inpos] << 27);
+                out[6 + outpos] = (int) ((in[11 + inpos] & 131071L) >>> 5)
+                        | (int) ((in[12 + inpos] & 131071L) << 12)
+                        | (int) (in[13 + inpos] << 29);
+                out[7 + outpos] = (int) ((in[13 + inpos] & 131071L) >>> 3)
+                        | (int) ((in[14 + inpos] & 131071L) << 14)
+                        | (int) (in[15 + inpos] << 31);
+                out[8 + outpos] = (int) ((in[15 + inpos] & 131071L) >>> 1)
+                        | (int) (in[16 + inpos] << 16);
+                out[9 + outpos] = (int) ((in[16 + inpos] & 131071L) >>> 16)
+                        | (int) ((in[17 + inpos] & 131071L) << 1)
+                        | (int) (in[18 + inpos] << 18);
+                out[10 + outpos] = (int) ((in[18 + inpos] & 131071L) >>> 14)
+                        | (int) ((in[19 + inpos] & 131071L) << 3)
+                        | (int) (in[20 + inpos] << 20);
+                out[11 + outpos] = (int) ((in[20 + inpos] & 131071L) >>> 12)
+                        | (int) ((in[21 + inpos] & 131071L) << 5)
+                        | (int) (in[22 + inpos] << 22);
+                out[12 + outpos] = (int) ((in[22 + inpos] & 131071L) >>> 10)
+                        | (int) ((in[23 + inpos] & 131071L) << 7)
+                        | (int) (in[24 + inpos] << 24);
+                out[13 + outpos] = (int) ((in[24 + inpos] & 131071L) >>> 8)
+                        | (int) ((in[25 + inpos] & 131071L) << 9)
+                        | (int) (in[26 + inpos] << 26);
+                out[14 + outpos] = (int) ((in[26 + inpos] & 131071L) >>> 6)
+                        | (int) ((in[27 + inpos] & 131071L) << 11)
+                        | (int) (in[28 + inpos] << 28);
+                out[15 + outpos] = (int) ((in[28 + inpos] & 131071L) >>> 4)
+                        | (int) ((in[29 + inpos] & 131071L) << 13)
+                        | (int) (in[30 + inpos] << 30);
+                out[16 + outpos] = (int) ((in[30 + inpos] & 131071L) >>> 2)
+                        | (int) (in[31 + inpos] << 15);
+        }
+
+        protected static void fastpack18(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) (in[0 + inpos] & 262143L)
+                        | (int) (in[1 + inpos] << 18);
+                out[1 + outpos] = (int) ((in[1 + inpos] & 262143L) >>> 14)
+                        | (int) ((in[2 + inpos] & 262143L) << 4)
+                        | (int) (in[3 + inpos] << 22);
+                out[2 + outpos] = (int) ((in[3 + inpos] & 262143L) >>> 10)
+                        | (int) ((in[4 + inpos] & 262143L) << 8)
+                        | (int) (in[5 + inpos] << 26);
+                out[3 + outpos] = (int) ((in[5 + inpos] & 262143L) >>> 6)
+                        | (int) ((in[6 + inpos] & 262143L) << 12)
+                        | (int) (in[7 + inpos] << 30);
+                out[4 + outpos] = (int) ((in[7 + inpos] & 262143L) >>> 2)
+                        | (int) (in[8 + inpos] << 16);
+                out[5 + outpos] = (int) ((in[8 + inpos] & 262143L) >>> 16)
+                        | (int) ((in[9 + inpos] & 262143L) << 2)
+                        | (int) (in[10 + inpos] << 20);
+                out[6 + outpos] = (int) ((in[10 + inpos] & 262143L) >>> 12)
+                        | (int) ((in[11 + inpos] & 262143L) << 6)
+                        | (int) (in[12 + inpos] << 24);
+                out[7 + outpos] = (int) ((in[12 + inpos] & 262143L) >>> 8)
+                        | (int) ((in[13 + inpos] & 262143L) << 10)
+                        | (int) (in[14 + inpos] << 28);
+                out[8 + outpos] = (int) ((in[14 + inpos] & 262143L) >>> 4)
+                        | (int) (in[15 + inpos] << 14);
+                out[9 + outpos] = (int) (in[16 + inpos] & 262143L)
+                        | (int) (in[17 + inpos] << 18);
+                out[10 + outpos] = (int) ((in[17 + inpos] & 262143L) >>> 14)
+                        | (int) ((in[18 + inpos] & 262143L) << 4)
+                        | (int) (in[19 + inpos] << 22);
+                out[11 + outpos] = (int) ((in[19 + inpos] & 262143L) >>> 10)
+                        | (int) ((in[20 + inpos] & 262143L) << 8)
+                        | (int) (in[21 + inpos] << 26);
+                out[12 + outpos] = (int) ((in[21 + inpos] & 262143L) >>> 6)
+                        | (int) ((in[22 + inpos] & 262143L) << 12)
+                        | (int) (in[23 + inpos] << 30);
+                out[13 + outpos] = (int) ((in[23 + inpos] & 262143L) >>> 2)
+                        | (int) (in[24 + inpos] << 16);
+                out[14 + outpos] = (int) ((in[24 + inpos] & 262143L) >>> 16)
+                        | (int) ((in[25 + inpos] & 262143L) << 2)
+                        | (int) (in[26 + inpos] << 20);
+                out[15 + outpos] = (int) ((in[26 + inpos] & 262143L) >>> 12)
+                        | (int) ((in[27 + inpos] & 262143L) << 6)
+                        | (int) (in[28 + inpos] << 24);
+                out[16 + outpos] = (int) ((in[28 + inpos] & 262143L) >>> 8)
+                        | (int) ((in[29 + inpos] & 262143L) << 10)
+                        | (int) (in[30 + inpos] << 28);
+                out[17 + outpos] = (int) ((in[30 + inpos] & 262143L) >>> 4)
+                        | (int) (in[31 + inpos] << 14);
+        }
+
+        protected static void fastpack19(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) (in[0 + inpos] & 524287L)
+                        | (int) (in[1 + inpos] << 19);
+                out[1 + outpos] = (int) ((in[1 + inpos] & 524287L) >>> 13)
+                        | (int) ((in[2 + inpos] & 524287L) << 6)
+                        | (int) (in[3 + inpos] << 25);
+                out[2 + outpos] = (int) ((in[3 + inpos] & 524287L) >>> 7)
+                        | (int) ((in[4 + inpos] & 524287L) << 12)
+                        | (int) (in[5 + inpos] << 31);
+                out[3 + outpos] = (int) ((in[5 + inpos] & 524287L) >>> 1)
+                        | (int) (in[6 + inpos] << 18);
+                out[4 + outpos] = (int) ((in[6 + inpos] & 524287L) >>> 14)
+                        | (int) ((in[7 + inpos] & 524287L) << 5)
+                        | (int) (in[8 + inpos] << 24);
+                out[5 + outpos] = (int) ((in[8 + inpos] & 524287L) >>> 8)
+                        | (int) ((in[9 + inpos] & 524287L) << 11)
+                        | (int) (in[10 + inpos] << 30);
+                out[6 + outpos] = (int) ((in[10 + inpos] & 524287L) >>> 2)
+                        | (int) (in[11 + inpos] << 17);
+                out[7 + outpos] = (int) ((in[11 + inpos] & 524287L) >>> 15)
+                        | (int) ((in[12 + inpos] & 524287L) << 4)
+                        | (int) (in[13 + inpos] << 23);
+                out[8 + outpos] = (int) ((in[13 + inpos] & 524287L) >>> 9)
+                        | (int) ((in[14 + inpos] & 524287L) << 10)
+                        | (int) (in[15 + inpos] << 29);
+                out[9 + outpos] = (int) ((in[15 + inpos] & 524287L) >>> 3)
+                        | (int) (in[16 + inpos] << 16);
+                out[10 + outpos] = (int) ((in[16 + inpos] & 524287L) >>> 16)
+                        | (int) ((in[17 + inpos] & 524287L) << 3)
+                        | (int) (in[18 + inpos] << 22);
+                out[11 + outpos] = (int) ((in[18 + inpos] & 524287L) >>> 10)
+                        | (int) ((in[19 + inpos] & 524287L) << 9)
+                        | (int) (in[20 + inpos] << 28);
+                out[12 + outpos] = (int) ((in[20 + inpos] & 524287L) >>> 4)
+                        | (int) (in[21 + inpos] << 15);
+                out[13 + outpos] = (int) ((in[21 + inpos] & 524287L) >>> 17)
+                        | (int) ((in[22 + inpos] & 524287L) << 2)
+                        | (int) (in[23 + inpos] << 21);
+                out[14 + outpos] = (int) ((in[23 + inpos] & 524287L) >>> 11)
+                        | (int) ((in[24 + inpos] & 524287L) << 8)
+                        | (int) (in[25 + inpos] << 27);
+                out[15 + outpos] = (int) ((in[25 + inpos] & 524287L) >>> 5)
+                        | (int) (in[26 + inpos] << 14);
+                out[16 + outpos] = (int) ((in[26 + inpos] & 524287L) >>> 18)
+                        | (int) ((in[27 + inpos] & 524287L) << 1)
+                        | (int) (in[28 + inpos] << 20);
+                out[17 + outpos] = (int) ((in[28 + inpos] & 524287L) >>> 12)
+                        | (int) ((in[29 + inpos] & 524287L) << 7)
+                        | (int) (in[30 + inpos] << 26);
+                out[18 + outpos] = (int) ((in[30 + inpos] & 524287L) >>> 6)
+                        | (int) (in[31 + inpos] << 13);
+        }
+
+        protected static void fastpack2(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) (in[0 + inpos] & 3L)
+                        | (int) ((in[1 + inpos] & 3L) << 2)
+                        | (int) ((in[2 + inpos] & 3L) << 4)
+                        | (int) ((in[3 + inpos] & 3L) << 6)
+                        | (int) ((in[4 + inpos] & 3L) << 8)
+                        | (int) ((in[5 + inpos] & 3L) << 10)
+                        | (int) ((in[6 + inpos] & 3L) << 12)
+                        | (int) ((in[7 + inpos] & 3L) << 14)
+                        | (int) ((in[8 + inpos] & 3L) << 16)
+                        | (int) ((in[9 + inpos] & 3L) << 18)
+                        | (int) ((in[10 + inpos] & 3L) << 20)
+                        | (int) ((in[11 + inpos] & 3L) << 22)
+                        | (int) ((in[12 + inpos] & 3L) << 24)
+                        | (int) ((in[13 + inpos] & 3L) << 26)
+                        | (int) ((in[14 + inpos] & 3L) << 28)
+                        | (int) (in[15 + inpos] << 30);
+                out[1 + outpos] = (int) (in[16 + inpos] & 3L)
+                        | (int) ((in[17 + inpos] & 3L) << 2)
+                        | (int) ((in[18 + inpos] & 3L) << 4)
+                        | (int) ((in[19 + inpos] & 3L) << 6)
+                        | (int) ((in[20 + inpos] & 3L) << 8)
+                        | (int) ((in[21 + inpos] & 3L) << 10)
+                        | (int) ((in[22 + inpos] & 3L) << 12)
+                        | (int) ((in[23 + inpos] & 3L) << 14)
+                        | (int) ((in[24 + inpos] & 3L) << 16)
+                        | (int) ((in[25 + inpos] & 3L) << 18)
+                        | (int) ((in[26 + inpos] & 3L) << 20)
+                        | (int) ((in[27 + inpos] & 3L) << 22)
+                        | (int) ((in[28 + inpos] & 3L) << 24)
+                        | (int) ((in[29 + inpos] & 3L) << 26)
+                        | (int) ((in[30 + inpos] & 3L) << 28)
+                        | (int) (in[31 + inpos] << 30);
+        }
+
+        protected static void fastpack20(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) (in[0 + inpos] & 1048575L)
+                        | (int) (in[1 + inpos] << 20);
+                out[1 + outpos] = (int) ((in[1 + inpos] & 1048575L) >>> 12)
+                        | (int) ((in[2 + inpos] & 1048575L) << 8)
+                        | (int) (in[3 + inpos] << 28);
+                out[2 + outpos] = (int) ((in[3 + inpos] & 1048575L) >>> 4)
+                        | (int) (in[4 + inpos] << 16);
+                out[3 + outpos] = (int) ((in[4 + inpos] & 1048575L) >>> 16)
+                        | (int) ((in[5 + inpos] & 1048575L) << 4)
+                        | (int) (in[6 + inpos] << 24);
+                out[4 + outpos] = (int) ((in[6 + inpos] & 1048575L) >>> 8)
+                        | (int) (in[7 + inpos] << 12);
+                out[5 + outpos] = (int) (in[8 + inpos] & 1048575L)
+                        | (int) (in[9 + inpos] << 20);
+                out[6 + outpos] = (int) ((in[9 + inpos] & 1048575L) >>> 12)
+                        | (int) ((in[10 + inpos] & 1048575L) << 8)
+                        | (int) (in[11 + inpos] << 28);
+                out[7 + outpos] = (int) ((in[11 + inpos] & 1048575L) >>> 4)
+                        | (int) (in[12 + inpos] << 16);
+                out[8 + outpos] = (int) ((in[12 + inpos] & 1048575L) >>> 16)
+                        | (int) ((in[13 + inpos] & 1048575L) << 4)
+                        | (int) (in[14 + inpos] << 24);
+                out[9 + outpos] = (int) ((in[14 + inpos] & 1048575L) >>> 8)
+                        | (int) (in[15 + inpos] << 12);
+                out[10 + outpos] = (int) (in[16 + inpos] & 1048575L)
+                        | (int) (in[17 + inpos] << 20);
+                out[11 + outpos] = (int) ((in[17 + inpos] & 1048575L) >>> 12)
+                        | (int) ((in[18 + inpos] & 1048575L) << 8)
+                        | (int) (in[19 + inpos] << 28);
+                out[12 + outpos] = (int) ((in[19 + inpos] & 1048575L) >>> 4)
+                        | (int) (in[20 + inpos] << 16);
+                out[13 + outpos] = (int) ((in[20 + inpos] & 1048575L) >>> 16)
+                        | (int) ((in[21 + inpos] & 1048575L) << 4)
+                        | (int) (in[22 + inpos] << 24);
+                out[14 + outpos] = (int) ((in[22 + inpos] & 1048575L) >>> 8)
+                        | (int) (in[23 + inpos] << 12);
+                out[15 + outpos] = (int) (in[24 + inpos] & 1048575L)
+                        | (int) (in[25 + inpos] << 20);
+                out[16 + outpos] = (int) ((in[25 + inpos] & 1048575L) >>> 12)
+                        | (int) ((in[26 + inpos] & 1048575L) << 8)
+                        | (int) (in[27 + inpos] << 28);
+                out[17 + outpos] = (int) ((in[27 + inpos] & 1048575L) >>> 4)
+                        | (int) (in[28 + inpos] << 16);
+                out[18 + outpos] = (int) ((in[28 + inpos] & 1048575L) >>> 16)
+                        | (int) ((in[29 + inpos] & 1048575L) << 4)
+                        | (int) (in[30 + inpos] << 24);
+                out[19 + outpos] = (int) ((in[30 + inpos] & 1048575L) >>> 8)
+                        | (int) (in[31 + inpos] << 12);
+        }
+
+        protected static void fastpack21(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) (in[0 + inpos] & 2097151L)
+                        | (int) (in[1 + inpos] << 21);
+                out[1 + outpos] = (int) ((in[1 + inpos] & 2097151L) >>> 11)
+                        | (int) ((in[2 + inpos] & 2097151L) << 10)
+                        | (int) (in[3 + inpos] << 31);
+                out[2 + outpos] = (int) ((in[3 + inpos] & 2097151L) >>> 1)
+                        | (int) (in[4 + inpos] << 20);
+                out[3 + outpos] = (int) ((in[4 + inpos] & 2097151L) >>> 12)
+                        | (int) ((in[5 + inpos] & 2097151L) << 9)
+                        | (int) (in[6 + inpos] << 30);
+                out[4 + outpos] = (int) ((in[6 + inpos] & 2097151L) >>> 2)
+                        | (int) (in[7 + inpos] << 19);
+                out[5 + outpos] = (int) ((in[7 + inpos] & 2097151L) >>> 13)
+                        | (int) ((in[8 + inpos] & 2097151L) << 8)
+                        | (int) (in[9 + inpos] << 29);
+                out[6 + outpos] = (int) ((in[9 + inpos] & 2097151L) >>> 3)
+                        | (int) (in[10 + inpos] << 18);
+                out[7 + outpos] = (int) ((in[10 + inpos] & 2097151L) >>> 14)
+                        | (int) ((in[11 + inpos] & 2097151L) << 7)
+                        | (int) (in[12 + inpos] << 28);
+                out[8 + outpos] = (int) ((in[12 + inpos] & 2097151L) >>> 4)
+                        | (int) (in[13 + inpos] << 17);
+                out[9 + outpos] = (int) ((in[13 + inpos] & 2097151L) >>> 15)
+                        | (int) ((in[14 + inpos] & 2097151L) << 6)
+                        | (int) (in[15 + inpos] << 27);
+                out[10 + outpos] = (int) ((in[15 + inpos] & 2097151L) >>> 5)
+                        | (int) (in[16 + inpos] << 16);
+                out[11 + outpos] = (int) ((in[16 + inpos] & 2097151L) >>> 16)
+                        | (int) ((in[17 + inpos] & 2097151L) << 5)
+                        | (int) (in[18 + inpos] << 26);
+                out[12 + outpos] = (int) ((in[18 + inpos] & 2097151L) >>> 6)
+                        | (int) (in[19 + inpos] << 15);
+                out[13 + outpos] = (int) ((in[19 + inpos] & 2097151L) >>> 17)
+                        | (int) ((in[20 + inpos] & 2097151L) << 4)
+                        | (int) (in[21 + inpos] << 25);
+                out[14 + outpos] = (int) ((in[21 + inpos] & 2097151L) >>> 7)
+                        | (int) (in[22 + inpos] << 14);
+                out[15 + outpos] = (int) ((in[22 + inpos] & 2097151L) >>> 18)
+                        | (int) ((in[23 + inpos] & 2097151L) << 3)
+                        | (int) (in[24 + inpos] << 24);
+                out[16 + outpos] = (int) ((in[24 + inpos] & 2097151L) >>> 8)
+                        | (int) (in[25 + inpos] << 13);
+                out[17 + outpos] = (int) ((in[25 + inpos] & 2097151L) >>> 19)
+                        | (int) ((in[26 + inpos] & 2097151L) << 2)
+                        | (int) (in[27 + inpos] << 23);
+                out[18 + outpos] = (int) ((in[27 + inpos] & 2097151L) >>> 9)
+                        | (int) (in[28 + inpos] << 12);
+                out[19 + outpos] = (int) ((in[28 + inpos] & 2097151L) >>> 20)
+                        | (int) ((in[29 + inpos] & 2097151L) << 1)
+                        | (int) (in[30 + inpos] << 22);
+                out[20 + outpos] = (int) ((in[30 + inpos] & 2097151L) >>> 10)
+                        | (int) (in[31 + inpos] << 11);
+        }
+
+        protected static void fastpack22(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) (in[0 + inpos] & 4194303L)
+                        | (int) (in[1 + inpos] << 22);
+                out[1 + outpos] = (int) ((in[1 + inpos] & 4194303L) >>> 10)
+                        | (int) (in[2 + inpos] << 12);
+                out[2 + outpos] = (int) ((in[2 + inpos] & 4194303L) >>> 20)
+                        | (int) ((in[3 + inpos] & 4194303L) << 2)
+                        | (int) (in[4 + inpos] << 24);
+                out[3 + outpos] = (int) ((in[4 + inpos] & 4194303L) >>> 8)
+                        | (int) (in[5 + inpos] << 14);
+                out[4 + outpos] = (int) ((in[5 + inpos] & 4194303L) >>> 18)
+                        | (int) ((in[6 + inpos] & 4194303L) << 4)
+                        | (int) (in[7 + inpos] << 26);
+                out[5 + outpos] = (int) ((in[7 + inpos] & 4194303L) >>> 6)
+                        | (int) (in[8 + inpos] << 16);
+                out[6 + outpos] = (int) ((in[8 + inpos] & 4194303L) >>> 16)
+                        | (int) ((in[9 + inpos] & 4194303L) << 6)
+                        | (int) (in[10 + inpos] << 28);
+                out[7 + outpos] = (int) ((in[10 + inpos] & 4194303L) >>> 4)
+                        | (int) (in[11 + inpos] << 18);
+                out[8 + outpos] = (int) ((in[11 + inpos] & 4194303L) >>> 14)
+                        | (int) ((in[12 + inpos] & 4194303L) << 8)
+                        | (int) (in[13 + inpos] << 30);
+                out[9 + outpos] = (int) ((in[13 + inpos] & 4194303L) >>> 2)
+                        | (int) (in[14 + inpos] << 20);
+                out[10 + outpos] = (int) ((in[14 + inpos] & 4194303L) >>> 12)
+                        | (int) (in[15 + inpos] << 10);
+                out[11 + outpos] = (int) (in[16 + inpos] & 4194303L)
+                        | (int) (in[17 + inpos] << 22);
+                out[12 + outpos] = (int) ((in[17 + inpos] & 4194303L) >>> 10)
+                        | (int) (in[18 + inpos] << 12);
+                out[13 + outpos] = (int) ((in[18 + inpos] & 4194303L) >>> 20)
+                        | (int) ((in[19 + inpos] & 4194303L) << 2)
+                        | (int) (in[20 + inpos] << 24);
+                out[14 + outpos] = (int) ((in[20 + inpos] & 4194303L) >>> 8)
+                        | (int) (in[21 + inpos] << 14);
+                out[15 + outpos] = (int) ((in[21 + inpos] & 4194303L) >>> 18)
+                        | (int) ((in[22 + inpos] & 4194303L) << 4)
+                        | (int) (in[23 + inpos] << 26);
+                out[16 + outpos] = (int) ((in[23 + inpos] & 4194303L) >>> 6)
+                        | (int) (in[24 + inpos] << 16);
+                out[17 + outpos] = (int) ((in[24 + inpos] & 4194303L) >>> 16)
+                        | (int) ((in[25 + inpos] & 4194303L) << 6)
+                        | (int) (in[26 + inpos] << 28);
+                out[18 + outpos] = (int) ((in[26 + inpos] & 4194303L) >>> 4)
+                        | (int) (in[27 + inpos] << 18);
+                out[19 + outpos] = (int) ((in[27 + inpos] & 4194303L) >>> 14)
+                        | (int) ((in[28 + inpos] & 4194303L) << 8)
+                        | (int) (in[29 + inpos] << 30);
+                out[20 + outpos] = (int) ((in[29 + inpos] & 4194303L) >>> 2)
+                        | (int) (in[30 + inpos] << 20);
+                out[21 + outpos] = (int) ((in[30 + inpos] & 4194303L) >>> 12)
+                        | (int) (in[31 + inpos] << 10);
+        }
+
+        protected static void fastpack23(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) (in[0 + inpos] & 8388607L)
+                        | (int) (in[1 + inpos] << 23);
+                out[1 + outpos] = (int) ((in[1 + inpos] & 8388607L) >>> 9)
+                        | (int) (in[2 + inpos] << 14);
+                out[2 + outpos] = (int) ((in[2 + inpos] & 8388607L) >>> 18)
+                        | (int) ((in[3 + inpos] & 8388607L) << 5)
+                        | (int) (in[4 + inpos] << 28);
+                out[3 + outpos] = (int) ((in[4 + inpos] & 8388607L) >>> 4)
+                        | (int) (in[5 + inpos] << 19);
+                out[4 + outpos] = (int) ((in[5 + inpos] & 8388607L) >>> 13)
+                        | (int) (in[6 + inpos] << 10);
+                out[5 + outpos] = (int) ((in[6 + inpos] & 8388607L) >>> 22)
+                        | (int) ((in[7 + inpos] & 8388607L) << 1)
+                        | (int) (in[8 + inpos] << 24);
+                out[6 + outpos] = (int) ((in[8 + inpos] & 8388607L) >>> 8)
+                        | (int) (in[9 + inpos] << 15);
+                out[7 + outpos] = (int) ((in[9 + inpos] & 8388607L) >>> 17)
+                        | (int) ((in[10 + inpos] & 8388607L) << 6)
+                        | (int) (in[11 + inpos] << 29);
+                out[8 + outpos] = (int) ((in[11 + inpos] & 8388607L) >>> 3)
+                        | (int) (in[12 + inpos] << 20);
+                out[9 + outpos] = (int) ((in[12 + inpos] & 8388607L) >>> 12)
+                        | (int) (in[13 + inpos] << 11);
+                out[10 + outpos] = (int) ((in[13 + inpos] & 8388607L) >>> 21)
+                        | (int) ((in[14 + inpos] & 8388607L) << 2)
+                        | (int) (in[15 + inpos] << 25);
+                out[11 + outpos] = (int) ((in[15 + inpos] & 8388607L) >>> 7)
+                        | (int) (in[16 + inpos] << 16);
+                out[12 + outpos] = (int) ((in[16 + inpos] & 8388607L) >>> 16)
+                        | (int) ((in[17 + inpos] & 8388607L) << 7)
+                        | (int) (in[18 + inpos] << 30);
+                out[13 + outpos] = (int) ((in[18 + inpos] & 8388607L) >>> 2)
+                        | (int) (in[19 + inpos] << 21);
+                out[14 + outpos] = (int) ((in[19 + inpos] & 8388607L) >>> 11)
+                        | (int) (in[20 + inpos] << 12);
+                out[15 + outpos] = (int) ((in[20 + inpos] & 8388607L) >>> 20)
+                        | (int) ((in[21 + inpos] & 8388607L) << 3)
+                        | (int) (in[22 + inpos] << 26);
+                out[16 + outpos] = (int) ((in[22 + inpos] & 8388607L) >>> 6)
+                        | (int) (in[23 + inpos] << 17);
+                out[17 + outpos] = (int) ((in[23 + inpos] & 8388607L) >>> 15)
+                        | (int) ((in[24 + inpos] & 8388607L) << 8)
+                        | (int) (in[25 + inpos] << 31);
+                out[18 + outpos] = (int) ((in[25 + inpos] & 8388607L) >>> 1)
+                        | (int) (in[26 + inpos] << 22);
+                out[19 + outpos] = (int) ((in[26 + inpos] & 8388607L) >>> 10)
+                        | (int) (in[27 + inpos] << 13);
+                out[20 + outpos] = (int) ((in[27 + inpos] & 8388607L) >>> 19)
+                        | (int) ((in[28 + inpos] & 8388607L) << 4)
+                        | (int) (in[29 + inpos] << 27);
+                out[21 + outpos] = (int) ((in[29 + inpos] & 8388607L) >>> 5)
+                        | (int) (in[30 + inpos] << 18);
+                out[22 + outpos] = (int) ((in[30 + inpos] & 8388607L) >>> 14)
+                        | (int) (in[31 + inpos] << 9);
+        }
+
+        protected static void fastpack24(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) (in[0 + inpos] & 16777215L)
+                        | (int) (in[1 + inpos] << 24);
+                out[1 + outpos] = (int) ((in[1 + inpos] & 16777215L) >>> 8)
+                        | (int) (in[2 + inpos] << 16);
+                out[2 + outpos] = (int) ((in[2 + inpos] & 16777215L) >>> 16)
+                        | (int) (in[3 + inpos] << 8);
+                out[3 + outpos] = (int) (in[4 + inpos] & 16777215L)
+                        | (int) (in[5 + inpos] << 24);
+                out[4 + outpos] = (int) ((in[5 + inpos] & 16777215L) >>> 8)
+                        | (int) (in[6 + inpos] << 16);
+                out[5 + outpos] = (int) ((in[6 + inpos] & 16777215L) >>> 16)
+                        | (int) (in[7 + inpos] << 8);
+                out[6 + outpos] = (int) (in[8 + inpos] & 16777215L)
+                        | (int) (in[9 + inpos] << 24);
+                out[7 + outpos] = (int) ((in[9 + inpos] & 16777215L) >>> 8)
+                        | (int) (in[10 + inpos] << 16);
+                out[8 + outpos] = (int) ((in[10 + inpos] & 16777215L) >>> 16)
+                        | (int) (in[11 + inpos] << 8);
+                out[9 + outpos] = (int) (in[12 + inpos] & 16777215L)
+                        | (int) (in[13 + inpos] << 24);
+                out[10 + outpos] = (int) ((in[13 + inpos] & 16777215L) >>> 8)
+                        | (int) (in[14 + inpos] << 16);
+                out[11 + outpos] = (int) ((in[14 + inpos] & 16777215L) >>> 16)
+                        | (int) (in[15 + inpos] << 8);
+                out[12 + outpos] = (int) (in[16 + inpos] & 16777215L)
+                        | (int) (in[17 + inpos] << 24);
+                out[13 + outpos] = (int) ((in[17 + inpos] & 16777215L) >>> 8)
+                        | (int) (in[18 + inpos] << 16);
+                out[14 + outpos] = (int) ((in[18 + inpos] & 16777215L) >>> 16)
+                        | (int) (in[19 + inpos] << 8);
+                out[15 + outpos] = (int) (in[20 + inpos] & 16777215L)
+                        | (int) (in[21 + inpos] << 24);
+                out[16 + outpos] = (int) ((in[21 + inpos] & 16777215L) >>> 8)
+                        | (int) (in[22 + inpos] << 16);
+                out[17 + outpos] = (int) ((in[22 + inpos] & 16777215L) >>> 16)
+                        | (int) (in[23 + inpos] << 8);
+                out[18 + outpos] = (int) (in[24 + inpos] & 16777215L)
+                        | (int) (in[25 + inpos] << 24);
+                out[19 + outpos] = (int) ((in[25 + inpos] & 16777215L) >>> 8)
+                        | (int) (in[26 + inpos] << 16);
+                out[20 + outpos] = (int) ((in[26 + inpos] & 16777215L) >>> 16)
+                        | (int) (in[27 + inpos] << 8);
+                out[21 + outpos] = (int) (in[28 + inpos] & 16777215L)
+                        | (int) (in[29 + inpos] << 24);
+                out[22 + outpos] = (int) ((in[29 + inpos] & 16777215L) >>> 8)
+                        | (int) (in[30 + inpos] << 16);
+                out[23 + outpos] = (int) ((in[30 + inpos] & 16777215L) >>> 16)
+                        | (int) (in[31 + inpos] << 8);
+        }
+
+        protected static void fastpack25(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) (in[0 + inpos] & 33554431L)
+                        | (int) (in[1 + inpos] << 25);
+                out[1 + outpos] = (int) ((in[1 + inpos] & 33554431L) >>> 7)
+                        | (int) (in[2 + inpos] << 18);
+                out[2 + outpos] = (int) ((in[2 + inpos] & 33554431L) >>> 14)
+                        | (int) (in[3 + inpos] << 11);
+                out[3 + outpos] = (int) ((in[3 + inpos] & 33554431L) >>> 21)
+                        | (int) ((in[4 + inpos] & 33554431L) << 4)
+                        | (int) (in[5 + inpos] << 29);
+                out[4 + outpos] = (int) ((in[5 + inpos] & 33554431L) >>> 3)
+                        | (int) (in[6 + inpos] << 22);
+                out[5 + outpos] = (int) ((in[6 + inpos] & 33554431L) >>> 10)
+                        | (int) (in[7 + inpos] << 15);
+                out[6 + outpos] = (int) ((in[7 + inpos] & 33554431L) >>> 17)
+                        | (int) (in[8 + inpos] << 8);
+                out[7 + outpos] = (int) ((in[8 + inpos] & 33554431L) >>> 24)
+                        | (int) ((in[9 + inpos] & 33554431L) << 1)
+                        | (int) (in[10 + inpos] << 26);
+                out[8 + outpos] = (int) ((in[10 + inpos] & 33554431L) >>> 6)
+                        | (int) (in[11 + inpos] << 19);
+                out[9 + outpos] = (int) ((in[11 + inpos] & 33554431L) >>> 13)
+                        | (int) (in[12 + inpos] << 12);
+                out[10 + outpos] = (int) ((in[12 + inpos] & 33554431L) >>> 20)
+                        | (int) ((in[13 + inpos] & 33554431L) << 5)
+                        | (int) (in[14 + inpos] << 30);
+                out[11 + outpos] = (int) ((in[14 + inpos] & 33554431L) >>> 2)
+                        | (int) (in[15 + inpos] << 23);
+                out[12 + outpos] = (int) ((in[15 + inpos] & 33554431L) >>> 9)
+                        | (int) (in[16 + inpos] << 16);
+                out[13 + outpos] = (int) ((in[16 + inpos] & 33554431L) >>> 16)
+                        | (int) (in[17 + inpos] << 9);
+                out[14 + outpos] = (int) ((in[17 + inpos] & 33554431L) >>> 23)
+                        | (int) ((in[18 + inpos] & 33554431L) << 2)
+                        | (int) (in[19 + inpos] << 27);
+                out[15 + outpos] = (int) ((in[19 + inpos] & 33554431L) >>> 5)
+                        | (int) (in[20 + inpos] << 20);
+                out[16 + outpos] = (int) ((in[20 + inpos] & 33554431L) >>> 12)
+                        | (int) (in[21 + inpos] << 13);
+                out[17 + outpos] = (int) ((in[21 + inpos] & 33554431L) >>> 19)
+                        | (int) ((in[22 + inpos] & 33554431L) << 6)
+                        | (int) (in[23 + inpos] << 31);
+                out[18 + outpos] = (int) ((in[23 + inpos] & 33554431L) >>> 1)
+                        | (int) (in[24 + inpos] << 24);
+                out[19 + outpos] = (int) ((in[24 + inpos] & 33554431L) >>> 8)
+                        | (int) (in[25 + inpos] << 17);
+                out[20 + outpos] = (int) ((in[25 + inpos] & 33554431L) >>> 15)
+                        | (int) (in[26 + inpos] << 10);
+                out[21 + outpos] = (int) ((in[26 + inpos] & 33554431L) >>> 22)
+                        | (int) ((in[27 + inpos] & 33554431L) << 3)
+                        | (int) (in[28 + inpos] << 28);
+                out[22 + outpos] = (int) ((in[28 + inpos] & 33554431L) >>> 4)
+                        | (int) (in[29 + inpos] << 21);
+                out[23 + outpos] = (int) ((in[29 + inpos] & 33554431L) >>> 11)
+                        | (int) (in[30 + inpos] << 14);
+                out[24 + outpos] = (int) ((in[30 + inpos] & 33554431L) >>> 18)
+                        | (int) (in[31 + inpos] << 7);
+        }
+
+        protected static void fastpack26(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) (in[0 + inpos] & 67108863L)
+                        | (int) (in[1 + inpos] << 26);
+                out[1 + outpos] = (int) ((in[1 + inpos] & 67108863L) >>> 6)
+                        | (int) (in[2 + inpos] << 20);
+                out[2 + outpos] = (int) ((in[2 + inpos] & 67108863L) >>> 12)
+                        | (int) (in[3 + inpos] << 14);
+                out[3 + outpos] = (int) ((in[3 + inpos] & 67108863L) >>> 18)
+                        | (int) (in[4 + inpos] << 8);
+                out[4 + outpos] = (int) ((in[4 + inpos] & 67108863L) >>> 24)
+                        | (int) ((in[5 + inpos] & 67108863L) << 2)
+                        | (int) (in[6 + inpos] << 28);
+                out[5 + outpos] = (int) ((in[6 + inpos] & 67108863L) >>> 4)
+                        | (int) (in[7 + inpos] << 22);
+                out[6 + outpos] = (int) ((in[7 + inpos] & 67108863L) >>> 10)
+                        | (int) (in[8 + inpos] << 16);
+                out[7 + outpos] = (int) ((in[8 + inpos] & 67108863L) >>> 16)
+                        | (int) (in[9 + inpos] << 10);
+                out[8 + outpos] = (int) ((in[9 + inpos] & 67108863L) >>> 22)
+                        | (int) ((in[10 + inpos] & 67108863L) << 4)
+                        | (int) (in[11 + inpos] << 30);
+                out[9 + outpos] = (int) ((in[11 + inpos] & 67108863L) >>> 2)
+                        | (int) (in[12 + inpos] << 24);
+                out[10 + outpos] = (int) ((in[12 + inpos] & 67108863L) >>> 8)
+                        | (int) (in[13 + inpos] << 18);
+                out[11 + outpos] = (int) ((in[13 + inpos] & 67108863L) >>> 14)
+                        | (int) (in[14 + inpos] << 12);
+                out[12 + outpos] = (int) ((in[14 + inpos] & 67108863L) >>> 20)
+                        | (int) (in[15 + inpos] << 6);
+                out[13 + outpos] = (int) (in[16 + inpos] & 67108863L)
+                        | (int) (in[17 + inpos] << 26);
+                out[14 + outpos] = (int) ((in[17 + inpos] & 67108863L) >>> 6)
+                        | (int) (in[18 + inpos] << 20);
+                out[15 + outpos] = (int) ((in[18 + inpos] & 67108863L) >>> 12)
+                        | (int) (in[19 + inpos] << 14);
+                out[16 + outpos] = (int) ((in[19 + inpos] & 67108863L) >>> 18)
+                        | (int) (in[20 + inpos] << 8);
+                out[17 + outpos] = (int) ((in[20 + inpos] & 67108863L) >>> 24)
+                        | (int) ((in[21 + inpos] & 67108863L) << 2)
+                        | (int) (in[22 + inpos] << 28);
+                out[18 + outpos] = (int) ((in[22 + inpos] & 67108863L) >>> 4)
+                        | (int) (in[23 + inpos] << 22);
+                out[19 + outpos] = (int) ((in[23 + inpos] & 67108863L) >>> 10)
+                        | (int) (in[24 + inpos] << 16);
+                out[20 + outpos] = (int) ((in[24 + inpos] & 67108863L) >>> 16)
+                        | (int) (in[25 + inpos] << 10);
+                out[21 + outpos] = (int) ((in[25 + inpos] & 67108863L) >>> 22)
+                        | (int) ((in[26 + inpos] & 67108863L) << 4)
+                        | (int) (in[27 + inpos] << 30);
+                out[22 + outpos] = (int) ((in[27 + inpos] & 67108863L) >>> 2)
+                        | (int) (in[28 + inpos] << 24);
+                out[23 + outpos] = (int) ((in[28 + inpos] & 67108863L) >>> 8)
+                        | (int) (in[29 + inpos] << 18);
+                out[24 + outpos] = (int) ((in[29 + inpos] & 67108863L) >>> 14)
+                        | (int) (in[30 + inpos] << 12);
+                out[25 + outpos] = (int) ((in[30 + inpos] & 67108863L) >>> 20)
+                        | (int) (in[31 + inpos] << 6);
+        }
+
+        protected static void fastpack27(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) (in[0 + inpos] & 134217727L)
+                        | (int) (in[1 + inpos] << 27);
+                out[1 + outpos] = (int) ((in[1 + inpos] & 134217727L) >>> 5)
+                        | (int) (in[2 + inpos] << 22);
+                out[2 + outpos] = (int) ((in[2 + inpos] & 134217727L) >>> 10)
+                        | (int) (in[3 + inpos] << 17);
+                out[3 + outpos] = (int) ((in[3 + inpos] & 134217727L) >>> 15)
+                        | (int) (in[4 + inpos] << 12);
+                out[4 + outpos] = (int) ((in[4 + inpos] & 134217727L) >>> 20)
+                        | (int) (in[5 + inpos] << 7);
+                out[5 + outpos] = (int) ((in[5 + inpos] & 134217727L) >>> 25)
+                        | (int) ((in[6 + inpos] & 134217727L) << 2)
+                        | (int) (in[7 + inpos] << 29);
+                out[6 + outpos] = (int) ((in[7 + inpos] & 134217727L) >>> 3)
+                        | (int) (in[8 + inpos] << 24);
+                out[7 + outpos] = (int) ((in[8 + inpos] & 134217727L) >>> 8)
+                        | (int) (in[9 + inpos] << 19);
+                out[8 + outpos] = (int) ((in[9 + inpos] & 134217727L) >>> 13)
+                        | (int) (in[10 + inpos] << 14);
+                out[9 + outpos] = (int) ((in[10 + inpos] & 134217727L) >>> 18)
+                        | (int) (in[11 + inpos] << 9);
+                out[10 + outpos] = (int) ((in[11 + inpos] & 134217727L) >>> 23)
+                        | (int) ((in[12 + inpos] & 134217727L) << 4)
+                        | (int) (in[13 + inpos] << 31);
+                out[11 + outpos] = (int) ((in[13 + inpos] & 134217727L) >>> 1)
+                        | (int) (in[14 + inpos] << 26);
+                out[12 + outpos] = (int) ((in[14 + inpos] & 134217727L) >>> 6)
+                        | (int) (in[15 + inpos] << 21);
+                out[13 + outpos] = (int) ((in[15 + inpos] & 134217727L) >>> 11)
+                        | (int) (in[16 + inpos] << 16);
+                out[14 + outpos] = (int) ((in[16 + inpos] & 134217727L) >>> 16)
+                        | (int) (in[17 + inpos] << 11);
+                out[15 + outpos] = (int) ((in[17 + inpos] & 134217727L) >>> 21)
+                        | (int) (in[18 + inpos] << 6);
+                out[16 + outpos] = (int) ((in[18 + inpos] & 134217727L) >>> 26)
+                        | (int) ((in[19 + inpos] & 134217727L) << 1)
+                        | (int) (in[20 + inpos] << 28);
+                out[17 + outpos] = (int) ((in[20 + inpos] & 134217727L) >>> 4)
+                        | (int) (in[21 + inpos] << 23);
+                out[18 + outpos] = (int) ((in[21 + inpos] & 134217727L) >>> 9)
+                        | (int) (in[22 + inpos] << 18);
+                out[19 + outpos] = (int) ((in[22 + inpos] & 134217727L) >>> 14)
+                        | (int) (in[23 + inpos] << 13);
+                out[20 + outpos] = (int) ((in[23 + inpos] & 134217727L) >>> 19)
+                        | (int) (in[24 + inpos] << 8);
+                out[21 + outpos] = (int) ((in[24 + inpos] & 134217727L) >>> 24)
+                        | (int) ((in[25 + inpos] & 134217727L) << 3)
+                        | (int) (in[26 + inpos] << 30);
+                out[22 + outpos] = (int) ((in[26 + inpos] & 134217727L) >>> 2)
+                        | (int) (in[27 + inpos] << 25);
+                out[23 + outpos] = (int) ((in[27 + inpos] & 134217727L) >>> 7)
+                        | (int) (in[28 + inpos] << 20);
+                out[24 + outpos] = (int) ((in[28 + inpos] & 134217727L) >>> 12)
+                        | (int) (in[29 + inpos] << 15);
+                out[25 + outpos] = (int) ((in[29 + inpos] & 134217727L) >>> 17)
+                        | (int) (in[30 + inpos] << 10);
+                out[26 + outpos] = (int) ((in[30 + inpos] & 134217727L) >>> 22)
+                        | (int) (in[31 + inpos] << 5);
+        }
+
+        protected static void fastpack28(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) (in[0 + inpos] & 268435455L)
+                        | (int) (in[1 + inpos] << 28);
+                out[1 + outpos] = (int) ((in[1 + inpos] & 268435455L) >>> 4)
+                        | (int) (in[2 + inpos] << 24);
+                out[2 + outpos] = (int) ((in[2 + inpos] & 268435455L) >>> 8)
+                        | (int) (in[3 + inpos] << 20);
+                out[3 + outpos] = (int) ((in[3 + inpos] & 268435455L) >>> 12)
+                        | (int) (in[4 + inpos] << 16);
+                out[4 + outpos] = (int) ((in[4 + inpos] & 268435455L) >>> 16)
+                        | (int) (in[5 + inpos] << 12);
+                out[5 + outpos] = (int) ((in[5 + inpos] & 268435455L) >>> 20)
+                        | (int) (in[6 + inpos] << 8);
+                out[6 + outpos] = (int) ((in[6 + inpos] & 268435455L) >>> 24)
+                        | (int) (in[7 + inpos] << 4);
+                out[7 + outpos] = (int) (in[8 + inpos] & 268435455L)
+                        | (int) (in[9 + inpos] << 28);
+                out[8 + outpos] = (int) ((in[9 + inpos] & 268435455L) >>> 4)
+                        | (int) (in[10 + inpos] << 24);
+                out[9 + outpos] = (int) ((in[10 + inpos] & 268435455L) >>> 8)
+                        | (int) (in[11 + inpos] << 20);
+                out[10 + outpos] = (int) ((in[11 + inpos] & 268435455L) >>> 12)
+                        | (int) (in[12 + inpos] << 16);
+                out[11 + outpos] = (int) ((in[12 + inpos] & 268435455L) >>> 16)
+                        | (int) (in[13 + inpos] << 12);
+                out[12 + outpos] = (int) ((in[13 + inpos] & 268435455L) >>> 20)
+                        | (int) (in[14 + inpos] << 8);
+                out[13 + outpos] = (int) ((in[14 + inpos] & 268435455L) >>> 24)
+                        | (int) (in[15 + inpos] << 4);
+                out[14 + outpos] = (int) (in[16 + inpos] & 268435455L)
+                        | (int) (in[17 + inpos] << 28);
+                out[15 + outpos] = (int) ((in[17 + inpos] & 268435455L) >>> 4)
+                        | (int) (in[18 + inpos] << 24);
+                out[16 + outpos] = (int) ((in[18 + inpos] & 268435455L) >>> 8)
+                        | (int) (in[19 + inpos] << 20);
+                out[17 + outpos] = (int) ((in[19 + inpos] & 268435455L) >>> 12)
+                        | (int) (in[20 + inpos] << 16);
+                out[18 + outpos] = (int) ((in[20 + inpos] & 268435455L) >>> 16)
+                        | (int) (in[21 + inpos] << 12);
+                out[19 + outpos] = (int) ((in[21 + inpos] & 268435455L) >>> 20)
+                        | (int) (in[22 + inpos] << 8);
+                out[20 + outpos] = (int) ((in[22 + inpos] & 268435455L) >>> 24)
+                        | (int) (in[23 + inpos] << 4);
+                out[21 + outpos] = (int) (in[24 + inpos] & 268435455L)
+                        | (int) (in[25 + inpos] << 28);
+                out[22 + outpos] = (int) ((in[25 + inpos] & 268435455L) >>> 4)
+                        | (int) (in[26 + inpos] << 24);
+                out[23 + outpos] = (int) ((in[26 + inpos] & 268435455L) >>> 8)
+                        | (int) (in[27 + inpos] << 20);
+                out[24 + outpos] = (int) ((in[27 + inpos] & 268435455L) >>> 12)
+                        | (int) (in[28 + inpos] << 16);
+                out[25 + outpos] = (int) ((in[28 + inpos] & 268435455L) >>> 16)
+                        | (int) (in[29 + inpos] << 12);
+                out[26 + outpos] = (int) ((in[29 + inpos] & 268435455L) >>> 20)
+                        | (int) (in[30 + inpos] << 8);
+                out[27 + outpos] = (int) ((in[30 + inpos] & 268435455L) >>> 24)
+                        | (int) (in[31 + inpos] << 4);
+        }
+
+        protected static void fastpack29(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) (in[0 + inpos] & 536870911L)
+                        | (int) (in[1 + inpos] << 29);
+                out[1 + outpos] = (int) ((in[1 + inpos] & 536870911L) >>> 3)
+                        | (int) (in[2 + inpos] << 26);
+                out[2 + outpos] = (int) ((in[2 + inpos] & 536870911L) >>> 6)
+                        | (int) (in[3 + inpos] << 23);
+                out[3 + outpos] = (int) ((in[3 + inpos] & 536870911L) >>> 9)
+                        | (int) (in[4 + inpos] << 20);
+                out[4 + outpos] = (int) ((in[4 + inpos] & 536870911L) >>> 12)
+                        | (int) (in[5 + inpos] << 17);
+                out[5 + outpos] = (int) ((in[5 + inpos] & 536870911L) >>> 15)
+                        | (int) (in[6 + inpos] << 14);
+                out[6 + outpos] = (int) ((in[6 + inpos] & 536870911L) >>> 18)
+                        | (int) (in[7 + inpos] << 11);
+                out[7 + outpos] = (int) ((in[7 + inpos] & 536870911L) >>> 21)
+                        | (int) (in[8 + inpos] << 8);
+                out[8 + outpos] = (int) ((in[8 + inpos] & 536870911L) >>> 24)
+                        | (int) (in[9 + inpos] << 5);
+                out[9 + outpos] = (int) ((in[9 + inpos] & 536870911L) >>> 27)
+                        | (int) ((in[10 + inpos] & 536870911L) << 2)
+                        | (int) (in[11 + inpos] << 31);
+                out[10 + outpos] = (int) ((in[11 + inpos] & 536870911L) >>> 1)
+                        | (int) (in[12 + inpos] << 28);
+                out[11 + outpos] = (int) ((in[12 + inpos] & 536870911L) >>> 4)
+                        | (int) (in[13 + inpos] << 25);
+                out[12 + outpos] = (int) ((in[13 + inpos] & 536870911L) >>> 7)
+                        | (int) (in[14 + inpos] << 22);
+                out[13 + outpos] = (int) ((in[14 + inpos] & 536870911L) >>> 10)
+                        | (int) (in[15 + inpos] << 19);
+                out[14 + outpos] = (int) ((in[15 + inpos] & 536870911L) >>> 13)
+                        | (int) (in[16 + inpos] << 16);
+                out[15 + outpos] = (int) ((in[16 + inpos] & 536870911L) >>> 16)
+                        | (int) (in[17 + inpos] << 13);
+                out[16 + outpos] = (int) ((in[17 + inpos] & 536870911L) >>> 19)
+                        | (int) (in[18 + inpos] << 10);
+                out[17 + outpos] = (int) ((in[18 + inpos] & 536870911L) >>> 22)
+                        | (int) (in[19 + inpos] << 7);
+                out[18 + outpos] = (int) ((in[19 + inpos] & 536870911L) >>> 25)
+                        | (int) (in[20 + inpos] << 4);
+                out[19 + outpos] = (int) ((in[20 + inpos] & 536870911L) >>> 28)
+                        | (int) ((in[21 + inpos] & 536870911L) << 1)
+                        | (int) (in[22 + inpos] << 30);
+                out[20 + outpos] = (int) ((in[22 + inpos] & 536870911L) >>> 2)
+                        | (int) (in[23 + inpos] << 27);
+                out[21 + outpos] = (int) ((in[23 + inpos] & 536870911L) >>> 5)
+                        | (int) (in[24 + inpos] << 24);
+                out[22 + outpos] = (int) ((in[24 + inpos] & 536870911L) >>> 8)
+                        | (int) (in[25 + inpos] << 21);
+                out[23 + outpos] = (int) ((in[25 + inpos] & 536870911L) >>> 11)
+                        | (int) (in[26 + inpos] << 18);
+                out[24 + outpos] = (int) ((in[26 + inpos] & 536870911L) >>> 14)
+                        | (int) (in[27 + inpos] << 15);
+                out[25 + outpos] = (int) ((in[27 + inpos] & 536870911L) >>> 17)
+                        | (int) (in[28 + inpos] << 12);
+                out[26 + outpos] = (int) ((in[28 + inpos] & 536870911L) >>> 20)
+                        | (int) (in[29 + inpos] << 9);
+                out[27 + outpos] = (int) ((in[29 + inpos] & 536870911L) >>> 23)
+                        | (int) (in[30 + inpos] << 6);
+                out[28 + outpos] = (int) ((in[30 + inpos] & 536870911L) >>> 26)
+                        | (int) (in[31 + inpos] << 3);
+        }
+
+        protected static void fastpack3(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) (in[0 + inpos] & 7L)
+                        | (int) ((in[1 + inpos] & 7L) << 3)
+                        | (int) ((in[2 + inpos] & 7L) << 6)
+                        | (int) ((in[3 + inpos] & 7L) << 9)
+                        | (int) ((in[4 + inpos] & 7L) << 12)
+                        | (int) ((in[5 + inpos] & 7L) << 15)
+                        | (int) ((in[6 + inpos] & 7L) << 18)
+                        | (int) ((in[7 + inpos] & 7L) << 21)
+                        | (int) ((in[8 + inpos] & 7L) << 24)
+                        | (int) ((in[9 + inpos] & 7L) << 27)
+                        | (int) (in[10 + inpos] << 30);
+                out[1 + outpos] = (int) ((in[10 + inpos] & 7L) >>> 2)
+                        | (int) ((in[11 + inpos] & 7L) << 1)
+                        | (int) ((in[12 + inpos] & 7L) << 4)
+                        | (int) ((in[13 + inpos] & 7L) << 7)
+                        | (int) ((in[14 + inpos] & 7L) << 10)
+                        | (int) ((in[15 + inpos] & 7L) << 13)
+                        | (int) ((in[16 + inpos] & 7L) << 16)
+                        | (int) ((in[17 + inpos] & 7L) << 19)
+                        | (int) ((in[18 + inpos] & 7L) << 22)
+                        | (int) ((in[19 + inpos] & 7L) << 25)
+                        | (int) ((in[20 + inpos] & 7L) << 28)
+                        | (int) (in[21 + inpos] << 31);
+                out[2 + outpos] = (int) ((in[21 + inpos] & 7L) >>> 1)
+                        | (int) ((in[22 + inpos] & 7L) << 2)
+                        | (int) ((in[23 + inpos] & 7L) << 5)
+                        | (int) ((in[24 + inpos] & 7L) << 8)
+                        | (int) ((in[25 + inpos] & 7L) << 11)
+                        | (int) ((in[26 + inpos] & 7L) << 14)
+                        | (int) ((in[27 + inpos] & 7L) << 17)
+                        | (int) ((in[28 + inpos] & 7L) << 20)
+                        | (int) ((in[29 + inpos] & 7L) << 23)
+                        | (int) ((in[30 + inpos] & 7L) << 26)
+                        | (int) (in[31 + inpos] << 29);
+        }
+
+        protected static void fastpack30(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) (in[0 + inpos] & 1073741823L)
+                        | (int) (in[1 + inpos] << 30);
+                out[1 + outpos] = (int) ((in[1 + inpos] & 1073741823L) >>> 2)
+                        | (int) (in[2 + inpos] << 28);
+                out[2 + outpos] = (int) ((in[2 + inpos] & 1073741823L) >>> 4)
+                        | (int) (in[3 + inpos] << 26);
+                out[3 + outpos] = (int) ((in[3 + inpos] & 1073741823L) >>> 6)
+                        | (int) (in[4 + inpos] << 24);
+                out[4 + outpos] = (int) ((in[4 + inpos] & 1073741823L) >>> 8)
+                        | (int) (in[5 + inpos] << 22);
+                out[5 + outpos] = (int) ((in[5 + inpos] & 1073741823L) >>> 10)
+                        | (int) (in[6 + inpos] << 20);
+                out[6 + outpos] = (int) ((in[6 + inpos] & 1073741823L) >>> 12)
+                        | (int) (in[7 + inpos] << 18);
+                out[7 + outpos] = (int) ((in[7 + inpos] & 1073741823L) >>> 14)
+                        | (int) (in[8 + inpos] << 16);
+                out[8 + outpos] = (int) ((in[8 + inpos] & 1073741823L) >>> 16)
+                        | (int) (in[9 + inpos] << 14);
+                out[9 + outpos] = (int) ((in[9 + inpos] & 1073741823L) >>> 18)
+                        | (int) (in[10 + inpos] << 12);
+                out[10 + outpos] = (int) ((in[10 + inpos] & 1073741823L) >>> 20)
+                        | (int) (in[11 + inpos] << 10);
+                out[11 + outpos] = (int) ((in[11 + inpos] & 1073741823L) >>> 22)
+                        | (int) (in[12 + inpos] << 8);
+                out[12 + outpos] = (int) ((in[12 + inpos] & 1073741823L) >>> 24)
+                        | (int) (in[13 + inpos] << 6);
+                out[13 + outpos] = (int) ((in[13 + inpos] & 1073741823L) >>> 26)
+                        | (int) (in[14 + inpos] << 4);
+                out[14 + outpos] = (int) ((in[14 + inpos] & 1073741823L) >>> 28)
+                        | (int) (in[15 + inpos] << 2);
+                out[15 + outpos] = (int) (in[16 + inpos] & 1073741823L)
+                        | (int) (in[17 + inpos] << 30);
+                out[16 + outpos] = (int) ((in[17 + inpos] & 1073741823L) >>> 2)
+                        | (int) (in[18 + inpos] << 28);
+                out[17 + outpos] = (int) ((in[18 + inpos] & 1073741823L) >>> 4)
+                        | (int) (in[19 + inpos] << 26);
+                out[18 + outpos] = (int) ((in[19 + inpos] & 1073741823L) >>> 6)
+                        | (int) (in[20 + inpos] << 24);
+                out[19 + outpos] = (int) ((in[20 + inpos] & 1073741823L) >>> 8)
+                        | (int) (in[21 + inpos] << 22);
+                out[20 + outpos] = (int) ((in[21 + inpos] & 1073741823L) >>> 10)
+                        | (int) (in[22 + inpos] << 20);
+                out[21 + outpos] = (int) ((in[22 + inpos] & 1073741823L) >>> 12)
+                        | (int) (in[23 + inpos] << 18);
+                out[22 + outpos] = (int) ((in[23 + inpos] & 1073741823L) >>> 14)
+                        | (int) (in[24 + inpos] << 16);
+                out[23 + outpos] = (int) ((in[24 + inpos] & 1073741823L) >>> 16)
+                        | (int) (in[25 + inpos] << 14);
+                out[24 + outpos] = (int) ((in[25 + inpos] & 1073741823L) >>> 18)
+                        | (int) (in[26 + inpos] << 12);
+                out[25 + outpos] = (int) ((in[26 + inpos] & 1073741823L) >>> 20)
+                        | (int) (in[27 + inpos] << 10);
+                out[26 + outpos] = (int) ((in[27 + inpos] & 1073741823L) >>> 22)
+                        | (int) (in[28 + inpos] << 8);
+                out[27 + outpos] = (int) ((in[28 + inpos] & 1073741823L) >>> 24)
+                        | (int) (in[29 + inpos] << 6);
+                out[28 + outpos] = (int) ((in[29 + inpos] & 1073741823L) >>> 26)
+                        | (int) (in[30 + inpos] << 4);
+                out[29 + outpos] = (int) ((in[30 + inpos] & 1073741823L) >>> 28)
+                        | (int) (in[31 + inpos] << 2);
+        }
+
+        protected static void fastpack31(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) (in[0 + inpos] & 2147483647L)
+                        | (int) (in[1 + inpos] << 31);
+                out[1 + outpos] = (int) ((in[1 + inpos] & 2147483647L) >>> 1)
+                        | (int) (in[2 + inpos] << 30);
+                out[2 + outpos] = (int) ((in[2 + inpos] & 2147483647L) >>> 2)
+                        | (int) (in[3 + inpos] << 29);
+                out[3 + outpos] = (int) ((in[3 + inpos] & 2147483647L) >>> 3)
+                        | (int) (in[4 + inpos] << 28);
+                out[4 + outpos] = (int) ((in[4 + inpos] & 2147483647L) >>> 4)
+                        | (int) (in[5 + inpos] << 27);
+                out[5 + outpos] = (int) ((in[5 + inpos] & 2147483647L) >>> 5)
+                        | (int) (in[6 + inpos] << 26);
+                out[6 + outpos] = (int) ((in[6 + inpos] & 2147483647L) >>> 6)
+                        | (int) (in[7 + inpos] << 25);
+                out[7 + outpos] = (int) ((in[7 + inpos] & 2147483647L) >>> 7)
+                        | (int) (in[8 + inpos] << 24);
+                out[8 + outpos] = (int) ((in[8 + inpos] & 2147483647L) >>> 8)
+                        | (int) (in[9 + inpos] << 23);
+                out[9 + outpos] = (int) ((in[9 + inpos] & 2147483647L) >>> 9)
+                        | (int) (in[10 + inpos] << 22);
+                out[10 + outpos] = (int) ((in[10 + inpos] & 2147483647L) >>> 10)
+                        | (int) (in[11 + inpos] << 21);
+                out[11 + outpos] = (int) ((in[11 + inpos] & 2147483647L) >>> 11)
+                        | (int) (in[12 + inpos] << 20);
+                out[12 + outpos] = (int) ((in[12 + inpos] & 2147483647L) >>> 12)
+                        | (int) (in[13 + inpos] << 19);
+                out[13 + outpos] = (int) ((in[13 + inpos] & 2147483647L) >>> 13)
+                        | (int) (in[14 + inpos] << 18);
+                out[14 + outpos] = (int) ((in[14 + inpos] & 2147483647L) >>> 14)
+                        | (int) (in[15 + inpos] << 17);
+                out[15 + outpos] = (int) ((in[15 + inpos] & 2147483647L) >>> 15)
+                        | (int) (in[16 + inpos] << 16);
+                out[16 + outpos] = (int) ((in[16 + inpos] & 2147483647L) >>> 16)
+                        | (int) (in[17 + inpos] << 15);
+                out[17 + outpos] = (int) ((in[17 + inpos] & 2147483647L) >>> 17)
+                        | (int) (in[18 + inpos] << 14);
+                out[18 + outpos] = (int) ((in[18 + inpos] & 2147483647L) >>> 18)
+                        | (int) (in[19 + inpos] << 13);
+                out[19 + outpos] = (int) ((in[19 + inpos] & 2147483647L) >>> 19)
+                        | (int) (in[20 + inpos] << 12);
+                out[20 + outpos] = (int) ((in[20 + inpos] & 2147483647L) >>> 20)
+                        | (int) (in[21 + inpos] << 11);
+                out[21 + outpos] = (int) ((in[21 + inpos] & 2147483647L) >>> 21)
+                        | (int) (in[22 + inpos] << 10);
+                out[22 + outpos] = (int) ((in[22 + inpos] & 2147483647L) >>> 22)
+                        | (int) (in[23 + inpos] << 9);
+                out[23 + outpos] = (int) ((in[23 + inpos] & 2147483647L) >>> 23)
+                        | (int) (in[24 + inpos] << 8);
+                out[24 + outpos] = (int) ((in[24 + inpos] & 2147483647L) >>> 24)
+                        | (int) (in[25 + inpos] << 7);
+                out[25 + outpos] = (int) ((in[25 + inpos] & 2147483647L) >>> 25)
+                        | (int) (in[26 + inpos] << 6);
+                out[26 + outpos] = (int) ((in[26 + inpos] & 2147483647L) >>> 26)
+                        | (int) (in[27 + inpos] << 5);
+                out[27 + outpos] = (int) ((in[27 + inpos] & 2147483647L) >>> 27)
+                        | (int) (in[28 + inpos] << 4);
+                out[28 + outpos] = (int) ((in[28 + inpos] & 2147483647L) >>> 28)
+                        | (int) (in[29 + inpos] << 3);
+                out[29 + outpos] = (int) ((in[29 + inpos] & 2147483647L) >>> 29)
+                        | (int) (in[30 + inpos] << 2);
+                out[30 + outpos] = (int) ((in[30 + inpos] & 2147483647L) >>> 30)
+                        | (int) (in[31 + inpos] << 1);
+        }
+
+        protected static void fastpack32(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) in[0 + inpos];
+                out[1 + outpos] = (int) in[1 + inpos];
+                out[2 + outpos] = (int) in[2 + inpos];
+                out[3 + outpos] = (int) in[3 + inpos];
+                out[4 + outpos] = (int) in[4 + inpos];
+                out[5 + outpos] = (int) in[5 + inpos];
+                out[6 + outpos] = (int) in[6 + inpos];
+                out[7 + outpos] = (int) in[7 + inpos];
+                out[8 + outpos] = (int) in[8 + inpos];
+                out[9 + outpos] = (int) in[9 + inpos];
+                out[10 + outpos] = (int) in[10 + inpos];
+                out[11 + outpos] = (int) in[11 + inpos];
+                out[12 + outpos] = (int) in[12 + inpos];
+                out[13 + outpos] = (int) in[13 + inpos];
+                out[14 + outpos] = (int) in[14 + inpos];
+                out[15 + outpos] = (int) in[15 + inpos];
+                out[16 + outpos] = (int) in[16 + inpos];
+                out[17 + outpos] = (int) in[17 + inpos];
+                out[18 + outpos] = (int) in[18 + inpos];
+                out[19 + outpos] = (int) in[19 + inpos];
+                out[20 + outpos] = (int) in[20 + inpos];
+                out[21 + outpos] = (int) in[21 + inpos];
+                out[22 + outpos] = (int) in[22 + inpos];
+                out[23 + outpos] = (int) in[23 + inpos];
+                out[24 + outpos] = (int) in[24 + inpos];
+                out[25 + outpos] = (int) in[25 + inpos];
+                out[26 + outpos] = (int) in[26 + inpos];
+                out[27 + outpos] = (int) in[27 + inpos];
+                out[28 + outpos] = (int) in[28 + inpos];
+                out[29 + outpos] = (int) in[29 + inpos];
+                out[30 + outpos] = (int) in[30 + inpos];
+                out[31 + outpos] = (int) in[31 + inpos];
+        }
+
+        protected static void fastpack33(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) in[0 + inpos];
+                out[1 + outpos] = (int) ((in[0 + inpos] & 8589934591L) >>> 32)
+                        | (int) (in[1 + inpos] << 1);
+                out[2 + outpos] = (int) ((in[1 + inpos] & 8589934591L) >>> 31)
+                        | (int) (in[2 + inpos] << 2);
+                out[3 + outpos] = (int) ((in[2 + inpos] & 8589934591L) >>> 30)
+                        | (int) (in[3 + inpos] << 3);
+                out[4 + outpos] = (int) ((in[3 + inpos] & 8589934591L) >>> 29)
+                        | (int) (in[4 + inpos] << 4);
+                out[5 + outpos] = (int) ((in[4 + inpos] & 8589934591L) >>> 28)
+                        | (int) (in[5 + inpos] << 5);
+                out[6 + outpos] = (int) ((in[5 + inpos] & 8589934591L) >>> 27)
+                        | (int) (in[6 + inpos] << 6);
+                out[7 + outpos] = (int) ((in[6 + inpos] & 8589934591L) >>> 26)
+                        | (int) (in[7 + inpos] << 7);
+                out[8 + outpos] = (int) ((in[7 + inpos] & 8589934591L) >>> 25)
+                        | (int) (in[8 + inpos] << 8);
+                out[9 + outpos] = (int) ((in[8 + inpos] & 8589934591L) >>> 24)
+                        | (int) (in[9 + inpos] << 9);
+                out[10 + outpos] = (int) ((in[9 + inpos] & 8589934591L) >>> 23)
+                        | (int) (in[10 + inpos] << 10);
+                out[11 + outpos] = (int) ((in[10 + inpos] & 8589934591L) >>> 22)
+                        | (int) (in[11 + inpos] << 11);
+                out[12 + outpos] = (int) ((in[11 + inpos] & 8589934591L) >>> 21)
+                        | (int) (in[12 + inpos] << 12);
+                out[13 + outpos] = (int) ((in[12 + inpos] & 8589934591L) >>> 20)
+                        | (int) (in[13 + inpos] << 13);
+                out[14 + outpos] = (int) ((in[13 + inpos] & 8589934591L) >>> 19)
+                        | (int) (in[14 + inpos] << 14);
+                out[15 + outpos] = (int) ((in[14 + inpos] & 8589934591L) >>> 18)
+                        | (int) (in[15 + inpos] << 15);
+                out[16 + outpos] = (int) ((in[15 + inpos] & 8589934591L) >>> 17)
+                        | (int) (in[16 + inpos] << 16);
+                out[17 + outpos] = (int) ((in[16 + inpos] & 8589934591L) >>> 16)
+                        | (int) (in[17 + inpos] << 17);
+                out[18 + outpos] = (int) ((in[17 + inpos] & 8589934591L) >>> 15)
+                        | (int) (in[18 + inpos] << 18);
+                out[19 + outpos] = (int) ((in[18 + inpos] & 8589934591L) >>> 14)
+                        | (int) (in[19 + inpos] << 19);
+                out[20 + outpos] = (int) ((in[19 + inpos] & 8589934591L) >>> 13)
+                        | (int) (in[20 + inpos] << 20);
+                out[21 + outpos] = (int) ((in[20 + inpos] & 8589934591L) >>> 12)
+                        | (int) (in[21 + inpos] << 21);
+                out[22 + outpos] = (int) ((in[21 + inpos] & 8589934591L) >>> 11)
+                        | (int) (in[22 + inpos] << 22);
+                out[23 + outpos] = (int) ((in[22 + inpos] & 8589934591L) >>> 10)
+                        | (int) (in[23 + inpos] << 23);
+                out[24 + outpos] = (int) ((in[23 + inpos] & 8589934591L) >>> 9)
+                        | (int) (in[24 + inpos] << 24);
+                out[25 + outpos] = (int) ((in[24 + inpos] & 8589934591L) >>> 8)
+                        | (int) (in[25 + inpos] << 25);
+                out[26 + outpos] = (int) ((in[25 + inpos] & 8589934591L) >>> 7)
+                        | (int) (in[26 + inpos] << 26);
+                out[27 + outpos] = (int) ((in[26 + inpos] & 8589934591L) >>> 6)
+                        | (int) (in[27 + inpos] << 27);
+                out[28 + outpos] = (int) ((in[27 + inpos] & 8589934591L) >>> 5)
+                        | (int) (in[28 + inpos] << 28);
+                out[29 + outpos] = (int) ((in[28 + inpos] & 8589934591L) >>> 4)
+                        | (int) (in[29 + inpos] << 29);
+                out[30 + outpos] = (int) ((in[29 + inpos] & 8589934591L) >>> 3)
+                        | (int) (in[30 + inpos] << 30);
+                out[31 + outpos] = (int) ((in[30 + inpos] & 8589934591L) >>> 2)
+                        | (int) (in[31 + inpos] << 31);
+                out[32 + outpos] = (int) (in[31 + inpos] >>> 1);
+        }
+
+        protected static void fastpack34(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) in[0 + inpos];
+                out[1 + outpos] = (int) ((in[0 + inpos] & 17179869183L) >>> 32)
+                        | (int) (in[1 + inpos] << 2);
+                out[2 + outpos] = (int) ((in[1 + inpos] & 17179869183L) >>> 30)
+                        | (int) (in[2 + inpos] << 4);
+                out[3 + outpos] = (int) ((in[2 + inpos] & 17179869183L) >>> 28)
+                        | (int) (in[3 + inpos] << 6);
+                out[4 + outpos] = (int) ((in[3 + inpos] & 17179869183L) >>> 26)
+                        | (int) (in[4 + inpos] << 8);
+                out[5 + outpos] = (int) ((in[4 + inpos] & 17179869183L) >>> 24)
+                        | (int) (in[5 + inpos] << 10);
+                out[6 + outpos] = (int) ((in[5 + inpos] & 17179869183L) >>> 22)
+                        | (int) (in[6 + inpos] << 12);
+                out[7 + outpos] = (int) ((in[6 + inpos] & 17179869183L) >>> 20)
+                        | (int) (in[7 + inpos] << 14);
+                out[8 + outpos] = (int) ((in[7 + inpos] & 17179869183L) >>> 18)
+                        | (int) (in[8 + inpos] << 16);
+                out[9 + outpos] = (int) ((in[8 + inpos] & 17179869183L) >>> 16)
+                        | (int) (in[9 + inpos] << 18);
+                out[10 + outpos] = (int) ((in[9 + inpos] & 17179869183L) >>> 14)
+                        | (int) (in[10 + inpos] << 20);
+                out[11 + outpos] = (int) ((in[10 + inpos] & 17179869183L) >>> 12)
+                        | (int) (in[11 + inpos] << 22);
+                out[12 + outpos] = (int) ((in[11 + inpos] & 17179869183L) >>> 10)
+                        | (int) (in[12 + inpos] << 24);
+                out[13 + outpos] = (int) ((in[12 + inpos] & 17179869183L) >>> 8)
+                        | (int) (in[13 + inpos] << 26);
+                out[14 + outpos] = (int) ((in[13 + inpos] & 17179869183L) >>> 6)
+                        | (int) (in[14 + inpos] << 28);
+                out[15 + outpos] = (int) ((in[14 + inpos] & 17179869183L) >>> 4)
+                        | (int) (in[15 + inpos] << 30);
+                out[16 + outpos] = (int) (in[15 + inpos] >>> 2);
+                out[17 + outpos] = (int) in[16 + inpos];
+                out[18 + outpos] = (int) ((in[16 + inpos] & 17179869183L) >>> 32)
+                        | (int) (in[17 + inpos] << 2);
+                out[19 + outpos] = (int) ((in[17 + inpos] & 17179869183L) >>> 30)
+                        | (int) (in[18 + inpos] << 4);
+                out[20 + outpos] = (int) ((in[18 + inpos] & 17179869183L) >>> 28)
+                        | (int) (in[19 + inpos] << 6);
+                out[21 + outpos] = (int) ((in[19 + inpos] & 17179869183L) >>> 26)
+                        | (int) (in[20 + inpos] << 8);
+                out[22 + outpos] = (int) ((in[20 + inpos] & 17179869183L) >>> 24)
+                        | (int) (in[21 + inpos] << 10);
+                out[23 + outpos] = (int) ((in[21 + inpos] & 17179869183L) >>> 22)
+                        | (int) (in[22 + inpos] << 12);
+                out[24 + outpos] = (int) ((in[22 + inpos] & 17179869183L) >>> 20)
+                        | (int) (in[23 + inpos] << 14);
+                out[25 + outpos] = (int) ((in[23 + inpos] & 17179869183L) >>> 18)
+                        | (int) (in[24 + inpos] << 16);
+                out[26 + outpos] = (int) ((in[24 + inpos] & 17179869183L) >>> 16)
+                        | (int) (in[25 + inpos] << 18);
+                out[27 + outpos] = (int) ((in[25 + inpos] & 17179869183L) >>> 14)
+                        | (int) (in[26 + inpos] << 20);
+                out[28 + outpos] = (int) ((in[26 + inpos] & 17179869183L) >>> 12)
+                        | (int) (in[27 + inpos] << 22);
+                out[29 + outpos] = (int) ((in[27 + inpos] & 17179869183L) >>> 10)
+                        | (int) (in[28 + inpos] << 24);
+                out[30 + outpos] = (int) ((in[28 + inpos] & 17179869183L) >>> 8)
+                        | (int) (in[29 + inpos] << 26);
+                out[31 + outpos] = (int) ((in[29 + inpos] & 17179869183L) >>> 6)
+                        | (int) (in[30 + inpos] << 28);
+                out[32 + outpos] = (int) ((in[30 + inpos] & 17179869183L) >>> 4)
+                        | (int) (in[31 + inpos] << 30);
+                out[33 + outpos] = (int) (in[31 + inpos] >>> 2);
+        }
+
+        protected static void fastpack35(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) in[0 + inpos];
+                out[1 + outpos] = (int) ((in[0 + inpos] & 34359738367L) >>> 32)
+                        | (int) (in[1 + inpos] << 3);
+                out[2 + outpos] = (int) ((in[1 + inpos] & 34359738367L) >>> 29)
+                        | (int) (in[2 + inpos] << 6);
+                out[3 + outpos] = (int) ((in[2 + inpos] & 34359738367L) >>> 26)
+                        | (int) (in[3 + inpos] << 9);
+                out[4 + outpos] = (int) ((in[3 + inpos] & 34359738367L) >>> 23)
+                        | (int) (in[4 + inpos] << 12);
+                out[5 + outpos] = (int) ((in[4 + inpos] & 34359738367L) >>> 20)
+                        | (int) (in[5 + inpos] << 15);
+                out[6 + outpos] = (int) ((in[5 + inpos] & 34359738367L) >>> 17)
+                        | (int) (in[6 + inpos] << 18);
+                out[7 + outpos] = (int) ((in[6 + inpos] & 34359738367L) >>> 14)
+                        | (int) (in[7 + inpos] << 21);
+                out[8 + outpos] = (int) ((in[7 + inpos] & 34359738367L) >>> 11)
+                        | (int) (in[8 + inpos] << 24);
+                out[9 + outpos] = (int) ((in[8 + inpos] & 34359738367L) >>> 8)
+                        | (int) (in[9 + inpos] << 27);
+                out[10 + outpos] = (int) ((in[9 + inpos] & 34359738367L) >>> 5)
+                        | (int) (in[10 + inpos] << 30);
+                out[11 + outpos] = (int) (in[10 + inpos] >>> 2);
+                out[12 + outpos] = (int) ((in[10 + inpos] & 34359738367L) >>> 34)
+                        | (int) (in[11 + inpos] << 1);
+                out[13 + outpos] = (int) ((in[11 + inpos] & 34359738367L) >>> 31)
+                        | (int) (in[12 + inpos] << 4);
+                out[14 + outpos] = (int) ((in[12 + inpos] & 34359738367L) >>> 28)
+                        | (int) (in[13 + inpos] << 7);
+                out[15 + outpos] = (int) ((in[13 + inpos] & 34359738367L) >>> 25)
+                        | (int) (in[14 + inpos] << 10);
+                out[16 + outpos] = (int) ((in[14 + inpos] & 34359738367L) >>> 22)
+                        | (int) (in[15 + inpos] << 13);
+                out[17 + outpos] = (int) ((in[15 + inpos] & 34359738367L) >>> 19)
+                        | (int) (in[16 + inpos] << 16);
+                out[18 + outpos] = (int) ((in[16 + inpos] & 34359738367L) >>> 16)
+                        | (int) (in[17 + inpos] << 19);
+                out[19 + outpos] = (int) ((in[17 + inpos] & 34359738367L) >>> 13)
+                        | (int) (in[18 + inpos] << 22);
+                out[20 + outpos] = (int) ((in[18 + inpos] & 34359738367L) >>> 10)
+                        | (int) (in[19 + inpos] << 25);
+                out[21 + outpos] = (int) ((in[19 + inpos] & 34359738367L) >>> 7)
+                        | (int) (in[20 + inpos] << 28);
+                out[22 + outpos] = (int) ((in[20 + inpos] & 34359738367L) >>> 4)
+                        | (int) (in[21 + inpos] << 31);
+                out[23 + outpos] = (int) (in[21 + inpos] >>> 1);
+                out[24 + outpos] = (int) ((in[21 + inpos] & 34359738367L) >>> 33)
+                        | (int) (in[22 + inpos] << 2);
+                out[25 + outpos] = (int) ((in[22 + inpos] & 34359738367L) >>> 30)
+                        | (int) (in[23 + inpos] << 5);
+                out[26 + outpos] = (int) ((in[23 + inpos] & 34359738367L) >>> 27)
+                        | (int) (in[24 + inpos] << 8);
+                out[27 + outpos] = (int) ((in[24 + inpos] & 34359738367L) >>> 24)
+                        | (int) (in[25 + inpos] << 11);
+                out[28 + outpos] = (int) ((in[25 + inpos] & 34359738367L) >>> 21)
+                        | (int) (in[26 + inpos] << 14);
+                out[29 + outpos] = (int) ((in[26 + inpos] & 34359738367L) >>> 18)
+                        | (int) (in[27 + inpos] << 17);
+                out[30 + outpos] = (int) ((in[27 + inpos] & 34359738367L) >>> 15)
+                        | (int) (in[28 + inpos] << 20);
+                out[31 + outpos] = (int) ((in[28 + inpos] & 34359738367L) >>> 12)
+                        | (int) (in[29 + inpos] << 23);
+                out[32 + outpos] = (int) ((in[29 + inpos] & 34359738367L) >>> 9)
+                        | (int) (in[30 + inpos] << 26);
+                out[33 + outpos] = (int) ((in[30 + inpos] & 34359738367L) >>> 6)
+                        | (int) (in[31 + inpos] << 29);
+                out[34 + outpos] = (int) (in[31 + inpos] >>> 3);
+        }
+
+        protected static void fastpack36(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) in[0 + inpos];
+                out[1 + outpos] = (int) ((in[0 + inpos] & 68719476735L) >>> 32)
+                        | (int) (in[1 + inpos] << 4);
+                out[2 + outpos] = (int) ((in[1 + inpos] & 68719476735L) >>> 28)
+                        | (int) (in[2 + inpos] << 8);
+                out[3 + outpos] = (int) ((in[2 + inpos] & 68719476735L) >>> 24)
+                        | (int) (in[3 + inpos] << 12);
+                out[4 + outpos] = (int) ((in[3 + inpos] & 68719476735L) >>> 20)
+                        | (int) (in[4 + inpos] << 16);
+                out[5 + outpos] = (int) ((in[4 + inpos] & 68719476735L) >>> 16)
+                        | (int) (in[5 + inpos] << 20);
+                out[6 + outpos] = (int) ((in[5 + inpos] & 68719476735L) >>> 12)
+                        | (int) (in[6 + inpos] << 24);
+                out[7 + outpos] = (int) ((in[6 + inpos] & 68719476735L) >>> 8)
+                        | (int) (in[7 + inpos] << 28);
+                out[8 + outpos] = (int) (in[7 + inpos] >>> 4);
+                out[9 + outpos] = (int) in[8 + inpos];
+                out[10 + outpos] = (int) ((in[8 + inpos] & 68719476735L) >>> 32)
+                        | (int) (in[9 + inpos] << 4);
+                out[11 + outpos] = (int) ((in[9 + inpos] & 68719476735L) >>> 28)
+                        | (int) (in[10 + inpos] << 8);
+                out[12 + outpos] = (int) ((in[10 + inpos] & 68719476735L) >>> 24)
+                        | (int) (in[11 + inpos] << 12);
+                out[13 + outpos] = (int) ((in[11 + inpos] & 68719476735L) >>> 20)
+                        | (int) (in[12 + inpos] << 16);
+                out[14 + outpos] = (int) ((in[12 + inpos] & 68719476735L) >>> 16)
+                        | (int) (in[13 + inpos] << 20);
+                out[15 + outpos] = (int) ((in[13 + inpos] & 68719476735L) >>> 12)
+                        | (int) (in[14 + inpos] << 24);
+                out[16 + outpos] = (int) ((in[14 + inpos] & 68719476735L) >>> 8)
+                        | (int) (in[15 + inpos] << 28);
+                out[17 + outpos] = (int) (in[15 + inpos] >>> 4);
+                out[18 + outpos] = (int) in[16 + inpos];
+                out[19 + outpos] = (int) ((in[16 + inpos] & 68719476735L) >>> 32)
+                        | (int) (in[17 + inpos] << 4);
+                out[20 + outpos] = (int) ((in[17 + inpos] & 68719476735L) >>> 28)
+                        | (int) (in[18 + inpos] << 8);
+                out[21 + outpos] = (int) ((in[18 + inpos] & 68719476735L) >>> 24)
+                        | (int) (in[19 + inpos] << 12);
+                out[22 + outpos] = (int) ((in[19 + inpos] & 68719476735L) >>> 20)
+                        | (int) (in[20 + inpos] << 16);
+                out[23 + outpos] = (int) ((in[20 + inpos] & 68719476735L) >>> 16)
+                        | (int) (in[21 + inpos] << 20);
+                out[24 + outpos] = (int) ((in[21 + inpos] & 68719476735L) >>> 12)
+                        | (int) (in[22 + inpos] << 24);
+                out[25 + outpos] = (int) ((in[22 + inpos] & 68719476735L) >>> 8)
+                        | (int) (in[23 + inpos] << 28);
+                out[26 + outpos] = (int) (in[23 + inpos] >>> 4);
+                out[27 + outpos] = (int) in[24 + inpos];
+                out[28 + outpos] = (int) ((in[24 + inpos] & 68719476735L) >>> 32)
+                        | (int) (in[25 + inpos] << 4);
+                out[29 + outpos] = (int) ((in[25 + inpos] & 68719476735L) >>> 28)
+                        | (int) (in[26 + inpos] << 8);
+                out[30 + outpos] = (int) ((in[26 + inpos] & 68719476735L) >>> 24)
+                        | (int) (in[27 + inpos] << 12);
+                out[31 + outpos] = (int) ((in[27 + inpos] & 68719476735L) >>> 20)
+                        | (int) (in[28 + inpos] << 16);
+                out[32 + outpos] = (int) ((in[28 + inpos] & 68719476735L) >>> 16)
+                        | (int) (in[29 + inpos] << 20);
+                out[33 + outpos] = (int) ((in[29 + inpos] & 68719476735L) >>> 12)
+                        | (int) (in[30 + inpos] << 24);
+                out[34 + outpos] = (int) ((in[30 + inpos] & 68719476735L) >>> 8)
+                        | (int) (in[31 + inpos] << 28);
+                out[35 + outpos] = (int) (in[31 + inpos] >>> 4);
+        }
+
+        protected static void fastpack37(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) in[0 + inpos];
+                out[1 + outpos] = (int) ((in[0 + inpos] & 137438953471L) >>> 32)
+                        | (int) (in[1 + inpos] << 5);
+                out[2 + outpos] = (int) ((in[1 + inpos] & 137438953471L) >>> 27)
+                        | (int) (in[2 + inpos] << 10);
+                out[3 + outpos] = (int) ((in[2 + inpos] & 137438953471L) >>> 22)
+                        | (int) (in[3 + inpos] << 15);
+                out[4 + outpos] = (int) ((in[3 + inpos] & 137438953471L) >>> 17)
+                        | (int) (in[4 + inpos] << 20);
+                out[5 + outpos] = (int) ((in[4 + inpos] & 137438953471L) >>> 12)
+                        | (int) (in[5 + inpos] << 25);
+                out[6 + outpos] = (int) ((in[5 + inpos] & 137438953471L) >>> 7)
+                        | (int) (in[6 + inpos] << 30);
+                out[7 + outpos] = (int) (in[6 + inpos] >>> 2);
+                out[8 + outpos] = (int) ((in[6 + inpos] & 137438953471L) >>> 34)
+                        | (int) (in[7 + inpos] << 3);
+                out[9 + outpos] = (int) ((in[7 + inpos] & 137438953471L) >>> 29)
+                        | (int) (in[8 + inpos] << 8);
+                out[10 + outpos] = (int) ((in[8 + inpos] & 137438953471L) >>> 24)
+                        | (int) (in[9 + inpos] << 13);
+                out[11 + outpos] = (int) ((in[9 + inpos] & 137438953471L) >>> 19)
+                        | (int) (in[10 + inpos] << 18);
+                out[12 + outpos] = (int) ((in[10 + inpos] & 137438953471L) >>> 14)
+                        | (int) (in[11 + inpos] << 23);
+                out[13 + outpos] = (int) ((in[11 + inpos] & 137438953471L) >>> 9)
+                        | (int) (in[12 + inpos] << 28);
+                out[14 + outpos] = (int) (in[12 + inpos] >>> 4);
+                out[15 + outpos] = (int) ((in[12 + inpos] & 137438953471L) >>> 36)
+                        | (int) (in[13 + inpos] << 1);
+                out[16 + outpos] = (int) ((in[13 + inpos] & 137438953471L) >>> 31)
+                        | (int) (in[14 + inpos] << 6);
+                out[17 + outpos] = (int) ((in[14 + inpos] & 137438953471L) >>> 26)
+                        | (int) (in[15 + inpos] << 11);
+                out[18 + outpos] = (int) ((in[15 + inpos] & 137438953471L) >>> 21)
+                        | (int) (in[16 + inpos] << 16);
+                out[19 + outpos] = (int) ((in[16 + inpos] & 137438953471L) >>> 16)
+                        | (int) (in[17 + inpos] << 21);
+                out[20 + outpos] = (int) ((in[17 + inpos] & 137438953471L) >>> 11)
+                        | (int) (in[18 + inpos] << 26);
+                out[21 + outpos] = (int) ((in[18 + inpos] & 137438953471L) >>> 6)
+                        | (int) (in[19 + inpos] << 31);
+                out[22 + outpos] = (int) (in[19 + inpos] >>> 1);
+                out[23 + outpos] = (int) ((in[19 + inpos] & 137438953471L) >>> 33)
+                        | (int) (in[20 + inpos] << 4);
+                out[24 + outpos] = (int) ((in[20 + inpos] & 137438953471L) >>> 28)
+                        | (int) (in[21 + inpos] << 9);
+                out[25 + outpos] = (int) ((in[21 + inpos] & 137438953471L) >>> 23)
+                        | (int) (in[22 + inpos] << 14);
+                out[26 + outpos] = (int) ((in[22 + inpos] & 137438953471L) >>> 18)
+                        | (int) (in[23 + inpos] << 19);
+                out[27 + outpos] = (int) ((in[23 + inpos] & 137438953471L) >>> 13)
+                        | (int) (in[24 + inpos] << 24);
+                out[28 + outpos] = (int) ((in[24 + inpos] & 137438953471L) >>> 8)
+                        | (int) (in[25 + inpos] << 29);
+                out[29 + outpos] = (int) (in[25 + inpos] >>> 3);
+                out[30 + outpos] = (int) ((in[25 + inpos] & 137438953471L) >>> 35)
+                        | (int) (in[26 + inpos] << 2);
+                out[31 + outpos] = (int) ((in[26 + inpos] & 137438953471L) >>> 30)
+                        | (int) (in[27 + inpos] << 7);
+                out[32 + outpos] = (int) ((in[27 + inpos] & 137438953471L) >>> 25)
+                        | (int) (in[28 + inpos] << 12);
+                out[33 + outpos] = (int) ((in[28 + inpos] & 137438953471L) >>> 20)
+                        | (int) (in[29 + inpos] << 17);
+                out[34 + outpos] = (int) ((in[29 + inpos] & 137438953471L) >>> 15)
+                        | (int) (in[30 + inpos] << 22);
+                out[35 + outpos] = (int) ((in[30 + inpos] & 137438953471L) >>> 10)
+                        | (int) (in[31 + inpos] << 27);
+                out[36 + outpos] = (int) (in[31 + inpos] >>> 5);
+        }
+
+        protected static void fastpack38(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) in[0 + inpos];
+                out[1 + outpos] = (int) ((in[0 + inpos] & 274877906943L) >>> 32)
+                        | (int) (in[1 + inpos] << 6);
+                out[2 + outpos] = (int) ((in[1 + inpos] & 274877906943L) >>> 26)
+                        | (int) (in[2 + inpos] << 12);
+                out[3 + outpos] = (int) ((in[2 + inpos] & 274877906943L) >>> 20)
+                        | (int) (in[3 + inpos] << 18);
+                out[4 + outpos] = (int) ((in[3 + inpos] & 274877906943L) >>> 14)
+                        | (int) (in[4 + inpos] << 24);
+                out[5 + outpos] = (int) ((in[4 + inpos] & 274877906943L) >>> 8)
+                        | (int) (in[5 + inpos] << 30);
+                out[6 + outpos] = (int) (in[5 + inpos] >>> 2);
+                out[7 + outpos] = (int) ((in[5 + inpos] & 274877906943L) >>> 34)
+                        | (int) (in[6 + inpos] << 4);
+                out[8 + outpos] = (int) ((in[6 + inpos] & 274877906943L) >>> 28)
+                        | (int) (in[7 + inpos] << 10);
+                out[9 + outpos] = (int) ((in[7 + inpos] & 274877906943L) >>> 22)
+                        | (int) (in[8 + inpos] << 16);
+                out[10 + outpos] = (int) ((in[8 + inpos] & 274877906943L) >>> 16)
+                        | (int) (in[9 + inpos] << 22);
+                out[11 + outpos] = (int) ((in[9 + inpos] & 274877906943L) >>> 10)
+                        | (int) (in[10 + inpos] << 28);
+                out[12 + outpos] = (int) (in[10 + inpos] >>> 4);
+                out[13 + outpos] = (int) ((in[10 + inpos] & 274877906943L) >>> 36)
+                        | (int) (in[11 + inpos] << 2);
+                out[14 + outpos] = (int) ((in[11 + inpos] & 274877906943L) >>> 30)
+                        | (int) (in[12 + inpos] << 8);
+                out[15 + outpos] = (int) ((in[12 + inpos] & 274877906943L) >>> 24)
+                        | (int) (in[13 + inpos] << 14);
+                out[16 + outpos] = (int) ((in[13 + inpos] & 274877906943L) >>> 18)
+                        | (int) (in[14 + inpos] << 20);
+                out[17 + outpos] = (int) ((in[14 + inpos] & 274877906943L) >>> 12)
+                        | (int) (in[15 + inpos] << 26);
+                out[18 + outpos] = (int) (in[15 + inpos] >>> 6);
+                out[19 + outpos] = (int) in[16 + inpos];
+                out[20 + outpos] = (int) ((in[16 + inpos] & 274877906943L) >>> 32)
+                        | (int) (in[17 + inpos] << 6);
+                out[21 + outpos] = (int) ((in[17 + inpos] & 274877906943L) >>> 26)
+                        | (int) (in[18 + inpos] << 12);
+                out[22 + outpos] = (int) ((in[18 + inpos] & 274877906943L) >>> 20)
+                        | (int) (in[19 + inpos] << 18);
+                out[23 + outpos] = (int) ((in[19 + inpos] & 274877906943L) >>> 14)
+                        | (int) (in[20 + inpos] << 24);
+                out[24 + outpos] = (int) ((in[20 + inpos] & 274877906943L) >>> 8)
+                        | (int) (in[21 + inpos] << 30);
+                out[25 + outpos] = (int) (in[21 + inpos] >>> 2);
+                out[26 + outpos] = (int) ((in[21 + inpos] & 274877906943L) >>> 34)
+                        | (int) (in[22 + inpos] << 4);
+                out[27 + outpos] = (int) ((in[22 + inpos] & 274877906943L) >>> 28)
+                        | (int) (in[23 + inpos] << 10);
+                out[28 + outpos] = (int) ((in[23 + inpos] & 274877906943L) >>> 22)
+                        | (int) (in[24 + inpos] << 16);
+                out[29 + outpos] = (int) ((in[24 + inpos] & 274877906943L) >>> 16)
+                        | (int) (in[25 + inpos] << 22);
+                out[30 + outpos] = (int) ((in[25 + inpos] & 274877906943L) >>> 10)
+                        | (int) (in[26 + inpos] << 28);
+                out[31 + outpos] = (int) (in[26 + inpos] >>> 4);
+                out[32 + outpos] = (int) ((in[26 + inpos] & 274877906943L) >>> 36)
+                        | (int) (in[27 + inpos] << 2);
+                out[33 + outpos] = (int) ((in[27 + inpos] & 274877906943L) >>> 30)
+                        | (int) (in[28 + inpos] << 8);
+                out[34 + outpos] = (int) ((in[28 + inpos] & 274877906943L) >>> 24)
+                        | (int) (in[29 + inpos] << 14);
+                out[35 + outpos] = (int) ((in[29 + inpos] & 274877906943L) >>> 18)
+                        | (int) (in[30 + inpos] << 20);
+                out[36 + outpos] = (int) ((in[30 + inpos] & 274877906943L) >>> 12)
+                        | (int) (in[31 + inpos] << 26);
+                out[37 + outpos] = (int) (in[31 + inpos] >>> 6);
+        }
+
+        protected static void fastpack39(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) in[0 + inpos];
+                out[1 + outpos] = (int) ((in[0 + inpos] & 549755813887L) >>> 32)
+                        | (int) (in[1 + inpos] << 7);
+                out[2 + outpos] = (int) ((in[1 + inpos] & 549755813887L) >>> 25)
+                        | (int) (in[2 + inpos] << 14);
+                out[3 + outpos] = (int) ((in[2 + inpos] & 549755813887L) >>> 18)
+                        | (int) (in[3 + inpos] << 21);
+                out[4 + outpos] = (int) ((in[3 + inpos] & 549755813887L) >>> 11)
+                        | (int) (in[4 + inpos] << 28);
+                out[5 + outpos] = (int) (in[4 + inpos] >>> 4);
+                out[6 + outpos] = (int) ((in[4 + inpos] & 549755813887L) >>> 36)
+                        | (int) (in[5 + inpos] << 3);
+                out[7 + outpos] = (int) ((in[5 + inpos] & 549755813887L) >>> 29)
+                        | (int) (in[6 + inpos] << 10);
+                out[8 + outpos] = (int) ((in[6 + inpos] & 549755813887L) >>> 22)
+                        | (int) (in[7 + inpos] << 17);
+                out[9 + outpos] = (int) ((in[7 + inpos] & 549755813887L) >>> 15)
+                        | (int) (in[8 + inpos] << 24);
+                out[10 + outpos] = (int) ((in[8 + inpos] & 549755813887L) >>> 8)
+                        | (int) (in[9 + inpos] << 31);
+                out[11 + outpos] = (int) (in[9 + inpos] >>> 1);
+                out[12 + outpos] = (int) ((in[9 + inpos] & 549755813887L) >>> 33)
+                        | (int) (in[10 + inpos] << 6);
+                out[13 + outpos] = (int) ((in[10 + inpos] & 549755813887L) >>> 26)
+                        | (int) (in[11 + inpos] << 13);
+                out[14 + outpos] = (int) ((in[11 + inpos] & 549755813887L) >>> 19)
+                        | (int) (in[12 + inpos] << 20);
+                out[15 + outpos] = (int) ((in[12 + inpos] & 549755813887L) >>> 12)
+                        | (int) (in[13 + inpos] << 27);
+                out[16 + outpos] = (int) (in[13 + inpos] >>> 5);
+                out[17 + outpos] = (int) ((in[13 + inpos] & 549755813887L) >>> 37)
+                        | (int) (in[14 + inpos] << 2);
+                out[18 + outpos] = (int) ((in[14 + inpos] & 549755813887L) >>> 30)
+                        | (int) (in[15 + inpos] << 9);
+                out[19 + outpos] = (int) ((in[15 + inpos] & 549755813887L) >>> 23)
+                        | (int) (in[16 + inpos] << 16);
+                out[20 + outpos] = (int) ((in[16 + inpos] & 549755813887L) >>> 16)
+                        | (int) (in[17 + inpos] << 23);
+                out[21 + outpos] = (int) ((in[17 + inpos] & 549755813887L) >>> 9)
+                        | (int) (in[18 + inpos] << 30);
+                out[22 + outpos] = (int) (in[18 + inpos] >>> 2);
+                out[23 + outpos] = (int) ((in[18 + inpos] & 549755813887L) >>> 34)
+                        | (int) (in[19 + inpos] << 5);
+                out[24 + outpos] = (int) ((in[19 + inpos] & 549755813887L) >>> 27)
+                        | (int) (in[20 + inpos] << 12);
+                out[25 + outpos] = (int) ((in[20 + inpos] & 549755813887L) >>> 20)
+                        | (int) (in[21 + inpos] << 19);
+                out[26 + outpos] = (int) ((in[21 + inpos] & 549755813887L) >>> 13)
+                        | (int) (in[22 + inpos] << 26);
+                out[27 + outpos] = (int) (in[22 + inpos] >>> 6);
+                out[28 + outpos] = (int) ((in[22 + inpos] & 549755813887L) >>> 38)
+                        | (int) (in[23 + inpos] << 1);
+                out[29 + outpos] = (int) ((in[23 + inpos] & 549755813887L) >>> 31)
+                        | (int) (in[24 + inpos] << 8);
+                out[30 + outpos] = (int) ((in[24 + inpos] & 549755813887L) >>> 24)
+                        | (int) (in[25 + inpos] << 15);
+                out[31 + outpos] = (int) ((in[25 + inpos] & 549755813887L) >>> 17)
+                        | (int) (in[26 + inpos] << 22);
+                out[32 + outpos] = (int) ((in[26 + inpos] & 549755813887L) >>> 10)
+                        | (int) (in[27 + inpos] << 29);
+                out[33 + outpos] = (int) (in[27 + inpos] >>> 3);
+                out[34 + outpos] = (int) ((in[27 + inpos] & 549755813887L) >>> 35)
+                        | (int) (in[28 + inpos] << 4);
+                out[35 + outpos] = (int) ((in[28 + inpos] & 549755813887L) >>> 28)
+                        | (int) (in[29 + inpos] << 11);
+                out[36 + outpos] = (int) ((in[29 + inpos] & 549755813887L) >>> 21)
+                        | (int) (in[30 + inpos] << 18);
+                out[37 + outpos] = (int) ((in[30 + inpos] & 549755813887L) >>> 14)
+                        | (int) (in[31 + inpos] << 25);
+                out[38 + outpos] = (int) (in[31 + inpos] >>> 7);
+        }
+
+        protected static void fastpack4(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) (in[0 + inpos] & 15L)
+                        | (int) ((in[1 + inpos] & 15L) << 4)
+                        | (int) ((in[2 + inpos] & 15L) << 8)
+                        | (int) ((in[3 + inpos] & 15L) << 12)
+                        | (int) ((in[4 + inpos] & 15L) << 16)
+                        | (int) ((in[5 + inpos] & 15L) << 20)
+                        | (int) ((in[6 + inpos] & 15L) << 24)
+                        | (int) (in[7 + inpos] << 28);
+                out[1 + outpos] = (int) (in[8 + inpos] & 15L)
+                        | (int) ((in[9 + inpos] & 15L) << 4)
+                        | (int) ((in[10 + inpos] & 15L) << 8)
+                        | (int) ((in[11 + inpos] & 15L) << 12)
+                        | (int) ((in[12 + inpos] & 15L) << 16)
+                        | (int) ((in[13 + inpos] & 15L) << 20)
+                        | (int) ((in[14 + inpos] & 15L) << 24)
+                        | (int) (in[15 + inpos] << 28);
+                out[2 + outpos] = (int) (in[16 + inpos] & 15L)
+                        | (int) ((in[17 + inpos] & 15L) << 4)
+                        | (int) ((in[18 + inpos] & 15L) << 8)
+                        | (int) ((in[19 + inpos] & 15L) << 12)
+                        | (int) ((in[20 + inpos] & 15L) << 16)
+                        | (int) ((in[21 + inpos] & 15L) << 20)
+                        | (int) ((in[22 + inpos] & 15L) << 24)
+                        | (int) (in[23 + inpos] << 28);
+                out[3 + outpos] = (int) (in[24 + inpos] & 15L)
+                        | (int) ((in[25 + inpos] & 15L) << 4)
+                        | (int) ((in[26 + inpos] & 15L) << 8)
+                        | (int) ((in[27 + inpos] & 15L) << 12)
+                        | (int) ((in[28 + inpos] & 15L) << 16)
+                        | (int) ((in[29 + inpos] & 15L) << 20)
+                        | (int) ((in[30 + inpos] & 15L) << 24)
+                        | (int) (in[31 + inpos] << 28);
+        }
+
+        protected static void fastpack40(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) in[0 + inpos];
+                out[1 + outpos] = (int) ((in[0 + inpos] & 1099511627775L) >>> 32)
+                        | (int) (in[1 + inpos] << 8);
+                out[2 + outpos] = (int) ((in[1 + inpos] & 1099511627775L) >>> 24)
+                        | (int) (in[2 + inpos] << 16);
+                out[3 + outpos] = (int) ((in[2 + inpos] & 1099511627775L) >>> 16)
+                        | (int) (in[3 + inpos] << 24);
+                out[4 + outpos] = (int) (in[3 + inpos] >>> 8);
+                out[5 + outpos] = (int) in[4 + inpos];
+                out[6 + outpos] = (int) ((in[4 + inpos] & 1099511627775L) >>> 32)
+                        | (int) (in[5 + inpos] << 8);
+                out[7 + outpos] = (int) ((in[5 + inpos] & 1099511627775L) >>> 24)
+                        | (int) (in[6 + inpos] << 16);
+                out[8 + outpos] = (int) ((in[6 + inpos] & 1099511627775L) >>> 16)
+                        | (int) (in[7 + inpos] << 24);
+                out[9 + outpos] = (int) (in[7 + inpos] >>> 8);
+                out[10 + outpos] = (int) in[8 + inpos];
+                out[11 + outpos] = (int) ((in[8 + inpos] & 1099511627775L) >>> 32)
+                        | (int) (in[9 + inpos] << 8);
+                out[12 + outpos] = (int) ((in[9 + inpos] & 1099511627775L) >>> 24)
+                        | (int) (in[10 + inpos] << 16);
+                out[13 + outpos] = (int) ((in[10 + inpos] & 1099511627775L) >>> 16)
+                        | (int) (in[11 + inpos] << 24);
+                out[14 + outpos] = (int) (in[11 + inpos] >>> 8);
+                out[15 + outpos] = (int) in[12 + inpos];
+                out[16 + outpos] = (int) ((in[12 + inpos] & 1099511627775L) >>> 32)
+                        | (int) (in[13 + inpos] << 8);
+                out[17 + outpos] = (int) ((in[13 + inpos] & 1099511627775L) >>> 24)
+                        | (int) (in[14 + inpos] << 16);
+                out[18 + outpos] = (int) ((in[14 + inpos] & 1099511627775L) >>> 16)
+                        | (int) (in[15 + inpos] << 24);
+                out[19 + outpos] = (int) (in[15 + inpos] >>> 8);
+                out[20 + outpos] = (int) in[16 + inpos];
+                out[21 + outpos] = (int) ((in[16 + inpos] & 1099511627775L) >>> 32)
+                        | (int) (in[17 + inpos] << 8);
+                out[22 + outpos] = (int) ((in[17 + inpos] & 1099511627775L) >>> 24)
+                        | (int) (in[18 + inpos] << 16);
+                out[23 + outpos] = (int) ((in[18 + inpos] & 1099511627775L) >>> 16)
+                        | (int) (in[19 + inpos] << 24);
+                out[24 + outpos] = (int) (in[19 + inpos] >>> 8);
+                out[25 + outpos] = (int) in[20 + inpos];
+                out[26 + outpos] = (int) ((in[20 + inpos] & 1099511627775L) >>> 32)
+                        | (int) (in[21 + inpos] << 8);
+                out[27 + outpos] = (int) ((in[21 + inpos] & 1099511627775L) >>> 24)
+                        | (int) (in[22 + inpos] << 16);
+                out[28 + outpos] = (int) ((in[22 + inpos] & 1099511627775L) >>> 16)
+                        | (int) (in[23 + inpos] << 24);
+                out[29 + outpos] = (int) (in[23 + inpos] >>> 8);
+                out[30 + outpos] = (int) in[24 + inpos];
+                out[31 + outpos] = (int) ((in[24 + inpos] & 1099511627775L) >>> 32)
+                        | (int) (in[25 + inpos] << 8);
+                out[32 + outpos] = (int) ((in[25 + inpos] & 1099511627775L) >>> 24)
+                        | (int) (in[26 + inpos] << 16);
+                out[33 + outpos] = (int) ((in[26 + inpos] & 1099511627775L) >>> 16)
+                        | (int) (in[27 + inpos] << 24);
+                out[34 + outpos] = (int) (in[27 + inpos] >>> 8);
+                out[35 + outpos] = (int) in[28 + inpos];
+                out[36 + outpos] = (int) ((in[28 + inpos] & 1099511627775L) >>> 32)
+                        | (int) (in[29 + inpos] << 8);
+                out[37 + outpos] = (int) ((in[29 + inpos] & 1099511627775L) >>> 24)
+                        | (int) (in[30 + inpos] << 16);
+                out[38 + outpos] = (int) ((in[30 + inpos] & 1099511627775L) >>> 16)
+                        | (int) (in[31 + inpos] << 24);
+                out[39 + outpos] = (int) (in[31 + inpos] >>> 8);
+        }
+
+        protected static void fastpack41(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) in[0 + inpos];
+                out[1 + outpos] = (int) ((in[0 + inpos] & 2199023255551L) >>> 32)
+                        | (int) (in[1 + inpos] << 9);
+                out[2 + outpos] = (int) ((in[1 + inpos] & 2199023255551L) >>> 23)
+                        | (int) (in[2 + inpos] << 18);
+                out[3 + outpos] = (int) ((in[2 + inpos] & 2199023255551L) >>> 14)
+                        | (int) (in[3 + inpos] << 27);
+                out[4 + outpos] = (int) (in[3 + inpos] >>> 5);
+                out[5 + outpos] = (int) ((in[3 + inpos] & 2199023255551L) >>> 37)
+                        | (int) (in[4 + inpos] << 4);
+                out[6 + outpos] = (int) ((in[4 + inpos] & 2199023255551L) >>> 28)
+                        | (int) (in[5 + inpos] << 13);
+                out[7 + outpos] = (int) ((in[5 + inpos] & 2199023255551L) >>> 19)
+                        | (int) (in[6 + inpos] << 22);
+                out[8 + outpos] = (int) ((in[6 + inpos] & 2199023255551L) >>> 10)
+                        | (int) (in[7 + inpos] << 31);
+                out[9 + outpos] = (int) (in[7 + inpos] >>> 1);
+                out[10 + outpos] = (int) ((in[7 + inpos] & 2199023255551L) >>> 33)
+                        | (int) (in[8 + inpos] << 8);
+                out[11 + outpos] = (int) ((in[8 + inpos] & 2199023255551L) >>> 24)
+                        | (int) (in[9 + inpos] << 17);
+                out[12 + outpos] = (int) ((in[9 + inpos] & 2199023255551L) >>> 15)
+                        | (int) (in[10 + inpos] << 26);
+                out[13 + outpos] = (int) (in[10 + inpos] >>> 6);
+                out[14 + outpos] = (int) ((in[10 + inpos] & 2199023255551L) >>> 38)
+                        | (int) (in[11 + inpos] << 3);
+                out[15 + outpos] = (int) ((in[11 + inpos] & 2199023255551L) >>> 29)
+                        | (int) (in[12 + inpos] << 12);
+                out[16 + outpos] = (int) ((in[12 + inpos] & 2199023255551L) >>> 20)
+                        | (int) (in[13 + inpos] << 21);
+                out[17 + outpos] = (int) ((in[13 + inpos] & 2199023255551L) >>> 11)
+                        | (int) (in[14 + inpos] << 30);
+                out[18 + outpos] = (int) (in[14 + inpos] >>> 2);
+                out[19 + outpos] = (int) ((in[14 + inpos] & 2199023255551L) >>> 34)
+                        | (int) (in[15 + inpos] << 7);
+                out[20 + outpos] = (int) ((in[15 + inpos] & 2199023255551L) >>> 25)
+                        | (int) (in[16 + inpos] << 16);
+                out[21 + outpos] = (int) ((in[16 + inpos] & 2199023255551L) >>> 16)
+                        | (int) (in[17 + inpos] << 25);
+                out[22 + outpos] = (int) (in[17 + inpos] >>> 7);
+                out[23 + outpos] = (int) ((in[17 + inpos] & 2199023255551L) >>> 39)
+                        | (int) (in[18 + inpos] << 2);
+                out[24 + outpos] = (int) ((in[18 + inpos] & 2199023255551L) >>> 30)
+                        | (int) (in[19 + inpos] << 11);
+                out[25 + outpos] = (int) ((in[19 + inpos] & 2199023255551L) >>> 21)
+                        | (int) (in[20 + inpos] << 20);
+                out[26 + outpos] = (int) ((in[20 + inpos] & 2199023255551L) >>> 12)
+                        | (int) (in[21 + inpos] << 29);
+                out[27 + outpos] = (int) (in[21 + inpos] >>> 3);
+                out[28 + outpos] = (int) ((in[21 + inpos] & 2199023255551L) >>> 35)
+                        | (int) (in[22 + inpos] << 6);
+                out[29 + outpos] = (int) ((in[22 + inpos] & 2199023255551L) >>> 26)
+                        | (int) (in[23 + inpos] << 15);
+                out[30 + outpos] = (int) ((in[23 + inpos] & 2199023255551L) >>> 17)
+                        | (int) (in[24 + inpos] << 24);
+                out[31 + outpos] = (int) (in[24 + inpos] >>> 8);
+                out[32 + outpos] = (int) ((in[24 + inpos] & 2199023255551L) >>> 40)
+                        | (int) (in[25 + inpos] << 1);
+                out[33 + outpos] = (int) ((in[25 + inpos] & 2199023255551L) >>> 31)
+                        | (int) (in[26 + inpos] << 10);
+                out[34 + outpos] = (int) ((in[26 + inpos] & 2199023255551L) >>> 22)
+                        | (int) (in[27 + inpos] << 19);
+                out[35 + outpos] = (int) ((in[27 + inpos] & 2199023255551L) >>> 13)
+                        | (int) (in[28 + inpos] << 28);
+                out[36 + outpos] = (int) (in[28 + inpos] >>> 4);
+                out[37 + outpos] = (int) ((in[28 + inpos] & 2199023255551L) >>> 36)
+                        | (int) (in[29 + inpos] << 5);
+                out[38 + outpos] = (int) ((in[29 + inpos] & 2199023255551L) >>> 27)
+                        | (int) (in[30 + inpos] << 14);
+                out[39 + outpos] = (int) ((in[30 + inpos] & 2199023255551L) >>> 18)
+                        | (int) (in[31 + inpos] << 23);
+                out[40 + outpos] = (int) (in[31 + inpos] >>> 9);
+        }
+
+        protected static void fastpack42(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) in[0 + inpos];
+                out[1 + outpos] = (int) ((in[0 + inpos] & 4398046511103L) >>> 32)
+                        | (int) (in[1 + inpos] << 10);
+                out[2 + outpos] = (int) ((in[1 + inpos] & 4398046511103L) >>> 22)
+                        | (int) (in[2 + inpos] << 20);
+                out[3 + outpos] = (int) ((in[2 + inpos] & 4398046511103L) >>> 12)
+                        | (int) (in[3 + inpos] << 30);
+                out[4 + outpos] = (int) (in[3 + inpos] >>> 2);
+                out[5 + outpos] = (int) ((in[3 + inpos] & 4398046511103L) >>> 34)
+                        | (int) (in[4 + inpos] << 8);
+                out[6 + outpos] = (int) ((in[4 + inpos] & 4398046511103L) >>> 24)
+                        | (int) (in[5 + inpos] << 18);
+                out[7 + outpos] = (int) ((in[5 + inpos] & 4398046511103L) >>> 14)
+                        | (int) (in[6 + inpos] << 28);
+                out[8 + outpos] = (int) (in[6 + inpos] >>> 4);
+                out[9 + outpos] = (int) ((in[6 + inpos] & 4398046511103L) >>> 36)
+                        | (int) (in[7 + inpos] << 6);
+                out[10 + outpos] = (int) ((in[7 + inpos] & 4398046511103L) >>> 26)
+                        | (int) (in[8 + inpos] << 16);
+                out[11 + outpos] = (int) ((in[8 + inpos] & 4398046511103L) >>> 16)
+                        | (int) (in[9 + inpos] << 26);
+                out[12 + outpos] = (int) (in[9 + inpos] >>> 6);
+                out[13 + outpos] = (int) ((in[9 + inpos] & 4398046511103L) >>> 38)
+                        | (int) (in[10 + inpos] << 4);
+                out[14 + outpos] = (int) ((in[10 + inpos] & 4398046511103L) >>> 28)
+                        | (int) (in[11 + inpos] << 14);
+                out[15 + outpos] = (int) ((in[11 + inpos] & 4398046511103L) >>> 18)
+                        | (int) (in[12 + inpos] << 24);
+                out[16 + outpos] = (int) (in[12 + inpos] >>> 8);
+                out[17 + outpos] = (int) ((in[12 + inpos] & 4398046511103L) >>> 40)
+                        | (int) (in[13 + inpos] << 2);
+                out[18 + outpos] = (int) ((in[13 + inpos] & 4398046511103L) >>> 30)
+                        | (int) (in[14 + inpos] << 12);
+                out[19 + outpos] = (int) ((in[14 + inpos] & 4398046511103L) >>> 20)
+                        | (int) (in[15 + inpos] << 22);
+                out[20 + outpos] = (int) (in[15 + inpos] >>> 10);
+                out[21 + outpos] = (int) in[16 + inpos];
+                out[22 + outpos] = (int) ((in[16 + inpos] & 4398046511103L) >>> 32)
+                        | (int) (in[17 + inpos] << 10);
+                out[23 + outpos] = (int) ((in[17 + inpos] & 4398046511103L) >>> 22)
+                        | (int) (in[18 + inpos] << 20);
+                out[24 + outpos] = (int) ((in[18 + inpos] & 4398046511103L) >>> 12)
+                        | (int) (in[19 + inpos] << 30);
+                out[25 + outpos] = (int) (in[19 + inpos] >>> 2);
+                out[26 + outpos] = (int) ((in[19 + inpos] & 4398046511103L) >>> 34)
+                        | (int) (in[20 + inpos] << 8);
+                out[27 + outpos] = (int) ((in[20 + inpos] & 4398046511103L) >>> 24)
+                        | (int) (in[21 + inpos] << 18);
+                out[28 + outpos] = (int) ((in[21 + inpos] & 4398046511103L) >>> 14)
+                        | (int) (in[22 + inpos] << 28);
+                out[29 + outpos] = (int) (in[22 + inpos] >>> 4);
+                out[30 + outpos] = (int) ((in[22 + inpos] & 4398046511103L) >>> 36)
+                        | (int) (in[23 + inpos] << 6);
+                out[31 + outpos] = (int) ((in[23 + inpos] & 4398046511103L) >>> 26)
+                        | (int) (in[24 + inpos] << 16);
+                out[32 + outpos] = (int) ((in[24 + inpos] & 4398046511103L) >>> 16)
+                        | (int) (in[25 + inpos] << 26);
+                out[33 + outpos] = (int) (in[25 + inpos] >>> 6);
+                out[34 + outpos] = (int) ((in[25 + inpos] & 4398046511103L) >>> 38)
+                        | (int) (in[26 + inpos] << 4);
+                out[35 + outpos] = (int) ((in[26 + inpos] & 4398046511103L) >>> 28)
+                        | (int) (in[27 + inpos] << 14);
+                out[36 + outpos] = (int) ((in[27 + inpos] & 4398046511103L) >>> 18)
+                        | (int) (in[28 + inpos] << 24);
+                out[37 + outpos] = (int) (in[28 + inpos] >>> 8);
+                out[38 + outpos] = (int) ((in[28 + inpos] & 4398046511103L) >>> 40)
+                        | (int) (in[29 + inpos] << 2);
+                out[39 + outpos] = (int) ((in[29 + inpos] & 4398046511103L) >>> 30)
+                        | (int) (in[30 + inpos] << 12);
+                out[40 + outpos] = (int) ((in[30 + inpos] & 4398046511103L) >>> 20)
+                        | (int) (in[31 + inpos] << 22);
+                out[41 + outpos] = (int) (in[31 + inpos] >>> 10);
+        }
+
+        protected static void fastpack43(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) in[0 + inpos];
+                out[1 + outpos] = (int) ((in[0 + inpos] & 8796093022207L) >>> 32)
+                        | (int) (in[1 + inpos] << 11);
+                out[2 + outpos] = (int) ((in[1 + inpos] & 8796093022207L) >>> 21)
+                        | (int) (in[2 + inpos] << 22);
+                out[3 + outpos] = (int) (in[2 + inpos] >>> 10);
+                out[4 + outpos] = (int) ((in[2 + inpos] & 8796093022207L) >>> 42)
+                        | (int) (in[3 + inpos] << 1);
+                out[5 + outpos] = (int) ((in[3 + inpos] & 8796093022207L) >>> 31)
+                        | (int) (in[4 + inpos] << 12);
+                out[6 + outpos] = (int) ((in[4 + inpos] & 8796093022207L) >>> 20)
+                        | (int) (in[5 + inpos] << 23);
+                out[7 + outpos] = (int) (in[5 + inpos] >>> 9);
+                out[8 + outpos] = (int) ((in[5 + inpos] & 8796093022207L) >>> 41)
+                        | (int) (in[6 + inpos] << 2);
+                out[9 + outpos] = (int) ((in[6 + inpos] & 8796093022207L) >>> 30)
+                        | (int) (in[7 + inpos] << 13);
+                out[10 + outpos] = (int) ((in[7 + inpos] & 8796093022207L) >>> 19)
+                        | (int) (in[8 + inpos] << 24);
+                out[11 + outpos] = (int) (in[8 + inpos] >>> 8);
+                out[12 + outpos] = (int) ((in[8 + inpos] & 8796093022207L) >>> 40)
+                        | (int) (in[9 + inpos] << 3);
+                out[13 + outpos] = (int) ((in[9 + inpos] & 8796093022207L) >>> 29)
+                        | (int) (in[10 + inpos] << 14);
+                out[14 + outpos] = (int) ((in[10 + inpos] & 8796093022207L) >>> 18)
+                        | (int) (in[11 + inpos] << 25);
+                out[15 + outpos] = (int) (in[11 + inpos] >>> 7);
+                out[16 + outpos] = (int) ((in[11 + inpos] & 8796093022207L) >>> 39)
+                        | (int) (in[12 + inpos] << 4);
+                out[17 + outpos] = (int) ((in[12 + inpos] & 8796093022207L) >>> 28)
+                        | (int) (in[13 + inpos] << 15);
+                out[18 + outpos] = (int) ((in[13 + inpos] & 8796093022207L) >>> 17)
+                        | (int) (in[14 + inpos] << 26);
+                out[19 + outpos] = (int) (in[14 + inpos] >>> 6);
+                out[20 + outpos] = (int) ((in[14 + inpos] & 8796093022207L) >>> 38)
+                        | (int) (in[15 + inpos] << 5);
+                out[21 + outpos] = (int) ((in[15 + inpos] & 8796093022207L) >>> 27)
+                        | (int) (in[16 + inpos] << 16);
+                out[22 + outpos] = (int) ((in[16 + inpos] & 8796093022207L) >>> 16)
+                        | (int) (in[17 + inpos] << 27);
+                out[23 + outpos] = (int) (in[17 + inpos] >>> 5);
+                out[24 + outpos] = (int) ((in[17 + inpos] & 8796093022207L) >>> 37)
+                        | (int) (in[18 + inpos] << 6);
+                out[25 + outpos] = (int) ((in[18 + inpos] & 8796093022207L) >>> 26)
+                        | (int) (in[19 + inpos] << 17);
+                out[26 + outpos] = (int) ((in[19 + inpos] & 8796093022207L) >>> 15)
+                        | (int) (in[20 + inpos] << 28);
+                out[27 + outpos] = (int) (in[20 + inpos] >>> 4);
+                out[28 + outpos] = (int) ((in[20 + inpos] & 8796093022207L) >>> 36)
+                        | (int) (in[21 + inpos] << 7);
+                out[29 + outpos] = (int) ((in[21 + inpos] & 8796093022207L) >>> 25)
+                        | (int) (in[22 + inpos] << 18);
+                out[30 + outpos] = (int) ((in[22 + inpos] & 8796093022207L) >>> 14)
+                        | (int) (in[23 + inpos] << 29);
+                out[31 + outpos] = (int) (in[23 + inpos] >>> 3);
+                out[32 + outpos] = (int) ((in[23 + inpos] & 8796093022207L) >>> 35)
+                        | (int) (in[24 + inpos] << 8);
+                out[33 + outpos] = (int) ((in[24 + inpos] & 8796093022207L) >>> 24)
+                        | (int) (in[25 + inpos] << 19);
+                out[34 + outpos] = (int) ((in[25 + inpos] & 8796093022207L) >>> 13)
+                        | (int) (in[26 + inpos] << 30);
+                out[35 + outpos] = (int) (in[26 + inpos] >>> 2);
+                out[36 + outpos] = (int) ((in[26 + inpos] & 8796093022207L) >>> 34)
+                        | (int) (in[27 + inpos] << 9);
+                out[37 + outpos] = (int) ((in[27 + inpos] & 8796093022207L) >>> 23)
+                        | (int) (in[28 + inpos] << 20);
+                out[38 + outpos] = (int) ((in[28 + inpos] & 8796093022207L) >>> 12)
+                        | (int) (in[29 + inpos] << 31);
+                out[39 + outpos] = (int) (in[29 + inpos] >>> 1);
+                out[40 + outpos] = (int) ((in[29 + inpos] & 8796093022207L) >>> 33)
+                        | (int) (in[30 + inpos] << 10);
+                out[41 + outpos] = (int) ((in[30 + inpos] & 8796093022207L) >>> 22)
+                        | (int) (in[31 + inpos] << 21);
+                out[42 + outpos] = (int) (in[31 + inpos] >>> 11);
+        }
+
+        protected static void fastpack44(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) in[0 + inpos];
+                out[1 + outpos] = (int) ((in[0 + inpos] & 17592186044415L) >>> 32)
+                        | (int) (in[1 + inpos] << 12);
+                out[2 + outpos] = (int) ((in[1 + inpos] & 17592186044415L) >>> 20)
+                        | (int) (in[2 + inpos] << 24);
+                out[3 + outpos] = (int) (in[2 + inpos] >>> 8);
+                out[4 + outpos] = (int) ((in[2 + inpos] & 17592186044415L) >>> 40)
+                        | (int) (in[3 + inpos] << 4);
+                out[5 + outpos] = (int) ((in[3 + inpos] & 17592186044415L) >>> 28)
+                        | (int) (in[4 + inpos] << 16);
+                out[6 + outpos] = (int) ((in[4 + inpos] & 17592186044415L) >>> 16)
+                        | (int) (in[5 + inpos] << 28);
+                out[7 + outpos] = (int) (in[5 + inpos] >>> 4);
+                out[8 + outpos] = (int) ((in[5 + inpos] & 17592186044415L) >>> 36)
+                        | (int) (in[6 + inpos] << 8);
+                out[9 + outpos] = (int) ((in[6 + inpos] & 17592186044415L) >>> 24)
+                        | (int) (in[7 + inpos] << 20);
+                out[10 + outpos] = (int) (in[7 + inpos] >>> 12);
+                out[11 + outpos] = (int) in[8 + inpos];
+                out[12 + outpos] = (int) ((in[8 + inpos] & 17592186044415L) >>> 32)
+                        | (int) (in[9 + inpos] << 12);
+                out[13 + outpos] = (int) ((in[9 + inpos] & 17592186044415L) >>> 20)
+                        | (int) (in[10 + inpos] << 24);
+                out[14 + outpos] = (int) (in[10 + inpos] >>> 8);
+                out[15 + outpos] = (int) ((in[10 + inpos] & 17592186044415L) >>> 40)
+                        | (int) (in[11 + inpos] << 4);
+                out[16 + outpos] = (int) ((in[11 + inpos] & 17592186044415L) >>> 28)
+                        | (int) (in[12 + inpos] << 16);
+                out[17 + outpos] = (int) ((in[12 + inpos] & 17592186044415L) >>> 16)
+                        | (int) (in[13 + inpos] << 28);
+                out[18 + outpos] = (int) (in[13 + inpos] >>> 4);
+                out[19 + outpos] = (int) ((in[13 + inpos] & 17592186044415L) >>> 36)
+                        | (int) (in[14 + inpos] << 8);
+                out[20 + outpos] = (int) ((in[14 + inpos] & 17592186044415L) >>> 24)
+                        | (int) (in[15 + inpos] << 20);
+                out[21 + outpos] = (int) (in[15 + inpos] >>> 12);
+                out[22 + outpos] = (int) in[16 + inpos];
+                out[23 + outpos] = (int) ((in[16 + inpos] & 17592186044415L) >>> 32)
+                        | (int) (in[17 + inpos] << 12);
+                out[24 + outpos] = (int) ((in[17 + inpos] & 17592186044415L) >>> 20)
+                        | (int) (in[18 + inpos] << 24);
+                out[25 + outpos] = (int) (in[18 + inpos] >>> 8);
+                out[26 + outpos] = (int) ((in[18 + inpos] & 17592186044415L) >>> 40)
+                        | (int) (in[19 + inpos] << 4);
+                out[27 + outpos] = (int) ((in[19 + inpos] & 17592186044415L) >>> 28)
+                        | (int) (in[20 + inpos] << 16);
+                out[28 + outpos] = (int) ((in[20 + inpos] & 17592186044415L) >>> 16)
+                        | (int) (in[21 + inpos] << 28);
+                out[29 + outpos] = (int) (in[21 + inpos] >>> 4);
+                out[30 + outpos] = (int) ((in[21 + inpos] & 17592186044415L) >>> 36)
+                        | (int) (in[22 + inpos] << 8);
+                out[31 + outpos] = (int) ((in[22 + inpos] & 17592186044415L) >>> 24)
+                        | (int) (in[23 + inpos] << 20);
+                out[32 + outpos] = (int) (in[23 + inpos] >>> 12);
+                out[33 + outpos] = (int) in[24 + inpos];
+                out[34 + outpos] = (int) ((in[24 + inpos] & 17592186044415L) >>> 32)
+                        | (int) (in[25 + inpos] << 12);
+                out[35 + outpos] = (int) ((in[25 + inpos] & 17592186044415L) >>> 20)
+                        | (int) (in[26 + inpos] << 24);
+                out[36 + outpos] = (int) (in[26 + inpos] >>> 8);
+                out[37 + outpos] = (int) ((in[26 + inpos] & 17592186044415L) >>> 40)
+                        | (int) (in[27 + inpos] << 4);
+                out[38 + outpos] = (int) ((in[27 + inpos] & 17592186044415L) >>> 28)
+                        | (int) (in[28 + inpos] << 16);
+                out[39 + outpos] = (int) ((in[28 + inpos] & 17592186044415L) >>> 16)
+                        | (int) (in[29 + inpos] << 28);
+                out[40 + outpos] = (int) (in[29 + inpos] >>> 4);
+                out[41 + outpos] = (int) ((in[29 + inpos] & 17592186044415L) >>> 36)
+                        | (int) (in[30 + inpos] << 8);
+                out[42 + outpos] = (int) ((in[30 + inpos] & 17592186044415L) >>> 24)
+                        | (int) (in[31 + inpos] << 20);
+                out[43 + outpos] = (int) (in[31 + inpos] >>> 12);
+        }
+
+        protected static void fastpack45(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) in[0 + inpos];
+                out[1 + outpos] = (int) ((in[0 + inpos] & 35184372088831L) >>> 32)
+                        | (int) (in[1 + inpos] << 13);
+                out[2 + outpos] = (int) ((in[1 + inpos] & 35184372088831L) >>> 19)
+                        | (int) (in[2 + inpos] << 26);
+                out[3 + outpos] = (int) (in[2 + inpos] >>> 6);
+                out[4 + outpos] = (int) ((in[2 + inpos] & 35184372088831L) >>> 38)
+                        | (int) (in[3 + inpos] << 7);
+                out[5 + outpos] = (int) ((in[3 + inpos] & 35184372088831L) >>> 25)
+                        | (int) (in[4 + inpos] << 20);
+                out[6 + outpos] = (int) (in[4 + inpos] >>> 12);
+                out[7 + outpos] = (int) ((in[4 + inpos] & 35184372088831L) >>> 44)
+                        | (int) (in[5 + inpos] << 1);
+                out[8 + outpos] = (int) ((in[5 + inpos] & 35184372088831L) >>> 31)
+                        | (int) (in[6 + inpos] << 14);
+                out[9 + outpos] = (int) ((in[6 + inpos] & 35184372088831L) >>> 18)
+                        | (int) (in[7 + inpos] << 27);
+                out[10 + outpos] = (int) (in[7 + inpos] >>> 5);
+                out[11 + outpos] = (int) ((in[7 + inpos] & 35184372088831L) >>> 37)
+                        | (int) (in[8 + inpos] << 8);
+                out[12 + outpos] = (int) ((in[8 + inpos] & 35184372088831L) >>> 24)
+                        | (int) (in[9 + inpos] << 21);
+                out[13 + outpos] = (int) (in[9 + inpos] >>> 11);
+                out[14 + outpos] = (int) ((in[9 + inpos] & 35184372088831L) >>> 43)
+                        | (int) (in[10 + inpos] << 2);
+                out[15 + outpos] = (int) ((in[10 + inpos] & 35184372088831L) >>> 30)
+                        | (int) (in[11 + inpos] << 15);
+                out[16 + outpos] = (int) ((in[11 + inpos] & 35184372088831L) >>> 17)
+                        | (int) (in[12 + inpos] << 28);
+                out[17 + outpos] = (int) (in[12 + inpos] >>> 4);
+                out[18 + outpos] = (int) ((in[12 + inpos] & 35184372088831L) >>> 36)
+                        | (int) (in[13 + inpos] << 9);
+                out[19 + outpos] = (int) ((in[13 + inpos] & 35184372088831L) >>> 23)
+                        | (int) (in[14 + inpos] << 22);
+                out[20 + outpos] = (int) (in[14 + inpos] >>> 10);
+                out[21 + outpos] = (int) ((in[14 + inpos] & 35184372088831L) >>> 42)
+                        | (int) (in[15 + inpos] << 3);
+                out[22 + outpos] = (int) ((in[15 + inpos] & 35184372088831L) >>> 29)
+                        | (int) (in[16 + inpos] << 16);
+                out[23 + outpos] = (int) ((in[16 + inpos] & 35184372088831L) >>> 16)
+                        | (int) (in[17 + inpos] << 29);
+                out[24 + outpos] = (int) (in[17 + inpos] >>> 3);
+                out[25 + outpos] = (int) ((in[17 + inpos] & 35184372088831L) >>> 35)
+                        | (int) (in[18 + inpos] << 10);
+                out[26 + outpos] = (int) ((in[18 + inpos] & 35184372088831L) >>> 22)
+                        | (int) (in[19 + inpos] << 23);
+                out[27 + outpos] = (int) (in[19 + inpos] >>> 9);
+                out[28 + outpos] = (int) ((in[19 + inpos] & 35184372088831L) >>> 41)
+                        | (int) (in[20 + inpos] << 4);
+                out[29 + outpos] = (int) ((in[20 + inpos] & 35184372088831L) >>> 28)
+                        | (int) (in[21 + inpos] << 17);
+                out[30 + outpos] = (int) ((in[21 + inpos] & 35184372088831L) >>> 15)
+                        | (int) (in[22 + inpos] << 30);
+                out[31 + outpos] = (int) (in[22 + inpos] >>> 2);
+                out[32 + outpos] = (int) ((in[22 + inpos] & 35184372088831L) >>> 34)
+                        | (int) (in[23 + inpos] << 11);
+                out[33 + outpos] = (int) ((in[23 + inpos] & 35184372088831L) >>> 21)
+                        | (int) (in[24 + inpos] << 24);
+                out[34 + outpos] = (int) (in[24 + inpos] >>> 8);
+                out[35 + outpos] = (int) ((in[24 + inpos] & 35184372088831L) >>> 40)
+                        | (int) (in[25 + inpos] << 5);
+                out[36 + outpos] = (int) ((in[25 + inpos] & 35184372088831L) >>> 27)
+                        | (int) (in[26 + inpos] << 18);
+                out[37 + outpos] = (int) ((in[26 + inpos] & 35184372088831L) >>> 14)
+                        | (int) (in[27 + inpos] << 31);
+                out[38 + outpos] = (int) (in[27 + inpos] >>> 1);
+                out[39 + outpos] = (int) ((in[27 + inpos] & 35184372088831L) >>> 33)
+                        | (int) (in[28 + inpos] << 12);
+                out[40 + outpos] = (int) ((in[28 + inpos] & 35184372088831L) >>> 20)
+                        | (int) (in[29 + inpos] << 25);
+                out[41 + outpos] = (int) (in[29 + inpos] >>> 7);
+                out[42 + outpos] = (int) ((in[29 + inpos] & 35184372088831L) >>> 39)
+                        | (int) (in[30 + inpos] << 6);
+                out[43 + outpos] = (int) ((in[30 + inpos] & 35184372088831L) >>> 26)
+                        | (int) (in[31 + inpos] << 19);
+                out[44 + outpos] = (int) (in[31 + inpos] >>> 13);
+        }
+
+        protected static void fastpack46(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) in[0 + inpos];
+                out[1 + outpos] = (int) ((in[0 + inpos] & 70368744177663L) >>> 32)
+                        | (int) (in[1 + inpos] << 14);
+                out[2 + outpos] = (int) ((in[1 + inpos] & 70368744177663L) >>> 18)
+                        | (int) (in[2 + inpos] << 28);
+                out[3 + outpos] = (int) (in[2 + inpos] >>> 4);
+                out[4 + outpos] = (int) ((in[2 + inpos] & 70368744177663L) >>> 36)
+                        | (int) (in[3 + inpos] << 10);
+                out[5 + outpos] = (int) ((in[3 + inpos] & 70368744177663L) >>> 22)
+                        | (int) (in[4 + inpos] << 24);
+                out[6 + outpos] = (int) (in[4 + inpos] >>> 8);
+                out[7 + outpos] = (int) ((in[4 + inpos] & 70368744177663L) >>> 40)
+                        | (int) (in[5 + inpos] << 6);
+                out[8 + outpos] = (int) ((in[5 + inpos] & 70368744177663L) >>> 26)
+                        | (int) (in[6 + inpos] << 20);
+                out[9 + outpos] = (int) (in[6 + inpos] >>> 12);
+                out[10 + outpos] = (int) ((in[6 + inpos] & 70368744177663L) >>> 44)
+                        | (int) (in[7 + inpos] << 2);
+                out[11 + outpos] = (int) ((in[7 + inpos] & 70368744177663L) >>> 30)
+                        | (int) (in[8 + inpos] << 16);
+                out[12 + outpos] = (int) ((in[8 + inpos] & 70368744177663L) >>> 16)
+                        | (int) (in[9 + inpos] << 30);
+                out[13 + outpos] = (int) (in[9 + inpos] >>> 2);
+                out[14 + outpos] = (int) ((in[9 + inpos] & 70368744177663L) >>> 34)
+                        | (int) (in[10 + inpos] << 12);
+                out[15 + outpos] = (int) ((in[10 + inpos] & 70368744177663L) >>> 20)
+                        | (int) (in[11 + inpos] << 26);
+                out[16 + outpos] = (int) (in[11 + inpos] >>> 6);
+                out[17 + outpos] = (int) ((in[11 + inpos] & 70368744177663L) >>> 38)
+                        | (int) (in[12 + inpos] << 8);
+                out[18 + outpos] = (int) ((in[12 + inpos] & 70368744177663L) >>> 24)
+                        | (int) (in[13 + inpos] << 22);
+                out[19 + outpos] = (int) (in[13 + inpos] >>> 10);
+                out[20 + outpos] = (int) ((in[13 + inpos] & 70368744177663L) >>> 42)
+                        | (int) (in[14 + inpos] << 4);
+                out[21 + outpos] = (int) ((in[14 + inpos] & 70368744177663L) >>> 28)
+                        | (int) (in[15 + inpos] << 18);
+                out[22 + outpos] = (int) (in[15 + inpos] >>> 14);
+                out[23 + outpos] = (int) in[16 + inpos];
+                out[24 + outpos] = (int) ((in[16 + inpos] & 70368744177663L) >>> 32)
+                        | (int) (in[17 + inpos] << 14);
+                out[25 + outpos] = (int) ((in[17 + inpos] & 70368744177663L) >>> 18)
+                        | (int) (in[18 + inpos] << 28);
+                out[26 + outpos] = (int) (in[18 + inpos] >>> 4);
+                out[27 + outpos] = (int) ((in[18 + inpos] & 70368744177663L) >>> 36)
+                        | (int) (in[19 + inpos] << 10);
+                out[28 + outpos] = (int) ((in[19 + inpos] & 70368744177663L) >>> 22)
+                        | (int) (in[20 + inpos] << 24);
+                out[29 + outpos] = (int) (in[20 + inpos] >>> 8);
+                out[30 + outpos] = (int) ((in[20 + inpos] & 70368744177663L) >>> 40)
+                        | (int) (in[21 + inpos] << 6);
+                out[31 + outpos] = (int) ((in[21 + inpos] & 70368744177663L) >>> 26)
+                        | (int) (in[22 + inpos] << 20);
+                out[32 + outpos] = (int) (in[22 + inpos] >>> 12);
+                out[33 + outpos] = (int) ((in[22 + inpos] & 70368744177663L) >>> 44)
+                        | (int) (in[23 + inpos] << 2);
+                out[34 + outpos] = (int) ((in[23 + inpos] & 70368744177663L) >>> 30)
+                        | (int) (in[24 + inpos] << 16);
+                out[35 + outpos] = (int) ((in[24 + inpos] & 70368744177663L) >>> 16)
+                        | (int) (in[25 + inpos] << 30);
+                out[36 + outpos] = (int) (in[25 + inpos] >>> 2);
+                out[37 + outpos] = (int) ((in[25 + inpos] & 70368744177663L) >>> 34)
+                        | (int) (in[26 + inpos] << 12);
+                out[38 + outpos] = (int) ((in[26 + inpos] & 70368744177663L) >>> 20)
+                        | (int) (in[27 + inpos] << 26);
+                out[39 + outpos] = (int) (in[27 + inpos] >>> 6);
+                out[40 + outpos] = (int) ((in[27 + inpos] & 70368744177663L) >>> 38)
+                        | (int) (in[28 + inpos] << 8);
+                out[41 + outpos] = (int) ((in[28 + inpos] & 70368744177663L) >>> 24)
+                        | (int) (in[29 + inpos] << 22);
+                out[42 + outpos] = (int) (in[29 + inpos] >>> 10);
+                out[43 + outpos] = (int) ((in[29 + inpos] & 70368744177663L) >>> 42)
+                        | (int) (in[30 + inpos] << 4);
+                out[44 + outpos] = (int) ((in[30 + inpos] & 70368744177663L) >>> 28)
+                        | (int) (in[31 + inpos] << 18);
+                out[45 + outpos] = (int) (in[31 + inpos] >>> 14);
+        }
+
+        protected static void fastpack47(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) in[0 + inpos];
+                out[1 + outpos] = (int) ((in[0 + inpos] & 140737488355327L) >>> 32)
+                        | (int) (in[1 + inpos] << 15);
+                out[2 + outpos] = (int) ((in[1 + inpos] & 140737488355327L) >>> 17)
+                        | (int) (in[2 + inpos] << 30);
+                out[3 + outpos] = (int) (in[2 + inpos] >>> 2);
+                out[4 + outpos] = (int) ((in[2 + inpos] & 140737488355327L) >>> 34)
+                        | (int) (in[3 + inpos] << 13);
+                out[5 + outpos] = (int) ((in[3 + inpos] & 140737488355327L) >>> 19)
+                        | (int) (in[4 + inpos] << 28);
+                out[6 + outpos] = (int) (in[4 + inpos] >>> 4);
+                out[7 + outpos] = (int) ((in[4 + inpos] & 140737488355327L) >>> 36)
+                        | (int) (in[5 + inpos] << 11);
+                out[8 + outpos] = (int) ((in[5 + inpos] & 140737488355327L) >>> 21)
+                        | (int) (in[6 + inpos] << 26);
+                out[9 + outpos] = (int) (in[6 + inpos] >>> 6);
+                out[10 + outpos] = (int) ((in[6 + inpos] & 140737488355327L) >>> 38)
+                        | (int) (in[7 + inpos] << 9);
+                out[11 + outpos] = (int) ((in[7 + inpos] & 140737488355327L) >>> 23)
+                        | (int) (in[8 + inpos] << 24);
+                out[12 + outpos] = (int) (in[8 + inpos] >>> 8);
+                out[13 + outpos] = (int) ((in[8 + inpos] & 140737488355327L) >>> 40)
+                        | (int) (in[9 + inpos] << 7);
+                out[14 + outpos] = (int) ((in[9 + inpos] & 140737488355327L) >>> 25)
+                        | (int) (in[10 + inpos] << 22);
+                out[15 + outpos] = (int) (in[10 + inpos] >>> 10);
+                out[16 + outpos] = (int) ((in[10 + inpos] & 140737488355327L) >>> 42)
+                        | (int) (in[11 + inpos] << 5);
+                out[17 + outpos] = (int) ((in[11 + inpos] & 140737488355327L) >>> 27)
+                        | (int) (in[12 + inpos] << 20);
+                out[18 + outpos] = (int) (in[12 + inpos] >>> 12);
+                out[19 + outpos] = (int) ((in[12 + inpos] & 140737488355327L) >>> 44)
+                        | (int) (in[13 + inpos] << 3);
+                out[20 + outpos] = (int) ((in[13 + inpos] & 140737488355327L) >>> 29)
+                        | (int) (in[14 + inpos] << 18);
+                out[21 + outpos] = (int) (in[14 + inpos] >>> 14);
+                out[22 + outpos] = (int) ((in[14 + inpos] & 140737488355327L) >>> 46)
+                        | (int) (in[15 + inpos] << 1);
+                out[23 + outpos] = (int) ((in[15 + inpos] & 140737488355327L) >>> 31)
+                        | (int) (in[16 + inpos] << 16);
+                out[24 + outpos] = (int) ((in[16 + inpos] & 140737488355327L) >>> 16)
+                        | (int) (in[17 + inpos] << 31);
+                out[25 + outpos] = (int) (in[17 + inpos] >>> 1);
+                out[26 + outpos] = (int) ((in[17 + inpos] & 140737488355327L) >>> 33)
+                        | (int) (in[18 + inpos] << 14);
+                out[27 + outpos] = (int) ((in[18 + inpos] & 140737488355327L) >>> 18)
+                        | (int) (in[19 + inpos] << 29);
+                out[28 + outpos] = (int) (in[19 + inpos] >>> 3);
+                out[29 + outpos] = (int) ((in[19 + inpos] & 140737488355327L) >>> 35)
+                        | (int) (in[20 + inpos] << 12);
+                out[30 + outpos] = (int) ((in[20 + inpos] & 140737488355327L) >>> 20)
+                        | (int) (in[21 + inpos] << 27);
+                out[31 + outpos] = (int) (in[21 + inpos] >>> 5);
+                out[32 + outpos] = (int) ((in[21 + inpos] & 140737488355327L) >>> 37)
+                        | (int) (in[22 + inpos] << 10);
+                out[33 + outpos] = (int) ((in[22 + inpos] & 140737488355327L) >>> 22)
+                        | (int) (in[23 + inpos] << 25);
+                out[34 + outpos] = (int) (in[23 + inpos] >>> 7);
+                out[35 + outpos] = (int) ((in[23 + inpos] & 140737488355327L) >>> 39)
+                        | (int) (in[24 + inpos] << 8);
+                out[36 + outpos] = (int) ((in[24 + inpos] & 140737488355327L) >>> 24)
+                        | (int) (in[25 + inpos] << 23);
+                out[37 + outpos] = (int) (in[25 + inpos] >>> 9);
+                out[38 + outpos] = (int) ((in[25 + inpos] & 140737488355327L) >>> 41)
+                        | (int) (in[26 + inpos] << 6);
+                out[39 + outpos] = (int) ((in[26 + inpos] & 140737488355327L) >>> 26)
+                        | (int) (in[27 + inpos] << 21);
+                out[40 + outpos] = (int) (in[27 + inpos] >>> 11);
+                out[41 + outpos] = (int) ((in[27 + inpos] & 140737488355327L) >>> 43)
+                        | (int) (in[28 + inpos] << 4);
+                out[42 + outpos] = (int) ((in[28 + inpos] & 140737488355327L) >>> 28)
+                        | (int) (in[29 + inpos] << 19);
+                out[43 + outpos] = (int) (in[29 + inpos] >>> 13);
+                out[44 + outpos] = (int) ((in[29 + inpos] & 140737488355327L) >>> 45)
+                        | (int) (in[30 + inpos] << 2);
+                out[45 + outpos] = (int) ((in[30 + inpos] & 140737488355327L) >>> 30)
+                        | (int) (in[31 + inpos] << 17);
+                out[46 + outpos] = (int) (in[31 + inpos] >>> 15);
+        }
+
+        protected static void fastpack48(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) in[0 + inpos];
+                out[1 + outpos] = (int) ((in[0 + inpos] & 281474976710655L) >>> 32)
+                        | (int) (in[1 + inpos] << 16);
+                out[2 + outpos] = (int) (in[1 + inpos] >>> 16);
+                out[3 + outpos] = (int) in[2 + inpos];
+                out[4 + outpos] = (int) ((in[2 + inpos] & 281474976710655L) >>> 32)
+                        | (int) (in[3 + inpos] << 16);
+                out[5 + outpos] = (int) (in[3 + inpos] >>> 16);
+                out[6 + outpos] = (int) in[4 + inpos];
+                out[7 + outpos] = (int) ((in[4 + inpos] & 281474976710655L) >>> 32)
+                        | (int) (in[5 + inpos] << 16);
+                out[8 + outpos] = (int) (in[5 + inpos] >>> 16);
+                out[9 + outpos] = (int) in[6 + inpos];
+                out[10 + outpos] = (int) ((in[6 + inpos] & 281474976710655L) >>> 32)
+                        | (int) (in[7 + inpos] << 16);
+                out[11 + outpos] = (int) (in[7 + inpos] >>> 16);
+                out[12 + outpos] = (int) in[8 + inpos];
+                out[13 + outpos] = (int) ((in[8 + inpos] & 281474976710655L) >>> 32)
+                        | (int) (in[9 + inpos] << 16);
+                out[14 + outpos] = (int) (in[9 + inpos] >>> 16);
+                out[15 + outpos] = (int) in[10 + inpos];
+                out[16 + outpos] = (int) ((in[10 + inpos] & 281474976710655L) >>> 32)
+                        | (int) (in[11 + inpos] << 16);
+                out[17 + outpos] = (int) (in[11 + inpos] >>> 16);
+                out[18 + outpos] = (int) in[12 + inpos];
+                out[19 + outpos] = (int) ((in[12 + inpos] & 281474976710655L) >>> 32)
+                        | (int) (in[13 + inpos] << 16);
+                out[20 + outpos] = (int) (in[13 + inpos] >>> 16);
+                out[21 + outpos] = (int) in[14 + inpos];
+                out[22 + outpos] = (int) ((in[14 + inpos] & 281474976710655L) >>> 32)
+                        | (int) (in[15 + inpos] << 16);
+                out[23 + outpos] = (int) (in[15 + inpos] >>> 16);
+                out[24 + outpos] = (int) in[16 + inpos];
+                out[25 + outpos] = (int) ((in[16 + inpos] & 281474976710655L) >>> 32)
+                        | (int) (in[17 + inpos] << 16);
+                out[26 + outpos] = (int) (in[17 + inpos] >>> 16);
+                out[27 + outpos] = (int) in[18 + inpos];
+                out[28 + outpos] = (int) ((in[18 + inpos] & 281474976710655L) >>> 32)
+                        | (int) (in[19 + inpos] << 16);
+                out[29 + outpos] = (int) (in[19 + inpos] >>> 16);
+                out[30 + outpos] = (int) in[20 + inpos];
+                out[31 + outpos] = (int) ((in[20 + inpos] & 281474976710655L) >>> 32)
+                        | (int) (in[21 + inpos] << 16);
+                out[32 + outpos] = (int) (in[21 + inpos] >>> 16);
+                out[33 + outpos] = (int) in[22 + inpos];
+                out[34 + outpos] = (int) ((in[22 + inpos] & 281474976710655L) >>> 32)
+                        | (int) (in[23 + inpos] << 16);
+                out[35 + outpos] = (int) (in[23 + inpos] >>> 16);
+                out[36 + outpos] = (int) in[24 + inpos];
+                out[37 + outpos] = (int) ((in[24 + inpos] & 281474976710655L) >>> 32)
+                        | (int) (in[25 + inpos] << 16);
+                out[38 + outpos] = (int) (in[25 + inpos] >>> 16);
+                out[39 + outpos] = (int) in[26 + inpos];
+                out[40 + outpos] = (int) ((in[26 + inpos] & 281474976710655L) >>> 32)
+                        | (int) (in[27 + inpos] << 16);
+                out[41 + outpos] = (int) (in[27 + inpos] >>> 16);
+                out[42 + outpos] = (int) in[28 + inpos];
+                out[43 + outpos] = (int) ((in[28 + inpos] & 281474976710655L) >>> 32)
+                        | (int) (in[29 + inpos] << 16);
+                out[44 + outpos] = (int) (in[29 + inpos] >>> 16);
+                out[45 + outpos] = (int) in[30 + inpos];
+                out[46 + outpos] = (int) ((in[30 + inpos] & 281474976710655L) >>> 32)
+                        | (int) (in[31 + inpos] << 16);
+                out[47 + outpos] = (int) (in[31 + inpos] >>> 16);
+        }
+
+        protected static void fastpack49(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) in[0 + inpos];
+                out[1 + outpos] = (int) ((in[0 + inpos] & 562949953421311L) >>> 32)
+                        | (int) (in[1 + inpos] << 17);
+                out[2 + outpos] = (int) (in[1 + inpos] >>> 15);
+                out[3 + outpos] = (int) ((in[1 + inpos] & 562949953421311L) >>> 47)
+                        | (int) (in[2 + inpos] << 2);
+                out[4 + outpos] = (int) ((in[2 + inpos] & 562949953421311L) >>> 30)
+                        | (int) (in[3 + inpos] << 19);
+                out[5 + outpos] = (int) (in[3 + inpos] >>> 13);
+                out[6 + outpos] = (int) ((in[3 + inpos] & 562949953421311L) >>> 45)
+                        | (int) (in[4 + inpos] << 4);
+                out[7 + outpos] = (int) ((in[4 + inpos] & 562949953421311L) >>> 28)
+                        | (int) (in[5 + inpos] << 21);
+                out[8 + outpos] = (int) (in[5 + inpos] >>> 11);
+                out[9 + outpos] = (int) ((in[5 + inpos] & 562949953421311L) >>> 43)
+                        | (int) (in[6 + inpos] << 6);
+                out[10 + outpos] = (int) ((in[6 + inpos] & 562949953421311L) >>> 26)
+                        | (int) (in[7 + inpos] << 23);
+                out[11 + outpos] = (int) (in[7 + inpos] >>> 9);
+                out[12 + outpos] = (int) ((in[7 + inpos] & 562949953421311L) >>> 41)
+                        | (int) (in[8 + inpos] << 8);
+                out[13 + outpos] = (int) ((in[8 + inpos] & 562949953421311L) >>> 24)
+                        | (int) (in[9 + inpos] << 25);
+                out[14 + outpos] = (int) (in[9 + inpos] >>> 7);
+                out[15 + outpos] = (int) ((in[9 + inpos] & 562949953421311L) >>> 39)
+                        | (int) (in[10 + inpos] << 10);
+                out[16 + outpos] = (int) ((in[10 + inpos] & 562949953421311L) >>> 22)
+                        | (int) (in[11 + inpos] << 27);
+                out[17 + outpos] = (int) (in[11 + inpos] >>> 5);
+                out[18 + outpos] = (int) ((in[11 + inpos] & 562949953421311L) >>> 37)
+                        | (int) (in[12 + inpos] << 12);
+                out[19 + outpos] = (int) ((in[12 + inpos] & 562949953421311L) >>> 20)
+                        | (int) (in[13 + inpos] << 29);
+                out[20 + outpos] = (int) (in[13 + inpos] >>> 3);
+                out[21 + outpos] = (int) ((in[13 + inpos] & 562949953421311L) >>> 35)
+                        | (int) (in[14 + inpos] << 14);
+                out[22 + outpos] = (int) ((in[14 + inpos] & 562949953421311L) >>> 18)
+                        | (int) (in[15 + inpos] << 31);
+                out[23 + outpos] = (int) (in[15 + inpos] >>> 1);
+                out[24 + outpos] = (int) ((in[15 + inpos] & 562949953421311L) >>> 33)
+                        | (int) (in[16 + inpos] << 16);
+                out[25 + outpos] = (int) (in[16 + inpos] >>> 16);
+                out[26 + outpos] = (int) ((in[16 + inpos] & 562949953421311L) >>> 48)
+                        | (int) (in[17 + inpos] << 1);
+                out[27 + outpos] = (int) ((in[17 + inpos] & 562949953421311L) >>> 31)
+                        | (int) (in[18 + inpos] << 18);
+                out[28 + outpos] = (int) (in[18 + inpos] >>> 14);
+                out[29 + outpos] = (int) ((in[18 + inpos] & 562949953421311L) >>> 46)
+                        | (int) (in[19 + inpos] << 3);
+                out[30 + outpos] = (int) ((in[19 + inpos] & 562949953421311L) >>> 29)
+                        | (int) (in[20 + inpos] << 20);
+                out[31 + outpos] = (int) (in[20 + inpos] >>> 12);
+                out[32 + outpos] = (int) ((in[20 + inpos] & 562949953421311L) >>> 44)
+                        | (int) (in[21 + inpos] << 5);
+                out[33 + outpos] = (int) ((in[21 + inpos] & 562949953421311L) >>> 27)
+                        | (int) (in[22 + inpos] << 22);
+                out[34 + outpos] = (int) (in[22 + inpos] >>> 10);
+                out[35 + outpos] = (int) ((in[22 + inpos] & 562949953421311L) >>> 42)
+                        | (int) (in[23 + inpos] << 7);
+                out[36 + outpos] = (int) ((in[23 + inpos] & 562949953421311L) >>> 25)
+                        | (int) (in[24 + inpos] << 24);
+                out[37 + outpos] = (int) (in[24 + inpos] >>> 8);
+                out[38 + outpos] = (int) ((in[24 + inpos] & 562949953421311L) >>> 40)
+                        | (int) (in[25 + inpos] << 9);
+                out[39 + outpos] = (int) ((in[25 + inpos] & 562949953421311L) >>> 23)
+                        | (int) (in[26 + inpos] << 26);
+                out[40 + outpos] = (int) (in[26 + inpos] >>> 6);
+                out[41 + outpos] = (int) ((in[26 + inpos] & 562949953421311L) >>> 38)
+                        | (int) (in[27 + inpos] << 11);
+                out[42 + outpos] = (int) ((in[27 + inpos] & 562949953421311L) >>> 21)
+                        | (int) (in[28 + inpos] << 28);
+                out[43 + outpos] = (int) (in[28 + inpos] >>> 4);
+                out[44 + outpos] = (int) ((in[28 + inpos] & 562949953421311L) >>> 36)
+                        | (int) (in[29 + inpos] << 13);
+                out[45 + outpos] = (int) ((in[29 + inpos] & 562949953421311L) >>> 19)
+                        | (int) (in[30 + inpos] << 30);
+                out[46 + outpos] = (int) (in[30 + inpos] >>> 2);
+                out[47 + outpos] = (int) ((in[30 + inpos] & 562949953421311L) >>> 34)
+                        | (int) (in[31 + inpos] << 15);
+                out[48 + outpos] = (int) (in[31 + inpos] >>> 17);
+        }
+
+        protected static void fastpack5(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) (in[0 + inpos] & 31L)
+                        | (int) ((in[1 + inpos] & 31L) << 5)
+                        | (int) ((in[2 + inpos] & 31L) << 10)
+                        | (int) ((in[3 + inpos] & 31L) << 15)
+                        | (int) ((in[4 + inpos] & 31L) << 20)
+                        | (int) ((in[5 + inpos] & 31L) << 25)
+                        | (int) (in[6 + inpos] << 30);
+                out[1 + outpos] = (int) ((in[6 + inpos] & 31L) >>> 2)
+                        | (int) ((in[7 + inpos] & 31L) << 3)
+                        | (int) ((in[8 + inpos] & 31L) << 8)
+                        | (int) ((in[9 + inpos] & 31L) << 13)
+                        | (int) ((in[10 + inpos] & 31L) << 18)
+                        | (int) ((in[11 + inpos] & 31L) << 23)
+                        | (int) (in[12 + inpos] << 28);
+                out[2 + outpos] = (int) ((in[12 + inpos] & 31L) >>> 4)
+                        | (int) ((in[13 + inpos] & 31L) << 1)
+                        | (int) ((in[14 + inpos] & 31L) << 6)
+                        | (int) ((in[15 + inpos] & 31L) << 11)
+                        | (int) ((in[16 + inpos] & 31L) << 16)
+                        | (int) ((in[17 + inpos] & 31L) << 21)
+                        | (int) ((in[18 + inpos] & 31L) << 26)
+                        | (int) (in[19 + inpos] << 31);
+                out[3 + outpos] = (int) ((in[19 + inpos] & 31L) >>> 1)
+                        | (int) ((in[20 + inpos] & 31L) << 4)
+                        | (int) ((in[21 + inpos] & 31L) << 9)
+                        | (int) ((in[22 + inpos] & 31L) << 14)
+                        | (int) ((in[23 + inpos] & 31L) << 19)
+                        | (int) ((in[24 + inpos] & 31L) << 24)
+                        | (int) (in[25 + inpos] << 29);
+                out[4 + outpos] = (int) ((in[25 + inpos] & 31L) >>> 3)
+                        | (int) ((in[26 + inpos] & 31L) << 2)
+                        | (int) ((in[27 + inpos] & 31L) << 7)
+                        | (int) ((in[28 + inpos] & 31L) << 12)
+                        | (int) ((in[29 + inpos] & 31L) << 17)
+                        | (int) ((in[30 + inpos] & 31L) << 22)
+                        | (int) (in[31 + inpos] << 27);
+        }
+
+        protected static void fastpack50(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) in[0 + inpos];
+                out[1 + outpos] = (int) ((in[0 + inpos] & 1125899906842623L) >>> 32)
+                        | (int) (in[1 + inpos] << 18);
+                out[2 + outpos] = (int) (in[1 + inpos] >>> 14);
+                out[3 + outpos] = (int) ((in[1 + inpos] & 1125899906842623L) >>> 46)
+                        | (int) (in[2 + inpos] << 4);
+                out[4 + outpos] = (int) ((in[2 + inpos] & 1125899906842623L) >>> 28)
+                        | (int) (in[3 + inpos] << 22);
+                out[5 + outpos] = (int) (in[3 + inpos] >>> 10);
+                out[6 + outpos] = (int) ((in[3 + inpos] & 1125899906842623L) >>> 42)
+                        | (int) (in[4 + inpos] << 8);
+                out[7 + outpos] = (int) ((in[4 + inpos] & 1125899906842623L) >>> 24)
+                        | (int) (in[5 + inpos] << 26);
+                out[8 + outpos] = (int) (in[5 + inpos] >>> 6);
+                out[9 + outpos] = (int) ((in[5 + inpos] & 1125899906842623L) >>> 38)
+                        | (int) (in[6 + inpos] << 12);
+                out[10 + outpos] = (int) ((in[6 + inpos] & 1125899906842623L) >>> 20)
+                        | (int) (in[7 + inpos] << 30);
+                out[11 + outpos] = (int) (in[7 + inpos] >>> 2);
+                out[12 + outpos] = (int) ((in[7 + inpos] & 1125899906842623L) >>> 34)
+                        | (int) (in[8 + inpos] << 16);
+                out[13 + outpos] = (int) (in[8 + inpos] >>> 16);
+                out[14 + outpos] = (int) ((in[8 + inpos] & 1125899906842623L) >>> 48)
+                        | (int) (in[9 + inpos] << 2);
+                out[15 + outpos] = (int) ((in[9 + inpos] & 1125899906842623L) >>> 30)
+                        | (int) (in[10 + inpos] << 20);
+                out[16 + outpos] = (int) (in[10 + inpos] >>> 12);
+                out[17 + outpos] = (int) ((in[10 + inpos] & 1125899906842623L) >>> 44)
+                        | (int) (in[11 + inpos] << 6);
+                out[18 + outpos] = (int) ((in[11 + inpos] & 1125899906842623L) >>> 26)
+                        | (int) (in[12 + inpos] << 24);
+                out[19 + outpos] = (int) (in[12 + inpos] >>> 8);
+                out[20 + outpos] = (int) ((in[12 + inpos] & 1125899906842623L) >>> 40)
+                        | (int) (in[13 + inpos] << 10);
+                out[21 + outpos] = (int) ((in[13 + inpos] & 1125899906842623L) >>> 22)
+                        | (int) (in[14 + inpos] << 28);
+                out[22 + outpos] = (int) (in[14 + inpos] >>> 4);
+                out[23 + outpos] = (int) ((in[14 + inpos] & 1125899906842623L) >>> 36)
+                        | (int) (in[15 + inpos] << 14);
+                out[24 + outpos] = (int) (in[15 + inpos] >>> 18);
+                out[25 + outpos] = (int) in[16 + inpos];
+                out[26 + outpos] = (int) ((in[16 + inpos] & 1125899906842623L) >>> 32)
+                        | (int) (in[17 + inpos] << 18);
+                out[27 + outpos] = (int) (in[17 + inpos] >>> 14);
+                out[28 + outpos] = (int) ((in[17 + inpos] & 1125899906842623L) >>> 46)
+                        | (int) (in[18 + inpos] << 4);
+                out[29 + outpos] = (int) ((in[18 + inpos] & 1125899906842623L) >>> 28)
+                        | (int) (in[19 + inpos] << 22);
+                out[30 + outpos] = (int) (in[19 + inpos] >>> 10);
+                out[31 + outpos] = (int) ((in[19 + inpos] & 1125899906842623L) >>> 42)
+                        | (int) (in[20 + inpos] << 8);
+                out[32 + outpos] = (int) ((in[20 + inpos] & 1125899906842623L) >>> 24)
+                        | (int) (in[21 + inpos] << 26);
+                out[33 + outpos] = (int) (in[21 + inpos] >>> 6);
+                out[34 + outpos] = (int) ((in[21 + inpos] & 1125899906842623L) >>> 38)
+                        | (int) (in[22 + inpos] << 12);
+                out[35 + outpos] = (int) ((in[22 + inpos] & 1125899906842623L) >>> 20)
+                        | (int) (in[23 + inpos] << 30);
+                out[36 + outpos] = (int) (in[23 + inpos] >>> 2);
+                out[37 + outpos] = (int) ((in[23 + inpos] & 1125899906842623L) >>> 34)
+                        | (int) (in[24 + inpos] << 16);
+                out[38 + outpos] = (int) (in[24 + inpos] >>> 16);
+                out[39 + outpos] = (int) ((in[24 + inpos] & 1125899906842623L) >>> 48)
+                        | (int) (in[25 + inpos] << 2);
+                out[40 + outpos] = (int) ((in[25 + inpos] & 1125899906842623L) >>> 30)
+                        | (int) (in[26 + inpos] << 20);
+                out[41 + outpos] = (int) (in[26 + inpos] >>> 12);
+                out[42 + outpos] = (int) ((in[26 + inpos] & 1125899906842623L) >>> 44)
+                        | (int) (in[27 + inpos] << 6);
+                out[43 + outpos] = (int) ((in[27 + inpos] & 1125899906842623L) >>> 26)
+                        | (int) (in[28 + inpos] << 24);
+                out[44 + outpos] = (int) (in[28 + inpos] >>> 8);
+                out[45 + outpos] = (int) ((in[28 + inpos] & 1125899906842623L) >>> 40)
+                        | (int) (in[29 + inpos] << 10);
+                out[46 + outpos] = (int) ((in[29 + inpos] & 1125899906842623L) >>> 22)
+                        | (int) (in[30 + inpos] << 28);
+                out[47 + outpos] = (int) (in[30 + inpos] >>> 4);
+                out[48 + outpos] = (int) ((in[30 + inpos] & 1125899906842623L) >>> 36)
+                        | (int) (in[31 + inpos] << 14);
+                out[49 + outpos] = (int) (in[31 + inpos] >>> 18);
+        }
+
+        protected static void fastpack51(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) in[0 + inpos];
+                out[1 + outpos] = (int) ((in[0 + inpos] & 2251799813685247L) >>> 32)
+                        | (int) (in[1 + inpos] << 19);
+                out[2 + outpos] = (int) (in[1 + inpos] >>> 13);
+                out[3 + outpos] = (int) ((in[1 + inpos] & 2251799813685247L) >>> 45)
+                        | (int) (in[2 + inpos] << 6);
+                out[4 + outpos] = (int) ((in[2 + inpos] & 2251799813685247L) >>> 26)
+                        | (int) (in[3 + inpos] << 25);
+                out[5 + outpos] = (int) (in[3 + inpos] >>> 7);
+                out[6 + outpos] = (int) ((in[3 + inpos] & 2251799813685247L) >>> 39)
+                        | (int) (in[4 + inpos] << 12);
+                out[7 + outpos] = (int) ((in[4 + inpos] & 2251799813685247L) >>> 20)
+                        | (int) (in[5 + inpos] << 31);
+                out[8 + outpos] = (int) (in[5 + inpos] >>> 1);
+                out[9 + outpos] = (int) ((in[5 + inpos] & 2251799813685247L) >>> 33)
+                        | (int) (in[6 + inpos] << 18);
+                out[10 + outpos] = (int) (in[6 + inpos] >>> 14);
+                out[11 + outpos] = (int) ((in[6 + inpos] & 2251799813685247L) >>> 46)
+                        | (int) (in[7 + inpos] << 5);
+                out[12 + outpos] = (int) ((in[7 + inpos] & 2251799813685247L) >>> 27)
+                        | (int) (in[8 + inpos] << 24);
+                out[13 + outpos] = (int) (in[8 + inpos] >>> 8);
+                out[14 + outpos] = (int) ((in[8 + inpos] & 2251799813685247L) >>> 40)
+                        | (int) (in[9 + inpos] << 11);
+                out[15 + outpos] = (int) ((in[9 + inpos] & 2251799813685247L) >>> 21)
+                        | (int) (in[10 + inpos] << 30);
+                out[16 + outpos] = (int) (in[10 + inpos] >>> 2);
+                out[17 + outpos] = (int) ((in[10 + inpos] & 2251799813685247L) >>> 34)
+                        | (int) (in[11 + inpos] << 17);
+                out[18 + outpos] = (int) (in[11 + inpos] >>> 15);
+                out[19 + outpos] = (int) ((in[11 + inpos] & 2251799813685247L) >>> 47)
+                        | (int) (in[12 + inpos] << 4);
+                out[20 + outpos] = (int) ((in[12 + inpos] & 2251799813685247L) >>> 28)
+                        | (int) (in[13 + inpos] << 23);
+                out[21 + outpos] = (int) (in[13 + inpos] >>> 9);
+                out[22 + outpos] = (int) ((in[13 + inpos] & 2251799813685247L) >>> 41)
+                        | (int) (in[14 + inpos] << 10);
+                out[23 + outpos] = (int) ((in[14 + inpos] & 2251799813685247L) >>> 22)
+                        | (int) (in[15 + inpos] << 29);
+                out[24 + outpos] = (int) (in[15 + inpos] >>> 3);
+                out[25 + outpos] = (int) ((in[15 + inpos] & 2251799813685247L) >>> 35)
+                        | (int) (in[16 + inpos] << 16);
+                out[26 + outpos] = (int) (in[16 + inpos] >>> 16);
+                out[27 + outpos] = (int) ((in[16 + inpos] & 2251799813685247L) >>> 48)
+                        | (int) (in[17 + inpos] << 3);
+                out[28 + outpos] = (int) ((in[17 + inpos] & 2251799813685247L) >>> 29)
+                        | (int) (in[18 + inpos] << 22);
+                out[29 + outpos] = (int) (in[18 + inpos] >>> 10);
+                out[30 + outpos] = (int) ((in[18 + inpos] & 2251799813685247L) >>> 42)
+                        | (int) (in[19 + inpos] << 9);
+                out[31 + outpos] = (int) ((in[19 + inpos] & 2251799813685247L) >>> 23)
+                        | (int) (in[20 + inpos] << 28);
+                out[32 + outpos] = (int) (in[20 + inpos] >>> 4);
+                out[33 + outpos] = (int) ((in[20 + inpos] & 2251799813685247L) >>> 36)
+                        | (int) (in[21 + inpos] << 15);
+                out[34 + outpos] = (int) (in[21 + inpos] >>> 17);
+                out[35 + outpos] = (int) ((in[21 + inpos] & 2251799813685247L) >>> 49)
+                        | (int) (in[22 + inpos] << 2);
+                out[36 + outpos] = (int) ((in[22 + inpos] & 2251799813685247L) >>> 30)
+                        | (int) (in[23 + inpos] << 21);
+                out[37 + outpos] = (int) (in[23 + inpos] >>> 11);
+                out[38 + outpos] = (int) ((in[23 + inpos] & 2251799813685247L) >>> 43)
+                        | (int) (in[24 + inpos] << 8);
+                out[39 + outpos] = (int) ((in[24 + inpos] & 2251799813685247L) >>> 24)
+                        | (int) (in[25 + inpos] << 27);
+                out[40 + outpos] = (int) (in[25 + inpos] >>> 5);
+                out[41 + outpos] = (int) ((in[25 + inpos] & 2251799813685247L) >>> 37)
+                        | (int) (in[26 + inpos] << 14);
+                out[42 + outpos] = (int) (in[26 + inpos] >>> 18);
+                out[43 + outpos] = (int) ((in[26 + inpos] & 2251799813685247L) >>> 50)
+                        | (int) (in[27 + inpos] << 1);
+                out[44 + outpos] = (int) ((in[27 + inpos] & 2251799813685247L) >>> 31)
+                        | (int) (in[28 + inpos] << 20);
+                out[45 + outpos] = (int) (in[28 + inpos] >>> 12);
+                out[46 + outpos] = (int) ((in[28 + inpos] & 2251799813685247L) >>> 44)
+                        | (int) (in[29 + inpos] << 7);
+                out[47 + outpos] = (int) ((in[29 + inpos] & 2251799813685247L) >>> 25)
+                        | (int) (in[30 + inpos] << 26);
+                out[48 + outpos] = (int) (in[30 + inpos] >>> 6);
+                out[49 + outpos] = (int) ((in[30 + inpos] & 2251799813685247L) >>> 38)
+                        | (int) (in[31 + inpos] << 13);
+                out[50 + outpos] = (int) (in[31 + inpos] >>> 19);
+        }
+
+        protected static void fastpack52(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) in[0 + inpos];
+                out[1 + outpos] = (int) ((in[0 + inpos] & 4503599627370495L) >>> 32)
+                        | (int) (in[1 + inpos] << 20);
+                out[2 + outpos] = (int) (in[1 + inpos] >>> 12);
+                out[3 + outpos] = (int) ((in[1 + inpos] & 4503599627370495L) >>> 44)
+                        | (int) (in[2 + inpos] << 8);
+                out[4 + outpos] = (int) ((in[2 + inpos] & 4503599627370495L) >>> 24)
+                        | (int) (in[3 + inpos] << 28);
+                out[5 + outpos] = (int) (in[3 + inpos] >>> 4);
+                out[6 + outpos] = (int) ((in[3 + inpos] & 4503599627370495L) >>> 36)
+                        | (int) (in[4 + inpos] << 16);
+                out[7 + outpos] = (int) (in[4 + inpos] >>> 16);
+                out[8 + outpos] = (int) ((in[4 + inpos] & 4503599627370495L) >>> 48)
+                        | (int) (in[5 + inpos] << 4);
+                out[9 + outpos] = (int) ((in[5 + inpos] & 4503599627370495L) >>> 28)
+                        | (int) (in[6 + inpos] << 24);
+                out[10 + outpos] = (int) (in[6 + inpos] >>> 8);
+                out[11 + outpos] = (int) ((in[6 + inpos] & 4503599627370495L) >>> 40)
+                        | (int) (in[7 + inpos] << 12);
+                out[12 + outpos] = (int) (in[7 + inpos] >>> 20);
+                out[13 + outpos] = (int) in[8 + inpos];
+                out[14 + outpos] = (int) ((in[8 + inpos] & 4503599627370495L) >>> 32)
+                        | (int) (in[9 + inpos] << 20);
+                out[15 + outpos] = (int) (in[9 + inpos] >>> 12);
+                out[16 + outpos] = (int) ((in[9 + inpos] & 4503599627370495L) >>> 44)
+                        | (int) (in[10 + inpos] << 8);
+                out[17 + outpos] = (int) ((in[10 + inpos] & 4503599627370495L) >>> 24)
+                        | (int) (in[11 + inpos] << 28);
+                out[18 + outpos] = (int) (in[11 + inpos] >>> 4);
+                out[19 + outpos] = (int) ((in[11 + inpos] & 4503599627370495L) >>> 36)
+                        | (int) (in[12 + inpos] << 16);
+                out[20 + outpos] = (int) (in[12 + inpos] >>> 16);
+                out[21 + outpos] = (int) ((in[12 + inpos] & 4503599627370495L) >>> 48)
+                        | (int) (in[13 + inpos] << 4);
+                out[22 + outpos] = (int) ((in[13 + inpos] & 4503599627370495L) >>> 28)
+                        | (int) (in[14 + inpos] << 24);
+                out[23 + outpos] = (int) (in[14 + inpos] >>> 8);
+                out[24 + outpos] = (int) ((in[14 + inpos] & 4503599627370495L) >>> 40)
+                        | (int) (in[15 + inpos] << 12);
+                out[25 + outpos] = (int) (in[15 + inpos] >>> 20);
+                out[26 + outpos] = (int) in[16 + inpos];
+                out[27 + outpos] = (int) ((in[16 + inpos] & 4503599627370495L) >>> 32)
+                        | (int) (in[17 + inpos] << 20);
+                out[28 + outpos] = (int) (in[17 + inpos] >>> 12);
+                out[29 + outpos] = (int) ((in[17 + inpos] & 4503599627370495L) >>> 44)
+                        | (int) (in[18 + inpos] << 8);
+                out[30 + outpos] = (int) ((in[18 + inpos] & 4503599627370495L) >>> 24)
+                        | (int) (in[19 + inpos] << 28);
+                out[31 + outpos] = (int) (in[19 + inpos] >>> 4);
+                out[32 + outpos] = (int) ((in[19 + inpos] & 4503599627370495L) >>> 36)
+                        | (int) (in[20 + inpos] << 16);
+                out[33 + outpos] = (int) (in[20 + inpos] >>> 16);
+                out[34 + outpos] = (int) ((in[20 + inpos] & 4503599627370495L) >>> 48)
+                        | (int) (in[21 + inpos] << 4);
+                out[35 + outpos] = (int) ((in[21 + inpos] & 4503599627370495L) >>> 28)
+                        | (int) (in[22 + inpos] << 24);
+                out[36 + outpos] = (int) (in[22 + inpos] >>> 8);
+                out[37 + outpos] = (int) ((in[22 + inpos] & 4503599627370495L) >>> 40)
+                        | (int) (in[23 + inpos] << 12);
+                out[38 + outpos] = (int) (in[23 + inpos] >>> 20);
+                out[39 + outpos] = (int) in[24 + inpos];
+                out[40 + outpos] = (int) ((in[24 + inpos] & 4503599627370495L) >>> 32)
+                        | (int) (in[25 + inpos] << 20);
+                out[41 + outpos] = (int) (in[25 + inpos] >>> 12);
+                out[42 + outpos] = (int) ((in[25 + inpos] & 4503599627370495L) >>> 44)
+                        | (int) (in[26 + inpos] << 8);
+                out[43 + outpos] = (int) ((in[26 + inpos] & 4503599627370495L) >>> 24)
+                        | (int) (in[27 + inpos] << 28);
+                out[44 + outpos] = (int) (in[27 + inpos] >>> 4);
+                out[45 + outpos] = (int) ((in[27 + inpos] & 4503599627370495L) >>> 36)
+                        | (int) (in[28 + inpos] << 16);
+                out[46 + outpos] = (int) (in[28 + inpos] >>> 16);
+                out[47 + outpos] = (int) ((in[28 + inpos] & 4503599627370495L) >>> 48)
+                        | (int) (in[29 + inpos] << 4);
+                out[48 + outpos] = (int) ((in[29 + inpos] & 4503599627370495L) >>> 28)
+                        | (int) (in[30 + inpos] << 24);
+                out[49 + outpos] = (int) (in[30 + inpos] >>> 8);
+                out[50 + outpos] = (int) ((in[30 + inpos] & 4503599627370495L) >>> 40)
+                        | (int) (in[31 + inpos] << 12);
+                out[51 + outpos] = (int) (in[31 + inpos] >>> 20);
+        }
+
+        protected static void fastpack53(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) in[0 + inpos];
+                out[1 + outpos] = (int) ((in[0 + inpos] & 9007199254740991L) >>> 32)
+                        | (int) (in[1 + inpos] << 21);
+                out[2 + outpos] = (int) (in[1 + inpos] >>> 11);
+                out[3 + outpos] = (int) ((in[1 + inpos] & 9007199254740991L) >>> 43)
+                        | (int) (in[2 + inpos] << 10);
+                out[4 + outpos] = (int) ((in[2 + inpos] & 9007199254740991L) >>> 22)
+                        | (int) (in[3 + inpos] << 31);
+                out[5 + outpos] = (int) (in[3 + inpos] >>> 1);
+                out[6 + outpos] = (int) ((in[3 + inpos] & 9007199254740991L) >>> 33)
+                        | (int) (in[4 + inpos] << 20);
+                out[7 + outpos] = (int) (in[4 + inpos] >>> 12);
+                out[8 + outpos] = (int) ((in[4 + inpos] & 9007199254740991L) >>> 44)
+                        | (int) (in[5 + inpos] << 9);
+                out[9 + outpos] = (int) ((in[5 + inpos] & 9007199254740991L) >>> 23)
+                        | (int) (in[6 + inpos] << 30);
+                out[10 + outpos] = (int) (in[6 + inpos] >>> 2);
+                out[11 + outpos] = (int) ((in[6 + inpos] & 9007199254740991L) >>> 34)
+                        | (int) (in[7 + inpos] << 19);
+                out[12 + outpos] = (int) (in[7 + inpos] >>> 13);
+                out[13 + outpos] = (int) ((in[7 + inpos] & 9007199254740991L) >>> 45)
+                        | (int) (in[8 + inpos] << 8);
+                out[14 + outpos] = (int) ((in[8 + inpos] & 9007199254740991L) >>> 24)
+                        | (int) (in[9 + inpos] << 29);
+                out[15 + outpos] = (int) (in[9 + inpos] >>> 3);
+                out[16 + outpos] = (int) ((in[9 + inpos] & 9007199254740991L) >>> 35)
+                        | (int) (in[10 + inpos] << 18);
+                out[17 + outpos] = (int) (in[10 + inpos] >>> 14);
+                out[18 + outpos] = (int) ((in[10 + inpos] & 9007199254740991L) >>> 46)
+                        | (int) (in[11 + inpos] << 7);
+                out[19 + outpos] = (int) ((in[11 + inpos] & 9007199254740991L) >>> 25)
+                        | (int) (in[12 + inpos] << 28);
+                out[20 + outpos] = (int) (in[12 + inpos] >>> 4);
+                out[21 + outpos] = (int) ((in[12 + inpos] & 9007199254740991L) >>> 36)
+                        | (int) (in[13 + inpos] << 17);
+                out[22 + outpos] = (int) (in[13 + inpos] >>> 15);
+                out[23 + outpos] = (int) ((in[13 + inpos] & 9007199254740991L) >>> 47)
+                        | (int) (in[14 + inpos] << 6);
+                out[24 + outpos] = (int) ((in[14 + inpos] & 9007199254740991L) >>> 26)
+                        | (int) (in[15 + inpos] << 27);
+                out[25 + outpos] = (int) (in[15 + inpos] >>> 5);
+                out[26 + outpos] = (int) ((in[15 + inpos] & 9007199254740991L) >>> 37)
+                        | (int) (in[16 + inpos] << 16);
+                out[27 + outpos] = (int) (in[16 + inpos] >>> 16);
+                out[28 + outpos] = (int) ((in[16 + inpos] & 9007199254740991L) >>> 48)
+                        | (int) (in[17 + inpos] << 5);
+                out[29 + outpos] = (int) ((in[17 + inpos] & 9007199254740991L) >>> 27)
+                        | (int) (in[18 + inpos] << 26);
+                out[30 + outpos] = (int) (in[18 + inpos] >>> 6);
+                out[31 + outpos] = (int) ((in[18 + inpos] & 9007199254740991L) >>> 38)
+                        | (int) (in[19 + inpos] << 15);
+                out[32 + outpos] = (int) (in[19 + inpos] >>> 17);
+                out[33 + outpos] = (int) ((in[19 + inpos] & 9007199254740991L) >>> 49)
+                        | (int) (in[20 + inpos] << 4);
+                out[34 + outpos] = (int) ((in[20 + inpos] & 9007199254740991L) >>> 28)
+                        | (int) (in[21 + inpos] << 25);
+                out[35 + outpos] = (int) (in[21 + inpos] >>> 7);
+                out[36 + outpos] = (int) ((in[21 + inpos] & 9007199254740991L) >>> 39)
+                        | (int) (in[22 + inpos] << 14);
+                out[37 + outpos] = (int) (in[22 + inpos] >>> 18);
+                out[38 + outpos] = (int) ((in[22 + inpos] & 9007199254740991L) >>> 50)
+                        | (int) (in[23 + inpos] << 3);
+                out[39 + outpos] = (int) ((in[23 + inpos] & 9007199254740991L) >>> 29)
+                        | (int) (in[24 + inpos] << 24);
+                out[40 + outpos] = (int) (in[24 + inpos] >>> 8);
+                out[41 + outpos] = (int) ((in[24 + inpos] & 9007199254740991L) >>> 40)
+                        | (int) (in[25 + inpos] << 13);
+                out[42 + outpos] = (int) (in[25 + inpos] >>> 19);
+                out[43 + outpos] = (int) ((in[25 + inpos] & 9007199254740991L) >>> 51)
+                        | (int) (in[26 + inpos] << 2);
+                out[44 + outpos] = (int) ((in[26 + inpos] & 9007199254740991L) >>> 30)
+                        | (int) (in[27 + inpos] << 23);
+                out[45 + outpos] = (int) (in[27 + inpos] >>> 9);
+                out[46 + outpos] = (int) ((in[27 + inpos] & 9007199254740991L) >>> 41)
+                        | (int) (in[28 + inpos] << 12);
+                out[47 + outpos] = (int) (in[28 + inpos] >>> 20);
+                out[48 + outpos] = (int) ((in[28 + inpos] & 9007199254740991L) >>> 52)
+                        | (int) (in[29 + inpos] << 1);
+                out[49 + outpos] = (int) ((in[29 + inpos] & 9007199254740991L) >>> 31)
+                        | (int) (in[30 + inpos] << 22);
+                out[50 + outpos] = (int) (in[30 + inpos] >>> 10);
+                out[51 + outpos] = (int) ((in[30 + inpos] & 9007199254740991L) >>> 42)
+                        | (int) (in[31 + inpos] << 11);
+                out[52 + outpos] = (int) (in[31 + inpos] >>> 21);
+        }
+
+        protected static void fastpack54(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) in[0 + inpos];
+                out[1 + outpos] = (int) ((in[0 + inpos] & 18014398509481983L) >>> 32)
+                        | (int) (in[1 + inpos] << 22);
+                out[2 + outpos] = (int) (in[1 + inpos] >>> 10);
+                out[3 + outpos] = (int) ((in[1 + inpos] & 18014398509481983L) >>> 42)
+                        | (int) (in[2 + inpos] << 12);
+                out[4 + outpos] = (int) (in[2 + inpos] >>> 20);
+                out[5 + outpos] = (int) ((in[2 + inpos] & 18014398509481983L) >>> 52)
+                        | (int) (in[3 + inpos] << 2);
+                out[6 + outpos] = (int) ((in[3 + inpos] & 18014398509481983L) >>> 30)
+                        | (int) (in[4 + inpos] << 24);
+                out[7 + outpos] = (int) (in[4 + inpos] >>> 8);
+                out[8 + outpos] = (int) ((in[4 + inpos] & 18014398509481983L) >>> 40)
+                        | (int) (in[5 + inpos] << 14);
+                out[9 + outpos] = (int) (in[5 + inpos] >>> 18);
+                out[10 + outpos] = (int) ((in[5 + inpos] & 18014398509481983L) >>> 50)
+                        | (int) (in[6 + inpos] << 4);
+                out[11 + outpos] = (int) ((in[6 + inpos] & 18014398509481983L) >>> 28)
+                        | (int) (in[7 + inpos] << 26);
+                out[12 + outpos] = (int) (in[7 + inpos] >>> 6);
+                out[13 + outpos] = (int) ((in[7 + inpos] & 18014398509481983L) >>> 38)
+                        | (int) (in[8 + inpos] << 16);
+                out[14 + outpos] = (int) (in[8 + inpos] >>> 16);
+                out[15 + outpos] = (int) ((in[8 + inpos] & 18014398509481983L) >>> 48)
+                        | (int) (in[9 + inpos] << 6);
+                out[16 + outpos] = (int) ((in[9 + inpos] & 18014398509481983L) >>> 26)
+                        | (int) (in[10 + inpos] << 28);
+                out[17 + outpos] = (int) (in[10 + inpos] >>> 4);
+                out[18 + outpos] = (int) ((in[10 + inpos] & 18014398509481983L) >>> 36)
+                        | (int) (in[11 + inpos] << 18);
+                out[19 + outpos] = (int) (in[11 + inpos] >>> 14);
+                out[20 + outpos] = (int) ((in[11 + inpos] & 18014398509481983L) >>> 46)
+                        | (int) (in[12 + inpos] << 8);
+                out[21 + outpos] = (int) ((in[12 + inpos] & 18014398509481983L) >>> 24)
+                        | (int) (in[13 + inpos] << 30);
+                out[22 + outpos] = (int) (in[13 + inpos] >>> 2);
+                out[23 + outpos] = (int) ((in[13 + inpos] & 18014398509481983L) >>> 34)
+                        | (int) (in[14 + inpos] << 20);
+                out[24 + outpos] = (int) (in[14 + inpos] >>> 12);
+                out[25 + outpos] = (int) ((in[14 + inpos] & 18014398509481983L) >>> 44)
+                        | (int) (in[15 + inpos] << 10);
+                out[26 + outpos] = (int) (in[15 + inpos] >>> 22);
+                out[27 + outpos] = (int) in[16 + inpos];
+                out[28 + outpos] = (int) ((in[16 + inpos] & 18014398509481983L) >>> 32)
+                        | (int) (in[17 + inpos] << 22);
+                out[29 + outpos] = (int) (in[17 + inpos] >>> 10);
+                out[30 + outpos] = (int) ((in[17 + inpos] & 18014398509481983L) >>> 42)
+                        | (int) (in[18 + inpos] << 12);
+                out[31 + outpos] = (int) (in[18 + inpos] >>> 20);
+                out[32 + outpos] = (int) ((in[18 + inpos] & 18014398509481983L) >>> 52)
+                        | (int) (in[19 + inpos] << 2);
+                out[33 + outpos] = (int) ((in[19 + inpos] & 18014398509481983L) >>> 30)
+                        | (int) (in[20 + inpos] << 24);
+                out[34 + outpos] = (int) (in[20 + inpos] >>> 8);
+                out[35 + outpos] = (int) ((in[20 + inpos] & 18014398509481983L) >>> 40)
+                        | (int) (in[21 + inpos] << 14);
+                out[36 + outpos] = (int) (in[21 + inpos] >>> 18);
+                out[37 + outpos] = (int) ((in[21 + inpos] & 18014398509481983L) >>> 50)
+                        | (int) (in[22 + inpos] << 4);
+                out[38 + outpos] = (int) ((in[22 + inpos] & 18014398509481983L) >>> 28)
+                        | (int) (in[23 + inpos] << 26);
+                out[39 + outpos] = (int) (in[23 + inpos] >>> 6);
+                out[40 + outpos] = (int) ((in[23 + inpos] & 18014398509481983L) >>> 38)
+                        | (int) (in[24 + inpos] << 16);
+                out[41 + outpos] = (int) (in[24 + inpos] >>> 16);
+                out[42 + outpos] = (int) ((in[24 + inpos] & 18014398509481983L) >>> 48)
+                        | (int) (in[25 + inpos] << 6);
+                out[43 + outpos] = (int) ((in[25 + inpos] & 18014398509481983L) >>> 26)
+                        | (int) (in[26 + inpos] << 28);
+                out[44 + outpos] = (int) (in[26 + inpos] >>> 4);
+                out[45 + outpos] = (int) ((in[26 + inpos] & 18014398509481983L) >>> 36)
+                        | (int) (in[27 + inpos] << 18);
+                out[46 + outpos] = (int) (in[27 + inpos] >>> 14);
+                out[47 + outpos] = (int) ((in[27 + inpos] & 18014398509481983L) >>> 46)
+                        | (int) (in[28 + inpos] << 8);
+                out[48 + outpos] = (int) ((in[28 + inpos] & 18014398509481983L) >>> 24)
+                        | (int) (in[29 + inpos] << 30);
+                out[49 + outpos] = (int) (in[29 + inpos] >>> 2);
+                out[50 + outpos] = (int) ((in[29 + inpos] & 18014398509481983L) >>> 34)
+                        | (int) (in[30 + inpos] << 20);
+                out[51 + outpos] = (int) (in[30 + inpos] >>> 12);
+                out[52 + outpos] = (int) ((in[30 + inpos] & 18014398509481983L) >>> 44)
+                        | (int) (in[31 + inpos] << 10);
+                out[53 + outpos] = (int) (in[31 + inpos] >>> 22);
+        }
+
+        protected static void fastpack55(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) in[0 + inpos];
+                out[1 + outpos] = (int) ((in[0 + inpos] & 36028797018963967L) >>> 32)
+                        | (int) (in[1 + inpos] << 23);
+                out[2 + outpos] = (int) (in[1 + inpos] >>> 9);
+                out[3 + outpos] = (int) ((in[1 + inpos] & 36028797018963967L) >>> 41)
+                        | (int) (in[2 + inpos] << 14);
+                out[4 + outpos] = (int) (in[2 + inpos] >>> 18);
+                out[5 + outpos] = (int) ((in[2 + inpos] & 36028797018963967L) >>> 50)
+                        | (int) (in[3 + inpos] << 5);
+                out[6 + outpos] = (int) ((in[3 + inpos] & 36028797018963967L) >>> 27)
+                        | (int) (in[4 + inpos] << 28);
+                out[7 + outpos] = (int) (in[4 + inpos] >>> 4);
+                out[8 + outpos] = (int) ((in[4 + inpos] & 36028797018963967L) >>> 36)
+                        | (int) (in[5 + inpos] << 19);
+                out[9 + outpos] = (int) (in[5 + inpos] >>> 13);
+                out[10 + outpos] = (int) ((in[5 + inpos] & 36028797018963967L) >>> 45)
+                        | (int) (in[6 + inpos] << 10);
+                out[11 + outpos] = (int) (in[6 + inpos] >>> 22);
+                out[12 + outpos] = (int) ((in[6 + inpos] & 36028797018963967L) >>> 54)
+                        | (int) (in[7 + inpos] << 1);
+                out[13 + outpos] = (int) ((in[7 + inpos] & 36028797018963967L) >>> 31)
+                        | (int) (in[8 + inpos] << 24);
+                out[14 + outpos] = (int) (in[8 + inpos] >>> 8);
+                out[15 + outpos] = (int) ((in[8 + inpos] & 36028797018963967L) >>> 40)
+                        | (int) (in[9 + inpos] << 15);
+                out[16 + outpos] = (int) (in[9 + inpos] >>> 17);
+                out[17 + outpos] = (int) ((in[9 + inpos] & 36028797018963967L) >>> 49)
+                        | (int) (in[10 + inpos] << 6);
+                out[18 + outpos] = (int) ((in[10 + inpos] & 36028797018963967L) >>> 26)
+                        | (int) (in[11 + inpos] << 29);
+                out[19 + outpos] = (int) (in[11 + inpos] >>> 3);
+                out[20 + outpos] = (int) ((in[11 + inpos] & 36028797018963967L) >>> 35)
+                        | (int) (in[12 + inpos] << 20);
+                out[21 + outpos] = (int) (in[12 + inpos] >>> 12);
+                out[22 + outpos] = (int) ((in[12 + inpos] & 36028797018963967L) >>> 44)
+                        | (int) (in[13 + inpos] << 11);
+                out[23 + outpos] = (int) (in[13 + inpos] >>> 21);
+                out[24 + outpos] = (int) ((in[13 + inpos] & 36028797018963967L) >>> 53)
+                        | (int) (in[14 + inpos] << 2);
+                out[25 + outpos] = (int) ((in[14 + inpos] & 36028797018963967L) >>> 30)
+                        | (int) (in[15 + inpos] << 25);
+                out[26 + outpos] = (int) (in[15 + inpos] >>> 7);
+                out[27 + outpos] = (int) ((in[15 + inpos] & 36028797018963967L) >>> 39)
+                        | (int) (in[16 + inpos] << 16);
+                out[28 + outpos] = (int) (in[16 + inpos] >>> 16);
+                out[29 + outpos] = (int) ((in[16 + inpos] & 36028797018963967L) >>> 48)
+                        | (int) (in[17 + inpos] << 7);
+                out[30 + outpos] = (int) ((in[17 + inpos] & 36028797018963967L) >>> 25)
+                        | (int) (in[18 + inpos] << 30);
+                out[31 + outpos] = (int) (in[18 + inpos] >>> 2);
+                out[32 + outpos] = (int) ((in[18 + inpos] & 36028797018963967L) >>> 34)
+                        | (int) (in[19 + inpos] << 21);
+                out[33 + outpos] = (int) (in[19 + inpos] >>> 11);
+                out[34 + outpos] = (int) ((in[19 + inpos] & 36028797018963967L) >>> 43)
+                        | (int) (in[20 + inpos] << 12);
+                out[35 + outpos] = (int) (in[20 + inpos] >>> 20);
+                out[36 + outpos] = (int) ((in[20 + inpos] & 36028797018963967L) >>> 52)
+                        | (int) (in[21 + inpos] << 3);
+                out[37 + outpos] = (int) ((in[21 + inpos] & 36028797018963967L) >>> 29)
+                        | (int) (in[22 + inpos] << 26);
+                out[38 + outpos] = (int) (in[22 + inpos] >>> 6);
+                out[39 + outpos] = (int) ((in[22 + inpos] & 36028797018963967L) >>> 38)
+                        | (int) (in[23 + inpos] << 17);
+                out[40 + outpos] = (int) (in[23 + inpos] >>> 15);
+                out[41 + outpos] = (int) ((in[23 + inpos] & 36028797018963967L) >>> 47)
+                        | (int) (in[24 + inpos] << 8);
+                out[42 + outpos] = (int) ((in[24 + inpos] & 36028797018963967L) >>> 24)
+                        | (int) (in[25 + inpos] << 31);
+                out[43 + outpos] = (int) (in[25 + inpos] >>> 1);
+                out[44 + outpos] = (int) ((in[25 + inpos] & 36028797018963967L) >>> 33)
+                        | (int) (in[26 + inpos] << 22);
+                out[45 + outpos] = (int) (in[26 + inpos] >>> 10);
+                out[46 + outpos] = (int) ((in[26 + inpos] & 36028797018963967L) >>> 42)
+                        | (int) (in[27 + inpos] << 13);
+                out[47 + outpos] = (int) (in[27 + inpos] >>> 19);
+                out[48 + outpos] = (int) ((in[27 + inpos] & 36028797018963967L) >>> 51)
+                        | (int) (in[28 + inpos] << 4);
+                out[49 + outpos] = (int) ((in[28 + inpos] & 36028797018963967L) >>> 28)
+                        | (int) (in[29 + inpos] << 27);
+                out[50 + outpos] = (int) (in[29 + inpos] >>> 5);
+                out[51 + outpos] = (int) ((in[29 + inpos] & 36028797018963967L) >>> 37)
+                        | (int) (in[30 + inpos] << 18);
+                out[52 + outpos] = (int) (in[30 + inpos] >>> 14);
+                out[53 + outpos] = (int) ((in[30 + inpos] & 36028797018963967L) >>> 46)
+                        | (int) (in[31 + inpos] << 9);
+                out[54 + outpos] = (int) (in[31 + inpos] >>> 23);
+        }
+
+        protected static void fastpack56(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) in[0 + inpos];
+                out[1 + outpos] = (int) ((in[0 + inpos] & 72057594037927935L) >>> 32)
+                        | (int) (in[1 + inpos] << 24);
+                out[2 + outpos] = (int) (in[1 + inpos] >>> 8);
+                out[3 + outpos] = (int) ((in[1 + inpos] & 72057594037927935L) >>> 40)
+                        | (int) (in[2 + inpos] << 16);
+                out[4 + outpos] = (int) (in[2 + inpos] >>> 16);
+                out[5 + outpos] = (int) ((in[2 + inpos] & 72057594037927935L) >>> 48)
+                        | (int) (in[3 + inpos] << 8);
+                out[6 + outpos] = (int) (in[3 + inpos] >>> 24);
+                out[7 + outpos] = (int) in[4 + inpos];
+                out[8 + outpos] = (int) ((in[4 + inpos] & 72057594037927935L) >>> 32)
+                        | (int) (in[5 + inpos] << 24);
+                out[9 + outpos] = (int) (in[5 + inpos] >>> 8);
+                out[10 + outpos] = (int) ((in[5 + inpos] & 72057594037927935L) >>> 40)
+                        | (int) (in[6 + inpos] << 16);
+                out[11 + outpos] = (int) (in[6 + inpos] >>> 16);
+                out[12 + outpos] = (int) ((in[6 + inpos] & 72057594037927935L) >>> 48)
+                        | (int) (in[7 + inpos] << 8);
+                out[13 + outpos] = (int) (in[7 + inpos] >>> 24);
+                out[14 + outpos] = (int) in[8 + inpos];
+                out[15 + outpos] = (int) ((in[8 + inpos] & 72057594037927935L) >>> 32)
+                        | (int) (in[9 + inpos] << 24);
+                out[16 + outpos] = (int) (in[9 + inpos] >>> 8);
+                out[17 + outpos] = (int) ((in[9 + inpos] & 72057594037927935L) >>> 40)
+                        | (int) (in[10 + inpos] << 16);
+                out[18 + outpos] = (int) (in[10 + inpos] >>> 16);
+                out[19 + outpos] = (int) ((in[10 + inpos] & 72057594037927935L) >>> 48)
+                        | (int) (in[11 + inpos] << 8);
+                out[20 + outpos] = (int) (in[11 + inpos] >>> 24);
+                out[21 + outpos] = (int) in[12 + inpos];
+                out[22 + outpos] = (int) ((in[12 + inpos] & 72057594037927935L) >>> 32)
+                        | (int) (in[13 + inpos] << 24);
+                out[23 + outpos] = (int) (in[13 + inpos] >>> 8);
+                out[24 + outpos] = (int) ((in[13 + inpos] & 72057594037927935L) >>> 40)
+                        | (int) (in[14 + inpos] << 16);
+                out[25 + outpos] = (int) (in[14 + inpos] >>> 16);
+                out[26 + outpos] = (int) ((in[14 + inpos] & 72057594037927935L) >>> 48)
+                        | (int) (in[15 + inpos] << 8);
+                out[27 + outpos] = (int) (in[15 + inpos] >>> 24);
+                out[28 + outpos] = (int) in[16 + inpos];
+                out[29 + outpos] = (int) ((in[16 + inpos] & 72057594037927935L) >>> 32)
+                        | (int) (in[17 + inpos] << 24);
+                out[30 + outpos] = (int) (in[17 + inpos] >>> 8);
+                out[31 + outpos] = (int) ((in[17 + inpos] & 72057594037927935L) >>> 40)
+                        | (int) (in[18 + inpos] << 16);
+                out[32 + outpos] = (int) (in[18 + inpos] >>> 16);
+                out[33 + outpos] = (int) ((in[18 + inpos] & 72057594037927935L) >>> 48)
+                        | (int) (in[19 + inpos] << 8);
+                out[34 + outpos] = (int) (in[19 + inpos] >>> 24);
+                out[35 + outpos] = (int) in[20 + inpos];
+                out[36 + outpos] = (int) ((in[20 + inpos] & 72057594037927935L) >>> 32)
+                        | (int) (in[21 + inpos] << 24);
+                out[37 + outpos] = (int) (in[21 + inpos] >>> 8);
+                out[38 + outpos] = (int) ((in[21 + inpos] & 72057594037927935L) >>> 40)
+                        | (int) (in[22 + inpos] << 16);
+                out[39 + outpos] = (int) (in[22 + inpos] >>> 16);
+                out[40 + outpos] = (int) ((in[22 + inpos] & 72057594037927935L) >>> 48)
+                        | (int) (in[23 + inpos] << 8);
+                out[41 + outpos] = (int) (in[23 + inpos] >>> 24);
+                out[42 + outpos] = (int) in[24 + inpos];
+                out[43 + outpos] = (int) ((in[24 + inpos] & 72057594037927935L) >>> 32)
+                        | (int) (in[25 + inpos] << 24);
+                out[44 + outpos] = (int) (in[25 + inpos] >>> 8);
+                out[45 + outpos] = (int) ((in[25 + inpos] & 72057594037927935L) >>> 40)
+                        | (int) (in[26 + inpos] << 16);
+                out[46 + outpos] = (int) (in[26 + inpos] >>> 16);
+                out[47 + outpos] = (int) ((in[26 + inpos] & 72057594037927935L) >>> 48)
+                        | (int) (in[27 + inpos] << 8);
+                out[48 + outpos] = (int) (in[27 + inpos] >>> 24);
+                out[49 + outpos] = (int) in[28 + inpos];
+                out[50 + outpos] = (int) ((in[28 + inpos] & 72057594037927935L) >>> 32)
+                        | (int) (in[29 + inpos] << 24);
+                out[51 + outpos] = (int) (in[29 + inpos] >>> 8);
+                out[52 + outpos] = (int) ((in[29 + inpos] & 72057594037927935L) >>> 40)
+                        | (int) (in[30 + inpos] << 16);
+                out[53 + outpos] = (int) (in[30 + inpos] >>> 16);
+                out[54 + outpos] = (int) ((in[30 + inpos] & 72057594037927935L) >>> 48)
+                        | (int) (in[31 + inpos] << 8);
+                out[55 + outpos] = (int) (in[31 + inpos] >>> 24);
+        }
+
+        protected static void fastpack57(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) in[0 + inpos];
+                out[1 + outpos] = (int) ((in[0 + inpos] & 144115188075855871L) >>> 32)
+                        | (int) (in[1 + inpos] << 25);
+                out[2 + outpos] = (int) (in[1 + inpos] >>> 7);
+                out[3 + outpos] = (int) ((in[1 + inpos] & 144115188075855871L) >>> 39)
+                        | (int) (in[2 + inpos] << 18);
+                out[4 + outpos] = (int) (in[2 + inpos] >>> 14);
+                out[5 + outpos] = (int) ((in[2 + inpos] & 144115188075855871L) >>> 46)
+                        | (int) (in[3 + inpos] << 11);
+                out[6 + outpos] = (int) (in[3 + inpos] >>> 21);
+                out[7 + outpos] = (int) ((in[3 + inpos] & 144115188075855871L) >>> 53)
+                        | (int) (in[4 + inpos] << 4);
+                out[8 + outpos] = (int) ((in[4 + inpos] & 144115188075855871L) >>> 28)
+                        | (int) (in[5 + inpos] << 29);
+                out[9 + outpos] = (int) (in[5 + inpos] >>> 3);
+                out[10 + outpos] = (int) ((in[5 + inpos] & 144115188075855871L) >>> 35)
+                        | (int) (in[6 + inpos] << 22);
+                out[11 + outpos] = (int) (in[6 + inpos] >>> 10);
+                out[12 + outpos] = (int) ((in[6 + inpos] & 144115188075855871L) >>> 42)
+                        | (int) (in[7 + inpos] << 15);
+                out[13 + outpos] = (int) (in[7 + inpos] >>> 17);
+                out[14 + outpos] = (int) ((in[7 + inpos] & 144115188075855871L) >>> 49)
+                        | (int) (in[8 + inpos] << 8);
+                out[15 + outpos] = (int) (in[8 + inpos] >>> 24);
+                out[16 + outpos] = (int) ((in[8 + inpos] & 144115188075855871L) >>> 56)
+                        | (int) (in[9 + inpos] << 1);
+                out[17 + outpos] = (int) ((in[9 + inpos] & 144115188075855871L) >>> 31)
+                        | (int) (in[10 + inpos] << 26);
+                out[18 + outpos] = (int) (in[10 + inpos] >>> 6);
+                out[19 + outpos] = (int) ((in[10 + inpos] & 144115188075855871L) >>> 38)
+                        | (int) (in[11 + inpos] << 19);
+                out[20 + outpos] = (int) (in[11 + inpos] >>> 13);
+                out[21 + outpos] = (int) ((in[11 + inpos] & 144115188075855871L) >>> 45)
+                        | (int) (in[12 + inpos] << 12);
+                out[22 + outpos] = (int) (in[12 + inpos] >>> 20);
+                out[23 + outpos] = (int) ((in[12 + inpos] & 144115188075855871L) >>> 52)
+                        | (int) (in[13 + inpos] << 5);
+                out[24 + outpos] = (int) ((in[13 + inpos] & 144115188075855871L) >>> 27)
+                        | (int) (in[14 + inpos] << 30);
+                out[25 + outpos] = (int) (in[14 + inpos] >>> 2);
+                out[26 + outpos] = (int) ((in[14 + inpos] & 144115188075855871L) >>> 34)
+                        | (int) (in[15 + inpos] << 23);
+                out[27 + outpos] = (int) (in[15 + inpos] >>> 9);
+                out[28 + outpos] = (int) ((in[15 + inpos] & 144115188075855871L) >>> 41)
+                        | (int) (in[16 + inpos] << 16);
+                out[29 + outpos] = (int) (in[16 + inpos] >>> 16);
+                out[30 + outpos] = (int) ((in[16 + inpos] & 144115188075855871L) >>> 48)
+                        | (int) (in[17 + inpos] << 9);
+                out[31 + outpos] = (int) (in[17 + inpos] >>> 23);
+                out[32 + outpos] = (int) ((in[17 + inpos] & 144115188075855871L) >>> 55)
+                        | (int) (in[18 + inpos] << 2);
+                out[33 + outpos] = (int) ((in[18 + inpos] & 144115188075855871L) >>> 30)
+                        | (int) (in[19 + inpos] << 27);
+                out[34 + outpos] = (int) (in[19 + inpos] >>> 5);
+                out[35 + outpos] = (int) ((in[19 + inpos] & 144115188075855871L) >>> 37)
+                        | (int) (in[20 + inpos] << 20);
+                out[36 + outpos] = (int) (in[20 + inpos] >>> 12);
+                out[37 + outpos] = (int) ((in[20 + inpos] & 144115188075855871L) >>> 44)
+                        | (int) (in[21 + inpos] << 13);
+                out[38 + outpos] = (int) (in[21 + inpos] >>> 19);
+                out[39 + outpos] = (int) ((in[21 + inpos] & 144115188075855871L) >>> 51)
+                        | (int) (in[22 + inpos] << 6);
+                out[40 + outpos] = (int) ((in[22 + inpos] & 144115188075855871L) >>> 26)
+                        | (int) (in[23 + inpos] << 31);
+                out[41 + outpos] = (int) (in[23 + inpos] >>> 1);
+                out[42 + outpos] = (int) ((in[23 + inpos] & 144115188075855871L) >>> 33)
+                        | (int) (in[24 + inpos] << 24);
+                out[43 + outpos] = (int) (in[24 + inpos] >>> 8);
+                out[44 + outpos] = (int) ((in[24 + inpos] & 144115188075855871L) >>> 40)
+                        | (int) (in[25 + inpos] << 17);
+                out[45 + outpos] = (int) (in[25 + inpos] >>> 15);
+                out[46 + outpos] = (int) ((in[25 + inpos] & 144115188075855871L) >>> 47)
+                        | (int) (in[26 + inpos] << 10);
+                out[47 + outpos] = (int) (in[26 + inpos] >>> 22);
+                out[48 + outpos] = (int) ((in[26 + inpos] & 144115188075855871L) >>> 54)
+                        | (int) (in[27 + inpos] << 3);
+                out[49 + outpos] = (int) ((in[27 + inpos] & 144115188075855871L) >>> 29)
+                        | (int) (in[28 + inpos] << 28);
+                out[50 + outpos] = (int) (in[28 + inpos] >>> 4);
+                out[51 + outpos] = (int) ((in[28 + inpos] & 144115188075855871L) >>> 36)
+                        | (int) (in[29 + inpos] << 21);
+                out[52 + outpos] = (int) (in[29 + inpos] >>> 11);
+                out[53 + outpos] = (int) ((in[29 + inpos] & 144115188075855871L) >>> 43)
+                        | (int) (in[30 + inpos] << 14);
+                out[54 + outpos] = (int) (in[30 + inpos] >>> 18);
+                out[55 + outpos] = (int) ((in[30 + inpos] & 144115188075855871L) >>> 50)
+                        | (int) (in[31 + inpos] << 7);
+                out[56 + outpos] = (int) (in[31 + inpos] >>> 25);
+        }
+
+        protected static void fastpack58(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) in[0 + inpos];
+                out[1 + outpos] = (int) ((in[0 + inpos] & 288230376151711743L) >>> 32)
+                        | (int) (in[1 + inpos] << 26);
+                out[2 + outpos] = (int) (in[1 + inpos] >>> 6);
+                out[3 + outpos] = (int) ((in[1 + inpos] & 288230376151711743L) >>> 38)
+                        | (int) (in[2 + inpos] << 20);
+                out[4 + outpos] = (int) (in[2 + inpos] >>> 12);
+                out[5 + outpos] = (int) ((in[2 + inpos] & 288230376151711743L) >>> 44)
+                        | (int) (in[3 + inpos] << 14);
+                out[6 + outpos] = (int) (in[3 + inpos] >>> 18);
+                out[7 + outpos] = (int) ((in[3 + inpos] & 288230376151711743L) >>> 50)
+                        | (int) (in[4 + inpos] << 8);
+                out[8 + outpos] = (int) (in[4 + inpos] >>> 24);
+                out[9 + outpos] = (int) ((in[4 + inpos] & 288230376151711743L) >>> 56)
+                        | (int) (in[5 + inpos] << 2);
+                out[10 + outpos] = (int) ((in[5 + inpos] & 288230376151711743L) >>> 30)
+                        | (int) (in[6 + inpos] << 28);
+                out[11 + outpos] = (int) (in[6 + inpos] >>> 4);
+                out[12 + outpos] = (int) ((in[6 + inpos] & 288230376151711743L) >>> 36)
+                        | (int) (in[7 + inpos] << 22);
+                out[13 + outpos] = (int) (in[7 + inpos] >>> 10);
+                out[14 + outpos] = (int) ((in[7 + inpos] & 288230376151711743L) >>> 42)
+                        | (int) (in[8 + inpos] << 16);
+                out[15 + outpos] = (int) (in[8 + inpos] >>> 16);
+                out[16 + outpos] = (int) ((in[8 + inpos] & 288230376151711743L) >>> 48)
+                        | (int) (in[9 + inpos] << 10);
+                out[17 + outpos] = (int) (in[9 + inpos] >>> 22);
+                out[18 + outpos] = (int) ((in[9 + inpos] & 288230376151711743L) >>> 54)
+                        | (int) (in[10 + inpos] << 4);
+                out[19 + outpos] = (int) ((in[10 + inpos] & 288230376151711743L) >>> 28)
+                        | (int) (in[11 + inpos] << 30);
+                out[20 + outpos] = (int) (in[11 + inpos] >>> 2);
+                out[21 + outpos] = (int) ((in[11 + inpos] & 288230376151711743L) >>> 34)
+                        | (int) (in[12 + inpos] << 24);
+                out[22 + outpos] = (int) (in[12 + inpos] >>> 8);
+                out[23 + outpos] = (int) ((in[12 + inpos] & 288230376151711743L) >>> 40)
+                        | (int) (in[13 + inpos] << 18);
+                out[24 + outpos] = (int) (in[13 + inpos] >>> 14);
+                out[25 + outpos] = (int) ((in[13 + inpos] & 288230376151711743L) >>> 46)
+                        | (int) (in[14 + inpos] << 12);
+                out[26 + outpos] = (int) (in[14 + inpos] >>> 20);
+                out[27 + outpos] = (int) ((in[14 + inpos] & 288230376151711743L) >>> 52)
+                        | (int) (in[15 + inpos] << 6);
+                out[28 + outpos] = (int) (in[15 + inpos] >>> 26);
+                out[29 + outpos] = (int) in[16 + inpos];
+                out[30 + outpos] = (int) ((in[16 + inpos] & 288230376151711743L) >>> 32)
+                        | (int) (in[17 + inpos] << 26);
+                out[31 + outpos] = (int) (in[17 + inpos] >>> 6);
+                out[32 + outpos] = (int) ((in[17 + inpos] & 288230376151711743L) >>> 38)
+                        | (int) (in[18 + inpos] << 20);
+                out[33 + outpos] = (int) (in[18 + inpos] >>> 12);
+                out[34 + outpos] = (int) ((in[18 + inpos] & 288230376151711743L) >>> 44)
+                        | (int) (in[19 + inpos] << 14);
+                out[35 + outpos] = (int) (in[19 + inpos] >>> 18);
+                out[36 + outpos] = (int) ((in[19 + inpos] & 288230376151711743L) >>> 50)
+                        | (int) (in[20 + inpos] << 8);
+                out[37 + outpos] = (int) (in[20 + inpos] >>> 24);
+                out[38 + outpos] = (int) ((in[20 + inpos] & 288230376151711743L) >>> 56)
+                        | (int) (in[21 + inpos] << 2);
+                out[39 + outpos] = (int) ((in[21 + inpos] & 288230376151711743L) >>> 30)
+                        | (int) (in[22 + inpos] << 28);
+                out[40 + outpos] = (int) (in[22 + inpos] >>> 4);
+                out[41 + outpos] = (int) ((in[22 + inpos] & 288230376151711743L) >>> 36)
+                        | (int) (in[23 + inpos] << 22);
+                out[42 + outpos] = (int) (in[23 + inpos] >>> 10);
+                out[43 + outpos] = (int) ((in[23 + inpos] & 288230376151711743L) >>> 42)
+                        | (int) (in[24 + inpos] << 16);
+                out[44 + outpos] = (int) (in[24 + inpos] >>> 16);
+                out[45 + outpos] = (int) ((in[24 + inpos] & 288230376151711743L) >>> 48)
+                        | (int) (in[25 + inpos] << 10);
+                out[46 + outpos] = (int) (in[25 + inpos] >>> 22);
+                out[47 + outpos] = (int) ((in[25 + inpos] & 288230376151711743L) >>> 54)
+                        | (int) (in[26 + inpos] << 4);
+                out[48 + outpos] = (int) ((in[26 + inpos] & 288230376151711743L) >>> 28)
+                        | (int) (in[27 + inpos] << 30);
+                out[49 + outpos] = (int) (in[27 + inpos] >>> 2);
+                out[50 + outpos] = (int) ((in[27 + inpos] & 288230376151711743L) >>> 34)
+                        | (int) (in[28 + inpos] << 24);
+                out[51 + outpos] = (int) (in[28 + inpos] >>> 8);
+                out[52 + outpos] = (int) ((in[28 + inpos] & 288230376151711743L) >>> 40)
+                        | (int) (in[29 + inpos] << 18);
+                out[53 + outpos] = (int) (in[29 + inpos] >>> 14);
+                out[54 + outpos] = (int) ((in[29 + inpos] & 288230376151711743L) >>> 46)
+                        | (int) (in[30 + inpos] << 12);
+                out[55 + outpos] = (int) (in[30 + inpos] >>> 20);
+                out[56 + outpos] = (int) ((in[30 + inpos] & 288230376151711743L) >>> 52)
+                        | (int) (in[31 + inpos] << 6);
+                out[57 + outpos] = (int) (in[31 + inpos] >>> 26);
+        }
+
+        protected static void fastpack59(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) in[0 + inpos];
+                out[1 + outpos] = (int) ((in[0 + inpos] & 576460752303423487L) >>> 32)
+                        | (int) (in[1 + inpos] << 27);
+                out[2 + outpos] = (int) (in[1 + inpos] >>> 5);
+                out[3 + outpos] = (int) ((in[1 + inpos] & 576460752303423487L) >>> 37)
+                        | (int) (in[2 + inpos] << 22);
+                out[4 + outpos] = (int) (in[2 + inpos] >>> 10);
+                out[5 + outpos] = (int) ((in[2 + inpos] & 576460752303423487L) >>> 42)
+                        | (int) (in[3 + inpos] << 17);
+                out[6 + outpos] = (int) (in[3 + inpos] >>> 15);
+                out[7 + outpos] = (int) ((in[3 + inpos] & 576460752303423487L) >>> 47)
+                        | (int) (in[4 + inpos] << 12);
+                out[8 + outpos] = (int) (in[4 + inpos] >>> 20);
+                out[9 + outpos] = (int) ((in[4 + inpos] & 576460752303423487L) >>> 52)
+                        | (int) (in[5 + inpos] << 7);
+                out[10 + outpos] = (int) (in[5 + inpos] >>> 25);
+                out[11 + outpos] = (int) ((in[5 + inpos] & 576460752303423487L) >>> 57)
+                        | (int) (in[6 + inpos] << 2);
+                out[12 + outpos] = (int) ((in[6 + inpos] & 576460752303423487L) >>> 30)
+                        | (int) (in[7 + inpos] << 29);
+                out[13 + outpos] = (int) (in[7 + inpos] >>> 3);
+                out[14 + outpos] = (int) ((in[7 + inpos] & 576460752303423487L) >>> 35)
+                        | (int) (in[8 + inpos] << 24);
+                out[15 + outpos] = (int) (in[8 + inpos] >>> 8);
+                out[16 + outpos] = (int) ((in[8 + inpos] & 576460752303423487L) >>> 40)
+                        | (int) (in[9 + inpos] << 19);
+                out[17 + outpos] = (int) (in[9 + inpos] >>> 13);
+                out[18 + outpos] = (int) ((in[9 + inpos] & 576460752303423487L) >>> 45)
+                        | (int) (in[10 + inpos] << 14);
+                out[19 + outpos] = (int) (in[10 + inpos] >>> 18);
+                out[20 + outpos] = (int) ((in[10 + inpos] & 576460752303423487L) >>> 50)
+                        | (int) (in[11 + inpos] << 9);
+                out[21 + outpos] = (int) (in[11 + inpos] >>> 23);
+                out[22 + outpos] = (int) ((in[11 + inpos] & 576460752303423487L) >>> 55)
+                        | (int) (in[12 + inpos] << 4);
+                out[23 + outpos] = (int) ((in[12 + inpos] & 576460752303423487L) >>> 28)
+                        | (int) (in[13 + inpos] << 31);
+                out[24 + outpos] = (int) (in[13 + inpos] >>> 1);
+                out[25 + outpos] = (int) ((in[13 + inpos] & 576460752303423487L) >>> 33)
+                        | (int) (in[14 + inpos] << 26);
+                out[26 + outpos] = (int) (in[14 + inpos] >>> 6);
+                out[27 + outpos] = (int) ((in[14 + inpos] & 576460752303423487L) >>> 38)
+                        | (int) (in[15 + inpos] << 21);
+                out[28 + outpos] = (int) (in[15 + inpos] >>> 11);
+                out[29 + outpos] = (int) ((in[15 + inpos] & 576460752303423487L) >>> 43)
+                        | (int) (in[16 + inpos] << 16);
+                out[30 + outpos] = (int) (in[16 + inpos] >>> 16);
+                out[31 + outpos] = (int) ((in[16 + inpos] & 576460752303423487L) >>> 48)
+                        | (int) (in[17 + inpos] << 11);
+                out[32 + outpos] = (int) (in[17 + inpos] >>> 21);
+                out[33 + outpos] = (int) ((in[17 + inpos] & 576460752303423487L) >>> 53)
+                        | (int) (in[18 + inpos] << 6);
+                out[34 + outpos] = (int) (in[18 + inpos] >>> 26);
+                out[35 + outpos] = (int) ((in[18 + inpos] & 576460752303423487L) >>> 58)
+                        | (int) (in[19 + inpos] << 1);
+                out[36 + outpos] = (int) ((in[19 + inpos] & 576460752303423487L) >>> 31)
+                        | (int) (in[20 + inpos] << 28);
+                out[37 + outpos] = (int) (in[20 + inpos] >>> 4);
+                out[38 + outpos] = (int) ((in[20 + inpos] & 576460752303423487L) >>> 36)
+                        | (int) (in[21 + inpos] << 23);
+                out[39 + outpos] = (int) (in[21 + inpos] >>> 9);
+                out[40 + outpos] = (int) ((in[21 + inpos] & 576460752303423487L) >>> 41)
+                        | (int) (in[22 + inpos] << 18);
+                out[41 + outpos] = (int) (in[22 + inpos] >>> 14);
+                out[42 + outpos] = (int) ((in[22 + inpos] & 576460752303423487L) >>> 46)
+                        | (int) (in[23 + inpos] << 13);
+                out[43 + outpos] = (int) (in[23 + inpos] >>> 19);
+                out[44 + outpos] = (int) ((in[23 + inpos] & 576460752303423487L) >>> 51)
+                        | (int) (in[24 + inpos] << 8);
+                out[45 + outpos] = (int) (in[24 + inpos] >>> 24);
+                out[46 + outpos] = (int) ((in[24 + inpos] & 576460752303423487L) >>> 56)
+                        | (int) (in[25 + inpos] << 3);
+                out[47 + outpos] = (int) ((in[25 + inpos] & 576460752303423487L) >>> 29)
+                        | (int) (in[26 + inpos] << 30);
+                out[48 + outpos] = (int) (in[26 + inpos] >>> 2);
+                out[49 + outpos] = (int) ((in[26 + inpos] & 576460752303423487L) >>> 34)
+                        | (int) (in[27 + inpos] << 25);
+                out[50 + outpos] = (int) (in[27 + inpos] >>> 7);
+                out[51 + outpos] = (int) ((in[27 + inpos] & 576460752303423487L) >>> 39)
+                        | (int) (in[28 + inpos] << 20);
+                out[52 + outpos] = (int) (in[28 + inpos] >>> 12);
+                out[53 + outpos] = (int) ((in[28 + inpos] & 576460752303423487L) >>> 44)
+                        | (int) (in[29 + inpos] << 15);
+                out[54 + outpos] = (int) (in[29 + inpos] >>> 17);
+                out[55 + outpos] = (int) ((in[29 + inpos] & 576460752303423487L) >>> 49)
+                        | (int) (in[30 + inpos] << 10);
+                out[56 + outpos] = (int) (in[30 + inpos] >>> 22);
+                out[57 + outpos] = (int) ((in[30 + inpos] & 576460752303423487L) >>> 54)
+                        | (int) (in[31 + inpos] << 5);
+                out[58 + outpos] = (int) (in[31 + inpos] >>> 27);
+        }
+
+        protected static void fastpack6(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) (in[0 + inpos] & 63L)
+                        | (int) ((in[1 + inpos] & 63L) << 6)
+                        | (int) ((in[2 + inpos] & 63L) << 12)
+                        | (int) ((in[3 + inpos] & 63L) << 18)
+                        | (int) ((in[4 + inpos] & 63L) << 24)
+                        | (int) (in[5 + inpos] << 30);
+                out[1 + outpos] = (int) ((in[5 + inpos] & 63L) >>> 2)
+                        | (int) ((in[6 + inpos] & 63L) << 4)
+                        | (int) ((in[7 + inpos] & 63L) << 10)
+                        | (int) ((in[8 + inpos] & 63L) << 16)
+                        | (int) ((in[9 + inpos] & 63L) << 22)
+                        | (int) (in[10 + inpos] << 28);
+                out[2 + outpos] = (int) ((in[10 + inpos] & 63L) >>> 4)
+                        | (int) ((in[11 + inpos] & 63L) << 2)
+                        | (int) ((in[12 + inpos] & 63L) << 8)
+                        | (int) ((in[13 + inpos] & 63L) << 14)
+                        | (int) ((in[14 + inpos] & 63L) << 20)
+                        | (int) (in[15 + inpos] << 26);
+                out[3 + outpos] = (int) (in[16 + inpos] & 63L)
+                        | (int) ((in[17 + inpos] & 63L) << 6)
+                        | (int) ((in[18 + inpos] & 63L) << 12)
+                        | (int) ((in[19 + inpos] & 63L) << 18)
+                        | (int) ((in[20 + inpos] & 63L) << 24)
+                        | (int) (in[21 + inpos] << 30);
+                out[4 + outpos] = (int) ((in[21 + inpos] & 63L) >>> 2)
+                        | (int) ((in[22 + inpos] & 63L) << 4)
+                        | (int) ((in[23 + inpos] & 63L) << 10)
+                        | (int) ((in[24 + inpos] & 63L) << 16)
+                        | (int) ((in[25 + inpos] & 63L) << 22)
+                        | (int) (in[26 + inpos] << 28);
+                out[5 + outpos] = (int) ((in[26 + inpos] & 63L) >>> 4)
+                        | (int) ((in[27 + inpos] & 63L) << 2)
+                        | (int) ((in[28 + inpos] & 63L) << 8)
+                        | (int) ((in[29 + inpos] & 63L) << 14)
+                        | (int) ((in[30 + inpos] & 63L) << 20)
+                        | (int) (in[31 + inpos] << 26);
+        }
+
+        protected static void fastpack60(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) in[0 + inpos];
+                out[1 + outpos] = (int) ((in[0 + inpos] & 1152921504606846975L) >>> 32)
+                        | (int) (in[1 + inpos] << 28);
+                out[2 + outpos] = (int) (in[1 + inpos] >>> 4);
+                out[3 + outpos] = (int) ((in[1 + inpos] & 1152921504606846975L) >>> 36)
+                        | (int) (in[2 + inpos] << 24);
+                out[4 + outpos] = (int) (in[2 + inpos] >>> 8);
+                out[5 + outpos] = (int) ((in[2 + inpos] & 1152921504606846975L) >>> 40)
+                        | (int) (in[3 + inpos] << 20);
+                out[6 + outpos] = (int) (in[3 + inpos] >>> 12);
+                out[7 + outpos] = (int) ((in[3 + inpos] & 1152921504606846975L) >>> 44)
+                        | (int) (in[4 + inpos] << 16);
+                out[8 + outpos] = (int) (in[4 + inpos] >>> 16);
+                out[9 + outpos] = (int) ((in[4 + inpos] & 1152921504606846975L) >>> 48)
+                        | (int) (in[5 + inpos] << 12);
+                out[10 + outpos] = (int) (in[5 + inpos] >>> 20);
+                out[11 + outpos] = (int) ((in[5 + inpos] & 1152921504606846975L) >>> 52)
+                        | (int) (in[6 + inpos] << 8);
+                out[12 + outpos] = (int) (in[6 + inpos] >>> 24);
+                out[13 + outpos] = (int) ((in[6 + inpos] & 1152921504606846975L) >>> 56)
+                        | (int) (in[7 + inpos] << 4);
+                out[14 + outpos] = (int) (in[7 + inpos] >>> 28);
+                out[15 + outpos] = (int) in[8 + inpos];
+                out[16 + outpos] = (int) ((in[8 + inpos] & 1152921504606846975L) >>> 32)
+                        | (int) (in[9 + inpos] << 28);
+                out[17 + outpos] = (int) (in[9 + inpos] >>> 4);
+                out[18 + outpos] = (int) ((in[9 + inpos] & 1152921504606846975L) >>> 36)
+                        | (int) (in[10 + inpos] << 24);
+                out[19 + outpos] = (int) (in[10 + inpos] >>> 8);
+                out[20 + outpos] = (int) ((in[10 + inpos] & 1152921504606846975L) >>> 40)
+                        | (int) (in[11 + inpos] << 20);
+                out[21 + outpos] = (int) (in[11 + inpos] >>> 12);
+                out[22 + outpos] = (int) ((in[11 + inpos] & 1152921504606846975L) >>> 44)
+                        | (int) (in[12 + inpos] << 16);
+                out[23 + outpos] = (int) (in[12 + inpos] >>> 16);
+                out[24 + outpos] = (int) ((in[12 + inpos] & 1152921504606846975L) >>> 48)
+                        | (int) (in[13 + inpos] << 12);
+                out[25 + outpos] = (int) (in[13 + inpos] >>> 20);
+                out[26 + outpos] = (int) ((in[13 + inpos] & 1152921504606846975L) >>> 52)
+                        | (int) (in[14 + inpos] << 8);
+                out[27 + outpos] = (int) (in[14 + inpos] >>> 24);
+                out[28 + outpos] = (int) ((in[14 + inpos] & 1152921504606846975L) >>> 56)
+                        | (int) (in[15 + inpos] << 4);
+                out[29 + outpos] = (int) (in[15 + inpos] >>> 28);
+                out[30 + outpos] = (int) in[16 + inpos];
+                out[31 + outpos] = (int) ((in[16 + inpos] & 1152921504606846975L) >>> 32)
+                        | (int) (in[17 + inpos] << 28);
+                out[32 + outpos] = (int) (in[17 + inpos] >>> 4);
+                out[33 + outpos] = (int) ((in[17 + inpos] & 1152921504606846975L) >>> 36)
+                        | (int) (in[18 + inpos] << 24);
+                out[34 + outpos] = (int) (in[18 + inpos] >>> 8);
+                out[35 + outpos] = (int) ((in[18 + inpos] & 1152921504606846975L) >>> 40)
+                        | (int) (in[19 + inpos] << 20);
+                out[36 + outpos] = (int) (in[19 + inpos] >>> 12);
+                out[37 + outpos] = (int) ((in[19 + inpos] & 1152921504606846975L) >>> 44)
+                        | (int) (in[20 + inpos] << 16);
+                out[38 + outpos] = (int) (in[20 + inpos] >>> 16);
+                out[39 + outpos] = (int) ((in[20 + inpos] & 1152921504606846975L) >>> 48)
+                        | (int) (in[21 + inpos] << 12);
+                out[40 + outpos] = (int) (in[21 + inpos] >>> 20);
+                out[41 + outpos] = (int) ((in[21 + inpos] & 1152921504606846975L) >>> 52)
+                        | (int) (in[22 + inpos] << 8);
+                out[42 + outpos] = (int) (in[22 + inpos] >>> 24);
+                out[43 + outpos] = (int) ((in[22 + inpos] & 1152921504606846975L) >>> 56)
+                        | (int) (in[23 + inpos] << 4);
+                out[44 + outpos] = (int) (in[23 + inpos] >>> 28);
+                out[45 + outpos] = (int) in[24 + inpos];
+                out[46 + outpos] = (int) ((in[24 + inpos] & 1152921504606846975L) >>> 32)
+                        | (int) (in[25 + inpos] << 28);
+                out[47 + outpos] = (int) (in[25 + inpos] >>> 4);
+                out[48 + outpos] = (int) ((in[25 + inpos] & 1152921504606846975L) >>> 36)
+                        | (int) (in[26 + inpos] << 24);
+                out[49 + outpos] = (int) (in[26 + inpos] >>> 8);
+                out[50 + outpos] = (int) ((in[26 + inpos] & 1152921504606846975L) >>> 40)
+                        | (int) (in[27 + inpos] << 20);
+                out[51 + outpos] = (int) (in[27 + inpos] >>> 12);
+                out[52 + outpos] = (int) ((in[27 + inpos] & 1152921504606846975L) >>> 44)
+                        | (int) (in[28 + inpos] << 16);
+                out[53 + outpos] = (int) (in[28 + inpos] >>> 16);
+                out[54 + outpos] = (int) ((in[28 + inpos] & 1152921504606846975L) >>> 48)
+                        | (int) (in[29 + inpos] << 12);
+                out[55 + outpos] = (int) (in[29 + inpos] >>> 20);
+                out[56 + outpos] = (int) ((in[29 + inpos] & 1152921504606846975L) >>> 52)
+                        | (int) (in[30 + inpos] << 8);
+                out[57 + outpos] = (int) (in[30 + inpos] >>> 24);
+                out[58 + outpos] = (int) ((in[30 + inpos] & 1152921504606846975L) >>> 56)
+                        | (int) (in[31 + inpos] << 4);
+                out[59 + outpos] = (int) (in[31 + inpos] >>> 28);
+        }
+
+        protected static void fastpack61(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) in[0 + inpos];
+                out[1 + outpos] = (int) ((in[0 + inpos] & 2305843009213693951L) >>> 32)
+                        | (int) (in[1 + inpos] << 29);
+                out[2 + outpos] = (int) (in[1 + inpos] >>> 3);
+                out[3 + outpos] = (int) ((in[1 + inpos] & 2305843009213693951L) >>> 35)
+                        | (int) (in[2 + inpos] << 26);
+                out[4 + outpos] = (int) (in[2 + inpos] >>> 6);
+                out[5 + outpos] = (int) ((in[2 + inpos] & 2305843009213693951L) >>> 38)
+                        | (int) (in[3 + inpos] << 23);
+                out[6 + outpos] = (int) (in[3 + inpos] >>> 9);
+                out[7 + outpos] = (int) ((in[3 + inpos] & 2305843009213693951L) >>> 41)
+                        | (int) (in[4 + inpos] << 20);
+                out[8 + outpos] = (int) (in[4 + inpos] >>> 12);
+                out[9 + outpos] = (int) ((in[4 + inpos] & 2305843009213693951L) >>> 44)
+                        | (int) (in[5 + inpos] << 17);
+                out[10 + outpos] = (int) (in[5 + inpos] >>> 15);
+                out[11 + outpos] = (int) ((in[5 + inpos] & 2305843009213693951L) >>> 47)
+                        | (int) (in[6 + inpos] << 14);
+                out[12 + outpos] = (int) (in[6 + inpos] >>> 18);
+                out[13 + outpos] = (int) ((in[6 + inpos] & 2305843009213693951L) >>> 50)
+                        | (int) (in[7 + inpos] << 11);
+                out[14 + outpos] = (int) (in[7 + inpos] >>> 21);
+                out[15 + outpos] = (int) ((in[7 + inpos] & 2305843009213693951L) >>> 53)
+                        | (int) (in[8 + inpos] << 8);
+                out[16 + outpos] = (int) (in[8 + inpos] >>> 24);
+                out[17 + outpos] = (int) ((in[8 + inpos] & 2305843009213693951L) >>> 56)
+                        | (int) (in[9 + inpos] << 5);
+                out[18 + outpos] = (int) (in[9 + inpos] >>> 27);
+                out[19 + outpos] = (int) ((in[9 + inpos] & 2305843009213693951L) >>> 59)
+                        | (int) (in[10 + inpos] << 2);
+                out[20 + outpos] = (int) ((in[10 + inpos] & 2305843009213693951L) >>> 30)
+                        | (int) (in[11 + inpos] << 31);
+                out[21 + outpos] = (int) (in[11 + inpos] >>> 1);
+                out[22 + outpos] = (int) ((in[11 + inpos] & 2305843009213693951L) >>> 33)
+                        | (int) (in[12 + inpos] << 28);
+                out[23 + outpos] = (int) (in[12 + inpos] >>> 4);
+                out[24 + outpos] = (int) ((in[12 + inpos] & 2305843009213693951L) >>> 36)
+                        | (int) (in[13 + inpos] << 25);
+                out[25 + outpos] = (int) (in[13 + inpos] >>> 7);
+                out[26 + outpos] = (int) ((in[13 + inpos] & 2305843009213693951L) >>> 39)
+                        | (int) (in[14 + inpos] << 22);
+                out[27 + outpos] = (int) (in[14 + inpos] >>> 10);
+                out[28 + outpos] = (int) ((in[14 + inpos] & 2305843009213693951L) >>> 42)
+                        | (int) (in[15 + inpos] << 19);
+                out[29 + outpos] = (int) (in[15 + inpos] >>> 13);
+                out[30 + outpos] = (int) ((in[15 + inpos] & 2305843009213693951L) >>> 45)
+                        | (int) (in[16 + inpos] << 16);
+                out[31 + outpos] = (int) (in[16 + inpos] >>> 16);
+                out[32 + outpos] = (int) ((in[16 + inpos] & 2305843009213693951L) >>> 48)
+                        | (int) (in[17 + inpos] << 13);
+                out[33 + outpos] = (int) (in[17 + inpos] >>> 19);
+                out[34 + outpos] = (int) ((in[17 + inpos] & 2305843009213693951L) >>> 51)
+                        | (int) (in[18 + inpos] << 10);
+                out[35 + outpos] = (int) (in[18 + inpos] >>> 22);
+                out[36 + outpos] = (int) ((in[18 + inpos] & 2305843009213693951L) >>> 54)
+                        | (int) (in[19 + inpos] << 7);
+                out[37 + outpos] = (int) (in[19 + inpos] >>> 25);
+                out[38 + outpos] = (int) ((in[19 + inpos] & 2305843009213693951L) >>> 57)
+                        | (int) (in[20 + inpos] << 4);
+                out[39 + outpos] = (int) (in[20 + inpos] >>> 28);
+                out[40 + outpos] = (int) ((in[20 + inpos] & 2305843009213693951L) >>> 60)
+                        | (int) (in[21 + inpos] << 1);
+                out[41 + outpos] = (int) ((in[21 + inpos] & 2305843009213693951L) >>> 31)
+                        | (int) (in[22 + inpos] << 30);
+                out[42 + outpos] = (int) (in[22 + inpos] >>> 2);
+                out[43 + outpos] = (int) ((in[22 + inpos] & 2305843009213693951L) >>> 34)
+                        | (int) (in[23 + inpos] << 27);
+                out[44 + outpos] = (int) (in[23 + inpos] >>> 5);
+                out[45 + outpos] = (int) ((in[23 + inpos] & 2305843009213693951L) >>> 37)
+                        | (int) (in[24 + inpos] << 24);
+                out[46 + outpos] = (int) (in[24 + inpos] >>> 8);
+                out[47 + outpos] = (int) ((in[24 + inpos] & 2305843009213693951L) >>> 40)
+                        | (int) (in[25 + inpos] << 21);
+                out[48 + outpos] = (int) (in[25 + inpos] >>> 11);
+                out[49 + outpos] = (int) ((in[25 + inpos] & 2305843009213693951L) >>> 43)
+                        | (int) (in[26 + inpos] << 18);
+                out[50 + outpos] = (int) (in[26 + inpos] >>> 14);
+                out[51 + outpos] = (int) ((in[26 + inpos] & 2305843009213693951L) >>> 46)
+                        | (int) (in[27 + inpos] << 15);
+                out[52 + outpos] = (int) (in[27 + inpos] >>> 17);
+                out[53 + outpos] = (int) ((in[27 + inpos] & 2305843009213693951L) >>> 49)
+                        | (int) (in[28 + inpos] << 12);
+                out[54 + outpos] = (int) (in[28 + inpos] >>> 20);
+                out[55 + outpos] = (int) ((in[28 + inpos] & 2305843009213693951L) >>> 52)
+                        | (int) (in[29 + inpos] << 9);
+                out[56 + outpos] = (int) (in[29 + inpos] >>> 23);
+                out[57 + outpos] = (int) ((in[29 + inpos] & 2305843009213693951L) >>> 55)
+                        | (int) (in[30 + inpos] << 6);
+                out[58 + outpos] = (int) (in[30 + inpos] >>> 26);
+                out[59 + outpos] = (int) ((in[30 + inpos] & 2305843009213693951L) >>> 58)
+                        | (int) (in[31 + inpos] << 3);
+                out[60 + outpos] = (int) (in[31 + inpos] >>> 29);
+        }
+
+        protected static void fastpack62(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) in[0 + inpos];
+                out[1 + outpos] = (int) ((in[0 + inpos] & 4611686018427387903L) >>> 32)
+                        | (int) (in[1 + inpos] << 30);
+                out[2 + outpos] = (int) (in[1 + inpos] >>> 2);
+                out[3 + outpos] = (int) ((in[1 + inpos] & 4611686018427387903L) >>> 34)
+                        | (int) (in[2 + inpos] << 28);
+                out[4 + outpos] = (int) (in[2 + inpos] >>> 4);
+                out[5 + outpos] = (int) ((in[2 + inpos] & 4611686018427387903L) >>> 36)
+                        | (int) (in[3 + inpos] << 26);
+                out[6 + outpos] = (int) (in[3 + inpos] >>> 6);
+                out[7 + outpos] = (int) ((in[3 + inpos] & 4611686018427387903L) >>> 38)
+                        | (int) (in[4 + inpos] << 24);
+                out[8 + outpos] = (int) (in[4 + inpos] >>> 8);
+                out[9 + outpos] = (int) ((in[4 + inpos] & 4611686018427387903L) >>> 40)
+                        | (int) (in[5 + inpos] << 22);
+                out[10 + outpos] = (int) (in[5 + inpos] >>> 10);
+                out[11 + outpos] = (int) ((in[5 + inpos] & 4611686018427387903L) >>> 42)
+                        | (int) (in[6 + inpos] << 20);
+                out[12 + outpos] = (int) (in[6 + inpos] >>> 12);
+                out[13 + outpos] = (int) ((in[6 + inpos] & 4611686018427387903L) >>> 44)
+                        | (int) (in[7 + inpos] << 18);
+                out[14 + outpos] = (int) (in[7 + inpos] >>> 14);
+                out[15 + outpos] = (int) ((in[7 + inpos] & 4611686018427387903L) >>> 46)
+                        | (int) (in[8 + inpos] << 16);
+                out[16 + outpos] = (int) (in[8 + inpos] >>> 16);
+                out[17 + outpos] = (int) ((in[8 + inpos] & 4611686018427387903L) >>> 48)
+                        | (int) (in[9 + inpos] << 14);
+                out[18 + outpos] = (int) (in[9 + inpos] >>> 18);
+                out[19 + outpos] = (int) ((in[9 + inpos] & 4611686018427387903L) >>> 50)
+                        | (int) (in[10 + inpos] << 12);
+                out[20 + outpos] = (int) (in[10 + inpos] >>> 20);
+                out[21 + outpos] = (int) ((in[10 + inpos] & 4611686018427387903L) >>> 52)
+                        | (int) (in[11 + inpos] << 10);
+                out[22 + outpos] = (int) (in[11 + inpos] >>> 22);
+                out[23 + outpos] = (int) ((in[11 + inpos] & 4611686018427387903L) >>> 54)
+                        | (int) (in[12 + inpos] << 8);
+                out[24 + outpos] = (int) (in[12 + inpos] >>> 24);
+                out[25 + outpos] = (int) ((in[12 + inpos] & 4611686018427387903L) >>> 56)
+                        | (int) (in[13 + inpos] << 6);
+                out[26 + outpos] = (int) (in[13 + inpos] >>> 26);
+                out[27 + outpos] = (int) ((in[13 + inpos] & 4611686018427387903L) >>> 58)
+                        | (int) (in[14 + inpos] << 4);
+                out[28 + outpos] = (int) (in[14 + inpos] >>> 28);
+                out[29 + outpos] = (int) ((in[14 + inpos] & 4611686018427387903L) >>> 60)
+                        | (int) (in[15 + inpos] << 2);
+                out[30 + outpos] = (int) (in[15 + inpos] >>> 30);
+                out[31 + outpos] = (int) in[16 + inpos];
+                out[32 + outpos] = (int) ((in[16 + inpos] & 4611686018427387903L) >>> 32)
+                        | (int) (in[17 + inpos] << 30);
+                out[33 + outpos] = (int) (in[17 + inpos] >>> 2);
+                out[34 + outpos] = (int) ((in[17 + inpos] & 4611686018427387903L) >>> 34)
+                        | (int) (in[18 + inpos] << 28);
+                out[35 + outpos] = (int) (in[18 + inpos] >>> 4);
+                out[36 + outpos] = (int) ((in[18 + inpos] & 4611686018427387903L) >>> 36)
+                        | (int) (in[19 + inpos] << 26);
+                out[37 + outpos] = (int) (in[19 + inpos] >>> 6);
+                out[38 + outpos] = (int) ((in[19 + inpos] & 4611686018427387903L) >>> 38)
+                        | (int) (in[20 + inpos] << 24);
+                out[39 + outpos] = (int) (in[20 + inpos] >>> 8);
+                out[40 + outpos] = (int) ((in[20 + inpos] & 4611686018427387903L) >>> 40)
+                        | (int) (in[21 + inpos] << 22);
+                out[41 + outpos] = (int) (in[21 + inpos] >>> 10);
+                out[42 + outpos] = (int) ((in[21 + inpos] & 4611686018427387903L) >>> 42)
+                        | (int) (in[22 + inpos] << 20);
+                out[43 + outpos] = (int) (in[22 + inpos] >>> 12);
+                out[44 + outpos] = (int) ((in[22 + inpos] & 4611686018427387903L) >>> 44)
+                        | (int) (in[23 + inpos] << 18);
+                out[45 + outpos] = (int) (in[23 + inpos] >>> 14);
+                out[46 + outpos] = (int) ((in[23 + inpos] & 4611686018427387903L) >>> 46)
+                        | (int) (in[24 + inpos] << 16);
+                out[47 + outpos] = (int) (in[24 + inpos] >>> 16);
+                out[48 + outpos] = (int) ((in[24 + inpos] & 4611686018427387903L) >>> 48)
+                        | (int) (in[25 + inpos] << 14);
+                out[49 + outpos] = (int) (in[25 + inpos] >>> 18);
+                out[50 + outpos] = (int) ((in[25 + inpos] & 4611686018427387903L) >>> 50)
+                        | (int) (in[26 + inpos] << 12);
+                out[51 + outpos] = (int) (in[26 + inpos] >>> 20);
+                out[52 + outpos] = (int) ((in[26 + inpos] & 4611686018427387903L) >>> 52)
+                        | (int) (in[27 + inpos] << 10);
+                out[53 + outpos] = (int) (in[27 + inpos] >>> 22);
+                out[54 + outpos] = (int) ((in[27 + inpos] & 4611686018427387903L) >>> 54)
+                        | (int) (in[28 + inpos] << 8);
+                out[55 + outpos] = (int) (in[28 + inpos] >>> 24);
+                out[56 + outpos] = (int) ((in[28 + inpos] & 4611686018427387903L) >>> 56)
+                        | (int) (in[29 + inpos] << 6);
+                out[57 + outpos] = (int) (in[29 + inpos] >>> 26);
+                out[58 + outpos] = (int) ((in[29 + inpos] & 4611686018427387903L) >>> 58)
+                        | (int) (in[30 + inpos] << 4);
+                out[59 + outpos] = (int) (in[30 + inpos] >>> 28);
+                out[60 + outpos] = (int) ((in[30 + inpos] & 4611686018427387903L) >>> 60)
+                        | (int) (in[31 + inpos] << 2);
+                out[61 + outpos] = (int) (in[31 + inpos] >>> 30);
+        }
+
+        protected static void fastpack63(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) in[0 + inpos];
+                out[1 + outpos] = (int) ((in[0 + inpos] & 9223372036854775807L) >>> 32)
+                        | (int) (in[1 + inpos] << 31);
+                out[2 + outpos] = (int) (in[1 + inpos] >>> 1);
+                out[3 + outpos] = (int) ((in[1 + inpos] & 9223372036854775807L) >>> 33)
+                        | (int) (in[2 + inpos] << 30);
+                out[4 + outpos] = (int) (in[2 + inpos] >>> 2);
+                out[5 + outpos] = (int) ((in[2 + inpos] & 9223372036854775807L) >>> 34)
+                        | (int) (in[3 + inpos] << 29);
+                out[6 + outpos] = (int) (in[3 + inpos] >>> 3);
+                out[7 + outpos] = (int) ((in[3 + inpos] & 9223372036854775807L) >>> 35)
+                        | (int) (in[4 + inpos] << 28);
+                out[8 + outpos] = (int) (in[4 + inpos] >>> 4);
+                out[9 + outpos] = (int) ((in[4 + inpos] & 9223372036854775807L) >>> 36)
+                        | (int) (in[5 + inpos] << 27);
+                out[10 + outpos] = (int) (in[5 + inpos] >>> 5);
+                out[11 + outpos] = (int) ((in[5 + inpos] & 9223372036854775807L) >>> 37)
+                        | (int) (in[6 + inpos] << 26);
+                out[12 + outpos] = (int) (in[6 + inpos] >>> 6);
+                out[13 + outpos] = (int) ((in[6 + inpos] & 9223372036854775807L) >>> 38)
+                        | (int) (in[7 + inpos] << 25);
+                out[14 + outpos] = (int) (in[7 + inpos] >>> 7);
+                out[15 + outpos] = (int) ((in[7 + inpos] & 9223372036854775807L) >>> 39)
+                        | (int) (in[8 + inpos] << 24);
+                out[16 + outpos] = (int) (in[8 + inpos] >>> 8);
+                out[17 + outpos] = (int) ((in[8 + inpos] & 9223372036854775807L) >>> 40)
+                        | (int) (in[9 + inpos] << 23);
+                out[18 + outpos] = (int) (in[9 + inpos] >>> 9);
+                out[19 + outpos] = (int) ((in[9 + inpos] & 9223372036854775807L) >>> 41)
+                        | (int) (in[10 + inpos] << 22);
+                out[20 + outpos] = (int) (in[10 + inpos] >>> 10);
+                out[21 + outpos] = (int) ((in[10 + inpos] & 9223372036854775807L) >>> 42)
+                        | (int) (in[11 + inpos] << 21);
+                out[22 + outpos] = (int) (in[11 + inpos] >>> 11);
+                out[23 + outpos] = (int) ((in[11 + inpos] & 9223372036854775807L) >>> 43)
+                        | (int) (in[12 + inpos] << 20);
+                out[24 + outpos] = (int) (in[12 + inpos] >>> 12);
+                out[25 + outpos] = (int) ((in[12 + inpos] & 9223372036854775807L) >>> 44)
+                        | (int) (in[13 + inpos] << 19);
+                out[26 + outpos] = (int) (in[13 + inpos] >>> 13);
+                out[27 + outpos] = (int) ((in[13 + inpos] & 9223372036854775807L) >>> 45)
+                        | (int) (in[14 + inpos] << 18);
+                out[28 + outpos] = (int) (in[14 + inpos] >>> 14);
+                out[29 + outpos] = (int) ((in[14 + inpos] & 9223372036854775807L) >>> 46)
+                        | (int) (in[15 + inpos] << 17);
+                out[30 + outpos] = (int) (in[15 + inpos] >>> 15);
+                out[31 + outpos] = (int) ((in[15 + inpos] & 9223372036854775807L) >>> 47)
+                        | (int) (in[16 + inpos] << 16);
+                out[32 + outpos] = (int) (in[16 + inpos] >>> 16);
+                out[33 + outpos] = (int) ((in[16 + inpos] & 9223372036854775807L) >>> 48)
+                        | (int) (in[17 + inpos] << 15);
+                out[34 + outpos] = (int) (in[17 + inpos] >>> 17);
+                out[35 + outpos] = (int) ((in[17 + inpos] & 9223372036854775807L) >>> 49)
+                        | (int) (in[18 + inpos] << 14);
+                out[36 + outpos] = (int) (in[18 + inpos] >>> 18);
+                out[37 + outpos] = (int) ((in[18 + inpos] & 9223372036854775807L) >>> 50)
+                        | (int) (in[19 + inpos] << 13);
+                out[38 + outpos] = (int) (in[19 + inpos] >>> 19);
+                out[39 + outpos] = (int) ((in[19 + inpos] & 9223372036854775807L) >>> 51)
+                        | (int) (in[20 + inpos] << 12);
+                out[40 + outpos] = (int) (in[20 + inpos] >>> 20);
+                out[41 + outpos] = (int) ((in[20 + inpos] & 9223372036854775807L) >>> 52)
+                        | (int) (in[21 + inpos] << 11);
+                out[42 + outpos] = (int) (in[21 + inpos] >>> 21);
+                out[43 + outpos] = (int) ((in[21 + inpos] & 9223372036854775807L) >>> 53)
+                        | (int) (in[22 + inpos] << 10);
+                out[44 + outpos] = (int) (in[22 + inpos] >>> 22);
+                out[45 + outpos] = (int) ((in[22 + inpos] & 9223372036854775807L) >>> 54)
+                        | (int) (in[23 + inpos] << 9);
+                out[46 + outpos] = (int) (in[23 + inpos] >>> 23);
+                out[47 + outpos] = (int) ((in[23 + inpos] & 9223372036854775807L) >>> 55)
+                        | (int) (in[24 + inpos] << 8);
+                out[48 + outpos] = (int) (in[24 + inpos] >>> 24);
+                out[49 + outpos] = (int) ((in[24 + inpos] & 9223372036854775807L) >>> 56)
+                        | (int) (in[25 + inpos] << 7);
+                out[50 + outpos] = (int) (in[25 + inpos] >>> 25);
+                out[51 + outpos] = (int) ((in[25 + inpos] & 9223372036854775807L) >>> 57)
+                        | (int) (in[26 + inpos] << 6);
+                out[52 + outpos] = (int) (in[26 + inpos] >>> 26);
+                out[53 + outpos] = (int) ((in[26 + inpos] & 9223372036854775807L) >>> 58)
+                        | (int) (in[27 + inpos] << 5);
+                out[54 + outpos] = (int) (in[27 + inpos] >>> 27);
+                out[55 + outpos] = (int) ((in[27 + inpos] & 9223372036854775807L) >>> 59)
+                        | (int) (in[28 + inpos] << 4);
+                out[56 + outpos] = (int) (in[28 + inpos] >>> 28);
+                out[57 + outpos] = (int) ((in[28 + inpos] & 9223372036854775807L) >>> 60)
+                        | (int) (in[29 + inpos] << 3);
+                out[58 + outpos] = (int) (in[29 + inpos] >>> 29);
+                out[59 + outpos] = (int) ((in[29 + inpos] & 9223372036854775807L) >>> 61)
+                        | (int) (in[30 + inpos] << 2);
+                out[60 + outpos] = (int) (in[30 + inpos] >>> 30);
+                out[61 + outpos] = (int) ((in[30 + inpos] & 9223372036854775807L) >>> 62)
+                        | (int) (in[31 + inpos] << 1);
+                out[62 + outpos] = (int) (in[31 + inpos] >>> 31);
+        }
+
+        protected static void fastpack64(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) in[0 + inpos];
+                out[1 + outpos] = (int) (in[0 + inpos] >>> 32);
+                out[2 + outpos] = (int) in[1 + inpos];
+                out[3 + outpos] = (int) (in[1 + inpos] >>> 32);
+                out[4 + outpos] = (int) in[2 + inpos];
+                out[5 + outpos] = (int) (in[2 + inpos] >>> 32);
+                out[6 + outpos] = (int) in[3 + inpos];
+                out[7 + outpos] = (int) (in[3 + inpos] >>> 32);
+                out[8 + outpos] = (int) in[4 + inpos];
+                out[9 + outpos] = (int) (in[4 + inpos] >>> 32);
+                out[10 + outpos] = (int) in[5 + inpos];
+                out[11 + outpos] = (int) (in[5 + inpos] >>> 32);
+                out[12 + outpos] = (int) in[6 + inpos];
+                out[13 + outpos] = (int) (in[6 + inpos] >>> 32);
+                out[14 + outpos] = (int) in[7 + inpos];
+                out[15 + outpos] = (int) (in[7 + inpos] >>> 32);
+                out[16 + outpos] = (int) in[8 + inpos];
+                out[17 + outpos] = (int) (in[8 + inpos] >>> 32);
+                out[18 + outpos] = (int) in[9 + inpos];
+                out[19 + outpos] = (int) (in[9 + inpos] >>> 32);
+                out[20 + outpos] = (int) in[10 + inpos];
+                out[21 + outpos] = (int) (in[10 + inpos] >>> 32);
+                out[22 + outpos] = (int) in[11 + inpos];
+                out[23 + outpos] = (int) (in[11 + inpos] >>> 32);
+                out[24 + outpos] = (int) in[12 + inpos];
+                out[25 + outpos] = (int) (in[12 + inpos] >>> 32);
+                out[26 + outpos] = (int) in[13 + inpos];
+                out[27 + outpos] = (int) (in[13 + inpos] >>> 32);
+                out[28 + outpos] = (int) in[14 + inpos];
+                out[29 + outpos] = (int) (in[14 + inpos] >>> 32);
+                out[30 + outpos] = (int) in[15 + inpos];
+                out[31 + outpos] = (int) (in[15 + inpos] >>> 32);
+                out[32 + outpos] = (int) in[16 + inpos];
+                out[33 + outpos] = (int) (in[16 + inpos] >>> 32);
+                out[34 + outpos] = (int) in[17 + inpos];
+                out[35 + outpos] = (int) (in[17 + inpos] >>> 32);
+                out[36 + outpos] = (int) in[18 + inpos];
+                out[37 + outpos] = (int) (in[18 + inpos] >>> 32);
+                out[38 + outpos] = (int) in[19 + inpos];
+                out[39 + outpos] = (int) (in[19 + inpos] >>> 32);
+                out[40 + outpos] = (int) in[20 + inpos];
+                out[41 + outpos] = (int) (in[20 + inpos] >>> 32);
+                out[42 + outpos] = (int) in[21 + inpos];
+                out[43 + outpos] = (int) (in[21 + inpos] >>> 32);
+                out[44 + outpos] = (int) in[22 + inpos];
+                out[45 + outpos] = (int) (in[22 + inpos] >>> 32);
+                out[46 + outpos] = (int) in[23 + inpos];
+                out[47 + outpos] = (int) (in[23 + inpos] >>> 32);
+                out[48 + outpos] = (int) in[24 + inpos];
+                out[49 + outpos] = (int) (in[24 + inpos] >>> 32);
+                out[50 + outpos] = (int) in[25 + inpos];
+                out[51 + outpos] = (int) (in[25 + inpos] >>> 32);
+                out[52 + outpos] = (int) in[26 + inpos];
+                out[53 + outpos] = (int) (in[26 + inpos] >>> 32);
+                out[54 + outpos] = (int) in[27 + inpos];
+                out[55 + outpos] = (int) (in[27 + inpos] >>> 32);
+                out[56 + outpos] = (int) in[28 + inpos];
+                out[57 + outpos] = (int) (in[28 + inpos] >>> 32);
+                out[58 + outpos] = (int) in[29 + inpos];
+                out[59 + outpos] = (int) (in[29 + inpos] >>> 32);
+                out[60 + outpos] = (int) in[30 + inpos];
+                out[61 + outpos] = (int) (in[30 + inpos] >>> 32);
+                out[62 + outpos] = (int) in[31 + inpos];
+                out[63 + outpos] = (int) (in[31 + inpos] >>> 32);
+        }
+
+        protected static void fastpack7(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) (in[0 + inpos] & 127L)
+                        | (int) ((in[1 + inpos] & 127L) << 7)
+                        | (int) ((in[2 + inpos] & 127L) << 14)
+                        | (int) ((in[3 + inpos] & 127L) << 21)
+                        | (int) (in[4 + inpos] << 28);
+                out[1 + outpos] = (int) ((in[4 + inpos] & 127L) >>> 4)
+                        | (int) ((in[5 + inpos] & 127L) << 3)
+                        | (int) ((in[6 + inpos] & 127L) << 10)
+                        | (int) ((in[7 + inpos] & 127L) << 17)
+                        | (int) ((in[8 + inpos] & 127L) << 24)
+                        | (int) (in[9 + inpos] << 31);
+                out[2 + outpos] = (int) ((in[9 + inpos] & 127L) >>> 1)
+                        | (int) ((in[10 + inpos] & 127L) << 6)
+                        | (int) ((in[11 + inpos] & 127L) << 13)
+                        | (int) ((in[12 + inpos] & 127L) << 20)
+                        | (int) (in[13 + inpos] << 27);
+                out[3 + outpos] = (int) ((in[13 + inpos] & 127L) >>> 5)
+                        | (int) ((in[14 + inpos] & 127L) << 2)
+                        | (int) ((in[15 + inpos] & 127L) << 9)
+                        | (int) ((in[16 + inpos] & 127L) << 16)
+                        | (int) ((in[17 + inpos] & 127L) << 23)
+                        | (int) (in[18 + inpos] << 30);
+                out[4 + outpos] = (int) ((in[18 + inpos] & 127L) >>> 2)
+                        | (int) ((in[19 + inpos] & 127L) << 5)
+                        | (int) ((in[20 + inpos] & 127L) << 12)
+                        | (int) ((in[21 + inpos] & 127L) << 19)
+                        | (int) (in[22 + inpos] << 26);
+                out[5 + outpos] = (int) ((in[22 + inpos] & 127L) >>> 6)
+                        | (int) ((in[23 + inpos] & 127L) << 1)
+                        | (int) ((in[24 + inpos] & 127L) << 8)
+                        | (int) ((in[25 + inpos] & 127L) << 15)
+                        | (int) ((in[26 + inpos] & 127L) << 22)
+                        | (int) (in[27 + inpos] << 29);
+                out[6 + outpos] = (int) ((in[27 + inpos] & 127L) >>> 3)
+                        | (int) ((in[28 + inpos] & 127L) << 4)
+                        | (int) ((in[29 + inpos] & 127L) << 11)
+                        | (int) ((in[30 + inpos] & 127L) << 18)
+                        | (int) (in[31 + inpos] << 25);
+        }
+
+        protected static void fastpack8(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) (in[0 + inpos] & 255L)
+                        | (int) ((in[1 + inpos] & 255L) << 8)
+                        | (int) ((in[2 + inpos] & 255L) << 16)
+                        | (int) (in[3 + inpos] << 24);
+                out[1 + outpos] = (int) (in[4 + inpos] & 255L)
+                        | (int) ((in[5 + inpos] & 255L) << 8)
+                        | (int) ((in[6 + inpos] & 255L) << 16)
+                        | (int) (in[7 + inpos] << 24);
+                out[2 + outpos] = (int) (in[8 + inpos] & 255L)
+                        | (int) ((in[9 + inpos] & 255L) << 8)
+                        | (int) ((in[10 + inpos] & 255L) << 16)
+                        | (int) (in[11 + inpos] << 24);
+                out[3 + outpos] = (int) (in[12 + inpos] & 255L)
+                        | (int) ((in[13 + inpos] & 255L) << 8)
+                        | (int) ((in[14 + inpos] & 255L) << 16)
+                        | (int) (in[15 + inpos] << 24);
+                out[4 + outpos] = (int) (in[16 + inpos] & 255L)
+                        | (int) ((in[17 + inpos] & 255L) << 8)
+                        | (int) ((in[18 + inpos] & 255L) << 16)
+                        | (int) (in[19 + inpos] << 24);
+                out[5 + outpos] = (int) (in[20 + inpos] & 255L)
+                        | (int) ((in[21 + inpos] & 255L) << 8)
+                        | (int) ((in[22 + inpos] & 255L) << 16)
+                        | (int) (in[23 + inpos] << 24);
+                out[6 + outpos] = (int) (in[24 + inpos] & 255L)
+                        | (int) ((in[25 + inpos] & 255L) << 8)
+                        | (int) ((in[26 + inpos] & 255L) << 16)
+                        | (int) (in[27 + inpos] << 24);
+                out[7 + outpos] = (int) (in[28 + inpos] & 255L)
+                        | (int) ((in[29 + inpos] & 255L) << 8)
+                        | (int) ((in[30 + inpos] & 255L) << 16)
+                        | (int) (in[31 + inpos] << 24);
+        }
+
+        protected static void fastpack9(final long[] in, int inpos,
+                final int[] out, int outpos) {
+                out[0 + outpos] = (int) (in[0 + inpos] & 511L)
+                        | (int) ((in[1 + inpos] & 511L) << 9)
+                        | (int) ((in[2 + inpos] & 511L) << 18)
+                        | (int) (in[3 + inpos] << 27);
+                out[1 + outpos] = (int) ((in[3 + inpos] & 511L) >>> 5)
+                        | (int) ((in[4 + inpos] & 511L) << 4)
+                        | (int) ((in[5 + inpos] & 511L) << 13)
+                        | (int) ((in[6 + inpos] & 511L) << 22)
+                        | (int) (in[7 + inpos] << 31);
+                out[2 + outpos] = (int) ((in[7 + inpos] & 511L) >>> 1)
+                        | (int) ((in[8 + inpos] & 511L) << 8)
+                        | (int) ((in[9 + inpos] & 511L) << 17)
+                        | (int) (in[10 + inpos] << 26);
+                out[3 + outpos] = (int) ((in[10 + inpos] & 511L) >>> 6)
+                        | (int) ((in[11 + inpos] & 511L) << 3)
+                        | (int) ((in[12 + inpos] & 511L) << 12)
+                        | (int) ((in[13 + inpos] & 511L) << 21)
+                        | (int) (in[14 + inpos] << 30);
+                out[4 + outpos] = (int) ((in[14 + inpos] & 511L) >>> 2)
+                        | (int) ((in[15 + inpos] & 511L) << 7)
+                        | (int) ((in[16 + inpos] & 511L) << 16)
+                        | (int) (in[17 + inpos] << 25);
+                out[5 + outpos] = (int) ((in[17 + inpos] & 511L) >>> 7)
+                        | (int) ((in[18 + inpos] & 511L) << 2)
+                        | (int) ((in[19 + inpos] & 511L) << 11)
+                        | (int) ((in[20 + inpos] & 511L) << 20)
+                        | (int) (in[21 + inpos] << 29);
+                out[6 + outpos] = (int) ((in[21 + inpos] & 511L) >>> 3)
+                        | (int) ((in[22 + inpos] & 511L) << 6)
+                        | (int) ((in[23 + inpos] & 511L) << 15)
+                        | (int) (in[24 + inpos] << 24);
+                out[7 + outpos] = (int) ((in[24 + inpos] & 511L) >>> 8)
+                        | (int) ((in[25 + inpos] & 511L) << 1)
+                        | (int) ((in[26 + inpos] & 511L) << 10)
+                        | (int) ((in[27 + inpos] & 511L) << 19)
+                        | (int) (in[28 + inpos] << 28);
+                out[8 + outpos] = (int) ((in[28 + inpos] & 511L) >>> 4)
+                        | (int) ((in[29 + inpos] & 511L) << 5)
+                        | (int) ((in[30 + inpos] & 511L) << 14)
+                        | (int) (in[31 + inpos] << 23);
+        }
+
+        /**
+         * Unpack 32 longs from bit 32-bit words
+         * 
+         * @param in
+         *                source array
+         * @param inpos
+         *                position in source array
+         * @param out
+         *                output array
+         * @param outpos
+         *                position in output array
+         * @param bit
+         *                number of bits used per long (0 to 64)
+         */
+        public static void fastunpack(final int[] in, final int inpos,
+                final long[] out, final int outpos, final int bit) {
+                switch (bit) {
+                case 0:
+                        fastunpack0(in, inpos, out, outpos);
+                        break;
+                case 1:
+                        fastunpack1(in, inpos, out, outpos);
+                        break;
+                case 2:
+                        fastunpack2(in, inpos, out, outpos);
+                        break;
+                case 3:
+                        fastunpack3(in, inpos, out, outpos);
+                        break;
+                case 4:
+                        fastunpack4(in, inpos, out, outpos);
+                        break;
+                case 5:
+                        fastunpack5(in, inpos, out, outpos);
+                        break;
+                case 6:
+                        fastunpack6(in, inpos, out, outpos);
+                        break;
+                case 7:
+                        fastunpack7(in, inpos, out, outpos);
+                        break;
+                case 8:
+                        fastunpack8(in, inpos, out, outpos);
+                        break;
+                case 9:
+                        fastunpack9(in, inpos, out, outpos);
+                        break;
+                case 10:
+                        fastunpack10(in, inpos, out, outpos);
+                        break;
+                case 11:
+                        fastunpack11(in, inpos, out, outpos);
+                        break;
+                case 12:
+                        fastunpack12(in, inpos, out, outpos);
+                        break;
+                case 13:
+                        fastunpack13(in, inpos, out, outpos);
+                        break;
+                case 14:
+                        fastunpack14(in, inpos, out, outpos);
+                        break;
+                case 15:
+                        fastunpack15(in, inpos, out, outpos);
+                        break;
+                case 16:
+                        fastunpack16(in, inpos, out, outpos);
+                        break;
+                case 17:
+                        fastunpack17(in, inpos, out, outpos);
+                        break;
+                case 18:
+                        fastunpack18(in, inpos, out, outpos);
+                        break;
+                case 19:
+                        fastunpack19(in, inpos, out, outpos);
+                        break;
+                case 20:
+                        fastunpack20(in, inpos, out, outpos);
+                        break;
+                case 21:
+                        fastunpack21(in, inpos, out, outpos);
+                        break;
+                case 22:
+                        fastunpack22(in, inpos, out, outpos);
+                        break;
+                case 23:
+                        fastunpack23(in, inpos, out, outpos);
+                        break;
+                case 24:
+                        fastunpack24(in, inpos, out, outpos);
+                        break;
+                case 25:
+                        fastunpack25(in, inpos, out, outpos);
+                        break;
+                case 26:
+                        fastunpack26(in, inpos, out, outpos);
+                        break;
+                case 27:
+                        fastunpack27(in, inpos, out, outpos);
+                        break;
+                case 28:
+                        fastunpack28(in, inpos, out, outpos);
+                        break;
+                case 29:
+                        fastunpack29(in, inpos, out, outpos);
+                        break;
+                case 30:
+                        fastunpack30(in, inpos, out, outpos);
+                        break;
+                case 31:
+                        fastunpack31(in, inpos, out, outpos);
+                        break;
+                case 32:
+                        fastunpack32(in, inpos, out, outpos);
+                        break;
+                case 33:
+                        fastunpack33(in, inpos, out, outpos);
+                        break;
+                case 34:
+                        fastunpack34(in, inpos, out, outpos);
+                        break;
+                case 35:
+                        fastunpack35(in, inpos, out, outpos);
+                        break;
+                case 36:
+                        fastunpack36(in, inpos, out, outpos);
+                        break;
+                case 37:
+                        fastunpack37(in, inpos, out, outpos);
+                        break;
+                case 38:
+                        fastunpack38(in, inpos, out, outpos);
+                        break;
+                case 39:
+                        fastunpack39(in, inpos, out, outpos);
+                        break;
+                case 40:
+                        fastunpack40(in, inpos, out, outpos);
+                        break;
+                case 41:
+                        fastunpack41(in, inpos, out, outpos);
+                        break;
+                case 42:
+                        fastunpack42(in, inpos, out, outpos);
+                        break;
+                case 43:
+                        fastunpack43(in, inpos, out, outpos);
+                        break;
+                case 44:
+                        fastunpack44(in, inpos, out, outpos);
+                        break;
+                case 45:
+                        fastunpack45(in, inpos, out, outpos);
+                        break;
+                case 46:
+                        fastunpack46(in, inpos, out, outpos);
+                        break;
+                case 47:
+                        fastunpack47(in, inpos, out, outpos);
+                        break;
+                case 48:
+                        fastunpack48(in, inpos, out, outpos);
+                        break;
+                case 49:
+                        fastunpack49(in, inpos, out, outpos);
+                        break;
+                case 50:
+                        fastunpack50(in, inpos, out, outpos);
+                        break;
+                case 51:
+                        fastunpack51(in, inpos, out, outpos);
+                        break;
+                case 52:
+                        fastunpack52(in, inpos, out, outpos);
+                        break;
+                case 53:
+                        fastunpack53(in, inpos, out, outpos);
+                        break;
+                case 54:
+                        fastunpack54(in, inpos, out, outpos);
+                        break;
+                case 55:
+                        fastunpack55(in, inpos, out, outpos);
+                        break;
+                case 56:
+                        fastunpack56(in, inpos, out, outpos);
+                        break;
+                case 57:
+                        fastunpack57(in, inpos, out, outpos);
+                        break;
+                case 58:
+                        fastunpack58(in, inpos, out, outpos);
+                        break;
+                case 59:
+                        fastunpack59(in, inpos, out, outpos);
+                        break;
+                case 60:
+                        fastunpack60(in, inpos, out, outpos);
+                        break;
+                case 61:
+                        fastunpack61(in, inpos, out, outpos);
+                        break;
+                case 62:
+                        fastunpack62(in, inpos, out, outpos);
+                        break;
+                case 63:
+                        fastunpack63(in, inpos, out, outpos);
+                        break;
+                case 64:
+                        fastunpack64(in, inpos, out, outpos);
+                        break;
+                default:
+                        throw new IllegalArgumentException(
+                                "Unsupported bit width.");
+                }
+        }
+
+        protected static void fastunpack0(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                Arrays.fill(out, outpos, outpos + 32, 0);
+        }
+
+        protected static void fastunpack1(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (long) (in[0 + inpos] & 1);
+                out[1 + outpos] = (long) ((in[0 + inpos] >>> 1) & 1);
+                out[2 + outpos] = (long) ((in[0 + inpos] >>> 2) & 1);
+                out[3 + outpos] = (long) ((in[0 + inpos] >>> 3) & 1);
+                out[4 + outpos] = (long) ((in[0 + inpos] >>> 4) & 1);
+                out[5 + outpos] = (long) ((in[0 + inpos] >>> 5) & 1);
+                out[6 + outpos] = (long) ((in[0 + inpos] >>> 6) & 1);
+                out[7 + outpos] = (long) ((in[0 + inpos] >>> 7) & 1);
+                out[8 + outpos] = (long) ((in[0 + inpos] >>> 8) & 1);
+                out[9 + outpos] = (long) ((in[0 + inpos] >>> 9) & 1);
+                out[10 + outpos] = (long) ((in[0 + inpos] >>> 10) & 1);
+                out[11 + outpos] = (long) ((in[0 + inpos] >>> 11) & 1);
+                out[12 + outpos] = (long) ((in[0 + inpos] >>> 12) & 1);
+                out[13 + outpos] = (long) ((in[0 + inpos] >>> 13) & 1);
+                out[14 + outpos] = (long) ((in[0 + inpos] >>> 14) & 1);
+                out[15 + outpos] = (long) ((in[0 + inpos] >>> 15) & 1);
+                out[16 + outpos] = (long) ((in[0 + inpos] >>> 16) & 1);
+                out[17 + outpos] = (long) ((in[0 + inpos] >>> 17) & 1);
+                out[18 + outpos] = (long) ((in[0 + inpos] >>> 18) & 1);
+                out[19 + outpos] = (long) ((in[0 + inpos] >>> 19) & 1);
+                out[20 + outpos] = (long) ((in[0 + inpos] >>> 20) & 1);
+                out[21 + outpos] = (long) ((in[0 + inpos] >>> 21) & 1);
+                out[22 + outpos] = (long) ((in[0 + inpos] >>> 22) & 1);
+                out[23 + outpos] = (long) ((in[0 + inpos] >>> 23) & 1);
+                out[24 + outpos] = (long) ((in[0 + inpos] >>> 24) & 1);
+                out[25 + outpos] = (long) ((in[0 + inpos] >>> 25) & 1);
+                out[26 + outpos] = (long) ((in[0 + inpos] >>> 26) & 1);
+                out[27 + outpos] = (long) ((in[0 + inpos] >>> 27) & 1);
+                out[28 + outpos] = (long) ((in[0 + inpos] >>> 28) & 1);
+                out[29 + outpos] = (long) ((in[0 + inpos] >>> 29) & 1);
+                out[30 + outpos] = (long) ((in[0 + inpos] >>> 30) & 1);
+                out[31 + outpos] = (long) (in[0 + inpos] >>> 31);
+        }
+
+        protected static void fastunpack10(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (long) (in[0 + inpos] & 1023);
+                out[1 + outpos] = (long) ((in[0 + inpos] >>> 10) & 1023);
+                out[2 + outpos] = (long) ((in[0 + inpos] >>> 20) & 1023);
+                out[3 + outpos] = (long) (in[0 + inpos] >>> 30)
+                        | ((long) (in[1 + inpos] & 255) << 2);
+                out[4 + outpos] = (long) ((in[1 + inpos] >>> 8) & 1023);
+                out[5 + outpos] = (long) ((in[1 + inpos] >>> 18) & 1023);
+                out[6 + outpos] = (long) (in[1 + inpos] >>> 28)
+                        | ((long) (in[2 + inpos] & 63) << 4);
+                out[7 + outpos] = (long) ((in[2 + inpos] >>> 6) & 1023);
+                out[8 + outpos] = (long) ((in[2 + inpos] >>> 16) & 1023);
+                out[9 + outpos] = (long) (in[2 + inpos] >>> 26)
+                        | ((long) (in[3 + inpos] & 15) << 6);
+                out[10 + outpos] = (long) ((in[3 + inpos] >>> 4) & 1023);
+                out[11 + outpos] = (long) ((in[3 + inpos] >>> 14) & 1023);
+                out[12 + outpos] = (long) (in[3 + inpos] >>> 24)
+                        | ((long) (in[4 + inpos] & 3) << 8);
+                out[13 + outpos] = (long) ((in[4 + inpos] >>> 2) & 1023);
+                out[14 + outpos] = (long) ((in[4 + inpos] >>> 12) & 1023);
+                out[15 + outpos] = (long) (in[4 + inpos] >>> 22);
+                out[16 + outpos] = (long) (in[5 + inpos] & 1023);
+                out[17 + outpos] = (long) ((in[5 + inpos] >>> 10) & 1023);
+                out[18 + outpos] = (long) ((in[5 + inpos] >>> 20) & 1023);
+                out[19 + outpos] = (long) (in[5 + inpos] >>> 30)
+                        | ((long) (in[6 + inpos] & 255) << 2);
+                out[20 + outpos] = (long) ((in[6 + inpos] >>> 8) & 1023);
+                out[21 + outpos] = (long) ((in[6 + inpos] >>> 18) & 1023);
+                out[22 + outpos] = (long) (in[6 + inpos] >>> 28)
+                        | ((long) (in[7 + inpos] & 63) << 4);
+                out[23 + outpos] = (long) ((in[7 + inpos] >>> 6) & 1023);
+                out[24 + outpos] = (long) ((in[7 + inpos] >>> 16) & 1023);
+                out[25 + outpos] = (long) (in[7 + inpos] >>> 26)
+                        | ((long) (in[8 + inpos] & 15) << 6);
+                out[26 + outpos] = (long) ((in[8 + inpos] >>> 4) & 1023);
+                out[27 + outpos] = (long) ((in[8 + inpos] >>> 14) & 1023);
+                out[28 + outpos] = (long) (in[8 + inpos] >>> 24)
+                        | ((long) (in[9 + inpos] & 3) << 8);
+                out[29 + outpos] = (long) ((in[9 + inpos] >>> 2) & 1023);
+                out[30 + outpos] = (long) ((in[9 + inpos] >>> 12) & 1023);
+                out[31 + outpos] = (long) (in[9 + inpos] >>> 22);
+        }
+
+        protected static void fastunpack11(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (long) (in[0 + inpos] & 2047);
+                out[1 + outpos] = (long) ((in[0 + inpos] >>> 11) & 2047);
+                out[2 + outpos] = (long) (in[0 + inpos] >>> 22)
+                        | ((long) (in[1 + inpos] & 1) << 10);
+                out[3 + outpos] = (long) ((in[1 + inpos] >>> 1) & 2047);
+                out[4 + outpos] = (long) ((in[1 + inpos] >>> 12) & 2047);
+                out[5 + outpos] = (long) (in[1 + inpos] >>> 23)
+                        | ((long) (in[2 + inpos] & 3) << 9);
+                out[6 + outpos] = (long) ((in[2 + inpos] >>> 2) & 2047);
+                out[7 + outpos] = (long) ((in[2 + inpos] >>> 13) & 2047);
+                out[8 + outpos] = (long) (in[2 + inpos] >>> 24)
+                        | ((long) (in[3 + inpos] & 7) << 8);
+                out[9 + outpos] = (long) ((in[3 + inpos] >>> 3) & 2047);
+                out[10 + outpos] = (long) ((in[3 + inpos] >>> 14) & 2047);
+                out[11 + outpos] = (long) (in[3 + inpos] >>> 25)
+                        | ((long) (in[4 + inpos] & 15) << 7);
+                out[12 + outpos] = (long) ((in[4 + inpos] >>> 4) & 2047);
+                out[13 + outpos] = (long) ((in[4 + inpos] >>> 15) & 2047);
+                out[14 + outpos] = (long) (in[4 + inpos] >>> 26)
+                        | ((long) (in[5 + inpos] & 31) << 6);
+                out[15 + outpos] = (long) ((in[5 + inpos] >>> 5) & 2047);
+                out[16 + outpos] = (long) ((in[5 + inpos] >>> 16) & 2047);
+                out[17 + outpos] = (long) (in[5 + inpos] >>> 27)
+                        | ((long) (in[6 + inpos] & 63) << 5);
+                out[18 + outpos] = (long) ((in[6 + inpos] >>> 6) & 2047);
+                out[19 + outpos] = (long) ((in[6 + inpos] >>> 17) & 2047);
+                out[20 + outpos] = (long) (in[6 + inpos] >>> 28)
+                        | ((long) (in[7 + inpos] & 127) << 4);
+                out[21 + outpos] = (long) ((in[7 + inpos] >>> 7) & 2047);
+                out[22 + outpos] = (long) ((in[7 + inpos] >>> 18) & 2047);
+                out[23 + outpos] = (long) (in[7 + inpos] >>> 29)
+                        | ((long) (in[8 + inpos] & 255) << 3);
+                out[24 + outpos] = (long) ((in[8 + inpos] >>> 8) & 2047);
+                out[25 + outpos] = (long) ((in[8 + inpos] >>> 19) & 2047);
+                out[26 + outpos] = (long) (in[8 + inpos] >>> 30)
+                        | ((long) (in[9 + inpos] & 511) << 2);
+                out[27 + outpos] = (long) ((in[9 + inpos] >>> 9) & 2047);
+                out[28 + outpos] = (long) ((in[9 + inpos] >>> 20) & 2047);
+                out[29 + outpos] = (long) (in[9 + inpos] >>> 31)
+                        | ((long) (in[10 + inpos] & 1023) << 1);
+                out[30 + outpos] = (long) ((in[10 + inpos] >>> 10) & 2047);
+                out[31 + outpos] = (long) (in[10 + inpos] >>> 21);
+        }
+
+        protected static void fastunpack12(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (long) (in[0 + inpos] & 4095);
+                out[1 + outpos] = (long) ((in[0 + inpos] >>> 12) & 4095);
+                out[2 + outpos] = (long) (in[0 + inpos] >>> 24)
+                        | ((long) (in[1 + inpos] & 15) << 8);
+                out[3 + outpos] = (long) ((in[1 + inpos] >>> 4) & 4095);
+                out[4 + outpos] = (long) ((in[1 + inpos] >>> 16) & 4095);
+                out[5 + outpos] = (long) (in[1 + inpos] >>> 28)
+                        | ((long) (in[2 + inpos] & 255) << 4);
+                out[6 + outpos] = (long) ((in[2 + inpos] >>> 8) & 4095);
+                out[7 + outpos] = (long) (in[2 + inpos] >>> 20);
+                out[8 + outpos] = (long) (in[3 + inpos] & 4095);
+                out[9 + outpos] = (long) ((in[3 + inpos] >>> 12) & 4095);
+                out[10 + outpos] = (long) (in[3 + inpos] >>> 24)
+                        | ((long) (in[4 + inpos] & 15) << 8);
+                out[11 + outpos] = (long) ((in[4 + inpos] >>> 4) & 4095);
+                out[12 + outpos] = (long) ((in[4 + inpos] >>> 16) & 4095);
+                out[13 + outpos] = (long) (in[4 + inpos] >>> 28)
+                        | ((long) (in[5 + inpos] & 255) << 4);
+                out[14 + outpos] = (long) ((in[5 + inpos] >>> 8) & 4095);
+                out[15 + outpos] = (long) (in[5 + inpos] >>> 20);
+                out[16 + outpos] = (long) (in[6 + inpos] & 4095);
+                out[17 + outpos] = (long) ((in[6 + inpos] >>> 12) & 4095);
+                out[18 + outpos] = (long) (in[6 + inpos] >>> 24)
+                        | ((long) (in[7 + inpos] & 15) << 8);
+                out[19 + outpos] = (long) ((in[7 + inpos] >>> 4) & 4095);
+                out[20 + outpos] = (long) ((in[7 + inpos] >>> 16) & 4095);
+                out[21 + outpos] = (long) (in[7 + inpos] >>> 28)
+                        | ((long) (in[8 + inpos] & 255) << 4);
+                out[22 + outpos] = (long) ((in[8 + inpos] >>> 8) & 4095);
+                out[23 + outpos] = (long) (in[8 + inpos] >>> 20);
+                out[24 + outpos] = (long) (in[9 + inpos] & 4095);
+                out[25 + outpos] = (long) ((in[9 + inpos] >>> 12) & 4095);
+                out[26 + outpos] = (long) (in[9 + inpos] >>> 24)
+                        | ((long) (in[10 + inpos] & 15) << 8);
+                out[27 + outpos] = (long) ((in[10 + inpos] >>> 4) & 4095);
+                out[28 + outpos] = (long) ((in[10 + inpos] >>> 16) & 4095);
+                out[29 + outpos] = (long) (in[10 + inpos] >>> 28)
+                        | ((long) (in[11 + inpos] & 255) << 4);
+                out[30 + outpos] = (long) ((in[11 + inpos] >>> 8) & 4095);
+                out[31 + outpos] = (long) (in[11 + inpos] >>> 20);
+        }
+
+        protected static void fastunpack13(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (long) (in[0 + inpos] & 8191);
+                out[1 + outpos] = (long) ((in[0 + inpos] >>> 13) & 8191);
+                out[2 + outpos] = (long) (in[0 + inpos] >>> 26)
+                        | ((long) (in[1 + inpos] & 127) << 6);
+                out[3 + outpos] = (long) ((in[1 + inpos] >>> 7) & 8191);
+                out[4 + outpos] = (long) (in[1 + inpos] >>> 20)
+                        | ((long) (in[2 + inpos] & 1) << 12);
+                out[5 + outpos] = (long) ((in[2 + inpos] >>> 1) & 8191);
+                out[6 + outpos] = (long) ((in[2 + inpos] >>> 14) & 8191);
+                out[7 + outpos] = (long) (in[2 + inpos] >>> 27)
+                        | ((long) (in[3 + inpos] & 255) << 5);
+                out[8 + outpos] = (long) ((in[3 + inpos] >>> 8) & 8191);
+                out[9 + outpos] = (long) (in[3 + inpos] >>> 21)
+                        | ((long) (in[4 + inpos] & 3) << 11);
+                out[10 + outpos] = (long) ((in[4 + inpos] >>> 2) & 8191);
+                out[11 + outpos] = (long) ((in[4 + inpos] >>> 15) & 8191);
+                out[12 + outpos] = (long) (in[4 + inpos] >>> 28)
+                        | ((long) (in[5 + inpos] & 511) << 4);
+                out[13 + outpos] = (long) ((in[5 + inpos] >>> 9) & 8191);
+                out[14 + outpos] = (long) (in[5 + inpos] >>> 22)
+                        | ((long) (in[6 + inpos] & 7) << 10);
+                out[15 + outpos] = (long) ((in[6 + inpos] >>> 3) & 8191);
+                out[16 + outpos] = (long) ((in[6 + inpos] >>> 16) & 8191);
+                out[17 + outpos] = (long) (in[6 + inpos] >>> 29)
+                        | ((long) (in[7 + inpos] & 1023) << 3);
+                out[18 + outpos] = (long) ((in[7 + inpos] >>> 10) & 8191);
+                out[19 + outpos] = (long) (in[7 + inpos] >>> 23)
+                        | ((long) (in[8 + inpos] & 15) << 9);
+                out[20 + outpos] = (long) ((in[8 + inpos] >>> 4) & 8191);
+                out[21 + outpos] = (long) ((in[8 + inpos] >>> 17) & 8191);
+                out[22 + outpos] = (long) (in[8 + inpos] >>> 30)
+                        | ((long) (in[9 + inpos] & 2047) << 2);
+                out[23 + outpos] = (long) ((in[9 + inpos] >>> 11) & 8191);
+                out[24 + outpos] = (long) (in[9 + inpos] >>> 24)
+                        | ((long) (in[10 + inpos] & 31) << 8);
+                out[25 + outpos] = (long) ((in[10 + inpos] >>> 5) & 8191);
+                out[26 + outpos] = (long) ((in[10 + inpos] >>> 18) & 8191);
+                out[27 + outpos] = (long) (in[10 + inpos] >>> 31)
+                        | ((long) (in[11 + inpos] & 4095) << 1);
+                out[28 + outpos] = (long) ((in[11 + inpos] >>> 12) & 8191);
+                out[29 + outpos] = (long) (in[11 + inpos] >>> 25)
+                        | ((long) (in[12 + inpos] & 63) << 7);
+                out[30 + outpos] = (long) ((in[12 + inpos] >>> 6) & 8191);
+                out[31 + outpos] = (long) (in[12 + inpos] >>> 19);
+        }
+
+        protected static void fastunpack14(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (long) (in[0 + inpos] & 16383);
+                out[1 + outpos] = (long) ((in[0 + inpos] >>> 14) & 16383);
+                out[2 + outpos] = (long) (in[0 + inpos] >>> 28)
+                        | ((long) (in[1 + inpos] & 1023) << 4);
+                out[3 + outpos] = (long) ((in[1 + inpos] >>> 10) & 16383);
+                out[4 + outpos] = (long) (in[1 + inpos] >>> 24)
+                        | ((long) (in[2 + inpos] & 63) << 8);
+                out[5 + outpos] = (long) ((in[2 + inpos] >>> 6) & 16383);
+                out[6 + outpos] = (long) (in[2 + inpos] >>> 20)
+                        | ((long) (in[3 + inpos] & 3) << 12);
+                out[7 + outpos] = (long) ((in[3 + inpos] >>> 2) & 16383);
+                out[8 + outpos] = (long) ((in[3 + inpos] >>> 16) & 16383);
+                out[9 + outpos] = (long) (in[3 + inpos] >>> 30)
+                        | ((long) (in[4 + inpos] & 4095) << 2);
+                out[10 + outpos] = (long) ((in[4 + inpos] >>> 12) & 16383);
+                out[11 + outpos] = (long) (in[4 + inpos] >>> 26)
+                        | ((long) (in[5 + inpos] & 255) << 6);
+                out[12 + outpos] = (long) ((in[5 + inpos] >>> 8) & 16383);
+                out[13 + outpos] = (long) (in[5 + inpos] >>> 22)
+                        | ((long) (in[6 + inpos] & 15) << 10);
+                out[14 + outpos] = (long) ((in[6 + inpos] >>> 4) & 16383);
+                out[15 + outpos] = (long) (in[6 + inpos] >>> 18);
+                out[16 + outpos] = (long) (in[7 + inpos] & 16383);
+                out[17 + outpos] = (long) ((in[7 + inpos] >>> 14) & 16383);
+                out[18 + outpos] = (long) (in[7 + inpos] >>> 28)
+                        | ((long) (in[8 + inpos] & 1023) << 4);
+                out[19 + outpos] = (long) ((in[8 + inpos] >>> 10) & 16383);
+                out[20 + outpos] = (long) (in[8 + inpos] >>> 24)
+                        | ((long) (in[9 + inpos] & 63) << 8);
+                out[21 + outpos] = (long) ((in[9 + inpos] >>> 6) & 16383);
+                out[22 + outpos] = (long) (in[9 + inpos] >>> 20)
+                        | ((long) (in[10 + inpos] & 3) << 12);
+                out[23 + outpos] = (long) ((in[10 + inpos] >>> 2) & 16383);
+                out[24 + outpos] = (long) ((in[10 + inpos] >>> 16) & 16383);
+                out[25 + outpos] = (long) (in[10 + inpos] >>> 30)
+                        | ((long) (in[11 + inpos] & 4095) << 2);
+                out[26 + outpos] = (long) ((in[11 + inpos] >>> 12) & 16383);
+                out[27 + outpos] = (long) (in[11 + inpos] >>> 26)
+                        | ((long) (in[12 + inpos] & 255) << 6);
+                out[28 + outpos] = (long) ((in[12 + inpos] >>> 8) & 16383);
+                out[29 + outpos] = (long) (in[12 + inpos] >>> 22)
+                        | ((long) (in[13 + inpos] & 15) << 10);
+                out[30 + outpos] = (long) ((in[13 + inpos] >>> 4) & 16383);
+                out[31 + outpos] = (long) (in[13 + inpos] >>> 18);
+        }
+
+        protected static void fastunpack15(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (long) (in[0 + inpos] & 32767);
+                out[1 + outpos] = (long) ((in[0 + inpos] >>> 15) & 32767);
+                out[2 + outpos] = (long) (in[0 + inpos] >>> 30)
+                        | ((long) (in[1 + inpos] & 8191) << 2);
+                out[3 + outpos] = (long) ((in[1 + inpos] >>> 13) & 32767);
+                out[4 + outpos] = (long) (in[1 + inpos] >>> 28)
+                        | ((long) (in[2 + inpos] & 2047) << 4);
+                out[5 + outpos] = (long) ((in[2 + inpos] >>> 11) & 32767);
+                out[6 + outpos] = (long) (in[2 + inpos] >>> 26)
+                        | ((long) (in[3 + inpos] & 511) << 6);
+                out[7 + outpos] = (long) ((in[3 + inpos] >>> 9) & 32767);
+                out[8 + outpos] = (long) (in[3 + inpos] >>> 24)
+                        | ((long) (in[4 + inpos] & 127) << 8);
+                out[9 + outpos] = (long) ((in[4 + inpos] >>> 7) & 32767);
+                out[10 + outpos] = (long) (in[4 + inpos] >>> 22)
+                        | ((long) (in[5 + inpos] & 31) << 10);
+                out[11 + outpos] = (long) ((in[5 + inpos] >>> 5) & 32767);
+                out[12 + outpos] = (long) (in[5 + inpos] >>> 20)
+                        | ((long) (in[6 + inpos] & 7) << 12);
+                out[13 + outpos] = (long) ((in[6 + inpos] >>> 3) & 32767);
+                out[14 + outpos] = (long) (in[6 + inpos] >>> 18)
+                        | ((long) (in[7 + inpos] & 1) << 14);
+                out[15 + outpos] = (long) ((in[7 + inpos] >>> 1) & 32767);
+                out[16 + outpos] = (long) ((in[7 + inpos] >>> 16) & 32767);
+                out[17 + outpos] = (long) (in[7 + inpos] >>> 31)
+                        | ((long) (in[8 + inpos] & 16383) << 1);
+                out[18 + outpos] = (long) ((in[8 + inpos] >>> 14) & 32767);
+                out[19 + outpos] = (long) (in[8 + inpos] >>> 29)
+                        | ((long) (in[9 + inpos] & 4095) << 3);
+                out[20 + outpos] = (long) ((in[9 + inpos] >>> 12) & 32767);
+                out[21 + outpos] = (long) (in[9 + inpos] >>> 27)
+                        | ((long) (in[10 + inpos] & 1023) << 5);
+                out[22 + outpos] = (long) ((in[10 + inpos] >>> 10) & 32767);
+                out[23 + outpos] = (long) (in[10 + inpos] >>> 25)
+                        | ((long) (in[11 + inpos] & 255) << 7);
+                out[24 + outpos] = (long) ((in[11 + inpos] >>> 8) & 32767);
+                out[25 + outpos] = (long) (in[11 + inpos] >>> 23)
+                        | ((long) (in[12 + inpos] & 63) << 9);
+                out[26 + outpos] = (long) ((in[12 + inpos] >>> 6) & 32767);
+                out[27 + outpos] = (long) (in[12 + inpos] >>> 21)
+                        | ((long) (in[13 + inpos] & 15) << 11);
+                out[28 + outpos] = (long) ((in[13 + inpos] >>> 4) & 32767);
+                out[29 + outpos] = (long) (in[13 + inpos] >>> 19)
+                        | ((long) (in[14 + inpos] & 3) << 13);
+                out[30 + outpos] = (long) ((in[14 + inpos] >>> 2) & 32767);
+                out[31 + outpos] = (long) (in[14 + inpos] >>> 17);
+        }
+
+        protected static void fastunpack16(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (long) (in[0 + inpos] & 65535);
+                out[1 + outpos] = (long) (in[0 + inpos] >>> 16);
+                out[2 + outpos] = (long) (in[1 + inpos] & 65535);
+                out[3 + outpos] = (long) (in[1 + inpos] >>> 16);
+                out[4 + outpos] = (long) (in[2 + inpos] & 65535);
+                out[5 + outpos] = (long) (in[2 + inpos] >>> 16);
+                out[6 + outpos] = (long) (in[3 + inpos] & 65535);
+                out[7 + outpos] = (long) (in[3 + inpos] >>> 16);
+                out[8 + outpos] = (long) (in[4 + inpos] & 65535);
+                out[9 + outpos] = (long) (in[4 + inpos] >>> 16);
+                out[10 + outpos] = (long) (in[5 + inpos] & 65535);
+                out[11 + outpos] = (long) (in[5 + inpos] >>> 16);
+                out[12 + outpos] = (long) (in[6 + inpos] & 65535);
+                out[13 + outpos] = (long) (in[6 + inpos] >>> 16);
+                out[14 + outpos] = (long) (in[7 + inpos] & 65535);
+                out[15 + outpos] = (long) (in[7 + inpos] >>> 16);
+                out[16 + outpos] = (long) (in[8 + inpos] & 65535);
+                out[17 + outpos] = (long) (in[8 + inpos] >>> 16);
+                out[18 + outpos] = (long) (in[9 + inpos] & 65535);
+                out[19 + outpos] = (long) (in[9 + inpos] >>> 16);
+                out[20 + outpos] = (long) (in[10 + inpos] & 65535);
+                out[21 + outpos] = (long) (in[10 + inpos] >>> 16);
+                out[22 + outpos] = (long) (in[11 + inpos] & 65535);
+                out[23 + outpos] = (long) (in[11 + inpos] >>> 16);
+                out[24 + outpos] = (long) (in[12 + inpos] & 65535);
+                out[25 + outpos] = (long) (in[12 + inpos] >>> 16);
+                out[26 + outpos] = (long) (in[13 + inpos] & 65535);
+                out[27 + outpos] = (long) (in[13 + inpos] >>> 16);
+                out[28 + outpos] = (long) (in[14 + inpos] & 65535);
+                out[29 + outpos] = (long) (in[14 + inpos] >>> 16);
+                out[30 + outpos] = (long) (in[15 + inpos] & 65535);
+                out[31 + outpos] = (long) (in[15 + inpos] >>> 16);
+        }
+
+        protected static void fastunpack17(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (long) (in[0 + inpos] & 131071);
+                out[1 + outpos] = (long) (in[0 + inpos] >>> 17)
+                        | ((long) (in[1 + inpos] & 3) << 15);
+                out[2 + outpos] = (long) ((in[1 + inpos] >>> 2) & 131071);
+                out[3 + outpos] = (long) (in[1 + inpos] >>> 19)
+                        | ((long) (in[2 + inpos] & 15) << 13);
+                out[4 + outpos] = (long) ((in[2 + inpos] >>> 4) & 131071);
+                out[5 + outpos] = (long) (in[2 + inpos] >>> 21)
+                        | ((long) (in[3 + inpos] & 63) << 11);
+                out[6 + outpos] = (long) ((in[3 + inpos] >>> 6) & 131071);
+                out[7 + outpos] = (long) (in[3 + inpos] >>> 23)
+                        | ((long) (in[4 + inpos] & 255) << 9);
+                out[8 + outpos] = (long) ((in[4 + inpos] >>> 8) & 131071);
+                out[9 + outpos] = (long) (in[4 + inpos] >>> 25)
+                        | ((long) (in[5 + inpos] & 1023) << 7);
+                out[10 + outpos] = (long) ((in[5 + inpos] >>> 10) & 131071);
+                out[11 + outpos] = (long) (in[5 + inpos] >>> 27)
+                        | ((long) (in[6 + inpos] & 4095) << 5);
+                out[12 + outpos] = (long) ((in[6 + inpos] >>> 12) & 131071);
+                out[13 + outpos] = (long) (in[6 + inpos] >>> 29)
+                        | ((long) (in[7 + inpos] & 16383) << 3);
+                out[14 + outpos] = (long) ((in[7 + inpos] >>> 14) & 131071);
+                out[15 + outpos] = (long) (in[7 + inpos] >>> 31)
+                        | ((long) (in[8 + inpos] & 65535) << 1);
+                out[16 + outpos] = (long) (in[8 + inpos] >>> 16)
+                        | ((long) (in[9 + inpos] & 1) << 16);
+                out[17 + outpos] = (long) ((in[9 + inpos] >>> 1) & 131071);
+                out[18 + outpos] = (long) (in[9 + inpos] >>> 18)
+                        | ((long) (in[10 + inpos] & 7) << 14);
+                out[19 + outpos] = (long) ((in[10 + inpos] >>> 3) & 131071);
+                out[20 + outpos] = (long) (in[10 + inpos] >>> 20)
+                        | ((long) (in[11 + inpos] & 31) << 12);
+                out[21 + outpos] = (long) ((in[11 + inpos] >>> 5) & 131071);
+                out[22 + outpos] = (long) (in[11 + inpos] >>> 22)
+                        | ((long) (in[12 + inpos] & 127) << 10);
+                out[23 + outpos] = (long) ((in[12 + inpos] >>> 7) & 131071);
+                out[24 + outpos] = (long) (in[12 + inpos] >>> 24)
+                        | ((long) (in[13 + inpos] & 511) << 8);
+                out[25 + outpos] = (long) ((in[13 + inpos] >>> 9) & 131071);
+                out[26 + outpos] = (long) (in[13 + inpos] >>> 26)
+                        | ((long) (in[14 + inpos] & 2047) << 6);
+                out[27 + outpos] = (long) ((in[14 + inpos] >>> 11) & 131071);
+                out[28 + outpos] = (long) (in[14 + inpos] >>> 28)
+                        | ((long) (in[15 + inpos] & 8191) << 4);
+                out[29 + outpos] = (long) ((in[15 + inpos] >>> 13) & 131071);
+                out[30 + outpos] = (long) (in[15 + inpos] >>> 30)
+                        | ((long) (in[16 + inpos] & 32767) << 2);
+                out[31 + outpos] = (long) (in[16 + inpos] >>> 15);
+        }
+
+        protected static void fastunpack18(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (long) (in[0 + inpos] & 262143);
+                out[1 + outpos] = (long) (in[0 + inpos] >>> 18)
+                        | ((long) (in[1 + inpos] & 15) << 14);
+                out[2 + outpos] = (long) ((in[1 + inpos] >>> 4) & 262143);
+                out[3 + outpos] = (long) (in[1 + inpos] >>> 22)
+                        | ((long) (in[2 + inpos] & 255) << 10);
+                out[4 + outpos] = (long) ((in[2 + inpos] >>> 8) & 262143);
+                out[5 + outpos] = (long) (in[2 + inpos] >>> 26)
+                        | ((long) (in[3 + inpos] & 4095) << 6);
+                out[6 + outpos] = (long) ((in[3 + inpos] >>> 12) & 262143);
+                out[7 + outpos] = (long) (in[3 + inpos] >>> 30)
+                        | ((long) (in[4 + inpos] & 65535) << 2);
+                out[8 + outpos] = (long) (in[4 + inpos] >>> 16)
+                        | ((long) (in[5 + inpos] & 3) << 16);
+                out[9 + outpos] = (long) ((in[5 + inpos] >>> 2) & 262143);
+                out[10 + outpos] = (long) (in[5 + inpos] >>> 20)
+                        | ((long) (in[6 + inpos] & 63) << 12);
+                out[11 + outpos] = (long) ((in[6 + inpos] >>> 6) & 262143);
+                out[12 + outpos] = (long) (in[6 + inpos] >>> 24)
+                        | ((long) (in[7 + inpos] & 1023) << 8);
+                out[13 + outpos] = (long) ((in[7 + inpos] >>> 10) & 262143);
+                out[14 + outpos] = (long) (in[7 + inpos] >>> 28)
+                        | ((long) (in[8 + inpos] & 16383) << 4);
+                out[15 + outpos] = (long) (in[8 + inpos] >>> 14);
+                out[16 + outpos] = (long) (in[9 + inpos] & 262143);
+                out[17 + outpos] = (long) (in[9 + inpos] >>> 18)
+                        | ((long) (in[10 + inpos] & 15) << 14);
+                out[18 + outpos] = (long) ((in[10 + inpos] >>> 4) & 262143);
+                out[19 + outpos] = (long) (in[10 + inpos] >>> 22)
+                        | ((long) (in[11 + inpos] & 255) << 10);
+                out[20 + outpos] = (long) ((in[11 + inpos] >>> 8) & 262143);
+                out[21 + outpos] = (long) (in[11 + inpos] >>> 26)
+                        | ((long) (in[12 + inpos] & 4095) << 6);
+                out[22 + outpos] = (long) ((in[12 + inpos] >>> 12) & 262143);
+                out[23 + outpos] = (long) (in[12 + inpos] >>> 30)
+                        | ((long) (in[13 + inpos] & 65535) << 2);
+                out[24 + outpos] = (long) (in[13 + inpos] >>> 16)
+                        | ((long) (in[14 + inpos] & 3) << 16);
+                out[25 + outpos] = (long) ((in[14 + inpos] >>> 2) & 262143);
+                out[26 + outpos] = (long) (in[14 + inpos] >>> 20)
+                        | ((long) (in[15 + inpos] & 63) << 12);
+                out[27 + outpos] = (long) ((in[15 + inpos] >>> 6) & 262143);
+                out[28 + outpos] = (long) (in[15 + inpos] >>> 24)
+                        | ((long) (in[16 + inpos] & 1023) << 8);
+                out[29 + outpos] = (long) ((in[16 + inpos] >>> 10) & 262143);
+                out[30 + outpos] = (long) (in[16 + inpos] >>> 28)
+                        | ((long) (in[17 + inpos] & 16383) << 4);
+                out[31 + outpos] = (long) (in[17 + inpos] >>> 14);
+        }
+
+        protected static void fastunpack19(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (long) (in[0 + inpos] & 524287);
+                out[1 + outpos] = (long) (in[0 + inpos] >>> 19)
+                        | ((long) (in[1 + inpos] & 63) << 13);
+                out[2 + outpos] = (long) ((in[1 + inpos] >>> 6) & 524287);
+                out[3 + outpos] = (long) (in[1 + inpos] >>> 25)
+                        | ((long) (in[2 + inpos] & 4095) << 7);
+                out[4 + outpos] = (long) ((in[2 + inpos] >>> 12) & 524287);
+                out[5 + outpos] = (long) (in[2 + inpos] >>> 31)
+                        | ((long) (in[3 + inpos] & 262143) << 1);
+                out[6 + outpos] = (long) (in[3 + inpos] >>> 18)
+                        | ((long) (in[4 + inpos] & 31) << 14);
+                out[7 + outpos] = (long) ((in[4 + inpos] >>> 5) & 524287);
+                out[8 + outpos] = (long) (in[4 + inpos] >>> 24)
+                        | ((long) (in[5 + inpos] & 2047) << 8);
+                out[9 + outpos] = (long) ((in[5 + inpos] >>> 11) & 524287);
+                out[10 + outpos] = (long) (in[5 + inpos] >>> 30)
+                        | ((long) (in[6 + inpos] & 131071) << 2);
+                out[11 + outpos] = (long) (in[6 + inpos] >>> 17)
+                        | ((long) (in[7 + inpos] & 15) << 15);
+                out[12 + outpos] = (long) ((in[7 + inpos] >>> 4) & 524287);
+                out[13 + outpos] = (long) (in[7 + inpos] >>> 23)
+                        | ((long) (in[8 + inpos] & 1023) << 9);
+                out[14 + outpos] = (long) ((in[8 + inpos] >>> 10) & 524287);
+                out[15 + outpos] = (long) (in[8 + inpos] >>> 29)
+                        | ((long) (in[9 + inpos] & 65535) << 3);
+                out[16 + outpos] = (long) (in[9 + inpos] >>> 16)
+                        | ((long) (in[10 + inpos] & 7) << 16);
+                out[17 + outpos] = (long) ((in[10 + inpos] >>> 3) & 524287);
+                out[18 + outpos] = (long) (in[10 + inpos] >>> 22)
+                        | ((long) (in[11 + inpos] & 511) << 10);
+                out[19 + outpos] = (long) ((in[11 + inpos] >>> 9) & 524287);
+                out[20 + outpos] = (long) (in[11 + inpos] >>> 28)
+                        | ((long) (in[12 + inpos] & 32767) << 4);
+                out[21 + outpos] = (long) (in[12 + inpos] >>> 15)
+                        | ((long) (in[13 + inpos] & 3) << 17);
+                out[22 + outpos] = (long) ((in[13 + inpos] >>> 2) & 524287);
+                out[23 + outpos] = (long) (in[13 + inpos] >>> 21)
+                        | ((long) (in[14 + inpos] & 255) << 11);
+                out[24 + outpos] = (long) ((in[14 + inpos] >>> 8) & 524287);
+                out[25 + outpos] = (long) (in[14 + inpos] >>> 27)
+                        | ((long) (in[15 + inpos] & 16383) << 5);
+                out[26 + outpos] = (long) (in[15 + inpos] >>> 14)
+                        | ((long) (in[16 + inpos] & 1) << 18);
+                out[27 + outpos] = (long) ((in[16 + inpos] >>> 1) & 524287);
+                out[28 + outpos] = (long) (in[16 + inpos] >>> 20)
+                        | ((long) (in[17 + inpos] & 127) << 12);
+                out[29 + outpos] = (long) ((in[17 + inpos] >>> 7) & 524287);
+                out[30 + outpos] = (long) (in[17 + inpos] >>> 26)
+                        | ((long) (in[18 + inpos] & 8191) << 6);
+                out[31 + outpos] = (long) (in[18 + inpos] >>> 13);
+        }
+
+        protected static void fastunpack2(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (long) (in[0 + inpos] & 3);
+                out[1 + outpos] = (long) ((in[0 + inpos] >>> 2) & 3);
+                out[2 + outpos] = (long) ((in[0 + inpos] >>> 4) & 3);
+                out[3 + outpos] = (long) ((in[0 + inpos] >>> 6) & 3);
+                out[4 + outpos] = (long) ((in[0 + inpos] >>> 8) & 3);
+                out[5 + outpos] = (long) ((in[0 + inpos] >>> 10) & 3);
+                out[6 + outpos] = (long) ((in[0 + inpos] >>> 12) & 3);
+                out[7 + outpos] = (long) ((in[0 + inpos] >>> 14) & 3);
+                out[8 + outpos] = (long) ((in[0 + inpos] >>> 16) & 3);
+                out[9 + outpos] = (long) ((in[0 + inpos] >>> 18) & 3);
+                out[10 + outpos] = (long) ((in[0 + inpos] >>> 20) & 3);
+                out[11 + outpos] = (long) ((in[0 + inpos] >>> 22) & 3);
+                out[12 + outpos] = (long) ((in[0 + inpos] >>> 24) & 3);
+                out[13 + outpos] = (long) ((in[0 + inpos] >>> 26) & 3);
+                out[14 + outpos] = (long) ((in[0 + inpos] >>> 28) & 3);
+                out[15 + outpos] = (long) (in[0 + inpos] >>> 30);
+                out[16 + outpos] = (long) (in[1 + inpos] & 3);
+                out[17 + outpos] = (long) ((in[1 + inpos] >>> 2) & 3);
+                out[18 + outpos] = (long) ((in[1 + inpos] >>> 4) & 3);
+                out[19 + outpos] = (long) ((in[1 + inpos] >>> 6) & 3);
+                out[20 + outpos] = (long) ((in[1 + inpos] >>> 8) & 3);
+                out[21 + outpos] = (long) ((in[1 + inpos] >>> 10) & 3);
+                out[22 + outpos] = (long) ((in[1 + inpos] >>> 12) & 3);
+                out[23 + outpos] = (long) ((in[1 + inpos] >>> 14) & 3);
+                out[24 + outpos] = (long) ((in[1 + inpos] >>> 16) & 3);
+                out[25 + outpos] = (long) ((in[1 + inpos] >>> 18) & 3);
+                out[26 + outpos] = (long) ((in[1 + inpos] >>> 20) & 3);
+                out[27 + outpos] = (long) ((in[1 + inpos] >>> 22) & 3);
+                out[28 + outpos] = (long) ((in[1 + inpos] >>> 24) & 3);
+                out[29 + outpos] = (long) ((in[1 + inpos] >>> 26) & 3);
+                out[30 + outpos] = (long) ((in[1 + inpos] >>> 28) & 3);
+                out[31 + outpos] = (long) (in[1 + inpos] >>> 30);
+        }
+
+        protected static void fastunpack20(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (long) (in[0 + inpos] & 1048575);
+                out[1 + outpos] = (long) (in[0 + inpos] >>> 20)
+                        | ((long) (in[1 + inpos] & 255) << 12);
+                out[2 + outpos] = (long) ((in[1 + inpos] >>> 8) & 1048575);
+                out[3 + outpos] = (long) (in[1 + inpos] >>> 28)
+                        | ((long) (in[2 + inpos] & 65535) << 4);
+                out[4 + outpos] = (long) (in[2 + inpos] >>> 16)
+                        | ((long) (in[3 + inpos] & 15) << 16);
+                out[5 + outpos] = (long) ((in[3 + inpos] >>> 4) & 1048575);
+                out[6 + outpos] = (long) (in[3 + inpos] >>> 24)
+                        | ((long) (in[4 + inpos] & 4095) << 8);
+                out[7 + outpos] = (long) (in[4 + inpos] >>> 12);
+                out[8 + outpos] = (long) (in[5 + inpos] & 1048575);
+                out[9 + outpos] = (long) (in[5 + inpos] >>> 20)
+                        | ((long) (in[6 + inpos] & 255) << 12);
+                out[10 + outpos] = (long) ((in[6 + inpos] >>> 8) & 1048575);
+                out[11 + outpos] = (long) (in[6 + inpos] >>> 28)
+                        | ((long) (in[7 + inpos] & 65535) << 4);
+                out[12 + outpos] = (long) (in[7 + inpos] >>> 16)
+                        | ((long) (in[8 + inpos] & 15) << 16);
+                out[13 + outpos] = (long) ((in[8 + inpos] >>> 4) & 1048575);
+                out[14 + outpos] = (long) (in[8 + inpos] >>> 24)
+                        | ((long) (in[9 + inpos] & 4095) << 8);
+                out[15 + outpos] = (long) (in[9 + inpos] >>> 12);
+                out[16 + outpos] = (long) (in[10 + inpos] & 1048575);
+                out[17 + outpos] = (long) (in[10 + inpos] >>> 20)
+                        | ((long) (in[11 + inpos] & 255) << 12);
+                out[18 + outpos] = (long) ((in[11 + inpos] >>> 8) & 1048575);
+                out[19 + outpos] = (long) (in[11 + inpos] >>> 28)
+                        | ((long) (in[12 + inpos] & 65535) << 4);
+                out[20 + outpos] = (long) (in[12 + inpos] >>> 16)
+                        | ((long) (in[13 + inpos] & 15) << 16);
+                out[21 + outpos] = (long) ((in[13 + inpos] >>> 4) & 1048575);
+                out[22 + outpos] = (long) (in[13 + inpos] >>> 24)
+                        | ((long) (in[14 + inpos] & 4095) << 8);
+                out[23 + outpos] = (long) (in[14 + inpos] >>> 12);
+                out[24 + outpos] = (long) (in[15 + inpos] & 1048575);
+                out[25 + outpos] = (long) (in[15 + inpos] >>> 20)
+                        | ((long) (in[16 + inpos] & 255) << 12);
+                out[26 + outpos] = (long) ((in[16 + inpos] >>> 8) & 1048575);
+                out[27 + outpos] = (long) (in[16 + inpos] >>> 28)
+                        | ((long) (in[17 + inpos] & 65535) << 4);
+                out[28 + outpos] = (long) (in[17 + inpos] >>> 16)
+                        | ((long) (in[18 + inpos] & 15) << 16);
+                out[29 + outpos] = (long) ((in[18 + inpos] >>> 4) & 1048575);
+                out[30 + outpos] = (long) (in[18 + inpos] >>> 24)
+                        | ((long) (in[19 + inpos] & 4095) << 8);
+                out[31 + outpos] = (long) (in[19 + inpos] >>> 12);
+        }
+
+        protected static void fastunpack21(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (long) (in[0 + inpos] & 2097151);
+                out[1 + outpos] = (long) (in[0 + inpos] >>> 21)
+                        | ((long) (in[1 + inpos] & 1023) << 11);
+                out[2 + outpos] = (long) ((in[1 + inpos] >>> 10) & 2097151);
+                out[3 + outpos] = (long) (in[1 + inpos] >>> 31)
+                        | ((long) (in[2 + inpos] & 1048575) << 1);
+                out[4 + outpos] = (long) (in[2 + inpos] >>> 20)
+                        | ((long) (in[3 + inpos] & 511) << 12);
+                out[5 + outpos] = (long) ((in[3 + inpos] >>> 9) & 2097151);
+                out[6 + outpos] = (long) (in[3 + inpos] >>> 30)
+                        | ((long) (in[4 + inpos] & 524287) << 2);
+                out[7 + outpos] = (long) (in[4 + inpos] >>> 19)
+                        | ((long) (in[5 + inpos] & 255) << 13);
+                out[8 + outpos] = (long) ((in[5 + inpos] >>> 8) & 2097151);
+                out[9 + outpos] = (long) (in[5 + inpos] >>> 29)
+                        | ((long) (in[6 + inpos] & 262143) << 3);
+                out[10 + outpos] = (long) (in[6 + inpos] >>> 18)
+                        | ((long) (in[7 + inpos] & 127) << 14);
+                out[11 + outpos] = (long) ((in[7 + inpos] >>> 7) & 2097151);
+                out[12 + outpos] = (long) (in[7 + inpos] >>> 28)
+                        | ((long) (in[8 + inpos] & 131071) << 4);
+                out[13 + outpos] = (long) (in[8 + inpos] >>> 17)
+                        | ((long) (in[9 + inpos] & 63) << 15);
+                out[14 + outpos] = (long) ((in[9 + inpos] >>> 6) & 2097151);
+                out[15 + outpos] = (long) (in[9 + inpos] >>> 27)
+                        | ((long) (in[10 + inpos] & 65535) << 5);
+                out[16 + outpos] = (long) (in[10 + inpos] >>> 16)
+                        | ((long) (in[11 + inpos] & 31) << 16);
+                out[17 + outpos] = (long) ((in[11 + inpos] >>> 5) & 2097151);
+                out[18 + outpos] = (long) (in[11 + inpos] >>> 26)
+                        | ((long) (in[12 + inpos] & 32767) << 6);
+                out[19 + outpos] = (long) (in[12 + inpos] >>> 15)
+                        | ((long) (in[13 + inpos] & 15) << 17);
+                out[20 + outpos] = (long) ((in[13 + inpos] >>> 4) & 2097151);
+                out[21 + outpos] = (long) (in[13 + inpos] >>> 25)
+                        | ((long) (in[14 + inpos] & 16383) << 7);
+                out[22 + outpos] = (long) (in[14 + inpos] >>> 14)
+                        | ((long) (in[15 + inpos] & 7) << 18);
+                out[23 + outpos] = (long) ((in[15 + inpos] >>> 3) & 2097151);
+                out[24 + outpos] = (long) (in[15 + inpos] >>> 24)
+                        | ((long) (in[16 + inpos] & 8191) << 8);
+                out[25 + outpos] = (long) (in[16 + inpos] >>> 13)
+                        | ((long) (in[17 + inpos] & 3) << 19);
+                out[26 + outpos] = (long) ((in[17 + inpos] >>> 2) & 2097151);
+                out[27 + outpos] = (long) (in[17 + inpos] >>> 23)
+                        | ((long) (in[18 + inpos] & 4095) << 9);
+                out[28 + outpos] = (long) (in[18 + inpos] >>> 12)
+                        | ((long) (in[19 + inpos] & 1) << 20);
+                out[29 + outpos] = (long) ((in[19 + inpos] >>> 1) & 2097151);
+                out[30 + outpos] = (long) (in[19 + inpos] >>> 22)
+                        | ((long) (in[20 + inpos] & 2047) << 10);
+                out[31 + outpos] = (long) (in[20 + inpos] >>> 11);
+        }
+
+        protected static void fastunpack22(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (long) (in[0 + inpos] & 4194303);
+                out[1 + outpos] = (long) (in[0 + inpos] >>> 22)
+                        | ((long) (in[1 + inpos] & 4095) << 10);
+                out[2 + outpos] = (long) (in[1 + inpos] >>> 12)
+                        | ((long) (in[2 + inpos] & 3) << 20);
+                out[3 + outpos] = (long) ((in[2 + inpos] >>> 2) & 4194303);
+                out[4 + outpos] = (long) (in[2 + inpos] >>> 24)
+                        | ((long) (in[3 + inpos] & 16383) << 8);
+                out[5 + outpos] = (long) (in[3 + inpos] >>> 14)
+                        | ((long) (in[4 + inpos] & 15) << 18);
+                out[6 + outpos] = (long) ((in[4 + inpos] >>> 4) & 4194303);
+                out[7 + outpos] = (long) (in[4 + inpos] >>> 26)
+                        | ((long) (in[5 + inpos] & 65535) << 6);
+                out[8 + outpos] = (long) (in[5 + inpos] >>> 16)
+                        | ((long) (in[6 + inpos] & 63) << 16);
+                out[9 + outpos] = (long) ((in[6 + inpos] >>> 6) & 4194303);
+                out[10 + outpos] = (long) (in[6 + inpos] >>> 28)
+                        | ((long) (in[7 + inpos] & 262143) << 4);
+                out[11 + outpos] = (long) (in[7 + inpos] >>> 18)
+                        | ((long) (in[8 + inpos] & 255) << 14);
+                out[12 + outpos] = (long) ((in[8 + inpos] >>> 8) & 4194303);
+                out[13 + outpos] = (long) (in[8 + inpos] >>> 30)
+                        | ((long) (in[9 + inpos] & 1048575) << 2);
+                out[14 + outpos] = (long) (in[9 + inpos] >>> 20)
+                        | ((long) (in[10 + inpos] & 1023) << 12);
+                out[15 + outpos] = (long) (in[10 + inpos] >>> 10);
+                out[16 + outpos] = (long) (in[11 + inpos] & 4194303);
+                out[17 + outpos] = (long) (in[11 + inpos] >>> 22)
+                        | ((long) (in[12 + inpos] & 4095) << 10);
+                out[18 + outpos] = (long) (in[12 + inpos] >>> 12)
+                        | ((long) (in[13 + inpos] & 3) << 20);
+                out[19 + outpos] = (long) ((in[13 + inpos] >>> 2) & 4194303);
+                out[20 + outpos] = (long) (in[13 + inpos] >>> 24)
+                        | ((long) (in[14 + inpos] & 16383) << 8);
+                out[21 + outpos] = (long) (in[14 + inpos] >>> 14)
+                        | ((long) (in[15 + inpos] & 15) << 18);
+                out[22 + outpos] = (long) ((in[15 + inpos] >>> 4) & 4194303);
+                out[23 + outpos] = (long) (in[15 + inpos] >>> 26)
+                        | ((long) (in[16 + inpos] & 65535) << 6);
+                out[24 + outpos] = (long) (in[16 + inpos] >>> 16)
+                        | ((long) (in[17 + inpos] & 63) << 16);
+                out[25 + outpos] = (long) ((in[17 + inpos] >>> 6) & 4194303);
+                out[26 + outpos] = (long) (in[17 + inpos] >>> 28)
+                        | ((long) (in[18 + inpos] & 262143) << 4);
+                out[27 + outpos] = (long) (in[18 + inpos] >>> 18)
+                        | ((long) (in[19 + inpos] & 255) << 14);
+                out[28 + outpos] = (long) ((in[19 + inpos] >>> 8) & 4194303);
+                out[29 + outpos] = (long) (in[19 + inpos] >>> 30)
+                        | ((long) (in[20 + inpos] & 1048575) << 2);
+                out[30 + outpos] = (long) (in[20 + inpos] >>> 20)
+                        | ((long) (in[21 + inpos] & 1023) << 12);
+                out[31 + outpos] = (long) (in[21 + inpos] >>> 10);
+        }
+
+        protected static void fastunpack23(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (long) (in[0 + inpos] & 8388607);
+                out[1 + outpos] = (long) (in[0 + inpos] >>> 23)
+                        | ((long) (in[1 + inpos] & 16383) << 9);
+                out[2 + outpos] = (long) (in[1 + inpos] >>> 14)
+                        | ((long) (in[2 + inpos] & 31) << 18);
+                out[3 + outpos] = (long) ((in[2 + inpos] >>> 5) & 8388607);
+                out[4 + outpos] = (long) (in[2 + inpos] >>> 28)
+                        | ((long) (in[3 + inpos] & 524287) << 4);
+                out[5 + outpos] = (long) (in[3 + inpos] >>> 19)
+                        | ((long) (in[4 + inpos] & 1023) << 13);
+                out[6 + outpos] = (long) (in[4 + inpos] >>> 10)
+                        | ((long) (in[5 + inpos] & 1) << 22);
+                out[7 + outpos] = (long) ((in[5 + inpos] >>> 1) & 8388607);
+                out[8 + outpos] = (long) (in[5 + inpos] >>> 24)
+                        | ((long) (in[6 + inpos] & 32767) << 8);
+                out[9 + outpos] = (long) (in[6 + inpos] >>> 15)
+                        | ((long) (in[7 + inpos] & 63) << 17);
+                out[10 + outpos] = (long) ((in[7 + inpos] >>> 6) & 8388607);
+                out[11 + outpos] = (long) (in[7 + inpos] >>> 29)
+                        | ((long) (in[8 + inpos] & 1048575) << 3);
+                out[12 + outpos] = (long) (in[8 + inpos] >>> 20)
+                        | ((long) (in[9 + inpos] & 2047) << 12);
+                out[13 + outpos] = (long) (in[9 + inpos] >>> 11)
+                        | ((long) (in[10 + inpos] & 3) << 21);
+                out[14 + outpos] = (long) ((in[10 + inpos] >>> 2) & 8388607);
+                out[15 + outpos] = (long) (in[10 + inpos] >>> 25)
+                        | ((long) (in[11 + inpos] & 65535) << 7);
+                out[16 + outpos] = (long) (in[11 + inpos] >>> 16)
+                        | ((long) (in[12 + inpos] & 127) << 16);
+                out[17 + outpos] = (long) ((in[12 + inpos] >>> 7) & 8388607);
+                out[18 + outpos] = (long) (in[12 + inpos] >>> 30)
+                        | ((long) (in[13 + inpos] & 2097151) << 2);
+                out[19 + outpos] = (long) (in[13 + inpos] >>> 21)
+                        | ((long) (in[14 + inpos] & 4095) << 11);
+                out[20 + outpos] = (long) (in[14 + inpos] >>> 12)
+                        | ((long) (in[15 + inpos] & 7) << 20);
+                out[21 + outpos] = (long) ((in[15 + inpos] >>> 3) & 8388607);
+                out[22 + outpos] = (long) (in[15 + inpos] >>> 26)
+                        | ((long) (in[16 + inpos] & 131071) << 6);
+                out[23 + outpos] = (long) (in[16 + inpos] >>> 17)
+                        | ((long) (in[17 + inpos] & 255) << 15);
+                out[24 + outpos] = (long) ((in[17 + inpos] >>> 8) & 8388607);
+                out[25 + outpos] = (long) (in[17 + inpos] >>> 31)
+                        | ((long) (in[18 + inpos] & 4194303) << 1);
+                out[26 + outpos] = (long) (in[18 + inpos] >>> 22)
+                        | ((long) (in[19 + inpos] & 8191) << 10);
+                out[27 + outpos] = (long) (in[19 + inpos] >>> 13)
+                        | ((long) (in[20 + inpos] & 15) << 19);
+                out[28 + outpos] = (long) ((in[20 + inpos] >>> 4) & 8388607);
+                out[29 + outpos] = (long) (in[20 + inpos] >>> 27)
+                        | ((long) (in[21 + inpos] & 262143) << 5);
+                out[30 + outpos] = (long) (in[21 + inpos] >>> 18)
+                        | ((long) (in[22 + inpos] & 511) << 14);
+                out[31 + outpos] = (long) (in[22 + inpos] >>> 9);
+        }
+
+        protected static void fastunpack24(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (long) (in[0 + inpos] & 16777215);
+                out[1 + outpos] = (long) (in[0 + inpos] >>> 24)
+                        | ((long) (in[1 + inpos] & 65535) << 8);
+                out[2 + outpos] = (long) (in[1 + inpos] >>> 16)
+                        | ((long) (in[2 + inpos] & 255) << 16);
+                out[3 + outpos] = (long) (in[2 + inpos] >>> 8);
+                out[4 + outpos] = (long) (in[3 + inpos] & 16777215);
+                out[5 + outpos] = (long) (in[3 + inpos] >>> 24)
+                        | ((long) (in[4 + inpos] & 65535) << 8);
+                out[6 + outpos] = (long) (in[4 + inpos] >>> 16)
+                        | ((long) (in[5 + inpos] & 255) << 16);
+                out[7 + outpos] = (long) (in[5 + inpos] >>> 8);
+                out[8 + outpos] = (long) (in[6 + inpos] & 16777215);
+                out[9 + outpos] = (long) (in[6 + inpos] >>> 24)
+                        | ((long) (in[7 + inpos] & 65535) << 8);
+                out[10 + outpos] = (long) (in[7 + inpos] >>> 16)
+                        | ((long) (in[8 + inpos] & 255) << 16);
+                out[11 + outpos] = (long) (in[8 + inpos] >>> 8);
+                out[12 + outpos] = (long) (in[9 + inpos] & 16777215);
+                out[13 + outpos] = (long) (in[9 + inpos] >>> 24)
+                        | ((long) (in[10 + inpos] & 65535) << 8);
+                out[14 + outpos] = (long) (in[10 + inpos] >>> 16)
+                        | ((long) (in[11 + inpos] & 255) << 16);
+                out[15 + outpos] = (long) (in[11 + inpos] >>> 8);
+                out[16 + outpos] = (long) (in[12 + inpos] & 16777215);
+                out[17 + outpos] = (long) (in[12 + inpos] >>> 24)
+                        | ((long) (in[13 + inpos] & 65535) << 8);
+                out[18 + outpos] = (long) (in[13 + inpos] >>> 16)
+                        | ((long) (in[14 + inpos] & 255) << 16);
+                out[19 + outpos] = (long) (in[14 + inpos] >>> 8);
+                out[20 + outpos] = (long) (in[15 + inpos] & 16777215);
+                out[21 + outpos] = (long) (in[15 + inpos] >>> 24)
+                        | ((long) (in[16 + inpos] & 65535) << 8);
+                out[22 + outpos] = (long) (in[16 + inpos] >>> 16)
+                        | ((long) (in[17 + inpos] & 255) << 16);
+                out[23 + outpos] = (long) (in[17 + inpos] >>> 8);
+                out[24 + outpos] = (long) (in[18 + inpos] & 16777215);
+                out[25 + outpos] = (long) (in[18 + inpos] >>> 24)
+                        | ((long) (in[19 + inpos] & 65535) << 8);
+                out[26 + outpos] = (long) (in[19 + inpos] >>> 16)
+                        | ((long) (in[20 + inpos] & 255) << 16);
+                out[27 + outpos] = (long) (in[20 + inpos] >>> 8);
+                out[28 + outpos] = (long) (in[21 + inpos] & 16777215);
+                out[29 + outpos] = (long) (in[21 + inpos] >>> 24)
+                        | ((long) (in[22 + inpos] & 65535) << 8);
+                out[30 + outpos] = (long) (in[22 + inpos] >>> 16)
+                        | ((long) (in[23 + inpos] & 255) << 16);
+                out[31 + outpos] = (long) (in[23 + inpos] >>> 8);
+        }
+
+        protected static void fastunpack25(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (long) (in[0 + inpos] & 33554431);
+                out[1 + outpos] = (long) (in[0 + inpos] >>> 25)
+                        | ((long) (in[1 + inpos] & 262143) << 7);
+                out[2 + outpos] = (long) (in[1 + inpos] >>> 18)
+                        | ((long) (in[2 + inpos] & 2047) << 14);
+                out[3 + outpos] = (long) (in[2 + inpos] >>> 11)
+                        | ((long) (in[3 + inpos] & 15) << 21);
+                out[4 + outpos] = (long) ((in[3 + inpos] >>> 4) & 33554431);
+                out[5 + outpos] = (long) (in[3 + inpos] >>> 29)
+                        | ((long) (in[4 + inpos] & 4194303) << 3);
+                out[6 + outpos] = (long) (in[4 + inpos] >>> 22)
+                        | ((long) (in[5 + inpos] & 32767) << 10);
+                out[7 + outpos] = (long) (in[5 + inpos] >>> 15)
+                        | ((long) (in[6 + inpos] & 255) << 17);
+                out[8 + outpos] = (long) (in[6 + inpos] >>> 8)
+                        | ((long) (in[7 + inpos] & 1) << 24);
+                out[9 + outpos] = (long) ((in[7 + inpos] >>> 1) & 33554431);
+                out[10 + outpos] = (long) (in[7 + inpos] >>> 26)
+                        | ((long) (in[8 + inpos] & 524287) << 6);
+                out[11 + outpos] = (long) (in[8 + inpos] >>> 19)
+                        | ((long) (in[9 + inpos] & 4095) << 13);
+                out[12 + outpos] = (long) (in[9 + inpos] >>> 12)
+                        | ((long) (in[10 + inpos] & 31) << 20);
+                out[13 + outpos] = (long) ((in[10 + inpos] >>> 5) & 33554431);
+                out[14 + outpos] = (long) (in[10 + inpos] >>> 30)
+                        | ((long) (in[11 + inpos] & 8388607) << 2);
+                out[15 + outpos] = (long) (in[11 + inpos] >>> 23)
+                        | ((long) (in[12 + inpos] & 65535) << 9);
+                out[16 + outpos] = (long) (in[12 + inpos] >>> 16)
+                        | ((long) (in[13 + inpos] & 511) << 16);
+                out[17 + outpos] = (long) (in[13 + inpos] >>> 9)
+                        | ((long) (in[14 + inpos] & 3) << 23);
+                out[18 + outpos] = (long) ((in[14 + inpos] >>> 2) & 33554431);
+                out[19 + outpos] = (long) (in[14 + inpos] >>> 27)
+                        | ((long) (in[15 + inpos] & 1048575) << 5);
+                out[20 + outpos] = (long) (in[15 + inpos] >>> 20)
+                        | ((long) (in[16 + inpos] & 8191) << 12);
+                out[21 + outpos] = (long) (in[16 + inpos] >>> 13)
+                        | ((long) (in[17 + inpos] & 63) << 19);
+                out[22 + outpos] = (long) ((in[17 + inpos] >>> 6) & 33554431);
+                out[23 + outpos] = (long) (in[17 + inpos] >>> 31)
+                        | ((long) (in[18 + inpos] & 16777215) << 1);
+                out[24 + outpos] = (long) (in[18 + inpos] >>> 24)
+                        | ((long) (in[19 + inpos] & 131071) << 8);
+                out[25 + outpos] = (long) (in[19 + inpos] >>> 17)
+                        | ((long) (in[20 + inpos] & 1023) << 15);
+                out[26 + outpos] = (long) (in[20 + inpos] >>> 10)
+                        | ((long) (in[21 + inpos] & 7) << 22);
+                out[27 + outpos] = (long) ((in[21 + inpos] >>> 3) & 33554431);
+                out[28 + outpos] = (long) (in[21 + inpos] >>> 28)
+                        | ((long) (in[22 + inpos] & 2097151) << 4);
+                out[29 + outpos] = (long) (in[22 + inpos] >>> 21)
+                        | ((long) (in[23 + inpos] & 16383) << 11);
+                out[30 + outpos] = (long) (in[23 + inpos] >>> 14)
+                        | ((long) (in[24 + inpos] & 127) << 18);
+                out[31 + outpos] = (long) (in[24 + inpos] >>> 7);
+        }
+
+        protected static void fastunpack26(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (long) (in[0 + inpos] & 67108863);
+                out[1 + outpos] = (long) (in[0 + inpos] >>> 26)
+                        | ((long) (in[1 + inpos] & 1048575) << 6);
+                out[2 + outpos] = (long) (in[1 + inpos] >>> 20)
+                        | ((long) (in[2 + inpos] & 16383) << 12);
+                out[3 + outpos] = (long) (in[2 + inpos] >>> 14)
+                        | ((long) (in[3 + inpos] & 255) << 18);
+                out[4 + outpos] = (long) (in[3 + inpos] >>> 8)
+                        | ((long) (in[4 + inpos] & 3) << 24);
+                out[5 + outpos] = (long) ((in[4 + inpos] >>> 2) & 67108863);
+                out[6 + outpos] = (long) (in[4 + inpos] >>> 28)
+                        | ((long) (in[5 + inpos] & 4194303) << 4);
+                out[7 + outpos] = (long) (in[5 + inpos] >>> 22)
+                        | ((long) (in[6 + inpos] & 65535) << 10);
+                out[8 + outpos] = (long) (in[6 + inpos] >>> 16)
+                        | ((long) (in[7 + inpos] & 1023) << 16);
+                out[9 + outpos] = (long) (in[7 + inpos] >>> 10)
+                        | ((long) (in[8 + inpos] & 15) << 22);
+                out[10 + outpos] = (long) ((in[8 + inpos] >>> 4) & 67108863);
+                out[11 + outpos] = (long) (in[8 + inpos] >>> 30)
+                        | ((long) (in[9 + inpos] & 16777215) << 2);
+                out[12 + outpos] = (long) (in[9 + inpos] >>> 24)
+                        | ((long) (in[10 + inpos] & 262143) << 8);
+                out[13 + outpos] = (long) (in[10 + inpos] >>> 18)
+                        | ((long) (in[11 + inpos] & 4095) << 14);
+                out[14 + outpos] = (long) (in[11 + inpos] >>> 12)
+                        | ((long) (in[12 + inpos] & 63) << 20);
+                out[15 + outpos] = (long) (in[12 + inpos] >>> 6);
+                out[16 + outpos] = (long) (in[13 + inpos] & 67108863);
+                out[17 + outpos] = (long) (in[13 + inpos] >>> 26)
+                        | ((long) (in[14 + inpos] & 1048575) << 6);
+                out[18 + outpos] = (long) (in[14 + inpos] >>> 20)
+                        | ((long) (in[15 + inpos] & 16383) << 12);
+                out[19 + outpos] = (long) (in[15 + inpos] >>> 14)
+                        | ((long) (in[16 + inpos] & 255) << 18);
+                out[20 + outpos] = (long) (in[16 + inpos] >>> 8)
+                        | ((long) (in[17 + inpos] & 3) << 24);
+                out[21 + outpos] = (long) ((in[17 + inpos] >>> 2) & 67108863);
+                out[22 + outpos] = (long) (in[17 + inpos] >>> 28)
+                        | ((long) (in[18 + inpos] & 4194303) << 4);
+                out[23 + outpos] = (long) (in[18 + inpos] >>> 22)
+                        | ((long) (in[19 + inpos] & 65535) << 10);
+                out[24 + outpos] = (long) (in[19 + inpos] >>> 16)
+                        | ((long) (in[20 + inpos] & 1023) << 16);
+                out[25 + outpos] = (long) (in[20 + inpos] >>> 10)
+                        | ((long) (in[21 + inpos] & 15) << 22);
+                out[26 + outpos] = (long) ((in[21 + inpos] >>> 4) & 67108863);
+                out[27 + outpos] = (long) (in[21 + inpos] >>> 30)
+                        | ((long) (in[22 + inpos] & 16777215) << 2);
+                out[28 + outpos] = (long) (in[22 + inpos] >>> 24)
+                        | ((long) (in[23 + inpos] & 262143) << 8);
+                out[29 + outpos] = (long) (in[23 + inpos] >>> 18)
+                        | ((long) (in[24 + inpos] & 4095) << 14);
+                out[30 + outpos] = (long) (in[24 + inpos] >>> 12)
+                        | ((long) (in[25 + inpos] & 63) << 20);
+                out[31 + outpos] = (long) (in[25 + inpos] >>> 6);
+        }
+
+        protected static void fastunpack27(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (long) (in[0 + inpos] & 134217727);
+                out[1 + outpos] = (long) (in[0 + inpos] >>> 27)
+                        | ((long) (in[1 + inpos] & 4194303) << 5);
+                out[2 + outpos] = (long) (in[1 + inpos] >>> 22)
+                        | ((long) (in[2 + inpos] & 131071) << 10);
+                out[3 + outpos] = (long) (in[2 + inpos] >>> 17)
+                        | ((long) (in[3 + inpos] & 4095) << 15);
+                out[4 + outpos] = (long) (in[3 + inpos] >>> 12)
+                        | ((long) (in[4 + inpos] & 127) << 20);
+                out[5 + outpos] = (long) (in[4 + inpos] >>> 7)
+                        | ((long) (in[5 + inpos] & 3) << 25);
+                out[6 + outpos] = (long) ((in[5 + inpos] >>> 2) & 134217727);
+                out[7 + outpos] = (long) (in[5 + inpos] >>> 29)
+                        | ((long) (in[6 + inpos] & 16777215) << 3);
+                out[8 + outpos] = (long) (in[6 + inpos] >>> 24)
+                        | ((long) (in[7 + inpos] & 524287) << 8);
+                out[9 + outpos] = (long) (in[7 + inpos] >>> 19)
+                        | ((long) (in[8 + inpos] & 16383) << 13);
+                out[10 + outpos] = (long) (in[8 + inpos] >>> 14)
+                        | ((long) (in[9 + inpos] & 511) << 18);
+                out[11 + outpos] = (long) (in[9 + inpos] >>> 9)
+                        | ((long) (in[10 + inpos] & 15) << 23);
+                out[12 + outpos] = (long) ((in[10 + inpos] >>> 4) & 134217727);
+                out[13 + outpos] = (long) (in[10 + inpos] >>> 31)
+                        | ((long) (in[11 + inpos] & 67108863) << 1);
+                out[14 + outpos] = (long) (in[11 + inpos] >>> 26)
+                        | ((long) (in[12 + inpos] & 2097151) << 6);
+                out[15 + outpos] = (long) (in[12 + inpos] >>> 21)
+                        | ((long) (in[13 + inpos] & 65535) << 11);
+                out[16 + outpos] = (long) (in[13 + inpos] >>> 16)
+                        | ((long) (in[14 + inpos] & 2047) << 16);
+                out[17 + outpos] = (long) (in[14 + inpos] >>> 11)
+                        | ((long) (in[15 + inpos] & 63) << 21);
+                out[18 + outpos] = (long) (in[15 + inpos] >>> 6)
+                        | ((long) (in[16 + inpos] & 1) << 26);
+                out[19 + outpos] = (long) ((in[16 + inpos] >>> 1) & 134217727);
+                out[20 + outpos] = (long) (in[16 + inpos] >>> 28)
+                        | ((long) (in[17 + inpos] & 8388607) << 4);
+                out[21 + outpos] = (long) (in[17 + inpos] >>> 23)
+                        | ((long) (in[18 + inpos] & 262143) << 9);
+                out[22 + outpos] = (long) (in[18 + inpos] >>> 18)
+                        | ((long) (in[19 + inpos] & 8191) << 14);
+                out[23 + outpos] = (long) (in[19 + inpos] >>> 13)
+                        | ((long) (in[20 + inpos] & 255) << 19);
+                out[24 + outpos] = (long) (in[20 + inpos] >>> 8)
+                        | ((long) (in[21 + inpos] & 7) << 24);
+                out[25 + outpos] = (long) ((in[21 + inpos] >>> 3) & 134217727);
+                out[26 + outpos] = (long) (in[21 + inpos] >>> 30)
+                        | ((long) (in[22 + inpos] & 33554431) << 2);
+                out[27 + outpos] = (long) (in[22 + inpos] >>> 25)
+                        | ((long) (in[23 + inpos] & 1048575) << 7);
+                out[28 + outpos] = (long) (in[23 + inpos] >>> 20)
+                        | ((long) (in[24 + inpos] & 32767) << 12);
+                out[29 + outpos] = (long) (in[24 + inpos] >>> 15)
+                        | ((long) (in[25 + inpos] & 1023) << 17);
+                out[30 + outpos] = (long) (in[25 + inpos] >>> 10)
+                        | ((long) (in[26 + inpos] & 31) << 22);
+                out[31 + outpos] = (long) (in[26 + inpos] >>> 5);
+        }
+
+        protected static void fastunpack28(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (long) (in[0 + inpos] & 268435455);
+                out[1 + outpos] = (long) (in[0 + inpos] >>> 28)
+                        | ((long) (in[1 + inpos] & 16777215) << 4);
+                out[2 + outpos] = (long) (in[1 + inpos] >>> 24)
+                        | ((long) (in[2 + inpos] & 1048575) << 8);
+                out[3 + outpos] = (long) (in[2 + inpos] >>> 20)
+                        | ((long) (in[3 + inpos] & 65535) << 12);
+                out[4 + outpos] = (long) (in[3 + inpos] >>> 16)
+                        | ((long) (in[4 + inpos] & 4095) << 16);
+                out[5 + outpos] = (long) (in[4 + inpos] >>> 12)
+                        | ((long) (in[5 + inpos] & 255) << 20);
+                out[6 + outpos] = (long) (in[5 + inpos] >>> 8)
+                        | ((long) (in[6 + inpos] & 15) << 24);
+                out[7 + outpos] = (long) (in[6 + inpos] >>> 4);
+                out[8 + outpos] = (long) (in[7 + inpos] & 268435455);
+                out[9 + outpos] = (long) (in[7 + inpos] >>> 28)
+                        | ((long) (in[8 + inpos] & 16777215) << 4);
+                out[10 + outpos] = (long) (in[8 + inpos] >>> 24)
+                        | ((long) (in[9 + inpos] & 1048575) << 8);
+                out[11 + outpos] = (long) (in[9 + inpos] >>> 20)
+                        | ((long) (in[10 + inpos] & 65535) << 12);
+                out[12 + outpos] = (long) (in[10 + inpos] >>> 16)
+                        | ((long) (in[11 + inpos] & 4095) << 16);
+                out[13 + outpos] = (long) (in[11 + inpos] >>> 12)
+                        | ((long) (in[12 + inpos] & 255) << 20);
+                out[14 + outpos] = (long) (in[12 + inpos] >>> 8)
+                        | ((long) (in[13 + inpos] & 15) << 24);
+                out[15 + outpos] = (long) (in[13 + inpos] >>> 4);
+                out[16 + outpos] = (long) (in[14 + inpos] & 268435455);
+                out[17 + outpos] = (long) (in[14 + inpos] >>> 28)
+                        | ((long) (in[15 + inpos] & 16777215) << 4);
+                out[18 + outpos] = (long) (in[15 + inpos] >>> 24)
+                        | ((long) (in[16 + inpos] & 1048575) << 8);
+                out[19 + outpos] = (long) (in[16 + inpos] >>> 20)
+                        | ((long) (in[17 + inpos] & 65535) << 12);
+                out[20 + outpos] = (long) (in[17 + inpos] >>> 16)
+                        | ((long) (in[18 + inpos] & 4095) << 16);
+                out[21 + outpos] = (long) (in[18 + inpos] >>> 12)
+                        | ((long) (in[19 + inpos] & 255) << 20);
+                out[22 + outpos] = (long) (in[19 + inpos] >>> 8)
+                        | ((long) (in[20 + inpos] & 15) << 24);
+                out[23 + outpos] = (long) (in[20 + inpos] >>> 4);
+                out[24 + outpos] = (long) (in[21 + inpos] & 268435455);
+                out[25 + outpos] = (long) (in[21 + inpos] >>> 28)
+                        | ((long) (in[22 + inpos] & 16777215) << 4);
+                out[26 + outpos] = (long) (in[22 + inpos] >>> 24)
+                        | ((long) (in[23 + inpos] & 1048575) << 8);
+                out[27 + outpos] = (long) (in[23 + inpos] >>> 20)
+                        | ((long) (in[24 + inpos] & 65535) << 12);
+                out[28 + outpos] = (long) (in[24 + inpos] >>> 16)
+                        | ((long) (in[25 + inpos] & 4095) << 16);
+                out[29 + outpos] = (long) (in[25 + inpos] >>> 12)
+                        | ((long) (in[26 + inpos] & 255) << 20);
+                out[30 + outpos] = (long) (in[26 + inpos] >>> 8)
+                        | ((long) (in[27 + inpos] & 15) << 24);
+                out[31 + outpos] = (long) (in[27 + inpos] >>> 4);
+        }
+
+        protected static void fastunpack29(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (long) (in[0 + inpos] & 536870911);
+                out[1 + outpos] = (long) (in[0 + inpos] >>> 29)
+                        | ((long) (in[1 + inpos] & 67108863) << 3);
+                out[2 + outpos] = (long) (in[1 + inpos] >>> 26)
+                        | ((long) (in[2 + inpos] & 8388607) << 6);
+                out[3 + outpos] = (long) (in[2 + inpos] >>> 23)
+                        | ((long) (in[3 + inpos] & 1048575) << 9);
+                out[4 + outpos] = (long) (in[3 + inpos] >>> 20)
+                        | ((long) (in[4 + inpos] & 131071) << 12);
+                out[5 + outpos] = (long) (in[4 + inpos] >>> 17)
+                        | ((long) (in[5 + inpos] & 16383) << 15);
+                out[6 + outpos] = (long) (in[5 + inpos] >>> 14)
+                        | ((long) (in[6 + inpos] & 2047) << 18);
+                out[7 + outpos] = (long) (in[6 + inpos] >>> 11)
+                        | ((long) (in[7 + inpos] & 255) << 21);
+                out[8 + outpos] = (long) (in[7 + inpos] >>> 8)
+                        | ((long) (in[8 + inpos] & 31) << 24);
+                out[9 + outpos] = (long) (in[8 + inpos] >>> 5)
+                        | ((long) (in[9 + inpos] & 3) << 27);
+                out[10 + outpos] = (long) ((in[9 + inpos] >>> 2) & 536870911);
+                out[11 + outpos] = (long) (in[9 + inpos] >>> 31)
+                        | ((long) (in[10 + inpos] & 268435455) << 1);
+                out[12 + outpos] = (long) (in[10 + inpos] >>> 28)
+                        | ((long) (in[11 + inpos] & 33554431) << 4);
+                out[13 + outpos] = (long) (in[11 + inpos] >>> 25)
+                        | ((long) (in[12 + inpos] & 4194303) << 7);
+                out[14 + outpos] = (long) (in[12 + inpos] >>> 22)
+                        | ((long) (in[13 + inpos] & 524287) << 10);
+                out[15 + outpos] = (long) (in[13 + inpos] >>> 19)
+                        | ((long) (in[14 + inpos] & 65535) << 13);
+                out[16 + outpos] = (long) (in[14 + inpos] >>> 16)
+                        | ((long) (in[15 + inpos] & 8191) << 16);
+                out[17 + outpos] = (long) (in[15 + inpos] >>> 13)
+                        | ((long) (in[16 + inpos] & 1023) << 19);
+                out[18 + outpos] = (long) (in[16 + inpos] >>> 10)
+                        | ((long) (in[17 + inpos] & 127) << 22);
+                out[19 + outpos] = (long) (in[17 + inpos] >>> 7)
+                        | ((long) (in[18 + inpos] & 15) << 25);
+                out[20 + outpos] = (long) (in[18 + inpos] >>> 4)
+                        | ((long) (in[19 + inpos] & 1) << 28);
+                out[21 + outpos] = (long) ((in[19 + inpos] >>> 1) & 536870911);
+                out[22 + outpos] = (long) (in[19 + inpos] >>> 30)
+                        | ((long) (in[20 + inpos] & 134217727) << 2);
+                out[23 + outpos] = (long) (in[20 + inpos] >>> 27)
+                        | ((long) (in[21 + inpos] & 16777215) << 5);
+                out[24 + outpos] = (long) (in[21 + inpos] >>> 24)
+                        | ((long) (in[22 + inpos] & 2097151) << 8);
+                out[25 + outpos] = (long) (in[22 + inpos] >>> 21)
+                        | ((long) (in[23 + inpos] & 262143) << 11);
+                out[26 + outpos] = (long) (in[23 + inpos] >>> 18)
+                        | ((long) (in[24 + inpos] & 32767) << 14);
+                out[27 + outpos] = (long) (in[24 + inpos] >>> 15)
+                        | ((long) (in[25 + inpos] & 4095) << 17);
+                out[28 + outpos] = (long) (in[25 + inpos] >>> 12)
+                        | ((long) (in[26 + inpos] & 511) << 20);
+                out[29 + outpos] = (long) (in[26 + inpos] >>> 9)
+                        | ((long) (in[27 + inpos] & 63) << 23);
+                out[30 + outpos] = (long) (in[27 + inpos] >>> 6)
+                        | ((long) (in[28 + inpos] & 7) << 26);
+                out[31 + outpos] = (long) (in[28 + inpos] >>> 3);
+        }
+
+        protected static void fastunpack3(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (long) (in[0 + inpos] & 7);
+                out[1 + outpos] = (long) ((in[0 + inpos] >>> 3) & 7);
+                out[2 + outpos] = (long) ((in[0 + inpos] >>> 6) & 7);
+                out[3 + outpos] = (long) ((in[0 + inpos] >>> 9) & 7);
+                out[4 + outpos] = (long) ((in[0 + inpos] >>> 12) & 7);
+                out[5 + outpos] = (long) ((in[0 + inpos] >>> 15) & 7);
+                out[6 + outpos] = (long) ((in[0 + inpos] >>> 18) & 7);
+                out[7 + outpos] = (long) ((in[0 + inpos] >>> 21) & 7);
+                out[8 + outpos] = (long) ((in[0 + inpos] >>> 24) & 7);
+                out[9 + outpos] = (long) ((in[0 + inpos] >>> 27) & 7);
+                out[10 + outpos] = (long) (in[0 + inpos] >>> 30)
+                        | ((long) (in[1 + inpos] & 1) << 2);
+                out[11 + outpos] = (long) ((in[1 + inpos] >>> 1) & 7);
+                out[12 + outpos] = (long) ((in[1 + inpos] >>> 4) & 7);
+                out[13 + outpos] = (long) ((in[1 + inpos] >>> 7) & 7);
+                out[14 + outpos] = (long) ((in[1 + inpos] >>> 10) & 7);
+                out[15 + outpos] = (long) ((in[1 + inpos] >>> 13) & 7);
+                out[16 + outpos] = (long) ((in[1 + inpos] >>> 16) & 7);
+                out[17 + outpos] = (long) ((in[1 + inpos] >>> 19) & 7);
+                out[18 + outpos] = (long) ((in[1 + inpos] >>> 22) & 7);
+                out[19 + outpos] = (long) ((in[1 + inpos] >>> 25) & 7);
+                out[20 + outpos] = (long) ((in[1 + inpos] >>> 28) & 7);
+                out[21 + outpos] = (long) (in[1 + inpos] >>> 31)
+                        | ((long) (in[2 + inpos] & 3) << 1);
+                out[22 + outpos] = (long) ((in[2 + inpos] >>> 2) & 7);
+                out[23 + outpos] = (long) ((in[2 + inpos] >>> 5) & 7);
+                out[24 + outpos] = (long) ((in[2 + inpos] >>> 8) & 7);
+                out[25 + outpos] = (long) ((in[2 + inpos] >>> 11) & 7);
+                out[26 + outpos] = (long) ((in[2 + inpos] >>> 14) & 7);
+                out[27 + outpos] = (long) ((in[2 + inpos] >>> 17) & 7);
+                out[28 + outpos] = (long) ((in[2 + inpos] >>> 20) & 7);
+                out[29 + outpos] = (long) ((in[2 + inpos] >>> 23) & 7);
+                out[30 + outpos] = (long) ((in[2 + inpos] >>> 26) & 7);
+                out[31 + outpos] = (long) (in[2 + inpos] >>> 29);
+        }
+
+        protected static void fastunpack30(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (long) (in[0 + inpos] & 1073741823);
+                out[1 + outpos] = (long) (in[0 + inpos] >>> 30)
+                        | ((long) (in[1 + inpos] & 268435455) << 2);
+                out[2 + outpos] = (long) (in[1 + inpos] >>> 28)
+                        | ((long) (in[2 + inpos] & 67108863) << 4);
+                out[3 + outpos] = (long) (in[2 + inpos] >>> 26)
+                        | ((long) (in[3 + inpos] & 16777215) << 6);
+                out[4 + outpos] = (long) (in[3 + inpos] >>> 24)
+                        | ((long) (in[4 + inpos] & 4194303) << 8);
+                out[5 + outpos] = (long) (in[4 + inpos] >>> 22)
+                        | ((long) (in[5 + inpos] & 1048575) << 10);
+                out[6 + outpos] = (long) (in[5 + inpos] >>> 20)
+                        | ((long) (in[6 + inpos] & 262143) << 12);
+                out[7 + outpos] = (long) (in[6 + inpos] >>> 18)
+                        | ((long) (in[7 + inpos] & 65535) << 14);
+                out[8 + outpos] = (long) (in[7 + inpos] >>> 16)
+                        | ((long) (in[8 + inpos] & 16383) << 16);
+                out[9 + outpos] = (long) (in[8 + inpos] >>> 14)
+                        | ((long) (in[9 + inpos] & 4095) << 18);
+                out[10 + outpos] = (long) (in[9 + inpos] >>> 12)
+                        | ((long) (in[10 + inpos] & 1023) << 20);
+                out[11 + outpos] = (long) (in[10 + inpos] >>> 10)
+                        | ((long) (in[11 + inpos] & 255) << 22);
+                out[12 + outpos] = (long) (in[11 + inpos] >>> 8)
+                        | ((long) (in[12 + inpos] & 63) << 24);
+                out[13 + outpos] = (long) (in[12 + inpos] >>> 6)
+                        | ((long) (in[13 + inpos] & 15) << 26);
+                out[14 + outpos] = (long) (in[13 + inpos] >>> 4)
+                        | ((long) (in[14 + inpos] & 3) << 28);
+                out[15 + outpos] = (long) (in[14 + inpos] >>> 2);
+                out[16 + outpos] = (long) (in[15 + inpos] & 1073741823);
+                out[17 + outpos] = (long) (in[15 + inpos] >>> 30)
+                        | ((long) (in[16 + inpos] & 268435455) << 2);
+                out[18 + outpos] = (long) (in[16 + inpos] >>> 28)
+                        | ((long) (in[17 + inpos] & 67108863) << 4);
+                out[19 + outpos] = (long) (in[17 + inpos] >>> 26)
+                        | ((long) (in[18 + inpos] & 16777215) << 6);
+                out[20 + outpos] = (long) (in[18 + inpos] >>> 24)
+                        | ((long) (in[19 + inpos] & 4194303) << 8);
+                out[21 + outpos] = (long) (in[19 + inpos] >>> 22)
+                        | ((long) (in[20 + inpos] & 1048575) << 10);
+                out[22 + outpos] = (long) (in[20 + inpos] >>> 20)
+                        | ((long) (in[21 + inpos] & 262143) << 12);
+                out[23 + outpos] = (long) (in[21 + inpos] >>> 18)
+                        | ((long) (in[22 + inpos] & 65535) << 14);
+                out[24 + outpos] = (long) (in[22 + inpos] >>> 16)
+                        | ((long) (in[23 + inpos] & 16383) << 16);
+                out[25 + outpos] = (long) (in[23 + inpos] >>> 14)
+                        | ((long) (in[24 + inpos] & 4095) << 18);
+                out[26 + outpos] = (long) (in[24 + inpos] >>> 12)
+                        | ((long) (in[25 + inpos] & 1023) << 20);
+                out[27 + outpos] = (long) (in[25 + inpos] >>> 10)
+                        | ((long) (in[26 + inpos] & 255) << 22);
+                out[28 + outpos] = (long) (in[26 + inpos] >>> 8)
+                        | ((long) (in[27 + inpos] & 63) << 24);
+                out[29 + outpos] = (long) (in[27 + inpos] >>> 6)
+                        | ((long) (in[28 + inpos] & 15) << 26);
+                out[30 + outpos] = (long) (in[28 + inpos] >>> 4)
+                        | ((long) (in[29 + inpos] & 3) << 28);
+                out[31 + outpos] = (long) (in[29 + inpos] >>> 2);
+        }
+
+        protected static void fastunpack31(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (long) (in[0 + inpos] & 2147483647);
+                out[1 + outpos] = (long) (in[0 + inpos] >>> 31)
+                        | ((long) (in[1 + inpos] & 1073741823) << 1);
+                out[2 + outpos] = (long) (in[1 + inpos] >>> 30)
+                        | ((long) (in[2 + inpos] & 536870911) << 2);
+                out[3 + outpos] = (long) (in[2 + inpos] >>> 29)
+                        | ((long) (in[3 + inpos] & 268435455) << 3);
+                out[4 + outpos] = (long) (in[3 + inpos] >>> 28)
+                        | ((long) (in[4 + inpos] & 134217727) << 4);
+                out[5 + outpos] = (long) (in[4 + inpos] >>> 27)
+                        | ((long) (in[5 + inpos] & 67108863) << 5);
+                out[6 + outpos] = (long) (in[5 + inpos] >>> 26)
+                        | ((long) (in[6 + inpos] & 33554431) << 6);
+                out[7 + outpos] = (long) (in[6 + inpos] >>> 25)
+                        | ((long) (in[7 + inpos] & 16777215) << 7);
+                out[8 + outpos] = (long) (in[7 + inpos] >>> 24)
+                        | ((long) (in[8 + inpos] & 8388607) << 8);
+                out[9 + outpos] = (long) (in[8 + inpos] >>> 23)
+                        | ((long) (in[9 + inpos] & 4194303) << 9);
+                out[10 + outpos] = (long) (in[9 + inpos] >>> 22)
+                        | ((long) (in[10 + inpos] & 2097151) << 10);
+                out[11 + outpos] = (long) (in[10 + inpos] >>> 21)
+                        | ((long) (in[11 + inpos] & 1048575) << 11);
+                out[12 + outpos] = (long) (in[11 + inpos] >>> 20)
+                        | ((long) (in[12 + inpos] & 524287) << 12);
+                out[13 + outpos] = (long) (in[12 + inpos] >>> 19)
+                        | ((long) (in[13 + inpos] & 262143) << 13);
+                out[14 + outpos] = (long) (in[13 + inpos] >>> 18)
+                        | ((long) (in[14 + inpos] & 131071) << 14);
+                out[15 + outpos] = (long) (in[14 + inpos] >>> 17)
+                        | ((long) (in[15 + inpos] & 65535) << 15);
+                out[16 + outpos] = (long) (in[15 + inpos] >>> 16)
+                        | ((long) (in[16 + inpos] & 32767) << 16);
+                out[17 + outpos] = (long) (in[16 + inpos] >>> 15)
+                        | ((long) (in[17 + inpos] & 16383) << 17);
+                out[18 + outpos] = (long) (in[17 + inpos] >>> 14)
+                        | ((long) (in[18 + inpos] & 8191) << 18);
+                out[19 + outpos] = (long) (in[18 + inpos] >>> 13)
+                        | ((long) (in[19 + inpos] & 4095) << 19);
+                out[20 + outpos] = (long) (in[19 + inpos] >>> 12)
+                        | ((long) (in[20 + inpos] & 2047) << 20);
+                out[21 + outpos] = (long) (in[20 + inpos] >>> 11)
+                        | ((long) (in[21 + inpos] & 1023) << 21);
+                out[22 + outpos] = (long) (in[21 + inpos] >>> 10)
+                        | ((long) (in[22 + inpos] & 511) << 22);
+                out[23 + outpos] = (long) (in[22 + inpos] >>> 9)
+                        | ((long) (in[23 + inpos] & 255) << 23);
+                out[24 + outpos] = (long) (in[23 + inpos] >>> 8)
+                        | ((long) (in[24 + inpos] & 127) << 24);
+                out[25 + outpos] = (long) (in[24 + inpos] >>> 7)
+                        | ((long) (in[25 + inpos] & 63) << 25);
+                out[26 + outpos] = (long) (in[25 + inpos] >>> 6)
+                        | ((long) (in[26 + inpos] & 31) << 26);
+                out[27 + outpos] = (long) (in[26 + inpos] >>> 5)
+                        | ((long) (in[27 + inpos] & 15) << 27);
+                out[28 + outpos] = (long) (in[27 + inpos] >>> 4)
+                        | ((long) (in[28 + inpos] & 7) << 28);
+                out[29 + outpos] = (long) (in[28 + inpos] >>> 3)
+                        | ((long) (in[29 + inpos] & 3) << 29);
+                out[30 + outpos] = (long) (in[29 + inpos] >>> 2)
+                        | ((long) (in[30 + inpos] & 1) << 30);
+                out[31 + outpos] = (long) (in[30 + inpos] >>> 1);
+        }
+
+        protected static void fastunpack32(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (in[0 + inpos] & 4294967295L);
+                out[1 + outpos] = (in[1 + inpos] & 4294967295L);
+                out[2 + outpos] = (in[2 + inpos] & 4294967295L);
+                out[3 + outpos] = (in[3 + inpos] & 4294967295L);
+                out[4 + outpos] = (in[4 + inpos] & 4294967295L);
+                out[5 + outpos] = (in[5 + inpos] & 4294967295L);
+                out[6 + outpos] = (in[6 + inpos] & 4294967295L);
+                out[7 + outpos] = (in[7 + inpos] & 4294967295L);
+                out[8 + outpos] = (in[8 + inpos] & 4294967295L);
+                out[9 + outpos] = (in[9 + inpos] & 4294967295L);
+                out[10 + outpos] = (in[10 + inpos] & 4294967295L);
+                out[11 + outpos] = (in[11 + inpos] & 4294967295L);
+                out[12 + outpos] = (in[12 + inpos] & 4294967295L);
+                out[13 + outpos] = (in[13 + inpos] & 4294967295L);
+                out[14 + outpos] = (in[14 + inpos] & 4294967295L);
+                out[15 + outpos] = (in[15 + inpos] & 4294967295L);
+                out[16 + outpos] = (in[16 + inpos] & 4294967295L);
+                out[17 + outpos] = (in[17 + inpos] & 4294967295L);
+                out[18 + outpos] = (in[18 + inpos] & 4294967295L);
+                out[19 + outpos] = (in[19 + inpos] & 4294967295L);
+                out[20 + outpos] = (in[20 + inpos] & 4294967295L);
+                out[21 + outpos] = (in[21 + inpos] & 4294967295L);
+                out[22 + outpos] = (in[22 + inpos] & 4294967295L);
+                out[23 + outpos] = (in[23 + inpos] & 4294967295L);
+                out[24 + outpos] = (in[24 + inpos] & 4294967295L);
+                out[25 + outpos] = (in[25 + inpos] & 4294967295L);
+                out[26 + outpos] = (in[26 + inpos] & 4294967295L);
+                out[27 + outpos] = (in[27 + inpos] & 4294967295L);
+                out[28 + outpos] = (in[28 + inpos] & 4294967295L);
+                out[29 + outpos] = (in[29 + inpos] & 4294967295L);
+                out[30 + outpos] = (in[30 + inpos] & 4294967295L);
+                out[31 + outpos] = (in[31 + inpos] & 4294967295L);
+        }
+
+        protected static void fastunpack33(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (in[0 + inpos] & 4294967295L)
+                        | ((long) (in[1 + inpos] & 1) << 32);
+                out[1 + outpos] = (long) (in[1 + inpos] >>> 1)
+                        | ((long) (in[2 + inpos] & 3) << 31);
+                out[2 + outpos] = (long) (in[2 + inpos] >>> 2)
+                        | ((long) (in[3 + inpos] & 7) << 30);
+                out[3 + outpos] = (long) (in[3 + inpos] >>> 3)
+                        | ((long) (in[4 + inpos] & 15) << 29);
+                out[4 + outpos] = (long) (in[4 + inpos] >>> 4)
+                        | ((long) (in[5 + inpos] & 31) << 28);
+                out[5 + outpos] = (long) (in[5 + inpos] >>> 5)
+                        | ((long) (in[6 + inpos] & 63) << 27);
+                out[6 + outpos] = (long) (in[6 + inpos] >>> 6)
+                        | ((long) (in[7 + inpos] & 127) << 26);
+                out[7 + outpos] = (long) (in[7 + inpos] >>> 7)
+                        | ((long) (in[8 + inpos] & 255) << 25);
+                out[8 + outpos] = (long) (in[8 + inpos] >>> 8)
+                        | ((long) (in[9 + inpos] & 511) << 24);
+                out[9 + outpos] = (long) (in[9 + inpos] >>> 9)
+                        | ((long) (in[10 + inpos] & 1023) << 23);
+                out[10 + outpos] = (long) (in[10 + inpos] >>> 10)
+                        | ((long) (in[11 + inpos] & 2047) << 22);
+                out[11 + outpos] = (long) (in[11 + inpos] >>> 11)
+                        | ((long) (in[12 + inpos] & 4095) << 21);
+                out[12 + outpos] = (long) (in[12 + inpos] >>> 12)
+                        | ((long) (in[13 + inpos] & 8191) << 20);
+                out[13 + outpos] = (long) (in[13 + inpos] >>> 13)
+                        | ((long) (in[14 + inpos] & 16383) << 19);
+                out[14 + outpos] = (long) (in[14 + inpos] >>> 14)
+                        | ((long) (in[15 + inpos] & 32767) << 18);
+                out[15 + outpos] = (long) (in[15 + inpos] >>> 15)
+                        | ((long) (in[16 + inpos] & 65535) << 17);
+                out[16 + outpos] = (long) (in[16 + inpos] >>> 16)
+                        | ((long) (in[17 + inpos] & 131071) << 16);
+                out[17 + outpos] = (long) (in[17 + inpos] >>> 17)
+                        | ((long) (in[18 + inpos] & 262143) << 15);
+                out[18 + outpos] = (long) (in[18 + inpos] >>> 18)
+                        | ((long) (in[19 + inpos] & 524287) << 14);
+                out[19 + outpos] = (long) (in[19 + inpos] >>> 19)
+                        | ((long) (in[20 + inpos] & 1048575) << 13);
+                out[20 + outpos] = (long) (in[20 + inpos] >>> 20)
+                        | ((long) (in[21 + inpos] & 2097151) << 12);
+                out[21 + outpos] = (long) (in[21 + inpos] >>> 21)
+                        | ((long) (in[22 + inpos] & 4194303) << 11);
+                out[22 + outpos] = (long) (in[22 + inpos] >>> 22)
+                        | ((long) (in[23 + inpos] & 8388607) << 10);
+                out[23 + outpos] = (long) (in[23 + inpos] >>> 23)
+                        | ((long) (in[24 + inpos] & 16777215) << 9);
+                out[24 + outpos] = (long) (in[24 + inpos] >>> 24)
+                        | ((long) (in[25 + inpos] & 33554431) << 8);
+                out[25 + outpos] = (long) (in[25 + inpos] >>> 25)
+                        | ((long) (in[26 + inpos] & 67108863) << 7);
+                out[26 + outpos] = (long) (in[26 + inpos] >>> 26)
+                        | ((long) (in[27 + inpos] & 134217727) << 6);
+                out[27 + outpos] = (long) (in[27 + inpos] >>> 27)
+                        | ((long) (in[28 + inpos] & 268435455) << 5);
+                out[28 + outpos] = (long) (in[28 + inpos] >>> 28)
+                        | ((long) (in[29 + inpos] & 536870911) << 4);
+                out[29 + outpos] = (long) (in[29 + inpos] >>> 29)
+                        | ((long) (in[30 + inpos] & 1073741823) << 3);
+                out[30 + outpos] = (long) (in[30 + inpos] >>> 30)
+                        | ((long) (in[31 + inpos] & 2147483647) << 2);
+                out[31 + outpos] = (long) (in[31 + inpos] >>> 31)
+                        | ((in[32 + inpos] & 4294967295L) << 1);
+        }
+
+        protected static void fastunpack34(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (in[0 + inpos] & 4294967295L)
+                        | ((long) (in[1 + inpos] & 3) << 32);
+                out[1 + outpos] = (long) (in[1 + inpos] >>> 2)
+                        | ((long) (in[2 + inpos] & 15) << 30);
+                out[2 + outpos] = (long) (in[2 + inpos] >>> 4)
+                        | ((long) (in[3 + inpos] & 63) << 28);
+                out[3 + outpos] = (long) (in[3 + inpos] >>> 6)
+                        | ((long) (in[4 + inpos] & 255) << 26);
+                out[4 + outpos] = (long) (in[4 + inpos] >>> 8)
+                        | ((long) (in[5 + inpos] & 1023) << 24);
+                out[5 + outpos] = (long) (in[5 + inpos] >>> 10)
+                        | ((long) (in[6 + inpos] & 4095) << 22);
+                out[6 + outpos] = (long) (in[6 + inpos] >>> 12)
+                        | ((long) (in[7 + inpos] & 16383) << 20);
+                out[7 + outpos] = (long) (in[7 + inpos] >>> 14)
+                        | ((long) (in[8 + inpos] & 65535) << 18);
+                out[8 + outpos] = (long) (in[8 + inpos] >>> 16)
+                        | ((long) (in[9 + inpos] & 262143) << 16);
+                out[9 + outpos] = (long) (in[9 + inpos] >>> 18)
+                        | ((long) (in[10 + inpos] & 1048575) << 14);
+                out[10 + outpos] = (long) (in[10 + inpos] >>> 20)
+                        | ((long) (in[11 + inpos] & 4194303) << 12);
+                out[11 + outpos] = (long) (in[11 + inpos] >>> 22)
+                        | ((long) (in[12 + inpos] & 16777215) << 10);
+                out[12 + outpos] = (long) (in[12 + inpos] >>> 24)
+                        | ((long) (in[13 + inpos] & 67108863) << 8);
+                out[13 + outpos] = (long) (in[13 + inpos] >>> 26)
+                        | ((long) (in[14 + inpos] & 268435455) << 6);
+                out[14 + outpos] = (long) (in[14 + inpos] >>> 28)
+                        | ((long) (in[15 + inpos] & 1073741823) << 4);
+                out[15 + outpos] = (long) (in[15 + inpos] >>> 30)
+                        | ((in[16 + inpos] & 4294967295L) << 2);
+                out[16 + outpos] = (in[17 + inpos] & 4294967295L)
+                        | ((long) (in[18 + inpos] & 3) << 32);
+                out[17 + outpos] = (long) (in[18 + inpos] >>> 2)
+                        | ((long) (in[19 + inpos] & 15) << 30);
+                out[18 + outpos] = (long) (in[19 + inpos] >>> 4)
+                        | ((long) (in[20 + inpos] & 63) << 28);
+                out[19 + outpos] = (long) (in[20 + inpos] >>> 6)
+                        | ((long) (in[21 + inpos] & 255) << 26);
+                out[20 + outpos] = (long) (in[21 + inpos] >>> 8)
+                        | ((long) (in[22 + inpos] & 1023) << 24);
+                out[21 + outpos] = (long) (in[22 + inpos] >>> 10)
+                        | ((long) (in[23 + inpos] & 4095) << 22);
+                out[22 + outpos] = (long) (in[23 + inpos] >>> 12)
+                        | ((long) (in[24 + inpos] & 16383) << 20);
+                out[23 + outpos] = (long) (in[24 + inpos] >>> 14)
+                        | ((long) (in[25 + inpos] & 65535) << 18);
+                out[24 + outpos] = (long) (in[25 + inpos] >>> 16)
+                        | ((long) (in[26 + inpos] & 262143) << 16);
+                out[25 + outpos] = (long) (in[26 + inpos] >>> 18)
+                        | ((long) (in[27 + inpos] & 1048575) << 14);
+                out[26 + outpos] = (long) (in[27 + inpos] >>> 20)
+                        | ((long) (in[28 + inpos] & 4194303) << 12);
+                out[27 + outpos] = (long) (in[28 + inpos] >>> 22)
+                        | ((long) (in[29 + inpos] & 16777215) << 10);
+                out[28 + outpos] = (long) (in[29 + inpos] >>> 24)
+                        | ((long) (in[30 + inpos] & 67108863) << 8);
+                out[29 + outpos] = (long) (in[30 + inpos] >>> 26)
+                        | ((long) (in[31 + inpos] & 268435455) << 6);
+                out[30 + outpos] = (long) (in[31 + inpos] >>> 28)
+                        | ((long) (in[32 + inpos] & 1073741823) << 4);
+                out[31 + outpos] = (long) (in[32 + inpos] >>> 30)
+                        | ((in[33 + inpos] & 4294967295L) << 2);
+        }
+
+        protected static void fastunpack35(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (in[0 + inpos] & 4294967295L)
+                        | ((long) (in[1 + inpos] & 7) << 32);
+                out[1 + outpos] = (long) (in[1 + inpos] >>> 3)
+                        | ((long) (in[2 + inpos] & 63) << 29);
+                out[2 + outpos] = (long) (in[2 + inpos] >>> 6)
+                        | ((long) (in[3 + inpos] & 511) << 26);
+                out[3 + outpos] = (long) (in[3 + inpos] >>> 9)
+                        | ((long) (in[4 + inpos] & 4095) << 23);
+                out[4 + outpos] = (long) (in[4 + inpos] >>> 12)
+                        | ((long) (in[5 + inpos] & 32767) << 20);
+                out[5 + outpos] = (long) (in[5 + inpos] >>> 15)
+                        | ((long) (in[6 + inpos] & 262143) << 17);
+                out[6 + outpos] = (long) (in[6 + inpos] >>> 18)
+                        | ((long) (in[7 + inpos] & 2097151) << 14);
+                out[7 + outpos] = (long) (in[7 + inpos] >>> 21)
+                        | ((long) (in[8 + inpos] & 16777215) << 11);
+                out[8 + outpos] = (long) (in[8 + inpos] >>> 24)
+                        | ((long) (in[9 + inpos] & 134217727) << 8);
+                out[9 + outpos] = (long) (in[9 + inpos] >>> 27)
+                        | ((long) (in[10 + inpos] & 1073741823) << 5);
+                out[10 + outpos] = (long) (in[10 + inpos] >>> 30)
+                        | ((in[11 + inpos] & 4294967295L) << 2)
+                        | ((long) (in[12 + inpos] & 1) << 34);
+                out[11 + outpos] = (long) (in[12 + inpos] >>> 1)
+                        | ((long) (in[13 + inpos] & 15) << 31);
+                out[12 + outpos] = (long) (in[13 + inpos] >>> 4)
+                        | ((long) (in[14 + inpos] & 127) << 28);
+                out[13 + outpos] = (long) (in[14 + inpos] >>> 7)
+                        | ((long) (in[15 + inpos] & 1023) << 25);
+                out[14 + outpos] = (long) (in[15 + inpos] >>> 10)
+                        | ((long) (in[16 + inpos] & 8191) << 22);
+                out[15 + outpos] = (long) (in[16 + inpos] >>> 13)
+                        | ((long) (in[17 + inpos] & 65535) << 19);
+                out[16 + outpos] = (long) (in[17 + inpos] >>> 16)
+                        | ((long) (in[18 + inpos] & 524287) << 16);
+                out[17 + outpos] = (long) (in[18 + inpos] >>> 19)
+                        | ((long) (in[19 + inpos] & 4194303) << 13);
+                out[18 + outpos] = (long) (in[19 + inpos] >>> 22)
+                        | ((long) (in[20 + inpos] & 33554431) << 10);
+                out[19 + outpos] = (long) (in[20 + inpos] >>> 25)
+                        | ((long) (in[21 + inpos] & 268435455) << 7);
+                out[20 + outpos] = (long) (in[21 + inpos] >>> 28)
+                        | ((long) (in[22 + inpos] & 2147483647) << 4);
+                out[21 + outpos] = (long) (in[22 + inpos] >>> 31)
+                        | ((in[23 + inpos] & 4294967295L) << 1)
+                        | ((long) (in[24 + inpos] & 3) << 33);
+                out[22 + outpos] = (long) (in[24 + inpos] >>> 2)
+                        | ((long) (in[25 + inpos] & 31) << 30);
+                out[23 + outpos] = (long) (in[25 + inpos] >>> 5)
+                        | ((long) (in[26 + inpos] & 255) << 27);
+                out[24 + outpos] = (long) (in[26 + inpos] >>> 8)
+                        | ((long) (in[27 + inpos] & 2047) << 24);
+                out[25 + outpos] = (long) (in[27 + inpos] >>> 11)
+                        | ((long) (in[28 + inpos] & 16383) << 21);
+                out[26 + outpos] = (long) (in[28 + inpos] >>> 14)
+                        | ((long) (in[29 + inpos] & 131071) << 18);
+                out[27 + outpos] = (long) (in[29 + inpos] >>> 17)
+                        | ((long) (in[30 + inpos] & 1048575) << 15);
+                out[28 + outpos] = (long) (in[30 + inpos] >>> 20)
+                        | ((long) (in[31 + inpos] & 8388607) << 12);
+                out[29 + outpos] = (long) (in[31 + inpos] >>> 23)
+                        | ((long) (in[32 + inpos] & 67108863) << 9);
+                out[30 + outpos] = (long) (in[32 + inpos] >>> 26)
+                        | ((long) (in[33 + inpos] & 536870911) << 6);
+                out[31 + outpos] = (long) (in[33 + inpos] >>> 29)
+                        | ((in[34 + inpos] & 4294967295L) << 3);
+        }
+
+        protected static void fastunpack36(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (in[0 + inpos] & 4294967295L)
+                        | ((long) (in[1 + inpos] & 15) << 32);
+                out[1 + outpos] = (long) (in[1 + inpos] >>> 4)
+                        | ((long) (in[2 + inpos] & 255) << 28);
+                out[2 + outpos] = (long) (in[2 + inpos] >>> 8)
+                        | ((long) (in[3 + inpos] & 4095) << 24);
+                out[3 + outpos] = (long) (in[3 + inpos] >>> 12)
+                        | ((long) (in[4 + inpos] & 65535) << 20);
+                out[4 + outpos] = (long) (in[4 + inpos] >>> 16)
+                        | ((long) (in[5 + inpos] & 1048575) << 16);
+                out[5 + outpos] = (long) (in[5 + inpos] >>> 20)
+                        | ((long) (in[6 + inpos] & 16777215) << 12);
+                out[6 + outpos] = (long) (in[6 + inpos] >>> 24)
+                        | ((long) (in[7 + inpos] & 268435455) << 8);
+                out[7 + outpos] = (long) (in[7 + inpos] >>> 28)
+                        | ((in[8 + inpos] & 4294967295L) << 4);
+                out[8 + outpos] = (in[9 + inpos] & 4294967295L)
+                        | ((long) (in[10 + inpos] & 15) << 32);
+                out[9 + outpos] = (long) (in[10 + inpos] >>> 4)
+                        | ((long) (in[11 + inpos] & 255) << 28);
+                out[10 + outpos] = (long) (in[11 + inpos] >>> 8)
+                        | ((long) (in[12 + inpos] & 4095) << 24);
+                out[11 + outpos] = (long) (in[12 + inpos] >>> 12)
+                        | ((long) (in[13 + inpos] & 65535) << 20);
+                out[12 + outpos] = (long) (in[13 + inpos] >>> 16)
+                        | ((long) (in[14 + inpos] & 1048575) << 16);
+                out[13 + outpos] = (long) (in[14 + inpos] >>> 20)
+                        | ((long) (in[15 + inpos] & 16777215) << 12);
+                out[14 + outpos] = (long) (in[15 + inpos] >>> 24)
+                        | ((long) (in[16 + inpos] & 268435455) << 8);
+                out[15 + outpos] = (long) (in[16 + inpos] >>> 28)
+                        | ((in[17 + inpos] & 4294967295L) << 4);
+                out[16 + outpos] = (in[18 + inpos] & 4294967295L)
+                        | ((long) (in[19 + inpos] & 15) << 32);
+                out[17 + outpos] = (long) (in[19 + inpos] >>> 4)
+                        | ((long) (in[20 + inpos] & 255) << 28);
+                out[18 + outpos] = (long) (in[20 + inpos] >>> 8)
+                        | ((long) (in[21 + inpos] & 4095) << 24);
+                out[19 + outpos] = (long) (in[21 + inpos] >>> 12)
+                        | ((long) (in[22 + inpos] & 65535) << 20);
+                out[20 + outpos] = (long) (in[22 + inpos] >>> 16)
+                        | ((long) (in[23 + inpos] & 1048575) << 16);
+                out[21 + outpos] = (long) (in[23 + inpos] >>> 20)
+                        | ((long) (in[24 + inpos] & 16777215) << 12);
+                out[22 + outpos] = (long) (in[24 + inpos] >>> 24)
+                        | ((long) (in[25 + inpos] & 268435455) << 8);
+                out[23 + outpos] = (long) (in[25 + inpos] >>> 28)
+                        | ((in[26 + inpos] & 4294967295L) << 4);
+                out[24 + outpos] = (in[27 + inpos] & 4294967295L)
+                        | ((long) (in[28 + inpos] & 15) << 32);
+                out[25 + outpos] = (long) (in[28 + inpos] >>> 4)
+                        | ((long) (in[29 + inpos] & 255) << 28);
+                out[26 + outpos] = (long) (in[29 + inpos] >>> 8)
+                        | ((long) (in[30 + inpos] & 4095) << 24);
+                out[27 + outpos] = (long) (in[30 + inpos] >>> 12)
+                        | ((long) (in[31 + inpos] & 65535) << 20);
+                out[28 + outpos] = (long) (in[31 + inpos] >>> 16)
+                        | ((long) (in[32 + inpos] & 1048575) << 16);
+                out[29 + outpos] = (long) (in[32 + inpos] >>> 20)
+                        | ((long) (in[33 + inpos] & 16777215) << 12);
+                out[30 + outpos] = (long) (in[33 + inpos] >>> 24)
+                        | ((long) (in[34 + inpos] & 268435455) << 8);
+                out[31 + outpos] = (long) (in[34 + inpos] >>> 28)
+                        | ((in[35 + inpos] & 4294967295L) << 4);
+        }
+
+        protected static void fastunpack37(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (in[0 + inpos] & 4294967295L)
+                        | ((long) (in[1 + inpos] & 31) << 32);
+                out[1 + outpos] = (long) (in[1 + inpos] >>> 5)
+                        | ((long) (in[2 + inpos] & 1023) << 27);
+                out[2 + outpos] = (long) (in[2 + inpos] >>> 10)
+                        | ((long) (in[3 + inpos] & 32767) << 22);
+                out[3 + outpos] = (long) (in[3 + inpos] >>> 15)
+                        | ((long) (in[4 + inpos] & 1048575) << 17);
+                out[4 + outpos] = (long) (in[4 + inpos] >>> 20)
+                        | ((long) (in[5 + inpos] & 33554431) << 12);
+                out[5 + outpos] = (long) (in[5 + inpos] >>> 25)
+                        | ((long) (in[6 + inpos] & 1073741823) << 7);
+                out[6 + outpos] = (long) (in[6 + inpos] >>> 30)
+                        | ((in[7 + inpos] & 4294967295L) << 2)
+                        | ((long) (in[8 + inpos] & 7) << 34);
+                out[7 + outpos] = (long) (in[8 + inpos] >>> 3)
+                        | ((long) (in[9 + inpos] & 255) << 29);
+                out[8 + outpos] = (long) (in[9 + inpos] >>> 8)
+                        | ((long) (in[10 + inpos] & 8191) << 24);
+                out[9 + outpos] = (long) (in[10 + inpos] >>> 13)
+                        | ((long) (in[11 + inpos] & 262143) << 19);
+                out[10 + outpos] = (long) (in[11 + inpos] >>> 18)
+                        | ((long) (in[12 + inpos] & 8388607) << 14);
+                out[11 + outpos] = (long) (in[12 + inpos] >>> 23)
+                        | ((long) (in[13 + inpos] & 268435455) << 9);
+                out[12 + outpos] = (long) (in[13 + inpos] >>> 28)
+                        | ((in[14 + inpos] & 4294967295L) << 4)
+                        | ((long) (in[15 + inpos] & 1) << 36);
+                out[13 + outpos] = (long) (in[15 + inpos] >>> 1)
+                        | ((long) (in[16 + inpos] & 63) << 31);
+                out[14 + outpos] = (long) (in[16 + inpos] >>> 6)
+                        | ((long) (in[17 + inpos] & 2047) << 26);
+                out[15 + outpos] = (long) (in[17 + inpos] >>> 11)
+                        | ((long) (in[18 + inpos] & 65535) << 21);
+                out[16 + outpos] = (long) (in[18 + inpos] >>> 16)
+                        | ((long) (in[19 + inpos] & 2097151) << 16);
+                out[17 + outpos] = (long) (in[19 + inpos] >>> 21)
+                        | ((long) (in[20 + inpos] & 67108863) << 11);
+                out[18 + outpos] = (long) (in[20 + inpos] >>> 26)
+                        | ((long) (in[21 + inpos] & 2147483647) << 6);
+                out[19 + outpos] = (long) (in[21 + inpos] >>> 31)
+                        | ((in[22 + inpos] & 4294967295L) << 1)
+                        | ((long) (in[23 + inpos] & 15) << 33);
+                out[20 + outpos] = (long) (in[23 + inpos] >>> 4)
+                        | ((long) (in[24 + inpos] & 511) << 28);
+                out[21 + outpos] = (long) (in[24 + inpos] >>> 9)
+                        | ((long) (in[25 + inpos] & 16383) << 23);
+                out[22 + outpos] = (long) (in[25 + inpos] >>> 14)
+                        | ((long) (in[26 + inpos] & 524287) << 18);
+                out[23 + outpos] = (long) (in[26 + inpos] >>> 19)
+                        | ((long) (in[27 + inpos] & 16777215) << 13);
+                out[24 + outpos] = (long) (in[27 + inpos] >>> 24)
+                        | ((long) (in[28 + inpos] & 536870911) << 8);
+                out[25 + outpos] = (long) (in[28 + inpos] >>> 29)
+                        | ((in[29 + inpos] & 4294967295L) << 3)
+                        | ((long) (in[30 + inpos] & 3) << 35);
+                out[26 + outpos] = (long) (in[30 + inpos] >>> 2)
+                        | ((long) (in[31 + inpos] & 127) << 30);
+                out[27 + outpos] = (long) (in[31 + inpos] >>> 7)
+                        | ((long) (in[32 + inpos] & 4095) << 25);
+                out[28 + outpos] = (long) (in[32 + inpos] >>> 12)
+                        | ((long) (in[33 + inpos] & 131071) << 20);
+                out[29 + outpos] = (long) (in[33 + inpos] >>> 17)
+                        | ((long) (in[34 + inpos] & 4194303) << 15);
+                out[30 + outpos] = (long) (in[34 + inpos] >>> 22)
+                        | ((long) (in[35 + inpos] & 134217727) << 10);
+                out[31 + outpos] = (long) (in[35 + inpos] >>> 27)
+                        | ((in[36 + inpos] & 4294967295L) << 5);
+        }
+
+        protected static void fastunpack38(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (in[0 + inpos] & 4294967295L)
+                        | ((long) (in[1 + inpos] & 63) << 32);
+                out[1 + outpos] = (long) (in[1 + inpos] >>> 6)
+                        | ((long) (in[2 + inpos] & 4095) << 26);
+                out[2 + outpos] = (long) (in[2 + inpos] >>> 12)
+                        | ((long) (in[3 + inpos] & 262143) << 20);
+                out[3 + outpos] = (long) (in[3 + inpos] >>> 18)
+                        | ((long) (in[4 + inpos] & 16777215) << 14);
+                out[4 + outpos] = (long) (in[4 + inpos] >>> 24)
+                        | ((long) (in[5 + inpos] & 1073741823) << 8);
+                out[5 + outpos] = (long) (in[5 + inpos] >>> 30)
+                        | ((in[6 + inpos] & 4294967295L) << 2)
+                        | ((long) (in[7 + inpos] & 15) << 34);
+                out[6 + outpos] = (long) (in[7 + inpos] >>> 4)
+                        | ((long) (in[8 + inpos] & 1023) << 28);
+                out[7 + outpos] = (long) (in[8 + inpos] >>> 10)
+                        | ((long) (in[9 + inpos] & 65535) << 22);
+                out[8 + outpos] = (long) (in[9 + inpos] >>> 16)
+                        | ((long) (in[10 + inpos] & 4194303) << 16);
+                out[9 + outpos] = (long) (in[10 + inpos] >>> 22)
+                        | ((long) (in[11 + inpos] & 268435455) << 10);
+                out[10 + outpos] = (long) (in[11 + inpos] >>> 28)
+                        | ((in[12 + inpos] & 4294967295L) << 4)
+                        | ((long) (in[13 + inpos] & 3) << 36);
+                out[11 + outpos] = (long) (in[13 + inpos] >>> 2)
+                        | ((long) (in[14 + inpos] & 255) << 30);
+                out[12 + outpos] = (long) (in[14 + inpos] >>> 8)
+                        | ((long) (in[15 + inpos] & 16383) << 24);
+                out[13 + outpos] = (long) (in[15 + inpos] >>> 14)
+                        | ((long) (in[16 + inpos] & 1048575) << 18);
+                out[14 + outpos] = (long) (in[16 + inpos] >>> 20)
+                        | ((long) (in[17 + inpos] & 67108863) << 12);
+                out[15 + outpos] = (long) (in[17 + inpos] >>> 26)
+                        | ((in[18 + inpos] & 4294967295L) << 6);
+                out[16 + outpos] = (in[19 + inpos] & 4294967295L)
+                        | ((long) (in[20 + inpos] & 63) << 32);
+                out[17 + outpos] = (long) (in[20 + inpos] >>> 6)
+                        | ((long) (in[21 + inpos] & 4095) << 26);
+                out[18 + outpos] = (long) (in[21 + inpos] >>> 12)
+                        | ((long) (in[22 + inpos] & 262143) << 20);
+                out[19 + outpos] = (long) (in[22 + inpos] >>> 18)
+                        | ((long) (in[23 + inpos] & 16777215) << 14);
+                out[20 + outpos] = (long) (in[23 + inpos] >>> 24)
+                        | ((long) (in[24 + inpos] & 1073741823) << 8);
+                out[21 + outpos] = (long) (in[24 + inpos] >>> 30)
+                        | ((in[25 + inpos] & 4294967295L) << 2)
+                        | ((long) (in[26 + inpos] & 15) << 34);
+                out[22 + outpos] = (long) (in[26 + inpos] >>> 4)
+                        | ((long) (in[27 + inpos] & 1023) << 28);
+                out[23 + outpos] = (long) (in[27 + inpos] >>> 10)
+                        | ((long) (in[28 + inpos] & 65535) << 22);
+                out[24 + outpos] = (long) (in[28 + inpos] >>> 16)
+                        | ((long) (in[29 + inpos] & 4194303) << 16);
+                out[25 + outpos] = (long) (in[29 + inpos] >>> 22)
+                        | ((long) (in[30 + inpos] & 268435455) << 10);
+                out[26 + outpos] = (long) (in[30 + inpos] >>> 28)
+                        | ((in[31 + inpos] & 4294967295L) << 4)
+                        | ((long) (in[32 + inpos] & 3) << 36);
+                out[27 + outpos] = (long) (in[32 + inpos] >>> 2)
+                        | ((long) (in[33 + inpos] & 255) << 30);
+                out[28 + outpos] = (long) (in[33 + inpos] >>> 8)
+                        | ((long) (in[34 + inpos] & 16383) << 24);
+                out[29 + outpos] = (long) (in[34 + inpos] >>> 14)
+                        | ((long) (in[35 + inpos] & 1048575) << 18);
+                out[30 + outpos] = (long) (in[35 + inpos] >>> 20)
+                        | ((long) (in[36 + inpos] & 67108863) << 12);
+                out[31 + outpos] = (long) (in[36 + inpos] >>> 26)
+                        | ((in[37 + inpos] & 4294967295L) << 6);
+        }
+
+        protected static void fastunpack39(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (in[0 + inpos] & 4294967295L)
+                        | ((long) (in[1 + inpos] & 127) << 32);
+                out[1 + outpos] = (long) (in[1 + inpos] >>> 7)
+                        | ((long) (in[2 + inpos] & 16383) << 25);
+                out[2 + outpos] = (long) (in[2 + inpos] >>> 14)
+                        | ((long) (in[3 + inpos] & 2097151) << 18);
+                out[3 + outpos] = (long) (in[3 + inpos] >>> 21)
+                        | ((long) (in[4 + inpos] & 268435455) << 11);
+                out[4 + outpos] = (long) (in[4 + inpos] >>> 28)
+                        | ((in[5 + inpos] & 4294967295L) << 4)
+                        | ((long) (in[6 + inpos] & 7) << 36);
+                out[5 + outpos] = (long) (in[6 + inpos] >>> 3)
+                        | ((long) (in[7 + inpos] & 1023) << 29);
+                out[6 + outpos] = (long) (in[7 + inpos] >>> 10)
+                        | ((long) (in[8 + inpos] & 131071) << 22);
+                out[7 + outpos] = (long) (in[8 + inpos] >>> 17)
+                        | ((long) (in[9 + inpos] & 16777215) << 15);
+                out[8 + outpos] = (long) (in[9 + inpos] >>> 24)
+                        | ((long) (in[10 + inpos] & 2147483647) << 8);
+                out[9 + outpos] = (long) (in[10 + inpos] >>> 31)
+                        | ((in[11 + inpos] & 4294967295L) << 1)
+                        | ((long) (in[12 + inpos] & 63) << 33);
+                out[10 + outpos] = (long) (in[12 + inpos] >>> 6)
+                        | ((long) (in[13 + inpos] & 8191) << 26);
+                out[11 + outpos] = (long) (in[13 + inpos] >>> 13)
+                        | ((long) (in[14 + inpos] & 1048575) << 19);
+                out[12 + outpos] = (long) (in[14 + inpos] >>> 20)
+                        | ((long) (in[15 + inpos] & 134217727) << 12);
+                out[13 + outpos] = (long) (in[15 + inpos] >>> 27)
+                        | ((in[16 + inpos] & 4294967295L) << 5)
+                        | ((long) (in[17 + inpos] & 3) << 37);
+                out[14 + outpos] = (long) (in[17 + inpos] >>> 2)
+                        | ((long) (in[18 + inpos] & 511) << 30);
+                out[15 + outpos] = (long) (in[18 + inpos] >>> 9)
+                        | ((long) (in[19 + inpos] & 65535) << 23);
+                out[16 + outpos] = (long) (in[19 + inpos] >>> 16)
+                        | ((long) (in[20 + inpos] & 8388607) << 16);
+                out[17 + outpos] = (long) (in[20 + inpos] >>> 23)
+                        | ((long) (in[21 + inpos] & 1073741823) << 9);
+                out[18 + outpos] = (long) (in[21 + inpos] >>> 30)
+                        | ((in[22 + inpos] & 4294967295L) << 2)
+                        | ((long) (in[23 + inpos] & 31) << 34);
+                out[19 + outpos] = (long) (in[23 + inpos] >>> 5)
+                        | ((long) (in[24 + inpos] & 4095) << 27);
+                out[20 + outpos] = (long) (in[24 + inpos] >>> 12)
+                        | ((long) (in[25 + inpos] & 524287) << 20);
+                out[21 + outpos] = (long) (in[25 + inpos] >>> 19)
+                        | ((long) (in[26 + inpos] & 67108863) << 13);
+                out[22 + outpos] = (long) (in[26 + inpos] >>> 26)
+                        | ((in[27 + inpos] & 4294967295L) << 6)
+                        | ((long) (in[28 + inpos] & 1) << 38);
+                out[23 + outpos] = (long) (in[28 + inpos] >>> 1)
+                        | ((long) (in[29 + inpos] & 255) << 31);
+                out[24 + outpos] = (long) (in[29 + inpos] >>> 8)
+                        | ((long) (in[30 + inpos] & 32767) << 24);
+                out[25 + outpos] = (long) (in[30 + inpos] >>> 15)
+                        | ((long) (in[31 + inpos] & 4194303) << 17);
+                out[26 + outpos] = (long) (in[31 + inpos] >>> 22)
+                        | ((long) (in[32 + inpos] & 536870911) << 10);
+                out[27 + outpos] = (long) (in[32 + inpos] >>> 29)
+                        | ((in[33 + inpos] & 4294967295L) << 3)
+                        | ((long) (in[34 + inpos] & 15) << 35);
+                out[28 + outpos] = (long) (in[34 + inpos] >>> 4)
+                        | ((long) (in[35 + inpos] & 2047) << 28);
+                out[29 + outpos] = (long) (in[35 + inpos] >>> 11)
+                        | ((long) (in[36 + inpos] & 262143) << 21);
+                out[30 + outpos] = (long) (in[36 + inpos] >>> 18)
+                        | ((long) (in[37 + inpos] & 33554431) << 14);
+                out[31 + outpos] = (long) (in[37 + inpos] >>> 25)
+                        | ((in[38 + inpos] & 4294967295L) << 7);
+        }
+
+        protected static void fastunpack4(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (long) (in[0 + inpos] & 15);
+                out[1 + outpos] = (long) ((in[0 + inpos] >>> 4) & 15);
+                out[2 + outpos] = (long) ((in[0 + inpos] >>> 8) & 15);
+                out[3 + outpos] = (long) ((in[0 + inpos] >>> 12) & 15);
+                out[4 + outpos] = (long) ((in[0 + inpos] >>> 16) & 15);
+                out[5 + outpos] = (long) ((in[0 + inpos] >>> 20) & 15);
+                out[6 + outpos] = (long) ((in[0 + inpos] >>> 24) & 15);
+                out[7 + outpos] = (long) (in[0 + inpos] >>> 28);
+                out[8 + outpos] = (long) (in[1 + inpos] & 15);
+                out[9 + outpos] = (long) ((in[1 + inpos] >>> 4) & 15);
+                out[10 + outpos] = (long) ((in[1 + inpos] >>> 8) & 15);
+                out[11 + outpos] = (long) ((in[1 + inpos] >>> 12) & 15);
+                out[12 + outpos] = (long) ((in[1 + inpos] >>> 16) & 15);
+                out[13 + outpos] = (long) ((in[1 + inpos] >>> 20) & 15);
+                out[14 + outpos] = (long) ((in[1 + inpos] >>> 24) & 15);
+                out[15 + outpos] = (long) (in[1 + inpos] >>> 28);
+                out[16 + outpos] = (long) (in[2 + inpos] & 15);
+                out[17 + outpos] = (long) ((in[2 + inpos] >>> 4) & 15);
+                out[18 + outpos] = (long) ((in[2 + inpos] >>> 8) & 15);
+                out[19 + outpos] = (long) ((in[2 + inpos] >>> 12) & 15);
+                out[20 + outpos] = (long) ((in[2 + inpos] >>> 16) & 15);
+                out[21 + outpos] = (long) ((in[2 + inpos] >>> 20) & 15);
+                out[22 + outpos] = (long) ((in[2 + inpos] >>> 24) & 15);
+                out[23 + outpos] = (long) (in[2 + inpos] >>> 28);
+                out[24 + outpos] = (long) (in[3 + inpos] & 15);
+                out[25 + outpos] = (long) ((in[3 + inpos] >>> 4) & 15);
+                out[26 + outpos] = (long) ((in[3 + inpos] >>> 8) & 15);
+                out[27 + outpos] = (long) ((in[3 + inpos] >>> 12) & 15);
+                out[28 + outpos] = (long) ((in[3 + inpos] >>> 16) & 15);
+                out[29 + outpos] = (long) ((in[3 + inpos] >>> 20) & 15);
+                out[30 + outpos] = (long) ((in[3 + inpos] >>> 24) & 15);
+                out[31 + outpos] = (long) (in[3 + inpos] >>> 28);
+        }
+
+        protected static void fastunpack40(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (in[0 + inpos] & 4294967295L)
+                        | ((long) (in[1 + inpos] & 255) << 32);
+                out[1 + outpos] = (long) (in[1 + inpos] >>> 8)
+                        | ((long) (in[2 + inpos] & 65535) << 24);
+                out[2 + outpos] = (long) (in[2 + inpos] >>> 16)
+                        | ((long) (in[3 + inpos] & 16777215) << 16);
+                out[3 + outpos] = (long) (in[3 + inpos] >>> 24)
+                        | ((in[4 + inpos] & 4294967295L) << 8);
+                out[4 + outpos] = (in[5 + inpos] & 4294967295L)
+                        | ((long) (in[6 + inpos] & 255) << 32);
+                out[5 + outpos] = (long) (in[6 + inpos] >>> 8)
+                        | ((long) (in[7 + inpos] & 65535) << 24);
+                out[6 + outpos] = (long) (in[7 + inpos] >>> 16)
+                        | ((long) (in[8 + inpos] & 16777215) << 16);
+                out[7 + outpos] = (long) (in[8 + inpos] >>> 24)
+                        | ((in[9 + inpos] & 4294967295L) << 8);
+                out[8 + outpos] = (in[10 + inpos] & 4294967295L)
+                        | ((long) (in[11 + inpos] & 255) << 32);
+                out[9 + outpos] = (long) (in[11 + inpos] >>> 8)
+                        | ((long) (in[12 + inpos] & 65535) << 24);
+                out[10 + outpos] = (long) (in[12 + inpos] >>> 16)
+                        | ((long) (in[13 + inpos] & 16777215) << 16);
+                out[11 + outpos] = (long) (in[13 + inpos] >>> 24)
+                        | ((in[14 + inpos] & 4294967295L) << 8);
+                out[12 + outpos] = (in[15 + inpos] & 4294967295L)
+                        | ((long) (in[16 + inpos] & 255) << 32);
+                out[13 + outpos] = (long) (in[16 + inpos] >>> 8)
+                        | ((long) (in[17 + inpos] & 65535) << 24);
+                out[14 + outpos] = (long) (in[17 + inpos] >>> 16)
+                        | ((long) (in[18 + inpos] & 16777215) << 16);
+                out[15 + outpos] = (long) (in[18 + inpos] >>> 24)
+                        | ((in[19 + inpos] & 4294967295L) << 8);
+                out[16 + outpos] = (in[20 + inpos] & 4294967295L)
+                        | ((long) (in[21 + inpos] & 255) << 32);
+                out[17 + outpos] = (long) (in[21 + inpos] >>> 8)
+                        | ((long) (in[22 + inpos] & 65535) << 24);
+                out[18 + outpos] = (long) (in[22 + inpos] >>> 16)
+                        | ((long) (in[23 + inpos] & 16777215) << 16);
+                out[19 + outpos] = (long) (in[23 + inpos] >>> 24)
+                        | ((in[24 + inpos] & 4294967295L) << 8);
+                out[20 + outpos] = (in[25 + inpos] & 4294967295L)
+                        | ((long) (in[26 + inpos] & 255) << 32);
+                out[21 + outpos] = (long) (in[26 + inpos] >>> 8)
+                        | ((long) (in[27 + inpos] & 65535) << 24);
+                out[22 + outpos] = (long) (in[27 + inpos] >>> 16)
+                        | ((long) (in[28 + inpos] & 16777215) << 16);
+                out[23 + outpos] = (long) (in[28 + inpos] >>> 24)
+                        | ((in[29 + inpos] & 4294967295L) << 8);
+                out[24 + outpos] = (in[30 + inpos] & 4294967295L)
+                        | ((long) (in[31 + inpos] & 255) << 32);
+                out[25 + outpos] = (long) (in[31 + inpos] >>> 8)
+                        | ((long) (in[32 + inpos] & 65535) << 24);
+                out[26 + outpos] = (long) (in[32 + inpos] >>> 16)
+                        | ((long) (in[33 + inpos] & 16777215) << 16);
+                out[27 + outpos] = (long) (in[33 + inpos] >>> 24)
+                        | ((in[34 + inpos] & 4294967295L) << 8);
+                out[28 + outpos] = (in[35 + inpos] & 4294967295L)
+                        | ((long) (in[36 + inpos] & 255) << 32);
+                out[29 + outpos] = (long) (in[36 + inpos] >>> 8)
+                        | ((long) (in[37 + inpos] & 65535) << 24);
+                out[30 + outpos] = (long) (in[37 + inpos] >>> 16)
+                        | ((long) (in[38 + inpos] & 16777215) << 16);
+                out[31 + outpos] = (long) (in[38 + inpos] >>> 24)
+                        | ((in[39 + inpos] & 4294967295L) << 8);
+        }
+
+        protected static void fastunpack41(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (in[0 + inpos] & 4294967295L)
+                        | ((long) (in[1 + inpos] & 511) << 32);
+                out[1 + outpos] = (long) (in[1 + inpos] >>> 9)
+                        | ((long) (in[2 + inpos] & 262143) << 23);
+                out[2 + outpos] = (long) (in[2 + inpos] >>> 18)
+                        | ((long) (in[3 + inpos] & 134217727) << 14);
+                out[3 + outpos] = (long) (in[3 + inpos] >>> 27)
+                        | ((in[4 + inpos] & 4294967295L) << 5)
+                        | ((long) (in[5 + inpos] & 15) << 37);
+                out[4 + outpos] = (long) (in[5 + inpos] >>> 4)
+                        | ((long) (in[6 + inpos] & 8191) << 28);
+                out[5 + outpos] = (long) (in[6 + inpos] >>> 13)
+                        | ((long) (in[7 + inpos] & 4194303) << 19);
+                out[6 + outpos] = (long) (in[7 + inpos] >>> 22)
+                        | ((long) (in[8 + inpos] & 2147483647) << 10);
+                out[7 + outpos] = (long) (in[8 + inpos] >>> 31)
+                        | ((in[9 + inpos] & 4294967295L) << 1)
+                        | ((long) (in[10 + inpos] & 255) << 33);
+                out[8 + outpos] = (long) (in[10 + inpos] >>> 8)
+                        | ((long) (in[11 + inpos] & 131071) << 24);
+                out[9 + outpos] = (long) (in[11 + inpos] >>> 17)
+                        | ((long) (in[12 + inpos] & 67108863) << 15);
+                out[10 + outpos] = (long) (in[12 + inpos] >>> 26)
+                        | ((in[13 + inpos] & 4294967295L) << 6)
+                        | ((long) (in[14 + inpos] & 7) << 38);
+                out[11 + outpos] = (long) (in[14 + inpos] >>> 3)
+                        | ((long) (in[15 + inpos] & 4095) << 29);
+                out[12 + outpos] = (long) (in[15 + inpos] >>> 12)
+                        | ((long) (in[16 + inpos] & 2097151) << 20);
+                out[13 + outpos] = (long) (in[16 + inpos] >>> 21)
+                        | ((long) (in[17 + inpos] & 1073741823) << 11);
+                out[14 + outpos] = (long) (in[17 + inpos] >>> 30)
+                        | ((in[18 + inpos] & 4294967295L) << 2)
+                        | ((long) (in[19 + inpos] & 127) << 34);
+                out[15 + outpos] = (long) (in[19 + inpos] >>> 7)
+                        | ((long) (in[20 + inpos] & 65535) << 25);
+                out[16 + outpos] = (long) (in[20 + inpos] >>> 16)
+                        | ((long) (in[21 + inpos] & 33554431) << 16);
+                out[17 + outpos] = (long) (in[21 + inpos] >>> 25)
+                        | ((in[22 + inpos] & 4294967295L) << 7)
+                        | ((long) (in[23 + inpos] & 3) << 39);
+                out[18 + outpos] = (long) (in[23 + inpos] >>> 2)
+                        | ((long) (in[24 + inpos] & 2047) << 30);
+                out[19 + outpos] = (long) (in[24 + inpos] >>> 11)
+                        | ((long) (in[25 + inpos] & 1048575) << 21);
+                out[20 + outpos] = (long) (in[25 + inpos] >>> 20)
+                        | ((long) (in[26 + inpos] & 536870911) << 12);
+                out[21 + outpos] = (long) (in[26 + inpos] >>> 29)
+                        | ((in[27 + inpos] & 4294967295L) << 3)
+                        | ((long) (in[28 + inpos] & 63) << 35);
+                out[22 + outpos] = (long) (in[28 + inpos] >>> 6)
+                        | ((long) (in[29 + inpos] & 32767) << 26);
+                out[23 + outpos] = (long) (in[29 + inpos] >>> 15)
+                        | ((long) (in[30 + inpos] & 16777215) << 17);
+                out[24 + outpos] = (long) (in[30 + inpos] >>> 24)
+                        | ((in[31 + inpos] & 4294967295L) << 8)
+                        | ((long) (in[32 + inpos] & 1) << 40);
+                out[25 + outpos] = (long) (in[32 + inpos] >>> 1)
+                        | ((long) (in[33 + inpos] & 1023) << 31);
+                out[26 + outpos] = (long) (in[33 + inpos] >>> 10)
+                        | ((long) (in[34 + inpos] & 524287) << 22);
+                out[27 + outpos] = (long) (in[34 + inpos] >>> 19)
+                        | ((long) (in[35 + inpos] & 268435455) << 13);
+                out[28 + outpos] = (long) (in[35 + inpos] >>> 28)
+                        | ((in[36 + inpos] & 4294967295L) << 4)
+                        | ((long) (in[37 + inpos] & 31) << 36);
+                out[29 + outpos] = (long) (in[37 + inpos] >>> 5)
+                        | ((long) (in[38 + inpos] & 16383) << 27);
+                out[30 + outpos] = (long) (in[38 + inpos] >>> 14)
+                        | ((long) (in[39 + inpos] & 8388607) << 18);
+                out[31 + outpos] = (long) (in[39 + inpos] >>> 23)
+                        | ((in[40 + inpos] & 4294967295L) << 9);
+        }
+
+        protected static void fastunpack42(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (in[0 + inpos] & 4294967295L)
+                        | ((long) (in[1 + inpos] & 1023) << 32);
+                out[1 + outpos] = (long) (in[1 + inpos] >>> 10)
+                        | ((long) (in[2 + inpos] & 1048575) << 22);
+                out[2 + outpos] = (long) (in[2 + inpos] >>> 20)
+                        | ((long) (in[3 + inpos] & 1073741823) << 12);
+                out[3 + outpos] = (long) (in[3 + inpos] >>> 30)
+                        | ((in[4 + inpos] & 4294967295L) << 2)
+                        | ((long) (in[5 + inpos] & 255) << 34);
+                out[4 + outpos] = (long) (in[5 + inpos] >>> 8)
+                        | ((long) (in[6 + inpos] & 262143) << 24);
+                out[5 + outpos] = (long) (in[6 + inpos] >>> 18)
+                        | ((long) (in[7 + inpos] & 268435455) << 14);
+                out[6 + outpos] = (long) (in[7 + inpos] >>> 28)
+                        | ((in[8 + inpos] & 4294967295L) << 4)
+                        | ((long) (in[9 + inpos] & 63) << 36);
+                out[7 + outpos] = (long) (in[9 + inpos] >>> 6)
+                        | ((long) (in[10 + inpos] & 65535) << 26);
+                out[8 + outpos] = (long) (in[10 + inpos] >>> 16)
+                        | ((long) (in[11 + inpos] & 67108863) << 16);
+                out[9 + outpos] = (long) (in[11 + inpos] >>> 26)
+                        | ((in[12 + inpos] & 4294967295L) << 6)
+                        | ((long) (in[13 + inpos] & 15) << 38);
+                out[10 + outpos] = (long) (in[13 + inpos] >>> 4)
+                        | ((long) (in[14 + inpos] & 16383) << 28);
+                out[11 + outpos] = (long) (in[14 + inpos] >>> 14)
+                        | ((long) (in[15 + inpos] & 16777215) << 18);
+                out[12 + outpos] = (long) (in[15 + inpos] >>> 24)
+                        | ((in[16 + inpos] & 4294967295L) << 8)
+                        | ((long) (in[17 + inpos] & 3) << 40);
+                out[13 + outpos] = (long) (in[17 + inpos] >>> 2)
+                        | ((long) (in[18 + inpos] & 4095) << 30);
+                out[14 + outpos] = (long) (in[18 + inpos] >>> 12)
+                        | ((long) (in[19 + inpos] & 4194303) << 20);
+                out[15 + outpos] = (long) (in[19 + inpos] >>> 22)
+                        | ((in[20 + inpos] & 4294967295L) << 10);
+                out[16 + outpos] = (in[21 + inpos] & 4294967295L)
+                        | ((long) (in[22 + inpos] & 1023) << 32);
+                out[17 + outpos] = (long) (in[22 + inpos] >>> 10)
+                        | ((long) (in[23 + inpos] & 1048575) << 22);
+                out[18 + outpos] = (long) (in[23 + inpos] >>> 20)
+                        | ((long) (in[24 + inpos] & 1073741823) << 12);
+                out[19 + outpos] = (long) (in[24 + inpos] >>> 30)
+                        | ((in[25 + inpos] & 4294967295L) << 2)
+                        | ((long) (in[26 + inpos] & 255) << 34);
+                out[20 + outpos] = (long) (in[26 + inpos] >>> 8)
+                        | ((long) (in[27 + inpos] & 262143) << 24);
+                out[21 + outpos] = (long) (in[27 + inpos] >>> 18)
+                        | ((long) (in[28 + inpos] & 268435455) << 14);
+                out[22 + outpos] = (long) (in[28 + inpos] >>> 28)
+                        | ((in[29 + inpos] & 4294967295L) << 4)
+                        | ((long) (in[30 + inpos] & 63) << 36);
+                out[23 + outpos] = (long) (in[30 + inpos] >>> 6)
+                        | ((long) (in[31 + inpos] & 65535) << 26);
+                out[24 + outpos] = (long) (in[31 + inpos] >>> 16)
+                        | ((long) (in[32 + inpos] & 67108863) << 16);
+                out[25 + outpos] = (long) (in[32 + inpos] >>> 26)
+                        | ((in[33 + inpos] & 4294967295L) << 6)
+                        | ((long) (in[34 + inpos] & 15) << 38);
+                out[26 + outpos] = (long) (in[34 + inpos] >>> 4)
+                        | ((long) (in[35 + inpos] & 16383) << 28);
+                out[27 + outpos] = (long) (in[35 + inpos] >>> 14)
+                        | ((long) (in[36 + inpos] & 16777215) << 18);
+                out[28 + outpos] = (long) (in[36 + inpos] >>> 24)
+                        | ((in[37 + inpos] & 4294967295L) << 8)
+                        | ((long) (in[38 + inpos] & 3) << 40);
+                out[29 + outpos] = (long) (in[38 + inpos] >>> 2)
+                        | ((long) (in[39 + inpos] & 4095) << 30);
+                out[30 + outpos] = (long) (in[39 + inpos] >>> 12)
+                        | ((long) (in[40 + inpos] & 4194303) << 20);
+                out[31 + outpos] = (long) (in[40 + inpos] >>> 22)
+                        | ((in[41 + inpos] & 4294967295L) << 10);
+        }
+
+        protected static void fastunpack43(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (in[0 + inpos] & 4294967295L)
+                        | ((long) (in[1 + inpos] & 2047) << 32);
+                out[1 + outpos] = (long) (in[1 + inpos] >>> 11)
+                        | ((long) (in[2 + inpos] & 4194303) << 21);
+                out[2 + outpos] = (long) (in[2 + inpos] >>> 22)
+                        | ((in[3 + inpos] & 4294967295L) << 10)
+                        | ((long) (in[4 + inpos] & 1) << 42);
+                out[3 + outpos] = (long) (in[4 + inpos] >>> 1)
+                        | ((long) (in[5 + inpos] & 4095) << 31);
+                out[4 + outpos] = (long) (in[5 + inpos] >>> 12)
+                        | ((long) (in[6 + inpos] & 8388607) << 20);
+                out[5 + outpos] = (long) (in[6 + inpos] >>> 23)
+                        | ((in[7 + inpos] & 4294967295L) << 9)
+                        | ((long) (in[8 + inpos] & 3) << 41);
+                out[6 + outpos] = (long) (in[8 + inpos] >>> 2)
+                        | ((long) (in[9 + inpos] & 8191) << 30);
+                out[7 + outpos] = (long) (in[9 + inpos] >>> 13)
+                        | ((long) (in[10 + inpos] & 16777215) << 19);
+                out[8 + outpos] = (long) (in[10 + inpos] >>> 24)
+                        | ((in[11 + inpos] & 4294967295L) << 8)
+                        | ((long) (in[12 + inpos] & 7) << 40);
+                out[9 + outpos] = (long) (in[12 + inpos] >>> 3)
+                        | ((long) (in[13 + inpos] & 16383) << 29);
+                out[10 + outpos] = (long) (in[13 + inpos] >>> 14)
+                        | ((long) (in[14 + inpos] & 33554431) << 18);
+                out[11 + outpos] = (long) (in[14 + inpos] >>> 25)
+                        | ((in[15 + inpos] & 4294967295L) << 7)
+                        | ((long) (in[16 + inpos] & 15) << 39);
+                out[12 + outpos] = (long) (in[16 + inpos] >>> 4)
+                        | ((long) (in[17 + inpos] & 32767) << 28);
+                out[13 + outpos] = (long) (in[17 + inpos] >>> 15)
+                        | ((long) (in[18 + inpos] & 67108863) << 17);
+                out[14 + outpos] = (long) (in[18 + inpos] >>> 26)
+                        | ((in[19 + inpos] & 4294967295L) << 6)
+                        | ((long) (in[20 + inpos] & 31) << 38);
+                out[15 + outpos] = (long) (in[20 + inpos] >>> 5)
+                        | ((long) (in[21 + inpos] & 65535) << 27);
+                out[16 + outpos] = (long) (in[21 + inpos] >>> 16)
+                        | ((long) (in[22 + inpos] & 134217727) << 16);
+                out[17 + outpos] = (long) (in[22 + inpos] >>> 27)
+                        | ((in[23 + inpos] & 4294967295L) << 5)
+                        | ((long) (in[24 + inpos] & 63) << 37);
+                out[18 + outpos] = (long) (in[24 + inpos] >>> 6)
+                        | ((long) (in[25 + inpos] & 131071) << 26);
+                out[19 + outpos] = (long) (in[25 + inpos] >>> 17)
+                        | ((long) (in[26 + inpos] & 268435455) << 15);
+                out[20 + outpos] = (long) (in[26 + inpos] >>> 28)
+                        | ((in[27 + inpos] & 4294967295L) << 4)
+                        | ((long) (in[28 + inpos] & 127) << 36);
+                out[21 + outpos] = (long) (in[28 + inpos] >>> 7)
+                        | ((long) (in[29 + inpos] & 262143) << 25);
+                out[22 + outpos] = (long) (in[29 + inpos] >>> 18)
+                        | ((long) (in[30 + inpos] & 536870911) << 14);
+                out[23 + outpos] = (long) (in[30 + inpos] >>> 29)
+                        | ((in[31 + inpos] & 4294967295L) << 3)
+                        | ((long) (in[32 + inpos] & 255) << 35);
+                out[24 + outpos] = (long) (in[32 + inpos] >>> 8)
+                        | ((long) (in[33 + inpos] & 524287) << 24);
+                out[25 + outpos] = (long) (in[33 + inpos] >>> 19)
+                        | ((long) (in[34 + inpos] & 1073741823) << 13);
+                out[26 + outpos] = (long) (in[34 + inpos] >>> 30)
+                        | ((in[35 + inpos] & 4294967295L) << 2)
+                        | ((long) (in[36 + inpos] & 511) << 34);
+                out[27 + outpos] = (long) (in[36 + inpos] >>> 9)
+                        | ((long) (in[37 + inpos] & 1048575) << 23);
+                out[28 + outpos] = (long) (in[37 + inpos] >>> 20)
+                        | ((long) (in[38 + inpos] & 2147483647) << 12);
+                out[29 + outpos] = (long) (in[38 + inpos] >>> 31)
+                        | ((in[39 + inpos] & 4294967295L) << 1)
+                        | ((long) (in[40 + inpos] & 1023) << 33);
+                out[30 + outpos] = (long) (in[40 + inpos] >>> 10)
+                        | ((long) (in[41 + inpos] & 2097151) << 22);
+                out[31 + outpos] = (long) (in[41 + inpos] >>> 21)
+                        | ((in[42 + inpos] & 4294967295L) << 11);
+        }
+
+        protected static void fastunpack44(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (in[0 + inpos] & 4294967295L)
+                        | ((long) (in[1 + inpos] & 4095) << 32);
+                out[1 + outpos] = (long) (in[1 + inpos] >>> 12)
+                        | ((long) (in[2 + inpos] & 16777215) << 20);
+                out[2 + outpos] = (long) (in[2 + inpos] >>> 24)
+                        | ((in[3 + inpos] & 4294967295L) << 8)
+                        | ((long) (in[4 + inpos] & 15) << 40);
+                out[3 + outpos] = (long) (in[4 + inpos] >>> 4)
+                        | ((long) (in[5 + inpos] & 65535) << 28);
+                out[4 + outpos] = (long) (in[5 + inpos] >>> 16)
+                        | ((long) (in[6 + inpos] & 268435455) << 16);
+                out[5 + outpos] = (long) (in[6 + inpos] >>> 28)
+                        | ((in[7 + inpos] & 4294967295L) << 4)
+                        | ((long) (in[8 + inpos] & 255) << 36);
+                out[6 + outpos] = (long) (in[8 + inpos] >>> 8)
+                        | ((long) (in[9 + inpos] & 1048575) << 24);
+                out[7 + outpos] = (long) (in[9 + inpos] >>> 20)
+                        | ((in[10 + inpos] & 4294967295L) << 12);
+                out[8 + outpos] = (in[11 + inpos] & 4294967295L)
+                        | ((long) (in[12 + inpos] & 4095) << 32);
+                out[9 + outpos] = (long) (in[12 + inpos] >>> 12)
+                        | ((long) (in[13 + inpos] & 16777215) << 20);
+                out[10 + outpos] = (long) (in[13 + inpos] >>> 24)
+                        | ((in[14 + inpos] & 4294967295L) << 8)
+                        | ((long) (in[15 + inpos] & 15) << 40);
+                out[11 + outpos] = (long) (in[15 + inpos] >>> 4)
+                        | ((long) (in[16 + inpos] & 65535) << 28);
+                out[12 + outpos] = (long) (in[16 + inpos] >>> 16)
+                        | ((long) (in[17 + inpos] & 268435455) << 16);
+                out[13 + outpos] = (long) (in[17 + inpos] >>> 28)
+                        | ((in[18 + inpos] & 4294967295L) << 4)
+                        | ((long) (in[19 + inpos] & 255) << 36);
+                out[14 + outpos] = (long) (in[19 + inpos] >>> 8)
+                        | ((long) (in[20 + inpos] & 1048575) << 24);
+                out[15 + outpos] = (long) (in[20 + inpos] >>> 20)
+                        | ((in[21 + inpos] & 4294967295L) << 12);
+                out[16 + outpos] = (in[22 + inpos] & 4294967295L)
+                        | ((long) (in[23 + inpos] & 4095) << 32);
+                out[17 + outpos] = (long) (in[23 + inpos] >>> 12)
+                        | ((long) (in[24 + inpos] & 16777215) << 20);
+                out[18 + outpos] = (long) (in[24 + inpos] >>> 24)
+                        | ((in[25 + inpos] & 4294967295L) << 8)
+                        | ((long) (in[26 + inpos] & 15) << 40);
+                out[19 + outpos] = (long) (in[26 + inpos] >>> 4)
+                        | ((long) (in[27 + inpos] & 65535) << 28);
+                out[20 + outpos] = (long) (in[27 + inpos] >>> 16)
+                        | ((long) (in[28 + inpos] & 268435455) << 16);
+                out[21 + outpos] = (long) (in[28 + inpos] >>> 28)
+                        | ((in[29 + inpos] & 4294967295L) << 4)
+                        | ((long) (in[30 + inpos] & 255) << 36);
+                out[22 + outpos] = (long) (in[30 + inpos] >>> 8)
+                        | ((long) (in[31 + inpos] & 1048575) << 24);
+                out[23 + outpos] = (long) (in[31 + inpos] >>> 20)
+                        | ((in[32 + inpos] & 4294967295L) << 12);
+                out[24 + outpos] = (in[33 + inpos] & 4294967295L)
+                        | ((long) (in[34 + inpos] & 4095) << 32);
+                out[25 + outpos] = (long) (in[34 + inpos] >>> 12)
+                        | ((long) (in[35 + inpos] & 16777215) << 20);
+                out[26 + outpos] = (long) (in[35 + inpos] >>> 24)
+                        | ((in[36 + inpos] & 4294967295L) << 8)
+                        | ((long) (in[37 + inpos] & 15) << 40);
+                out[27 + outpos] = (long) (in[37 + inpos] >>> 4)
+                        | ((long) (in[38 + inpos] & 65535) << 28);
+                out[28 + outpos] = (long) (in[38 + inpos] >>> 16)
+                        | ((long) (in[39 + inpos] & 268435455) << 16);
+                out[29 + outpos] = (long) (in[39 + inpos] >>> 28)
+                        | ((in[40 + inpos] & 4294967295L) << 4)
+                        | ((long) (in[41 + inpos] & 255) << 36);
+                out[30 + outpos] = (long) (in[41 + inpos] >>> 8)
+                        | ((long) (in[42 + inpos] & 1048575) << 24);
+                out[31 + outpos] = (long) (in[42 + inpos] >>> 20)
+                        | ((in[43 + inpos] & 4294967295L) << 12);
+        }
+
+        protected static void fastunpack45(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (in[0 + inpos] & 4294967295L)
+                        | ((long) (in[1 + inpos] & 8191) << 32);
+                out[1 + outpos] = (long) (in[1 + inpos] >>> 13)
+                        | ((long) (in[2 + inpos] & 67108863) << 19);
+                out[2 + outpos] = (long) (in[2 + inpos] >>> 26)
+                        | ((in[3 + inpos] & 4294967295L) << 6)
+                        | ((long) (in[4 + inpos] & 127) << 38);
+                out[3 + outpos] = (long) (in[4 + inpos] >>> 7)
+                        | ((long) (in[5 + inpos] & 1048575) << 25);
+                out[4 + outpos] = (long) (in[5 + inpos] >>> 20)
+                        | ((in[6 + inpos] & 4294967295L) << 12)
+                        | ((long) (in[7 + inpos] & 1) << 44);
+                out[5 + outpos] = (long) (in[7 + inpos] >>> 1)
+                        | ((long) (in[8 + inpos] & 16383) << 31);
+                out[6 + outpos] = (long) (in[8 + inpos] >>> 14)
+                        | ((long) (in[9 + inpos] & 134217727) << 18);
+                out[7 + outpos] = (long) (in[9 + inpos] >>> 27)
+                        | ((in[10 + inpos] & 4294967295L) << 5)
+                        | ((long) (in[11 + inpos] & 255) << 37);
+                out[8 + outpos] = (long) (in[11 + inpos] >>> 8)
+                        | ((long) (in[12 + inpos] & 2097151) << 24);
+                out[9 + outpos] = (long) (in[12 + inpos] >>> 21)
+                        | ((in[13 + inpos] & 4294967295L) << 11)
+                        | ((long) (in[14 + inpos] & 3) << 43);
+                out[10 + outpos] = (long) (in[14 + inpos] >>> 2)
+                        | ((long) (in[15 + inpos] & 32767) << 30);
+                out[11 + outpos] = (long) (in[15 + inpos] >>> 15)
+                        | ((long) (in[16 + inpos] & 268435455) << 17);
+                out[12 + outpos] = (long) (in[16 + inpos] >>> 28)
+                        | ((in[17 + inpos] & 4294967295L) << 4)
+                        | ((long) (in[18 + inpos] & 511) << 36);
+                out[13 + outpos] = (long) (in[18 + inpos] >>> 9)
+                        | ((long) (in[19 + inpos] & 4194303) << 23);
+                out[14 + outpos] = (long) (in[19 + inpos] >>> 22)
+                        | ((in[20 + inpos] & 4294967295L) << 10)
+                        | ((long) (in[21 + inpos] & 7) << 42);
+                out[15 + outpos] = (long) (in[21 + inpos] >>> 3)
+                        | ((long) (in[22 + inpos] & 65535) << 29);
+                out[16 + outpos] = (long) (in[22 + inpos] >>> 16)
+                        | ((long) (in[23 + inpos] & 536870911) << 16);
+                out[17 + outpos] = (long) (in[23 + inpos] >>> 29)
+                        | ((in[24 + inpos] & 4294967295L) << 3)
+                        | ((long) (in[25 + inpos] & 1023) << 35);
+                out[18 + outpos] = (long) (in[25 + inpos] >>> 10)
+                        | ((long) (in[26 + inpos] & 8388607) << 22);
+                out[19 + outpos] = (long) (in[26 + inpos] >>> 23)
+                        | ((in[27 + inpos] & 4294967295L) << 9)
+                        | ((long) (in[28 + inpos] & 15) << 41);
+                out[20 + outpos] = (long) (in[28 + inpos] >>> 4)
+                        | ((long) (in[29 + inpos] & 131071) << 28);
+                out[21 + outpos] = (long) (in[29 + inpos] >>> 17)
+                        | ((long) (in[30 + inpos] & 1073741823) << 15);
+                out[22 + outpos] = (long) (in[30 + inpos] >>> 30)
+                        | ((in[31 + inpos] & 4294967295L) << 2)
+                        | ((long) (in[32 + inpos] & 2047) << 34);
+                out[23 + outpos] = (long) (in[32 + inpos] >>> 11)
+                        | ((long) (in[33 + inpos] & 16777215) << 21);
+                out[24 + outpos] = (long) (in[33 + inpos] >>> 24)
+                        | ((in[34 + inpos] & 4294967295L) << 8)
+                        | ((long) (in[35 + inpos] & 31) << 40);
+                out[25 + outpos] = (long) (in[35 + inpos] >>> 5)
+                        | ((long) (in[36 + inpos] & 262143) << 27);
+                out[26 + outpos] = (long) (in[36 + inpos] >>> 18)
+                        | ((long) (in[37 + inpos] & 2147483647) << 14);
+                out[27 + outpos] = (long) (in[37 + inpos] >>> 31)
+                        | ((in[38 + inpos] & 4294967295L) << 1)
+                        | ((long) (in[39 + inpos] & 4095) << 33);
+                out[28 + outpos] = (long) (in[39 + inpos] >>> 12)
+                        | ((long) (in[40 + inpos] & 33554431) << 20);
+                out[29 + outpos] = (long) (in[40 + inpos] >>> 25)
+                        | ((in[41 + inpos] & 4294967295L) << 7)
+                        | ((long) (in[42 + inpos] & 63) << 39);
+                out[30 + outpos] = (long) (in[42 + inpos] >>> 6)
+                        | ((long) (in[43 + inpos] & 524287) << 26);
+                out[31 + outpos] = (long) (in[43 + inpos] >>> 19)
+                        | ((in[44 + inpos] & 4294967295L) << 13);
+        }
+
+        protected static void fastunpack46(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (in[0 + inpos] & 4294967295L)
+                        | ((long) (in[1 + inpos] & 16383) << 32);
+                out[1 + outpos] = (long) (in[1 + inpos] >>> 14)
+                        | ((long) (in[2 + inpos] & 268435455) << 18);
+                out[2 + outpos] = (long) (in[2 + inpos] >>> 28)
+                        | ((in[3 + inpos] & 4294967295L) << 4)
+                        | ((long) (in[4 + inpos] & 1023) << 36);
+                out[3 + outpos] = (long) (in[4 + inpos] >>> 10)
+                        | ((long) (in[5 + inpos] & 16777215) << 22);
+                out[4 + outpos] = (long) (in[5 + inpos] >>> 24)
+                        | ((in[6 + inpos] & 4294967295L) << 8)
+                        | ((long) (in[7 + inpos] & 63) << 40);
+                out[5 + outpos] = (long) (in[7 + inpos] >>> 6)
+                        | ((long) (in[8 + inpos] & 1048575) << 26);
+                out[6 + outpos] = (long) (in[8 + inpos] >>> 20)
+                        | ((in[9 + inpos] & 4294967295L) << 12)
+                        | ((long) (in[10 + inpos] & 3) << 44);
+                out[7 + outpos] = (long) (in[10 + inpos] >>> 2)
+                        | ((long) (in[11 + inpos] & 65535) << 30);
+                out[8 + outpos] = (long) (in[11 + inpos] >>> 16)
+                        | ((long) (in[12 + inpos] & 1073741823) << 16);
+                out[9 + outpos] = (long) (in[12 + inpos] >>> 30)
+                        | ((in[13 + inpos] & 4294967295L) << 2)
+                        | ((long) (in[14 + inpos] & 4095) << 34);
+                out[10 + outpos] = (long) (in[14 + inpos] >>> 12)
+                        | ((long) (in[15 + inpos] & 67108863) << 20);
+                out[11 + outpos] = (long) (in[15 + inpos] >>> 26)
+                        | ((in[16 + inpos] & 4294967295L) << 6)
+                        | ((long) (in[17 + inpos] & 255) << 38);
+                out[12 + outpos] = (long) (in[17 + inpos] >>> 8)
+                        | ((long) (in[18 + inpos] & 4194303) << 24);
+                out[13 + outpos] = (long) (in[18 + inpos] >>> 22)
+                        | ((in[19 + inpos] & 4294967295L) << 10)
+                        | ((long) (in[20 + inpos] & 15) << 42);
+                out[14 + outpos] = (long) (in[20 + inpos] >>> 4)
+                        | ((long) (in[21 + inpos] & 262143) << 28);
+                out[15 + outpos] = (long) (in[21 + inpos] >>> 18)
+                        | ((in[22 + inpos] & 4294967295L) << 14);
+                out[16 + outpos] = (in[23 + inpos] & 4294967295L)
+                        | ((long) (in[24 + inpos] & 16383) << 32);
+                out[17 + outpos] = (long) (in[24 + inpos] >>> 14)
+                        | ((long) (in[25 + inpos] & 268435455) << 18);
+                out[18 + outpos] = (long) (in[25 + inpos] >>> 28)
+                        | ((in[26 + inpos] & 4294967295L) << 4)
+                        | ((long) (in[27 + inpos] & 1023) << 36);
+                out[19 + outpos] = (long) (in[27 + inpos] >>> 10)
+                        | ((long) (in[28 + inpos] & 16777215) << 22);
+                out[20 + outpos] = (long) (in[28 + inpos] >>> 24)
+                        | ((in[29 + inpos] & 4294967295L) << 8)
+                        | ((long) (in[30 + inpos] & 63) << 40);
+                out[21 + outpos] = (long) (in[30 + inpos] >>> 6)
+                        | ((long) (in[31 + inpos] & 1048575) << 26);
+                out[22 + outpos] = (long) (in[31 + inpos] >>> 20)
+                        | ((in[32 + inpos] & 4294967295L) << 12)
+                        | ((long) (in[33 + inpos] & 3) << 44);
+                out[23 + outpos] = (long) (in[33 + inpos] >>> 2)
+                        | ((long) (in[34 + inpos] & 65535) << 30);
+                out[24 + outpos] = (long) (in[34 + inpos] >>> 16)
+                        | ((long) (in[35 + inpos] & 1073741823) << 16);
+                out[25 + outpos] = (long) (in[35 + inpos] >>> 30)
+                        | ((in[36 + inpos] & 4294967295L) << 2)
+                        | ((long) (in[37 + inpos] & 4095) << 34);
+                out[26 + outpos] = (long) (in[37 + inpos] >>> 12)
+                        | ((long) (in[38 + inpos] & 67108863) << 20);
+                out[27 + outpos] = (long) (in[38 + inpos] >>> 26)
+                        | ((in[39 + inpos] & 4294967295L) << 6)
+                        | ((long) (in[40 + inpos] & 255) << 38);
+                out[28 + outpos] = (long) (in[40 + inpos] >>> 8)
+                        | ((long) (in[41 + inpos] & 4194303) << 24);
+                out[29 + outpos] = (long) (in[41 + inpos] >>> 22)
+                        | ((in[42 + inpos] & 4294967295L) << 10)
+                        | ((long) (in[43 + inpos] & 15) << 42);
+                out[30 + outpos] = (long) (in[43 + inpos] >>> 4)
+                        | ((long) (in[44 + inpos] & 262143) << 28);
+                out[31 + outpos] = (long) (in[44 + inpos] >>> 18)
+                        | ((in[45 + inpos] & 4294967295L) << 14);
+        }
+
+        protected static void fastunpack47(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (in[0 + inpos] & 4294967295L)
+                        | ((long) (in[1 + inpos] & 32767) << 32);
+                out[1 + outpos] = (long) (in[1 + inpos] >>> 15)
+                        | ((long) (in[2 + inpos] & 1073741823) << 17);
+                out[2 + outpos] = (long) (in[2 + inpos] >>> 30)
+                        | ((in[3 + inpos] & 4294967295L) << 2)
+                        | ((long) (in[4 + inpos] & 8191) << 34);
+                out[3 + outpos] = (long) (in[4 + inpos] >>> 13)
+                        | ((long) (in[5 + inpos] & 268435455) << 19);
+                out[4 + outpos] = (long) (in[5 + inpos] >>> 28)
+                        | ((in[6 + inpos] & 4294967295L) << 4)
+                        | ((long) (in[7 + inpos] & 2047) << 36);
+                out[5 + outpos] = (long) (in[7 + inpos] >>> 11)
+                        | ((long) (in[8 + inpos] & 67108863) << 21);
+                out[6 + outpos] = (long) (in[8 + inpos] >>> 26)
+                        | ((in[9 + inpos] & 4294967295L) << 6)
+                        | ((long) (in[10 + inpos] & 511) << 38);
+                out[7 + outpos] = (long) (in[10 + inpos] >>> 9)
+                        | ((long) (in[11 + inpos] & 16777215) << 23);
+                out[8 + outpos] = (long) (in[11 + inpos] >>> 24)
+                        | ((in[12 + inpos] & 4294967295L) << 8)
+                        | ((long) (in[13 + inpos] & 127) << 40);
+                out[9 + outpos] = (long) (in[13 + inpos] >>> 7)
+                        | ((long) (in[14 + inpos] & 4194303) << 25);
+                out[10 + outpos] = (long) (in[14 + inpos] >>> 22)
+                        | ((in[15 + inpos] & 4294967295L) << 10)
+                        | ((long) (in[16 + inpos] & 31) << 42);
+                out[11 + outpos] = (long) (in[16 + inpos] >>> 5)
+                        | ((long) (in[17 + inpos] & 1048575) << 27);
+                out[12 + outpos] = (long) (in[17 + inpos] >>> 20)
+                        | ((in[18 + inpos] & 4294967295L) << 12)
+                        | ((long) (in[19 + inpos] & 7) << 44);
+                out[13 + outpos] = (long) (in[19 + inpos] >>> 3)
+                        | ((long) (in[20 + inpos] & 262143) << 29);
+                out[14 + outpos] = (long) (in[20 + inpos] >>> 18)
+                        | ((in[21 + inpos] & 4294967295L) << 14)
+                        | ((long) (in[22 + inpos] & 1) << 46);
+                out[15 + outpos] = (long) (in[22 + inpos] >>> 1)
+                        | ((long) (in[23 + inpos] & 65535) << 31);
+                out[16 + outpos] = (long) (in[23 + inpos] >>> 16)
+                        | ((long) (in[24 + inpos] & 2147483647) << 16);
+                out[17 + outpos] = (long) (in[24 + inpos] >>> 31)
+                        | ((in[25 + inpos] & 4294967295L) << 1)
+                        | ((long) (in[26 + inpos] & 16383) << 33);
+                out[18 + outpos] = (long) (in[26 + inpos] >>> 14)
+                        | ((long) (in[27 + inpos] & 536870911) << 18);
+                out[19 + outpos] = (long) (in[27 + inpos] >>> 29)
+                        | ((in[28 + inpos] & 4294967295L) << 3)
+                        | ((long) (in[29 + inpos] & 4095) << 35);
+                out[20 + outpos] = (long) (in[29 + inpos] >>> 12)
+                        | ((long) (in[30 + inpos] & 134217727) << 20);
+                out[21 + outpos] = (long) (in[30 + inpos] >>> 27)
+                        | ((in[31 + inpos] & 4294967295L) << 5)
+                        | ((long) (in[32 + inpos] & 1023) << 37);
+                out[22 + outpos] = (long) (in[32 + inpos] >>> 10)
+                        | ((long) (in[33 + inpos] & 33554431) << 22);
+                out[23 + outpos] = (long) (in[33 + inpos] >>> 25)
+                        | ((in[34 + inpos] & 4294967295L) << 7)
+                        | ((long) (in[35 + inpos] & 255) << 39);
+                out[24 + outpos] = (long) (in[35 + inpos] >>> 8)
+                        | ((long) (in[36 + inpos] & 8388607) << 24);
+                out[25 + outpos] = (long) (in[36 + inpos] >>> 23)
+                        | ((in[37 + inpos] & 4294967295L) << 9)
+                        | ((long) (in[38 + inpos] & 63) << 41);
+                out[26 + outpos] = (long) (in[38 + inpos] >>> 6)
+                        | ((long) (in[39 + inpos] & 2097151) << 26);
+                out[27 + outpos] = (long) (in[39 + inpos] >>> 21)
+                        | ((in[40 + inpos] & 4294967295L) << 11)
+                        | ((long) (in[41 + inpos] & 15) << 43);
+                out[28 + outpos] = (long) (in[41 + inpos] >>> 4)
+                        | ((long) (in[42 + inpos] & 524287) << 28);
+                out[29 + outpos] = (long) (in[42 + inpos] >>> 19)
+                        | ((in[43 + inpos] & 4294967295L) << 13)
+                        | ((long) (in[44 + inpos] & 3) << 45);
+                out[30 + outpos] = (long) (in[44 + inpos] >>> 2)
+                        | ((long) (in[45 + inpos] & 131071) << 30);
+                out[31 + outpos] = (long) (in[45 + inpos] >>> 17)
+                        | ((in[46 + inpos] & 4294967295L) << 15);
+        }
+
+        protected static void fastunpack48(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (in[0 + inpos] & 4294967295L)
+                        | ((long) (in[1 + inpos] & 65535) << 32);
+                out[1 + outpos] = (long) (in[1 + inpos] >>> 16)
+                        | ((in[2 + inpos] & 4294967295L) << 16);
+                out[2 + outpos] = (in[3 + inpos] & 4294967295L)
+                        | ((long) (in[4 + inpos] & 65535) << 32);
+                out[3 + outpos] = (long) (in[4 + inpos] >>> 16)
+                        | ((in[5 + inpos] & 4294967295L) << 16);
+                out[4 + outpos] = (in[6 + inpos] & 4294967295L)
+                        | ((long) (in[7 + inpos] & 65535) << 32);
+                out[5 + outpos] = (long) (in[7 + inpos] >>> 16)
+                        | ((in[8 + inpos] & 4294967295L) << 16);
+                out[6 + outpos] = (in[9 + inpos] & 4294967295L)
+                        | ((long) (in[10 + inpos] & 65535) << 32);
+                out[7 + outpos] = (long) (in[10 + inpos] >>> 16)
+                        | ((in[11 + inpos] & 4294967295L) << 16);
+                out[8 + outpos] = (in[12 + inpos] & 4294967295L)
+                        | ((long) (in[13 + inpos] & 65535) << 32);
+                out[9 + outpos] = (long) (in[13 + inpos] >>> 16)
+                        | ((in[14 + inpos] & 4294967295L) << 16);
+                out[10 + outpos] = (in[15 + inpos] & 4294967295L)
+                        | ((long) (in[16 + inpos] & 65535) << 32);
+                out[11 + outpos] = (long) (in[16 + inpos] >>> 16)
+                        | ((in[17 + inpos] & 4294967295L) << 16);
+                out[12 + outpos] = (in[18 + inpos] & 4294967295L)
+                        | ((long) (in[19 + inpos] & 65535) << 32);
+                out[13 + outpos] = (long) (in[19 + inpos] >>> 16)
+                        | ((in[20 + inpos] & 4294967295L) << 16);
+                out[14 + outpos] = (in[21 + inpos] & 4294967295L)
+                        | ((long) (in[22 + inpos] & 65535) << 32);
+                out[15 + outpos] = (long) (in[22 + inpos] >>> 16)
+                        | ((in[23 + inpos] & 4294967295L) << 16);
+                out[16 + outpos] = (in[24 + inpos] & 4294967295L)
+                        | ((long) (in[25 + inpos] & 65535) << 32);
+                out[17 + outpos] = (long) (in[25 + inpos] >>> 16)
+                        | ((in[26 + inpos] & 4294967295L) << 16);
+                out[18 + outpos] = (in[27 + inpos] & 4294967295L)
+                        | ((long) (in[28 + inpos] & 65535) << 32);
+                out[19 + outpos] = (long) (in[28 + inpos] >>> 16)
+                        | ((in[29 + inpos] & 4294967295L) << 16);
+                out[20 + outpos] = (in[30 + inpos] & 4294967295L)
+                        | ((long) (in[31 + inpos] & 65535) << 32);
+                out[21 + outpos] = (long) (in[31 + inpos] >>> 16)
+                        | ((in[32 + inpos] & 4294967295L) << 16);
+                out[22 + outpos] = (in[33 + inpos] & 4294967295L)
+                        | ((long) (in[34 + inpos] & 65535) << 32);
+                out[23 + outpos] = (long) (in[34 + inpos] >>> 16)
+                        | ((in[35 + inpos] & 4294967295L) << 16);
+                out[24 + outpos] = (in[36 + inpos] & 4294967295L)
+                        | ((long) (in[37 + inpos] & 65535) << 32);
+                out[25 + outpos] = (long) (in[37 + inpos] >>> 16)
+                        | ((in[38 + inpos] & 4294967295L) << 16);
+                out[26 + outpos] = (in[39 + inpos] & 4294967295L)
+                        | ((long) (in[40 + inpos] & 65535) << 32);
+                out[27 + outpos] = (long) (in[40 + inpos] >>> 16)
+                        | ((in[41 + inpos] & 4294967295L) << 16);
+                out[28 + outpos] = (in[42 + inpos] & 4294967295L)
+                        | ((long) (in[43 + inpos] & 65535) << 32);
+                out[29 + outpos] = (long) (in[43 + inpos] >>> 16)
+                        | ((in[44 + inpos] & 4294967295L) << 16);
+                out[30 + outpos] = (in[45 + inpos] & 4294967295L)
+                        | ((long) (in[46 + inpos] & 65535) << 32);
+                out[31 + outpos] = (long) (in[46 + inpos] >>> 16)
+                        | ((in[47 + inpos] & 4294967295L) << 16);
+        }
+
+        protected static void fastunpack49(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (in[0 + inpos] & 4294967295L)
+                        | ((long) (in[1 + inpos] & 131071) << 32);
+                out[1 + outpos] = (long) (in[1 + inpos] >>> 17)
+                        | ((in[2 + inpos] & 4294967295L) << 15)
+                        | ((long) (in[3 + inpos] & 3) << 47);
+                out[2 + outpos] = (long) (in[3 + inpos] >>> 2)
+                        | ((long) (in[4 + inpos] & 524287) << 30);
+                out[3 + outpos] = (long) (in[4 + inpos] >>> 19)
+                        | ((in[5 + inpos] & 4294967295L) << 13)
+                        | ((long) (in[6 + inpos] & 15) << 45);
+                out[4 + outpos] = (long) (in[6 + inpos] >>> 4)
+                        | ((long) (in[7 + inpos] & 2097151) << 28);
+                out[5 + outpos] = (long) (in[7 + inpos] >>> 21)
+                        | ((in[8 + inpos] & 4294967295L) << 11)
+                        | ((long) (in[9 + inpos] & 63) << 43);
+                out[6 + outpos] = (long) (in[9 + inpos] >>> 6)
+                        | ((long) (in[10 + inpos] & 8388607) << 26);
+                out[7 + outpos] = (long) (in[10 + inpos] >>> 23)
+                        | ((in[11 + inpos] & 4294967295L) << 9)
+                        | ((long) (in[12 + inpos] & 255) << 41);
+                out[8 + outpos] = (long) (in[12 + inpos] >>> 8)
+                        | ((long) (in[13 + inpos] & 33554431) << 24);
+                out[9 + outpos] = (long) (in[13 + inpos] >>> 25)
+                        | ((in[14 + inpos] & 4294967295L) << 7)
+                        | ((long) (in[15 + inpos] & 1023) << 39);
+                out[10 + outpos] = (long) (in[15 + inpos] >>> 10)
+                        | ((long) (in[16 + inpos] & 134217727) << 22);
+                out[11 + outpos] = (long) (in[16 + inpos] >>> 27)
+                        | ((in[17 + inpos] & 4294967295L) << 5)
+                        | ((long) (in[18 + inpos] & 4095) << 37);
+                out[12 + outpos] = (long) (in[18 + inpos] >>> 12)
+                        | ((long) (in[19 + inpos] & 536870911) << 20);
+                out[13 + outpos] = (long) (in[19 + inpos] >>> 29)
+                        | ((in[20 + inpos] & 4294967295L) << 3)
+                        | ((long) (in[21 + inpos] & 16383) << 35);
+                out[14 + outpos] = (long) (in[21 + inpos] >>> 14)
+                        | ((long) (in[22 + inpos] & 2147483647) << 18);
+                out[15 + outpos] = (long) (in[22 + inpos] >>> 31)
+                        | ((in[23 + inpos] & 4294967295L) << 1)
+                        | ((long) (in[24 + inpos] & 65535) << 33);
+                out[16 + outpos] = (long) (in[24 + inpos] >>> 16)
+                        | ((in[25 + inpos] & 4294967295L) << 16)
+                        | ((long) (in[26 + inpos] & 1) << 48);
+                out[17 + outpos] = (long) (in[26 + inpos] >>> 1)
+                        | ((long) (in[27 + inpos] & 262143) << 31);
+                out[18 + outpos] = (long) (in[27 + inpos] >>> 18)
+                        | ((in[28 + inpos] & 4294967295L) << 14)
+                        | ((long) (in[29 + inpos] & 7) << 46);
+                out[19 + outpos] = (long) (in[29 + inpos] >>> 3)
+                        | ((long) (in[30 + inpos] & 1048575) << 29);
+                out[20 + outpos] = (long) (in[30 + inpos] >>> 20)
+                        | ((in[31 + inpos] & 4294967295L) << 12)
+                        | ((long) (in[32 + inpos] & 31) << 44);
+                out[21 + outpos] = (long) (in[32 + inpos] >>> 5)
+                        | ((long) (in[33 + inpos] & 4194303) << 27);
+                out[22 + outpos] = (long) (in[33 + inpos] >>> 22)
+                        | ((in[34 + inpos] & 4294967295L) << 10)
+                        | ((long) (in[35 + inpos] & 127) << 42);
+                out[23 + outpos] = (long) (in[35 + inpos] >>> 7)
+                        | ((long) (in[36 + inpos] & 16777215) << 25);
+                out[24 + outpos] = (long) (in[36 + inpos] >>> 24)
+                        | ((in[37 + inpos] & 4294967295L) << 8)
+                        | ((long) (in[38 + inpos] & 511) << 40);
+                out[25 + outpos] = (long) (in[38 + inpos] >>> 9)
+                        | ((long) (in[39 + inpos] & 67108863) << 23);
+                out[26 + outpos] = (long) (in[39 + inpos] >>> 26)
+                        | ((in[40 + inpos] & 4294967295L) << 6)
+                        | ((long) (in[41 + inpos] & 2047) << 38);
+                out[27 + outpos] = (long) (in[41 + inpos] >>> 11)
+                        | ((long) (in[42 + inpos] & 268435455) << 21);
+                out[28 + outpos] = (long) (in[42 + inpos] >>> 28)
+                        | ((in[43 + inpos] & 4294967295L) << 4)
+                        | ((long) (in[44 + inpos] & 8191) << 36);
+                out[29 + outpos] = (long) (in[44 + inpos] >>> 13)
+                        | ((long) (in[45 + inpos] & 1073741823) << 19);
+                out[30 + outpos] = (long) (in[45 + inpos] >>> 30)
+                        | ((in[46 + inpos] & 4294967295L) << 2)
+                        | ((long) (in[47 + inpos] & 32767) << 34);
+                out[31 + outpos] = (long) (in[47 + inpos] >>> 15)
+                        | ((in[48 + inpos] & 4294967295L) << 17);
+        }
+
+        protected static void fastunpack5(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (long) (in[0 + inpos] & 31);
+                out[1 + outpos] = (long) ((in[0 + inpos] >>> 5) & 31);
+                out[2 + outpos] = (long) ((in[0 + inpos] >>> 10) & 31);
+                out[3 + outpos] = (long) ((in[0 + inpos] >>> 15) & 31);
+                out[4 + outpos] = (long) ((in[0 + inpos] >>> 20) & 31);
+                out[5 + outpos] = (long) ((in[0 + inpos] >>> 25) & 31);
+                out[6 + outpos] = (long) (in[0 + inpos] >>> 30)
+                        | ((long) (in[1 + inpos] & 7) << 2);
+                out[7 + outpos] = (long) ((in[1 + inpos] >>> 3) & 31);
+                out[8 + outpos] = (long) ((in[1 + inpos] >>> 8) & 31);
+                out[9 + outpos] = (long) ((in[1 + inpos] >>> 13) & 31);
+                out[10 + outpos] = (long) ((in[1 + inpos] >>> 18) & 31);
+                out[11 + outpos] = (long) ((in[1 + inpos] >>> 23) & 31);
+                out[12 + outpos] = (long) (in[1 + inpos] >>> 28)
+                        | ((long) (in[2 + inpos] & 1) << 4);
+                out[13 + outpos] = (long) ((in[2 + inpos] >>> 1) & 31);
+                out[14 + outpos] = (long) ((in[2 + inpos] >>> 6) & 31);
+                out[15 + outpos] = (long) ((in[2 + inpos] >>> 11) & 31);
+                out[16 + outpos] = (long) ((in[2 + inpos] >>> 16) & 31);
+                out[17 + outpos] = (long) ((in[2 + inpos] >>> 21) & 31);
+                out[18 + outpos] = (long) ((in[2 + inpos] >>> 26) & 31);
+                out[19 + outpos] = (long) (in[2 + inpos] >>> 31)
+                        | ((long) (in[3 + inpos] & 15) << 1);
+                out[20 + outpos] = (long) ((in[3 + inpos] >>> 4) & 31);
+                out[21 + outpos] = (long) ((in[3 + inpos] >>> 9) & 31);
+                out[22 + outpos] = (long) ((in[3 + inpos] >>> 14) & 31);
+                out[23 + outpos] = (long) ((in[3 + inpos] >>> 19) & 31);
+                out[24 + outpos] = (long) ((in[3 + inpos] >>> 24) & 31);
+                out[25 + outpos] = (long) (in[3 + inpos] >>> 29)
+                        | ((long) (in[4 + inpos] & 3) << 3);
+                out[26 + outpos] = (long) ((in[4 + inpos] >>> 2) & 31);
+                out[27 + outpos] = (long) ((in[4 + inpos] >>> 7) & 31);
+                out[28 + outpos] = (long) ((in[4 + inpos] >>> 12) & 31);
+                out[29 + outpos] = (long) ((in[4 + inpos] >>> 17) & 31);
+                out[30 + outpos] = (long) ((in[4 + inpos] >>> 22) & 31);
+                out[31 + outpos] = (long) (in[4 + inpos] >>> 27);
+        }
+
+        protected static void fastunpack50(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (in[0 + inpos] & 4294967295L)
+                        | ((long) (in[1 + inpos] & 262143) << 32);
+                out[1 + outpos] = (long) (in[1 + inpos] >>> 18)
+                        | ((in[2 + inpos] & 4294967295L) << 14)
+                        | ((long) (in[3 + inpos] & 15) << 46);
+                out[2 + outpos] = (long) (in[3 + inpos] >>> 4)
+                        | ((long) (in[4 + inpos] & 4194303) << 28);
+                out[3 + outpos] = (long) (in[4 + inpos] >>> 22)
+                        | ((in[5 + inpos] & 4294967295L) << 10)
+                        | ((long) (in[6 + inpos] & 255) << 42);
+                out[4 + outpos] = (long) (in[6 + inpos] >>> 8)
+                        | ((long) (in[7 + inpos] & 67108863) << 24);
+                out[5 + outpos] = (long) (in[7 + inpos] >>> 26)
+                        | ((in[8 + inpos] & 4294967295L) << 6)
+                        | ((long) (in[9 + inpos] & 4095) << 38);
+                out[6 + outpos] = (long) (in[9 + inpos] >>> 12)
+                        | ((long) (in[10 + inpos] & 1073741823) << 20);
+                out[7 + outpos] = (long) (in[10 + inpos] >>> 30)
+                        | ((in[11 + inpos] & 4294967295L) << 2)
+                        | ((long) (in[12 + inpos] & 65535) << 34);
+                out[8 + outpos] = (long) (in[12 + inpos] >>> 16)
+                        | ((in[13 + inpos] & 4294967295L) << 16)
+                        | ((long) (in[14 + inpos] & 3) << 48);
+                out[9 + outpos] = (long) (in[14 + inpos] >>> 2)
+                        | ((long) (in[15 + inpos] & 1048575) << 30);
+                out[10 + outpos] = (long) (in[15 + inpos] >>> 20)
+                        | ((in[16 + inpos] & 4294967295L) << 12)
+                        | ((long) (in[17 + inpos] & 63) << 44);
+                out[11 + outpos] = (long) (in[17 + inpos] >>> 6)
+                        | ((long) (in[18 + inpos] & 16777215) << 26);
+                out[12 + outpos] = (long) (in[18 + inpos] >>> 24)
+                        | ((in[19 + inpos] & 4294967295L) << 8)
+                        | ((long) (in[20 + inpos] & 1023) << 40);
+                out[13 + outpos] = (long) (in[20 + inpos] >>> 10)
+                        | ((long) (in[21 + inpos] & 268435455) << 22);
+                out[14 + outpos] = (long) (in[21 + inpos] >>> 28)
+                        | ((in[22 + inpos] & 4294967295L) << 4)
+                        | ((long) (in[23 + inpos] & 16383) << 36);
+                out[15 + outpos] = (long) (in[23 + inpos] >>> 14)
+                        | ((in[24 + inpos] & 4294967295L) << 18);
+                out[16 + outpos] = (in[25 + inpos] & 4294967295L)
+                        | ((long) (in[26 + inpos] & 262143) << 32);
+                out[17 + outpos] = (long) (in[26 + inpos] >>> 18)
+                        | ((in[27 + inpos] & 4294967295L) << 14)
+                        | ((long) (in[28 + inpos] & 15) << 46);
+                out[18 + outpos] = (long) (in[28 + inpos] >>> 4)
+                        | ((long) (in[29 + inpos] & 4194303) << 28);
+                out[19 + outpos] = (long) (in[29 + inpos] >>> 22)
+                        | ((in[30 + inpos] & 4294967295L) << 10)
+                        | ((long) (in[31 + inpos] & 255) << 42);
+                out[20 + outpos] = (long) (in[31 + inpos] >>> 8)
+                        | ((long) (in[32 + inpos] & 67108863) << 24);
+                out[21 + outpos] = (long) (in[32 + inpos] >>> 26)
+                        | ((in[33 + inpos] & 4294967295L) << 6)
+                        | ((long) (in[34 + inpos] & 4095) << 38);
+                out[22 + outpos] = (long) (in[34 + inpos] >>> 12)
+                        | ((long) (in[35 + inpos] & 1073741823) << 20);
+                out[23 + outpos] = (long) (in[35 + inpos] >>> 30)
+                        | ((in[36 + inpos] & 4294967295L) << 2)
+                        | ((long) (in[37 + inpos] & 65535) << 34);
+                out[24 + outpos] = (long) (in[37 + inpos] >>> 16)
+                        | ((in[38 + inpos] & 4294967295L) << 16)
+                        | ((long) (in[39 + inpos] & 3) << 48);
+                out[25 + outpos] = (long) (in[39 + inpos] >>> 2)
+                        | ((long) (in[40 + inpos] & 1048575) << 30);
+                out[26 + outpos] = (long) (in[40 + inpos] >>> 20)
+                        | ((in[41 + inpos] & 4294967295L) << 12)
+                        | ((long) (in[42 + inpos] & 63) << 44);
+                out[27 + outpos] = (long) (in[42 + inpos] >>> 6)
+                        | ((long) (in[43 + inpos] & 16777215) << 26);
+                out[28 + outpos] = (long) (in[43 + inpos] >>> 24)
+                        | ((in[44 + inpos] & 4294967295L) << 8)
+                        | ((long) (in[45 + inpos] & 1023) << 40);
+                out[29 + outpos] = (long) (in[45 + inpos] >>> 10)
+                        | ((long) (in[46 + inpos] & 268435455) << 22);
+                out[30 + outpos] = (long) (in[46 + inpos] >>> 28)
+                        | ((in[47 + inpos] & 4294967295L) << 4)
+                        | ((long) (in[48 + inpos] & 16383) << 36);
+                out[31 + outpos] = (long) (in[48 + inpos] >>> 14)
+                        | ((in[49 + inpos] & 4294967295L) << 18);
+        }
+
+        protected static void fastunpack51(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (in[0 + inpos] & 4294967295L)
+                        | ((long) (in[1 + inpos] & 524287) << 32);
+                out[1 + outpos] = (long) (in[1 + inpos] >>> 19)
+                        | ((in[2 + inpos] & 4294967295L) << 13)
+                        | ((long) (in[3 + inpos] & 63) << 45);
+                out[2 + outpos] = (long) (in[3 + inpos] >>> 6)
+                        | ((long) (in[4 + inpos] & 33554431) << 26);
+                out[3 + outpos] = (long) (in[4 + inpos] >>> 25)
+                        | ((in[5 + inpos] & 4294967295L) << 7)
+                        | ((long) (in[6 + inpos] & 4095) << 39);
+                out[4 + outpos] = (long) (in[6 + inpos] >>> 12)
+                        | ((long) (in[7 + inpos] & 2147483647) << 20);
+                out[5 + outpos] = (long) (in[7 + inpos] >>> 31)
+                        | ((in[8 + inpos] & 4294967295L) << 1)
+                        | ((long) (in[9 + inpos] & 262143) << 33);
+                out[6 + outpos] = (long) (in[9 + inpos] >>> 18)
+                        | ((in[10 + inpos] & 4294967295L) << 14)
+                        | ((long) (in[11 + inpos] & 31) << 46);
+                out[7 + outpos] = (long) (in[11 + inpos] >>> 5)
+                        | ((long) (in[12 + inpos] & 16777215) << 27);
+                out[8 + outpos] = (long) (in[12 + inpos] >>> 24)
+                        | ((in[13 + inpos] & 4294967295L) << 8)
+                        | ((long) (in[14 + inpos] & 2047) << 40);
+                out[9 + outpos] = (long) (in[14 + inpos] >>> 11)
+                        | ((long) (in[15 + inpos] & 1073741823) << 21);
+                out[10 + outpos] = (long) (in[15 + inpos] >>> 30)
+                        | ((in[16 + inpos] & 4294967295L) << 2)
+                        | ((long) (in[17 + inpos] & 131071) << 34);
+                out[11 + outpos] = (long) (in[17 + inpos] >>> 17)
+                        | ((in[18 + inpos] & 4294967295L) << 15)
+                        | ((long) (in[19 + inpos] & 15) << 47);
+                out[12 + outpos] = (long) (in[19 + inpos] >>> 4)
+                        | ((long) (in[20 + inpos] & 8388607) << 28);
+                out[13 + outpos] = (long) (in[20 + inpos] >>> 23)
+                        | ((in[21 + inpos] & 4294967295L) << 9)
+                        | ((long) (in[22 + inpos] & 1023) << 41);
+                out[14 + outpos] = (long) (in[22 + inpos] >>> 10)
+                        | ((long) (in[23 + inpos] & 536870911) << 22);
+                out[15 + outpos] = (long) (in[23 + inpos] >>> 29)
+                        | ((in[24 + inpos] & 4294967295L) << 3)
+                        | ((long) (in[25 + inpos] & 65535) << 35);
+                out[16 + outpos] = (long) (in[25 + inpos] >>> 16)
+                        | ((in[26 + inpos] & 4294967295L) << 16)
+                        | ((long) (in[27 + inpos] & 7) << 48);
+                out[17 + outpos] = (long) (in[27 + inpos] >>> 3)
+                        | ((long) (in[28 + inpos] & 4194303) << 29);
+                out[18 + outpos] = (long) (in[28 + inpos] >>> 22)
+                        | ((in[29 + inpos] & 4294967295L) << 10)
+                        | ((long) (in[30 + inpos] & 511) << 42);
+                out[19 + outpos] = (long) (in[30 + inpos] >>> 9)
+                        | ((long) (in[31 + inpos] & 268435455) << 23);
+                out[20 + outpos] = (long) (in[31 + inpos] >>> 28)
+                        | ((in[32 + inpos] & 4294967295L) << 4)
+                        | ((long) (in[33 + inpos] & 32767) << 36);
+                out[21 + outpos] = (long) (in[33 + inpos] >>> 15)
+                        | ((in[34 + inpos] & 4294967295L) << 17)
+                        | ((long) (in[35 + inpos] & 3) << 49);
+                out[22 + outpos] = (long) (in[35 + inpos] >>> 2)
+                        | ((long) (in[36 + inpos] & 2097151) << 30);
+                out[23 + outpos] = (long) (in[36 + inpos] >>> 21)
+                        | ((in[37 + inpos] & 4294967295L) << 11)
+                        | ((long) (in[38 + inpos] & 255) << 43);
+                out[24 + outpos] = (long) (in[38 + inpos] >>> 8)
+                        | ((long) (in[39 + inpos] & 134217727) << 24);
+                out[25 + outpos] = (long) (in[39 + inpos] >>> 27)
+                        | ((in[40 + inpos] & 4294967295L) << 5)
+                        | ((long) (in[41 + inpos] & 16383) << 37);
+                out[26 + outpos] = (long) (in[41 + inpos] >>> 14)
+                        | ((in[42 + inpos] & 4294967295L) << 18)
+                        | ((long) (in[43 + inpos] & 1) << 50);
+                out[27 + outpos] = (long) (in[43 + inpos] >>> 1)
+                        | ((long) (in[44 + inpos] & 1048575) << 31);
+                out[28 + outpos] = (long) (in[44 + inpos] >>> 20)
+                        | ((in[45 + inpos] & 4294967295L) << 12)
+                        | ((long) (in[46 + inpos] & 127) << 44);
+                out[29 + outpos] = (long) (in[46 + inpos] >>> 7)
+                        | ((long) (in[47 + inpos] & 67108863) << 25);
+                out[30 + outpos] = (long) (in[47 + inpos] >>> 26)
+                        | ((in[48 + inpos] & 4294967295L) << 6)
+                        | ((long) (in[49 + inpos] & 8191) << 38);
+                out[31 + outpos] = (long) (in[49 + inpos] >>> 13)
+                        | ((in[50 + inpos] & 4294967295L) << 19);
+        }
+
+        protected static void fastunpack52(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (in[0 + inpos] & 4294967295L)
+                        | ((long) (in[1 + inpos] & 1048575) << 32);
+                out[1 + outpos] = (long) (in[1 + inpos] >>> 20)
+                        | ((in[2 + inpos] & 4294967295L) << 12)
+                        | ((long) (in[3 + inpos] & 255) << 44);
+                out[2 + outpos] = (long) (in[3 + inpos] >>> 8)
+                        | ((long) (in[4 + inpos] & 268435455) << 24);
+                out[3 + outpos] = (long) (in[4 + inpos] >>> 28)
+                        | ((in[5 + inpos] & 4294967295L) << 4)
+                        | ((long) (in[6 + inpos] & 65535) << 36);
+                out[4 + outpos] = (long) (in[6 + inpos] >>> 16)
+                        | ((in[7 + inpos] & 4294967295L) << 16)
+                        | ((long) (in[8 + inpos] & 15) << 48);
+                out[5 + outpos] = (long) (in[8 + inpos] >>> 4)
+                        | ((long) (in[9 + inpos] & 16777215) << 28);
+                out[6 + outpos] = (long) (in[9 + inpos] >>> 24)
+                        | ((in[10 + inpos] & 4294967295L) << 8)
+                        | ((long) (in[11 + inpos] & 4095) << 40);
+                out[7 + outpos] = (long) (in[11 + inpos] >>> 12)
+                        | ((in[12 + inpos] & 4294967295L) << 20);
+                out[8 + outpos] = (in[13 + inpos] & 4294967295L)
+                        | ((long) (in[14 + inpos] & 1048575) << 32);
+                out[9 + outpos] = (long) (in[14 + inpos] >>> 20)
+                        | ((in[15 + inpos] & 4294967295L) << 12)
+                        | ((long) (in[16 + inpos] & 255) << 44);
+                out[10 + outpos] = (long) (in[16 + inpos] >>> 8)
+                        | ((long) (in[17 + inpos] & 268435455) << 24);
+                out[11 + outpos] = (long) (in[17 + inpos] >>> 28)
+                        | ((in[18 + inpos] & 4294967295L) << 4)
+                        | ((long) (in[19 + inpos] & 65535) << 36);
+                out[12 + outpos] = (long) (in[19 + inpos] >>> 16)
+                        | ((in[20 + inpos] & 4294967295L) << 16)
+                        | ((long) (in[21 + inpos] & 15) << 48);
+                out[13 + outpos] = (long) (in[21 + inpos] >>> 4)
+                        | ((long) (in[22 + inpos] & 16777215) << 28);
+                out[14 + outpos] = (long) (in[22 + inpos] >>> 24)
+                        | ((in[23 + inpos] & 4294967295L) << 8)
+                        | ((long) (in[24 + inpos] & 4095) << 40);
+                out[15 + outpos] = (long) (in[24 + inpos] >>> 12)
+                        | ((in[25 + inpos] & 4294967295L) << 20);
+                out[16 + outpos] = (in[26 + inpos] & 4294967295L)
+                        | ((long) (in[27 + inpos] & 1048575) << 32);
+                out[17 + outpos] = (long) (in[27 + inpos] >>> 20)
+                        | ((in[28 + inpos] & 4294967295L) << 12)
+                        | ((long) (in[29 + inpos] & 255) << 44);
+                out[18 + outpos] = (long) (in[29 + inpos] >>> 8)
+                        | ((long) (in[30 + inpos] & 268435455) << 24);
+                out[19 + outpos] = (long) (in[30 + inpos] >>> 28)
+                        | ((in[31 + inpos] & 4294967295L) << 4)
+                        | ((long) (in[32 + inpos] & 65535) << 36);
+                out[20 + outpos] = (long) (in[32 + inpos] >>> 16)
+                        | ((in[33 + inpos] & 4294967295L) << 16)
+                        | ((long) (in[34 + inpos] & 15) << 48);
+                out[21 + outpos] = (long) (in[34 + inpos] >>> 4)
+                        | ((long) (in[35 + inpos] & 16777215) << 28);
+                out[22 + outpos] = (long) (in[35 + inpos] >>> 24)
+                        | ((in[36 + inpos] & 4294967295L) << 8)
+                        | ((long) (in[37 + inpos] & 4095) << 40);
+                out[23 + outpos] = (long) (in[37 + inpos] >>> 12)
+                        | ((in[38 + inpos] & 4294967295L) << 20);
+                out[24 + outpos] = (in[39 + inpos] & 4294967295L)
+                        | ((long) (in[40 + inpos] & 1048575) << 32);
+                out[25 + outpos] = (long) (in[40 + inpos] >>> 20)
+                        | ((in[41 + inpos] & 4294967295L) << 12)
+                        | ((long) (in[42 + inpos] & 255) << 44);
+                out[26 + outpos] = (long) (in[42 + inpos] >>> 8)
+                        | ((long) (in[43 + inpos] & 268435455) << 24);
+                out[27 + outpos] = (long) (in[43 + inpos] >>> 28)
+                        | ((in[44 + inpos] & 4294967295L) << 4)
+                        | ((long) (in[45 + inpos] & 65535) << 36);
+                out[28 + outpos] = (long) (in[45 + inpos] >>> 16)
+                        | ((in[46 + inpos] & 4294967295L) << 16)
+                        | ((long) (in[47 + inpos] & 15) << 48);
+                out[29 + outpos] = (long) (in[47 + inpos] >>> 4)
+                        | ((long) (in[48 + inpos] & 16777215) << 28);
+                out[30 + outpos] = (long) (in[48 + inpos] >>> 24)
+                        | ((in[49 + inpos] & 4294967295L) << 8)
+                        | ((long) (in[50 + inpos] & 4095) << 40);
+                out[31 + outpos] = (long) (in[50 + inpos] >>> 12)
+                        | ((in[51 + inpos] & 4294967295L) << 20);
+        }
+
+        protected static void fastunpack53(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (in[0 + inpos] & 4294967295L)
+                        | ((long) (in[1 + inpos] & 2097151) << 32);
+                out[1 + outpos] = (long) (in[1 + inpos] >>> 21)
+                        | ((in[2 + inpos] & 4294967295L) << 11)
+                        | ((long) (in[3 + inpos] & 1023) << 43);
+                out[2 + outpos] = (long) (in[3 + inpos] >>> 10)
+                        | ((long) (in[4 + inpos] & 2147483647) << 22);
+                out[3 + outpos] = (long) (in[4 + inpos] >>> 31)
+                        | ((in[5 + inpos] & 4294967295L) << 1)
+                        | ((long) (in[6 + inpos] & 1048575) << 33);
+                out[4 + outpos] = (long) (in[6 + inpos] >>> 20)
+                        | ((in[7 + inpos] & 4294967295L) << 12)
+                        | ((long) (in[8 + inpos] & 511) << 44);
+                out[5 + outpos] = (long) (in[8 + inpos] >>> 9)
+                        | ((long) (in[9 + inpos] & 1073741823) << 23);
+                out[6 + outpos] = (long) (in[9 + inpos] >>> 30)
+                        | ((in[10 + inpos] & 4294967295L) << 2)
+                        | ((long) (in[11 + inpos] & 524287) << 34);
+                out[7 + outpos] = (long) (in[11 + inpos] >>> 19)
+                        | ((in[12 + inpos] & 4294967295L) << 13)
+                        | ((long) (in[13 + inpos] & 255) << 45);
+                out[8 + outpos] = (long) (in[13 + inpos] >>> 8)
+                        | ((long) (in[14 + inpos] & 536870911) << 24);
+                out[9 + outpos] = (long) (in[14 + inpos] >>> 29)
+                        | ((in[15 + inpos] & 4294967295L) << 3)
+                        | ((long) (in[16 + inpos] & 262143) << 35);
+                out[10 + outpos] = (long) (in[16 + inpos] >>> 18)
+                        | ((in[17 + inpos] & 4294967295L) << 14)
+                        | ((long) (in[18 + inpos] & 127) << 46);
+                out[11 + outpos] = (long) (in[18 + inpos] >>> 7)
+                        | ((long) (in[19 + inpos] & 268435455) << 25);
+                out[12 + outpos] = (long) (in[19 + inpos] >>> 28)
+                        | ((in[20 + inpos] & 4294967295L) << 4)
+                        | ((long) (in[21 + inpos] & 131071) << 36);
+                out[13 + outpos] = (long) (in[21 + inpos] >>> 17)
+                        | ((in[22 + inpos] & 4294967295L) << 15)
+                        | ((long) (in[23 + inpos] & 63) << 47);
+                out[14 + outpos] = (long) (in[23 + inpos] >>> 6)
+                        | ((long) (in[24 + inpos] & 134217727) << 26);
+                out[15 + outpos] = (long) (in[24 + inpos] >>> 27)
+                        | ((in[25 + inpos] & 4294967295L) << 5)
+                        | ((long) (in[26 + inpos] & 65535) << 37);
+                out[16 + outpos] = (long) (in[26 + inpos] >>> 16)
+                        | ((in[27 + inpos] & 4294967295L) << 16)
+                        | ((long) (in[28 + inpos] & 31) << 48);
+                out[17 + outpos] = (long) (in[28 + inpos] >>> 5)
+                        | ((long) (in[29 + inpos] & 67108863) << 27);
+                out[18 + outpos] = (long) (in[29 + inpos] >>> 26)
+                        | ((in[30 + inpos] & 4294967295L) << 6)
+                        | ((long) (in[31 + inpos] & 32767) << 38);
+                out[19 + outpos] = (long) (in[31 + inpos] >>> 15)
+                        | ((in[32 + inpos] & 4294967295L) << 17)
+                        | ((long) (in[33 + inpos] & 15) << 49);
+                out[20 + outpos] = (long) (in[33 + inpos] >>> 4)
+                        | ((long) (in[34 + inpos] & 33554431) << 28);
+                out[21 + outpos] = (long) (in[34 + inpos] >>> 25)
+                        | ((in[35 + inpos] & 4294967295L) << 7)
+                        | ((long) (in[36 + inpos] & 16383) << 39);
+                out[22 + outpos] = (long) (in[36 + inpos] >>> 14)
+                        | ((in[37 + inpos] & 4294967295L) << 18)
+                        | ((long) (in[38 + inpos] & 7) << 50);
+                out[23 + outpos] = (long) (in[38 + inpos] >>> 3)
+                        | ((long) (in[39 + inpos] & 16777215) << 29);
+                out[24 + outpos] = (long) (in[39 + inpos] >>> 24)
+                        | ((in[40 + inpos] & 4294967295L) << 8)
+                        | ((long) (in[41 + inpos] & 8191) << 40);
+                out[25 + outpos] = (long) (in[41 + inpos] >>> 13)
+                        | ((in[42 + inpos] & 4294967295L) << 19)
+                        | ((long) (in[43 + inpos] & 3) << 51);
+                out[26 + outpos] = (long) (in[43 + inpos] >>> 2)
+                        | ((long) (in[44 + inpos] & 8388607) << 30);
+                out[27 + outpos] = (long) (in[44 + inpos] >>> 23)
+                        | ((in[45 + inpos] & 4294967295L) << 9)
+                        | ((long) (in[46 + inpos] & 4095) << 41);
+                out[28 + outpos] = (long) (in[46 + inpos] >>> 12)
+                        | ((in[47 + inpos] & 4294967295L) << 20)
+                        | ((long) (in[48 + inpos] & 1) << 52);
+                out[29 + outpos] = (long) (in[48 + inpos] >>> 1)
+                        | ((long) (in[49 + inpos] & 4194303) << 31);
+                out[30 + outpos] = (long) (in[49 + inpos] >>> 22)
+                        | ((in[50 + inpos] & 4294967295L) << 10)
+                        | ((long) (in[51 + inpos] & 2047) << 42);
+                out[31 + outpos] = (long) (in[51 + inpos] >>> 11)
+                        | ((in[52 + inpos] & 4294967295L) << 21);
+        }
+
+        protected static void fastunpack54(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (in[0 + inpos] & 4294967295L)
+                        | ((long) (in[1 + inpos] & 4194303) << 32);
+                out[1 + outpos] = (long) (in[1 + inpos] >>> 22)
+                        | ((in[2 + inpos] & 4294967295L) << 10)
+                        | ((long) (in[3 + inpos] & 4095) << 42);
+                out[2 + outpos] = (long) (in[3 + inpos] >>> 12)
+                        | ((in[4 + inpos] & 4294967295L) << 20)
+                        | ((long) (in[5 + inpos] & 3) << 52);
+                out[3 + outpos] = (long) (in[5 + inpos] >>> 2)
+                        | ((long) (in[6 + inpos] & 16777215) << 30);
+                out[4 + outpos] = (long) (in[6 + inpos] >>> 24)
+                        | ((in[7 + inpos] & 4294967295L) << 8)
+                        | ((long) (in[8 + inpos] & 16383) << 40);
+                out[5 + outpos] = (long) (in[8 + inpos] >>> 14)
+                        | ((in[9 + inpos] & 4294967295L) << 18)
+                        | ((long) (in[10 + inpos] & 15) << 50);
+                out[6 + outpos] = (long) (in[10 + inpos] >>> 4)
+                        | ((long) (in[11 + inpos] & 67108863) << 28);
+                out[7 + outpos] = (long) (in[11 + inpos] >>> 26)
+                        | ((in[12 + inpos] & 4294967295L) << 6)
+                        | ((long) (in[13 + inpos] & 65535) << 38);
+                out[8 + outpos] = (long) (in[13 + inpos] >>> 16)
+                        | ((in[14 + inpos] & 4294967295L) << 16)
+                        | ((long) (in[15 + inpos] & 63) << 48);
+                out[9 + outpos] = (long) (in[15 + inpos] >>> 6)
+                        | ((long) (in[16 + inpos] & 268435455) << 26);
+                out[10 + outpos] = (long) (in[16 + inpos] >>> 28)
+                        | ((in[17 + inpos] & 4294967295L) << 4)
+                        | ((long) (in[18 + inpos] & 262143) << 36);
+                out[11 + outpos] = (long) (in[18 + inpos] >>> 18)
+                        | ((in[19 + inpos] & 4294967295L) << 14)
+                        | ((long) (in[20 + inpos] & 255) << 46);
+                out[12 + outpos] = (long) (in[20 + inpos] >>> 8)
+                        | ((long) (in[21 + inpos] & 1073741823) << 24);
+                out[13 + outpos] = (long) (in[21 + inpos] >>> 30)
+                        | ((in[22 + inpos] & 4294967295L) << 2)
+                        | ((long) (in[23 + inpos] & 1048575) << 34);
+                out[14 + outpos] = (long) (in[23 + inpos] >>> 20)
+                        | ((in[24 + inpos] & 4294967295L) << 12)
+                        | ((long) (in[25 + inpos] & 1023) << 44);
+                out[15 + outpos] = (long) (in[25 + inpos] >>> 10)
+                        | ((in[26 + inpos] & 4294967295L) << 22);
+                out[16 + outpos] = (in[27 + inpos] & 4294967295L)
+                        | ((long) (in[28 + inpos] & 4194303) << 32);
+                out[17 + outpos] = (long) (in[28 + inpos] >>> 22)
+                        | ((in[29 + inpos] & 4294967295L) << 10)
+                        | ((long) (in[30 + inpos] & 4095) << 42);
+                out[18 + outpos] = (long) (in[30 + inpos] >>> 12)
+                        | ((in[31 + inpos] & 4294967295L) << 20)
+                        | ((long) (in[32 + inpos] & 3) << 52);
+                out[19 + outpos] = (long) (in[32 + inpos] >>> 2)
+                        | ((long) (in[33 + inpos] & 16777215) << 30);
+                out[20 + outpos] = (long) (in[33 + inpos] >>> 24)
+                        | ((in[34 + inpos] & 4294967295L) << 8)
+                        | ((long) (in[35 + inpos] & 16383) << 40);
+                out[21 + outpos] = (long) (in[35 + inpos] >>> 14)
+                        | ((in[36 + inpos] & 4294967295L) << 18)
+                        | ((long) (in[37 + inpos] & 15) << 50);
+                out[22 + outpos] = (long) (in[37 + inpos] >>> 4)
+                        | ((long) (in[38 + inpos] & 67108863) << 28);
+                out[23 + outpos] = (long) (in[38 + inpos] >>> 26)
+                        | ((in[39 + inpos] & 4294967295L) << 6)
+                        | ((long) (in[40 + inpos] & 65535) << 38);
+                out[24 + outpos] = (long) (in[40 + inpos] >>> 16)
+                        | ((in[41 + inpos] & 4294967295L) << 16)
+                        | ((long) (in[42 + inpos] & 63) << 48);
+                out[25 + outpos] = (long) (in[42 + inpos] >>> 6)
+                        | ((long) (in[43 + inpos] & 268435455) << 26);
+                out[26 + outpos] = (long) (in[43 + inpos] >>> 28)
+                        | ((in[44 + inpos] & 4294967295L) << 4)
+                        | ((long) (in[45 + inpos] & 262143) << 36);
+                out[27 + outpos] = (long) (in[45 + inpos] >>> 18)
+                        | ((in[46 + inpos] & 4294967295L) << 14)
+                        | ((long) (in[47 + inpos] & 255) << 46);
+                out[28 + outpos] = (long) (in[47 + inpos] >>> 8)
+                        | ((long) (in[48 + inpos] & 1073741823) << 24);
+                out[29 + outpos] = (long) (in[48 + inpos] >>> 30)
+                        | ((in[49 + inpos] & 4294967295L) << 2)
+                        | ((long) (in[50 + inpos] & 1048575) << 34);
+                out[30 + outpos] = (long) (in[50 + inpos] >>> 20)
+                        | ((in[51 + inpos] & 4294967295L) << 12)
+                        | ((long) (in[52 + inpos] & 1023) << 44);
+                out[31 + outpos] = (long) (in[52 + inpos] >>> 10)
+                        | ((in[53 + inpos] & 4294967295L) << 22);
+        }
+
+        protected static void fastunpack55(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (in[0 + inpos] & 4294967295L)
+                        | ((long) (in[1 + inpos] & 8388607) << 32);
+                out[1 + outpos] = (long) (in[1 + inpos] >>> 23)
+                        | ((in[2 + inpos] & 4294967295L) << 9)
+                        | ((long) (in[3 + inpos] & 16383) << 41);
+                out[2 + outpos] = (long) (in[3 + inpos] >>> 14)
+                        | ((in[4 + inpos] & 4294967295L) << 18)
+                        | ((long) (in[5 + inpos] & 31) << 50);
+                out[3 + outpos] = (long) (in[5 + inpos] >>> 5)
+                        | ((long) (in[6 + inpos] & 268435455) << 27);
+                out[4 + outpos] = (long) (in[6 + inpos] >>> 28)
+                        | ((in[7 + inpos] & 4294967295L) << 4)
+                        | ((long) (in[8 + inpos] & 524287) << 36);
+                out[5 + outpos] = (long) (in[8 + inpos] >>> 19)
+                        | ((in[9 + inpos] & 4294967295L) << 13)
+                        | ((long) (in[10 + inpos] & 1023) << 45);
+                out[6 + outpos] = (long) (in[10 + inpos] >>> 10)
+                        | ((in[11 + inpos] & 4294967295L) << 22)
+                        | ((long) (in[12 + inpos] & 1) << 54);
+                out[7 + outpos] = (long) (in[12 + inpos] >>> 1)
+                        | ((long) (in[13 + inpos] & 16777215) << 31);
+                out[8 + outpos] = (long) (in[13 + inpos] >>> 24)
+                        | ((in[14 + inpos] & 4294967295L) << 8)
+                        | ((long) (in[15 + inpos] & 32767) << 40);
+                out[9 + outpos] = (long) (in[15 + inpos] >>> 15)
+                        | ((in[16 + inpos] & 4294967295L) << 17)
+                        | ((long) (in[17 + inpos] & 63) << 49);
+                out[10 + outpos] = (long) (in[17 + inpos] >>> 6)
+                        | ((long) (in[18 + inpos] & 536870911) << 26);
+                out[11 + outpos] = (long) (in[18 + inpos] >>> 29)
+                        | ((in[19 + inpos] & 4294967295L) << 3)
+                        | ((long) (in[20 + inpos] & 1048575) << 35);
+                out[12 + outpos] = (long) (in[20 + inpos] >>> 20)
+                        | ((in[21 + inpos] & 4294967295L) << 12)
+                        | ((long) (in[22 + inpos] & 2047) << 44);
+                out[13 + outpos] = (long) (in[22 + inpos] >>> 11)
+                        | ((in[23 + inpos] & 4294967295L) << 21)
+                        | ((long) (in[24 + inpos] & 3) << 53);
+                out[14 + outpos] = (long) (in[24 + inpos] >>> 2)
+                        | ((long) (in[25 + inpos] & 33554431) << 30);
+                out[15 + outpos] = (long) (in[25 + inpos] >>> 25)
+                        | ((in[26 + inpos] & 4294967295L) << 7)
+                        | ((long) (in[27 + inpos] & 65535) << 39);
+                out[16 + outpos] = (long) (in[27 + inpos] >>> 16)
+                        | ((in[28 + inpos] & 4294967295L) << 16)
+                        | ((long) (in[29 + inpos] & 127) << 48);
+                out[17 + outpos] = (long) (in[29 + inpos] >>> 7)
+                        | ((long) (in[30 + inpos] & 1073741823) << 25);
+                out[18 + outpos] = (long) (in[30 + inpos] >>> 30)
+                        | ((in[31 + inpos] & 4294967295L) << 2)
+                        | ((long) (in[32 + inpos] & 2097151) << 34);
+                out[19 + outpos] = (long) (in[32 + inpos] >>> 21)
+                        | ((in[33 + inpos] & 4294967295L) << 11)
+                        | ((long) (in[34 + inpos] & 4095) << 43);
+                out[20 + outpos] = (long) (in[34 + inpos] >>> 12)
+                        | ((in[35 + inpos] & 4294967295L) << 20)
+                        | ((long) (in[36 + inpos] & 7) << 52);
+                out[21 + outpos] = (long) (in[36 + inpos] >>> 3)
+                        | ((long) (in[37 + inpos] & 67108863) << 29);
+                out[22 + outpos] = (long) (in[37 + inpos] >>> 26)
+                        | ((in[38 + inpos] & 4294967295L) << 6)
+                        | ((long) (in[39 + inpos] & 131071) << 38);
+                out[23 + outpos] = (long) (in[39 + inpos] >>> 17)
+                        | ((in[40 + inpos] & 4294967295L) << 15)
+                        | ((long) (in[41 + inpos] & 255) << 47);
+                out[24 + outpos] = (long) (in[41 + inpos] >>> 8)
+                        | ((long) (in[42 + inpos] & 2147483647) << 24);
+                out[25 + outpos] = (long) (in[42 + inpos] >>> 31)
+                        | ((in[43 + inpos] & 4294967295L) << 1)
+                        | ((long) (in[44 + inpos] & 4194303) << 33);
+                out[26 + outpos] = (long) (in[44 + inpos] >>> 22)
+                        | ((in[45 + inpos] & 4294967295L) << 10)
+                        | ((long) (in[46 + inpos] & 8191) << 42);
+                out[27 + outpos] = (long) (in[46 + inpos] >>> 13)
+                        | ((in[47 + inpos] & 4294967295L) << 19)
+                        | ((long) (in[48 + inpos] & 15) << 51);
+                out[28 + outpos] = (long) (in[48 + inpos] >>> 4)
+                        | ((long) (in[49 + inpos] & 134217727) << 28);
+                out[29 + outpos] = (long) (in[49 + inpos] >>> 27)
+                        | ((in[50 + inpos] & 4294967295L) << 5)
+                        | ((long) (in[51 + inpos] & 262143) << 37);
+                out[30 + outpos] = (long) (in[51 + inpos] >>> 18)
+                        | ((in[52 + inpos] & 4294967295L) << 14)
+                        | ((long) (in[53 + inpos] & 511) << 46);
+                out[31 + outpos] = (long) (in[53 + inpos] >>> 9)
+                        | ((in[54 + inpos] & 4294967295L) << 23);
+        }
+
+        protected static void fastunpack56(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (in[0 + inpos] & 4294967295L)
+                        | ((long) (in[1 + inpos] & 16777215) << 32);
+                out[1 + outpos] = (long) (in[1 + inpos] >>> 24)
+                        | ((in[2 + inpos] & 4294967295L) << 8)
+                        | ((long) (in[3 + inpos] & 65535) << 40);
+                out[2 + outpos] = (long) (in[3 + inpos] >>> 16)
+                        | ((in[4 + inpos] & 4294967295L) << 16)
+                        | ((long) (in[5 + inpos] & 255) << 48);
+                out[3 + outpos] = (long) (in[5 + inpos] >>> 8)
+                        | ((in[6 + inpos] & 4294967295L) << 24);
+                out[4 + outpos] = (in[7 + inpos] & 4294967295L)
+                        | ((long) (in[8 + inpos] & 16777215) << 32);
+                out[5 + outpos] = (long) (in[8 + inpos] >>> 24)
+                        | ((in[9 + inpos] & 4294967295L) << 8)
+                        | ((long) (in[10 + inpos] & 65535) << 40);
+                out[6 + outpos] = (long) (in[10 + inpos] >>> 16)
+                        | ((in[11 + inpos] & 4294967295L) << 16)
+                        | ((long) (in[12 + inpos] & 255) << 48);
+                out[7 + outpos] = (long) (in[12 + inpos] >>> 8)
+                        | ((in[13 + inpos] & 4294967295L) << 24);
+                out[8 + outpos] = (in[14 + inpos] & 4294967295L)
+                        | ((long) (in[15 + inpos] & 16777215) << 32);
+                out[9 + outpos] = (long) (in[15 + inpos] >>> 24)
+                        | ((in[16 + inpos] & 4294967295L) << 8)
+                        | ((long) (in[17 + inpos] & 65535) << 40);
+                out[10 + outpos] = (long) (in[17 + inpos] >>> 16)
+                        | ((in[18 + inpos] & 4294967295L) << 16)
+                        | ((long) (in[19 + inpos] & 255) << 48);
+                out[11 + outpos] = (long) (in[19 + inpos] >>> 8)
+                        | ((in[20 + inpos] & 4294967295L) << 24);
+                out[12 + outpos] = (in[21 + inpos] & 4294967295L)
+                        | ((long) (in[22 + inpos] & 16777215) << 32);
+                out[13 + outpos] = (long) (in[22 + inpos] >>> 24)
+                        | ((in[23 + inpos] & 4294967295L) << 8)
+                        | ((long) (in[24 + inpos] & 65535) << 40);
+                out[14 + outpos] = (long) (in[24 + inpos] >>> 16)
+                        | ((in[25 + inpos] & 4294967295L) << 16)
+                        | ((long) (in[26 + inpos] & 255) << 48);
+                out[15 + outpos] = (long) (in[26 + inpos] >>> 8)
+                        | ((in[27 + inpos] & 4294967295L) << 24);
+                out[16 + outpos] = (in[28 + inpos] & 4294967295L)
+                        | ((long) (in[29 + inpos] & 16777215) << 32);
+                out[17 + outpos] = (long) (in[29 + inpos] >>> 24)
+                        | ((in[30 + inpos] & 4294967295L) << 8)
+                        | ((long) (in[31 + inpos] & 65535) << 40);
+                out[18 + outpos] = (long) (in[31 + inpos] >>> 16)
+                        | ((in[32 + inpos] & 4294967295L) << 16)
+                        | ((long) (in[33 + inpos] & 255) << 48);
+                out[19 + outpos] = (long) (in[33 + inpos] >>> 8)
+                        | ((in[34 + inpos] & 4294967295L) << 24);
+                out[20 + outpos] = (in[35 + inpos] & 4294967295L)
+                        | ((long) (in[36 + inpos] & 16777215) << 32);
+                out[21 + outpos] = (long) (in[36 + inpos] >>> 24)
+                        | ((in[37 + inpos] & 4294967295L) << 8)
+                        | ((long) (in[38 + inpos] & 65535) << 40);
+                out[22 + outpos] = (long) (in[38 + inpos] >>> 16)
+                        | ((in[39 + inpos] & 4294967295L) << 16)
+                        | ((long) (in[40 + inpos] & 255) << 48);
+                out[23 + outpos] = (long) (in[40 + inpos] >>> 8)
+                        | ((in[41 + inpos] & 4294967295L) << 24);
+                out[24 + outpos] = (in[42 + inpos] & 4294967295L)
+                        | ((long) (in[43 + inpos] & 16777215) << 32);
+                out[25 + outpos] = (long) (in[43 + inpos] >>> 24)
+                        | ((in[44 + inpos] & 4294967295L) << 8)
+                        | ((long) (in[45 + inpos] & 65535) << 40);
+                out[26 + outpos] = (long) (in[45 + inpos] >>> 16)
+                        | ((in[46 + inpos] & 4294967295L) << 16)
+                        | ((long) (in[47 + inpos] & 255) << 48);
+                out[27 + outpos] = (long) (in[47 + inpos] >>> 8)
+                        | ((in[48 + inpos] & 4294967295L) << 24);
+                out[28 + outpos] = (in[49 + inpos] & 4294967295L)
+                        | ((long) (in[50 + inpos] & 16777215) << 32);
+                out[29 + outpos] = (long) (in[50 + inpos] >>> 24)
+                        | ((in[51 + inpos] & 4294967295L) << 8)
+                        | ((long) (in[52 + inpos] & 65535) << 40);
+                out[30 + outpos] = (long) (in[52 + inpos] >>> 16)
+                        | ((in[53 + inpos] & 4294967295L) << 16)
+                        | ((long) (in[54 + inpos] & 255) << 48);
+                out[31 + outpos] = (long) (in[54 + inpos] >>> 8)
+                        | ((in[55 + inpos] & 4294967295L) << 24);
+        }
+
+        protected static void fastunpack57(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (in[0 + inpos] & 4294967295L)
+                        | ((long) (in[1 + inpos] & 33554431) << 32);
+                out[1 + outpos] = (long) (in[1 + inpos] >>> 25)
+                        | ((in[2 + inpos] & 4294967295L) << 7)
+                        | ((long) (in[3 + inpos] & 262143) << 39);
+                out[2 + outpos] = (long) (in[3 + inpos] >>> 18)
+                        | ((in[4 + inpos] & 4294967295L) << 14)
+                        | ((long) (in[5 + inpos] & 2047) << 46);
+                out[3 + outpos] = (long) (in[5 + inpos] >>> 11)
+                        | ((in[6 + inpos] & 4294967295L) << 21)
+                        | ((long) (in[7 + inpos] & 15) << 53);
+                out[4 + outpos] = (long) (in[7 + inpos] >>> 4)
+                        | ((long) (in[8 + inpos] & 536870911) << 28);
+                out[5 + outpos] = (long) (in[8 + inpos] >>> 29)
+                        | ((in[9 + inpos] & 4294967295L) << 3)
+                        | ((long) (in[10 + inpos] & 4194303) << 35);
+                out[6 + outpos] = (long) (in[10 + inpos] >>> 22)
+                        | ((in[11 + inpos] & 4294967295L) << 10)
+                        | ((long) (in[12 + inpos] & 32767) << 42);
+                out[7 + outpos] = (long) (in[12 + inpos] >>> 15)
+                        | ((in[13 + inpos] & 4294967295L) << 17)
+                        | ((long) (in[14 + inpos] & 255) << 49);
+                out[8 + outpos] = (long) (in[14 + inpos] >>> 8)
+                        | ((in[15 + inpos] & 4294967295L) << 24)
+                        | ((long) (in[16 + inpos] & 1) << 56);
+                out[9 + outpos] = (long) (in[16 + inpos] >>> 1)
+                        | ((long) (in[17 + inpos] & 67108863) << 31);
+                out[10 + outpos] = (long) (in[17 + inpos] >>> 26)
+                        | ((in[18 + inpos] & 4294967295L) << 6)
+                        | ((long) (in[19 + inpos] & 524287) << 38);
+                out[11 + outpos] = (long) (in[19 + inpos] >>> 19)
+                        | ((in[20 + inpos] & 4294967295L) << 13)
+                        | ((long) (in[21 + inpos] & 4095) << 45);
+                out[12 + outpos] = (long) (in[21 + inpos] >>> 12)
+                        | ((in[22 + inpos] & 4294967295L) << 20)
+                        | ((long) (in[23 + inpos] & 31) << 52);
+                out[13 + outpos] = (long) (in[23 + inpos] >>> 5)
+                        | ((long) (in[24 + inpos] & 1073741823) << 27);
+                out[14 + outpos] = (long) (in[24 + inpos] >>> 30)
+                        | ((in[25 + inpos] & 4294967295L) << 2)
+                        | ((long) (in[26 + inpos] & 8388607) << 34);
+                out[15 + outpos] = (long) (in[26 + inpos] >>> 23)
+                        | ((in[27 + inpos] & 4294967295L) << 9)
+                        | ((long) (in[28 + inpos] & 65535) << 41);
+                out[16 + outpos] = (long) (in[28 + inpos] >>> 16)
+                        | ((in[29 + inpos] & 4294967295L) << 16)
+                        | ((long) (in[30 + inpos] & 511) << 48);
+                out[17 + outpos] = (long) (in[30 + inpos] >>> 9)
+                        | ((in[31 + inpos] & 4294967295L) << 23)
+                        | ((long) (in[32 + inpos] & 3) << 55);
+                out[18 + outpos] = (long) (in[32 + inpos] >>> 2)
+                        | ((long) (in[33 + inpos] & 134217727) << 30);
+                out[19 + outpos] = (long) (in[33 + inpos] >>> 27)
+                        | ((in[34 + inpos] & 4294967295L) << 5)
+                        | ((long) (in[35 + inpos] & 1048575) << 37);
+                out[20 + outpos] = (long) (in[35 + inpos] >>> 20)
+                        | ((in[36 + inpos] & 4294967295L) << 12)
+                        | ((long) (in[37 + inpos] & 8191) << 44);
+                out[21 + outpos] = (long) (in[37 + inpos] >>> 13)
+                        | ((in[38 + inpos] & 4294967295L) << 19)
+                        | ((long) (in[39 + inpos] & 63) << 51);
+                out[22 + outpos] = (long) (in[39 + inpos] >>> 6)
+                        | ((long) (in[40 + inpos] & 2147483647) << 26);
+                out[23 + outpos] = (long) (in[40 + inpos] >>> 31)
+                        | ((in[41 + inpos] & 4294967295L) << 1)
+                        | ((long) (in[42 + inpos] & 16777215) << 33);
+                out[24 + outpos] = (long) (in[42 + inpos] >>> 24)
+                        | ((in[43 + inpos] & 4294967295L) << 8)
+                        | ((long) (in[44 + inpos] & 131071) << 40);
+                out[25 + outpos] = (long) (in[44 + inpos] >>> 17)
+                        | ((in[45 + inpos] & 4294967295L) << 15)
+                        | ((long) (in[46 + inpos] & 1023) << 47);
+                out[26 + outpos] = (long) (in[46 + inpos] >>> 10)
+                        | ((in[47 + inpos] & 4294967295L) << 22)
+                        | ((long) (in[48 + inpos] & 7) << 54);
+                out[27 + outpos] = (long) (in[48 + inpos] >>> 3)
+                        | ((long) (in[49 + inpos] & 268435455) << 29);
+                out[28 + outpos] = (long) (in[49 + inpos] >>> 28)
+                        | ((in[50 + inpos] & 4294967295L) << 4)
+                        | ((long) (in[51 + inpos] & 2097151) << 36);
+                out[29 + outpos] = (long) (in[51 + inpos] >>> 21)
+                        | ((in[52 + inpos] & 4294967295L) << 11)
+                        | ((long) (in[53 + inpos] & 16383) << 43);
+                out[30 + outpos] = (long) (in[53 + inpos] >>> 14)
+                        | ((in[54 + inpos] & 4294967295L) << 18)
+                        | ((long) (in[55 + inpos] & 127) << 50);
+                out[31 + outpos] = (long) (in[55 + inpos] >>> 7)
+                        | ((in[56 + inpos] & 4294967295L) << 25);
+        }
+
+        protected static void fastunpack58(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (in[0 + inpos] & 4294967295L)
+                        | ((long) (in[1 + inpos] & 67108863) << 32);
+                out[1 + outpos] = (long) (in[1 + inpos] >>> 26)
+                        | ((in[2 + inpos] & 4294967295L) << 6)
+                        | ((long) (in[3 + inpos] & 1048575) << 38);
+                out[2 + outpos] = (long) (in[3 + inpos] >>> 20)
+                        | ((in[4 + inpos] & 4294967295L) << 12)
+                        | ((long) (in[5 + inpos] & 16383) << 44);
+                out[3 + outpos] = (long) (in[5 + inpos] >>> 14)
+                        | ((in[6 + inpos] & 4294967295L) << 18)
+                        | ((long) (in[7 + inpos] & 255) << 50);
+                out[4 + outpos] = (long) (in[7 + inpos] >>> 8)
+                        | ((in[8 + inpos] & 4294967295L) << 24)
+                        | ((long) (in[9 + inpos] & 3) << 56);
+                out[5 + outpos] = (long) (in[9 + inpos] >>> 2)
+                        | ((long) (in[10 + inpos] & 268435455) << 30);
+                out[6 + outpos] = (long) (in[10 + inpos] >>> 28)
+                        | ((in[11 + inpos] & 4294967295L) << 4)
+                        | ((long) (in[12 + inpos] & 4194303) << 36);
+                out[7 + outpos] = (long) (in[12 + inpos] >>> 22)
+                        | ((in[13 + inpos] & 4294967295L) << 10)
+                        | ((long) (in[14 + inpos] & 65535) << 42);
+                out[8 + outpos] = (long) (in[14 + inpos] >>> 16)
+                        | ((in[15 + inpos] & 4294967295L) << 16)
+                        | ((long) (in[16 + inpos] & 1023) << 48);
+                out[9 + outpos] = (long) (in[16 + inpos] >>> 10)
+                        | ((in[17 + inpos] & 4294967295L) << 22)
+                        | ((long) (in[18 + inpos] & 15) << 54);
+                out[10 + outpos] = (long) (in[18 + inpos] >>> 4)
+                        | ((long) (in[19 + inpos] & 1073741823) << 28);
+                out[11 + outpos] = (long) (in[19 + inpos] >>> 30)
+                        | ((in[20 + inpos] & 4294967295L) << 2)
+                        | ((long) (in[21 + inpos] & 16777215) << 34);
+                out[12 + outpos] = (long) (in[21 + inpos] >>> 24)
+                        | ((in[22 + inpos] & 4294967295L) << 8)
+                        | ((long) (in[23 + inpos] & 262143) << 40);
+                out[13 + outpos] = (long) (in[23 + inpos] >>> 18)
+                        | ((in[24 + inpos] & 4294967295L) << 14)
+                        | ((long) (in[25 + inpos] & 4095) << 46);
+                out[14 + outpos] = (long) (in[25 + inpos] >>> 12)
+                        | ((in[26 + inpos] & 4294967295L) << 20)
+                        | ((long) (in[27 + inpos] & 63) << 52);
+                out[15 + outpos] = (long) (in[27 + inpos] >>> 6)
+                        | ((in[28 + inpos] & 4294967295L) << 26);
+                out[16 + outpos] = (in[29 + inpos] & 4294967295L)
+                        | ((long) (in[30 + inpos] & 67108863) << 32);
+                out[17 + outpos] = (long) (in[30 + inpos] >>> 26)
+                        | ((in[31 + inpos] & 4294967295L) << 6)
+                        | ((long) (in[32 + inpos] & 1048575) << 38);
+                out[18 + outpos] = (long) (in[32 + inpos] >>> 20)
+                        | ((in[33 + inpos] & 4294967295L) << 12)
+                        | ((long) (in[34 + inpos] & 16383) << 44);
+                out[19 + outpos] = (long) (in[34 + inpos] >>> 14)
+                        | ((in[35 + inpos] & 4294967295L) << 18)
+                        | ((long) (in[36 + inpos] & 255) << 50);
+                out[20 + outpos] = (long) (in[36 + inpos] >>> 8)
+                        | ((in[37 + inpos] & 4294967295L) << 24)
+                        | ((long) (in[38 + inpos] & 3) << 56);
+                out[21 + outpos] = (long) (in[38 + inpos] >>> 2)
+                        | ((long) (in[39 + inpos] & 268435455) << 30);
+                out[22 + outpos] = (long) (in[39 + inpos] >>> 28)
+                        | ((in[40 + inpos] & 4294967295L) << 4)
+                        | ((long) (in[41 + inpos] & 4194303) << 36);
+                out[23 + outpos] = (long) (in[41 + inpos] >>> 22)
+                        | ((in[42 + inpos] & 4294967295L) << 10)
+                        | ((long) (in[43 + inpos] & 65535) << 42);
+                out[24 + outpos] = (long) (in[43 + inpos] >>> 16)
+                        | ((in[44 + inpos] & 4294967295L) << 16)
+                        | ((long) (in[45 + inpos] & 1023) << 48);
+                out[25 + outpos] = (long) (in[45 + inpos] >>> 10)
+                        | ((in[46 + inpos] & 4294967295L) << 22)
+                        | ((long) (in[47 + inpos] & 15) << 54);
+                out[26 + outpos] = (long) (in[47 + inpos] >>> 4)
+                        | ((long) (in[48 + inpos] & 1073741823) << 28);
+                out[27 + outpos] = (long) (in[48 + inpos] >>> 30)
+                        | ((in[49 + inpos] & 4294967295L) << 2)
+                        | ((long) (in[50 + inpos] & 16777215) << 34);
+                out[28 + outpos] = (long) (in[50 + inpos] >>> 24)
+                        | ((in[51 + inpos] & 4294967295L) << 8)
+                        | ((long) (in[52 + inpos] & 262143) << 40);
+                out[29 + outpos] = (long) (in[52 + inpos] >>> 18)
+                        | ((in[53 + inpos] & 4294967295L) << 14)
+                        | ((long) (in[54 + inpos] & 4095) << 46);
+                out[30 + outpos] = (long) (in[54 + inpos] >>> 12)
+                        | ((in[55 + inpos] & 4294967295L) << 20)
+                        | ((long) (in[56 + inpos] & 63) << 52);
+                out[31 + outpos] = (long) (in[56 + inpos] >>> 6)
+                        | ((in[57 + inpos] & 4294967295L) << 26);
+        }
+
+        protected static void fastunpack59(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (in[0 + inpos] & 4294967295L)
+                        | ((long) (in[1 + inpos] & 134217727) << 32);
+                out[1 + outpos] = (long) (in[1 + inpos] >>> 27)
+                        | ((in[2 + inpos] & 4294967295L) << 5)
+                        | ((long) (in[3 + inpos] & 4194303) << 37);
+                out[2 + outpos] = (long) (in[3 + inpos] >>> 22)
+                        | ((in[4 + inpos] & 4294967295L) << 10)
+                        | ((long) (in[5 + inpos] & 131071) << 42);
+                out[3 + outpos] = (long) (in[5 + inpos] >>> 17)
+                        | ((in[6 + inpos] & 4294967295L) << 15)
+                        | ((long) (in[7 + inpos] & 4095) << 47);
+                out[4 + outpos] = (long) (in[7 + inpos] >>> 12)
+                        | ((in[8 + inpos] & 4294967295L) << 20)
+                        | ((long) (in[9 + inpos] & 127) << 52);
+                out[5 + outpos] = (long) (in[9 + inpos] >>> 7)
+                        | ((in[10 + inpos] & 4294967295L) << 25)
+                        | ((long) (in[11 + inpos] & 3) << 57);
+                out[6 + outpos] = (long) (in[11 + inpos] >>> 2)
+                        | ((long) (in[12 + inpos] & 536870911) << 30);
+                out[7 + outpos] = (long) (in[12 + inpos] >>> 29)
+                        | ((in[13 + inpos] & 4294967295L) << 3)
+                        | ((long) (in[14 + inpos] & 16777215) << 35);
+                out[8 + outpos] = (long) (in[14 + inpos] >>> 24)
+                        | ((in[15 + inpos] & 4294967295L) << 8)
+                        | ((long) (in[16 + inpos] & 524287) << 40);
+                out[9 + outpos] = (long) (in[16 + inpos] >>> 19)
+                        | ((in[17 + inpos] & 4294967295L) << 13)
+                        | ((long) (in[18 + inpos] & 16383) << 45);
+                out[10 + outpos] = (long) (in[18 + inpos] >>> 14)
+                        | ((in[19 + inpos] & 4294967295L) << 18)
+                        | ((long) (in[20 + inpos] & 511) << 50);
+                out[11 + outpos] = (long) (in[20 + inpos] >>> 9)
+                        | ((in[21 + inpos] & 4294967295L) << 23)
+                        | ((long) (in[22 + inpos] & 15) << 55);
+                out[12 + outpos] = (long) (in[22 + inpos] >>> 4)
+                        | ((long) (in[23 + inpos] & 2147483647) << 28);
+                out[13 + outpos] = (long) (in[23 + inpos] >>> 31)
+                        | ((in[24 + inpos] & 4294967295L) << 1)
+                        | ((long) (in[25 + inpos] & 67108863) << 33);
+                out[14 + outpos] = (long) (in[25 + inpos] >>> 26)
+                        | ((in[26 + inpos] & 4294967295L) << 6)
+                        | ((long) (in[27 + inpos] & 2097151) << 38);
+                out[15 + outpos] = (long) (in[27 + inpos] >>> 21)
+                        | ((in[28 + inpos] & 4294967295L) << 11)
+                        | ((long) (in[29 + inpos] & 65535) << 43);
+                out[16 + outpos] = (long) (in[29 + inpos] >>> 16)
+                        | ((in[30 + inpos] & 4294967295L) << 16)
+                        | ((long) (in[31 + inpos] & 2047) << 48);
+                out[17 + outpos] = (long) (in[31 + inpos] >>> 11)
+                        | ((in[32 + inpos] & 4294967295L) << 21)
+                        | ((long) (in[33 + inpos] & 63) << 53);
+                out[18 + outpos] = (long) (in[33 + inpos] >>> 6)
+                        | ((in[34 + inpos] & 4294967295L) << 26)
+                        | ((long) (in[35 + inpos] & 1) << 58);
+                out[19 + outpos] = (long) (in[35 + inpos] >>> 1)
+                        | ((long) (in[36 + inpos] & 268435455) << 31);
+                out[20 + outpos] = (long) (in[36 + inpos] >>> 28)
+                        | ((in[37 + inpos] & 4294967295L) << 4)
+                        | ((long) (in[38 + inpos] & 8388607) << 36);
+                out[21 + outpos] = (long) (in[38 + inpos] >>> 23)
+                        | ((in[39 + inpos] & 4294967295L) << 9)
+                        | ((long) (in[40 + inpos] & 262143) << 41);
+                out[22 + outpos] = (long) (in[40 + inpos] >>> 18)
+                        | ((in[41 + inpos] & 4294967295L) << 14)
+                        | ((long) (in[42 + inpos] & 8191) << 46);
+                out[23 + outpos] = (long) (in[42 + inpos] >>> 13)
+                        | ((in[43 + inpos] & 4294967295L) << 19)
+                        | ((long) (in[44 + inpos] & 255) << 51);
+                out[24 + outpos] = (long) (in[44 + inpos] >>> 8)
+                        | ((in[45 + inpos] & 4294967295L) << 24)
+                        | ((long) (in[46 + inpos] & 7) << 56);
+                out[25 + outpos] = (long) (in[46 + inpos] >>> 3)
+                        | ((long) (in[47 + inpos] & 1073741823) << 29);
+                out[26 + outpos] = (long) (in[47 + inpos] >>> 30)
+                        | ((in[48 + inpos] & 4294967295L) << 2)
+                        | ((long) (in[49 + inpos] & 33554431) << 34);
+                out[27 + outpos] = (long) (in[49 + inpos] >>> 25)
+                        | ((in[50 + inpos] & 4294967295L) << 7)
+                        | ((long) (in[51 + inpos] & 1048575) << 39);
+                out[28 + outpos] = (long) (in[51 + inpos] >>> 20)
+                        | ((in[52 + inpos] & 4294967295L) << 12)
+                        | ((long) (in[53 + inpos] & 32767) << 44);
+                out[29 + outpos] = (long) (in[53 + inpos] >>> 15)
+                        | ((in[54 + inpos] & 4294967295L) << 17)
+                        | ((long) (in[55 + inpos] & 1023) << 49);
+                out[30 + outpos] = (long) (in[55 + inpos] >>> 10)
+                        | ((in[56 + inpos] & 4294967295L) << 22)
+                        | ((long) (in[57 + inpos] & 31) << 54);
+                out[31 + outpos] = (long) (in[57 + inpos] >>> 5)
+                        | ((in[58 + inpos] & 4294967295L) << 27);
+        }
+
+        protected static void fastunpack6(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (long) (in[0 + inpos] & 63);
+                out[1 + outpos] = (long) ((in[0 + inpos] >>> 6) & 63);
+                out[2 + outpos] = (long) ((in[0 + inpos] >>> 12) & 63);
+                out[3 + outpos] = (long) ((in[0 + inpos] >>> 18) & 63);
+                out[4 + outpos] = (long) ((in[0 + inpos] >>> 24) & 63);
+                out[5 + outpos] = (long) (in[0 + inpos] >>> 30)
+                        | ((long) (in[1 + inpos] & 15) << 2);
+                out[6 + outpos] = (long) ((in[1 + inpos] >>> 4) & 63);
+                out[7 + outpos] = (long) ((in[1 + inpos] >>> 10) & 63);
+                out[8 + outpos] = (long) ((in[1 + inpos] >>> 16) & 63);
+                out[9 + outpos] = (long) ((in[1 + inpos] >>> 22) & 63);
+                out[10 + outpos] = (long) (in[1 + inpos] >>> 28)
+                        | ((long) (in[2 + inpos] & 3) << 4);
+                out[11 + outpos] = (long) ((in[2 + inpos] >>> 2) & 63);
+                out[12 + outpos] = (long) ((in[2 + inpos] >>> 8) & 63);
+                out[13 + outpos] = (long) ((in[2 + inpos] >>> 14) & 63);
+                out[14 + outpos] = (long) ((in[2 + inpos] >>> 20) & 63);
+                out[15 + outpos] = (long) (in[2 + inpos] >>> 26);
+                out[16 + outpos] = (long) (in[3 + inpos] & 63);
+                out[17 + outpos] = (long) ((in[3 + inpos] >>> 6) & 63);
+                out[18 + outpos] = (long) ((in[3 + inpos] >>> 12) & 63);
+                out[19 + outpos] = (long) ((in[3 + inpos] >>> 18) & 63);
+                out[20 + outpos] = (long) ((in[3 + inpos] >>> 24) & 63);
+                out[21 + outpos] = (long) (in[3 + inpos] >>> 30)
+                        | ((long) (in[4 + inpos] & 15) << 2);
+                out[22 + outpos] = (long) ((in[4 + inpos] >>> 4) & 63);
+                out[23 + outpos] = (long) ((in[4 + inpos] >>> 10) & 63);
+                out[24 + outpos] = (long) ((in[4 + inpos] >>> 16) & 63);
+                out[25 + outpos] = (long) ((in[4 + inpos] >>> 22) & 63);
+                out[26 + outpos] = (long) (in[4 + inpos] >>> 28)
+                        | ((long) (in[5 + inpos] & 3) << 4);
+                out[27 + outpos] = (long) ((in[5 + inpos] >>> 2) & 63);
+                out[28 + outpos] = (long) ((in[5 + inpos] >>> 8) & 63);
+                out[29 + outpos] = (long) ((in[5 + inpos] >>> 14) & 63);
+                out[30 + outpos] = (long) ((in[5 + inpos] >>> 20) & 63);
+                out[31 + outpos] = (long) (in[5 + inpos] >>> 26);
+        }
+
+        protected static void fastunpack60(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (in[0 + inpos] & 4294967295L)
+                        | ((long) (in[1 + inpos] & 268435455) << 32);
+                out[1 + outpos] = (long) (in[1 + inpos] >>> 28)
+                        | ((in[2 + inpos] & 4294967295L) << 4)
+                        | ((long) (in[3 + inpos] & 16777215) << 36);
+                out[2 + outpos] = (long) (in[3 + inpos] >>> 24)
+                        | ((in[4 + inpos] & 4294967295L) << 8)
+                        | ((long) (in[5 + inpos] & 1048575) << 40);
+                out[3 + outpos] = (long) (in[5 + inpos] >>> 20)
+                        | ((in[6 + inpos] & 4294967295L) << 12)
+                        | ((long) (in[7 + inpos] & 65535) << 44);
+                out[4 + outpos] = (long) (in[7 + inpos] >>> 16)
+                        | ((in[8 + inpos] & 4294967295L) << 16)
+                        | ((long) (in[9 + inpos] & 4095) << 48);
+                out[5 + outpos] = (long) (in[9 + inpos] >>> 12)
+                        | ((in[10 + inpos] & 4294967295L) << 20)
+                        | ((long) (in[11 + inpos] & 255) << 52);
+                out[6 + outpos] = (long) (in[11 + inpos] >>> 8)
+                        | ((in[12 + inpos] & 4294967295L) << 24)
+                        | ((long) (in[13 + inpos] & 15) << 56);
+                out[7 + outpos] = (long) (in[13 + inpos] >>> 4)
+                        | ((in[14 + inpos] & 4294967295L) << 28);
+                out[8 + outpos] = (in[15 + inpos] & 4294967295L)
+                        | ((long) (in[16 + inpos] & 268435455) << 32);
+                out[9 + outpos] = (long) (in[16 + inpos] >>> 28)
+                        | ((in[17 + inpos] & 4294967295L) << 4)
+                        | ((long) (in[18 + inpos] & 16777215) << 36);
+                out[10 + outpos] = (long) (in[18 + inpos] >>> 24)
+                        | ((in[19 + inpos] & 4294967295L) << 8)
+                        | ((long) (in[20 + inpos] & 1048575) << 40);
+                out[11 + outpos] = (long) (in[20 + inpos] >>> 20)
+                        | ((in[21 + inpos] & 4294967295L) << 12)
+                        | ((long) (in[22 + inpos] & 65535) << 44);
+                out[12 + outpos] = (long) (in[22 + inpos] >>> 16)
+                        | ((in[23 + inpos] & 4294967295L) << 16)
+                        | ((long) (in[24 + inpos] & 4095) << 48);
+                out[13 + outpos] = (long) (in[24 + inpos] >>> 12)
+                        | ((in[25 + inpos] & 4294967295L) << 20)
+                        | ((long) (in[26 + inpos] & 255) << 52);
+                out[14 + outpos] = (long) (in[26 + inpos] >>> 8)
+                        | ((in[27 + inpos] & 4294967295L) << 24)
+                        | ((long) (in[28 + inpos] & 15) << 56);
+                out[15 + outpos] = (long) (in[28 + inpos] >>> 4)
+                        | ((in[29 + inpos] & 4294967295L) << 28);
+                out[16 + outpos] = (in[30 + inpos] & 4294967295L)
+                        | ((long) (in[31 + inpos] & 268435455) << 32);
+                out[17 + outpos] = (long) (in[31 + inpos] >>> 28)
+                        | ((in[32 + inpos] & 4294967295L) << 4)
+                        | ((long) (in[33 + inpos] & 16777215) << 36);
+                out[18 + outpos] = (long) (in[33 + inpos] >>> 24)
+                        | ((in[34 + inpos] & 4294967295L) << 8)
+                        | ((long) (in[35 + inpos] & 1048575) << 40);
+                out[19 + outpos] = (long) (in[35 + inpos] >>> 20)
+                        | ((in[36 + inpos] & 4294967295L) << 12)
+                        | ((long) (in[37 + inpos] & 65535) << 44);
+                out[20 + outpos] = (long) (in[37 + inpos] >>> 16)
+                        | ((in[38 + inpos] & 4294967295L) << 16)
+                        | ((long) (in[39 + inpos] & 4095) << 48);
+                out[21 + outpos] = (long) (in[39 + inpos] >>> 12)
+                        | ((in[40 + inpos] & 4294967295L) << 20)
+                        | ((long) (in[41 + inpos] & 255) << 52);
+                out[22 + outpos] = (long) (in[41 + inpos] >>> 8)
+                        | ((in[42 + inpos] & 4294967295L) << 24)
+                        | ((long) (in[43 + inpos] & 15) << 56);
+                out[23 + outpos] = (long) (in[43 + inpos] >>> 4)
+                        | ((in[44 + inpos] & 4294967295L) << 28);
+                out[24 + outpos] = (in[45 + inpos] & 4294967295L)
+                        | ((long) (in[46 + inpos] & 268435455) << 32);
+                out[25 + outpos] = (long) (in[46 + inpos] >>> 28)
+                        | ((in[47 + inpos] & 4294967295L) << 4)
+                        | ((long) (in[48 + inpos] & 16777215) << 36);
+                out[26 + outpos] = (long) (in[48 + inpos] >>> 24)
+                        | ((in[49 + inpos] & 4294967295L) << 8)
+                        | ((long) (in[50 + inpos] & 1048575) << 40);
+                out[27 + outpos] = (long) (in[50 + inpos] >>> 20)
+                        | ((in[51 + inpos] & 4294967295L) << 12)
+                        | ((long) (in[52 + inpos] & 65535) << 44);
+                out[28 + outpos] = (long) (in[52 + inpos] >>> 16)
+                        | ((in[53 + inpos] & 4294967295L) << 16)
+                        | ((long) (in[54 + inpos] & 4095) << 48);
+                out[29 + outpos] = (long) (in[54 + inpos] >>> 12)
+                        | ((in[55 + inpos] & 4294967295L) << 20)
+                        | ((long) (in[56 + inpos] & 255) << 52);
+                out[30 + outpos] = (long) (in[56 + inpos] >>> 8)
+                        | ((in[57 + inpos] & 4294967295L) << 24)
+                        | ((long) (in[58 + inpos] & 15) << 56);
+                out[31 + outpos] = (long) (in[58 + inpos] >>> 4)
+                        | ((in[59 + inpos] & 4294967295L) << 28);
+        }
+
+        protected static void fastunpack61(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (in[0 + inpos] & 4294967295L)
+                        | ((long) (in[1 + inpos] & 536870911) << 32);
+                out[1 + outpos] = (long) (in[1 + inpos] >>> 29)
+                        | ((in[2 + inpos] & 4294967295L) << 3)
+                        | ((long) (in[3 + inpos] & 67108863) << 35);
+                out[2 + outpos] = (long) (in[3 + inpos] >>> 26)
+                        | ((in[4 + inpos] & 4294967295L) << 6)
+                        | ((long) (in[5 + inpos] & 8388607) << 38);
+                out[3 + outpos] = (long) (in[5 + inpos] >>> 23)
+                        | ((in[6 + inpos] & 4294967295L) << 9)
+                        | ((long) (in[7 + inpos] & 1048575) << 41);
+                out[4 + outpos] = (long) (in[7 + inpos] >>> 20)
+                        | ((in[8 + inpos] & 4294967295L) << 12)
+                        | ((long) (in[9 + inpos] & 131071) << 44);
+                out[5 + outpos] = (long) (in[9 + inpos] >>> 17)
+                        | ((in[10 + inpos] & 4294967295L) << 15)
+                        | ((long) (in[11 + inpos] & 16383) << 47);
+                out[6 + outpos] = (long) (in[11 + inpos] >>> 14)
+                        | ((in[12 + inpos] & 4294967295L) << 18)
+                        | ((long) (in[13 + inpos] & 2047) << 50);
+                out[7 + outpos] = (long) (in[13 + inpos] >>> 11)
+                        | ((in[14 + inpos] & 4294967295L) << 21)
+                        | ((long) (in[15 + inpos] & 255) << 53);
+                out[8 + outpos] = (long) (in[15 + inpos] >>> 8)
+                        | ((in[16 + inpos] & 4294967295L) << 24)
+                        | ((long) (in[17 + inpos] & 31) << 56);
+                out[9 + outpos] = (long) (in[17 + inpos] >>> 5)
+                        | ((in[18 + inpos] & 4294967295L) << 27)
+                        | ((long) (in[19 + inpos] & 3) << 59);
+                out[10 + outpos] = (long) (in[19 + inpos] >>> 2)
+                        | ((long) (in[20 + inpos] & 2147483647) << 30);
+                out[11 + outpos] = (long) (in[20 + inpos] >>> 31)
+                        | ((in[21 + inpos] & 4294967295L) << 1)
+                        | ((long) (in[22 + inpos] & 268435455) << 33);
+                out[12 + outpos] = (long) (in[22 + inpos] >>> 28)
+                        | ((in[23 + inpos] & 4294967295L) << 4)
+                        | ((long) (in[24 + inpos] & 33554431) << 36);
+                out[13 + outpos] = (long) (in[24 + inpos] >>> 25)
+                        | ((in[25 + inpos] & 4294967295L) << 7)
+                        | ((long) (in[26 + inpos] & 4194303) << 39);
+                out[14 + outpos] = (long) (in[26 + inpos] >>> 22)
+                        | ((in[27 + inpos] & 4294967295L) << 10)
+                        | ((long) (in[28 + inpos] & 524287) << 42);
+                out[15 + outpos] = (long) (in[28 + inpos] >>> 19)
+                        | ((in[29 + inpos] & 4294967295L) << 13)
+                        | ((long) (in[30 + inpos] & 65535) << 45);
+                out[16 + outpos] = (long) (in[30 + inpos] >>> 16)
+                        | ((in[31 + inpos] & 4294967295L) << 16)
+                        | ((long) (in[32 + inpos] & 8191) << 48);
+                out[17 + outpos] = (long) (in[32 + inpos] >>> 13)
+                        | ((in[33 + inpos] & 4294967295L) << 19)
+                        | ((long) (in[34 + inpos] & 1023) << 51);
+                out[18 + outpos] = (long) (in[34 + inpos] >>> 10)
+                        | ((in[35 + inpos] & 4294967295L) << 22)
+                        | ((long) (in[36 + inpos] & 127) << 54);
+                out[19 + outpos] = (long) (in[36 + inpos] >>> 7)
+                        | ((in[37 + inpos] & 4294967295L) << 25)
+                        | ((long) (in[38 + inpos] & 15) << 57);
+                out[20 + outpos] = (long) (in[38 + inpos] >>> 4)
+                        | ((in[39 + inpos] & 4294967295L) << 28)
+                        | ((long) (in[40 + inpos] & 1) << 60);
+                out[21 + outpos] = (long) (in[40 + inpos] >>> 1)
+                        | ((long) (in[41 + inpos] & 1073741823) << 31);
+                out[22 + outpos] = (long) (in[41 + inpos] >>> 30)
+                        | ((in[42 + inpos] & 4294967295L) << 2)
+                        | ((long) (in[43 + inpos] & 134217727) << 34);
+                out[23 + outpos] = (long) (in[43 + inpos] >>> 27)
+                        | ((in[44 + inpos] & 4294967295L) << 5)
+                        | ((long) (in[45 + inpos] & 16777215) << 37);
+                out[24 + outpos] = (long) (in[45 + inpos] >>> 24)
+                        | ((in[46 + inpos] & 4294967295L) << 8)
+                        | ((long) (in[47 + inpos] & 2097151) << 40);
+                out[25 + outpos] = (long) (in[47 + inpos] >>> 21)
+                        | ((in[48 + inpos] & 4294967295L) << 11)
+                        | ((long) (in[49 + inpos] & 262143) << 43);
+                out[26 + outpos] = (long) (in[49 + inpos] >>> 18)
+                        | ((in[50 + inpos] & 4294967295L) << 14)
+                        | ((long) (in[51 + inpos] & 32767) << 46);
+                out[27 + outpos] = (long) (in[51 + inpos] >>> 15)
+                        | ((in[52 + inpos] & 4294967295L) << 17)
+                        | ((long) (in[53 + inpos] & 4095) << 49);
+                out[28 + outpos] = (long) (in[53 + inpos] >>> 12)
+                        | ((in[54 + inpos] & 4294967295L) << 20)
+                        | ((long) (in[55 + inpos] & 511) << 52);
+                out[29 + outpos] = (long) (in[55 + inpos] >>> 9)
+                        | ((in[56 + inpos] & 4294967295L) << 23)
+                        | ((long) (in[57 + inpos] & 63) << 55);
+                out[30 + outpos] = (long) (in[57 + inpos] >>> 6)
+                        | ((in[58 + inpos] & 4294967295L) << 26)
+                        | ((long) (in[59 + inpos] & 7) << 58);
+                out[31 + outpos] = (long) (in[59 + inpos] >>> 3)
+                        | ((in[60 + inpos] & 4294967295L) << 29);
+        }
+
+        protected static void fastunpack62(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (in[0 + inpos] & 4294967295L)
+                        | ((long) (in[1 + inpos] & 1073741823) << 32);
+                out[1 + outpos] = (long) (in[1 + inpos] >>> 30)
+                        | ((in[2 + inpos] & 4294967295L) << 2)
+                        | ((long) (in[3 + inpos] & 268435455) << 34);
+                out[2 + outpos] = (long) (in[3 + inpos] >>> 28)
+                        | ((in[4 + inpos] & 4294967295L) << 4)
+                        | ((long) (in[5 + inpos] & 67108863) << 36);
+                out[3 + outpos] = (long) (in[5 + inpos] >>> 26)
+                        | ((in[6 + inpos] & 4294967295L) << 6)
+                        | ((long) (in[7 + inpos] & 16777215) << 38);
+                out[4 + outpos] = (long) (in[7 + inpos] >>> 24)
+                        | ((in[8 + inpos] & 4294967295L) << 8)
+                        | ((long) (in[9 + inpos] & 4194303) << 40);
+                out[5 + outpos] = (long) (in[9 + inpos] >>> 22)
+                        | ((in[10 + inpos] & 4294967295L) << 10)
+                        | ((long) (in[11 + inpos] & 1048575) << 42);
+                out[6 + outpos] = (long) (in[11 + inpos] >>> 20)
+                        | ((in[12 + inpos] & 4294967295L) << 12)
+                        | ((long) (in[13 + inpos] & 262143) << 44);
+                out[7 + outpos] = (long) (in[13 + inpos] >>> 18)
+                        | ((in[14 + inpos] & 4294967295L) << 14)
+                        | ((long) (in[15 + inpos] & 65535) << 46);
+                out[8 + outpos] = (long) (in[15 + inpos] >>> 16)
+                        | ((in[16 + inpos] & 4294967295L) << 16)
+                        | ((long) (in[17 + inpos] & 16383) << 48);
+                out[9 + outpos] = (long) (in[17 + inpos] >>> 14)
+                        | ((in[18 + inpos] & 4294967295L) << 18)
+                        | ((long) (in[19 + inpos] & 4095) << 50);
+                out[10 + outpos] = (long) (in[19 + inpos] >>> 12)
+                        | ((in[20 + inpos] & 4294967295L) << 20)
+                        | ((long) (in[21 + inpos] & 1023) << 52);
+                out[11 + outpos] = (long) (in[21 + inpos] >>> 10)
+                        | ((in[22 + inpos] & 4294967295L) << 22)
+                        | ((long) (in[23 + inpos] & 255) << 54);
+                out[12 + outpos] = (long) (in[23 + inpos] >>> 8)
+                        | ((in[24 + inpos] & 4294967295L) << 24)
+                        | ((long) (in[25 + inpos] & 63) << 56);
+                out[13 + outpos] = (long) (in[25 + inpos] >>> 6)
+                        | ((in[26 + inpos] & 4294967295L) << 26)
+                        | ((long) (in[27 + inpos] & 15) << 58);
+                out[14 + outpos] = (long) (in[27 + inpos] >>> 4)
+                        | ((in[28 + inpos] & 4294967295L) << 28)
+                        | ((long) (in[29 + inpos] & 3) << 60);
+                out[15 + outpos] = (long) (in[29 + inpos] >>> 2)
+                        | ((in[30 + inpos] & 4294967295L) << 30);
+                out[16 + outpos] = (in[31 + inpos] & 4294967295L)
+                        | ((long) (in[32 + inpos] & 1073741823) << 32);
+                out[17 + outpos] = (long) (in[32 + inpos] >>> 30)
+                        | ((in[33 + inpos] & 4294967295L) << 2)
+                        | ((long) (in[34 + inpos] & 268435455) << 34);
+                out[18 + outpos] = (long) (in[34 + inpos] >>> 28)
+                        | ((in[35 + inpos] & 4294967295L) << 4)
+                        | ((long) (in[36 + inpos] & 67108863) << 36);
+                out[19 + outpos] = (long) (in[36 + inpos] >>> 26)
+                        | ((in[37 + inpos] & 4294967295L) << 6)
+                        | ((long) (in[38 + inpos] & 16777215) << 38);
+                out[20 + outpos] = (long) (in[38 + inpos] >>> 24)
+                        | ((in[39 + inpos] & 4294967295L) << 8)
+                        | ((long) (in[40 + inpos] & 4194303) << 40);
+                out[21 + outpos] = (long) (in[40 + inpos] >>> 22)
+                        | ((in[41 + inpos] & 4294967295L) << 10)
+                        | ((long) (in[42 + inpos] & 1048575) << 42);
+                out[22 + outpos] = (long) (in[42 + inpos] >>> 20)
+                        | ((in[43 + inpos] & 4294967295L) << 12)
+                        | ((long) (in[44 + inpos] & 262143) << 44);
+                out[23 + outpos] = (long) (in[44 + inpos] >>> 18)
+                        | ((in[45 + inpos] & 4294967295L) << 14)
+                        | ((long) (in[46 + inpos] & 65535) << 46);
+                out[24 + outpos] = (long) (in[46 + inpos] >>> 16)
+                        | ((in[47 + inpos] & 4294967295L) << 16)
+                        | ((long) (in[48 + inpos] & 16383) << 48);
+                out[25 + outpos] = (long) (in[48 + inpos] >>> 14)
+                        | ((in[49 + inpos] & 4294967295L) << 18)
+                        | ((long) (in[50 + inpos] & 4095) << 50);
+                out[26 + outpos] = (long) (in[50 + inpos] >>> 12)
+                        | ((in[51 + inpos] & 4294967295L) << 20)
+                        | ((long) (in[52 + inpos] & 1023) << 52);
+                out[27 + outpos] = (long) (in[52 + inpos] >>> 10)
+                        | ((in[53 + inpos] & 4294967295L) << 22)
+                        | ((long) (in[54 + inpos] & 255) << 54);
+                out[28 + outpos] = (long) (in[54 + inpos] >>> 8)
+                        | ((in[55 + inpos] & 4294967295L) << 24)
+                        | ((long) (in[56 + inpos] & 63) << 56);
+                out[29 + outpos] = (long) (in[56 + inpos] >>> 6)
+                        | ((in[57 + inpos] & 4294967295L) << 26)
+                        | ((long) (in[58 + inpos] & 15) << 58);
+                out[30 + outpos] = (long) (in[58 + inpos] >>> 4)
+                        | ((in[59 + inpos] & 4294967295L) << 28)
+                        | ((long) (in[60 + inpos] & 3) << 60);
+                out[31 + outpos] = (long) (in[60 + inpos] >>> 2)
+                        | ((in[61 + inpos] & 4294967295L) << 30);
+        }
+
+        protected static void fastunpack63(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (in[0 + inpos] & 4294967295L)
+                        | ((long) (in[1 + inpos] & 2147483647) << 32);
+                out[1 + outpos] = (long) (in[1 + inpos] >>> 31)
+                        | ((in[2 + inpos] & 4294967295L) << 1)
+                        | ((long) (in[3 + inpos] & 1073741823) << 33);
+                out[2 + outpos] = (long) (in[3 + inpos] >>> 30)
+                        | ((in[4 + inpos] & 4294967295L) << 2)
+                        | ((long) (in[5 + inpos] & 536870911) << 34);
+                out[3 + outpos] = (long) (in[5 + inpos] >>> 29)
+                        | ((in[6 + inpos] & 4294967295L) << 3)
+                        | ((long) (in[7 + inpos] & 268435455) << 35);
+                out[4 + outpos] = (long) (in[7 + inpos] >>> 28)
+                        | ((in[8 + inpos] & 4294967295L) << 4)
+                        | ((long) (in[9 + inpos] & 134217727) << 36);
+                out[5 + outpos] = (long) (in[9 + inpos] >>> 27)
+                        | ((in[10 + inpos] & 4294967295L) << 5)
+                        | ((long) (in[11 + inpos] & 67108863) << 37);
+                out[6 + outpos] = (long) (in[11 + inpos] >>> 26)
+                        | ((in[12 + inpos] & 4294967295L) << 6)
+                        | ((long) (in[13 + inpos] & 33554431) << 38);
+                out[7 + outpos] = (long) (in[13 + inpos] >>> 25)
+                        | ((in[14 + inpos] & 4294967295L) << 7)
+                        | ((long) (in[15 + inpos] & 16777215) << 39);
+                out[8 + outpos] = (long) (in[15 + inpos] >>> 24)
+                        | ((in[16 + inpos] & 4294967295L) << 8)
+                        | ((long) (in[17 + inpos] & 8388607) << 40);
+                out[9 + outpos] = (long) (in[17 + inpos] >>> 23)
+                        | ((in[18 + inpos] & 4294967295L) << 9)
+                        | ((long) (in[19 + inpos] & 4194303) << 41);
+                out[10 + outpos] = (long) (in[19 + inpos] >>> 22)
+                        | ((in[20 + inpos] & 4294967295L) << 10)
+                        | ((long) (in[21 + inpos] & 2097151) << 42);
+                out[11 + outpos] = (long) (in[21 + inpos] >>> 21)
+                        | ((in[22 + inpos] & 4294967295L) << 11)
+                        | ((long) (in[23 + inpos] & 1048575) << 43);
+                out[12 + outpos] = (long) (in[23 + inpos] >>> 20)
+                        | ((in[24 + inpos] & 4294967295L) << 12)
+                        | ((long) (in[25 + inpos] & 524287) << 44);
+                out[13 + outpos] = (long) (in[25 + inpos] >>> 19)
+                        | ((in[26 + inpos] & 4294967295L) << 13)
+                        | ((long) (in[27 + inpos] & 262143) << 45);
+                out[14 + outpos] = (long) (in[27 + inpos] >>> 18)
+                        | ((in[28 + inpos] & 4294967295L) << 14)
+                        | ((long) (in[29 + inpos] & 131071) << 46);
+                out[15 + outpos] = (long) (in[29 + inpos] >>> 17)
+                        | ((in[30 + inpos] & 4294967295L) << 15)
+                        | ((long) (in[31 + inpos] & 65535) << 47);
+                out[16 + outpos] = (long) (in[31 + inpos] >>> 16)
+                        | ((in[32 + inpos] & 4294967295L) << 16)
+                        | ((long) (in[33 + inpos] & 32767) << 48);
+                out[17 + outpos] = (long) (in[33 + inpos] >>> 15)
+                        | ((in[34 + inpos] & 4294967295L) << 17)
+                        | ((long) (in[35 + inpos] & 16383) << 49);
+                out[18 + outpos] = (long) (in[35 + inpos] >>> 14)
+                        | ((in[36 + inpos] & 4294967295L) << 18)
+                        | ((long) (in[37 + inpos] & 8191) << 50);
+                out[19 + outpos] = (long) (in[37 + inpos] >>> 13)
+                        | ((in[38 + inpos] & 4294967295L) << 19)
+                        | ((long) (in[39 + inpos] & 4095) << 51);
+                out[20 + outpos] = (long) (in[39 + inpos] >>> 12)
+                        | ((in[40 + inpos] & 4294967295L) << 20)
+                        | ((long) (in[41 + inpos] & 2047) << 52);
+                out[21 + outpos] = (long) (in[41 + inpos] >>> 11)
+                        | ((in[42 + inpos] & 4294967295L) << 21)
+                        | ((long) (in[43 + inpos] & 1023) << 53);
+                out[22 + outpos] = (long) (in[43 + inpos] >>> 10)
+                        | ((in[44 + inpos] & 4294967295L) << 22)
+                        | ((long) (in[45 + inpos] & 511) << 54);
+                out[23 + outpos] = (long) (in[45 + inpos] >>> 9)
+                        | ((in[46 + inpos] & 4294967295L) << 23)
+                        | ((long) (in[47 + inpos] & 255) << 55);
+                out[24 + outpos] = (long) (in[47 + inpos] >>> 8)
+                        | ((in[48 + inpos] & 4294967295L) << 24)
+                        | ((long) (in[49 + inpos] & 127) << 56);
+                out[25 + outpos] = (long) (in[49 + inpos] >>> 7)
+                        | ((in[50 + inpos] & 4294967295L) << 25)
+                        | ((long) (in[51 + inpos] & 63) << 57);
+                out[26 + outpos] = (long) (in[51 + inpos] >>> 6)
+                        | ((in[52 + inpos] & 4294967295L) << 26)
+                        | ((long) (in[53 + inpos] & 31) << 58);
+                out[27 + outpos] = (long) (in[53 + inpos] >>> 5)
+                        | ((in[54 + inpos] & 4294967295L) << 27)
+                        | ((long) (in[55 + inpos] & 15) << 59);
+                out[28 + outpos] = (long) (in[55 + inpos] >>> 4)
+                        | ((in[56 + inpos] & 4294967295L) << 28)
+                        | ((long) (in[57 + inpos] & 7) << 60);
+                out[29 + outpos] = (long) (in[57 + inpos] >>> 3)
+                        | ((in[58 + inpos] & 4294967295L) << 29)
+                        | ((long) (in[59 + inpos] & 3) << 61);
+                out[30 + outpos] = (long) (in[59 + inpos] >>> 2)
+                        | ((in[60 + inpos] & 4294967295L) << 30)
+                        | ((long) (in[61 + inpos] & 1) << 62);
+                out[31 + outpos] = (long) (in[61 + inpos] >>> 1)
+                        | ((in[62 + inpos] & 4294967295L) << 31);
+        }
+
+        protected static void fastunpack64(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (in[0 + inpos] & 4294967295L)
+                        | ((in[1 + inpos] & 4294967295L) << 32);
+                out[1 + outpos] = (in[2 + inpos] & 4294967295L)
+                        | ((in[3 + inpos] & 4294967295L) << 32);
+                out[2 + outpos] = (in[4 + inpos] & 4294967295L)
+                        | ((in[5 + inpos] & 4294967295L) << 32);
+                out[3 + outpos] = (in[6 + inpos] & 4294967295L)
+                        | ((in[7 + inpos] & 4294967295L) << 32);
+                out[4 + outpos] = (in[8 + inpos] & 4294967295L)
+                        | ((in[9 + inpos] & 4294967295L) << 32);
+                out[5 + outpos] = (in[10 + inpos] & 4294967295L)
+                        | ((in[11 + inpos] & 4294967295L) << 32);
+                out[6 + outpos] = (in[12 + inpos] & 4294967295L)
+                        | ((in[13 + inpos] & 4294967295L) << 32);
+                out[7 + outpos] = (in[14 + inpos] & 4294967295L)
+                        | ((in[15 + inpos] & 4294967295L) << 32);
+                out[8 + outpos] = (in[16 + inpos] & 4294967295L)
+                        | ((in[17 + inpos] & 4294967295L) << 32);
+                out[9 + outpos] = (in[18 + inpos] & 4294967295L)
+                        | ((in[19 + inpos] & 4294967295L) << 32);
+                out[10 + outpos] = (in[20 + inpos] & 4294967295L)
+                        | ((in[21 + inpos] & 4294967295L) << 32);
+                out[11 + outpos] = (in[22 + inpos] & 4294967295L)
+                        | ((in[23 + inpos] & 4294967295L) << 32);
+                out[12 + outpos] = (in[24 + inpos] & 4294967295L)
+                        | ((in[25 + inpos] & 4294967295L) << 32);
+                out[13 + outpos] = (in[26 + inpos] & 4294967295L)
+                        | ((in[27 + inpos] & 4294967295L) << 32);
+                out[14 + outpos] = (in[28 + inpos] & 4294967295L)
+                        | ((in[29 + inpos] & 4294967295L) << 32);
+                out[15 + outpos] = (in[30 + inpos] & 4294967295L)
+                        | ((in[31 + inpos] & 4294967295L) << 32);
+                out[16 + outpos] = (in[32 + inpos] & 4294967295L)
+                        | ((in[33 + inpos] & 4294967295L) << 32);
+                out[17 + outpos] = (in[34 + inpos] & 4294967295L)
+                        | ((in[35 + inpos] & 4294967295L) << 32);
+                out[18 + outpos] = (in[36 + inpos] & 4294967295L)
+                        | ((in[37 + inpos] & 4294967295L) << 32);
+                out[19 + outpos] = (in[38 + inpos] & 4294967295L)
+                        | ((in[39 + inpos] & 4294967295L) << 32);
+                out[20 + outpos] = (in[40 + inpos] & 4294967295L)
+                        | ((in[41 + inpos] & 4294967295L) << 32);
+                out[21 + outpos] = (in[42 + inpos] & 4294967295L)
+                        | ((in[43 + inpos] & 4294967295L) << 32);
+                out[22 + outpos] = (in[44 + inpos] & 4294967295L)
+                        | ((in[45 + inpos] & 4294967295L) << 32);
+                out[23 + outpos] = (in[46 + inpos] & 4294967295L)
+                        | ((in[47 + inpos] & 4294967295L) << 32);
+                out[24 + outpos] = (in[48 + inpos] & 4294967295L)
+                        | ((in[49 + inpos] & 4294967295L) << 32);
+                out[25 + outpos] = (in[50 + inpos] & 4294967295L)
+                        | ((in[51 + inpos] & 4294967295L) << 32);
+                out[26 + outpos] = (in[52 + inpos] & 4294967295L)
+                        | ((in[53 + inpos] & 4294967295L) << 32);
+                out[27 + outpos] = (in[54 + inpos] & 4294967295L)
+                        | ((in[55 + inpos] & 4294967295L) << 32);
+                out[28 + outpos] = (in[56 + inpos] & 4294967295L)
+                        | ((in[57 + inpos] & 4294967295L) << 32);
+                out[29 + outpos] = (in[58 + inpos] & 4294967295L)
+                        | ((in[59 + inpos] & 4294967295L) << 32);
+                out[30 + outpos] = (in[60 + inpos] & 4294967295L)
+                        | ((in[61 + inpos] & 4294967295L) << 32);
+                out[31 + outpos] = (in[62 + inpos] & 4294967295L)
+                        | ((in[63 + inpos] & 4294967295L) << 32);
+        }
+
+        protected static void fastunpack7(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (long) (in[0 + inpos] & 127);
+                out[1 + outpos] = (long) ((in[0 + inpos] >>> 7) & 127);
+                out[2 + outpos] = (long) ((in[0 + inpos] >>> 14) & 127);
+                out[3 + outpos] = (long) ((in[0 + inpos] >>> 21) & 127);
+                out[4 + outpos] = (long) (in[0 + inpos] >>> 28)
+                        | ((long) (in[1 + inpos] & 7) << 4);
+                out[5 + outpos] = (long) ((in[1 + inpos] >>> 3) & 127);
+                out[6 + outpos] = (long) ((in[1 + inpos] >>> 10) & 127);
+                out[7 + outpos] = (long) ((in[1 + inpos] >>> 17) & 127);
+                out[8 + outpos] = (long) ((in[1 + inpos] >>> 24) & 127);
+                out[9 + outpos] = (long) (in[1 + inpos] >>> 31)
+                        | ((long) (in[2 + inpos] & 63) << 1);
+                out[10 + outpos] = (long) ((in[2 + inpos] >>> 6) & 127);
+                out[11 + outpos] = (long) ((in[2 + inpos] >>> 13) & 127);
+                out[12 + outpos] = (long) ((in[2 + inpos] >>> 20) & 127);
+                out[13 + outpos] = (long) (in[2 + inpos] >>> 27)
+                        | ((long) (in[3 + inpos] & 3) << 5);
+                out[14 + outpos] = (long) ((in[3 + inpos] >>> 2) & 127);
+                out[15 + outpos] = (long) ((in[3 + inpos] >>> 9) & 127);
+                out[16 + outpos] = (long) ((in[3 + inpos] >>> 16) & 127);
+                out[17 + outpos] = (long) ((in[3 + inpos] >>> 23) & 127);
+                out[18 + outpos] = (long) (in[3 + inpos] >>> 30)
+                        | ((long) (in[4 + inpos] & 31) << 2);
+                out[19 + outpos] = (long) ((in[4 + inpos] >>> 5) & 127);
+                out[20 + outpos] = (long) ((in[4 + inpos] >>> 12) & 127);
+                out[21 + outpos] = (long) ((in[4 + inpos] >>> 19) & 127);
+                out[22 + outpos] = (long) (in[4 + inpos] >>> 26)
+                        | ((long) (in[5 + inpos] & 1) << 6);
+                out[23 + outpos] = (long) ((in[5 + inpos] >>> 1) & 127);
+                out[24 + outpos] = (long) ((in[5 + inpos] >>> 8) & 127);
+                out[25 + outpos] = (long) ((in[5 + inpos] >>> 15) & 127);
+                out[26 + outpos] = (long) ((in[5 + inpos] >>> 22) & 127);
+                out[27 + outpos] = (long) (in[5 + inpos] >>> 29)
+                        | ((long) (in[6 + inpos] & 15) << 3);
+                out[28 + outpos] = (long) ((in[6 + inpos] >>> 4) & 127);
+                out[29 + outpos] = (long) ((in[6 + inpos] >>> 11) & 127);
+                out[30 + outpos] = (long) ((in[6 + inpos] >>> 18) & 127);
+                out[31 + outpos] = (long) (in[6 + inpos] >>> 25);
+        }
+
+        protected static void fastunpack8(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (long) (in[0 + inpos] & 255);
+                out[1 + outpos] = (long) ((in[0 + inpos] >>> 8) & 255);
+                out[2 + outpos] = (long) ((in[0 + inpos] >>> 16) & 255);
+                out[3 + outpos] = (long) (in[0 + inpos] >>> 24);
+                out[4 + outpos] = (long) (in[1 + inpos] & 255);
+                out[5 + outpos] = (long) ((in[1 + inpos] >>> 8) & 255);
+                out[6 + outpos] = (long) ((in[1 + inpos] >>> 16) & 255);
+                out[7 + outpos] = (long) (in[1 + inpos] >>> 24);
+                out[8 + outpos] = (long) (in[2 + inpos] & 255);
+                out[9 + outpos] = (long) ((in[2 + inpos] >>> 8) & 255);
+                out[10 + outpos] = (long) ((in[2 + inpos] >>> 16) & 255);
+                out[11 + outpos] = (long) (in[2 + inpos] >>> 24);
+                out[12 + outpos] = (long) (in[3 + inpos] & 255);
+                out[13 + outpos] = (long) ((in[3 + inpos] >>> 8) & 255);
+                out[14 + outpos] = (long) ((in[3 + inpos] >>> 16) & 255);
+                out[15 + outpos] = (long) (in[3 + inpos] >>> 24);
+                out[16 + outpos] = (long) (in[4 + inpos] & 255);
+                out[17 + outpos] = (long) ((in[4 + inpos] >>> 8) & 255);
+                out[18 + outpos] = (long) ((in[4 + inpos] >>> 16) & 255);
+                out[19 + outpos] = (long) (in[4 + inpos] >>> 24);
+                out[20 + outpos] = (long) (in[5 + inpos] & 255);
+                out[21 + outpos] = (long) ((in[5 + inpos] >>> 8) & 255);
+                out[22 + outpos] = (long) ((in[5 + inpos] >>> 16) & 255);
+                out[23 + outpos] = (long) (in[5 + inpos] >>> 24);
+                out[24 + outpos] = (long) (in[6 + inpos] & 255);
+                out[25 + outpos] = (long) ((in[6 + inpos] >>> 8) & 255);
+                out[26 + outpos] = (long) ((in[6 + inpos] >>> 16) & 255);
+                out[27 + outpos] = (long) (in[6 + inpos] >>> 24);
+                out[28 + outpos] = (long) (in[7 + inpos] & 255);
+                out[29 + outpos] = (long) ((in[7 + inpos] >>> 8) & 255);
+                out[30 + outpos] = (long) ((in[7 + inpos] >>> 16) & 255);
+                out[31 + outpos] = (long) (in[7 + inpos] >>> 24);
+        }
+
+        protected static void fastunpack9(final int[] in, int inpos,
+                final long[] out, int outpos) {
+                out[0 + outpos] = (long) (in[0 + inpos] & 511);
+                out[1 + outpos] = (long) ((in[0 + inpos] >>> 9) & 511);
+                out[2 + outpos] = (long) ((in[0 + inpos] >>> 18) & 511);
+                out[3 + outpos] = (long) (in[0 + inpos] >>> 27)
+                        | ((long) (in[1 + inpos] & 15) << 5);
+                out[4 + outpos] = (long) ((in[1 + inpos] >>> 4) & 511);
+                out[5 + outpos] = (long) ((in[1 + inpos] >>> 13) & 511);
+                out[6 + outpos] = (long) ((in[1 + inpos] >>> 22) & 511);
+                out[7 + outpos] = (long) (in[1 + inpos] >>> 31)
+                        | ((long) (in[2 + inpos] & 255) << 1);
+                out[8 + outpos] = (long) ((in[2 + inpos] >>> 8) & 511);
+                out[9 + outpos] = (long) ((in[2 + inpos] >>> 17) & 511);
+                out[10 + outpos] = (long) (in[2 + inpos] >>> 26)
+                        | ((long) (in[3 + inpos] & 7) << 6);
+                out[11 + outpos] = (long) ((in[3 + inpos] >>> 3) & 511);
+                out[12 + outpos] = (long) ((in[3 + inpos] >>> 12) & 511);
+                out[13 + outpos] = (long) ((in[3 + inpos] >>> 21) & 511);
+                out[14 + outpos] = (long) (in[3 + inpos] >>> 30)
+                        | ((long) (in[4 + inpos] & 127) << 2);
+                out[15 + outpos] = (long) ((in[4 + inpos] >>> 7) & 511);
+                out[16 + outpos] = (long) ((in[4 + inpos] >>> 16) & 511);
+                out[17 + outpos] = (long) (in[4 + inpos] >>> 25)
+                        | ((long) (in[5 + inpos] & 3) << 7);
+                out[18 + outpos] = (long) ((in[5 + inpos] >>> 2) & 511);
+                out[19 + outpos] = (long) ((in[5 + inpos] >>> 11) & 511);
+                out[20 + outpos] = (long) ((in[5 + inpos] >>> 20) & 511);
+                out[21 + outpos] = (long) (in[5 + inpos] >>> 29)
+                        | ((long) (in[6 + inpos] & 63) << 3);
+                out[22 + outpos] = (long) ((in[6 + inpos] >>> 6) & 511);
+                out[23 + outpos] = (long) ((in[6 + inpos] >>> 15) & 511);
+                out[24 + outpos] = (long) (in[6 + inpos] >>> 24)
+                        | ((long) (in[7 + inpos] & 1) << 8);
+                out[25 + outpos] = (long) ((in[7 + inpos] >>> 1) & 511);
+                out[26 + outpos] = (long) ((in[7 + inpos] >>> 10) & 511);
+                out[27 + outpos] = (long) ((in[7 + inpos] >>> 19) & 511);
+                out[28 + outpos] = (long) (in[7 + inpos] >>> 28)
+                        | ((long) (in[8 + inpos] & 31) << 4);
+                out[29 + outpos] = (long) ((in[8 + inpos] >>> 5) & 511);
+                out[30 + outpos] = (long) ((in[8 + inpos] >>> 14) & 511);
+                out[31 + outpos] = (long) (in[8 + inpos] >>> 23);
+        }
+
+}
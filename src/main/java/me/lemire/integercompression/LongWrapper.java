@@ -0,0 +1,93 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ *
+ * (c) Daniel Lemire, http://lemire.me/en/
+ */
+package me.lemire.integercompression;
+
+/**
+ * Essentially a mutable wrapper around a long: the counterpart of IntWrapper
+ * for positions that may exceed Integer.MAX_VALUE (see
+ * ChunkedCompressedArray).
+ * 
+ * @author Daniel Lemire
+ */
+public final class LongWrapper extends Number {
+        private static final long serialVersionUID = 1L;
+        private long value;
+
+        /**
+         * Constructor: value set to 0.
+         */
+        public LongWrapper() {
+                this(0);
+        }
+
+        /**
+         * Construction: value set to provided argument.
+         * 
+         * @param v
+         *                value to wrap
+         */
+        public LongWrapper(final long v) {
+                this.value = v;
+        }
+
+        /**
+         * add the provided value to the long
+         * @param v value to add
+         */
+        public void add(long v) {
+                this.value += v;
+        }
+
+        @Override
+        public double doubleValue() {
+                return this.value;
+        }
+
+        @Override
+        public float floatValue() {
+                return this.value;
+        }
+
+        /**
+         * @return the long value
+         */
+        public long get() {
+                return this.value;
+        }
+
+        /**
+         * add 1 to the long value
+         */
+        public void increment() {
+                this.value++;
+        }
+
+        @Override
+        public int intValue() {
+                return (int) this.value;
+        }
+
+        @Override
+        public long longValue() {
+                return this.value;
+        }
+
+        /**
+         * Set the value to that of the specified long.
+         * 
+         * @param value
+         *                specified long value
+         */
+        public void set(final long value) {
+                this.value = value;
+        }
+
+        @Override
+        public String toString() {
+                return Long.toString(this.value);
+        }
+}
@@ -7,6 +7,8 @@
 
 package me.lemire.integercompression;
 
+import java.util.Arrays;
+
 /**
  * NewPFD/NewPFOR: fast patching scheme by Yan et al.
  * <p>
@@ -36,14 +38,45 @@ package me.lemire.integercompression;
 public final class NewPFD implements IntegerCODEC {
         final int PageSize;
         final static int BlockSize = 128;
+        // whether the integers are zigzag encoded while packed (see
+        // ZigzagNewPFD)
+        final boolean zigzag;
+
+        // Optional statistics (null when disabled).
+        CodecStats stats;
 
         int[] exceptbuffer = new int[2 * BlockSize];
+        // working area of getBestBFromData
+        final int[] freqs = new int[33];
 
         /**
          * Constructor for the NewPFD CODEC.
          */
         public NewPFD() {
+                this(false);
+        }
+
+        NewPFD(boolean zigzag) {
                 PageSize = 65536;
+                this.zigzag = zigzag;
+        }
+
+        /**
+         * Attach a statistics collector to this CODEC. Bit widths and
+         * exceptions are recorded for each block of 128 integers.
+         * 
+         * @param stats
+         *                statistics collector (null to disable statistics)
+         */
+        public void setStats(CodecStats stats) {
+                this.stats = stats;
+        }
+
+        /**
+         * @return the statistics collector (null if disabled)
+         */
+        public CodecStats getStats() {
+                return stats;
         }
 
         @Override
@@ -52,6 +85,8 @@ public final class NewPFD implements IntegerCODEC {
                 inlength = inlength / BlockSize * BlockSize;
                 if (inlength == 0)
                         return;
+                final long start = stats == null ? 0 : System.nanoTime();
+                final int initoutpos = outpos.get();
                 final int finalinpos = inpos.get() + inlength;
                 out[outpos.get()] = inlength;
                 outpos.increment();
@@ -60,59 +95,119 @@ public final class NewPFD implements IntegerCODEC {
                                 : (finalinpos - inpos.get());
                         encodePage(in, inpos, thissize, out, outpos);
                 }
+                if (stats != null)
+                        stats.recordCompress(inlength, outpos.get()
+                                - initoutpos, System.nanoTime() - start);
 
         }
 
-        protected static final int[] bits = { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10,
+        /**
+         * Bit widths that a block may use, indexed as in the block header
+         * (not to be modified).
+         */
+        public static final int[] bits = { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10,
                 11, 12, 13, 16, 20, 32 };
-        protected static final int[] invbits = { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9,
+        /**
+         * Index in bits of the smallest bit width that is at least b, for b = 0
+         * to 32 (not to be modified).
+         */
+        public static final int[] invbits = { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9,
                 10, 11, 12, 13, 14, 14, 14, 15, 15, 15, 15, 16, 16, 16, 16, 16,
                 16, 16, 16, 16, 16, 16, 16 };
 
-        protected static void getBestBFromData(int[] in, int pos,
-                IntWrapper bestb, IntWrapper bestexcept) {
-                final int mb = Util.maxbits(in, pos, BlockSize);
+        /**
+         * Choose the bit width of a block: the smallest width such that at
+         * most 10% of the integers are exceptions.
+         * 
+         * @param in
+         *                source array
+         * @param pos
+         *                position of the block
+         * @param freqs
+         *                working area of 33 integers (see countBits)
+         * @return the index of the bit width in bits, plus the number of
+         *         exceptions shifted by 8 (as in the block header)
+         */
+        public static int getBestBFromData(int[] in, int pos, int[] freqs) {
+                return getBestB(countBits(in, pos, BlockSize, freqs), freqs);
+        }
+
+        // Chooses the bit width from the counts of countBits.
+        private static int getBestB(int mb, int[] freqs) {
                 int mini = 0;
                 if (mini + 28 < bits[invbits[mb]])
                         mini = bits[invbits[mb]] - 28; // 28 is the max for
                                                        // exceptions
-                int besti = bits.length - 1;
-                int exceptcounter = 0;
                 for (int i = mini; i < bits.length - 1; ++i) {
-                        int tmpcounter = 0;
-                        for (int k = pos; k < BlockSize + pos; ++k)
-                                if ((in[k] >>> bits[i]) != 0)
-                                        ++tmpcounter;
-                        if (tmpcounter * 10 <= BlockSize) {
-                                besti = i;
-                                exceptcounter = tmpcounter;
-                                break;
-                        }
+                        final int tmpcounter = freqs[bits[i] + 1];
+                        if (tmpcounter * 10 <= BlockSize)
+                                return i | (tmpcounter << 8);
                 }
-                bestb.set(besti);
-                bestexcept.set(exceptcounter);
+                return bits.length - 1;
+        }
+
+        /**
+         * Count, in freqs, the number of integers of a block that use at
+         * least b bits, for b = 0 to 32.
+         * 
+         * @return the maximal number of bits used by an integer of the block
+         */
+        public static int countBits(int[] in, int pos, int blocksize, int[] freqs) {
+                Arrays.fill(freqs, 0);
+                for (int k = pos; k < pos + blocksize; ++k)
+                        freqs[Util.bits(in[k])]++;
+                int mb = 32;
+                while (mb > 0 && freqs[mb] == 0)
+                        --mb;
+                for (int b = mb - 1; b >= 0; --b)
+                        freqs[b] += freqs[b + 1];
+                return mb;
+        }
+
+        /**
+         * Same as countBits, over the zigzag encoding of the integers.
+         * 
+         * @return the maximal number of bits used by a zigzag-encoded
+         *         integer of the block
+         */
+        static int countZigzagBits(int[] in, int pos, int blocksize,
+                int[] freqs) {
+                Arrays.fill(freqs, 0);
+                for (int k = pos; k < pos + blocksize; ++k)
+                        freqs[Util.bits((in[k] << 1) ^ (in[k] >> 31))]++;
+                int mb = 32;
+                while (mb > 0 && freqs[mb] == 0)
+                        --mb;
+                for (int b = mb - 1; b >= 0; --b)
+                        freqs[b] += freqs[b + 1];
+                return mb;
         }
 
         private void encodePage(int[] in, IntWrapper inpos, int thissize,
                 int[] out, IntWrapper outpos) {
                 int tmpoutpos = outpos.get();
                 int tmpinpos = inpos.get();
-                IntWrapper bestb = new IntWrapper();
-                IntWrapper bestexcept = new IntWrapper();
                 for (final int finalinpos = tmpinpos + thissize; tmpinpos
                         + BlockSize <= finalinpos; tmpinpos += BlockSize) {
-                        getBestBFromData(in, tmpinpos, bestb, bestexcept);
-                        final int tmpbestb = bestb.get();
-                        final int nbrexcept = bestexcept.get();
+                        final int best = getBestB(
+                                zigzag ? countZigzagBits(in, tmpinpos,
+                                        BlockSize, freqs) : countBits(in,
+                                        tmpinpos, BlockSize, freqs), freqs);
+                        final int tmpbestb = best & 0xFF;
+                        final int nbrexcept = best >>> 8;
+                        if (stats != null)
+                                stats.recordBlock(bits[tmpbestb], nbrexcept);
                         int exceptsize = 0;
                         final int remember = tmpoutpos;
                         tmpoutpos++;
                         if (nbrexcept > 0) {
                                 for (int i = 0, c = 0; i < BlockSize; ++i) {
-                                        if ((in[tmpinpos + i] >>> bits[tmpbestb]) != 0) {
+                                        int v = in[tmpinpos + i];
+                                        if (zigzag)
+                                                v = (v << 1) ^ (v >> 31);
+                                        if ((v >>> bits[tmpbestb]) != 0) {
                                                 exceptbuffer[c + nbrexcept] = i;
-                                                exceptbuffer[c] = in[tmpinpos
-                                                        + i] >>> bits[tmpbestb];
+                                                exceptbuffer[c] = v >>> bits[tmpbestb];
                                                 ++c;
                                         }
                                 }
@@ -123,8 +218,13 @@ public final class NewPFD implements IntegerCODEC {
                         out[remember] = tmpbestb | (nbrexcept << 8)
                                 | (exceptsize << 16);
                         for (int k = 0; k < BlockSize; k += 32) {
-                                BitPacking.fastpack(in, tmpinpos + k, out,
-                                        tmpoutpos, bits[tmpbestb]);
+                                if (zigzag)
+                                        ZigzagBitPacking.fastpack(in, tmpinpos
+                                                + k, out, tmpoutpos,
+                                                bits[tmpbestb]);
+                                else
+                                        BitPacking.fastpack(in, tmpinpos + k,
+                                                out, tmpoutpos, bits[tmpbestb]);
                                 tmpoutpos += bits[tmpbestb];
                         }
                 }
@@ -137,6 +237,8 @@ public final class NewPFD implements IntegerCODEC {
                 int[] out, IntWrapper outpos) {
                 if (inlength == 0)
                         return;
+                final long start = stats == null ? 0 : System.nanoTime();
+                final int initinpos = inpos.get();
                 int mynvalue = in[inpos.get()];
                 inpos.increment();
                 final int finalout = outpos.get() + mynvalue;
@@ -145,6 +247,9 @@ public final class NewPFD implements IntegerCODEC {
                                 : (finalout - outpos.get());
                         decodePage(in, inpos, out, outpos, thissize);
                 }
+                if (stats != null)
+                        stats.recordUncompress(inpos.get() - initinpos,
+                                mynvalue, System.nanoTime() - start);
         }
 
         private void decodePage(int[] in, IntWrapper inpos, int[] out,
@@ -161,12 +266,23 @@ public final class NewPFD implements IntegerCODEC {
                                 0, 2 * cexcept);
                         tmpinpos += exceptsize;
                         for (int k = 0; k < BlockSize; k += 32) {
-                                BitPacking.fastunpack(in, tmpinpos, out,
-                                        tmpoutpos + k, bits[b]);
+                                if (zigzag)
+                                        ZigzagBitPacking.fastunpack(in,
+                                                tmpinpos, out, tmpoutpos + k,
+                                                bits[b]);
+                                else
+                                        BitPacking.fastunpack(in, tmpinpos,
+                                                out, tmpoutpos + k, bits[b]);
                                 tmpinpos += bits[b];
                         }
                         for (int k = 0; k < cexcept; ++k) {
-                                out[tmpoutpos + exceptbuffer[k + cexcept]] |= (exceptbuffer[k] << bits[b]);
+                                final int pos = tmpoutpos
+                                        + exceptbuffer[k + cexcept];
+                                if (zigzag)
+                                        out[pos] = Util.zigzagPatch(out[pos],
+                                                exceptbuffer[k], bits[b]);
+                                else
+                                        out[pos] |= (exceptbuffer[k] << bits[b]);
                         }
                 }
                 outpos.set(tmpoutpos);
@@ -37,6 +37,8 @@ public final class NewPFDS16 implements IntegerCODEC {
         final static int BlockSize = 128;
 
         int[] exceptbuffer = new int[2 * BlockSize];
+        // working area of getBestBFromData
+        final int[] freqs = new int[33];
 
         /**
          * Constructor for the NewPFDS16 CODEC.
@@ -68,41 +70,36 @@ public final class NewPFDS16 implements IntegerCODEC {
                 10, 11, 12, 13, 14, 14, 14, 15, 15, 15, 15, 16, 16, 16, 16, 16,
                 16, 16, 16, 16, 16, 16, 16 };
 
-        protected static void getBestBFromData(int[] in, int pos,
-                IntWrapper bestb, IntWrapper bestexcept) {
-                final int mb = Util.maxbits(in, pos, BlockSize);
+        /**
+         * Choose the bit width of a block: the smallest width such that at
+         * most 10% of the integers are exceptions.
+         * 
+         * @return the index of the bit width in bits, plus the number of
+         *         exceptions shifted by 8 (as in the block header)
+         */
+        protected static int getBestBFromData(int[] in, int pos, int[] freqs) {
+                final int mb = NewPFD.countBits(in, pos, BlockSize, freqs);
                 int mini = 0;
                 if (mini + 28 < bits[invbits[mb]])
                         mini = bits[invbits[mb]] - 28; // 28 is the max for
                                                        // exceptions
-                int besti = bits.length - 1;
-                int exceptcounter = 0;
                 for (int i = mini; i < bits.length - 1; ++i) {
-                        int tmpcounter = 0;
-                        for (int k = pos; k < BlockSize + pos; ++k)
-                                if ((in[k] >>> bits[i]) != 0)
-                                        ++tmpcounter;
-                        if (tmpcounter * 10 <= BlockSize) {
-                                besti = i;
-                                exceptcounter = tmpcounter;
-                                break;
-                        }
+                        final int tmpcounter = freqs[bits[i] + 1];
+                        if (tmpcounter * 10 <= BlockSize)
+                                return i | (tmpcounter << 8);
                 }
-                bestb.set(besti);
-                bestexcept.set(exceptcounter);
+                return bits.length - 1;
         }
 
         private void encodePage(int[] in, IntWrapper inpos, int thissize,
                 int[] out, IntWrapper outpos) {
                 int tmpoutpos = outpos.get();
                 int tmpinpos = inpos.get();
-                IntWrapper bestb = new IntWrapper();
-                IntWrapper bestexcept = new IntWrapper();
                 for (final int finalinpos = tmpinpos + thissize; tmpinpos
                         + BlockSize <= finalinpos; tmpinpos += BlockSize) {
-                        getBestBFromData(in, tmpinpos, bestb, bestexcept);
-                        final int tmpbestb = bestb.get();
-                        final int nbrexcept = bestexcept.get();
+                        final int best = getBestBFromData(in, tmpinpos, freqs);
+                        final int tmpbestb = best & 0xFF;
+                        final int nbrexcept = best >>> 8;
                         int exceptsize = 0;
                         final int remember = tmpoutpos;
                         tmpoutpos++;
@@ -7,6 +7,8 @@
 
 package me.lemire.integercompression;
 
+import java.util.Arrays;
+
 /**
  * OptPFD  based on Simple16  by Yan et al.
  * <p>
@@ -35,6 +37,12 @@ public final class OptPFDS16 implements IntegerCODEC {
         final int PageSize;
         final static int BlockSize = 128;
         int[] exceptbuffer = new int[2 * BlockSize];
+        // working area of getBestBFromData
+        final int[] freqs = new int[33];
+        final int[] candidates = new int[BlockSize];
+        final int[] posbits = new int[33];
+        // working area of estimatecompress (S9 and S16 use at most 28)
+        final int[] prefixor = new int[28];
 
         /**
          * Constructor for the OptPFDS16 CODEC.
@@ -67,56 +75,86 @@ public final class OptPFDS16 implements IntegerCODEC {
                 10, 11, 12, 13, 14, 14, 14, 15, 15, 15, 15, 16, 16, 16, 16, 16,
                 16, 16, 16, 16, 16, 16, 16 };
 
-        protected void getBestBFromData(int[] in, int pos, IntWrapper bestb,
-                IntWrapper bestexcept) {
-                final int mb = Util.maxbits(in, pos, BlockSize);
+        /**
+         * Choose the bit width of a block minimizing the size of the packed
+         * integers plus the size of the exceptions.
+         * 
+         * @return the index of the bit width in bits, plus the number of
+         *         exceptions shifted by 8 (as in the block header)
+         */
+        protected int getBestBFromData(int[] in, int pos) {
+                final int mb = NewPFD.countBits(in, pos, BlockSize, freqs);
                 int mini = 0;
                 if (mini + 28 < bits[invbits[mb]])
                         mini = bits[invbits[mb]] - 28; // 28 is the max for
                                                        // exceptions
-                int besti = bits.length - 1;
+                // the smallest width without exceptions: larger widths
+                // cost more
+                int besti = invbits[mb];
                 int bestcost = bits[besti] * 4;
                 int exceptcounter = 0;
-                for (int i = mini; i < bits.length - 1; ++i) {
-                        int tmpcounter = 0;
-                        for (int k = pos; k < BlockSize + pos; ++k)
-                                if ((in[k] >>> bits[i]) != 0) {
-                                        ++tmpcounter;
-                                }
+                // posbits[b] is the number of bits of the positions of the
+                // integers having at least b bits
+                Arrays.fill(posbits, 0);
+                // the exceptions for a given bit width are among the
+                // exceptions for the smallest width that is tried
+                int ncandidates = 0;
+                for (int k = 0; k < BlockSize; ++k) {
+                        final int b = Util.bits(in[pos + k]);
+                        if (b > bits[mini]) {
+                                candidates[ncandidates++] = k;
+                                posbits[b] += Util.bits(k | 1);
+                        }
+                }
+                for (int b = mb - 1; b >= 0; --b)
+                        posbits[b] += posbits[b + 1];
+                // in decreasing order of width: ties are resolved in favor of
+                // the largest width, except for the 32-bit width
+                for (int i = besti - 1; i >= mini; --i) {
+                        final int tmpcounter = freqs[bits[i] + 1];
                         if (tmpcounter == BlockSize)
                                 continue; // no need
-                        for (int k = pos, c = 0; k < pos + BlockSize; ++k)
-                                if ((in[k] >>> bits[i]) != 0) {
-                                        exceptbuffer[tmpcounter + c] = k - pos;
-                                        exceptbuffer[c] = in[k] >>> bits[i];
+                        final int bound = besti == bits.length - 1 ? bestcost + 1
+                                : bestcost;
+                        // A word holds at most 28 significant bits: the
+                        // exceptions need at least their high bits plus the
+                        // bits of their positions.
+                        int payload = posbits[bits[i] + 1];
+                        for (int b = bits[i] + 1; b <= mb; ++b)
+                                payload += freqs[b];
+                        if (bits[i] * 4 + (payload + 27) / 28 >= bound)
+                                continue;
+                        for (int j = 0, c = 0; j < ncandidates; ++j) {
+                                final int k = candidates[j];
+                                if ((in[pos + k] >>> bits[i]) != 0) {
+                                        exceptbuffer[tmpcounter + c] = k;
+                                        exceptbuffer[c] = in[pos + k] >>> bits[i];
                                         ++c;
                                 }
-
+                        }
                         final int thiscost = bits[i]
                                 * 4
                                 + S16.estimatecompress(exceptbuffer, 0,
-                                        2 * tmpcounter);
-                        if (thiscost <= bestcost) {
+                                        2 * tmpcounter, bound - bits[i] * 4,
+                                        prefixor);
+                        if (thiscost < bound) {
                                 bestcost = thiscost;
                                 besti = i;
                                 exceptcounter = tmpcounter;
                         }
                 }
-                bestb.set(besti);
-                bestexcept.set(exceptcounter);
+                return besti | (exceptcounter << 8);
         }
 
         private void encodePage(int[] in, IntWrapper inpos, int thissize,
                 int[] out, IntWrapper outpos) {
                 int tmpoutpos = outpos.get();
                 int tmpinpos = inpos.get();
-                IntWrapper bestb = new IntWrapper();
-                IntWrapper bestexcept = new IntWrapper();
                 for (final int finalinpos = tmpinpos + thissize; tmpinpos
                         + BlockSize <= finalinpos; tmpinpos += BlockSize) {
-                        getBestBFromData(in, tmpinpos, bestb, bestexcept);
-                        final int tmpbestb = bestb.get();
-                        final int nbrexcept = bestexcept.get();
+                        final int best = getBestBFromData(in, tmpinpos);
+                        final int tmpbestb = best & 0xFF;
+                        final int nbrexcept = best >>> 8;
                         int exceptsize = 0;
                         final int remember = tmpoutpos;
                         tmpoutpos++;
@@ -0,0 +1,157 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ *
+ * (c) Daniel Lemire, http://lemire.me/en/
+ */
+package me.lemire.integercompression;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Aggregates compressed data in parallel without materializing the
+ * uncompressed array. A BlockIterator is split at page or block boundaries
+ * (see BlockIterator#trySplit) into about as many parts as requested; each
+ * part is uncompressed, one block at a time, by a task of the executor and
+ * the partial results are then combined.
+ * 
+ * <pre>
+ * FastPFOR codec = new FastPFOR();
+ * long sum = ParallelAggregation.sum(
+ *         codec.iterator(compressed, 0, compressed.length), executor, 8);
+ * </pre>
+ * 
+ * Iterators that cannot be split (e.g., those of the integrated CODECs, whose
+ * blocks depend on the previous ones) are aggregated by a single task.
+ * 
+ * @author Daniel Lemire
+ */
+public final class ParallelAggregation {
+        private ParallelAggregation() {
+        }
+
+        /**
+         * Split an iterator into (at most) the given number of parts, the
+         * largest part being split first.
+         * 
+         * @param i
+         *                iterator to split (becomes the first part)
+         * @param parts
+         *                desired number of parts
+         * @return the parts, in order
+         */
+        public static List<BlockIterator> split(BlockIterator i, int parts) {
+                ArrayList<BlockIterator> answer = new ArrayList<BlockIterator>();
+                answer.add(i);
+                while (answer.size() < parts) {
+                        int largest = 0;
+                        for (int k = 1; k < answer.size(); ++k)
+                                if (answer.get(k).size() > answer.get(largest)
+                                        .size())
+                                        largest = k;
+                        final BlockIterator second = answer.get(largest)
+                                .trySplit();
+                        if (second == null)
+                                break;
+                        answer.add(largest + 1, second);
+                }
+                return answer;
+        }
+
+        /**
+         * Sum the integers (as signed integers).
+         * 
+         * @param i
+         *                iterator over the integers (consumed)
+         * @param executor
+         *                runs the tasks
+         * @param parallelism
+         *                desired number of tasks
+         * @return the sum of the integers
+         * @throws InterruptedException
+         *                 if interrupted while waiting for the tasks
+         */
+        public static long sum(BlockIterator i, ExecutorService executor,
+                int parallelism) throws InterruptedException {
+                ArrayList<Future<Long>> futures = new ArrayList<Future<Long>>();
+                for (final BlockIterator part : split(i, parallelism))
+                        futures.add(executor.submit(new Callable<Long>() {
+                                @Override
+                                public Long call() {
+                                        return Long.valueOf(sum(part));
+                                }
+                        }));
+                long answer = 0;
+                for (Future<Long> f : futures)
+                        answer += get(f).longValue();
+                return answer;
+        }
+
+        /**
+         * Count the integers satisfying a predicate.
+         * 
+         * @param i
+         *                iterator over the integers (consumed)
+         * @param predicate
+         *                filter (shared by the tasks: it must be
+         *                thread-safe)
+         * @param executor
+         *                runs the tasks
+         * @param parallelism
+         *                desired number of tasks
+         * @return the number of integers satisfying the predicate
+         * @throws InterruptedException
+         *                 if interrupted while waiting for the tasks
+         */
+        public static long count(BlockIterator i, final IntPredicate predicate,
+                ExecutorService executor, int parallelism)
+                throws InterruptedException {
+                ArrayList<Future<Long>> futures = new ArrayList<Future<Long>>();
+                for (final BlockIterator part : split(i, parallelism))
+                        futures.add(executor.submit(new Callable<Long>() {
+                                @Override
+                                public Long call() {
+                                        return Long.valueOf(count(part,
+                                                predicate));
+                                }
+                        }));
+                long answer = 0;
+                for (Future<Long> f : futures)
+                        answer += get(f).longValue();
+                return answer;
+        }
+
+        private static long sum(BlockIterator i) {
+                final int[] buffer = new int[128];
+                long answer = 0;
+                for (int howmany; (howmany = i.next(buffer, 0, 128)) > 0;)
+                        for (int k = 0; k < howmany; ++k)
+                                answer += buffer[k];
+                return answer;
+        }
+
+        private static long count(BlockIterator i, IntPredicate predicate) {
+                final int[] buffer = new int[128];
+                long answer = 0;
+                for (int howmany; (howmany = i.next(buffer, 0, 128)) > 0;)
+                        for (int k = 0; k < howmany; ++k)
+                                if (predicate.test(buffer[k]))
+                                        ++answer;
+                return answer;
+        }
+
+        private static <T> T get(Future<T> f) throws InterruptedException {
+                try {
+                        return f.get();
+                } catch (ExecutionException e) {
+                        if (e.getCause() instanceof RuntimeException)
+                                throw (RuntimeException) e.getCause();
+                        throw new RuntimeException(e.getCause());
+                }
+        }
+}
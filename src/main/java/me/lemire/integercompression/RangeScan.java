@@ -0,0 +1,134 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ *
+ * (c) Daniel Lemire, http://lemire.me/en/
+ */
+package me.lemire.integercompression;
+
+/**
+ * Kernels evaluating the range predicate lo &lt;= v &lt; hi (signed
+ * comparisons) over groups of 32 integers, used by the scans of
+ * BinaryPacking and FastPFOR (see BinaryPacking#scan and FastPFOR#scan).
+ *
+ * The result of a scan is a selection bitmap: bit k % 32 of word k / 32 is
+ * set if and only if the integer at index k satisfies the predicate. A group
+ * of integers packed with b &lt; 32 bits only holds values in [0, 2^b): when
+ * the range excludes (or includes) this whole interval, the group is
+ * classified without being unpacked.
+ *
+ * @author Daniel Lemire
+ */
+public final class RangeScan {
+        /**
+         * No integer of the group can satisfy the predicate.
+         */
+        public final static int NONE = 0;
+
+        /**
+         * All integers of the group satisfy the predicate.
+         */
+        public final static int ALL = 1;
+
+        /**
+         * The integers must be unpacked and compared.
+         */
+        public final static int SOME = 2;
+
+        private RangeScan() {
+        }
+
+        /**
+         * Classify a group of integers from the number of bits used to pack
+         * them.
+         *
+         * @param bit
+         *                number of bits per integer (all integers are smaller
+         *                than 2^bit)
+         * @param lo
+         *                smallest value in the range
+         * @param hi
+         *                value following the largest value in the range
+         * @return NONE, ALL or SOME
+         */
+        public static int classify(int bit, int lo, int hi) {
+                if (hi <= lo)
+                        return NONE;
+                if (bit == 32)
+                        return SOME;
+                final long max = (1L << bit) - 1;
+                if (lo > max || hi <= 0)
+                        return NONE;
+                if (lo <= 0 && hi > max)
+                        return ALL;
+                return SOME;
+        }
+
+        /**
+         * Compare up to 32 integers against the range, without branches.
+         *
+         * @param in
+         *                source array
+         * @param inpos
+         *                position of the first integer
+         * @param n
+         *                number of integers (at most 32)
+         * @param lo
+         *                smallest value in the range
+         * @param hi
+         *                value following the largest value in the range
+         *                (hi &gt; lo)
+         * @return the selection bitmap of the integers
+         */
+        public static int select(int[] in, int inpos, int n, int lo, int hi) {
+                // lo <= v < hi if and only if v - lo < hi - lo (unsigned),
+                // the unsigned comparison being given by the borrow of the
+                // subtraction
+                final int width = hi - lo;
+                int word = 0;
+                for (int k = 0; k < n; ++k) {
+                        final int a = in[inpos + k] - lo;
+                        word |= (((~a & width) | (~(a ^ width) & (a - width))) >>> 31) << k;
+                }
+                return word;
+        }
+
+        /**
+         * @param n
+         *                number of integers (at most 32)
+         * @return the selection bitmap of n integers satisfying the predicate
+         */
+        public static int all(int n) {
+                return n == 32 ? -1 : (1 << n) - 1;
+        }
+
+        /**
+         * Convert a selection bitmap to the positions of the selected
+         * integers, in increasing order.
+         *
+         * @param bitmap
+         *                selection bitmap
+         * @param bitmappos
+         *                position of the first word of the bitmap
+         * @param n
+         *                number of integers covered by the bitmap
+         * @param positions
+         *                output array
+         * @param positionspos
+         *                where to write in the output array
+         * @return number of positions written
+         */
+        public static int positions(int[] bitmap, int bitmappos, int n,
+                int[] positions, int positionspos) {
+                int tmppos = positionspos;
+                for (int k = 0; k < n; k += 32) {
+                        int word = bitmap[bitmappos + k / 32];
+                        while (word != 0) {
+                                positions[tmppos++] = k
+                                        + Integer.numberOfTrailingZeros(word);
+                                word &= word - 1;
+                        }
+                }
+                return tmppos - positionspos;
+        }
+}
@@ -15,7 +15,22 @@ package me.lemire.integercompression;
  */
 public final class S16 {
 
-        protected static int compress(final int[] in, int currentPos,
+        /**
+         * Compress an integer array using Simple16
+         * 
+         * @param in
+         *                array to compress
+         * @param currentPos
+         *                where to start reading
+         * @param inlength
+         *                how many integers to read
+         * @param out
+         *                output array
+         * @param tmpoutpos
+         *                location in the output array
+         * @return the number of 32-bit words written
+         */
+        public static int compress(final int[] in, int currentPos,
                 int inlength, final int out[], final int tmpoutpos) {
                 int outpos = tmpoutpos;
                 final int finalin = currentPos + inlength;
@@ -43,15 +58,74 @@ public final class S16 {
          */
         public static int estimatecompress(final int[] in, int currentPos,
                 int inlength) {
+                return estimatecompress(in, currentPos, inlength,
+                        Integer.MAX_VALUE, new int[S16_BITSSIZE]);
+        }
+
+        /**
+         * Estimate size of the compressed output, giving up as soon as it
+         * reaches a limit.
+         * 
+         * @param in
+         *                array to compress
+         * @param currentPos
+         *                where to start reading
+         * @param inlength
+         *                how many integers to read
+         * @param limit
+         *                size beyond which the exact estimate is not needed
+         * @param prefixor
+         *                working area of at least 28 integers
+         * @return estimated size of the output (in 32-bit integers), or a
+         *         value no smaller than limit
+         */
+        public static int estimatecompress(final int[] in, int currentPos,
+                int inlength, int limit, int[] prefixor) {
                 final int finalin = currentPos + inlength;
+                // prefixor[j] is the bitwise OR of the next j + 1 integers:
+                // it tells whether a selector fits without checking every
+                // integer against every selector. It is only extended as far
+                // as needed.
                 int counter = 0;
-                while (currentPos < finalin) {
-                        int inoffset = fakecompressblock(in, currentPos,
-                                inlength);
-                        if (inoffset == -1)
+                while (currentPos < finalin && counter < limit) {
+                        final int n = finalin - currentPos;
+                        int computed = 0;
+                        int acc = 0;
+                        // skip the selectors that cannot hold the first
+                        // integer
+                        final int v0 = in[currentPos];
+                        final int b0 = Util.bits(v0 & ~(v0 >> 31));
+                        if (b0 > S16_BITSSIZE)
                                 throw new RuntimeException("Too big a number");
-                        currentPos += inoffset;
-                        inlength -= inoffset;
+                        int num = -1;
+                        for (int numIdx = S16_FIRST[b0]; numIdx < S16_NUMSIZE; numIdx++) {
+                                num = (S16_NUM[numIdx] < n) ? S16_NUM[numIdx] : n;
+                                while ((computed < num)
+                                        && (acc < SHIFTED_S16_MAXBITS[numIdx])) {
+                                        final int v = in[currentPos + computed];
+                                        // negative integers pass the signed
+                                        // comparison of compressblock
+                                        acc |= v & ~(v >> 31);
+                                        prefixor[computed++] = acc;
+                                }
+                                if (computed >= num) {
+                                        final int x = prefixor[num - 1];
+                                        if (x < SHIFTED_S16_MINBITS[numIdx])
+                                                break;
+                                        if (x < SHIFTED_S16_MAXBITS[numIdx]) {
+                                                int j = 0;
+                                                while ((j < num)
+                                                        && (in[currentPos + j] < SHIFTED_S16_BITS[numIdx][j]))
+                                                        j++;
+                                                if (j == num)
+                                                        break;
+                                        }
+                                }
+                                num = -1;
+                        }
+                        if (num == -1)
+                                throw new RuntimeException("Too big a number");
+                        currentPos += num;
                         ++counter;
                 }
                 return counter;
@@ -95,24 +169,6 @@ public final class S16 {
                 return -1;
         }
 
-        private static final int fakecompressblock(int[] in, int inOffset, int n) {
-                int numIdx, j, num;
-                for (numIdx = 0; numIdx < S16_NUMSIZE; numIdx++) {
-                        num = (S16_NUM[numIdx] < n) ? S16_NUM[numIdx] : n;
-
-                        for (j = 0; (j < num)
-                                && (in[inOffset + j] < SHIFTED_S16_BITS[numIdx][j]);) {
-                                j++;
-                        }
-
-                        if (j == num) {
-                                return num;
-                        }
-                }
-
-                return -1;
-        }
-
         /**
          * Decompress an integer array using Simple16
          * 
@@ -141,7 +197,24 @@ public final class S16 {
                 return num;
         }
 
-        protected static void uncompress(final int[] in, int tmpinpos,
+        /**
+         * Uncompress an integer array using Simple16
+         * 
+         * @param in
+         *                array containing data in compressed form
+         * @param tmpinpos
+         *                where to start reading in the array
+         * @param inlength
+         *                length of the compressed data (ignored by some
+         *                schemes)
+         * @param out
+         *                output array
+         * @param currentPos
+         *                where to start writing the uncompressed output
+         * @param outlength
+         *                number of integers we want to decode
+         */
+        public static void uncompress(final int[] in, int tmpinpos,
                 final int inlength, final int[] out, int currentPos,
                 int outlength) {
                 final int finalpos = tmpinpos + inlength;
@@ -165,6 +238,28 @@ public final class S16 {
                 return answer;
         }
 
+        private static int[] shiftextremum(int[][] x, boolean max) {
+                int[] answer = new int[x.length];
+                for (int k = 0; k < x.length; ++k) {
+                        int e = x[k][0];
+                        for (int z = 1; z < x[k].length; ++z)
+                                e = max ? Math.max(e, x[k][z]) : Math.min(e,
+                                        x[k][z]);
+                        answer[k] = 1 << e;
+                }
+                return answer;
+        }
+
+        private static int[] firstselector(int[][] x) {
+                int[] answer = new int[S16_BITSSIZE + 1];
+                for (int b = 0, k = 0; b <= S16_BITSSIZE; ++b) {
+                        while (x[k][0] < b)
+                                ++k;
+                        answer[b] = k;
+                }
+                return answer;
+        }
+
         private static final int S16_NUMSIZE = 16;
         private static final int S16_BITSSIZE = 28;
         // the possible number of bits used to represent one integer
@@ -184,5 +279,13 @@ public final class S16 {
                 { 4, 4, 5, 5, 5, 5 }, { 6, 6, 6, 5, 5 }, { 5, 5, 6, 6, 6 },
                 { 7, 7, 7, 7 }, { 10, 9, 9, }, { 14, 14 }, { 28 } };
         private static final int[][] SHIFTED_S16_BITS = shiftme(S16_BITS);
+        // 1 << (smallest and largest number of bits) for each selector
+        private static final int[] SHIFTED_S16_MINBITS = shiftextremum(S16_BITS,
+                false);
+        private static final int[] SHIFTED_S16_MAXBITS = shiftextremum(S16_BITS,
+                true);
+        // first selector that can hold an integer of the given number of
+        // bits in its first slot
+        private static final int[] S16_FIRST = firstselector(S16_BITS);
 
 }
@@ -25,23 +25,63 @@ public final class S9 {
          */
         public static int estimatecompress(int[] in, int currentPos,
                 int inlength) {
+                return estimatecompress(in, currentPos, inlength,
+                        Integer.MAX_VALUE, new int[codeNum[0]]);
+        }
+
+        /**
+         * Estimate size of the compressed output, giving up as soon as it
+         * reaches a limit.
+         * 
+         * @param in
+         *                array to compress
+         * @param currentPos
+         *                where to start reading
+         * @param inlength
+         *                how many integers to read
+         * @param limit
+         *                size beyond which the exact estimate is not needed
+         * @param prefixor
+         *                working area of at least 28 integers
+         * @return estimated size of the output (in 32-bit integers), or a
+         *         value no smaller than limit
+         */
+        public static int estimatecompress(int[] in, int currentPos,
+                int inlength, int limit, int[] prefixor) {
                 int tmpoutpos = 0;
                 int finalpos = currentPos + inlength;
-                outer: while (currentPos < finalpos) {
-                        mainloop: for (int selector = 0; selector < 8; selector++) {
-
-                                int compressedNum = codeNum[selector];
-                                if (finalpos <= currentPos + compressedNum - 1)
-                                        compressedNum = finalpos - currentPos;
-                                int b = bitLength[selector];
-                                int max = 1 << b;
-                                int i = 0;
-                                for (; i < compressedNum; i++)
-                                        if (max <= in[currentPos + i])
-                                                continue mainloop;
-                                currentPos += compressedNum;
-                                ++tmpoutpos;
-                                continue outer;
+                // prefixor[j] is the bitwise OR of the next j + 1 integers: a
+                // selector fits if it has enough bits for the OR of the
+                // integers it would hold. It is only extended as far as
+                // needed.
+                outer: while (currentPos < finalpos && tmpoutpos < limit) {
+                        final int n = finalpos - currentPos;
+                        int computed = 0;
+                        int acc = 0;
+                        // skip the selectors that cannot hold the first
+                        // integer
+                        final int v0 = in[currentPos];
+                        final int b0 = Util.bits(v0 & ~(v0 >> 31));
+                        int first = 0;
+                        while (first < 8 && bitLength[first] < b0)
+                                ++first;
+                        for (int selector = first; selector < 8; selector++) {
+                                final int compressedNum = codeNum[selector] < n ? codeNum[selector]
+                                        : n;
+                                final int max = 1 << bitLength[selector];
+                                while (computed < compressedNum && acc < max) {
+                                        final int v = in[currentPos + computed];
+                                        // negative integers pass the signed
+                                        // comparison of compress
+                                        acc |= v & ~(v >> 31);
+                                        prefixor[computed++] = acc;
+                                }
+                                if (computed >= compressedNum
+                                        && prefixor[compressedNum - 1] < max) {
+                                        currentPos += compressedNum;
+                                        ++tmpoutpos;
+                                        continue outer;
+                                }
                         }
                         final int selector = 8;
                         if (in[currentPos] >= 1 << bitLength[selector])
@@ -111,4 +111,64 @@ public final class Util {
 
         return value - value % factor;
     }
+
+    /**
+     * Apply zigzag encoding so that integers close to zero (positive or
+     * negative) become small non-negative integers: 0, -1, 1, -2, 2... are
+     * mapped to 0, 1, 2, 3, 4...
+     * 
+     * @param in
+     *            source array
+     * @param inpos
+     *            starting position in the source array
+     * @param length
+     *            number of integers to process
+     * @param out
+     *            output array (may be the source array)
+     * @param outpos
+     *            starting position in the output array
+     */
+    public static void zigzagEncode(int[] in, int inpos, int length,
+            int[] out, int outpos) {
+        for (int k = 0; k < length; ++k) {
+            final int n = in[inpos + k];
+            out[outpos + k] = (n << 1) ^ (n >> 31);
+        }
+    }
+
+    /**
+     * Undo zigzag encoding (in-place).
+     * 
+     * @param data
+     *            array to be modified
+     * @param pos
+     *            starting position
+     * @param length
+     *            number of integers to process
+     */
+    public static void zigzagDecode(int[] data, int pos, int length) {
+        for (int k = pos; k < pos + length; ++k) {
+            final int n = data[k];
+            data[k] = (n >>> 1) ^ -(n & 1);
+        }
+    }
+
+    /**
+     * Patch an integer decoded by ZigzagBitPacking.fastunpack from the low
+     * bits of its zigzag encoding with the high bits of this encoding (an
+     * exception of the PFOR schemes), without encoding it again.
+     * 
+     * @param decoded
+     *            integer decoded from the low bits
+     * @param high
+     *            bits of the zigzag encoding above the low bits
+     * @param bit
+     *            number of low bits
+     * @return the integer whose zigzag encoding is (high &lt;&lt; bit) | low
+     */
+    static int zigzagPatch(int decoded, int high, int bit) {
+        // unless there is no low bit, the sign is carried by the low bits
+        return bit == 0 ? (high >>> 1) ^ -(high & 1) : decoded
+                ^ ((high << bit) >>> 1);
+    }
 }
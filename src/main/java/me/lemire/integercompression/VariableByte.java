@@ -11,14 +11,17 @@ import java.nio.IntBuffer;
 
 /**
  * Implementation of variable-byte. For best performance, use it using the
- * ByteIntegerCODEC interface.
+ * ByteIntegerCODEC interface. The compressed data may also be written to or
+ * read from an IntBuffer (e.g., a direct or memory-mapped buffer) through the
+ * BufferIntegerCODEC interface.
  * 
  * Note that this does not use differential coding: if you are working on sorted
  * lists, you must compute the deltas separately.
  * 
  * @author Daniel Lemire
  */
-public class VariableByte implements IntegerCODEC, ByteIntegerCODEC {
+public class VariableByte implements IntegerCODEC, ByteIntegerCODEC,
+		BufferIntegerCODEC {
 
 	private byte extract7bits(int i, long val) {
 		return (byte)((val >> (7 * i)) & ((1 << 7) - 1));
@@ -33,8 +36,27 @@ public class VariableByte implements IntegerCODEC, ByteIntegerCODEC {
 			int[] out, IntWrapper outpos) {
 		if (inlength == 0)
 			return;
+		IntBuffer ibuf = encode(in, inpos.get(), inlength);
+		final int length = ibuf.remaining();
+		ibuf.get(out, outpos.get(), length);
+		outpos.add(length);
+		inpos.add(inlength);
+	}
+
+	@Override
+	public void compress(int[] in, IntWrapper inpos, int inlength,
+			IntBuffer out) {
+		if (inlength == 0)
+			return;
+		out.put(encode(in, inpos.get(), inlength));
+		inpos.add(inlength);
+	}
+
+	// The bytes are padded to a multiple of 4 and read back as big-endian
+	// integers.
+	private IntBuffer encode(int[] in, int inpos, int inlength) {
 		ByteBuffer buf = ByteBuffer.allocateDirect(inlength * 8);
-		for (int k = inpos.get(); k < inpos.get() + inlength; ++k) {
+		for (int k = inpos; k < inpos + inlength; ++k) {
 			long val = in[k] & 0xFFFFFFFFL;
 			if (val < (1 << 7)) {
 				buf.put((byte)(val | (1 << 7)));
@@ -60,12 +82,8 @@ public class VariableByte implements IntegerCODEC, ByteIntegerCODEC {
 		}
 		while (buf.position() % 4 != 0)
 			buf.put((byte) 0);
-		final int length = buf.position();
 		buf.flip();
-		IntBuffer ibuf = buf.asIntBuffer();
-		ibuf.get(out, outpos.get(), length / 4);
-		outpos.add(length / 4);
-		inpos.add(inlength);
+		return buf.asIntBuffer();
 	}
 
 	@Override
@@ -135,6 +153,26 @@ public class VariableByte implements IntegerCODEC, ByteIntegerCODEC {
 		inpos.add(inlength);
 	}
 
+	@Override
+	public void uncompress(IntBuffer in, int inlength, int[] out,
+			IntWrapper outpos) {
+		int tmpoutpos = outpos.get();
+		for (int p = 0, v = 0, shift = 0; p < inlength; ++p) {
+			final int val = in.get();
+			for (int s = 24; s >= 0; s -= 8) {
+				int c = (byte) (val >>> s);
+				v += ((c & 127) << shift);
+				if ((c & 128) == 128) {
+					out[tmpoutpos++] = v;
+					v = 0;
+					shift = 0;
+				} else
+					shift += 7;
+			}
+		}
+		outpos.set(tmpoutpos);
+	}
+
 	@Override
 	public void uncompress(byte[] in, IntWrapper inpos, int inlength,
 			int[] out, IntWrapper outpos) {
@@ -0,0 +1,112 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ *
+ * (c) Daniel Lemire, http://lemire.me/en/
+ */
+package me.lemire.integercompression;
+
+import me.lemire.integercompression.differential.Delta;
+
+/**
+ * Compresses doubles by XOR with the previous value, as in Gorilla (Pelkonen
+ * et al., VLDB 2015). Each double is reinterpreted as 64 bits and split into
+ * its high word (sign, exponent and leading mantissa bits) and its low word.
+ * Each word is XORed with the same word of the previous double: for slowly
+ * varying series, the high residuals have many leading zeros and the low
+ * residuals are often zero. The two streams of residuals are then compressed
+ * with an IntegerCODEC (FastPFOR by default).
+ * 
+ * The format is: the number of doubles, the length of the compressed high
+ * words, the compressed high words and the compressed low words.
+ * 
+ * For multi-threaded applications, each thread should use its own
+ * XorDoubleCODEC object.
+ * 
+ * @author Daniel Lemire
+ */
+public final class XorDoubleCODEC implements DoubleCODEC {
+        final IntegerCODEC codec;
+        int[] buffer = new int[0];
+
+        /**
+         * Construct a CODEC using FastPFOR and VariableByte for the residuals.
+         */
+        public XorDoubleCODEC() {
+                this(new Composition(new FastPFOR(), new VariableByte()));
+        }
+
+        /**
+         * Construct a CODEC.
+         * 
+         * @param codec
+         *                CODEC used for the residuals (must support arrays of
+         *                any length)
+         */
+        public XorDoubleCODEC(IntegerCODEC codec) {
+                this.codec = codec;
+        }
+
+        @Override
+        public void compress(double[] in, IntWrapper inpos, int inlength,
+                int[] out, IntWrapper outpos) {
+                if (inlength == 0)
+                        return;
+                if (buffer.length < 2 * inlength)
+                        buffer = new int[2 * inlength];
+                final int init = inpos.get();
+                long previous = 0;
+                for (int k = 0; k < inlength; ++k) {
+                        final long bits = Double.doubleToRawLongBits(in[init
+                                + k]);
+                        final long residual = bits ^ previous;
+                        buffer[k] = (int) (residual >>> 32);
+                        buffer[inlength + k] = (int) residual;
+                        previous = bits;
+                }
+                out[outpos.get()] = inlength;
+                outpos.increment();
+                final int sizepos = outpos.get();
+                outpos.increment();
+                final int initoutpos = outpos.get();
+                codec.compress(buffer, new IntWrapper(0), inlength, out,
+                        outpos);
+                out[sizepos] = outpos.get() - initoutpos;
+                codec.compress(buffer, new IntWrapper(inlength), inlength,
+                        out, outpos);
+                inpos.add(inlength);
+        }
+
+        @Override
+        public void uncompress(int[] in, IntWrapper inpos, int inlength,
+                double[] out, IntWrapper outpos) {
+                if (inlength == 0)
+                        return;
+                final int initinpos = inpos.get();
+                final int outlength = in[inpos.get()];
+                inpos.increment();
+                final int highsize = in[inpos.get()];
+                inpos.increment();
+                if (buffer.length < 2 * outlength)
+                        buffer = new int[2 * outlength];
+                codec.uncompress(in, inpos, highsize, buffer, new IntWrapper(
+                        0));
+                codec.uncompress(in, inpos, inlength
+                        - (inpos.get() - initinpos), buffer, new IntWrapper(
+                        outlength));
+                Delta.fastinverseXor(buffer, 0, outlength, 0);
+                Delta.fastinverseXor(buffer, outlength, outlength, 0);
+                final int init = outpos.get();
+                for (int k = 0; k < outlength; ++k)
+                        out[init + k] = Double
+                                .longBitsToDouble(((long) buffer[k] << 32)
+                                        | (buffer[outlength + k] & 0xFFFFFFFFL));
+                outpos.add(outlength);
+        }
+
+        @Override
+        public String toString() {
+                return this.getClass().getSimpleName() + "("
+                        + codec.toString() + ")";
+        }
+}
@@ -0,0 +1,91 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ *
+ * (c) Daniel Lemire, http://lemire.me/en/
+ */
+package me.lemire.integercompression;
+
+import me.lemire.integercompression.differential.Delta;
+
+/**
+ * Compresses floats by XOR with the previous value, as in Gorilla (Pelkonen
+ * et al., VLDB 2015). Each float is reinterpreted as 32 bits and XORed with
+ * the previous float: for slowly varying series, the sign and the exponent
+ * cancel out and the residuals have many leading zeros. The residuals are
+ * then compressed with an IntegerCODEC (FastPFOR by default).
+ * 
+ * The format is: the number of floats followed by the compressed residuals.
+ * 
+ * For multi-threaded applications, each thread should use its own
+ * XorFloatCODEC object.
+ * 
+ * @author Daniel Lemire
+ */
+public final class XorFloatCODEC implements FloatCODEC {
+        final IntegerCODEC codec;
+        int[] buffer = new int[0];
+
+        /**
+         * Construct a CODEC using FastPFOR and VariableByte for the residuals.
+         */
+        public XorFloatCODEC() {
+                this(new Composition(new FastPFOR(), new VariableByte()));
+        }
+
+        /**
+         * Construct a CODEC.
+         * 
+         * @param codec
+         *                CODEC used for the residuals (must support arrays of
+         *                any length)
+         */
+        public XorFloatCODEC(IntegerCODEC codec) {
+                this.codec = codec;
+        }
+
+        @Override
+        public void compress(float[] in, IntWrapper inpos, int inlength,
+                int[] out, IntWrapper outpos) {
+                if (inlength == 0)
+                        return;
+                if (buffer.length < inlength)
+                        buffer = new int[inlength];
+                final int init = inpos.get();
+                int previous = 0;
+                for (int k = 0; k < inlength; ++k) {
+                        final int bits = Float.floatToRawIntBits(in[init + k]);
+                        buffer[k] = bits ^ previous;
+                        previous = bits;
+                }
+                out[outpos.get()] = inlength;
+                outpos.increment();
+                codec.compress(buffer, new IntWrapper(0), inlength, out,
+                        outpos);
+                inpos.add(inlength);
+        }
+
+        @Override
+        public void uncompress(int[] in, IntWrapper inpos, int inlength,
+                float[] out, IntWrapper outpos) {
+                if (inlength == 0)
+                        return;
+                final int outlength = in[inpos.get()];
+                inpos.increment();
+                if (buffer.length < outlength)
+                        buffer = new int[outlength];
+                codec.uncompress(in, inpos, inlength - 1, buffer,
+                        new IntWrapper(0));
+                Delta.fastinverseXor(buffer, 0, outlength, 0);
+                final int init = outpos.get();
+                for (int k = 0; k < outlength; ++k)
+                        out[init + k] = Float.intBitsToFloat(buffer[k]);
+                outpos.add(outlength);
+        }
+
+        @Override
+        public String toString() {
+                return this.getClass().getSimpleName() + "("
+                        + codec.toString() + ")";
+        }
+}
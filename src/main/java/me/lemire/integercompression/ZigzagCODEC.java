@@ -0,0 +1,68 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ *
+ * (c) Daniel Lemire, http://lemire.me/en/
+ */
+package me.lemire.integercompression;
+
+/**
+ * Applies zigzag encoding (without differential coding) before another
+ * CODEC, so that signed integers close to zero (e.g., sensor deltas or
+ * offsets around a mean) are stored as small integers:
+ * 
+ * <pre>
+ * IntegerCODEC ic = new ZigzagCODEC(new Composition(new FastPFOR(),
+ *         new VariableByte()));
+ * </pre>
+ * 
+ * The input is encoded into an internal buffer and the output is decoded in
+ * place. For the PFOR family, prefer ZigzagFastPFOR and ZigzagNewPFD which
+ * apply the transform block by block.
+ * 
+ * For multi-threaded applications, each thread should use its own
+ * ZigzagCODEC object.
+ * 
+ * @author Daniel Lemire
+ */
+public final class ZigzagCODEC implements IntegerCODEC {
+        final IntegerCODEC codec;
+        int[] buffer = new int[0];
+
+        /**
+         * Construct a CODEC.
+         * 
+         * @param codec
+         *                CODEC applied to the zigzag-encoded integers
+         */
+        public ZigzagCODEC(IntegerCODEC codec) {
+                this.codec = codec;
+        }
+
+        @Override
+        public void compress(int[] in, IntWrapper inpos, int inlength,
+                int[] out, IntWrapper outpos) {
+                if (inlength == 0)
+                        return;
+                if (buffer.length < inlength)
+                        buffer = new int[inlength];
+                Util.zigzagEncode(in, inpos.get(), inlength, buffer, 0);
+                final IntWrapper bufferpos = new IntWrapper(0);
+                codec.compress(buffer, bufferpos, inlength, out, outpos);
+                inpos.add(bufferpos.get());
+        }
+
+        @Override
+        public void uncompress(int[] in, IntWrapper inpos, int inlength,
+                int[] out, IntWrapper outpos) {
+                final int initoutpos = outpos.get();
+                codec.uncompress(in, inpos, inlength, out, outpos);
+                Util.zigzagDecode(out, initoutpos, outpos.get() - initoutpos);
+        }
+
+        @Override
+        public String toString() {
+                return this.getClass().getSimpleName() + "("
+                        + codec.toString() + ")";
+        }
+}
@@ -0,0 +1,82 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ *
+ * (c) Daniel Lemire, http://lemire.me/en/
+ */
+package me.lemire.integercompression;
+
+/**
+ * FastPFOR over zigzag-encoded integers, for signed integers close to zero
+ * (e.g., sensor deltas or offsets around a mean). With FastPFOR, any negative
+ * integer requires 32 bits. The zigzag encoding is fused into packing and
+ * unpacking (see ZigzagBitPacking): bit widths and exceptions are computed
+ * over the encoded integers without a separate pass, and exceptions are
+ * patched into the decoded integers.
+ * 
+ * The output is the same as FastPFOR applied to the zigzag-encoded integers.
+ * 
+ * It encodes integers in blocks of 128 integers within pages of up to 65536
+ * integers. For arrays containing a number of integers that is not divisible
+ * by 128, you should use it in conjunction with another CODEC:
+ * 
+ * <pre>
+ * IntegerCODEC ic = new Composition(new ZigzagFastPFOR(),
+ *         new ZigzagCODEC(new VariableByte())).
+ * </pre>
+ * 
+ * For multi-threaded applications, each thread should use its own
+ * ZigzagFastPFOR object.
+ * 
+ * @author Daniel Lemire
+ */
+public final class ZigzagFastPFOR implements IntegerCODEC {
+        final FastPFOR codec;
+
+        /**
+         * Construct the ZigzagFastPFOR CODEC.
+         * 
+         * @param pagesize
+         *                the desired page size (for expert use)
+         */
+        public ZigzagFastPFOR(int pagesize) {
+                codec = new FastPFOR(pagesize, false, true);
+        }
+
+        /**
+         * Construct the ZigzagFastPFOR CODEC with default parameters.
+         */
+        public ZigzagFastPFOR() {
+                this(FastPFOR.DEFAULT_PAGE_SIZE);
+        }
+
+        /**
+         * Compress data in blocks of 128 integers (if fewer than 128 integers
+         * are provided, nothing is done).
+         * 
+         * @see IntegerCODEC#compress(int[], IntWrapper, int, int[], IntWrapper)
+         */
+        @Override
+        public void compress(int[] in, IntWrapper inpos, int inlength,
+                int[] out, IntWrapper outpos) {
+                codec.compress(in, inpos, inlength, out, outpos);
+        }
+
+        /**
+         * Uncompress data in blocks of 128 integers. In this particular case,
+         * the inlength parameter is ignored: it is deduced from the compressed
+         * data.
+         * 
+         * @see IntegerCODEC#compress(int[], IntWrapper, int, int[], IntWrapper)
+         */
+        @Override
+        public void uncompress(int[] in, IntWrapper inpos, int inlength,
+                int[] out, IntWrapper outpos) {
+                codec.uncompress(in, inpos, inlength, out, outpos);
+        }
+
+        @Override
+        public String toString() {
+                return this.getClass().getSimpleName();
+        }
+}
@@ -0,0 +1,59 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ *
+ * (c) Daniel Lemire, http://lemire.me/en/
+ */
+
+package me.lemire.integercompression;
+
+/**
+ * NewPFD over zigzag-encoded integers, for signed integers close to zero.
+ * The zigzag encoding is fused into packing and unpacking (see
+ * ZigzagBitPacking): bit widths and exceptions are computed over the encoded
+ * integers without a separate pass, and exceptions are patched into the
+ * decoded integers.
+ * 
+ * The output is the same as NewPFD applied to the zigzag-encoded integers.
+ * 
+ * It encodes integers in blocks of 128 integers. For arrays containing an
+ * arbitrary number of integers, you should use it in conjunction with another
+ * CODEC:
+ * 
+ * <pre>
+ * IntegerCODEC ic = new Composition(new ZigzagNewPFD(),
+ *         new ZigzagCODEC(new VariableByte())).
+ * </pre>
+ * 
+ * For multi-threaded applications, each thread should use its own
+ * ZigzagNewPFD object.
+ * 
+ * @author Daniel Lemire
+ */
+public final class ZigzagNewPFD implements IntegerCODEC {
+        final NewPFD codec = new NewPFD(true);
+
+        /**
+         * Constructor for the ZigzagNewPFD CODEC.
+         */
+        public ZigzagNewPFD() {
+        }
+
+        @Override
+        public void compress(int[] in, IntWrapper inpos, int inlength,
+                int[] out, IntWrapper outpos) {
+                codec.compress(in, inpos, inlength, out, outpos);
+        }
+
+        @Override
+        public void uncompress(int[] in, IntWrapper inpos, int inlength,
+                int[] out, IntWrapper outpos) {
+                codec.uncompress(in, inpos, inlength, out, outpos);
+        }
+
+        @Override
+        public String toString() {
+                return this.getClass().getSimpleName();
+        }
+
+}
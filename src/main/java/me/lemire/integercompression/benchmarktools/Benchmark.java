@@ -6,8 +6,6 @@
  */
 package me.lemire.integercompression.benchmarktools;
 
-import com.kamikaze.pfordelta.PForDelta;
-
 import me.lemire.integercompression.BinaryPacking;
 import me.lemire.integercompression.ByteIntegerCODEC;
 import me.lemire.integercompression.Composition;
@@ -17,6 +15,8 @@ import me.lemire.integercompression.FastPFOR;
 import me.lemire.integercompression.IntWrapper;
 import me.lemire.integercompression.IntegerCODEC;
 import me.lemire.integercompression.JustCopy;
+import me.lemire.integercompression.KamikazeLCPForDelta;
+import me.lemire.integercompression.KamikazePForDelta;
 import me.lemire.integercompression.NewPFD;
 import me.lemire.integercompression.NewPFDS16;
 import me.lemire.integercompression.NewPFDS9;
@@ -31,15 +31,20 @@ import me.lemire.integercompression.differential.IntegratedByteIntegerCODEC;
 import me.lemire.integercompression.differential.IntegratedComposition;
 import me.lemire.integercompression.differential.IntegratedFastPFOR;
 import me.lemire.integercompression.differential.IntegratedIntegerCODEC;
+import me.lemire.integercompression.differential.IntegratedKamikazePForDelta;
+import me.lemire.integercompression.differential.IntegratedNewPFD;
+import me.lemire.integercompression.differential.IntegratedOptPFD;
+import me.lemire.integercompression.differential.IntegratedSimple16;
+import me.lemire.integercompression.differential.IntegratedSimple9;
 import me.lemire.integercompression.differential.IntegratedVariableByte;
+import me.lemire.integercompression.differential.StridedDelta;
+import me.lemire.integercompression.differential.StridedDeltaBinaryPacking;
 import me.lemire.integercompression.differential.XorBinaryPacking;
 import me.lemire.integercompression.synth.ClusteredDataGenerator;
 
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.PrintWriter;
-import java.text.DecimalFormat;
-import java.util.ArrayList;
 import java.util.Arrays;
 
 /**
@@ -334,115 +339,6 @@ public class Benchmark {
                 }
         }
 
-        /**
-         * Standard test for the Kamikaze library
-         * 
-         * @param data
-         *                input data
-         * @param repeat
-         *                how many times to repeat
-         * @param verbose
-         *                whether to output data on screen
-         */
-        public static void testKamikaze(int[][] data, int repeat,
-                boolean verbose) {
-                DecimalFormat df = new DecimalFormat("0.00");
-                DecimalFormat dfspeed = new DecimalFormat("0");
-                if (verbose)
-                        System.out.println("# kamikaze PForDelta");
-                if (verbose)
-                        System.out
-                                .println("# bits per int, compress speed (mis), decompression speed (mis) ");
-                long bef, aft;
-                String line = "";
-                int N = data.length;
-                int totalsize = 0;
-                int maxlength = 0;
-                for (int k = 0; k < N; ++k) {
-                        totalsize += data[k].length;
-                        if (data[k].length > maxlength)
-                                maxlength = data[k].length;
-                }
-                int[] buffer = new int[maxlength + 1024];
-                /*
-                 * 4x + 1024 to account for the possibility of some negative
-                 * compression
-                 */
-                int size = 0;
-                int comptime = 0;
-                long decomptime = 0;
-                for (int r = 0; r < repeat; ++r) {
-                        size = 0;
-                        for (int k = 0; k < N; ++k) {
-                                int outpos = 0;
-                                int[] backupdata = Arrays.copyOf(data[k],
-                                        data[k].length);
-                                //
-                                bef = System.nanoTime() / 1000;
-                                Delta.delta(backupdata);
-                                ArrayList<int[]> dataout = new ArrayList<int[]>(
-                                        data[k].length / 128);
-                                for (int K = 0; K < data[k].length; K += 128) {
-                                        final int[] compressedbuf = PForDelta
-                                                .compressOneBlockOpt(Arrays
-                                                        .copyOfRange(
-                                                                backupdata, K,
-                                                                K + 128), 128);
-                                        dataout.add(compressedbuf);
-                                        outpos += compressedbuf.length;
-                                }
-                                aft = System.nanoTime() / 1000;
-                                //
-                                comptime += aft - bef;
-                                final int thiscompsize = outpos;
-                                size += thiscompsize;
-                                //
-                                bef = System.nanoTime() / 1000;
-                                ArrayList<int[]> datauncomp = new ArrayList<int[]>(
-                                        dataout.size());
-                                int deltaoffset = 0;
-
-                                for (int[] compbuf : dataout) {
-                                        int[] tmpbuf = new int[128];
-                                        PForDelta.decompressOneBlock(tmpbuf,
-                                                compbuf, 128);
-                                        tmpbuf[0] += deltaoffset;
-                                        Delta.fastinverseDelta(tmpbuf);
-                                        deltaoffset = tmpbuf[127];
-                                        datauncomp.add(tmpbuf);
-                                }
-                                aft = System.nanoTime() / 1000;
-                                //
-                                decomptime += aft - bef;
-                                if (datauncomp.size() * 128 != data[k].length)
-                                        throw new RuntimeException(
-                                                "we have a bug (diff length) "
-                                                        + " expected "
-                                                        + data[k].length
-                                                        + " got "
-                                                        + datauncomp.size()
-                                                        * 128);
-                                for (int m = 0; m < data[k].length; ++m)
-                                        if (datauncomp.get(m / 128)[m % 128] != data[k][m]) {
-                                                throw new RuntimeException(
-                                                        "we have a bug (actual difference), expected "
-                                                                + data[k][m]
-                                                                + " found "
-                                                                + buffer[m]
-                                                                + " at " + m);
-                                        }
-
-                        }
-                }
-
-                line += "\t" + df.format(size * 32.0 / totalsize);
-                line += "\t" + dfspeed.format(totalsize * repeat / (comptime));
-                line += "\t"
-                        + dfspeed.format(totalsize * repeat / (decomptime));
-                if (verbose)
-                        System.out.println(line);
-        }
-
         /**
          * Generate test data.
          * 
@@ -486,10 +382,40 @@ public class Benchmark {
                         int[][] data = generateTestData(cdg, N, nbr, sparsity);
                         System.out.println("# generating random data... ok.");
 
-                        // TODO: support CSV log output.
-                        testKamikaze(data, repeat, false);
-                        testKamikaze(data, repeat, false);
-                        testKamikaze(data, repeat, true);
+                        testCodec(csvLog, sparsity, new Composition(
+                                new KamikazePForDelta(), new VariableByte()),
+                                data, repeat, false);
+                        testCodec(csvLog, sparsity, new Composition(
+                                new KamikazePForDelta(), new VariableByte()),
+                                data, repeat, false);
+                        testCodec(csvLog, sparsity, new Composition(
+                                new KamikazePForDelta(), new VariableByte()),
+                                data, repeat, true);
+                        System.out.println();
+
+                        testCodec(csvLog, sparsity, new Composition(
+                                new KamikazeLCPForDelta(), new VariableByte()),
+                                data, repeat, false);
+                        testCodec(csvLog, sparsity, new Composition(
+                                new KamikazeLCPForDelta(), new VariableByte()),
+                                data, repeat, false);
+                        testCodec(csvLog, sparsity, new Composition(
+                                new KamikazeLCPForDelta(), new VariableByte()),
+                                data, repeat, true);
+                        System.out.println();
+
+                        testCodec(csvLog, sparsity, new IntegratedComposition(
+                                new IntegratedKamikazePForDelta(),
+                                new IntegratedVariableByte()), data, repeat,
+                                false);
+                        testCodec(csvLog, sparsity, new IntegratedComposition(
+                                new IntegratedKamikazePForDelta(),
+                                new IntegratedVariableByte()), data, repeat,
+                                false);
+                        testCodec(csvLog, sparsity, new IntegratedComposition(
+                                new IntegratedKamikazePForDelta(),
+                                new IntegratedVariableByte()), data, repeat,
+                                true);
                         System.out.println();
 
                         testCodec(csvLog, sparsity, new IntegratedComposition(
@@ -506,6 +432,20 @@ public class Benchmark {
                                 true);
                         System.out.println();
 
+                        for (StridedDelta.Scheme scheme : StridedDelta.Scheme
+                                .values()) {
+                                IntegerCODEC c = new IntegratedComposition(
+                                        new StridedDeltaBinaryPacking(scheme),
+                                        new IntegratedVariableByte());
+                                testCodec(csvLog, sparsity, c, data, repeat,
+                                        false);
+                                testCodec(csvLog, sparsity, c, data, repeat,
+                                        false);
+                                testCodec(csvLog, sparsity, c, data, repeat,
+                                        true);
+                                System.out.println();
+                        }
+
                         testCodec(csvLog, sparsity, new JustCopy(), data,
                                 repeat, false);
                         testCodec(csvLog, sparsity, new JustCopy(), data,
@@ -623,6 +563,32 @@ public class Benchmark {
                                 System.out.println();
                         }
 
+                        {
+                                IntegerCODEC c = new IntegratedComposition(
+                                        new IntegratedNewPFD(),
+                                        new IntegratedVariableByte());
+                                testCodec(csvLog, sparsity, c, data, repeat,
+                                        false);
+                                testCodec(csvLog, sparsity, c, data, repeat,
+                                        false);
+                                testCodec(csvLog, sparsity, c, data, repeat,
+                                        true);
+                                System.out.println();
+                        }
+
+                        {
+                                IntegerCODEC c = new IntegratedComposition(
+                                        new IntegratedOptPFD(),
+                                        new IntegratedVariableByte());
+                                testCodec(csvLog, sparsity, c, data, repeat,
+                                        false);
+                                testCodec(csvLog, sparsity, c, data, repeat,
+                                        false);
+                                testCodec(csvLog, sparsity, c, data, repeat,
+                                        true);
+                                System.out.println();
+                        }
+
                         testCodec(csvLog, sparsity, new Composition(
                                 new FastPFOR(), new VariableByte()), data,
                                 repeat, false);
@@ -642,6 +608,28 @@ public class Benchmark {
                                 repeat, true);
                         System.out.println();
 
+                        {
+                                IntegerCODEC c = new IntegratedSimple9();
+                                testCodec(csvLog, sparsity, c, data, repeat,
+                                        false);
+                                testCodec(csvLog, sparsity, c, data, repeat,
+                                        false);
+                                testCodec(csvLog, sparsity, c, data, repeat,
+                                        true);
+                                System.out.println();
+                        }
+
+                        {
+                                IntegerCODEC c = new IntegratedSimple16();
+                                testCodec(csvLog, sparsity, c, data, repeat,
+                                        false);
+                                testCodec(csvLog, sparsity, c, data, repeat,
+                                        false);
+                                testCodec(csvLog, sparsity, c, data, repeat,
+                                        true);
+                                System.out.println();
+                        }
+
                         {
                                 IntegerCODEC c = new Composition(
                                         new XorBinaryPacking(),
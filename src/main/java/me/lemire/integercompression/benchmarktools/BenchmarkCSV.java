@@ -6,6 +6,8 @@ import me.lemire.integercompression.differential.IntegratedByteIntegerCODEC;
 import me.lemire.integercompression.differential.IntegratedComposition;
 import me.lemire.integercompression.differential.IntegratedFastPFOR;
 import me.lemire.integercompression.differential.IntegratedIntegerCODEC;
+import me.lemire.integercompression.differential.IntegratedKamikazeLCPForDelta;
+import me.lemire.integercompression.differential.IntegratedKamikazePForDelta;
 import me.lemire.integercompression.differential.IntegratedVariableByte;
 
 import java.io.*;
@@ -23,11 +25,17 @@ public class BenchmarkCSV {
                 new IntegratedComposition(new IntegratedFastPFOR(),
                         new IntegratedVariableByte()),
                 new IntegratedComposition(new IntegratedBinaryPacking(),
+                        new IntegratedVariableByte()),
+                new IntegratedComposition(new IntegratedKamikazePForDelta(),
+                        new IntegratedVariableByte()),
+                new IntegratedComposition(new IntegratedKamikazeLCPForDelta(),
                         new IntegratedVariableByte()) };
         static IntegratedByteIntegerCODEC bcodecs[] = { new IntegratedVariableByte() };
         static IntegerCODEC regcodecs[] = {
                 new Composition(new FastPFOR(), new VariableByte()),
-                new Composition(new BinaryPacking(), new VariableByte()) };
+                new Composition(new BinaryPacking(), new VariableByte()),
+                new Composition(new KamikazePForDelta(), new VariableByte()),
+                new Composition(new KamikazeLCPForDelta(), new VariableByte()) };
         static ByteIntegerCODEC regbcodecs[] = { new VariableByte() };
 
         private static ArrayList<int[]> loadIntegers(final String filename, final Format f)
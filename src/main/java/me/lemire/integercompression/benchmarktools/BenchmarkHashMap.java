@@ -0,0 +1,105 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ *
+ * (c) Daniel Lemire, http://lemire.me/en/
+ */
+package me.lemire.integercompression.benchmarktools;
+
+import java.text.DecimalFormat;
+import java.util.HashMap;
+import java.util.Random;
+
+import me.lemire.integercompression.IntIntHashMap;
+import me.lemire.integercompression.IntIntHistogram;
+
+/**
+ * Class used to compare the primitive hash maps used by the CODECs
+ * (IntIntHashMap, IntIntHistogram) with java.util.HashMap. (For expert use.)
+ * 
+ * @author Daniel Lemire
+ * 
+ */
+public class BenchmarkHashMap {
+
+        private static void test(int distinct, boolean verbose) {
+                DecimalFormat dfspeed = new DecimalFormat("0.0");
+                final int N = 1 << 16;
+                final int times = 50;
+                Random r = new Random(0);
+                int[] values = new int[distinct];
+                for (int k = 0; k < distinct; ++k)
+                        values[k] = r.nextInt();
+                int[] data = new int[N];
+                for (int k = 0; k < N; ++k)
+                        data[k] = values[r.nextInt(distinct)];
+                long histo = 0, boxedhisto = 0, lookup = 0, boxedlookup = 0;
+                long checksum = 0;
+                IntIntHistogram histogram = new IntIntHistogram(16);
+                IntIntHashMap map = new IntIntHashMap(16);
+                HashMap<Integer, Integer> boxed = new HashMap<Integer, Integer>();
+                for (int t = 0; t < times; ++t) {
+                        // counting (one page)
+                        long time1 = System.nanoTime();
+                        histogram.reset();
+                        for (int k = 0; k < N; ++k)
+                                histogram.increment(data[k]);
+                        long time2 = System.nanoTime();
+                        boxed.clear();
+                        for (int k = 0; k < N; ++k) {
+                                Integer c = boxed.get(data[k]);
+                                boxed.put(data[k], c == null ? 1 : c + 1);
+                        }
+                        long time3 = System.nanoTime();
+                        histo += time2 - time1;
+                        boxedhisto += time3 - time2;
+                        if (histogram.size() != boxed.size())
+                                throw new RuntimeException("bug");
+                        // lookups (value to dictionary index)
+                        map.clear();
+                        for (int k = 0; k < distinct; ++k) {
+                                map.put(values[k], k);
+                                boxed.put(values[k], k);
+                        }
+                        time1 = System.nanoTime();
+                        for (int k = 0; k < N; ++k)
+                                checksum += map.get(data[k], -1);
+                        time2 = System.nanoTime();
+                        for (int k = 0; k < N; ++k)
+                                checksum -= boxed.get(data[k]);
+                        time3 = System.nanoTime();
+                        lookup += time2 - time1;
+                        boxedlookup += time3 - time2;
+                }
+                if (checksum != 0)
+                        throw new RuntimeException("bug");
+                if (verbose)
+                        System.out.println("distinct = "
+                                + distinct
+                                + " histogram (ns/value) = "
+                                + dfspeed.format(histo * 1.0 / (N * times))
+                                + " boxed = "
+                                + dfspeed.format(boxedhisto * 1.0
+                                        / (N * times))
+                                + " lookup (ns/value) = "
+                                + dfspeed.format(lookup * 1.0 / (N * times))
+                                + " boxed = "
+                                + dfspeed.format(boxedlookup * 1.0
+                                        / (N * times)));
+        }
+
+        /**
+         * Main method
+         * 
+         * @param args
+         *                command-line arguments
+         */
+        public static void main(String[] args) {
+                System.out.println("Comparing with java.util.HashMap");
+                for (int distinct = 16; distinct <= 65536; distinct *= 16)
+                        test(distinct, false);
+                for (int distinct = 16; distinct <= 65536; distinct *= 16)
+                        test(distinct, true);
+        }
+
+}
@@ -0,0 +1,203 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ *
+ * (c) Daniel Lemire, http://lemire.me/en/
+ */
+package me.lemire.integercompression.benchmarktools;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import me.lemire.integercompression.BinaryPacking;
+import me.lemire.integercompression.Composition;
+import me.lemire.integercompression.FastPFOR;
+import me.lemire.integercompression.IntWrapper;
+import me.lemire.integercompression.IntegerCODEC;
+import me.lemire.integercompression.JustCopy;
+import me.lemire.integercompression.KamikazeLCPForDelta;
+import me.lemire.integercompression.KamikazePForDelta;
+import me.lemire.integercompression.NewPFD;
+import me.lemire.integercompression.OptPFD;
+import me.lemire.integercompression.Simple9;
+import me.lemire.integercompression.VariableByte;
+import me.lemire.integercompression.differential.Delta;
+import me.lemire.integercompression.differential.IntegratedBinaryPacking;
+import me.lemire.integercompression.differential.IntegratedComposition;
+import me.lemire.integercompression.differential.IntegratedFastPFOR;
+import me.lemire.integercompression.differential.IntegratedIntegerCODEC;
+import me.lemire.integercompression.differential.IntegratedVariableByte;
+import me.lemire.integercompression.synth.ClusteredDataGenerator;
+
+/**
+ * Latency-oriented benchmark: instead of the average speed over large arrays,
+ * it measures the time needed to decode one posting list at a time and reports
+ * percentiles (p50, p90, p99, p999). The lengths of the posting lists follow a
+ * log-uniform distribution (most lists are short, a few are long), and the
+ * lists are decoded in random order.
+ *
+ * @author Daniel Lemire
+ */
+public class BenchmarkLatency {
+        private static final int SHORT_LIST = 1024;
+
+        static IntegerCODEC codecs[] = {
+                new JustCopy(),
+                new VariableByte(),
+                new Composition(new BinaryPacking(), new VariableByte()),
+                new Composition(new NewPFD(), new VariableByte()),
+                new Composition(new OptPFD(), new VariableByte()),
+                new Composition(new FastPFOR(), new VariableByte()),
+                new Composition(new KamikazePForDelta(), new VariableByte()),
+                new Composition(new KamikazeLCPForDelta(), new VariableByte()),
+                new Simple9(),
+                new IntegratedComposition(new IntegratedBinaryPacking(),
+                        new IntegratedVariableByte()),
+                new IntegratedComposition(new IntegratedFastPFOR(),
+                        new IntegratedVariableByte()) };
+
+        /**
+         * Generate posting lists whose lengths are log-uniform between 1 and
+         * 2^maxlog.
+         *
+         * @param N
+         *                number of posting lists
+         * @param maxlog
+         *                log2 of the largest length
+         * @param universe
+         *                largest possible value
+         * @return the posting lists
+         */
+        private static int[][] generateTestData(int N, int maxlog,
+                int universe, Random rand) {
+                ClusteredDataGenerator cdg = new ClusteredDataGenerator();
+                int[][] data = new int[N][];
+                for (int k = 0; k < N; ++k) {
+                        int length = (int) Math.pow(2,
+                                rand.nextDouble() * maxlog);
+                        data[k] = cdg.generateClustered(length, universe);
+                }
+                return data;
+        }
+
+        /**
+         * Decode each posting list individually and record the latency.
+         *
+         * @param c
+         *                the codec
+         * @param data
+         *                posting lists
+         * @param order
+         *                order in which the lists are decoded
+         * @param repeat
+         *                how many times to decode each list
+         * @param verbose
+         *                whether to output results on screen
+         */
+        private static void test(IntegerCODEC c, int[][] data, int[] order,
+                int repeat, boolean verbose) {
+                final boolean integrated = c instanceof IntegratedIntegerCODEC;
+                int maxlength = 0;
+                for (int[] d : data)
+                        maxlength = Math.max(maxlength, d.length);
+                int[][] compressed = new int[data.length][];
+                int[] buffer = new int[4 * maxlength + 1024];
+                long size = 0;
+                long totalSize = 0;
+                for (int k = 0; k < data.length; ++k) {
+                        int[] backupdata = Arrays.copyOf(data[k],
+                                data[k].length);
+                        if (!integrated)
+                                Delta.delta(backupdata);
+                        IntWrapper outpos = new IntWrapper();
+                        c.compress(backupdata, new IntWrapper(0),
+                                backupdata.length, buffer, outpos);
+                        compressed[k] = Arrays.copyOf(buffer, outpos.get());
+                        size += outpos.get();
+                        totalSize += data[k].length;
+                }
+
+                LatencyHistogram all = new LatencyHistogram();
+                LatencyHistogram shortlists = new LatencyHistogram();
+                IntWrapper inpos = new IntWrapper();
+                IntWrapper outpos = new IntWrapper();
+                for (int r = 0; r < repeat; ++r) {
+                        for (int k : order) {
+                                long bef = System.nanoTime();
+                                inpos.set(0);
+                                outpos.set(0);
+                                c.uncompress(compressed[k], inpos,
+                                        compressed[k].length, buffer, outpos);
+                                if (!integrated && outpos.get() > 0)
+                                        Delta.fastinverseDelta(buffer, 0,
+                                                outpos.get(), 0);
+                                long aft = System.nanoTime();
+                                all.record(aft - bef);
+                                if (data[k].length <= SHORT_LIST)
+                                        shortlists.record(aft - bef);
+                                if (outpos.get() != data[k].length)
+                                        throw new RuntimeException(
+                                                "we have a bug (diff length) "
+                                                        + c + " expected "
+                                                        + data[k].length
+                                                        + " got "
+                                                        + outpos.get());
+                                if (outpos.get() > 0
+                                        && buffer[outpos.get() - 1] != data[k][data[k].length - 1])
+                                        throw new RuntimeException(
+                                                "we have a bug (actual difference) "
+                                                        + c);
+                        }
+                }
+                if (verbose) {
+                        System.out.println("# " + c.toString());
+                        System.out
+                                .println("# bits per int, lists, p50 (us), p90 (us), p99 (us), p999 (us), max (us)");
+                        report(String.format("%1$.2f", size * 32.0 / totalSize)
+                                + "\tall", all);
+                        report("\tshort (<= " + SHORT_LIST + ")", shortlists);
+                }
+        }
+
+        private static void report(String label, LatencyHistogram h) {
+                System.out.println(String.format(
+                        "%1$s\t%2$.2f\t%3$.2f\t%4$.2f\t%5$.2f\t%6$.2f", label,
+                        h.getValueAtPercentile(50) / 1e3,
+                        h.getValueAtPercentile(90) / 1e3,
+                        h.getValueAtPercentile(99) / 1e3,
+                        h.getValueAtPercentile(99.9) / 1e3, h.getMax() / 1e3));
+        }
+
+        /**
+         * Main method.
+         *
+         * @param args
+         *                command-line arguments (ignored)
+         */
+        public static void main(String[] args) {
+                final int N = 4096;
+                final int maxlog = 17;
+                final int universe = 1 << 25;
+                final int repeat = 10;
+                Random rand = new Random(1234);
+                System.out.println("# generating random data...");
+                int[][] data = generateTestData(N, maxlog, universe, rand);
+                int[] order = new int[N];
+                for (int k = 0; k < N; ++k)
+                        order[k] = k;
+                for (int k = N - 1; k > 0; --k) {
+                        int j = rand.nextInt(k + 1);
+                        int tmp = order[k];
+                        order[k] = order[j];
+                        order[j] = tmp;
+                }
+                System.out.println("# generating random data... ok.");
+                System.out.println();
+                for (IntegerCODEC c : codecs) {
+                        // warm up
+                        test(c, data, order, 2, false);
+                        test(c, data, order, repeat, true);
+                        System.out.println();
+                }
+        }
+}
@@ -0,0 +1,291 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ *
+ * (c) Daniel Lemire, http://lemire.me/en/
+ */
+package me.lemire.integercompression.benchmarktools;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+
+import me.lemire.integercompression.BinaryPacking;
+import me.lemire.integercompression.Composition;
+import me.lemire.integercompression.FastPFOR;
+import me.lemire.integercompression.IntWrapper;
+import me.lemire.integercompression.IntegerCODEC;
+import me.lemire.integercompression.IntegerCODECFactory;
+import me.lemire.integercompression.JustCopy;
+import me.lemire.integercompression.VariableByte;
+import me.lemire.integercompression.differential.Delta;
+import me.lemire.integercompression.differential.IntegratedBinaryPacking;
+import me.lemire.integercompression.differential.IntegratedComposition;
+import me.lemire.integercompression.differential.IntegratedFastPFOR;
+import me.lemire.integercompression.differential.IntegratedIntegerCODEC;
+import me.lemire.integercompression.differential.IntegratedVariableByte;
+import me.lemire.integercompression.synth.ClusteredDataGenerator;
+
+/**
+ * Measures how decompression speed scales with the number of threads. A corpus
+ * of posting lists is compressed once and shared (read-only) between all
+ * threads; each thread uses its own CODEC instance and its own output buffer,
+ * and decodes a disjoint subset of the lists. For 1 to N threads, we report
+ * the aggregate speed (millions of integers per second) and latency
+ * percentiles for the decoding of a single list.
+ *
+ * When the aggregate speed stops increasing with the number of threads, the
+ * CODEC is bound by memory bandwidth (compare with JustCopy).
+ *
+ * Usage: BenchmarkMultiThreaded [maximum number of threads]
+ *
+ * @author Daniel Lemire
+ */
+public class BenchmarkMultiThreaded {
+
+        private static final IntegerCODECFactory[] factories = {
+                new IntegerCODECFactory() {
+                        @Override
+                        public IntegerCODEC newCodec() {
+                                return new JustCopy();
+                        }
+                }, new IntegerCODECFactory() {
+                        @Override
+                        public IntegerCODEC newCodec() {
+                                return new Composition(new BinaryPacking(),
+                                        new VariableByte());
+                        }
+                }, new IntegerCODECFactory() {
+                        @Override
+                        public IntegerCODEC newCodec() {
+                                return new Composition(new FastPFOR(),
+                                        new VariableByte());
+                        }
+                }, new IntegerCODECFactory() {
+                        @Override
+                        public IntegerCODEC newCodec() {
+                                return new IntegratedComposition(
+                                        new IntegratedBinaryPacking(),
+                                        new IntegratedVariableByte());
+                        }
+                }, new IntegerCODECFactory() {
+                        @Override
+                        public IntegerCODEC newCodec() {
+                                return new IntegratedComposition(
+                                        new IntegratedFastPFOR(),
+                                        new IntegratedVariableByte());
+                        }
+                } };
+
+        /**
+         * Compress the corpus once, with a single instance of the CODEC.
+         */
+        private static int[][] compressCorpus(IntegerCODEC c, int[][] data) {
+                int[][] compressed = new int[data.length][];
+                for (int k = 0; k < data.length; ++k) {
+                        int[] backupdata = Arrays.copyOf(data[k],
+                                data[k].length);
+                        if (!(c instanceof IntegratedIntegerCODEC))
+                                Delta.delta(backupdata);
+                        int[] buffer = new int[4 * backupdata.length + 1024];
+                        IntWrapper outpos = new IntWrapper();
+                        c.compress(backupdata, new IntWrapper(), backupdata.length,
+                                buffer, outpos);
+                        compressed[k] = Arrays.copyOf(buffer, outpos.get());
+                }
+                return compressed;
+        }
+
+        /**
+         * Decodes the lists id, id + threads, id + 2 * threads, ... repeatedly,
+         * recording the latency of each decoding.
+         */
+        private static final class Worker extends Thread {
+                final IntegerCODEC codec;
+                final int[][] compressed;
+                final int[] lengths;
+                final int id;
+                final int threads;
+                final int repeat;
+                final CountDownLatch start;
+                final int[] buffer;
+                final LatencyHistogram latencies = new LatencyHistogram();
+                long decoded = 0;
+                int checksum = 0;
+
+                Worker(IntegerCODEC codec, int[][] compressed, int[] lengths,
+                        int maxlength, int id, int threads, int repeat,
+                        CountDownLatch start) {
+                        this.codec = codec;
+                        this.compressed = compressed;
+                        this.lengths = lengths;
+                        this.id = id;
+                        this.threads = threads;
+                        this.repeat = repeat;
+                        this.start = start;
+                        this.buffer = new int[maxlength + 1024];
+                }
+
+                @Override
+                public void run() {
+                        try {
+                                start.await();
+                        } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                                return;
+                        }
+                        final boolean integrated = codec instanceof IntegratedIntegerCODEC;
+                        IntWrapper inpos = new IntWrapper();
+                        IntWrapper outpos = new IntWrapper();
+                        for (int r = 0; r < repeat; ++r) {
+                                for (int k = id; k < compressed.length; k += threads) {
+                                        long bef = System.nanoTime();
+                                        inpos.set(0);
+                                        outpos.set(0);
+                                        codec.uncompress(compressed[k], inpos,
+                                                compressed[k].length, buffer,
+                                                outpos);
+                                        if (!integrated)
+                                                Delta.fastinverseDelta(buffer,
+                                                        0, outpos.get(), 0);
+                                        latencies.record(System.nanoTime()
+                                                - bef);
+                                        if (outpos.get() != lengths[k])
+                                                throw new RuntimeException(
+                                                        "we have a bug (diff length) "
+                                                                + codec
+                                                                + " expected "
+                                                                + lengths[k]
+                                                                + " got "
+                                                                + outpos.get());
+                                        decoded += outpos.get();
+                                        checksum += buffer[outpos.get() - 1];
+                                }
+                        }
+                }
+        }
+
+        // prevents the JIT from discarding the decoded values
+        static volatile int bogus = 0;
+
+        /**
+         * Decode the shared corpus with the given number of threads.
+         *
+         * @param factory
+         *                creates one CODEC per thread
+         * @param compressed
+         *                shared compressed corpus
+         * @param data
+         *                original data (used for lengths)
+         * @param threads
+         *                number of threads
+         * @param repeat
+         *                how many times each thread decodes its lists
+         * @param verbose
+         *                whether to output results on screen
+         * @throws InterruptedException
+         *                 if interrupted while waiting for the threads
+         */
+        private static void test(IntegerCODECFactory factory,
+                int[][] compressed, int[][] data, int threads, int repeat,
+                boolean verbose)
+                throws InterruptedException {
+                int[] lengths = new int[data.length];
+                int maxlength = 0;
+                for (int k = 0; k < data.length; ++k) {
+                        lengths[k] = data[k].length;
+                        maxlength = Math.max(maxlength, data[k].length);
+                }
+                CountDownLatch start = new CountDownLatch(1);
+                Worker[] workers = new Worker[threads];
+                for (int t = 0; t < threads; ++t) {
+                        workers[t] = new Worker(factory.newCodec(), compressed,
+                                lengths, maxlength, t, threads, repeat, start);
+                        workers[t].start();
+                }
+                long bef = System.nanoTime();
+                start.countDown();
+                for (Worker w : workers)
+                        w.join();
+                long aft = System.nanoTime();
+
+                long decoded = 0;
+                int checksum = 0;
+                long worstp99 = 0;
+                LatencyHistogram pooled = new LatencyHistogram();
+                for (Worker w : workers) {
+                        decoded += w.decoded;
+                        checksum += w.checksum;
+                        worstp99 = Math.max(worstp99,
+                                w.latencies.getValueAtPercentile(99));
+                        pooled.add(w.latencies);
+                }
+                if (verbose)
+                        System.out.println(String.format(
+                                "%1$d\t%2$.0f\t%3$.1f\t%4$.1f\t%5$.1f\t%6$.1f",
+                                threads, decoded * 1e3 / (aft - bef),
+                                pooled.getValueAtPercentile(50) / 1e3,
+                                pooled.getValueAtPercentile(99) / 1e3,
+                                pooled.getValueAtPercentile(99.9) / 1e3,
+                                worstp99 / 1e3));
+                bogus += checksum;
+        }
+
+        /**
+         * Generate test data.
+         *
+         * @param N
+         *                How many input arrays to generate
+         * @param nbr
+         *                How big (in log2) should the arrays be
+         * @param sparsity
+         *                How sparse test data generated
+         */
+        private static int[][] generateTestData(int N, int nbr, int sparsity) {
+                ClusteredDataGenerator cdg = new ClusteredDataGenerator();
+                final int[][] data = new int[N][];
+                final int dataSize = (1 << (nbr + sparsity));
+                for (int i = 0; i < N; ++i) {
+                        data[i] = cdg.generateClustered((1 << nbr), dataSize);
+                }
+                return data;
+        }
+
+        /**
+         * Main method.
+         *
+         * @param args
+         *                command-line arguments: optionally, the maximal
+         *                number of threads (default: number of processors)
+         * @throws InterruptedException
+         *                 if interrupted while waiting for the threads
+         */
+        public static void main(String[] args) throws InterruptedException {
+                int maxthreads = Runtime.getRuntime().availableProcessors();
+                if (args.length > 0)
+                        maxthreads = Integer.parseInt(args[0]);
+                final int N = 512;
+                final int nbr = 16;
+                final int repeat = 5;
+                for (int sparsity = 1; sparsity < 31 - nbr; sparsity += 4) {
+                        System.out.println("# sparsity " + sparsity);
+                        System.out.println("# generating random data...");
+                        int[][] data = generateTestData(N, nbr, sparsity);
+                        System.out.println("# generating random data... ok.");
+                        for (IntegerCODECFactory f : factories) {
+                                IntegerCODEC c = f.newCodec();
+                                int[][] compressed = compressCorpus(c, data);
+                                System.out.println("# " + c.toString());
+                                System.out
+                                        .println("# threads, decompression speed (mis), p50 (us), p99 (us), p999 (us), worst thread p99 (us)");
+                                // warm up
+                                test(f, compressed, data, 1, repeat, false);
+                                for (int t = 1; t <= maxthreads; t = t < maxthreads
+                                        && 2 * t > maxthreads ? maxthreads
+                                        : 2 * t)
+                                        test(f, compressed, data, t, repeat,
+                                                true);
+                                System.out.println();
+                        }
+                }
+        }
+}
@@ -0,0 +1,134 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ *
+ * (c) Daniel Lemire, http://lemire.me/en/
+ */
+package me.lemire.integercompression.benchmarktools;
+
+import java.util.Arrays;
+
+/**
+ * Histogram of latencies (e.g., in nanoseconds) in the style of HdrHistogram:
+ * each power of two is divided into 64 linear buckets so that the recorded
+ * values are accurate to within 2% whatever their magnitude. Recording a
+ * value takes constant time and does not allocate.
+ *
+ * This class is not thread-safe: each thread should record into its own
+ * histogram; histograms can then be combined with add.
+ *
+ * @author Daniel Lemire
+ */
+public final class LatencyHistogram {
+        private static final int SUB_BUCKET_BITS = 7;
+        private static final int SUB_BUCKET_MASK = (1 << SUB_BUCKET_BITS) - 1;
+
+        private final long[] counts = new long[(64 - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS];
+        private long totalCount = 0;
+        private long max = 0;
+        private long min = Long.MAX_VALUE;
+
+        private static int indexOf(long value) {
+                final int exponent = 64 - Long.numberOfLeadingZeros(value)
+                        - SUB_BUCKET_BITS;
+                if (exponent <= 0)
+                        return (int) value;
+                return (exponent << SUB_BUCKET_BITS)
+                        + (int) (value >>> exponent);
+        }
+
+        private static long highestValueAt(int index) {
+                final int exponent = index >>> SUB_BUCKET_BITS;
+                final long mantissa = index & SUB_BUCKET_MASK;
+                if (exponent == 0)
+                        return mantissa;
+                return ((mantissa + 1) << exponent) - 1;
+        }
+
+        /**
+         * Record a value.
+         *
+         * @param value
+         *                value to record (must be non-negative)
+         */
+        public void record(long value) {
+                if (value < 0)
+                        throw new IllegalArgumentException(
+                                "negative values are not supported: " + value);
+                ++counts[indexOf(value)];
+                ++totalCount;
+                if (value > max)
+                        max = value;
+                if (value < min)
+                        min = value;
+        }
+
+        /**
+         * Add all values recorded in another histogram to this histogram.
+         *
+         * @param other
+         *                another histogram
+         */
+        public void add(LatencyHistogram other) {
+                for (int k = 0; k < counts.length; ++k)
+                        counts[k] += other.counts[k];
+                totalCount += other.totalCount;
+                max = Math.max(max, other.max);
+                min = Math.min(min, other.min);
+        }
+
+        /**
+         * Remove all recorded values.
+         */
+        public void reset() {
+                Arrays.fill(counts, 0);
+                totalCount = 0;
+                max = 0;
+                min = Long.MAX_VALUE;
+        }
+
+        /**
+         * @return number of recorded values
+         */
+        public long getTotalCount() {
+                return totalCount;
+        }
+
+        /**
+         * @return largest recorded value (0 if empty)
+         */
+        public long getMax() {
+                return max;
+        }
+
+        /**
+         * @return smallest recorded value (0 if empty)
+         */
+        public long getMin() {
+                return totalCount == 0 ? 0 : min;
+        }
+
+        /**
+         * Get the value at a given percentile: at least percentile % of the
+         * recorded values are smaller or equal to the returned value (within
+         * the precision of the histogram).
+         *
+         * @param percentile
+         *                percentile between 0 and 100 (e.g., 99.9)
+         * @return value at this percentile (0 if empty)
+         */
+        public long getValueAtPercentile(double percentile) {
+                if (totalCount == 0)
+                        return 0;
+                long target = (long) Math.ceil(percentile / 100.0 * totalCount);
+                if (target < 1)
+                        target = 1;
+                long cumulative = 0;
+                for (int k = 0; k < counts.length; ++k) {
+                        cumulative += counts[k];
+                        if (cumulative >= target)
+                                return Math.min(highestValueAt(k), max);
+                }
+                return max;
+        }
+}
@@ -147,4 +147,62 @@ public final class Delta {
                 return data[start + length - 1];
         }
 
+        /**
+         * Compute XOR differential coding given an initial value: each output
+         * integer is the XOR of an input integer with the previous one. The
+         * iterations are independent so that the JIT compiler can vectorize
+         * the loop. Output is written to a provided array: must have length
+         * "length" or better.
+         * 
+         * @param data
+         *                input array
+         * @param start
+         *                starting index
+         * @param length
+         *                number of integers to process
+         * @param init
+         *                initial value
+         * @param out
+         *                output array
+         * @return next initial value
+         */
+        public static int xor(int[] data, int start, int length, int init,
+                int[] out) {
+                for (int i = length - 1; i > 0; --i) {
+                        out[i] = data[start + i] ^ data[start + i - 1];
+                }
+                out[0] = data[start] ^ init;
+                return data[start + length - 1];
+        }
+
+        /**
+         * Undo XOR differential coding (in-place). Effectively computes a
+         * prefix XOR. Uses an initial value.
+         * 
+         * @param data
+         *                to be modified
+         * @param start
+         *                starting index
+         * @param length
+         *                number of integers to process
+         * @param init
+         *                initial value
+         * @return next initial value
+         */
+        public static int fastinverseXor(int[] data, int start, int length,
+                int init) {
+                int a = init;
+                int i = start;
+                for (final int end4 = start + length / 4 * 4; i < end4; i += 4) {
+                        a = data[i] ^= a;
+                        a = data[i + 1] ^= a;
+                        a = data[i + 2] ^= a;
+                        a = data[i + 3] ^= a;
+                }
+                for (final int end = start + length; i < end; ++i) {
+                        a = data[i] ^= a;
+                }
+                return a;
+        }
+
 }
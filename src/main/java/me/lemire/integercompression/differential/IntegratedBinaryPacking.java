@@ -7,6 +7,9 @@
 
 package me.lemire.integercompression.differential;
 
+import me.lemire.integercompression.Aggregate;
+import me.lemire.integercompression.BitPacking;
+import me.lemire.integercompression.BlockIterator;
 import me.lemire.integercompression.IntWrapper;
 import me.lemire.integercompression.Util;
 
@@ -16,6 +19,9 @@ import me.lemire.integercompression.Util;
  * You should only use this scheme on sorted arrays. Use BinaryPacking if you
  * have unsorted arrays.
  * 
+ * Data produced by IntegratedBinaryPacking (alone, not within a Composition)
+ * can be uncompressed in place, using a single array: see uncompressInPlace.
+ * 
  * It encodes integers in blocks of 128 integers. For arrays containing
  * an arbitrary number of integers, you should use it in conjunction
  * with another CODEC: 
@@ -122,6 +128,196 @@ public class IntegratedBinaryPacking implements IntegratedIntegerCODEC {
                 inpos.set(tmpinpos);
         }
 
+        /**
+         * Aggregate compressed data without uncompressing it to an array. The
+         * list being sorted, MIN is the first integer (only the first
+         * miniblock is unpacked) and MAX is the last one. SUM and MAX unpack
+         * the differences of each miniblock to a small buffer and fuse the
+         * prefix sum with the accumulation; miniblocks using 0 bits (runs of
+         * equal integers) are not unpacked, and miniblocks using 32 bits
+         * hold the integers themselves. COUNT only reads the headers.
+         * See Aggregate.
+         * 
+         * @param in
+         *                array containing data in compressed form
+         * @param inpos
+         *                where the compressed data starts (modified)
+         * @param inlength
+         *                length of the compressed data
+         * @param op
+         *                Aggregate.SUM, MIN, MAX or COUNT
+         * @return the aggregate
+         */
+        public long aggregate(int[] in, IntWrapper inpos, int inlength, int op) {
+                long acc = Aggregate.initial(op);
+                if (inlength == 0)
+                        return acc;
+                final int[] buffer = new int[32];
+                final int outlength = in[inpos.get()];
+                int tmpinpos = inpos.get() + 1;
+                // last integer so far
+                int value = 0;
+                long sum = 0;
+                for (int s = 0; s < outlength; s += 128) {
+                        final int header = in[tmpinpos++];
+                        for (int k = 0; k < 4; ++k) {
+                                final int mbits = (header >>> (24 - 8 * k)) & 0xFF;
+                                if (op == Aggregate.MIN && s + k == 0) {
+                                        BitPacking.fastunpack(in, tmpinpos,
+                                                buffer, 0, mbits);
+                                        acc = buffer[0];
+                                } else if (op == Aggregate.SUM
+                                        || op == Aggregate.MAX) {
+                                        if (mbits == 0) {
+                                                sum += 32L * value;
+                                        } else if (mbits == 32) {
+                                                // absolute values, not
+                                                // differences (see
+                                                // integratedpack32)
+                                                BitPacking.fastunpack(in,
+                                                        tmpinpos, buffer, 0,
+                                                        32);
+                                                for (int j = 0; j < 32; ++j)
+                                                        sum += buffer[j];
+                                                value = buffer[31];
+                                        } else {
+                                                BitPacking.fastunpack(in,
+                                                        tmpinpos, buffer, 0,
+                                                        mbits);
+                                                for (int j = 0; j < 32; ++j) {
+                                                        value += buffer[j];
+                                                        sum += value;
+                                                }
+                                        }
+                                }
+                                tmpinpos += mbits;
+                        }
+                }
+                inpos.set(tmpinpos);
+                if (op == Aggregate.SUM)
+                        return sum;
+                if (op == Aggregate.MAX)
+                        return value;
+                if (op == Aggregate.COUNT)
+                        return outlength;
+                return acc;
+        }
+
+        /**
+         * Iterate over compressed data, uncompressing one block of 128
+         * integers at a time (prefix sum included).
+         * 
+         * @param in
+         *                array containing data in compressed form
+         * @param inpos
+         *                where the compressed data starts
+         * @param inlength
+         *                length of the compressed data
+         * @return an iterator over the uncompressed integers
+         */
+        public BlockIterator iterator(int[] in, int inpos, int inlength) {
+                return new Iterator(in, inpos, inlength == 0 ? 0 : in[inpos]);
+        }
+
+        private static final class Iterator extends BlockIterator {
+                final int[] in;
+                int tmpinpos;
+                int initoffset = 0;
+
+                Iterator(int[] in, int inpos, int outlength) {
+                        super(outlength);
+                        this.in = in;
+                        this.tmpinpos = inpos + 1;
+                }
+
+                @Override
+                protected int decodeBlock(int[] out) {
+                        final int header = in[tmpinpos++];
+                        final int mbits1 = (header >>> 24);
+                        final int mbits2 = (header >>> 16) & 0xFF;
+                        final int mbits3 = (header >>> 8) & 0xFF;
+                        final int mbits4 = (header) & 0xFF;
+                        IntegratedBitPacking.integratedunpack(initoffset, in,
+                                tmpinpos, out, 0, mbits1);
+                        tmpinpos += mbits1;
+                        IntegratedBitPacking.integratedunpack(out[31], in,
+                                tmpinpos, out, 32, mbits2);
+                        tmpinpos += mbits2;
+                        IntegratedBitPacking.integratedunpack(out[63], in,
+                                tmpinpos, out, 64, mbits3);
+                        tmpinpos += mbits3;
+                        IntegratedBitPacking.integratedunpack(out[95], in,
+                                tmpinpos, out, 96, mbits4);
+                        tmpinpos += mbits4;
+                        initoffset = out[127];
+                        return 128;
+                }
+        }
+
+        /**
+         * Minimal length of a buffer in which outlength integers can be
+         * uncompressed in place. The compressed data should be stored at the
+         * end of the buffer and uncompressed to the beginning of the buffer.
+         * 
+         * @param outlength
+         *                number of uncompressed integers
+         * @return minimal buffer length
+         */
+        public static int inPlaceBufferLength(int outlength) {
+                return outlength + (outlength + 127) / 128 + 32;
+        }
+
+        /**
+         * Uncompress data in place: the compressed data and the uncompressed
+         * output share the same array. This is safe when the compressed data
+         * starts at or after the output position and ends at least
+         * inPlaceBufferLength(n) integers after it, where n is the number of
+         * uncompressed integers. Disjoint ranges are also accepted.
+         * 
+         * @param buffer
+         *                array containing the compressed data, receives the
+         *                uncompressed data
+         * @param inpos
+         *                where the compressed data starts (modified)
+         * @param inlength
+         *                length of the compressed data (the end of the data
+         *                used by the safety check is read from its headers)
+         * @param outpos
+         *                where to write the uncompressed data (modified)
+         * @throws IllegalArgumentException
+         *                 if the layout is not safe
+         */
+        public void uncompressInPlace(int[] buffer, IntWrapper inpos,
+                int inlength, IntWrapper outpos) {
+                if (inlength == 0)
+                        return;
+                final int outlength = buffer[inpos.get()];
+                // the caller may pass the rest of the buffer as inlength
+                final int end = compressedEnd(buffer, inpos.get());
+                final boolean overlap = inpos.get() < outpos.get() + outlength
+                        && outpos.get() < end;
+                if (overlap
+                        && (outpos.get() > inpos.get() || end
+                                - outpos.get() < inPlaceBufferLength(outlength)))
+                        throw new IllegalArgumentException(
+                                "compressed data must start at or after the output position and end at least "
+                                        + inPlaceBufferLength(outlength)
+                                        + " integers after it");
+                uncompress(buffer, inpos, inlength, buffer, outpos);
+        }
+
+        // Position following the compressed data starting at inpos, located
+        // from the block headers.
+        private static int compressedEnd(int[] in, int inpos) {
+                final int outlength = in[inpos++];
+                for (int s = 0; s < outlength; s += 128) {
+                        final int header = in[inpos++];
+                        inpos += (header >>> 24) + ((header >>> 16) & 0xFF)
+                                + ((header >>> 8) & 0xFF) + (header & 0xFF);
+                }
+                return inpos;
+        }
+
         @Override
         public String toString() {
                 return this.getClass().getSimpleName();
@@ -42,9 +42,10 @@ public class IntegratedComposition implements IntegratedIntegerCODEC {
                 if (inlength == 0)
                         return;
                 final int init = inpos.get();
+                final int outinit = outpos.get();
                 F1.compress(in, inpos, inlength, out, outpos);
-                if (outpos.get() == 0) {
-                        out[0] = 0;
+                if (outpos.get() == outinit) {
+                        out[outinit] = 0;
                         outpos.increment();
                 }
                 inlength -= inpos.get() - init;
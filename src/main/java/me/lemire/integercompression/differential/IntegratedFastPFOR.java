@@ -10,6 +10,7 @@ import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 import me.lemire.integercompression.BitPacking;
+import me.lemire.integercompression.BlockIterator;
 import me.lemire.integercompression.IntWrapper;
 import me.lemire.integercompression.IntegerCODEC;
 import me.lemire.integercompression.Util;
@@ -66,6 +67,7 @@ public final class IntegratedFastPFOR implements IntegratedIntegerCODEC {
         int[] dataPointers;
         int[] freqs;
         byte[] bestbbestcexceptmaxb;
+        final int[] exceptPositions = new int[BLOCK_SIZE];
 
         /**
          * Construct the FastPFOR CODEC.
@@ -288,30 +290,136 @@ public final class IntegratedFastPFOR implements IntegratedIntegerCODEC {
                 int tmpoutpos = outpos.get();
                 int tmpinpos = inpos.get();
 
+                int offset = initoffset.intValue();
                 for (int run = 0, run_end = thissize / BLOCK_SIZE; run < run_end; ++run, tmpoutpos += BLOCK_SIZE) {
                         final byte b = byteContainer.get();
                         final byte cexcept = byteContainer.get();
-                        for (int k = 0; k < 128; k += 32) {
-                                BitPacking.fastunpack(in, tmpinpos, out,
-                                        tmpoutpos + k, b);
-                                tmpinpos += b;
-                        }
                         if (cexcept > 0) {
                                 final byte maxbits = byteContainer.get();
                                 final int index = maxbits - b;
-                                for (int k = 0; k < cexcept; ++k) {
-                                        final byte pos = byteContainer.get();
-                                        final int exceptvalue = dataTobePacked[index][dataPointers[index]++];
-                                        out[pos + tmpoutpos] |= exceptvalue << b;
-                                }
-                        }
-                        initoffset.set(Delta.fastinverseDelta(out, tmpoutpos,
-                                BLOCK_SIZE, initoffset.intValue()));
+                                for (int k = 0; k < cexcept; ++k)
+                                        exceptPositions[k] = byteContainer.get();
+                                offset = IntegratedUnpacking.unpackPatched128(
+                                        offset, in, tmpinpos, out, tmpoutpos,
+                                        b, dataTobePacked[index],
+                                        dataPointers[index], exceptPositions,
+                                        0, cexcept);
+                                dataPointers[index] += cexcept;
+                        } else
+                                offset = IntegratedUnpacking.unpack128(offset,
+                                        in, tmpinpos, out, tmpoutpos, b);
+                        tmpinpos += 4 * b;
                 }
+                initoffset.set(offset);
                 outpos.set(tmpoutpos);
                 inpos.set(inexcept);
         }
 
+        /**
+         * Iterate over compressed data, uncompressing one block of 128
+         * integers at a time (prefix sum included). The exceptions of a page
+         * are unpacked when the iterator enters the page. The iterator has
+         * its own working area: it does not share the state of this CODEC.
+         * 
+         * @param in
+         *                array containing data in compressed form
+         * @param inpos
+         *                where the compressed data starts
+         * @param inlength
+         *                length of the compressed data
+         * @return an iterator over the uncompressed integers
+         */
+        public BlockIterator iterator(int[] in, int inpos, int inlength) {
+                return new Iterator(in, inpos, inlength == 0 ? 0 : in[inpos],
+                        pageSize);
+        }
+
+        private static final class Iterator extends BlockIterator {
+                final int[] in;
+                final int pageSize;
+                final int[][] exceptions = new int[33][];
+                final int[] exceptionPointers = new int[33];
+                final int[] exceptPositions = new int[BLOCK_SIZE];
+                int initoffset = 0;
+                // where the next page starts
+                int inpos;
+                int left;
+                int pageLeft = 0;
+                int tmpinpos;
+                // metadata bytes of the current page (big endian)
+                int metapos;
+                int bytepos;
+
+                Iterator(int[] in, int inpos, int outlength, int pageSize) {
+                        super(outlength);
+                        this.in = in;
+                        this.inpos = inpos + 1;
+                        this.left = outlength;
+                        this.pageSize = pageSize;
+                }
+
+                private int nextByte() {
+                        final int word = in[metapos + (bytepos >>> 2)];
+                        final int answer = (word >>> (24 - ((bytepos & 3) << 3))) & 0xFF;
+                        ++bytepos;
+                        return answer;
+                }
+
+                private void loadPage() {
+                        pageLeft = Math.min(pageSize, left);
+                        tmpinpos = inpos + 1;
+                        int inexcept = inpos + in[inpos];
+                        final int bytesize = in[inexcept++];
+                        metapos = inexcept;
+                        bytepos = 0;
+                        inexcept += (bytesize + 3) / 4;
+                        final int bitmap = in[inexcept++];
+                        for (int k = 1; k <= 32; ++k) {
+                                exceptionPointers[k] = 0;
+                                if ((bitmap & (1 << (k - 1))) != 0) {
+                                        int size = in[inexcept++];
+                                        if (exceptions[k] == null
+                                                || exceptions[k].length < size)
+                                                exceptions[k] = new int[Util
+                                                        .floorBy(size + 31, 32)];
+                                        for (int j = 0; j < size; j += 32) {
+                                                BitPacking.fastunpack(in,
+                                                        inexcept,
+                                                        exceptions[k], j, k);
+                                                inexcept += k;
+                                        }
+                                }
+                        }
+                        inpos = inexcept;
+                }
+
+                @Override
+                protected int decodeBlock(int[] out) {
+                        if (pageLeft == 0)
+                                loadPage();
+                        final int b = nextByte();
+                        final int cexcept = nextByte();
+                        if (cexcept > 0) {
+                                final int index = nextByte() - b;
+                                for (int k = 0; k < cexcept; ++k)
+                                        exceptPositions[k] = nextByte();
+                                initoffset = IntegratedUnpacking
+                                        .unpackPatched128(initoffset, in,
+                                                tmpinpos, out, 0, b,
+                                                exceptions[index],
+                                                exceptionPointers[index],
+                                                exceptPositions, 0, cexcept);
+                                exceptionPointers[index] += cexcept;
+                        } else
+                                initoffset = IntegratedUnpacking.unpack128(
+                                        initoffset, in, tmpinpos, out, 0, b);
+                        tmpinpos += 4 * b;
+                        pageLeft -= BLOCK_SIZE;
+                        left -= BLOCK_SIZE;
+                        return BLOCK_SIZE;
+                }
+        }
+
         @Override
         public String toString() {
                 return this.getClass().getSimpleName();
@@ -0,0 +1,92 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ *
+ * (c) Daniel Lemire, http://lemire.me/en/
+ */
+package me.lemire.integercompression.differential;
+
+import me.lemire.integercompression.IntWrapper;
+
+import com.kamikaze.pfordelta.LCPForDelta;
+
+/**
+ * The Lucene-tuned PForDelta from the kamikaze library
+ * (com.kamikaze.pfordelta.LCPForDelta) wrapped as an IntegratedIntegerCODEC so
+ * that it can be benchmarked and composed like the other schemes. The working
+ * areas of the LCPForDelta object are reused from one block to the next.
+ *
+ * This is an integrated version meaning that it computes differential coding
+ * as part of the compression: the deltas of a block are computed before it is
+ * compressed directly into the output array and the prefix sum is computed
+ * in place after a block is decompressed directly from the input array. The
+ * output is the same as KamikazeLCPForDelta applied to the successive
+ * differences.
+ *
+ * It encodes integers in blocks of 128 integers, the kamikaze blocks being
+ * written one after the other. For arrays containing an arbitrary number of
+ * integers, you should use it in conjunction with another CODEC:
+ *
+ * <pre>
+ * IntegratedIntegerCODEC is = new IntegratedComposition(new IntegratedKamikazeLCPForDelta(),
+ *         new IntegratedVariableByte())
+ * </pre>
+ *
+ * You should only use this scheme on sorted arrays. The differences must be
+ * smaller than 2^31 (kamikaze relies on signed comparisons).
+ *
+ * For multi-threaded applications, each thread should use its own
+ * IntegratedKamikazeLCPForDelta object.
+ *
+ * @author Daniel Lemire
+ *
+ */
+public final class IntegratedKamikazeLCPForDelta implements
+        IntegratedIntegerCODEC {
+        final static int BlockSize = 128;
+        final int[] block = new int[BlockSize];
+        final LCPForDelta codec = new LCPForDelta();
+
+        @Override
+        public void compress(int[] in, IntWrapper inpos, int inlength,
+                int[] out, IntWrapper outpos) {
+                inlength = inlength / BlockSize * BlockSize;
+                if (inlength == 0)
+                        return;
+                int tmpinpos = inpos.get();
+                int tmpoutpos = outpos.get();
+                out[tmpoutpos++] = inlength;
+                int initoffset = 0;
+                for (final int finalinpos = tmpinpos + inlength; tmpinpos < finalinpos; tmpinpos += BlockSize) {
+                        initoffset = Delta.delta(in, tmpinpos, BlockSize,
+                                initoffset, block);
+                        tmpoutpos += codec.compress(block, 0, BlockSize, out,
+                                tmpoutpos);
+                }
+                inpos.set(tmpinpos);
+                outpos.set(tmpoutpos);
+        }
+
+        @Override
+        public void uncompress(int[] in, IntWrapper inpos, int inlength,
+                int[] out, IntWrapper outpos) {
+                if (inlength == 0)
+                        return;
+                int tmpinpos = inpos.get();
+                int tmpoutpos = outpos.get();
+                int initoffset = 0;
+                for (final int finaloutpos = tmpoutpos + in[tmpinpos++]; tmpoutpos < finaloutpos; tmpoutpos += BlockSize) {
+                        tmpinpos += codec.decompress(in, tmpinpos, out,
+                                tmpoutpos, BlockSize);
+                        for (int k = tmpoutpos; k < tmpoutpos + BlockSize; ++k)
+                                initoffset = out[k] += initoffset;
+                }
+                inpos.set(tmpinpos);
+                outpos.set(tmpoutpos);
+        }
+
+        @Override
+        public String toString() {
+                return this.getClass().getSimpleName();
+        }
+}
@@ -0,0 +1,92 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ *
+ * (c) Daniel Lemire, http://lemire.me/en/
+ */
+package me.lemire.integercompression.differential;
+
+import me.lemire.integercompression.IntWrapper;
+
+import com.kamikaze.pfordelta.PForDelta;
+
+/**
+ * PForDelta from the kamikaze library (com.kamikaze.pfordelta.PForDelta)
+ * wrapped as an IntegratedIntegerCODEC so that it can be benchmarked and
+ * composed like the other schemes.
+ *
+ * This is an integrated version meaning that it computes differential coding
+ * as part of the compression: the deltas of a block are computed before it is
+ * compressed directly into the output array and the prefix sum is computed
+ * in place after a block is decompressed directly from the input array. The
+ * output is the same as KamikazePForDelta applied to the successive
+ * differences.
+ *
+ * It encodes integers in blocks of 128 integers, the kamikaze blocks being
+ * written one after the other. For arrays containing an arbitrary number of
+ * integers, you should use it in conjunction with another CODEC:
+ *
+ * <pre>
+ * IntegratedIntegerCODEC is = new IntegratedComposition(new IntegratedKamikazePForDelta(),
+ *         new IntegratedVariableByte())
+ * </pre>
+ *
+ * You should only use this scheme on sorted arrays. The differences must be
+ * smaller than 2^31 (kamikaze relies on signed comparisons).
+ *
+ * For multi-threaded applications, each thread should use its own
+ * IntegratedKamikazePForDelta object.
+ *
+ * @author Daniel Lemire
+ *
+ */
+public final class IntegratedKamikazePForDelta implements
+        IntegratedIntegerCODEC {
+        final static int BlockSize = 128;
+        final int[] block = new int[BlockSize];
+        // working area of the exceptions
+        final int[] expAux = new int[2 * BlockSize];
+
+        @Override
+        public void compress(int[] in, IntWrapper inpos, int inlength,
+                int[] out, IntWrapper outpos) {
+                inlength = inlength / BlockSize * BlockSize;
+                if (inlength == 0)
+                        return;
+                int tmpinpos = inpos.get();
+                int tmpoutpos = outpos.get();
+                out[tmpoutpos++] = inlength;
+                int initoffset = 0;
+                for (final int finalinpos = tmpinpos + inlength; tmpinpos < finalinpos; tmpinpos += BlockSize) {
+                        initoffset = Delta.delta(in, tmpinpos, BlockSize,
+                                initoffset, block);
+                        tmpoutpos += PForDelta.compressOneBlockOpt(block, 0,
+                                BlockSize, out, tmpoutpos, expAux);
+                }
+                inpos.set(tmpinpos);
+                outpos.set(tmpoutpos);
+        }
+
+        @Override
+        public void uncompress(int[] in, IntWrapper inpos, int inlength,
+                int[] out, IntWrapper outpos) {
+                if (inlength == 0)
+                        return;
+                int tmpinpos = inpos.get();
+                int tmpoutpos = outpos.get();
+                int initoffset = 0;
+                for (final int finaloutpos = tmpoutpos + in[tmpinpos++]; tmpoutpos < finaloutpos; tmpoutpos += BlockSize) {
+                        tmpinpos += PForDelta.decompressOneBlock(out,
+                                tmpoutpos, in, tmpinpos, BlockSize, expAux);
+                        for (int k = tmpoutpos; k < tmpoutpos + BlockSize; ++k)
+                                initoffset = out[k] += initoffset;
+                }
+                inpos.set(tmpinpos);
+                outpos.set(tmpoutpos);
+        }
+
+        @Override
+        public String toString() {
+                return this.getClass().getSimpleName();
+        }
+}
@@ -0,0 +1,167 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ *
+ * (c) Daniel Lemire, http://lemire.me/en/
+ */
+
+package me.lemire.integercompression.differential;
+
+import me.lemire.integercompression.BitPacking;
+import me.lemire.integercompression.IntWrapper;
+import me.lemire.integercompression.OptPFD;
+import me.lemire.integercompression.S16;
+
+/**
+ * This is an integrated version of OptPFD meaning that it computes
+ * differential coding as part of the compression: the deltas are computed
+ * block by block while encoding, and the prefix sum is fused with the bit
+ * unpacking and the patching while decoding (see IntegratedUnpacking).
+ *
+ * The output is the same as OptPFD applied to the successive differences.
+ *
+ * It encodes integers in blocks of 128 integers. For arrays containing an
+ * arbitrary number of integers, you should use it in conjunction with another
+ * CODEC:
+ *
+ * <pre>
+ * IntegratedIntegerCODEC is = new IntegratedComposition(new IntegratedOptPFD(),
+ *         new IntegratedVariableByte())
+ * </pre>
+ *
+ * For multi-threaded applications, each thread should use its own
+ * IntegratedOptPFD object.
+ *
+ * You should only use this scheme on sorted arrays. Use OptPFD if you have
+ * unsorted arrays.
+ *
+ * @author Daniel Lemire
+ */
+public final class IntegratedOptPFD implements IntegratedIntegerCODEC {
+        final int PageSize;
+        final static int BlockSize = 128;
+
+        final int[] exceptbuffer = new int[2 * BlockSize];
+        final int[] buffer = new int[BlockSize];
+        // working area of getBestBFromData
+        final int[] freqs = new int[33];
+        final int[] candidates = new int[BlockSize];
+        final int[] posbits = new int[33];
+        // working area of estimatecompress (S9 and S16 use at most 28)
+        final int[] prefixor = new int[28];
+
+        /**
+         * Constructor for the IntegratedOptPFD CODEC.
+         */
+        public IntegratedOptPFD() {
+                PageSize = 65536;
+        }
+
+        @Override
+        public void compress(int[] in, IntWrapper inpos, int inlength,
+                int[] out, IntWrapper outpos) {
+                inlength = inlength / BlockSize * BlockSize;
+                if (inlength == 0)
+                        return;
+                final int finalinpos = inpos.get() + inlength;
+                out[outpos.get()] = inlength;
+                outpos.increment();
+                IntWrapper initoffset = new IntWrapper(0);
+                while (inpos.get() != finalinpos) {
+                        int thissize = finalinpos > PageSize + inpos.get() ? PageSize
+                                : (finalinpos - inpos.get());
+                        encodePage(in, inpos, thissize, out, outpos,
+                                initoffset);
+                }
+        }
+
+        // shared with OptPFD: the output is the same
+        final static int[] bits = OptPFD.bits;
+
+        private void encodePage(int[] in, IntWrapper inpos, int thissize,
+                int[] out, IntWrapper outpos, IntWrapper initoffset) {
+                int tmpoutpos = outpos.get();
+                int tmpinpos = inpos.get();
+                for (final int finalinpos = tmpinpos + thissize; tmpinpos
+                        + BlockSize <= finalinpos; tmpinpos += BlockSize) {
+                        initoffset.set(Delta.delta(in, tmpinpos, BlockSize,
+                                initoffset.intValue(), buffer));
+                        final int best = OptPFD.getBestBFromData(buffer, 0,
+                                freqs, candidates, posbits, exceptbuffer,
+                                prefixor);
+                        final int tmpbestb = best & 0xFF;
+                        final int nbrexcept = best >>> 8;
+                        int exceptsize = 0;
+                        final int remember = tmpoutpos;
+                        tmpoutpos++;
+                        if (nbrexcept > 0) {
+                                for (int i = 0, c = 0; i < BlockSize; ++i) {
+                                        if ((buffer[i] >>> bits[tmpbestb]) != 0) {
+                                                exceptbuffer[c + nbrexcept] = i;
+                                                exceptbuffer[c] = buffer[i] >>> bits[tmpbestb];
+                                                ++c;
+                                        }
+                                }
+                                exceptsize = S16.compress(exceptbuffer, 0,
+                                        2 * nbrexcept, out, tmpoutpos);
+                                tmpoutpos += exceptsize;
+                        }
+                        out[remember] = tmpbestb | (nbrexcept << 8)
+                                | (exceptsize << 16);
+                        for (int k = 0; k < BlockSize; k += 32) {
+                                BitPacking.fastpack(buffer, k, out, tmpoutpos,
+                                        bits[tmpbestb]);
+                                tmpoutpos += bits[tmpbestb];
+                        }
+                }
+                inpos.set(tmpinpos);
+                outpos.set(tmpoutpos);
+        }
+
+        @Override
+        public void uncompress(int[] in, IntWrapper inpos, int inlength,
+                int[] out, IntWrapper outpos) {
+                if (inlength == 0)
+                        return;
+                int mynvalue = in[inpos.get()];
+                inpos.increment();
+                final int finalout = outpos.get() + mynvalue;
+                IntWrapper initoffset = new IntWrapper(0);
+                while (outpos.get() != finalout) {
+                        int thissize = finalout > PageSize + outpos.get() ? PageSize
+                                : (finalout - outpos.get());
+                        decodePage(in, inpos, out, outpos, thissize,
+                                initoffset);
+                }
+        }
+
+        private void decodePage(int[] in, IntWrapper inpos, int[] out,
+                IntWrapper outpos, int thissize, IntWrapper initoffset) {
+                int tmpoutpos = outpos.get();
+                int tmpinpos = inpos.get();
+                int offset = initoffset.intValue();
+                for (int run = 0; run < thissize / BlockSize; ++run, tmpoutpos += BlockSize) {
+                        final int b = in[tmpinpos] & 0xFF;
+                        final int cexcept = (in[tmpinpos] >>> 8) & 0xFF;
+                        final int exceptsize = (in[tmpinpos] >>> 16);
+                        ++tmpinpos;
+                        S16.uncompress(in, tmpinpos, exceptsize, exceptbuffer,
+                                0, 2 * cexcept);
+                        tmpinpos += exceptsize;
+                        offset = IntegratedUnpacking.unpackPatched128(offset,
+                                in, tmpinpos, out, tmpoutpos, bits[b],
+                                exceptbuffer, 0, exceptbuffer, cexcept,
+                                cexcept);
+                        tmpinpos += 4 * bits[b];
+                }
+                initoffset.set(offset);
+                outpos.set(tmpoutpos);
+                inpos.set(tmpinpos);
+        }
+
+        @Override
+        public String toString() {
+                return this.getClass().getSimpleName();
+        }
+
+}
@@ -0,0 +1,100 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ *
+ * (c) Daniel Lemire, http://lemire.me/en/
+ */
+
+package me.lemire.integercompression.differential;
+
+import me.lemire.integercompression.IntWrapper;
+import me.lemire.integercompression.S16;
+
+/**
+ * This is an integrated version of Simple16 meaning that it computes
+ * differential coding as part of the compression. While encoding, the deltas
+ * are computed in a small window that is refilled as the words are written;
+ * while decoding, the prefix sum is computed on each word as soon as it is
+ * decoded. The successive differences are limited to 28 bits.
+ *
+ * The format is: the number of integers followed by Simple16 words.
+ *
+ * You should only use this scheme on sorted arrays.
+ *
+ * For multi-threaded applications, each thread should use its own
+ * IntegratedSimple16 object.
+ *
+ * @author Daniel Lemire
+ *
+ */
+public final class IntegratedSimple16 implements IntegratedIntegerCODEC {
+        // at most 28 integers fit in a Simple16 word
+        private final static int MAX_PER_WORD = 28;
+
+        final int[] buffer = new int[8 * MAX_PER_WORD];
+
+        @Override
+        public void compress(int[] in, IntWrapper inpos, int inlength,
+                int out[], IntWrapper outpos) {
+                if (inlength == 0)
+                        return;
+                int tmpoutpos = outpos.get();
+                int currentPos = inpos.get();
+                out[tmpoutpos++] = inlength;
+                final int finalin = currentPos + inlength;
+                int filled = currentPos; // next integer to difference
+                int previous = 0;
+                int bpos = 0, bend = 0;
+                while (currentPos < finalin) {
+                        if (bend - bpos < MAX_PER_WORD && filled < finalin) {
+                                System.arraycopy(buffer, bpos, buffer, 0, bend
+                                        - bpos);
+                                bend -= bpos;
+                                bpos = 0;
+                                final int finalfill = filled
+                                        + Math.min(buffer.length - bend,
+                                                finalin - filled);
+                                for (; filled < finalfill; ++filled) {
+                                        buffer[bend++] = in[filled] - previous;
+                                        previous = in[filled];
+                                }
+                        }
+                        final int consumed = S16.compressblock(out,
+                                tmpoutpos++, buffer, bpos, bend - bpos);
+                        if (consumed == -1)
+                                throw new RuntimeException("Too big a number");
+                        bpos += consumed;
+                        currentPos += consumed;
+                }
+                inpos.set(currentPos);
+                outpos.set(tmpoutpos);
+        }
+
+        @Override
+        public void uncompress(int[] in, IntWrapper inpos, int inlength,
+                int[] out, IntWrapper outpos) {
+                if (inlength == 0)
+                        return;
+                int currentPos = outpos.get();
+                int tmpinpos = inpos.get();
+                final int finalout = currentPos + in[tmpinpos++];
+                int offset = 0;
+                while (currentPos < finalout) {
+                        final int howmany = S16.decompressblock(out,
+                                currentPos, in, tmpinpos++, finalout
+                                        - currentPos);
+                        for (final int end = currentPos + howmany; currentPos < end; ++currentPos) {
+                                offset += out[currentPos];
+                                out[currentPos] = offset;
+                        }
+                }
+                outpos.set(currentPos);
+                inpos.set(tmpinpos);
+        }
+
+        @Override
+        public String toString() {
+                return this.getClass().getSimpleName();
+        }
+
+}
@@ -0,0 +1,113 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ *
+ * (c) Daniel Lemire, http://lemire.me/en/
+ */
+
+package me.lemire.integercompression.differential;
+
+import me.lemire.integercompression.IntWrapper;
+
+/**
+ * This is an integrated version of Simple9 meaning that it computes
+ * differential coding as part of the compression: the deltas are computed as
+ * the words are filled and the prefix sum is computed as the words are
+ * decoded. The successive differences are limited to 28 bits.
+ *
+ * The output is the same as Simple9 applied to the successive differences.
+ *
+ * You should only use this scheme on sorted arrays. Use Simple9 if you have
+ * unsorted arrays.
+ *
+ * @author Daniel Lemire
+ *
+ */
+public final class IntegratedSimple9 implements IntegratedIntegerCODEC {
+        @Override
+        public void compress(int[] in, IntWrapper inpos, int inlength,
+                int out[], IntWrapper outpos) {
+                if (inlength == 0)
+                        return;
+                int tmpoutpos = outpos.get();
+                int currentPos = inpos.get();
+                out[tmpoutpos++] = inlength;
+                final int finalin = currentPos + inlength;
+                int initoffset = 0;
+                outer: while (currentPos < finalin) {
+                        mainloop: for (int selector = 0; selector < 8; selector++) {
+                                int res = 0;
+                                int compressedNum = codeNum[selector];
+                                if (finalin <= currentPos + compressedNum - 1)
+                                        compressedNum = finalin - currentPos;
+                                final int b = bitLength[selector];
+                                int previous = initoffset;
+                                for (int i = 0; i < compressedNum; i++) {
+                                        final int delta = in[currentPos + i]
+                                                - previous;
+                                        if ((delta >>> b) != 0)
+                                                continue mainloop;
+                                        res = (res << b) + delta;
+                                        previous = in[currentPos + i];
+                                }
+                                if (compressedNum != codeNum[selector])
+                                        res <<= (codeNum[selector] - compressedNum)
+                                                * b;
+                                res |= selector << 28;
+                                out[tmpoutpos++] = res;
+                                currentPos += compressedNum;
+                                initoffset = previous;
+                                continue outer;
+                        }
+                        final int selector = 8;
+                        final int delta = in[currentPos] - initoffset;
+                        if ((delta >>> bitLength[selector]) != 0)
+                                throw new RuntimeException("Too big a number");
+                        out[tmpoutpos++] = delta | (selector << 28);
+                        initoffset = in[currentPos++];
+                }
+                inpos.set(currentPos);
+                outpos.set(tmpoutpos);
+        }
+
+        @Override
+        public void uncompress(int[] in, IntWrapper inpos, int inlength,
+                int[] out, IntWrapper outpos) {
+                if (inlength == 0)
+                        return;
+                int currentPos = outpos.get();
+                int tmpinpos = inpos.get();
+                final int finalout = currentPos + in[tmpinpos++];
+                int offset = 0;
+                while (currentPos < finalout) {
+                        final int val = in[tmpinpos++];
+                        final int selector = val >>> 28;
+                        if (selector > 8)
+                                throw new RuntimeException(
+                                        "shouldn't happen: limited to 28-bit integers");
+                        final int b = bitLength[selector];
+                        final int n = codeNum[selector];
+                        final int howmany = finalout - currentPos < n ? finalout
+                                - currentPos
+                                : n;
+                        // the first integer is stored in the most significant
+                        // bits (after the selector and the unused bits)
+                        for (int k = 0, shift = 32 - n * b; k < howmany; ++k, shift += b) {
+                                offset += (val << shift) >>> (32 - b);
+                                out[currentPos++] = offset;
+                        }
+                }
+                outpos.set(currentPos);
+                inpos.set(tmpinpos);
+        }
+
+        private final static int bitLength[] = { 1, 2, 3, 4, 5, 7, 9, 14, 28 };
+
+        private final static int codeNum[] = { 28, 14, 9, 7, 5, 4, 3, 2, 1 };
+
+        @Override
+        public String toString() {
+                return this.getClass().getSimpleName();
+        }
+
+}
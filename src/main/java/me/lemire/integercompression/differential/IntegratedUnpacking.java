@@ -0,0 +1,134 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ *
+ * (c) Daniel Lemire, http://lemire.me/en/
+ */
+package me.lemire.integercompression.differential;
+
+import me.lemire.integercompression.BitPacking;
+
+/**
+ * Fused decoding kernels for patched (PFOR-style) blocks of 128 integers: the
+ * bit unpacking, the patching of the exceptions and the prefix sum are done in
+ * a single pass, so that sorted lists do not need a second pass with
+ * Delta.fastinverseDelta.
+ *
+ * Groups of 32 integers without exceptions (the common case) go through
+ * IntegratedBitPacking.integratedunpack. The other groups are unpacked,
+ * patched and summed while they are still in cache. (IntegratedBitPacking
+ * stores 32-bit integers without differential coding, so groups packed with
+ * 32 bits are also summed separately.)
+ *
+ * The exceptions are provided as two arrays: the high bits of the exceptions
+ * (to be shifted left by the bit width) and their positions within the block,
+ * in increasing order. This matches the layouts used by FastPFOR, NewPFD and
+ * OptPFD.
+ *
+ * @author Daniel Lemire
+ */
+public final class IntegratedUnpacking {
+
+        /**
+         * Unpack 128 integers packed with BitPacking.fastpack (4 groups of
+         * 32) along with prefix sum computation.
+         *
+         * @param initoffset
+         *                value to add to the first integer
+         * @param in
+         *                source array
+         * @param inpos
+         *                initial position in source array
+         * @param out
+         *                output array
+         * @param outpos
+         *                initial position in output array
+         * @param bit
+         *                number of bits per integer
+         * @return the last decoded value (initial offset for the next block)
+         */
+        public static int unpack128(int initoffset, final int[] in, int inpos,
+                final int[] out, final int outpos, final int bit) {
+                for (int k = 0; k < 128; k += 32, inpos += bit) {
+                        if (bit < 32)
+                                IntegratedBitPacking.integratedunpack(
+                                        initoffset, in, inpos, out, outpos
+                                                + k, bit);
+                        else {
+                                System.arraycopy(in, inpos, out, outpos + k,
+                                        32);
+                                prefixSum32(initoffset, out, outpos + k);
+                        }
+                        initoffset = out[outpos + k + 31];
+                }
+                return initoffset;
+        }
+
+        /**
+         * Unpack 128 integers packed with BitPacking.fastpack (4 groups of
+         * 32), patch the exceptions and compute the prefix sum.
+         *
+         * @param initoffset
+         *                value to add to the first integer
+         * @param in
+         *                source array
+         * @param inpos
+         *                initial position in source array
+         * @param out
+         *                output array
+         * @param outpos
+         *                initial position in output array
+         * @param bit
+         *                number of bits per integer
+         * @param values
+         *                high bits of the exceptions
+         * @param valuespos
+         *                position of the first exception in values
+         * @param positions
+         *                positions of the exceptions within the block (in
+         *                increasing order)
+         * @param positionspos
+         *                position of the first exception in positions
+         * @param cexcept
+         *                number of exceptions
+         * @return the last decoded value (initial offset for the next block)
+         */
+        public static int unpackPatched128(int initoffset, final int[] in,
+                int inpos, final int[] out, final int outpos, final int bit,
+                final int[] values, final int valuespos,
+                final int[] positions, final int positionspos,
+                final int cexcept) {
+                if (cexcept == 0 || bit == 32)
+                        return unpack128(initoffset, in, inpos, out, outpos,
+                                bit);
+                int e = 0;
+                for (int k = 0; k < 128; k += 32, inpos += bit) {
+                        if (e == cexcept
+                                || positions[positionspos + e] >= k + 32) {
+                                IntegratedBitPacking.integratedunpack(
+                                        initoffset, in, inpos, out, outpos
+                                                + k, bit);
+                        } else {
+                                BitPacking.fastunpack(in, inpos, out, outpos
+                                        + k, bit);
+                                do {
+                                        out[outpos
+                                                + positions[positionspos + e]] |= values[valuespos
+                                                + e] << bit;
+                                        ++e;
+                                } while (e < cexcept
+                                        && positions[positionspos + e] < k + 32);
+                                prefixSum32(initoffset, out, outpos + k);
+                        }
+                        initoffset = out[outpos + k + 31];
+                }
+                return initoffset;
+        }
+
+        private static void prefixSum32(final int initoffset, final int[] out,
+                final int outpos) {
+                out[outpos] += initoffset;
+                for (int j = outpos + 1; j < outpos + 32; ++j)
+                        out[j] += out[j - 1];
+        }
+}
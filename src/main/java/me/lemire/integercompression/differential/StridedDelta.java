@@ -0,0 +1,169 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ *
+ * (c) Daniel Lemire, http://lemire.me/en/
+ */
+package me.lemire.integercompression.differential;
+
+/**
+ * Alternative differential coding schemes whose inverse (prefix sum) does not
+ * form a single serial dependency chain, as in the SIMD compression library:
+ * <ul>
+ * <li>D2: x[i] - x[i - 2] (two independent chains);</li>
+ * <li>D4: x[i] - x[i - 4] (four independent chains);</li>
+ * <li>DM: integers are considered in groups of 4 and each integer of a group
+ * is coded as its difference with the last integer of the previous group (the
+ * 4 additions of a group are independent).</li>
+ * </ul>
+ * The deltas are larger than with standard differential coding (about 2x for
+ * D2 and 4x for D4 and DM, i.e., 1 or 2 more bits per integer), but decoding
+ * is no longer limited by the latency of one addition per integer.
+ *
+ * A context made of the last 4 values (context[3] being the most recent)
+ * carries the state from one call to the next; it should be initialized to
+ * zeros. The arrays should be sorted (all schemes assume non-decreasing
+ * values).
+ *
+ * The loops are written so that the independent chains are visible to the
+ * JIT compiler; no vector instruction is required.
+ *
+ * @author Daniel Lemire
+ */
+public final class StridedDelta {
+
+        /**
+         * Available schemes.
+         */
+        public enum Scheme {
+                /** differences with stride 2 */
+                D2,
+                /** differences with stride 4 */
+                D4,
+                /** differences with the last integer of the previous group of 4 */
+                DM
+        }
+
+        /**
+         * Apply differential coding.
+         *
+         * @param scheme
+         *                differential coding scheme
+         * @param in
+         *                input array
+         * @param start
+         *                starting index
+         * @param length
+         *                number of integers to process
+         * @param context
+         *                last 4 values preceding in[start] (updated)
+         * @param out
+         *                output array (starting at index 0, distinct from
+         *                the input array)
+         */
+        public static void delta(Scheme scheme, int[] in, int start,
+                int length, int[] context, int[] out) {
+                switch (scheme) {
+                case D2:
+                        for (int i = Math.min(2, length) - 1; i >= 0; --i)
+                                out[i] = in[start + i] - context[2 + i];
+                        for (int i = 2; i < length; ++i)
+                                out[i] = in[start + i] - in[start + i - 2];
+                        break;
+                case D4:
+                        for (int i = Math.min(4, length) - 1; i >= 0; --i)
+                                out[i] = in[start + i] - context[i];
+                        for (int i = 4; i < length; ++i)
+                                out[i] = in[start + i] - in[start + i - 4];
+                        break;
+                case DM:
+                        for (int g = 0; g < length; g += 4) {
+                                final int base = g == 0 ? context[3]
+                                        : in[start + g - 1];
+                                for (int i = g, end = Math.min(g + 4, length); i < end; ++i)
+                                        out[i] = in[start + i] - base;
+                        }
+                        break;
+                default:
+                        throw new IllegalArgumentException("unknown scheme "
+                                + scheme);
+                }
+                updateContext(in, start, length, context);
+        }
+
+        /**
+         * Undo differential coding (in-place).
+         *
+         * @param scheme
+         *                differential coding scheme
+         * @param data
+         *                to be modified
+         * @param start
+         *                starting index
+         * @param length
+         *                number of integers to process
+         * @param context
+         *                last 4 values preceding data[start] (updated)
+         */
+        public static void inverseDelta(Scheme scheme, int[] data, int start,
+                int length, int[] context) {
+                final int end = start + length;
+                int i = start;
+                switch (scheme) {
+                case D2: {
+                        int a0 = context[2], a1 = context[3];
+                        for (; i + 2 <= end; i += 2) {
+                                a0 = data[i] += a0;
+                                a1 = data[i + 1] += a1;
+                        }
+                        if (i < end)
+                                data[i] += a0;
+                        break;
+                }
+                case D4: {
+                        int a0 = context[0], a1 = context[1], a2 = context[2], a3 = context[3];
+                        for (; i + 4 <= end; i += 4) {
+                                a0 = data[i] += a0;
+                                a1 = data[i + 1] += a1;
+                                a2 = data[i + 2] += a2;
+                                a3 = data[i + 3] += a3;
+                        }
+                        if (i < end)
+                                data[i] += a0;
+                        if (i + 1 < end)
+                                data[i + 1] += a1;
+                        if (i + 2 < end)
+                                data[i + 2] += a2;
+                        break;
+                }
+                case DM: {
+                        int base = context[3];
+                        for (; i + 4 <= end; i += 4) {
+                                data[i] += base;
+                                data[i + 1] += base;
+                                data[i + 2] += base;
+                                base = data[i + 3] += base;
+                        }
+                        for (; i < end; ++i)
+                                data[i] += base;
+                        break;
+                }
+                default:
+                        throw new IllegalArgumentException("unknown scheme "
+                                + scheme);
+                }
+                updateContext(data, start, length, context);
+        }
+
+        private static void updateContext(int[] x, int start, int length,
+                int[] context) {
+                if (length >= 4) {
+                        System.arraycopy(x, start + length - 4, context, 0, 4);
+                } else {
+                        System.arraycopy(context, length, context, 0,
+                                4 - length);
+                        System.arraycopy(x, start, context, 4 - length,
+                                length);
+                }
+        }
+}
@@ -0,0 +1,132 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ *
+ * (c) Daniel Lemire, http://lemire.me/en/
+ */
+package me.lemire.integercompression.differential;
+
+import java.util.Arrays;
+
+import me.lemire.integercompression.BitPacking;
+import me.lemire.integercompression.IntWrapper;
+import me.lemire.integercompression.Util;
+
+/**
+ * BinaryPacking over one of the differential coding schemes of StridedDelta
+ * (D2, D4 or DM). The layout is the same as BinaryPacking: blocks of 128
+ * integers made of 4 groups of 32 integers with a common bit width. Decoding
+ * unpacks a block and undoes the differential coding while the block is in
+ * cache.
+ *
+ * <pre>
+ * IntegratedIntegerCODEC is = new IntegratedComposition(
+ *         new StridedDeltaBinaryPacking(StridedDelta.Scheme.D4),
+ *         new IntegratedVariableByte())
+ * </pre>
+ *
+ * You should only use this scheme on sorted arrays.
+ *
+ * For multi-threaded applications, each thread should use its own
+ * StridedDeltaBinaryPacking object.
+ *
+ * @author Daniel Lemire
+ */
+public final class StridedDeltaBinaryPacking implements IntegratedIntegerCODEC {
+        private static final int BLOCK_SIZE = 128;
+
+        private final StridedDelta.Scheme scheme;
+        private final int[] buffer = new int[BLOCK_SIZE];
+        private final int[] context = new int[4];
+
+        /**
+         * Construct a CODEC using D4 differential coding.
+         */
+        public StridedDeltaBinaryPacking() {
+                this(StridedDelta.Scheme.D4);
+        }
+
+        /**
+         * Construct a CODEC.
+         *
+         * @param scheme
+         *                differential coding scheme
+         */
+        public StridedDeltaBinaryPacking(StridedDelta.Scheme scheme) {
+                this.scheme = scheme;
+        }
+
+        @Override
+        public void compress(int[] in, IntWrapper inpos, int inlength,
+                int[] out, IntWrapper outpos) {
+                inlength = inlength / BLOCK_SIZE * BLOCK_SIZE;
+                if (inlength == 0)
+                        return;
+                out[outpos.get()] = inlength;
+                outpos.increment();
+                int tmpoutpos = outpos.get();
+                Arrays.fill(context, 0);
+                for (int s = inpos.get(); s < inpos.get() + inlength; s += BLOCK_SIZE) {
+                        StridedDelta.delta(scheme, in, s, BLOCK_SIZE, context,
+                                buffer);
+                        final int mbits1 = Util.maxbits(buffer, 0, 32);
+                        final int mbits2 = Util.maxbits(buffer, 32, 32);
+                        final int mbits3 = Util.maxbits(buffer, 64, 32);
+                        final int mbits4 = Util.maxbits(buffer, 96, 32);
+                        out[tmpoutpos++] = (mbits1 << 24) | (mbits2 << 16)
+                                | (mbits3 << 8) | (mbits4);
+                        BitPacking.fastpackwithoutmask(buffer, 0, out,
+                                tmpoutpos, mbits1);
+                        tmpoutpos += mbits1;
+                        BitPacking.fastpackwithoutmask(buffer, 32, out,
+                                tmpoutpos, mbits2);
+                        tmpoutpos += mbits2;
+                        BitPacking.fastpackwithoutmask(buffer, 64, out,
+                                tmpoutpos, mbits3);
+                        tmpoutpos += mbits3;
+                        BitPacking.fastpackwithoutmask(buffer, 96, out,
+                                tmpoutpos, mbits4);
+                        tmpoutpos += mbits4;
+                }
+                inpos.add(inlength);
+                outpos.set(tmpoutpos);
+        }
+
+        @Override
+        public void uncompress(int[] in, IntWrapper inpos, int inlength,
+                int[] out, IntWrapper outpos) {
+                if (inlength == 0)
+                        return;
+                final int outlength = in[inpos.get()];
+                inpos.increment();
+                int tmpinpos = inpos.get();
+                Arrays.fill(context, 0);
+                for (int s = outpos.get(); s < outpos.get() + outlength; s += BLOCK_SIZE) {
+                        final int mbits1 = (in[tmpinpos] >>> 24);
+                        final int mbits2 = (in[tmpinpos] >>> 16) & 0xFF;
+                        final int mbits3 = (in[tmpinpos] >>> 8) & 0xFF;
+                        final int mbits4 = (in[tmpinpos]) & 0xFF;
+                        ++tmpinpos;
+                        BitPacking.fastunpack(in, tmpinpos, out, s, mbits1);
+                        tmpinpos += mbits1;
+                        BitPacking
+                                .fastunpack(in, tmpinpos, out, s + 32, mbits2);
+                        tmpinpos += mbits2;
+                        BitPacking.fastunpack(in, tmpinpos, out, s + 2 * 32,
+                                mbits3);
+                        tmpinpos += mbits3;
+                        BitPacking.fastunpack(in, tmpinpos, out, s + 3 * 32,
+                                mbits4);
+                        tmpinpos += mbits4;
+                        StridedDelta.inverseDelta(scheme, out, s, BLOCK_SIZE,
+                                context);
+                }
+                outpos.add(outlength);
+                inpos.set(tmpinpos);
+        }
+
+        @Override
+        public String toString() {
+                return this.getClass().getSimpleName() + "(" + scheme + ")";
+        }
+}
@@ -0,0 +1,139 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ */
+package me.lemire.integercompression;
+
+import java.util.Random;
+
+import me.lemire.integercompression.differential.IntegratedBinaryPacking;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that aggregates computed over compressed data are correct.
+ */
+@SuppressWarnings({ "static-method", "javadoc" })
+public class AggregateTest {
+
+    private static final int[] ops = { Aggregate.SUM, Aggregate.MIN,
+            Aggregate.MAX, Aggregate.COUNT };
+
+    private static int[] generate(int N, boolean sorted, boolean negative,
+            Random r) {
+        int[] data = new int[N];
+        for (int k = 0; k < N; ++k) {
+            // miniblocks of various bit widths (including 0), a few
+            // exceptions
+            int bits = (k / 32) % 4 == 0 ? 0 : (k / 32) % 4 == 1 ? 4 : 12;
+            int v = r.nextInt(1 << bits);
+            if (r.nextInt(100) == 0)
+                v = negative ? r.nextInt() : r.nextInt(1 << 20);
+            data[k] = sorted ? (k == 0 ? 0 : data[k - 1]) + v : v;
+        }
+        return data;
+    }
+
+    private static long expected(int[] data, int op) {
+        long acc = Aggregate.initial(op);
+        for (int v : data) {
+            if (op == Aggregate.SUM)
+                acc += v;
+            else if (op == Aggregate.MIN)
+                acc = Math.min(acc, v);
+            else if (op == Aggregate.MAX)
+                acc = Math.max(acc, v);
+            else
+                ++acc;
+        }
+        return acc;
+    }
+
+    private static int[] compress(IntegerCODEC c, int[] data) {
+        int[] compressed = new int[2 * data.length + 1024];
+        IntWrapper outpos = new IntWrapper(1);
+        c.compress(data, new IntWrapper(), data.length, compressed, outpos);
+        int[] answer = new int[outpos.get()];
+        System.arraycopy(compressed, 0, answer, 0, answer.length);
+        return answer;
+    }
+
+    @Test
+    public void binaryPacking() {
+        Random r = new Random(1234);
+        BinaryPacking bp = new BinaryPacking(true);
+        for (int N : new int[] { 0, 1, 31, 128, 1000, 4096 }) {
+            int[] data = generate(N, false, true, r);
+            int[] compressed = compress(bp, data);
+            for (int op : ops) {
+                IntWrapper inpos = new IntWrapper(1);
+                assertEquals(expected(data, op), bp.aggregate(compressed,
+                        inpos, compressed.length - 1, op));
+                assertEquals(compressed.length, inpos.get());
+            }
+        }
+    }
+
+    @Test
+    public void fastPFOR() {
+        Random r = new Random(1234);
+        FastPFOR fp = new FastPFOR(1024, true);
+        for (int N : new int[] { 0, 1, 31, 128, 1000, 5000 }) {
+            int[] data = generate(N, false, true, r);
+            int[] compressed = compress(fp, data);
+            for (int op : ops) {
+                IntWrapper inpos = new IntWrapper(1);
+                assertEquals(expected(data, op), fp.aggregate(compressed,
+                        inpos, compressed.length - 1, op));
+                assertEquals(compressed.length, inpos.get());
+            }
+        }
+    }
+
+    @Test
+    public void integratedBinaryPacking() {
+        Random r = new Random(1234);
+        IntegratedBinaryPacking ibp = new IntegratedBinaryPacking();
+        for (int N : new int[] { 0, 128, 1024, 4096 }) {
+            int[] data = generate(N, true, false, r);
+            int[] compressed = compress(ibp, data);
+            for (int op : ops) {
+                IntWrapper inpos = new IntWrapper(1);
+                assertEquals(expected(data, op), ibp.aggregate(compressed,
+                        inpos, compressed.length - 1, op));
+                assertEquals(compressed.length, inpos.get());
+            }
+        }
+    }
+
+    @Test
+    public void integratedBinaryPacking32Bits() {
+        Random r = new Random(1234);
+        IntegratedBinaryPacking ibp = new IntegratedBinaryPacking();
+        for (int N : new int[] { 128, 256, 1280 }) {
+            // negative first value: the first miniblock uses 32 bits
+            int[] negative = generate(N, true, false, r);
+            for (int k = 0; k < N; ++k)
+                negative[k] -= 1000000;
+            // a gap of 2^31 in the middle of the list
+            int[] gap = generate(N, true, false, r);
+            for (int k = N / 2 + 5; k < N; ++k)
+                gap[k] = (int) (gap[k] + (1L << 31) - gap[N - 1] - 1);
+            for (int k = 0; k < N / 2 + 5; ++k)
+                gap[k] -= 1 << 30;
+            for (int[] data : new int[][] { negative, gap }) {
+                for (int k = 1; k < N; ++k)
+                    assertTrue(data[k - 1] <= data[k]);
+                int[] compressed = compress(ibp, data);
+                for (int op : ops) {
+                    IntWrapper inpos = new IntWrapper(1);
+                    assertEquals(expected(data, op), ibp.aggregate(
+                            compressed, inpos, compressed.length - 1, op));
+                    assertEquals(compressed.length, inpos.get());
+                }
+            }
+        }
+    }
+}
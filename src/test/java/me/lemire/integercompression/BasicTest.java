@@ -1,5 +1,10 @@
 package me.lemire.integercompression;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
 import java.util.Arrays;
 import java.util.Random;
 
@@ -8,10 +13,21 @@ import me.lemire.integercompression.differential.IntegratedBinaryPacking;
 import me.lemire.integercompression.differential.IntegratedComposition;
 import me.lemire.integercompression.differential.IntegratedFastPFOR;
 import me.lemire.integercompression.differential.IntegratedIntegerCODEC;
+import me.lemire.integercompression.differential.IntegratedKamikazeLCPForDelta;
+import me.lemire.integercompression.differential.IntegratedKamikazePForDelta;
+import me.lemire.integercompression.differential.IntegratedNewPFD;
+import me.lemire.integercompression.differential.IntegratedOptPFD;
+import me.lemire.integercompression.differential.IntegratedSimple16;
+import me.lemire.integercompression.differential.IntegratedSimple9;
 import me.lemire.integercompression.differential.IntegratedVariableByte;
+import me.lemire.integercompression.differential.StridedDelta;
+import me.lemire.integercompression.differential.StridedDeltaBinaryPacking;
 import me.lemire.integercompression.differential.XorBinaryPacking;
 import me.lemire.integercompression.synth.ClusteredDataGenerator;
 
+import com.kamikaze.pfordelta.LCPForDelta;
+import com.kamikaze.pfordelta.PForDelta;
+
 import org.junit.Test;
 
 import static org.junit.Assert.*;
@@ -37,10 +53,34 @@ public class BasicTest {
             new IntegratedComposition(new IntegratedFastPFOR(),
                     new IntegratedVariableByte()),
             new Composition(new FastPFOR(), new VariableByte()),
+            new IntegratedComposition(new IntegratedNewPFD(),
+                    new IntegratedVariableByte()),
+            new IntegratedComposition(new IntegratedOptPFD(),
+                    new IntegratedVariableByte()),
             new Simple9(),
+            new IntegratedSimple9(),
+            new IntegratedSimple16(),
+            new IntegratedComposition(new StridedDeltaBinaryPacking(
+                    StridedDelta.Scheme.D2), new IntegratedVariableByte()),
+            new IntegratedComposition(new StridedDeltaBinaryPacking(
+                    StridedDelta.Scheme.D4), new IntegratedVariableByte()),
+            new IntegratedComposition(new StridedDeltaBinaryPacking(
+                    StridedDelta.Scheme.DM), new IntegratedVariableByte()),
             new Composition(new XorBinaryPacking(), new VariableByte()),
             new Composition(new DeltaZigzagBinaryPacking(),
-                    new DeltaZigzagVariableByte()) };
+                    new DeltaZigzagVariableByte()),
+            new Composition(new ZigzagFastPFOR(), new ZigzagCODEC(
+                    new VariableByte())),
+            new Composition(new ZigzagNewPFD(), new ZigzagCODEC(
+                    new VariableByte())),
+            new DictionaryCODEC(),
+            new DictionaryCODEC(128, 16, new VariableByte()),
+            new Composition(new KamikazePForDelta(), new VariableByte()),
+            new Composition(new KamikazeLCPForDelta(), new VariableByte()),
+            new IntegratedComposition(new IntegratedKamikazePForDelta(),
+                    new IntegratedVariableByte()),
+            new IntegratedComposition(new IntegratedKamikazeLCPForDelta(),
+                    new IntegratedVariableByte()) };
 
     /**
      * 
@@ -87,6 +127,13 @@ public class BasicTest {
             } catch (ClassNotFoundException e) {
                 e.printStackTrace();
             }
+            // So are the integrated versions of Simple9 and Simple16.
+            if (c instanceof IntegratedSimple9
+                    || c instanceof IntegratedSimple16)
+                continue;
+            // The kamikaze schemes are limited to integers smaller than 2^31.
+            if (c.toString().contains("Kamikaze"))
+                continue;
             for (int L = 1; L <= 128; L++) {
                 int[] comp = TestUtils.compress(c, Arrays.copyOf(data, L));
                 int[] answer = TestUtils.uncompress(c, comp, L);
@@ -206,6 +253,199 @@ public class BasicTest {
         }
     }
 
+    /**
+     * Verify that BitUnpacker decodes the same integers from arrays, heap
+     * buffers and direct buffers.
+     */
+    @Test
+    public void verifyBitUnpacker() {
+        final int N = 128;
+        Random r = new Random(1234);
+        int[] data = new int[N];
+        int[] compressed = new int[1 + 4 * 32];
+        int[] uncompressed = new int[N];
+        int[] buffer = new int[32];
+        IntBuffer direct = ByteBuffer.allocateDirect(4 * compressed.length)
+                .asIntBuffer();
+        for (int bit = 0; bit <= 32; ++bit) {
+            for (int k = 0; k < N; ++k)
+                data[k] = r.nextInt() & (int) ((1L << bit) - 1);
+            for (int k = 0; k < N; k += 32)
+                BitPacking.fastpack(data, k, compressed, 1 + k / 32 * bit, bit);
+
+            Arrays.fill(uncompressed, -1);
+            BitUnpacker.unpack128(compressed, 1, uncompressed, 0, bit);
+            assertArrayEquals(data, uncompressed);
+
+            IntBuffer heap = IntBuffer.wrap(compressed);
+            heap.position(1);
+            IntBuffer[] sources = { heap.slice(), heap.asReadOnlyBuffer(),
+                    direct };
+            direct.clear();
+            direct.put(compressed);
+            direct.position(1);
+            for (IntBuffer in : sources) {
+                final int start = in.position();
+                Arrays.fill(uncompressed, -1);
+                BitUnpacker.unpack(in, uncompressed, 0, bit, buffer);
+                BitUnpacker.unpack(in, uncompressed, 32, bit, buffer);
+                assertEquals(start + 2 * bit, in.position());
+                in.position(start);
+                BitUnpacker.unpack128(in, uncompressed, 0, bit, buffer);
+                assertEquals(start + 4 * bit, in.position());
+                assertArrayEquals(data, uncompressed);
+            }
+        }
+    }
+
+    /**
+     * Verify that the BufferIntegerCODEC methods write and read the same
+     * format as the IntegerCODEC methods, from heap, read-only and direct
+     * buffers of both byte orders.
+     */
+    @Test
+    public void verifyBufferCODECs() {
+        final int N = 3 * 1024 + 77;
+        Random r = new Random(1234);
+        int[] data = new int[N];
+        for (int k = 0; k < N; ++k)
+            data[k] = r.nextInt(10) == 0 ? r.nextInt() : r.nextInt(1 << 6);
+        BufferIntegerCODEC[] codecs = { new BinaryPacking(true),
+                new FastPFOR(1024, true), new FastPFOR(65536, true),
+                new VariableByte() };
+        for (BufferIntegerCODEC c : codecs) {
+            int[] compressed = new int[2 * N + 1024];
+            IntWrapper outpos = new IntWrapper(1);
+            ((IntegerCODEC) c).compress(data, new IntWrapper(0), N,
+                    compressed, outpos);
+            final int length = outpos.get() - 1;
+            IntBuffer[] targets = {
+                    IntBuffer.allocate(compressed.length),
+                    ByteBuffer.allocateDirect(4 * compressed.length)
+                            .asIntBuffer(),
+                    ByteBuffer.allocateDirect(4 * compressed.length)
+                            .order(ByteOrder.LITTLE_ENDIAN).asIntBuffer() };
+            for (IntBuffer out : targets) {
+                out.position(1);
+                IntWrapper inpos = new IntWrapper(0);
+                c.compress(data, inpos, N, out);
+                assertEquals(c.toString(), N, inpos.get());
+                assertEquals(c.toString(), 1 + length, out.position());
+                // the padding of the exceptions of FastPFOR is not
+                // deterministic: compare the uncompressed data instead
+                int[] copy = new int[length];
+                out.position(1);
+                out.get(copy);
+                int[] uncompressed = new int[N];
+                ((IntegerCODEC) c).uncompress(copy, new IntWrapper(0),
+                        length, uncompressed, new IntWrapper(0));
+                assertArrayEquals(data, uncompressed);
+                out.position(1);
+                out.put(compressed, 1, length);
+                out.position(1);
+                IntBuffer[] sources = { out, out.asReadOnlyBuffer() };
+                for (IntBuffer in : sources) {
+                    uncompressed = new int[N + 1];
+                    IntWrapper uncompressedpos = new IntWrapper(1);
+                    c.uncompress(in, length, uncompressed, uncompressedpos);
+                    assertEquals(c.toString(), 1 + length, in.position());
+                    assertEquals(c.toString(), N + 1, uncompressedpos.get());
+                    assertArrayEquals(data,
+                            Arrays.copyOfRange(uncompressed, 1, N + 1));
+                    in.position(1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Verify that the bit packing kernels are those produced by
+     * BitPackingGenerator.
+     */
+    @Test
+    public void verifyGeneratedKernels() throws IOException {
+        final String root = "src/main/java/me/lemire/integercompression/";
+        String bitpacking = BitPackingGenerator.read(new File(root
+                + "BitPacking.java"));
+        assertTrue(bitpacking.contains(BitPackingGenerator
+                .generate(BitPackingGenerator.Family.FASTPACK)));
+        assertTrue(bitpacking.contains(BitPackingGenerator
+                .generate(BitPackingGenerator.Family.FASTPACKWITHOUTMASK)));
+        assertTrue(bitpacking.contains(BitPackingGenerator
+                .generate(BitPackingGenerator.Family.FASTUNPACK)));
+        String integrated = BitPackingGenerator.read(new File(root
+                + "differential/IntegratedBitPacking.java"));
+        assertTrue(integrated.contains(BitPackingGenerator
+                .generate(BitPackingGenerator.Family.INTEGRATEDPACK)));
+        assertTrue(integrated.contains(BitPackingGenerator
+                .generate(BitPackingGenerator.Family.INTEGRATEDUNPACK)));
+        assertEquals(BitPackingGenerator.longBitPacking(),
+                BitPackingGenerator.read(new File(root + "LongBitPacking.java")));
+        assertEquals(BitPackingGenerator.zigzagBitPacking(),
+                BitPackingGenerator.read(new File(root
+                        + "ZigzagBitPacking.java")));
+    }
+
+    /**
+     * Verify the bit packing of longs: same layout as BitPacking.
+     */
+    @Test
+    public void verifyLongBitPacking() {
+        final int N = 32;
+        Random r = new Random(1234);
+        long[] data = new long[N];
+        long[] uncompressed = new long[N];
+        int[] compressed = new int[2 * N + 1];
+        int[] intdata = new int[N];
+        int[] intcompressed = new int[N];
+        for (int bit = 0; bit <= 64; ++bit) {
+            for (int t = 0; t < 100; ++t) {
+                for (int k = 0; k < N; ++k)
+                    data[k] = bit == 0 ? 0 : r.nextLong() >>> (64 - bit);
+                Arrays.fill(compressed, -1);
+                LongBitPacking.fastpack(data, 0, compressed, 1, bit);
+                LongBitPacking.fastunpack(compressed, 1, uncompressed, 0, bit);
+                assertArrayEquals(data, uncompressed);
+                if (bit <= 32) {
+                    for (int k = 0; k < N; ++k)
+                        intdata[k] = (int) data[k];
+                    BitPacking.fastpack(intdata, 0, intcompressed, 0, bit);
+                    assertArrayEquals(Arrays.copyOf(intcompressed, bit),
+                            Arrays.copyOfRange(compressed, 1, 1 + bit));
+                }
+            }
+        }
+    }
+
+    /**
+     * Verify the bit packing fused with zigzag encoding.
+     */
+    @Test
+    public void verifyZigzagBitPacking() {
+        final int N = 32;
+        Random r = new Random(1234);
+        int[] data = new int[N];
+        int[] encoded = new int[N];
+        int[] compressed = new int[N];
+        int[] expected = new int[N];
+        int[] uncompressed = new int[N];
+        for (int bit = 0; bit <= 32; ++bit) {
+            for (int t = 0; t < 100; ++t) {
+                for (int k = 0; k < N; ++k) {
+                    final int z = r.nextInt() & (int) ((1L << bit) - 1);
+                    data[k] = (z >>> 1) ^ -(z & 1);
+                }
+                Util.zigzagEncode(data, 0, N, encoded, 0);
+                BitPacking.fastpack(encoded, 0, expected, 0, bit);
+                ZigzagBitPacking.fastpack(data, 0, compressed, 0, bit);
+                assertArrayEquals(Arrays.copyOf(expected, bit),
+                        Arrays.copyOf(compressed, bit));
+                ZigzagBitPacking.fastunpack(compressed, 0, uncompressed, 0, bit);
+                assertArrayEquals(data, uncompressed);
+            }
+        }
+    }
+
     /**
      * Verify bitpacking without mask.
      */
@@ -267,6 +507,79 @@ public class BasicTest {
         }
     }
 
+    /**
+     * Verify that the estimates of Simple9 and Simple16 used by OptPFD
+     * match the compressed sizes.
+     */
+    @Test
+    public void verifyEstimates() {
+        Random r = new Random(1234);
+        int[] data = new int[256];
+        int[] compressed = new int[256];
+        int[] prefixor = new int[28];
+        for (int t = 0; t < 1000; ++t) {
+            final int n = 1 + r.nextInt(data.length);
+            final int maxbits = 1 + r.nextInt(28);
+            for (int k = 0; k < n; ++k)
+                data[k] = r.nextInt(1 << (1 + r.nextInt(maxbits)));
+            final int s16 = S16.compress(data, 0, n, compressed, 0);
+            assertEquals(s16, S16.estimatecompress(data, 0, n));
+            assertEquals(s16, S16.estimatecompress(data, 0, n, s16 + 1,
+                    prefixor));
+            assertTrue(S16.estimatecompress(data, 0, n, s16 / 2,
+                    prefixor) >= s16 / 2);
+            final int s9 = S9.compress(data, 0, n, compressed, 0);
+            assertEquals(s9, S9.estimatecompress(data, 0, n));
+            assertEquals(s9, S9.estimatecompress(data, 0, n, s9 + 1,
+                    prefixor));
+            assertTrue(S9.estimatecompress(data, 0, n, s9 / 2,
+                    prefixor) >= s9 / 2);
+        }
+    }
+
+    /**
+     * Verify that the kamikaze entry points writing to caller-supplied
+     * arrays produce the same blocks as the ones allocating them.
+     */
+    @Test
+    public void verifyKamikazeInPlace() {
+        Random r = new Random(1234);
+        final int N = 128;
+        int[] data = new int[N + 3];
+        int[] compressed = new int[PForDelta.maxCompressedSize(N) + 5];
+        int[] uncompressed = new int[N + 7];
+        int[] expAux = new int[2 * N];
+        LCPForDelta lc = new LCPForDelta();
+        LCPForDelta reference = new LCPForDelta();
+        for (int t = 0; t < 1000; ++t) {
+            final int maxbits = 1 + r.nextInt(31);
+            for (int k = 0; k < data.length; ++k)
+                data[k] = r.nextInt(8) == 0 ? r.nextInt() >>> (32 - maxbits)
+                        : r.nextInt(1 << (1 + r.nextInt(Math.min(maxbits, 8))));
+            // the slots must be cleared even if the output array is not
+            Arrays.fill(compressed, -1);
+            int[] block = Arrays.copyOfRange(data, 3, N + 3);
+
+            int[] expected = PForDelta.compressOneBlockOpt(block, N);
+            int size = PForDelta.compressOneBlockOpt(data, 3, N, compressed,
+                    5, expAux);
+            assertArrayEquals(expected,
+                    Arrays.copyOfRange(compressed, 5, 5 + size));
+            assertEquals(size, PForDelta.decompressOneBlock(uncompressed, 7,
+                    compressed, 5, N, expAux));
+            assertArrayEquals(block, Arrays.copyOfRange(uncompressed, 7, N + 7));
+
+            Arrays.fill(compressed, -1);
+            size = lc.compress(data, 3, N, compressed, 5);
+            assertEquals(reference.compress(block, N), size);
+            assertArrayEquals(
+                    Arrays.copyOf(reference.getCompBuffer(), size),
+                    Arrays.copyOfRange(compressed, 5, 5 + size));
+            assertEquals(size, lc.decompress(compressed, 5, uncompressed, 7, N));
+            assertArrayEquals(block, Arrays.copyOfRange(uncompressed, 7, N + 7));
+        }
+    }
+
     /**
      * check that the codecs can be inverted.
      */
@@ -291,6 +604,14 @@ public class BasicTest {
         testSpurious(new OptPFDS9());
         testSpurious(new OptPFDS16());
         testSpurious(new FastPFOR());
+        testSpurious(new IntegratedNewPFD());
+        testSpurious(new IntegratedOptPFD());
+        testSpurious(new ZigzagFastPFOR());
+        testSpurious(new ZigzagNewPFD());
+        testSpurious(new KamikazePForDelta());
+        testSpurious(new KamikazeLCPForDelta());
+        testSpurious(new IntegratedKamikazePForDelta());
+        testSpurious(new IntegratedKamikazeLCPForDelta());
     }
 
     /**
@@ -320,9 +641,22 @@ public class BasicTest {
         testZeroInZeroOut(new Composition(new OptPFDS9(), new VariableByte()));
         testZeroInZeroOut(new Composition(new OptPFDS16(), new VariableByte()));
         testZeroInZeroOut(new Composition(new FastPFOR(), new VariableByte()));
+        testZeroInZeroOut(new KamikazePForDelta());
+        testZeroInZeroOut(new KamikazeLCPForDelta());
+        testZeroInZeroOut(new IntegratedKamikazePForDelta());
+        testZeroInZeroOut(new IntegratedKamikazeLCPForDelta());
 
         testZeroInZeroOut(new IntegratedComposition(
                 new IntegratedBinaryPacking(), new IntegratedVariableByte()));
+        testZeroInZeroOut(new IntegratedNewPFD());
+        testZeroInZeroOut(new IntegratedOptPFD());
+        testZeroInZeroOut(new IntegratedSimple9());
+        testZeroInZeroOut(new IntegratedSimple16());
+        testZeroInZeroOut(new StridedDeltaBinaryPacking());
+        testZeroInZeroOut(new ZigzagFastPFOR());
+        testZeroInZeroOut(new ZigzagNewPFD());
+        testZeroInZeroOut(new ZigzagCODEC(new VariableByte()));
+        testZeroInZeroOut(new DictionaryCODEC());
     }
 
     private static void testSpurious(IntegerCODEC c) {
@@ -404,6 +738,25 @@ public class BasicTest {
                     new Composition(new FastPFOR(), new VariableByte()), data,
                     max);
             testCodec(new Simple9(), new Simple9(), data, max);
+            testCodec(new IntegratedComposition(new IntegratedNewPFD(),
+                    new IntegratedVariableByte()),
+                    new IntegratedComposition(new IntegratedNewPFD(),
+                            new IntegratedVariableByte()), data, max);
+            testCodec(new IntegratedComposition(new IntegratedOptPFD(),
+                    new IntegratedVariableByte()),
+                    new IntegratedComposition(new IntegratedOptPFD(),
+                            new IntegratedVariableByte()), data, max);
+            testCodec(new IntegratedSimple9(), new IntegratedSimple9(), data,
+                    max);
+            testCodec(new IntegratedSimple16(), new IntegratedSimple16(),
+                    data, max);
+            for (StridedDelta.Scheme scheme : StridedDelta.Scheme.values())
+                testCodec(new IntegratedComposition(
+                        new StridedDeltaBinaryPacking(scheme),
+                        new IntegratedVariableByte()),
+                        new IntegratedComposition(
+                                new StridedDeltaBinaryPacking(scheme),
+                                new IntegratedVariableByte()), data, max);
         }
     }
 
@@ -0,0 +1,97 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ */
+package me.lemire.integercompression;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that batches of arrays can be compressed and uncompressed.
+ */
+@SuppressWarnings({ "static-method", "javadoc" })
+public class BatchCODECTest {
+
+    private static int[][] generate(int howmany, Random r) {
+        int[][] data = new int[howmany][];
+        for (int k = 0; k < howmany; ++k) {
+            data[k] = new int[r.nextInt(300)];
+            for (int j = 0; j < data[k].length; ++j)
+                data[k][j] = r.nextInt(1 << r.nextInt(31));
+        }
+        return data;
+    }
+
+    private static void check(BatchCODEC bc, int[][] data, int shift) {
+        int total = 0;
+        for (int[] a : data)
+            total += a.length;
+        int[] compressed = new int[2 * total + 1024 + shift];
+        IntWrapper outpos = new IntWrapper(shift);
+        bc.compress(data, compressed, outpos);
+
+        assertEquals(data.length, BatchCODEC.count(compressed, shift));
+        assertEquals(total, bc.uncompressedLength(compressed, shift));
+
+        int[] flat = new int[total + shift];
+        int[] offsets = new int[data.length + 1];
+        IntWrapper inpos = new IntWrapper(shift);
+        IntWrapper flatpos = new IntWrapper(shift);
+        assertEquals(data.length,
+                bc.uncompress(compressed, inpos, flat, flatpos, offsets));
+        assertEquals(outpos.get(), inpos.get());
+        assertEquals(total + shift, flatpos.get());
+        for (int k = 0; k < data.length; ++k) {
+            assertEquals(data[k].length, offsets[k + 1] - offsets[k]);
+            for (int j = 0; j < data[k].length; ++j)
+                assertEquals(data[k][j], flat[offsets[k] + j]);
+        }
+
+        int[][] answer = bc.uncompress(compressed, new IntWrapper(shift));
+        assertArrayEquals(data, answer);
+    }
+
+    @Test
+    public void manySmallArrays() {
+        Random r = new Random(1234);
+        BatchCODEC bc = new BatchCODEC();
+        for (int t = 0; t < 20; ++t)
+            check(bc, generate(r.nextInt(100), r), t);
+    }
+
+    @Test
+    public void binaryPacking() {
+        Random r = new Random(4321);
+        BatchCODEC bc = new BatchCODEC(new Composition(new BinaryPacking(),
+                new VariableByte()));
+        for (int t = 0; t < 20; ++t)
+            check(bc, generate(r.nextInt(100), r), t);
+    }
+
+    @Test
+    public void emptyBatch() {
+        check(new BatchCODEC(), new int[0][], 0);
+        check(new BatchCODEC(), new int[][] { {}, {}, {} }, 3);
+    }
+
+    @Test
+    public void flatInput() {
+        int[] flat = new int[1000];
+        for (int k = 0; k < flat.length; ++k)
+            flat[k] = k % 13;
+        int[] offsets = { 10, 10, 500, 501, 1000 };
+        BatchCODEC bc = new BatchCODEC();
+        int[] compressed = new int[2048];
+        IntWrapper outpos = new IntWrapper(0);
+        bc.compress(flat, offsets, offsets.length - 1, compressed, outpos);
+        int[][] answer = bc.uncompress(compressed, new IntWrapper(0));
+        assertEquals(offsets.length - 1, answer.length);
+        for (int k = 0; k < answer.length; ++k)
+            for (int j = 0; j < answer[k].length; ++j)
+                assertEquals(flat[offsets[k] + j], answer[k][j]);
+    }
+}
@@ -0,0 +1,667 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ *
+ * (c) Daniel Lemire, http://lemire.me/en/
+ */
+
+package me.lemire.integercompression;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Generator of the unrolled bit packing kernels (one method per bit width).
+ *
+ * It regenerates the kernels of BitPacking (fastpack, fastpackwithoutmask
+ * and fastunpack) and of IntegratedBitPacking (integratedpack and
+ * integratedunpack) in place, leaving the hand-written methods of these
+ * classes untouched, and it writes the classes that are entirely generated:
+ * LongBitPacking (32 longs of up to 64 bits packed into ints) and
+ * ZigzagBitPacking (bit packing fused with zigzag encoding).
+ *
+ * The kernels are formatted as the existing ones (lines of at most 80
+ * characters, wrapped where necessary) so that regenerating the existing
+ * classes leaves them byte-identical; BasicTest checks it. Run it from the
+ * project directory with
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *         -Dexec.mainClass=me.lemire.integercompression.BitPackingGenerator
+ * </pre>
+ *
+ * @author Daniel Lemire
+ */
+public class BitPackingGenerator {
+        private static final int WIDTH = 80;
+        private static final String I1 = "        ";
+        private static final String I2 = I1 + I1;
+        private static final String I3 = I2 + I1;
+
+        private static final String PACKAGE = "me/lemire/integercompression/";
+
+        /**
+         * A family of kernels: a dispatch method and one kernel per bit
+         * width.
+         */
+        public enum Family {
+                /** BitPacking.fastpack */
+                FASTPACK("fastpack", 32),
+                /** BitPacking.fastpackwithoutmask */
+                FASTPACKWITHOUTMASK("fastpackwithoutmask", 32),
+                /** BitPacking.fastunpack */
+                FASTUNPACK("fastunpack", 32),
+                /** IntegratedBitPacking.integratedpack */
+                INTEGRATEDPACK("integratedpack", 32),
+                /** IntegratedBitPacking.integratedunpack */
+                INTEGRATEDUNPACK("integratedunpack", 32),
+                /** LongBitPacking.fastpack */
+                LONGPACK("fastpack", 64),
+                /** LongBitPacking.fastunpack */
+                LONGUNPACK("fastunpack", 64),
+                /** ZigzagBitPacking.fastpack */
+                ZIGZAGPACK("fastpack", 32),
+                /** ZigzagBitPacking.fastunpack */
+                ZIGZAGUNPACK("fastunpack", 32);
+
+                final String name;
+                final int maxbit;
+
+                Family(String name, int maxbit) {
+                        this.name = name;
+                        this.maxbit = maxbit;
+                }
+        }
+
+        /**
+         * Regenerate the kernels.
+         *
+         * @param args
+         *                the source directory (src/main/java by default)
+         * @throws IOException
+         *                 if a source file cannot be read or written
+         */
+        public static void main(String[] args) throws IOException {
+                final File root = new File(args.length > 0 ? args[0]
+                        : "src/main/java");
+                splice(new File(root, PACKAGE + "BitPacking.java"),
+                        Family.FASTPACK, Family.FASTPACKWITHOUTMASK,
+                        Family.FASTUNPACK);
+                splice(new File(root, PACKAGE
+                        + "differential/IntegratedBitPacking.java"),
+                        Family.INTEGRATEDPACK, Family.INTEGRATEDUNPACK);
+                write(new File(root, PACKAGE + "LongBitPacking.java"),
+                        longBitPacking());
+                write(new File(root, PACKAGE + "ZigzagBitPacking.java"),
+                        zigzagBitPacking());
+        }
+
+        /**
+         * Source of a family: the dispatch method followed by the kernels,
+         * as it appears in the class.
+         *
+         * @param f
+         *                the family
+         * @return the source code
+         */
+        public static String generate(Family f) {
+                StringBuilder sb = new StringBuilder();
+                sb.append(header(f));
+                sb.append(I2 + "switch (bit) {\n");
+                for (int b = 0; b <= f.maxbit; ++b) {
+                        sb.append(I2 + "case " + b + ":\n");
+                        sb.append(I3 + f.name + b + "(" + arguments(f)
+                                + ");\n");
+                        sb.append(I3 + "break;\n");
+                }
+                sb.append(I2 + "default:\n");
+                sb.append(I3 + "throw new IllegalArgumentException(\n");
+                sb.append(I3 + I1 + "\"Unsupported bit width.\");\n");
+                if (f == Family.FASTPACK)
+                        sb.append(I3 + "/**\n" + I3 + " * @param in\n" + I3
+                                + " * @param inpos\n" + I3 + " * @param out\n"
+                                + I3 + " * @param outpos\n" + I3
+                                + " * @param bit\n" + I3 + " */\n");
+                sb.append(I2 + "}\n");
+                sb.append(I1 + "}\n");
+                // the kernels are sorted by name
+                String[] widths = new String[f.maxbit + 1];
+                for (int b = 0; b <= f.maxbit; ++b)
+                        widths[b] = Integer.toString(b);
+                Arrays.sort(widths);
+                for (String w : widths) {
+                        sb.append("\n");
+                        kernel(sb, f, Integer.parseInt(w));
+                }
+                return sb.toString();
+        }
+
+        /**
+         * Source of LongBitPacking.
+         *
+         * @return the source code
+         */
+        public static String longBitPacking() {
+                return "/**\n"
+                        + " * This code is released under the\n"
+                        + " * Apache License Version 2.0 http://www.apache.org/licenses/.\n"
+                        + " *\n"
+                        + " * (c) Daniel Lemire, http://lemire.me/en/\n"
+                        + " */\n"
+                        + "\n"
+                        + "package me.lemire.integercompression;\n"
+                        + "\n"
+                        + "import java.util.Arrays;\n"
+                        + "\n"
+                        + "/**\n"
+                        + " * Bitpacking routines for longs: 32 longs using bit bits each (0 to 64)\n"
+                        + " * are packed into bit 32-bit words, with the same layout as BitPacking.\n"
+                        + " * They are used by LongBinaryPacking.\n"
+                        + " * \n"
+                        + " * This class is generated by BitPackingGenerator: do not edit it.\n"
+                        + " * \n"
+                        + " * @author Daniel Lemire\n"
+                        + " */\n"
+                        + "public final class LongBitPacking {\n"
+                        + "\n" + generate(Family.LONGPACK) + "\n"
+                        + generate(Family.LONGUNPACK) + "\n" + "}\n";
+        }
+
+        /**
+         * Source of ZigzagBitPacking.
+         *
+         * @return the source code
+         */
+        public static String zigzagBitPacking() {
+                return "/**\n"
+                        + " * This code is released under the\n"
+                        + " * Apache License Version 2.0 http://www.apache.org/licenses/.\n"
+                        + " *\n"
+                        + " * (c) Daniel Lemire, http://lemire.me/en/\n"
+                        + " */\n"
+                        + "\n"
+                        + "package me.lemire.integercompression;\n"
+                        + "\n"
+                        + "import java.util.Arrays;\n"
+                        + "\n"
+                        + "/**\n"
+                        + " * Bitpacking routines fused with zigzag encoding, for signed integers\n"
+                        + " * close to zero: fastpack(in, ..., bit) produces the same words as\n"
+                        + " * BitPacking.fastpack applied to the zigzag-encoded integers (see\n"
+                        + " * Util.zigzagEncode) and fastunpack decodes them while unpacking.\n"
+                        + " * They are used by ZigzagFastPFOR and ZigzagNewPFD.\n"
+                        + " * \n"
+                        + " * This class is generated by BitPackingGenerator: do not edit it.\n"
+                        + " * \n"
+                        + " * @author Daniel Lemire\n"
+                        + " */\n"
+                        + "public final class ZigzagBitPacking {\n"
+                        + "\n" + generate(Family.ZIGZAGPACK) + "\n"
+                        + generate(Family.ZIGZAGUNPACK) + "\n" + "}\n";
+        }
+
+        private static String header(Family f) {
+                switch (f) {
+                case FASTPACK:
+                        return javadoc("Pack 32 integers", "source array",
+                                "position in source array", "output array",
+                                "position in output array",
+                                "number of bits to use per integer")
+                                + I1
+                                + "public static void fastpack(final int[] in, final int inpos,\n"
+                                + I2
+                                + "final int[] out, final int outpos, final int bit) {\n";
+                case FASTPACKWITHOUTMASK:
+                        return javadoc("Unpack 32 integers", "source array",
+                                "position in source array", "output array",
+                                "position in output array",
+                                "number of bits to use per integer")
+                                + I1
+                                + "public static void fastpackwithoutmask(final int[] in, final int inpos,\n"
+                                + I2
+                                + "final int[] out, final int outpos, final int bit) {\n";
+                case FASTUNPACK:
+                        return javadoc("Pack the 32 integers", "source array",
+                                "starting point in the source array",
+                                "output array",
+                                "starting point in the output array",
+                                "how many bits to use per integer")
+                                + I1
+                                + "public static void fastunpack(final int[] in, final int inpos,\n"
+                                + I2
+                                + "final int[] out, final int outpos, final int bit) {\n";
+                case INTEGRATEDPACK:
+                        return I1
+                                + "/**\n"
+                                + I1
+                                + " * Pack 32 integers as deltas with an initial value \n"
+                                + I1
+                                + " * \n"
+                                + I1
+                                + " * @param initoffset initial value (used to compute first delta)\n"
+                                + I1 + " * @param in input array\n" + I1
+                                + " * @param inpos initial position in input array\n"
+                                + I1 + " * @param out output array\n" + I1
+                                + " * @param outpos initial position in output array\n"
+                                + I1
+                                + " * @param bit number of bits to use per integer\n"
+                                + I1
+                                + " */\n"
+                                + I1
+                                + "public static void integratedpack(final int initoffset, final int[] in,\n"
+                                + I2
+                                + "final int inpos, final int[] out, final int outpos, final int bit) {\n";
+                case INTEGRATEDUNPACK:
+                        return I1
+                                + "/**\n"
+                                + I1
+                                + " * Unpack 32 integers along with prefix sum computation\n"
+                                + I1
+                                + " * \n"
+                                + I1
+                                + " * @param initoffset value to add to all outputted values\n"
+                                + I1 + " * @param in source array\n" + I1
+                                + " * @param inpos initial position in source array\n"
+                                + I1 + " * @param out output array\n" + I1
+                                + " * @param outpos initial position in output array\n"
+                                + I1
+                                + " * @param bit number of bits to use per integer\n"
+                                + I1
+                                + " */\n"
+                                + I1
+                                + "public static void integratedunpack(final int initoffset,\n"
+                                + I2
+                                + "final int[] in, final int inpos, final int[] out, final int outpos,\n"
+                                + I2 + "final int bit) {\n";
+                case LONGPACK:
+                        return javadoc("Pack 32 longs into bit 32-bit words",
+                                "source array", "position in source array",
+                                "output array", "position in output array",
+                                "number of bits to use per long (0 to 64)")
+                                + I1
+                                + "public static void fastpack(final long[] in, final int inpos,\n"
+                                + I2
+                                + "final int[] out, final int outpos, final int bit) {\n";
+                case LONGUNPACK:
+                        return javadoc("Unpack 32 longs from bit 32-bit words",
+                                "source array", "position in source array",
+                                "output array", "position in output array",
+                                "number of bits used per long (0 to 64)")
+                                + I1
+                                + "public static void fastunpack(final int[] in, final int inpos,\n"
+                                + I2
+                                + "final long[] out, final int outpos, final int bit) {\n";
+                case ZIGZAGPACK:
+                        return javadoc("Zigzag encode and pack 32 integers",
+                                "source array", "position in source array",
+                                "output array", "position in output array",
+                                "number of bits to use per zigzag-encoded integer")
+                                + I1
+                                + "public static void fastpack(final int[] in, final int inpos,\n"
+                                + I2
+                                + "final int[] out, final int outpos, final int bit) {\n";
+                case ZIGZAGUNPACK:
+                        return javadoc("Unpack and zigzag decode 32 integers",
+                                "source array", "position in source array",
+                                "output array", "position in output array",
+                                "number of bits used per zigzag-encoded integer")
+                                + I1
+                                + "public static void fastunpack(final int[] in, final int inpos,\n"
+                                + I2
+                                + "final int[] out, final int outpos, final int bit) {\n";
+                default:
+                        throw new IllegalArgumentException("unknown family "
+                                + f);
+                }
+        }
+
+        private static String javadoc(String summary, String in,
+                String inpos, String out, String outpos, String bit) {
+                return I1 + "/**\n" + I1 + " * " + summary + "\n" + I1
+                        + " * \n" + param("in", in) + param("inpos", inpos)
+                        + param("out", out) + param("outpos", outpos)
+                        + param("bit", bit) + I1 + " */\n";
+        }
+
+        private static String param(String name, String description) {
+                return I1 + " * @param " + name + "\n" + I1 + " *        "
+                        + I1 + description + "\n";
+        }
+
+        private static boolean integrated(Family f) {
+                return f == Family.INTEGRATEDPACK
+                        || f == Family.INTEGRATEDUNPACK;
+        }
+
+        private static String arguments(Family f) {
+                return integrated(f) ? "initoffset, in, inpos, out, outpos"
+                        : "in, inpos, out, outpos";
+        }
+
+        private static void kernel(StringBuilder sb, Family f, int b) {
+                final String in = f == Family.LONGPACK ? "long[]" : "int[]";
+                final String out = f == Family.LONGUNPACK ? "long[]"
+                        : "int[]";
+                List<String> params = new ArrayList<String>();
+                if (integrated(f))
+                        params.add("final int initoffset,");
+                params.add("final " + in + " in,");
+                params.add("int inpos,");
+                params.add("final " + out + " out,");
+                params.add("int outpos) {");
+                wrap(sb, I1 + "protected static void " + f.name + b + "(",
+                        params, "", I2);
+                if (b == 0) {
+                        if (f == Family.INTEGRATEDUNPACK)
+                                sb.append(I2
+                                        + "Arrays.fill(out, outpos, outpos + 32, initoffset);\n");
+                        else if (f == Family.FASTUNPACK
+                                || f == Family.LONGUNPACK
+                                || f == Family.ZIGZAGUNPACK)
+                                sb.append(I2
+                                        + "Arrays.fill(out, outpos, outpos + 32, 0);\n");
+                        else
+                                sb.append(I2 + "// nothing\n");
+                } else if (b == 32 && f.ordinal() <= Family.INTEGRATEDUNPACK
+                        .ordinal()) {
+                        final String copy = I2
+                                + "System.arraycopy(in, inpos, out, outpos, 32);";
+                        if (integrated(f)) {
+                                final String margin = copy.replaceAll(".",
+                                        " ");
+                                sb.append(copy + " // no sense in\n" + margin
+                                        + " // doing delta\n" + margin
+                                        + " // coding\n");
+                        } else {
+                                sb.append(copy + "\n");
+                        }
+                } else {
+                        switch (f) {
+                        case FASTPACK:
+                        case FASTPACKWITHOUTMASK:
+                        case INTEGRATEDPACK:
+                        case ZIGZAGPACK:
+                                pack(sb, f, b);
+                                break;
+                        case FASTUNPACK:
+                        case INTEGRATEDUNPACK:
+                        case ZIGZAGUNPACK:
+                                unpack(sb, f, b);
+                                break;
+                        case LONGPACK:
+                                longpack(sb, b);
+                                break;
+                        case LONGUNPACK:
+                                longunpack(sb, b);
+                                break;
+                        default:
+                                throw new IllegalArgumentException(
+                                        "unknown family " + f);
+                        }
+                }
+                sb.append(I1 + "}\n");
+        }
+
+        private static String in(int k) {
+                return "in[" + k + " + inpos]";
+        }
+
+        private static String mask(int bits) {
+                return Integer.toString((int) ((1L << bits) - 1));
+        }
+
+        private static void pack(StringBuilder sb, Family f, int b) {
+                for (int w = 0; w < b; ++w) {
+                        List<String> terms = new ArrayList<String>();
+                        for (int k = 0; k < 32; ++k) {
+                                final int start = k * b;
+                                final int s = start & 31;
+                                if ((start >>> 5) == w - 1 && s + b > 32)
+                                        terms.add(spanningPackTerm(f, k, b,
+                                                s + b - 32));
+                                else if ((start >>> 5) == w)
+                                        terms.add(packTerm(f, k, b, s,
+                                                terms.isEmpty()));
+                        }
+                        statement(sb, "out[" + w + " + outpos]", terms, "|");
+                }
+        }
+
+        private static String value(Family f, int k) {
+                switch (f) {
+                case INTEGRATEDPACK:
+                        return k == 0 ? "(" + in(k) + " - initoffset)" : "("
+                                + in(k) + " - in[" + k + " + inpos - 1])";
+                case ZIGZAGPACK:
+                        return "((" + in(k) + " << 1) ^ (" + in(k) + " >> 31))";
+                default:
+                        return in(k);
+                }
+        }
+
+        private static String spanningPackTerm(Family f, int k, int b, int r) {
+                final String shift = " >>> (" + b + " - " + r + ")";
+                switch (f) {
+                case FASTPACKWITHOUTMASK:
+                        return "((" + value(f, k) + ")" + shift + ")";
+                case INTEGRATEDPACK:
+                        return value(f, k) + shift;
+                default:
+                        return "((" + value(f, k) + " & " + mask(b) + ")"
+                                + shift + ")";
+                }
+        }
+
+        private static String packTerm(Family f, int k, int b, int s,
+                boolean first) {
+                final boolean masked = s + b < 32
+                        && f != Family.FASTPACKWITHOUTMASK
+                        && f != Family.INTEGRATEDPACK;
+                if (s == 0 && first) {
+                        if (f == Family.FASTPACKWITHOUTMASK
+                                || f == Family.INTEGRATEDPACK || b == 32)
+                                return value(f, k);
+                        return "(" + value(f, k) + " & " + mask(b) + ")";
+                }
+                if (f == Family.INTEGRATEDPACK)
+                        return "(" + value(f, k) + " << " + s + ")";
+                return "((" + value(f, k) + (masked ? " & " + mask(b) : "")
+                        + ") << " + s + ")";
+        }
+
+        private static void unpack(StringBuilder sb, Family f, int b) {
+                for (int k = 0; k < 32; ++k) {
+                        final int start = k * b;
+                        final int w = start >>> 5;
+                        final int s = start & 31;
+                        List<String> terms = new ArrayList<String>();
+                        if (s + b < 32) {
+                                terms.add("((" + in(w) + " >>> " + s + ") & "
+                                        + mask(b) + ")");
+                        } else if (s + b == 32) {
+                                terms.add("(" + in(w) + " >>> " + s + ")");
+                        } else {
+                                final int r = s + b - 32;
+                                terms.add("(" + in(w) + " >>> " + s + ")");
+                                terms.add("((" + in(w + 1) + " & " + mask(r)
+                                        + ") << (" + b + " - " + r + "))");
+                        }
+                        final String lhs = "out[" + k + " + outpos]";
+                        if (f == Family.FASTUNPACK) {
+                                statement(sb, lhs, terms, "|");
+                        } else if (f == Family.INTEGRATEDUNPACK) {
+                                List<String> sum = new ArrayList<String>();
+                                sum.add("(" + join(terms, "|") + ")");
+                                sum.add(k == 0 ? "initoffset" : "out[" + k
+                                        + " + outpos - 1]");
+                                statement(sb, lhs, sum, "+");
+                        } else {
+                                statement(sb, (k == 0 ? "int " : "") + "v",
+                                        terms, "|");
+                                statement(sb, lhs,
+                                        Arrays.asList("(v >>> 1)", "-(v & 1)"),
+                                        "^");
+                        }
+                }
+        }
+
+        private static String longmask(int bits) {
+                return Long.toString((1L << bits) - 1) + "L";
+        }
+
+        private static void longpack(StringBuilder sb, int b) {
+                for (int w = 0; w < b; ++w) {
+                        List<String> terms = new ArrayList<String>();
+                        for (int k = 0; k < 32; ++k) {
+                                final int start = k * b;
+                                final int end = start + b;
+                                if (end <= 32 * w || start >= 32 * w + 32)
+                                        continue;
+                                // bits above b are discarded by the cast
+                                // when the long reaches the end of the word
+                                final String v = end >= 32 * w + 32 ? in(k)
+                                        : "(" + in(k) + " & " + longmask(b)
+                                                + ")";
+                                if (start < 32 * w)
+                                        terms.add("(int) (" + v + " >>> "
+                                                + (32 * w - start) + ")");
+                                else if (start == 32 * w)
+                                        terms.add("(int) " + v);
+                                else
+                                        terms.add("(int) (" + v + " << "
+                                                + (start - 32 * w) + ")");
+                        }
+                        statement(sb, "out[" + w + " + outpos]", terms, "|");
+                }
+        }
+
+        private static void longunpack(StringBuilder sb, int b) {
+                for (int k = 0; k < 32; ++k) {
+                        final int start = k * b;
+                        final int end = start + b;
+                        List<String> terms = new ArrayList<String>();
+                        for (int w = start >>> 5; 32 * w < end; ++w) {
+                                final int s = start - 32 * w;
+                                final int r = Math.min(end - 32 * w, 32);
+                                String word;
+                                if (s > 0)
+                                        word = r < 32 ? "((" + in(w) + " >>> "
+                                                + s + ") & " + mask(r - s)
+                                                + ")" : "(" + in(w) + " >>> "
+                                                + s + ")";
+                                else
+                                        word = r < 32 ? "(" + in(w) + " & "
+                                                + mask(r) + ")" : "(" + in(w)
+                                                + " & 4294967295L)";
+                                if (s >= 0)
+                                        terms.add(word.endsWith("L)") ? word
+                                                : "(long) " + word);
+                                else if (word.endsWith("L)"))
+                                        terms.add("(" + word + " << " + (-s)
+                                                + ")");
+                                else
+                                        terms.add("((long) " + word + " << "
+                                                + (-s) + ")");
+                        }
+                        statement(sb, "out[" + k + " + outpos]", terms, "|");
+                }
+        }
+
+        private static String join(List<String> terms, String op) {
+                StringBuilder sb = new StringBuilder(terms.get(0));
+                for (int i = 1; i < terms.size(); ++i)
+                        sb.append(" " + op + " " + terms.get(i));
+                return sb.toString();
+        }
+
+        // lhs = t0 op t1 op t2 ...; wrapped where necessary
+        private static void statement(StringBuilder sb, String lhs,
+                List<String> terms, String op) {
+                List<String> pieces = new ArrayList<String>();
+                pieces.add(lhs + " = " + terms.get(0));
+                for (int i = 1; i < terms.size(); ++i)
+                        pieces.add(op + " " + terms.get(i));
+                wrap(sb, I2, pieces, ";", I3);
+        }
+
+        private static void wrap(StringBuilder sb, String prefix,
+                List<String> pieces, String end, String indent) {
+                StringBuilder line = new StringBuilder(prefix);
+                line.append(pieces.get(0));
+                for (int i = 1; i < pieces.size(); ++i) {
+                        final String piece = pieces.get(i)
+                                + (i == pieces.size() - 1 ? end : "");
+                        if (line.length() + 1 + piece.length() <= WIDTH) {
+                                line.append(" ").append(piece);
+                        } else {
+                                sb.append(line).append("\n");
+                                line = new StringBuilder(indent).append(piece);
+                        }
+                }
+                if (pieces.size() == 1)
+                        line.append(end);
+                sb.append(line).append("\n");
+        }
+
+        private static void splice(File file, Family... families)
+                throws IOException {
+                String source = read(file);
+                for (Family f : families) {
+                        final String generated = generate(f);
+                        final String first = generated.substring(0,
+                                generated.indexOf("switch (bit)"));
+                        final int start = source.indexOf(first);
+                        final String last = "void " + f.name + "9(";
+                        final int end = source.indexOf("\n" + I1 + "}\n",
+                                source.indexOf(last, start)) + 3 + I1.length();
+                        if (start < 0 || end < start)
+                                throw new IOException("cannot find " + f
+                                        + " in " + file);
+                        source = source.substring(0, start) + generated
+                                + source.substring(end);
+                }
+                write(file, source);
+        }
+
+        /**
+         * Read a source file.
+         *
+         * @param file
+         *                the file
+         * @return its content
+         * @throws IOException
+         *                 if the file cannot be read
+         */
+        public static String read(File file) throws IOException {
+                InputStream is = new FileInputStream(file);
+                try {
+                        byte[] content = new byte[(int) file.length()];
+                        int n = 0;
+                        while (n < content.length) {
+                                int r = is.read(content, n, content.length - n);
+                                if (r < 0)
+                                        break;
+                                n += r;
+                        }
+                        return new String(content, 0, n, "UTF-8");
+                } finally {
+                        is.close();
+                }
+        }
+
+        private static void write(File file, String source) throws IOException {
+                OutputStream os = new FileOutputStream(file);
+                try {
+                        os.write(source.getBytes("UTF-8"));
+                } finally {
+                        os.close();
+                }
+        }
+}
@@ -0,0 +1,191 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ */
+package me.lemire.integercompression;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import me.lemire.integercompression.differential.IntegratedBinaryPacking;
+import me.lemire.integercompression.differential.IntegratedFastPFOR;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that the block iterators return the uncompressed data.
+ */
+@SuppressWarnings({ "static-method", "javadoc" })
+public class BlockIteratorTest {
+
+    private static int[] generate(int N, boolean sorted, Random r) {
+        int[] data = new int[N];
+        for (int k = 0; k < N; ++k) {
+            // mostly small values with a few exceptions
+            int v = r.nextInt(20) == 0 ? r.nextInt(1 << 20) : r.nextInt(64);
+            data[k] = sorted ? (k == 0 ? 0 : data[k - 1]) + v : v;
+        }
+        return data;
+    }
+
+    private static int[] compress(IntegerCODEC c, int[] data) {
+        int[] compressed = new int[2 * data.length + 1024];
+        IntWrapper outpos = new IntWrapper(3);
+        c.compress(data, new IntWrapper(), data.length, compressed, outpos);
+        return Arrays.copyOf(compressed, outpos.get());
+    }
+
+    private static void check(IntIterator i, int[] data, int length) {
+        for (int k = 0; k < length; ++k) {
+            assertTrue(i.hasNext());
+            assertEquals(data[k], i.next());
+        }
+        assertFalse(i.hasNext());
+        try {
+            i.next();
+            fail();
+        } catch (NoSuchElementException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void binaryPacking() {
+        Random r = new Random(1234);
+        BinaryPacking bp = new BinaryPacking(true);
+        for (int N : new int[] { 0, 1, 127, 128, 129, 1000, 4096 }) {
+            int[] data = generate(N, false, r);
+            int[] compressed = compress(bp, data);
+            check(bp.iterator(compressed, 3, compressed.length - 3), data, N);
+        }
+    }
+
+    @Test
+    public void fastPFOR() {
+        Random r = new Random(1234);
+        FastPFOR fp = new FastPFOR(1024, true);
+        for (int N : new int[] { 0, 1, 127, 128, 1000, 1024, 5000 }) {
+            int[] data = generate(N, false, r);
+            int[] compressed = compress(fp, data);
+            check(fp.iterator(compressed, 3, compressed.length - 3), data, N);
+        }
+    }
+
+    @Test
+    public void integratedBinaryPacking() {
+        Random r = new Random(1234);
+        IntegratedBinaryPacking ibp = new IntegratedBinaryPacking();
+        for (int N : new int[] { 0, 128, 1024, 4096 }) {
+            int[] data = generate(N, true, r);
+            int[] compressed = compress(ibp, data);
+            check(ibp.iterator(compressed, 3, compressed.length - 3), data, N);
+        }
+    }
+
+    @Test
+    public void integratedFastPFOR() {
+        Random r = new Random(1234);
+        IntegratedFastPFOR ifp = new IntegratedFastPFOR(1024);
+        for (int N : new int[] { 0, 128, 1024, 5120 }) {
+            int[] data = generate(N, true, r);
+            int[] compressed = compress(ifp, data);
+            check(ifp.iterator(compressed, 3, compressed.length - 3), data, N);
+        }
+    }
+
+    @Test
+    public void bulk() {
+        Random r = new Random(1234);
+        FastPFOR fp = new FastPFOR(1024, true);
+        int[] data = generate(3000, false, r);
+        int[] compressed = compress(fp, data);
+        BlockIterator i = fp.iterator(compressed, 3, compressed.length - 3);
+        int[] out = new int[data.length];
+        int outpos = 0;
+        assertEquals(data[0], i.next());
+        out[outpos++] = data[0];
+        for (int copied; (copied = i.next(out, outpos, 1 + r.nextInt(300))) > 0;)
+            outpos += copied;
+        assertEquals(data.length, outpos);
+        assertArrayEquals(data, out);
+    }
+
+    private static void checkSplit(BlockIterator i, int[] data, int parts) {
+        // consume a few integers first: splitting happens mid-stream
+        int k = 0;
+        for (; k < Math.min(data.length, 5); ++k)
+            assertEquals(data[k], i.next());
+        List<BlockIterator> split = ParallelAggregation.split(i, parts);
+        int total = 0;
+        for (BlockIterator part : split)
+            total += part.size();
+        assertEquals(data.length - k, total);
+        for (BlockIterator part : split)
+            while (part.hasNext())
+                assertEquals(data[k++], part.next());
+        assertEquals(data.length, k);
+    }
+
+    @Test
+    public void split() {
+        Random r = new Random(1234);
+        BinaryPacking bp = new BinaryPacking(true);
+        FastPFOR fp = new FastPFOR(1024, true);
+        for (int N : new int[] { 0, 100, 128, 1000, 5000, 10000 }) {
+            int[] data = generate(N, false, r);
+            int[] compressed = compress(bp, data);
+            for (int parts = 1; parts < 10; ++parts)
+                checkSplit(bp.iterator(compressed, 3, compressed.length - 3),
+                        data, parts);
+            compressed = compress(fp, data);
+            for (int parts = 1; parts < 10; ++parts)
+                checkSplit(fp.iterator(compressed, 3, compressed.length - 3),
+                        data, parts);
+        }
+        int[] data = generate(5120, true, r);
+        IntegratedFastPFOR ifp = new IntegratedFastPFOR(1024);
+        int[] compressed = compress(ifp, data);
+        assertNull(ifp.iterator(compressed, 3, compressed.length - 3)
+                .trySplit());
+    }
+
+    @Test
+    public void parallelAggregation() throws InterruptedException {
+        Random r = new Random(1234);
+        int[] data = generate(100000, false, r);
+        long sum = 0;
+        int count = 0;
+        for (int v : data) {
+            sum += v;
+            if (v >= 32)
+                ++count;
+        }
+        FastPFOR fp = new FastPFOR(4096, true);
+        int[] compressed = compress(fp, data);
+        IntPredicate large = new IntPredicate() {
+            @Override
+            public boolean test(int value) {
+                return value >= 32;
+            }
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (int parallelism = 1; parallelism <= 8; parallelism *= 2) {
+                assertEquals(sum, ParallelAggregation.sum(
+                        fp.iterator(compressed, 3, compressed.length - 3),
+                        executor, parallelism));
+                assertEquals(count, ParallelAggregation.count(
+                        fp.iterator(compressed, 3, compressed.length - 3),
+                        large, executor, parallelism));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
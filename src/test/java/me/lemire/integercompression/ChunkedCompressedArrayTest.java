@@ -0,0 +1,130 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ */
+package me.lemire.integercompression;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import me.lemire.integercompression.differential.IntegratedBinaryPacking;
+import me.lemire.integercompression.differential.IntegratedComposition;
+import me.lemire.integercompression.differential.IntegratedVariableByte;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that chunked arrays can be appended to and uncompressed.
+ */
+@SuppressWarnings({ "static-method", "javadoc" })
+public class ChunkedCompressedArrayTest {
+
+    private static final IntegerCODECFactory fastpfor = new IntegerCODECFactory() {
+        @Override
+        public IntegerCODEC newCodec() {
+            return new Composition(new FastPFOR(), new VariableByte());
+        }
+    };
+
+    private static final IntegerCODECFactory integrated = new IntegerCODECFactory() {
+        @Override
+        public IntegerCODEC newCodec() {
+            return new IntegratedComposition(new IntegratedBinaryPacking(),
+                    new IntegratedVariableByte());
+        }
+    };
+
+    private static int[] generate(int N, boolean sorted, Random r) {
+        int[] data = new int[N];
+        for (int k = 0; k < N; ++k)
+            data[k] = sorted ? (k == 0 ? 0 : data[k - 1]) + r.nextInt(100)
+                    : r.nextInt(1 << r.nextInt(31));
+        return data;
+    }
+
+    private static ChunkedCompressedArray append(IntegerCODECFactory f,
+            int chunkSize, int[] data, Random r) {
+        ChunkedCompressedArray a = new ChunkedCompressedArray(f, chunkSize);
+        IntWrapper inpos = new IntWrapper();
+        while (inpos.get() < data.length) {
+            int howmany = Math.min(data.length - inpos.get(),
+                    r.nextInt(3 * chunkSize));
+            a.append(data, inpos, howmany);
+        }
+        assertEquals(data.length, a.length());
+        assertEquals((data.length + chunkSize - 1) / chunkSize,
+                a.chunkCount());
+        return a;
+    }
+
+    private static void check(IntegerCODECFactory f, int chunkSize,
+            boolean sorted, Random r) throws InterruptedException {
+        int[] data = generate(r.nextInt(10 * chunkSize), sorted, r);
+        ChunkedCompressedArray a = append(f, chunkSize, data, r);
+
+        // sequential reads of random lengths
+        int[] out = new int[data.length + 1];
+        LongWrapper inpos = new LongWrapper();
+        IntWrapper outpos = new IntWrapper(1);
+        while (inpos.get() < data.length) {
+            int howmany = Math.min(data.length - (int) inpos.get(),
+                    r.nextInt(3 * chunkSize));
+            a.uncompress(inpos, out, outpos, howmany);
+        }
+        assertEquals(data.length, inpos.get());
+        assertEquals(data.length + 1, outpos.get());
+        for (int k = 0; k < data.length; ++k)
+            assertEquals(data[k], out[k + 1]);
+
+        for (int t = 0; t < 100 && data.length > 0; ++t) {
+            int index = r.nextInt(data.length);
+            assertEquals(data[index], a.get(index));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            int[][] chunks = a.uncompress(executor);
+            assertEquals(a.chunkCount(), chunks.length);
+            for (int k = 0; k < data.length; ++k)
+                assertEquals(data[k], chunks[k / chunkSize][k % chunkSize]);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void fastPFOR() throws InterruptedException {
+        Random r = new Random(1234);
+        for (int t = 0; t < 10; ++t)
+            check(fastpfor, 1 + r.nextInt(5000), false, r);
+    }
+
+    @Test
+    public void integrated() throws InterruptedException {
+        Random r = new Random(4321);
+        for (int t = 0; t < 10; ++t)
+            check(integrated, 1 + r.nextInt(5000), true, r);
+    }
+
+    @Test
+    public void outOfBounds() {
+        ChunkedCompressedArray a = new ChunkedCompressedArray(fastpfor, 128);
+        a.append(new int[300], new IntWrapper(), 300);
+        try {
+            a.uncompress(new LongWrapper(200), new int[101], new IntWrapper(),
+                    101);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void chunkSizeTooLarge() {
+        new ChunkedCompressedArray(fastpfor,
+                ChunkedCompressedArray.MAX_CHUNK_SIZE + 1);
+    }
+}
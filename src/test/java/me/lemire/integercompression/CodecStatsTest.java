@@ -0,0 +1,102 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ */
+package me.lemire.integercompression;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that the optional statistics are collected.
+ */
+@SuppressWarnings({ "static-method", "javadoc" })
+public class CodecStatsTest {
+
+    private static int[] data(int N) {
+        int[] data = new int[N];
+        for (int k = 0; k < N; ++k)
+            data[k] = k % 7;
+        data[5] = 1 << 20;
+        return data;
+    }
+
+    private static void check(IntegerCODEC c, CodecStats stats) {
+        int N = 4096;
+        int[] data = data(N);
+        int[] comp = TestUtils.compress(c, data);
+        int[] answer = TestUtils.uncompress(c, comp, N);
+        assertArrayEquals(data, answer);
+        CodecStats.Snapshot s = stats.snapshot();
+        assertEquals(1, s.getCompressCalls());
+        assertEquals(1, s.getUncompressCalls());
+        assertEquals(N, s.getIntegersCompressed());
+        assertEquals(N, s.getIntegersUncompressed());
+        assertEquals(comp.length, s.getWordsCompressed());
+        assertEquals(comp.length, s.getWordsUncompressed());
+        long total = 0;
+        for (long count : s.getBitWidthHistogram())
+            total += count;
+        assertEquals(s.getBlocks(), total);
+        stats.reset();
+        assertEquals(0, stats.snapshot().getBlocks());
+    }
+
+    @Test
+    public void fastPFOR() {
+        CodecStats stats = new CodecStats();
+        FastPFOR c = new FastPFOR();
+        c.setStats(stats);
+        int[] comp = TestUtils.compress(c, data(4096));
+        CodecStats.Snapshot s = stats.snapshot();
+        assertEquals(4096 / 128, s.getBlocks());
+        assertEquals(4096 / 128, s.getBitWidthCount(3));
+        assertEquals(1, s.getExceptions());
+        assertEquals(comp.length, s.getWordsCompressed());
+        stats.reset();
+        check(c, stats);
+    }
+
+    @Test
+    public void newPFD() {
+        CodecStats stats = new CodecStats();
+        NewPFD c = new NewPFD();
+        c.setStats(stats);
+        check(c, stats);
+    }
+
+    @Test
+    public void optPFD() {
+        CodecStats stats = new CodecStats();
+        OptPFD c = new OptPFD();
+        c.setStats(stats);
+        check(c, stats);
+    }
+
+    @Test
+    public void binaryPacking() {
+        CodecStats stats = new CodecStats();
+        BinaryPacking c = new BinaryPacking();
+        c.setStats(stats);
+        TestUtils.compress(c, data(4096));
+        assertEquals(4096 / 32, stats.snapshot().getBlocks());
+        assertEquals(0, stats.snapshot().getExceptions());
+        stats.reset();
+        check(c, stats);
+    }
+
+    @Test
+    public void merge() {
+        CodecStats a = new CodecStats();
+        CodecStats b = new CodecStats();
+        a.recordBlock(3, 1);
+        b.recordBlock(3, 0);
+        b.recordBlock(5, 2);
+        CodecStats.Snapshot m = a.snapshot().merge(b.snapshot());
+        assertEquals(3, m.getBlocks());
+        assertEquals(3, m.getExceptions());
+        assertEquals(2, m.getBitWidthCount(3));
+        assertEquals(1, m.getBitWidthCount(5));
+    }
+}
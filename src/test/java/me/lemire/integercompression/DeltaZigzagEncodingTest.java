@@ -118,4 +118,36 @@ public class DeltaZigzagEncodingTest {
         c.check(1 << 30);
         c.check(1 << 31);
     }
+
+    /**
+     * 
+     */
+    @Test
+    public void checkArraysInPlace() {
+        java.util.Random r = new java.util.Random(1);
+        int[] data = new int[1000];
+        for (int i = 0; i < data.length; ++i) {
+            data[i] = r.nextInt();
+        }
+        int[] expected = new int[data.length];
+        DeltaZigzagEncoding.Encoder e = new DeltaZigzagEncoding.Encoder(0);
+        for (int i = 0; i < data.length; ++i) {
+            expected[i] = e.encodeInt(data[i]);
+        }
+        int[] buffer = data.clone();
+        e.setContextValue(0);
+        DeltaZigzagEncoding.Decoder d = new DeltaZigzagEncoding.Decoder(0);
+        for (int pos = 0, length = 0; pos < data.length; pos += length) {
+            length = Math.min(1 + r.nextInt(20), data.length - pos);
+            e.encodeArray(buffer, pos, length, buffer, pos);
+            assertEquals(data[pos + length - 1], e.getContextValue());
+        }
+        assertArrayEquals(expected, buffer);
+        for (int pos = 0, length = 0; pos < data.length; pos += length) {
+            length = Math.min(1 + r.nextInt(20), data.length - pos);
+            d.decodeArray(buffer, pos, length, buffer, pos);
+            assertEquals(data[pos + length - 1], d.getContextValue());
+        }
+        assertArrayEquals(data, buffer);
+    }
 }
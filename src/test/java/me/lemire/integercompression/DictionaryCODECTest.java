@@ -0,0 +1,104 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ */
+package me.lemire.integercompression;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks DictionaryCODEC and IntIntHashMap.
+ */
+@SuppressWarnings({ "static-method", "javadoc" })
+public class DictionaryCODECTest {
+
+    private static int[] lowCardinality(int length, int cardinality, long seed) {
+        Random r = new Random(seed);
+        int[] values = new int[cardinality];
+        for (int k = 0; k < cardinality; ++k)
+            values[k] = r.nextInt();
+        int[] data = new int[length];
+        for (int k = 0; k < length; ++k)
+            data[k] = values[r.nextInt(cardinality)];
+        return data;
+    }
+
+    private static void check(IntegerCODEC codec, int[] data) {
+        int[] compressed = TestUtils.compress(codec, data);
+        assertArrayEquals(data,
+                TestUtils.uncompress(codec, compressed, data.length));
+    }
+
+    @Test
+    public void hashMap() {
+        IntIntHashMap map = new IntIntHashMap(4);
+        Map<Integer, Integer> reference = new HashMap<Integer, Integer>();
+        Random r = new Random(1);
+        for (int k = 0; k < 10000; ++k) {
+            int key = r.nextInt(1000) * 0x10000;
+            map.put(key, k);
+            reference.put(key, k);
+        }
+        assertEquals(reference.size(), map.size());
+        for (int key = -5000; key < 1005 * 0x10000; key += 0x8000) {
+            Integer v = reference.get(key);
+            assertEquals(v != null, map.containsKey(key));
+            assertEquals(v == null ? -1 : v.intValue(), map.get(key, -1));
+        }
+        map.clear();
+        assertEquals(0, map.size());
+        assertFalse(map.containsKey(0));
+    }
+
+    @Test
+    public void hashMapAddTo() {
+        IntIntHashMap map = new IntIntHashMap(0);
+        for (int k = 0; k < 1000; ++k)
+            assertEquals(k / 10 + 1, map.addTo(k % 10 - 5, 1));
+        assertEquals(10, map.size());
+        assertEquals(100, map.get(-5, 0));
+    }
+
+    @Test
+    public void lowCardinality() {
+        for (int cardinality : new int[] { 1, 2, 3, 17, 256 }) {
+            int[] data = lowCardinality(100000 + 13, cardinality, cardinality);
+            DictionaryCODEC codec = new DictionaryCODEC();
+            check(codec, data);
+            int bits = Util.bits(cardinality - 1);
+            int[] compressed = TestUtils.compress(codec, data);
+            assertTrue(compressed.length <= data.length * bits / 32 + 2
+                    * (cardinality + 32));
+        }
+    }
+
+    @Test
+    public void fallback() {
+        // the first page is dictionary encoded, the second one is not
+        int[] data = new int[2 * 1024];
+        Random r = new Random(2);
+        for (int k = 0; k < 1024; ++k)
+            data[k] = 1000 * r.nextInt(10);
+        for (int k = 1024; k < data.length; ++k)
+            data[k] = r.nextInt(100000);
+        check(new DictionaryCODEC(1024, 10, new Composition(new FastPFOR(),
+                new VariableByte())), data);
+        check(new DictionaryCODEC(1024, 10, new VariableByte()), data);
+        check(new DictionaryCODEC(100, 1000, new VariableByte()), data);
+    }
+
+    @Test
+    public void smallerThanFastPFOR() {
+        int[] data = lowCardinality(65536, 10, 3);
+        int[] dict = TestUtils.compress(new DictionaryCODEC(), data);
+        int[] fastpfor = TestUtils.compress(new Composition(new FastPFOR(),
+                new VariableByte()), data);
+        assertTrue(dict.length * 4 < fastpfor.length);
+    }
+}
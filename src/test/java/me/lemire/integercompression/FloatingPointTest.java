@@ -0,0 +1,122 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ */
+package me.lemire.integercompression;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks the floating-point CODECs.
+ */
+@SuppressWarnings({ "static-method", "javadoc" })
+public class FloatingPointTest {
+
+    private static double[] series(int length, long seed) {
+        Random r = new Random(seed);
+        double[] data = new double[length];
+        double x = 20;
+        for (int k = 0; k < length; ++k) {
+            // a sensor reading with one decimal that varies slowly
+            if (r.nextInt(4) == 0)
+                x += (r.nextInt(3) - 1) * 0.5;
+            data[k] = x;
+        }
+        return data;
+    }
+
+    private static int[] compress(DoubleCODEC codec, double[] data, int offset) {
+        int[] out = new int[offset + 2 * data.length + 1024];
+        IntWrapper inpos = new IntWrapper(0);
+        IntWrapper outpos = new IntWrapper(offset);
+        codec.compress(data, inpos, data.length, out, outpos);
+        assertEquals(data.length, inpos.get());
+        return Arrays.copyOf(out, outpos.get());
+    }
+
+    private static double[] uncompress(DoubleCODEC codec, int[] compressed,
+            int offset, int length) {
+        double[] out = new double[length];
+        IntWrapper inpos = new IntWrapper(offset);
+        IntWrapper outpos = new IntWrapper(0);
+        codec.uncompress(compressed, inpos, compressed.length - offset, out,
+                outpos);
+        assertEquals(length, outpos.get());
+        assertEquals(compressed.length, inpos.get());
+        return out;
+    }
+
+    @Test
+    public void doubles() {
+        DoubleCODEC[] codecs = { new XorDoubleCODEC(),
+                new XorDoubleCODEC(new VariableByte()),
+                new XorDoubleCODEC(new Composition(new BinaryPacking(),
+                        new VariableByte())) };
+        double[][] inputs = {
+                series(10000, 1),
+                series(3, 2),
+                { 0.0, -0.0, Double.NaN, Double.POSITIVE_INFINITY,
+                        Double.NEGATIVE_INFINITY, Double.MIN_VALUE,
+                        Double.MAX_VALUE, 1e-300, -1e300 } };
+        for (DoubleCODEC codec : codecs)
+            for (double[] data : inputs)
+                for (int offset = 0; offset < 2; ++offset) {
+                    int[] compressed = compress(codec, data, offset);
+                    double[] recovered = uncompress(codec, compressed,
+                            offset, data.length);
+                    for (int k = 0; k < data.length; ++k)
+                        assertEquals(codec.toString(),
+                                Double.doubleToRawLongBits(data[k]),
+                                Double.doubleToRawLongBits(recovered[k]));
+                }
+    }
+
+    @Test
+    public void doublesCompress() {
+        double[] data = series(65536, 3);
+        int[] compressed = compress(new XorDoubleCODEC(), data, 0);
+        // 64 bits per double without compression
+        assertTrue(compressed.length * 8 < 2 * data.length);
+    }
+
+    @Test
+    public void floats() {
+        double[] series = series(10000, 4);
+        float[] data = new float[series.length + 4];
+        for (int k = 0; k < series.length; ++k)
+            data[k] = (float) series[k];
+        data[series.length] = Float.NaN;
+        data[series.length + 1] = -0.0f;
+        data[series.length + 2] = Float.NEGATIVE_INFINITY;
+        data[series.length + 3] = Float.MIN_VALUE;
+        FloatCODEC codec = new XorFloatCODEC();
+        int[] out = new int[2 * data.length + 1024];
+        IntWrapper inpos = new IntWrapper(0);
+        IntWrapper outpos = new IntWrapper(0);
+        codec.compress(data, inpos, data.length, out, outpos);
+        assertTrue(outpos.get() * 4 < data.length);
+        float[] recovered = new float[data.length];
+        int length = outpos.get();
+        inpos = new IntWrapper(0);
+        outpos = new IntWrapper(0);
+        codec.uncompress(out, inpos, length, recovered, outpos);
+        assertEquals(data.length, outpos.get());
+        for (int k = 0; k < data.length; ++k)
+            assertEquals(Float.floatToRawIntBits(data[k]),
+                    Float.floatToRawIntBits(recovered[k]));
+    }
+
+    @Test
+    public void empty() {
+        assertEquals(0, compress(new XorDoubleCODEC(), new double[0], 0).length);
+        IntWrapper outpos = new IntWrapper(0);
+        new XorFloatCODEC().compress(new float[0], new IntWrapper(0), 0,
+                new int[0], outpos);
+        assertEquals(0, outpos.get());
+    }
+}
@@ -0,0 +1,131 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ */
+package me.lemire.integercompression;
+
+import java.util.Random;
+
+import me.lemire.integercompression.differential.IntegratedBinaryPacking;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that BinaryPacking and IntegratedBinaryPacking can uncompress from
+ * the tail of an array into its head.
+ */
+@SuppressWarnings({ "static-method", "javadoc" })
+public class InPlaceTest {
+
+    private static int[] generate(int N, int bits, Random r) {
+        int[] data = new int[N];
+        for (int k = 0; k < N; ++k)
+            data[k] = bits == 0 ? 0 : r.nextInt() >>> (32 - bits);
+        return data;
+    }
+
+    @Test
+    public void binaryPacking() {
+        Random r = new Random(1234);
+        BinaryPacking bp = new BinaryPacking();
+        for (int bits = 0; bits <= 32; ++bits) {
+            for (int N = 0; N <= 1024; N += 128) {
+                int[] data = generate(N, bits, r);
+                int[] compressed = new int[BinaryPacking
+                        .inPlaceBufferLength(N)];
+                IntWrapper outpos = new IntWrapper(0);
+                bp.compress(data, new IntWrapper(0), N, compressed, outpos);
+                int c = outpos.get();
+                int[] buffer = new int[BinaryPacking.inPlaceBufferLength(N)];
+                System.arraycopy(compressed, 0, buffer, buffer.length - c, c);
+                IntWrapper inpos = new IntWrapper(buffer.length - c);
+                outpos = new IntWrapper(0);
+                bp.uncompressInPlace(buffer, inpos, c, outpos);
+                assertEquals(N, outpos.get());
+                assertEquals(buffer.length, inpos.get());
+                for (int k = 0; k < N; ++k)
+                    assertEquals(data[k], buffer[k]);
+            }
+        }
+    }
+
+    @Test
+    public void integratedBinaryPacking() {
+        Random r = new Random(4321);
+        IntegratedBinaryPacking ibp = new IntegratedBinaryPacking();
+        for (int bits = 0; bits < 24; ++bits) {
+            final int N = 1024;
+            int[] data = generate(N, bits, r);
+            for (int k = 1; k < N; ++k)
+                data[k] += data[k - 1];
+            int[] compressed = new int[IntegratedBinaryPacking
+                    .inPlaceBufferLength(N)];
+            IntWrapper outpos = new IntWrapper(0);
+            ibp.compress(data, new IntWrapper(0), N, compressed, outpos);
+            int c = outpos.get();
+            int[] buffer = new int[IntegratedBinaryPacking
+                    .inPlaceBufferLength(N) + 5];
+            System.arraycopy(compressed, 0, buffer, buffer.length - c, c);
+            IntWrapper inpos = new IntWrapper(buffer.length - c);
+            outpos = new IntWrapper(5);
+            ibp.uncompressInPlace(buffer, inpos, c, outpos);
+            assertEquals(N + 5, outpos.get());
+            for (int k = 0; k < N; ++k)
+                assertEquals(data[k], buffer[k + 5]);
+        }
+    }
+
+    @Test
+    public void disjointRanges() {
+        int[] data = generate(256, 7, new Random(1));
+        BinaryPacking bp = new BinaryPacking();
+        int[] buffer = new int[1024];
+        IntWrapper outpos = new IntWrapper(0);
+        bp.compress(data, new IntWrapper(0), data.length, buffer, outpos);
+        int c = outpos.get();
+        outpos = new IntWrapper(c);
+        bp.uncompressInPlace(buffer, new IntWrapper(0), c, outpos);
+        for (int k = 0; k < data.length; ++k)
+            assertEquals(data[k], buffer[c + k]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unsafeLayout() {
+        int[] data = generate(1024, 31, new Random(2));
+        BinaryPacking bp = new BinaryPacking();
+        int[] buffer = new int[2048];
+        IntWrapper outpos = new IntWrapper(100);
+        bp.compress(data, new IntWrapper(0), data.length, buffer, outpos);
+        bp.uncompressInPlace(buffer, new IntWrapper(100),
+                outpos.get() - 100, new IntWrapper(50));
+    }
+
+    // The compressed data is at the beginning of the buffer and the output
+    // starts after it: passing the rest of the buffer as inlength must not
+    // hide that the output would overwrite unread data.
+    @Test(expected = IllegalArgumentException.class)
+    public void unsafeLayoutWithBufferLength() {
+        int[] data = generate(1024, 31, new Random(3));
+        BinaryPacking bp = new BinaryPacking();
+        int[] buffer = new int[4096];
+        bp.compress(data, new IntWrapper(0), data.length, buffer,
+                new IntWrapper(0));
+        bp.uncompressInPlace(buffer, new IntWrapper(0), buffer.length,
+                new IntWrapper(10));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unsafeLayoutWithBufferLengthIntegrated() {
+        int[] data = generate(1024, 20, new Random(4));
+        for (int k = 1; k < data.length; ++k)
+            data[k] += data[k - 1];
+        IntegratedBinaryPacking ibp = new IntegratedBinaryPacking();
+        int[] buffer = new int[4096];
+        ibp.compress(data, new IntWrapper(0), data.length, buffer,
+                new IntWrapper(0));
+        ibp.uncompressInPlace(buffer, new IntWrapper(0), buffer.length,
+                new IntWrapper(10));
+    }
+}
@@ -0,0 +1,66 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ */
+package me.lemire.integercompression;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks IntIntHistogram.
+ */
+@SuppressWarnings({ "static-method", "javadoc" })
+public class IntIntHistogramTest {
+
+    @Test
+    public void counts() {
+        IntIntHistogram histogram = new IntIntHistogram(4);
+        Random r = new Random(3);
+        for (int round = 0; round < 20; ++round) {
+            // alternate small and large pages so that both ways of
+            // resetting are used
+            int distinct = round % 2 == 0 ? 5 : 3000;
+            int[] data = new int[10000];
+            for (int k = 0; k < data.length; ++k)
+                data[k] = r.nextInt(distinct) * 0x10001;
+            Map<Integer, Integer> reference = new HashMap<Integer, Integer>();
+            for (int v : data) {
+                Integer c = reference.get(v);
+                reference.put(v, c == null ? 1 : c + 1);
+            }
+            histogram.reset();
+            assertEquals(0, histogram.size());
+            histogram.increment(data, 0, data.length);
+            assertEquals(reference.size(), histogram.size());
+            assertEquals(data[0], histogram.value(0));
+            for (int k = 0; k < histogram.size(); ++k)
+                assertEquals(reference.get(histogram.value(k)).intValue(),
+                        histogram.count(histogram.value(k)));
+            assertEquals(0, histogram.count(1));
+        }
+    }
+
+    @Test
+    public void growth() {
+        // more distinct values than expected: the order of first occurrence
+        // survives the resizing
+        IntIntHistogram histogram = new IntIntHistogram(0);
+        for (int k = 0; k < 1000; ++k)
+            assertEquals(1, histogram.increment(-k * 0x10001));
+        assertEquals(2, histogram.increment(0));
+        assertEquals(1000, histogram.size());
+        for (int k = 0; k < 1000; ++k) {
+            assertEquals(-k * 0x10001, histogram.value(k));
+            assertEquals(k == 0 ? 2 : 1, histogram.count(-k * 0x10001));
+        }
+        histogram.reset();
+        assertEquals(0, histogram.size());
+        assertEquals(0, histogram.count(0));
+    }
+}
@@ -0,0 +1,62 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ */
+package me.lemire.integercompression;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import me.lemire.integercompression.differential.Delta;
+import me.lemire.integercompression.differential.IntegratedUnpacking;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks the fused unpack, patch and prefix sum kernels against the two-pass
+ * decoding.
+ */
+@SuppressWarnings({ "static-method", "javadoc" })
+public class IntegratedUnpackingTest {
+
+    @Test
+    public void matchesTwoPassDecoding() {
+        Random r = new Random(1234);
+        int[] packed = new int[128];
+        int[] values = new int[128];
+        int[] positions = new int[128];
+        for (int bit = 0; bit <= 32; ++bit) {
+            for (int t = 0; t < 50; ++t) {
+                int[] data = new int[128];
+                for (int k = 0; k < 128; ++k)
+                    data[k] = bit == 0 ? 0 : r.nextInt() >>> (32 - bit);
+                int cexcept = 0;
+                if (t > 0 && bit < 32) {
+                    for (int k = r.nextInt(40); k < 128; k += 1 + r.nextInt(40)) {
+                        values[cexcept] = 1 + (r.nextInt() >>> 1 >>> bit);
+                        positions[cexcept++] = k;
+                    }
+                }
+                for (int k = 0; k < 128; k += 32)
+                    BitPacking.fastpack(data, k, packed, k / 32 * bit, bit);
+
+                int[] expected = Arrays.copyOf(data, 128);
+                for (int k = 0; k < cexcept; ++k)
+                    expected[positions[k]] |= values[k] << bit;
+                final int initoffset = r.nextInt(1000);
+                Delta.fastinverseDelta(expected, 0, 128, initoffset);
+
+                int[] out = new int[130];
+                int last = IntegratedUnpacking.unpackPatched128(initoffset,
+                        packed, 0, out, 1, bit, values, 0, positions, 0,
+                        cexcept);
+                assertEquals(expected[127], last);
+                assertArrayEquals(expected, Arrays.copyOfRange(out, 1, 129));
+                assertEquals(0, out[0]);
+                assertEquals(0, out[129]);
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ */
+package me.lemire.integercompression;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that LongBinaryPacking recovers the longs.
+ */
+@SuppressWarnings({ "static-method", "javadoc" })
+public class LongBinaryPackingTest {
+
+    private static long[] generate(int N, Random r) {
+        long[] data = new long[N];
+        for (int k = 0; k < N; ++k) {
+            // groups of 32 longs using 0 to 64 bits (64 for negatives)
+            int bit = (k / 32 * 7) % 65;
+            data[k] = bit == 0 ? 0 : r.nextLong() >>> (64 - bit);
+        }
+        return data;
+    }
+
+    @Test
+    public void roundTrip() {
+        Random r = new Random(1234);
+        LongBinaryPacking lbp = new LongBinaryPacking();
+        for (int N : new int[] { 0, 1, 31, 32, 100, 128, 129, 1000, 4096 }) {
+            long[] data = generate(N, r);
+            int[] compressed = new int[2 * N + 1024];
+            IntWrapper inpos = new IntWrapper(3);
+            IntWrapper outpos = new IntWrapper(5);
+            long[] padded = new long[N + 3];
+            System.arraycopy(data, 0, padded, 3, N);
+            lbp.compress(padded, inpos, N, compressed, outpos);
+            assertEquals(N + 3, inpos.get());
+            long[] recovered = new long[N + 7];
+            IntWrapper recoveredpos = new IntWrapper(7);
+            IntWrapper compressedpos = new IntWrapper(5);
+            lbp.uncompress(compressed, compressedpos, outpos.get() - 5,
+                    recovered, recoveredpos);
+            assertEquals(outpos.get(), compressedpos.get());
+            assertEquals(N + 7, recoveredpos.get());
+            assertArrayEquals(data, Arrays.copyOfRange(recovered, 7, N + 7));
+        }
+    }
+
+    @Test
+    public void smallLongs() {
+        // longs of at most 10 bits take about 10 bits each
+        long[] data = new long[128 * 100];
+        Random r = new Random(1234);
+        for (int k = 0; k < data.length; ++k)
+            data[k] = r.nextInt(1 << 10);
+        int[] compressed = new int[2 * data.length];
+        IntWrapper outpos = new IntWrapper();
+        new LongBinaryPacking().compress(data, new IntWrapper(), data.length,
+                compressed, outpos);
+        assertTrue(outpos.get() <= data.length * 10 / 32 + 100 + 1);
+    }
+}
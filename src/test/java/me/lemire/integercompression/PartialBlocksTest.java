@@ -0,0 +1,118 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ */
+package me.lemire.integercompression;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks bit packing of arbitrary lengths and block codecs with a partial
+ * last block.
+ */
+@SuppressWarnings({ "static-method", "javadoc" })
+public class PartialBlocksTest {
+
+    private static int[] generate(int N, int bits, Random r) {
+        int[] data = new int[N];
+        for (int k = 0; k < N; ++k)
+            data[k] = bits == 0 ? 0 : r.nextInt() >>> (32 - bits);
+        return data;
+    }
+
+    @Test
+    public void packAnyLength() {
+        Random r = new Random(1234);
+        for (int bit = 0; bit <= 32; ++bit) {
+            for (int n = 0; n <= 100; ++n) {
+                int[] data = generate(n, bit, r);
+                int[] compressed = new int[n + 2];
+                Arrays.fill(compressed, -1);
+                int words = BitPacking.pack(data, 0, compressed, 1, n, bit);
+                assertEquals((n * bit + 31) / 32, words);
+                assertEquals(-1, compressed[0]);
+                assertEquals(-1, compressed[words + 1]);
+                int[] uncompressed = new int[n + 1];
+                uncompressed[n] = -1;
+                assertEquals(words,
+                        BitPacking.unpack(compressed, 1, uncompressed, 0, n, bit));
+                assertEquals(-1, uncompressed[n]);
+                assertArrayEquals(data, Arrays.copyOf(uncompressed, n));
+            }
+        }
+    }
+
+    @Test
+    public void packMasks() {
+        int[] data = { -1, -1, -1 };
+        int[] compressed = new int[1];
+        int[] uncompressed = new int[3];
+        BitPacking.pack(data, 0, compressed, 0, 3, 5);
+        BitPacking.unpack(compressed, 0, uncompressed, 0, 3, 5);
+        assertArrayEquals(new int[] { 31, 31, 31 }, uncompressed);
+    }
+
+    private static void checkAnyLength(IntegerCODEC c, Random r) {
+        for (int N = 0; N <= 700; N += 1 + r.nextInt(7)) {
+            int[] data = generate(N, r.nextInt(33), r);
+            // a few exceptions for the patching schemes
+            for (int k = 0; k < N; k += 1 + r.nextInt(20))
+                data[k] &= 15;
+            int[] compressed = new int[2 * N + 1024];
+            IntWrapper inpos = new IntWrapper(0);
+            IntWrapper outpos = new IntWrapper(0);
+            c.compress(data, inpos, N, compressed, outpos);
+            assertEquals(N, inpos.get());
+            int[] uncompressed = new int[N];
+            IntWrapper outpos2 = new IntWrapper(0);
+            IntWrapper inpos2 = new IntWrapper(0);
+            c.uncompress(compressed, inpos2, outpos.get(), uncompressed,
+                    outpos2);
+            assertEquals(outpos.get(), inpos2.get());
+            assertEquals(N, outpos2.get());
+            assertArrayEquals(data, uncompressed);
+        }
+    }
+
+    @Test
+    public void binaryPacking() {
+        checkAnyLength(new BinaryPacking(true), new Random(1));
+    }
+
+    @Test
+    public void fastPFOR() {
+        checkAnyLength(new FastPFOR(256, true), new Random(2));
+        checkAnyLength(new FastPFOR(65536, true), new Random(3));
+    }
+
+    @Test
+    public void inPlace() {
+        int[] data = generate(1000, 17, new Random(4));
+        BinaryPacking bp = new BinaryPacking(true);
+        int[] buffer = new int[BinaryPacking.inPlaceBufferLength(1000)];
+        int[] compressed = new int[buffer.length];
+        IntWrapper outpos = new IntWrapper(0);
+        bp.compress(data, new IntWrapper(0), 1000, compressed, outpos);
+        int c = outpos.get();
+        System.arraycopy(compressed, 0, buffer, buffer.length - c, c);
+        bp.uncompressInPlace(buffer, new IntWrapper(buffer.length - c), c,
+                new IntWrapper(0));
+        assertArrayEquals(data, Arrays.copyOf(buffer, 1000));
+    }
+
+    @Test
+    public void defaultFormatUnchanged() {
+        int[] data = generate(300, 9, new Random(5));
+        int[] a = TestUtils.compress(new BinaryPacking(), data);
+        int[] b = TestUtils.compress(new BinaryPacking(true),
+                Arrays.copyOf(data, 256));
+        assertArrayEquals(a, b);
+        int[] answer = TestUtils.uncompress(new BinaryPacking(true), a, 256);
+        assertArrayEquals(Arrays.copyOf(data, 256), answer);
+    }
+}
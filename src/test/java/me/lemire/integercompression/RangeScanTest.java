@@ -0,0 +1,109 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ */
+package me.lemire.integercompression;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that range scans over compressed data select the right integers.
+ */
+@SuppressWarnings({ "static-method", "javadoc" })
+public class RangeScanTest {
+
+    private static int[] generate(int N, Random r) {
+        int[] data = new int[N];
+        for (int k = 0; k < N; ++k) {
+            // miniblocks of various bit widths, a few exceptions
+            int bits = (k / 32) % 3 == 0 ? 4 : (k / 32) % 3 == 1 ? 12 : 20;
+            data[k] = r.nextInt(1 << bits);
+            if (r.nextInt(100) == 0)
+                data[k] = r.nextInt();
+        }
+        return data;
+    }
+
+    private static int[][] ranges(Random r) {
+        return new int[][] { { 0, 16 }, { 16, 4096 }, { 100, 100 },
+                { 200, 100 }, { Integer.MIN_VALUE, Integer.MAX_VALUE },
+                { Integer.MIN_VALUE, 0 }, { -5, 1 << 12 },
+                { 1 << 20, 1 << 30 }, { 1 << 30, Integer.MAX_VALUE },
+                { r.nextInt(1 << 12), r.nextInt(1 << 20) } };
+    }
+
+    private static void check(int[] data, int[] bitmap, int count, int lo,
+            int hi) {
+        int expected = 0;
+        for (int k = 0; k < data.length; ++k) {
+            boolean match = lo <= data[k] && data[k] < hi;
+            if (match)
+                ++expected;
+            assertEquals("index " + k + " range [" + lo + ", " + hi + ")",
+                    match, (bitmap[1 + k / 32] & (1 << (k % 32))) != 0);
+        }
+        assertEquals(expected, count);
+        int[] positions = new int[data.length];
+        assertEquals(expected,
+                RangeScan.positions(bitmap, 1, data.length, positions, 0));
+        for (int k = 0; k < expected; ++k)
+            assertTrue(lo <= data[positions[k]] && data[positions[k]] < hi);
+    }
+
+    @Test
+    public void binaryPacking() {
+        Random r = new Random(1234);
+        BinaryPacking bp = new BinaryPacking(true);
+        for (int N : new int[] { 0, 1, 31, 128, 1000, 4096 }) {
+            int[] data = generate(N, r);
+            int[] compressed = new int[2 * N + 1024];
+            IntWrapper outpos = new IntWrapper(2);
+            bp.compress(data, new IntWrapper(), N, compressed, outpos);
+            for (int[] range : ranges(r)) {
+                int[] bitmap = new int[2 + (N + 31) / 32];
+                IntWrapper inpos = new IntWrapper(2);
+                int count = bp.scan(compressed, inpos, outpos.get() - 2,
+                        range[0], range[1], bitmap, 1);
+                assertEquals(outpos.get(), inpos.get());
+                check(data, bitmap, count, range[0], range[1]);
+            }
+        }
+    }
+
+    @Test
+    public void fastPFOR() {
+        Random r = new Random(1234);
+        FastPFOR fp = new FastPFOR(1024, true);
+        for (int N : new int[] { 0, 1, 31, 128, 1000, 5000 }) {
+            int[] data = generate(N, r);
+            int[] compressed = new int[2 * N + 1024];
+            IntWrapper outpos = new IntWrapper(2);
+            fp.compress(data, new IntWrapper(), N, compressed, outpos);
+            for (int[] range : ranges(r)) {
+                int[] bitmap = new int[2 + (N + 31) / 32];
+                IntWrapper inpos = new IntWrapper(2);
+                int count = fp.scan(compressed, inpos, outpos.get() - 2,
+                        range[0], range[1], bitmap, 1);
+                assertEquals(outpos.get(), inpos.get());
+                check(data, bitmap, count, range[0], range[1]);
+            }
+        }
+    }
+
+    @Test
+    public void classify() {
+        assertEquals(RangeScan.NONE, RangeScan.classify(4, 16, 100));
+        assertEquals(RangeScan.ALL, RangeScan.classify(4, -1, 16));
+        assertEquals(RangeScan.SOME, RangeScan.classify(4, 0, 15));
+        assertEquals(RangeScan.ALL, RangeScan.classify(0, 0, 1));
+        assertEquals(RangeScan.NONE, RangeScan.classify(0, 1, 2));
+        assertEquals(RangeScan.SOME, RangeScan.classify(32, 0, 1));
+        assertEquals(RangeScan.NONE, RangeScan.classify(32, 1, 1));
+        assertEquals(RangeScan.SOME,
+                RangeScan.classify(31, 0, Integer.MAX_VALUE));
+    }
+}
@@ -0,0 +1,80 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ */
+package me.lemire.integercompression;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import me.lemire.integercompression.differential.StridedDelta;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that the D2, D4 and DM differential coding schemes can be inverted,
+ * including when the data is processed in pieces of arbitrary lengths.
+ */
+@SuppressWarnings({ "static-method", "javadoc" })
+public class StridedDeltaTest {
+
+    @Test
+    public void inverse() {
+        Random r = new Random(1234);
+        int[] data = new int[1000];
+        for (int k = 1; k < data.length; ++k)
+            data[k] = data[k - 1] + r.nextInt(100);
+        for (StridedDelta.Scheme scheme : StridedDelta.Scheme.values()) {
+            int[] deltas = new int[data.length];
+            int[] buffer = new int[data.length];
+            int[] context = new int[4];
+            for (int pos = 0; pos < data.length;) {
+                int length = Math.min(r.nextInt(10), data.length - pos);
+                StridedDelta.delta(scheme, data, pos, length, context, buffer);
+                System.arraycopy(buffer, 0, deltas, pos, length);
+                pos += length;
+            }
+            for (int d : deltas)
+                assertTrue(d >= 0);
+            int[] recovered = Arrays.copyOf(deltas, deltas.length);
+            context = new int[4];
+            for (int pos = 0; pos < data.length;) {
+                int length = Math.min(r.nextInt(10), data.length - pos);
+                StridedDelta.inverseDelta(scheme, recovered, pos, length,
+                        context);
+                pos += length;
+            }
+            if (scheme != StridedDelta.Scheme.DM)
+                assertArrayEquals(data, recovered);
+        }
+    }
+
+    @Test
+    public void inverseDM() {
+        // DM groups are aligned on the start of each call: use the same
+        // pieces to encode and decode
+        Random r = new Random(4321);
+        int[] data = new int[1000];
+        for (int k = 1; k < data.length; ++k)
+            data[k] = data[k - 1] + r.nextInt(100);
+        int[] lengths = new int[data.length];
+        int howmany = 0;
+        for (int pos = 0; pos < data.length; pos += lengths[howmany++])
+            lengths[howmany] = Math.min(1 + r.nextInt(10), data.length - pos);
+        int[] deltas = new int[data.length];
+        int[] buffer = new int[data.length];
+        int[] context = new int[4];
+        for (int k = 0, pos = 0; k < howmany; pos += lengths[k++]) {
+            StridedDelta.delta(StridedDelta.Scheme.DM, data, pos, lengths[k],
+                    context, buffer);
+            System.arraycopy(buffer, 0, deltas, pos, lengths[k]);
+        }
+        context = new int[4];
+        for (int k = 0, pos = 0; k < howmany; pos += lengths[k++])
+            StridedDelta.inverseDelta(StridedDelta.Scheme.DM, deltas, pos,
+                    lengths[k], context);
+        assertArrayEquals(data, deltas);
+    }
+}
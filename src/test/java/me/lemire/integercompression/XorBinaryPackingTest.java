@@ -102,4 +102,17 @@ public final class XorBinaryPackingTest
         }
         checkCompressAndUncompress("compressAndUncompress5", data);
     }
+
+    /**
+     * 
+     */
+    @Test
+    public void compressAndUncompress6() {
+        int[] data = new int[1024];
+        java.util.Random r = new java.util.Random(1);
+        for (int i = 0; i < data.length; ++i) {
+            data[i] = r.nextInt();
+        }
+        checkCompressAndUncompress("compressAndUncompress6", data);
+    }
 }
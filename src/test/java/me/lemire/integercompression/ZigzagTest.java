@@ -0,0 +1,100 @@
+/**
+ * This code is released under the
+ * Apache License Version 2.0 http://www.apache.org/licenses/.
+ */
+package me.lemire.integercompression;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks the zigzag CODECs on signed integers close to zero.
+ */
+@SuppressWarnings({ "static-method", "javadoc" })
+public class ZigzagTest {
+
+    private static int[] signedData(int length, int bits, long seed) {
+        Random r = new Random(seed);
+        int[] data = new int[length];
+        for (int k = 0; k < length; ++k)
+            data[k] = (r.nextInt() >> (32 - bits));
+        // a few outliers
+        for (int k = 0; k < length; k += 97)
+            data[k] = r.nextInt();
+        return data;
+    }
+
+    private static int[] zigzag(int[] data) {
+        int[] z = new int[data.length];
+        Util.zigzagEncode(data, 0, data.length, z, 0);
+        return z;
+    }
+
+    @Test
+    public void zigzagRoundTrip() {
+        int[] data = { 0, -1, 1, -2, 2, Integer.MAX_VALUE, Integer.MIN_VALUE };
+        int[] z = zigzag(data);
+        assertArrayEquals(new int[] { 0, 1, 2, 3, 4, -2, -1 }, z);
+        Util.zigzagDecode(z, 0, z.length);
+        assertArrayEquals(data, z);
+    }
+
+    @Test
+    public void sameOutputAsOnZigzagInput() {
+        int[] data = signedData(128 * 1000 + 17, 6, 1);
+        IntegerCODEC[][] pairs = {
+                { new ZigzagFastPFOR(), new FastPFOR() },
+                { new ZigzagNewPFD(), new NewPFD() },
+                { new ZigzagCODEC(new VariableByte()), new VariableByte() } };
+        for (IntegerCODEC[] pair : pairs) {
+            int[] compressed = TestUtils.compress(pair[0], data);
+            assertArrayEquals(pair[0].toString(),
+                    TestUtils.compress(pair[1], zigzag(data)), compressed);
+            int[] recovered = TestUtils.uncompress(pair[0], compressed,
+                    Util.floorBy(data.length,
+                            pair[0] instanceof ZigzagCODEC ? 1 : 128));
+            assertArrayEquals(pair[0].toString(), Arrays.copyOf(data,
+                    recovered.length), recovered);
+        }
+    }
+
+    @Test
+    public void smallerThanFastPFOR() {
+        int[] data = signedData(65536, 6, 2);
+        IntegerCODEC zz = new Composition(new ZigzagFastPFOR(),
+                new ZigzagCODEC(new VariableByte()));
+        IntegerCODEC plain = new Composition(new FastPFOR(),
+                new VariableByte());
+        int[] compressed = TestUtils.compress(zz, data);
+        assertTrue(compressed.length * 2 < TestUtils.compress(plain, data).length);
+        assertArrayEquals(data,
+                TestUtils.uncompress(zz, compressed, data.length));
+    }
+
+    @Test
+    public void exceptions() {
+        // blocks of zeros and of tiny integers, with extreme exceptions
+        int[] data = new int[128 * 40 + 77];
+        Random r = new Random(3);
+        for (int k = 0; k < data.length; ++k) {
+            if ((k / 128) % 2 == 1)
+                data[k] = r.nextInt(5) - 2;
+            if (r.nextInt(30) == 0)
+                data[k] = r.nextBoolean() ? Integer.MIN_VALUE
+                        : r.nextBoolean() ? Integer.MAX_VALUE : r.nextInt();
+        }
+        IntegerCODEC[] codecs = { new ZigzagFastPFOR(1024),
+                new ZigzagNewPFD(), new FastPFOR(1024, true, true) };
+        for (IntegerCODEC c : codecs) {
+            int length = c instanceof FastPFOR ? data.length : Util.floorBy(
+                    data.length, 128);
+            int[] compressed = TestUtils.compress(c, data);
+            assertArrayEquals(c.toString(), Arrays.copyOf(data, length),
+                    TestUtils.uncompress(c, compressed, length));
+        }
+    }
+}